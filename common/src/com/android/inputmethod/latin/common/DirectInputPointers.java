@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.common;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Off-heap copy of {@link InputPointers} that native code reads in place.
+ *
+ * The pointers are still collected in the Java arrays of {@link InputPointers} and copied here
+ * before each gesture request, with one bulk transfer per section. What this saves is the JNI
+ * copies of the four arrays on each request, not the copy itself. Typing requests only have a
+ * few pointers and keep passing the arrays.
+ *
+ * The x-coordinates, y-coordinates, times and pointer ids are stored in this order as
+ * {@link #SECTION_COUNT} consecutive sections of {@link #getCapacity()} ints each, in native byte
+ * order. The layout must match latinime_BinaryDictionary_getSuggestionsDirect in
+ * native/jni/com_android_inputmethod_latin_BinaryDictionary.cpp, which BinaryDictionary checks
+ * before using this buffer.
+ *
+ * This class is not thread-safe. An instance belongs to a DicTraverseSession and, like the other
+ * buffers of the session, is only used by one request at a time.
+ */
+public final class DirectInputPointers {
+    public static final int SECTION_COUNT = 4;
+    private static final int X_COORDINATES_SECTION = 0;
+    private static final int Y_COORDINATES_SECTION = 1;
+    private static final int TIMES_SECTION = 2;
+    private static final int POINTER_IDS_SECTION = 3;
+    private static final int NOT_A_GENERATION = 0;
+
+    @Nonnull
+    private ByteBuffer mBuffer;
+    @Nonnull
+    private IntBuffer mIntBuffer;
+    private int mCapacity;
+    private int mPointerSize;
+    // The generation of the InputPointers that the pointers held have been copied from, or
+    // NOT_A_GENERATION if they are not known to be a prefix of those.
+    private int mGeneration = NOT_A_GENERATION;
+
+    public DirectInputPointers(final int defaultCapacity) {
+        allocate(defaultCapacity);
+    }
+
+    private void allocate(final int capacity) {
+        mCapacity = capacity;
+        mBuffer = ByteBuffer.allocateDirect(capacity * SECTION_COUNT * Integer.SIZE / Byte.SIZE)
+                .order(ByteOrder.nativeOrder());
+        mIntBuffer = mBuffer.asIntBuffer();
+        mPointerSize = 0;
+    }
+
+    private void ensureCapacity(final int minimumCapacity) {
+        if (mCapacity >= minimumCapacity) {
+            return;
+        }
+        final int nextCapacity = mCapacity * 2;
+        final int newCapacity = minimumCapacity > nextCapacity ? minimumCapacity : nextCapacity;
+        final int pointerSize = mPointerSize;
+        final IntBuffer oldIntBuffer = mIntBuffer;
+        final int oldCapacity = mCapacity;
+        allocate(newCapacity);
+        for (int section = 0; section < SECTION_COUNT; ++section) {
+            oldIntBuffer.limit(section * oldCapacity + pointerSize);
+            oldIntBuffer.position(section * oldCapacity);
+            mIntBuffer.position(section * newCapacity);
+            mIntBuffer.put(oldIntBuffer);
+        }
+        mIntBuffer.clear();
+        mPointerSize = pointerSize;
+    }
+
+    private void putSection(final int section, final int[] src, final int startIndex,
+            final int length) {
+        mIntBuffer.position(section * mCapacity + startIndex);
+        mIntBuffer.put(src, startIndex, length);
+    }
+
+    /**
+     * Copies the pointers of {@code ip} from {@code startIndex} on, keeping the pointers before
+     * {@code startIndex} that have been copied by a previous call. Each section is copied with a
+     * single bulk transfer.
+     * @param ip the source pointers.
+     * @param startIndex the index of the first pointer to copy. Must not be larger than the
+     * number of pointers currently held.
+     */
+    public void copyFrom(@Nonnull final InputPointers ip, final int startIndex) {
+        if (startIndex < 0 || startIndex > mPointerSize) {
+            throw new IllegalArgumentException("startIndex=" + startIndex
+                    + "; pointerSize=" + mPointerSize);
+        }
+        final int pointerSize = ip.getPointerSize();
+        ensureCapacity(pointerSize);
+        final int length = pointerSize - startIndex;
+        if (length > 0) {
+            putSection(X_COORDINATES_SECTION, ip.getXCoordinates(), startIndex, length);
+            putSection(Y_COORDINATES_SECTION, ip.getYCoordinates(), startIndex, length);
+            putSection(TIMES_SECTION, ip.getTimes(), startIndex, length);
+            putSection(POINTER_IDS_SECTION, ip.getPointerIds(), startIndex, length);
+            mIntBuffer.clear();
+        }
+        mPointerSize = pointerSize;
+        // The pointers before startIndex may have been copied from other pointers.
+        mGeneration = (startIndex == 0) ? ip.getGeneration() : NOT_A_GENERATION;
+    }
+
+    public void copyFrom(@Nonnull final InputPointers ip) {
+        mPointerSize = 0;
+        copyFrom(ip, 0 /* startIndex */);
+    }
+
+    /**
+     * Copies the pointers of {@code ip}, only transferring the pointers that have been appended
+     * since the last copy when the pointers held here are still a prefix of {@code ip}. During a
+     * gesture the aggregated pointers only grow, so only the new pointers are transferred.
+     * Whether the held pointers are still a prefix is told by the generation of {@code ip}, see
+     * {@link InputPointers#getGeneration()}, so the held pointers are not compared.
+     * @param ip the source pointers.
+     * @return the number of pointers that have been kept from the last copy.
+     */
+    public int copyAppendedPointersFrom(@Nonnull final InputPointers ip) {
+        final int keptPointerSize = isPrefixOf(ip) ? mPointerSize : 0;
+        copyFrom(ip, keptPointerSize);
+        mGeneration = ip.getGeneration();
+        return keptPointerSize;
+    }
+
+    private boolean isPrefixOf(@Nonnull final InputPointers ip) {
+        return mGeneration != NOT_A_GENERATION && mGeneration == ip.getGeneration()
+                && mPointerSize <= ip.getPointerSize();
+    }
+
+    public int getPointerSize() {
+        return mPointerSize;
+    }
+
+    /**
+     * @return the number of pointers each section can hold. This is also the distance in ints
+     * between the start of two sections.
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    @Nonnull
+    public ByteBuffer getBuffer() {
+        return mBuffer;
+    }
+
+    public int getXCoordinate(final int index) {
+        return get(X_COORDINATES_SECTION, index);
+    }
+
+    public int getYCoordinate(final int index) {
+        return get(Y_COORDINATES_SECTION, index);
+    }
+
+    public int getTime(final int index) {
+        return get(TIMES_SECTION, index);
+    }
+
+    public int getPointerId(final int index) {
+        return get(POINTER_IDS_SECTION, index);
+    }
+
+    private int get(final int section, final int index) {
+        if (index >= mPointerSize) {
+            throw new ArrayIndexOutOfBoundsException("length=" + mPointerSize + "; index="
+                    + index);
+        }
+        return mIntBuffer.get(section * mCapacity + index);
+    }
+}
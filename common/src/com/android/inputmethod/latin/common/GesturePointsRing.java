@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A lock-free ring of gesture points from a single producer thread to a single consumer thread.
+ *
+ * The producer publishes the points of a batch input as they are aggregated, and the consumer
+ * moves the points published since its last read into its own {@link InputPointers}. Neither
+ * thread ever waits for the other: when the ring is full, the producer publishes the points that
+ * fit and publishes the others with a later append.
+ *
+ * Each point is a record of {@link #RECORD_SIZE} ints. A batch input starts with a marker record
+ * that holds its sequence number, so that the consumer can tell the batch inputs apart.
+ */
+public final class GesturePointsRing {
+    private static final int RECORD_SIZE = 4;
+    private static final int X_COORDINATE_OFFSET = 0;
+    private static final int Y_COORDINATE_OFFSET = 1;
+    private static final int TIME_OFFSET = 2;
+    private static final int POINTER_ID_OFFSET = 3;
+    // The start marker record has this pointer id and the sequence number as x-coordinate.
+    private static final int START_MARKER = -1;
+
+    public static final int NOT_A_SEQUENCE_NUMBER = Integer.MIN_VALUE;
+
+    @Nonnull
+    private final int[] mRecords;
+    private final int mCapacity;
+    // The number of records that have ever been read. Only the consumer writes this.
+    private final AtomicLong mHead = new AtomicLong();
+    // The number of records that have ever been published. Only the producer writes this.
+    private final AtomicLong mTail = new AtomicLong();
+    // The sequence number of the batch input that the consumer is reading.
+    private int mReadSequenceNumber = NOT_A_SEQUENCE_NUMBER;
+
+    /**
+     * @param capacity the number of records the ring can hold. Must be a power of two.
+     */
+    public GesturePointsRing(final int capacity) {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("capacity=" + capacity);
+        }
+        mCapacity = capacity;
+        mRecords = new int[capacity * RECORD_SIZE];
+    }
+
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    private int getRecordOffset(final long position) {
+        return (int)(position & (mCapacity - 1)) * RECORD_SIZE;
+    }
+
+    private void putRecord(final long position, final int x, final int y, final int time,
+            final int pointerId) {
+        final int offset = getRecordOffset(position);
+        mRecords[offset + X_COORDINATE_OFFSET] = x;
+        mRecords[offset + Y_COORDINATE_OFFSET] = y;
+        mRecords[offset + TIME_OFFSET] = time;
+        mRecords[offset + POINTER_ID_OFFSET] = pointerId;
+    }
+
+    /**
+     * Publishes the start of a batch input. Called on the producer thread.
+     * @param sequenceNumber the sequence number of the batch input.
+     * @return true if the start has been published, false if the ring is full.
+     */
+    public boolean startBatch(final int sequenceNumber) {
+        final long tail = mTail.get();
+        if (tail - mHead.get() >= mCapacity) {
+            return false;
+        }
+        putRecord(tail, sequenceNumber, 0, 0, START_MARKER);
+        // Publish the record. The consumer reads mTail before the record.
+        mTail.lazySet(tail + 1);
+        return true;
+    }
+
+    /**
+     * Publishes the pointers of {@code ip} from {@code startIndex} on, as many as fit in the
+     * ring. Called on the producer thread.
+     * @param ip the aggregated pointers of the batch input.
+     * @param startIndex the index of the first pointer to publish.
+     * @return the index of the first pointer that has not been published.
+     */
+    public int append(@Nonnull final InputPointers ip, final int startIndex) {
+        final long tail = mTail.get();
+        final int freeCount = mCapacity - (int)(tail - mHead.get());
+        final int count = Math.min(freeCount, ip.getPointerSize() - startIndex);
+        if (count <= 0) {
+            return startIndex;
+        }
+        final int[] xCoordinates = ip.getXCoordinates();
+        final int[] yCoordinates = ip.getYCoordinates();
+        final int[] times = ip.getTimes();
+        final int[] pointerIds = ip.getPointerIds();
+        for (int i = 0; i < count; i++) {
+            final int index = startIndex + i;
+            putRecord(tail + i, xCoordinates[index], yCoordinates[index], times[index],
+                    pointerIds[index]);
+        }
+        mTail.lazySet(tail + count);
+        return startIndex + count;
+    }
+
+    /**
+     * Moves the published pointers to {@code dest}. A start marker resets {@code dest}. Reading
+     * stops before the start of a batch input whose sequence number is larger than
+     * {@code maxSequenceNumber}, so that a batch input is never mixed with the next one.
+     * Called on the consumer thread, which must be the only thread that modifies {@code dest}.
+     * @param dest the pointers of the batch input being read.
+     * @param maxSequenceNumber the sequence number of the batch input to read.
+     * @return the sequence number of the batch input that {@code dest} holds.
+     */
+    public int drainTo(@Nonnull final InputPointers dest, final int maxSequenceNumber) {
+        long head = mHead.get();
+        final long tail = mTail.get();
+        while (head < tail) {
+            final int offset = getRecordOffset(head);
+            final int pointerId = mRecords[offset + POINTER_ID_OFFSET];
+            if (pointerId == START_MARKER) {
+                final int sequenceNumber = mRecords[offset + X_COORDINATE_OFFSET];
+                if (sequenceNumber > maxSequenceNumber) {
+                    break;
+                }
+                dest.reset();
+                mReadSequenceNumber = sequenceNumber;
+            } else {
+                dest.addPointerAt(dest.getPointerSize(), mRecords[offset + X_COORDINATE_OFFSET],
+                        mRecords[offset + Y_COORDINATE_OFFSET], pointerId,
+                        mRecords[offset + TIME_OFFSET]);
+            }
+            head++;
+        }
+        // Release the records to the producer.
+        mHead.lazySet(head);
+        return mReadSequenceNumber;
+    }
+}
@@ -18,17 +18,23 @@ package com.android.inputmethod.latin.common;
 
 import com.android.inputmethod.annotations.UsedForTesting;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.annotation.Nonnull;
 
 // TODO: This class is not thread-safe.
 public final class InputPointers {
     private static final boolean DEBUG_TIME = false;
+    private static final AtomicInteger sNextGeneration = new AtomicInteger();
 
     private final int mDefaultCapacity;
     private final ResizableIntArray mXCoordinates;
     private final ResizableIntArray mYCoordinates;
     private final ResizableIntArray mPointerIds;
     private final ResizableIntArray mTimes;
+    // Changes whenever the pointers held stop being a prefix of the pointers held before. See
+    // {@link #getGeneration()}.
+    private int mGeneration = newGeneration();
 
     public InputPointers(final int defaultCapacity) {
         mDefaultCapacity = defaultCapacity;
@@ -38,6 +44,10 @@ public final class InputPointers {
         mTimes = new ResizableIntArray(defaultCapacity);
     }
 
+    private static int newGeneration() {
+        return sNextGeneration.incrementAndGet();
+    }
+
     private void fillWithLastTimeUntil(final int index) {
         final int fromIndex = mTimes.getLength();
         // Fill the gap with the latest time.
@@ -55,6 +65,9 @@ public final class InputPointers {
 
     public void addPointerAt(final int index, final int x, final int y, final int pointerId,
             final int time) {
+        if (index != getPointerSize()) {
+            mGeneration = newGeneration();
+        }
         mXCoordinates.addAt(index, x);
         mYCoordinates.addAt(index, y);
         mPointerIds.addAt(index, pointerId);
@@ -77,6 +90,7 @@ public final class InputPointers {
         mYCoordinates.set(ip.mYCoordinates);
         mPointerIds.set(ip.mPointerIds);
         mTimes.set(ip.mTimes);
+        mGeneration = ip.mGeneration;
     }
 
     public void copy(@Nonnull final InputPointers ip) {
@@ -84,6 +98,7 @@ public final class InputPointers {
         mYCoordinates.copy(ip.mYCoordinates);
         mPointerIds.copy(ip.mPointerIds);
         mTimes.copy(ip.mTimes);
+        mGeneration = ip.mGeneration;
     }
 
     /**
@@ -118,6 +133,7 @@ public final class InputPointers {
         mYCoordinates.shift(elementCount);
         mPointerIds.shift(elementCount);
         mTimes.shift(elementCount);
+        mGeneration = newGeneration();
     }
 
     public void reset() {
@@ -126,6 +142,19 @@ public final class InputPointers {
         mYCoordinates.reset(defaultCapacity);
         mPointerIds.reset(defaultCapacity);
         mTimes.reset(defaultCapacity);
+        mGeneration = newGeneration();
+    }
+
+    /**
+     * Gets the generation of the pointers held. The generation stays the same as long as pointers
+     * are only appended, and changes when pointers are removed or overwritten. Two instances with
+     * the same generation hold the same pointers, except that the one with more pointers may
+     * have more pointers appended. This lets a copy of the pointers tell in constant time whether
+     * it can keep the pointers it holds and only copy the appended ones.
+     * @return the generation of the pointers held.
+     */
+    public int getGeneration() {
+        return mGeneration;
     }
 
     public int getPointerSize() {
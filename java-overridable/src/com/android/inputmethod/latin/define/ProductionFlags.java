@@ -29,6 +29,12 @@ public final class ProductionFlags {
      */
     public static final boolean INCLUDE_RAW_SUGGESTIONS = false;
 
+    /**
+     * When {@code true}, {@link com.android.inputmethod.latin.DictionaryFacilitatorImpl} queries
+     * each dictionary for suggestions on a bounded worker pool instead of one after another.
+     */
+    public static final boolean ENABLE_PARALLEL_SUGGESTION_FAN_OUT = false;
+
     /**
      * When false, the metrics logging is not yet ready to be enabled.
      */
@@ -32,6 +32,7 @@ import android.database.sqlite.SQLiteDatabase;
 import android.net.ConnectivityManager;
 import android.net.Uri;
 import android.os.ParcelFileDescriptor;
+import android.os.SystemClock;
 import android.provider.Settings;
 import android.text.TextUtils;
 import android.util.Log;
@@ -683,20 +684,36 @@ public final class UpdateHandler {
     private static void copyFile(final InputStream in, final OutputStream out)
             throws IOException {
         DebugLogUtils.l("Copying files");
+        final long startTime = SystemClock.uptimeMillis();
         if (!(in instanceof FileInputStream) || !(out instanceof FileOutputStream)) {
             DebugLogUtils.l("Not the right types");
             copyFileFallback(in, out);
         } else {
+            final FileChannel sourceChannel = ((FileInputStream) in).getChannel();
+            final FileChannel destinationChannel = ((FileOutputStream) out).getChannel();
             try {
-                final FileChannel sourceChannel = ((FileInputStream) in).getChannel();
-                final FileChannel destinationChannel = ((FileOutputStream) out).getChannel();
-                sourceChannel.transferTo(0, Integer.MAX_VALUE, destinationChannel);
+                // transferTo() may copy less than requested, so loop until the end of the file.
+                // It doesn't move the position of the source, which the fallback reads from.
+                final long size = sourceChannel.size();
+                long position = sourceChannel.position();
+                while (position < size) {
+                    final long transferredBytes =
+                            sourceChannel.transferTo(position, size - position, destinationChannel);
+                    if (transferredBytes <= 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                    position += transferredBytes;
+                }
             } catch (IOException e) {
-                // Can't work with channels, or something went wrong. Copy by hand.
+                // Can't work with channels, or something went wrong. Copy by hand, discarding
+                // whatever has been copied so far.
                 DebugLogUtils.l("Won't work");
+                destinationChannel.truncate(0);
                 copyFileFallback(in, out);
             }
         }
+        PrivateLog.log("Copied a word list in " + (SystemClock.uptimeMillis() - startTime)
+                + " ms");
     }
 
     /**
@@ -22,16 +22,17 @@ import static com.android.inputmethod.latin.common.Constants.CODE_SHIFT;
 import static com.android.inputmethod.latin.common.Constants.CODE_SWITCH_ALPHA_SYMBOL;
 import static com.android.inputmethod.latin.common.Constants.CODE_UNSPECIFIED;
 
-import android.content.res.TypedArray;
 import android.graphics.Rect;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.text.TextUtils;
 
+import com.android.inputmethod.keyboard.internal.ElementAttributes;
 import com.android.inputmethod.keyboard.internal.KeyDrawParams;
 import com.android.inputmethod.keyboard.internal.KeySpecParser;
 import com.android.inputmethod.keyboard.internal.KeyStyle;
 import com.android.inputmethod.keyboard.internal.KeyVisualAttributes;
+import com.android.inputmethod.keyboard.internal.KeyboardFileCache;
 import com.android.inputmethod.keyboard.internal.KeyboardIconsSet;
 import com.android.inputmethod.keyboard.internal.KeyboardParams;
 import com.android.inputmethod.keyboard.internal.KeyboardRow;
@@ -40,6 +41,9 @@ import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.common.Constants;
 import com.android.inputmethod.latin.common.StringUtils;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -246,13 +250,13 @@ public class Key implements Comparable<Key> {
      * specification string, Key attribute array, key style, and etc.
      *
      * @param keySpec the key specification.
-     * @param keyAttr the Key XML attributes array.
+     * @param keyAttr the Key attributes of the Key tag.
      * @param style the {@link KeyStyle} of this key.
      * @param params the keyboard building parameters.
      * @param row the row that this key belongs to. row's x-coordinate will be the right edge of
      *        this key.
      */
-    public Key(@Nullable final String keySpec, @Nonnull final TypedArray keyAttr,
+    public Key(@Nullable final String keySpec, @Nonnull final ElementAttributes keyAttr,
             @Nonnull final KeyStyle style, @Nonnull final KeyboardParams params,
             @Nonnull final KeyboardRow row) {
         mHorizontalGap = isSpacer() ? 0 : params.mHorizontalGap;
@@ -441,6 +445,43 @@ public class Key implements Comparable<Key> {
         mEnabled = key.mEnabled;
     }
 
+    /**
+     * Constructor for DynamicGridKeyboard.GridKey that stands in for a key of a keyboard that
+     * hasn't been built yet.
+     *
+     * @param templateKey the key to copy the attributes but the label, the code, and the output
+     *        text from.
+     * @param label the label of the key.
+     * @param code the code of the key.
+     * @param outputText the output text of the key.
+     */
+    protected Key(@Nonnull final Key templateKey, @Nullable final String label, final int code,
+            @Nullable final String outputText) {
+        // Final attributes.
+        mCode = code;
+        mLabel = label;
+        mHintLabel = templateKey.mHintLabel;
+        mLabelFlags = templateKey.mLabelFlags;
+        mIconId = templateKey.mIconId;
+        mWidth = templateKey.mWidth;
+        mHeight = templateKey.mHeight;
+        mHorizontalGap = templateKey.mHorizontalGap;
+        mVerticalGap = templateKey.mVerticalGap;
+        mX = templateKey.mX;
+        mY = templateKey.mY;
+        mHitBox.set(templateKey.mHitBox);
+        mMoreKeys = null;
+        mMoreKeysColumnAndFlags = 0;
+        mBackgroundType = templateKey.mBackgroundType;
+        mActionFlags = templateKey.mActionFlags;
+        mKeyVisualAttributes = templateKey.mKeyVisualAttributes;
+        mOptionalAttributes = OptionalAttributes.newInstance(outputText, CODE_UNSPECIFIED,
+                ICON_UNDEFINED, 0 /* visualInsetsLeft */, 0 /* visualInsetsRight */);
+        mHashCode = computeHashCode(this);
+        // Key state.
+        mEnabled = (code != CODE_UNSPECIFIED);
+    }
+
     @Nonnull
     public static Key removeRedundantMoreKeys(@Nonnull final Key key,
             @Nonnull final MoreKeySpec.LettersOnBaseLayout lettersOnBaseLayout) {
@@ -450,6 +491,117 @@ public class Key implements Comparable<Key> {
         return (filteredMoreKeys == moreKeys) ? key : new Key(key, filteredMoreKeys);
     }
 
+    private static final byte SERIALIZED_TYPE_KEY = 0;
+    private static final byte SERIALIZED_TYPE_SPACER = 1;
+
+    /**
+     * Constructor for a key read from {@link KeyboardFileCache}.
+     *
+     * @param buffer the buffer that {@link #writeTo(DataOutput)} has written the key to.
+     */
+    private Key(@Nonnull final ByteBuffer buffer) {
+        mCode = buffer.getInt();
+        mLabel = KeyboardFileCache.readString(buffer);
+        mHintLabel = KeyboardFileCache.readString(buffer);
+        mLabelFlags = buffer.getInt();
+        mIconId = buffer.getInt();
+        mWidth = buffer.getInt();
+        mHeight = buffer.getInt();
+        mHorizontalGap = buffer.getInt();
+        mVerticalGap = buffer.getInt();
+        mX = buffer.getInt();
+        mY = buffer.getInt();
+        mHitBox.set(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+        final int moreKeysCount = buffer.getInt();
+        if (moreKeysCount < 0) {
+            mMoreKeys = null;
+        } else {
+            mMoreKeys = new MoreKeySpec[moreKeysCount];
+            for (int i = 0; i < moreKeysCount; i++) {
+                mMoreKeys[i] = new MoreKeySpec(buffer);
+            }
+        }
+        mMoreKeysColumnAndFlags = buffer.getInt();
+        mBackgroundType = buffer.getInt();
+        mActionFlags = buffer.getInt();
+        mKeyVisualAttributes = KeyVisualAttributes.readFrom(buffer);
+        if (buffer.get() != 0) {
+            mOptionalAttributes = new OptionalAttributes(KeyboardFileCache.readString(buffer),
+                    buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+        } else {
+            mOptionalAttributes = null;
+        }
+        mEnabled = buffer.get() != 0;
+        mHashCode = computeHashCode(this);
+    }
+
+    /**
+     * Reads a key that {@link #writeTo(DataOutput)} has written.
+     *
+     * @param buffer the buffer to read the key from.
+     * @return the key.
+     */
+    @Nonnull
+    public static Key readFrom(@Nonnull final ByteBuffer buffer) {
+        final byte type = buffer.get();
+        switch (type) {
+        case SERIALIZED_TYPE_KEY:
+            return new Key(buffer);
+        case SERIALIZED_TYPE_SPACER:
+            return new Spacer(buffer);
+        default:
+            throw new IllegalArgumentException("Unknown key type: " + type);
+        }
+    }
+
+    /**
+     * Writes the final attributes of this key, so that {@link #readFrom(ByteBuffer)} can rebuild
+     * an equal key without parsing the keyboard XML.
+     *
+     * @param out the output to write the key to.
+     */
+    public void writeTo(@Nonnull final DataOutput out) throws IOException {
+        out.writeByte(isSpacer() ? SERIALIZED_TYPE_SPACER : SERIALIZED_TYPE_KEY);
+        out.writeInt(mCode);
+        KeyboardFileCache.writeString(out, mLabel);
+        KeyboardFileCache.writeString(out, mHintLabel);
+        out.writeInt(mLabelFlags);
+        out.writeInt(mIconId);
+        out.writeInt(mWidth);
+        out.writeInt(mHeight);
+        out.writeInt(mHorizontalGap);
+        out.writeInt(mVerticalGap);
+        out.writeInt(mX);
+        out.writeInt(mY);
+        out.writeInt(mHitBox.left);
+        out.writeInt(mHitBox.top);
+        out.writeInt(mHitBox.right);
+        out.writeInt(mHitBox.bottom);
+        final MoreKeySpec[] moreKeys = mMoreKeys;
+        if (moreKeys == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(moreKeys.length);
+            for (final MoreKeySpec moreKey : moreKeys) {
+                moreKey.writeTo(out);
+            }
+        }
+        out.writeInt(mMoreKeysColumnAndFlags);
+        out.writeInt(mBackgroundType);
+        out.writeInt(mActionFlags);
+        KeyVisualAttributes.writeTo(out, mKeyVisualAttributes);
+        final OptionalAttributes attrs = mOptionalAttributes;
+        out.writeByte(attrs != null ? 1 : 0);
+        if (attrs != null) {
+            KeyboardFileCache.writeString(out, attrs.mOutputText);
+            out.writeInt(attrs.mAltCode);
+            out.writeInt(attrs.mDisabledIconId);
+            out.writeInt(attrs.mVisualInsetsLeft);
+            out.writeInt(attrs.mVisualInsetsRight);
+        }
+        out.writeByte(mEnabled ? 1 : 0);
+    }
+
     private static boolean needsToUpcase(final int labelFlags, final int keyboardElementId) {
         if ((labelFlags & LABEL_FLAGS_PRESERVE_CASE) != 0) return false;
         switch (keyboardElementId) {
@@ -906,6 +1058,10 @@ public class Key implements Comparable<Key> {
         mPressed = false;
     }
 
+    public final boolean isPressed() {
+        return mPressed;
+    }
+
     public final boolean isEnabled() {
         return mEnabled;
     }
@@ -1004,11 +1160,15 @@ public class Key implements Comparable<Key> {
     }
 
     public static class Spacer extends Key {
-        public Spacer(final TypedArray keyAttr, final KeyStyle keyStyle,
+        public Spacer(final ElementAttributes keyAttr, final KeyStyle keyStyle,
                 final KeyboardParams params, final KeyboardRow row) {
             super(null /* keySpec */, keyAttr, keyStyle, params, row);
         }
 
+        private Spacer(@Nonnull final ByteBuffer buffer) {
+            super(buffer);
+        }
+
         /**
          * This constructor is being used only for divider in more keys keyboard.
          */
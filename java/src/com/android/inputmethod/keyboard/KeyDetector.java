@@ -91,7 +91,22 @@ public class KeyDetector {
         }
         final int touchX = getTouchX(x);
         final int touchY = getTouchY(y);
+        final KeyHitGrid keyHitGrid = mKeyboard.getKeyHitGrid();
+        if (keyHitGrid != null && keyHitGrid.contains(touchX, touchY)) {
+            return keyHitGrid.detectHitKey(touchX, touchY);
+        }
+        return detectHitKeyAmongNearestKeys(touchX, touchY);
+    }
 
+    /**
+     * Detect the key whose hitbox the touch point is in, by examining all the nearest keys of the
+     * touch point. This is slower than {@link KeyHitGrid#detectHitKey(int,int)}.
+     *
+     * @param touchX The x-coordinate of a touch point after the correction
+     * @param touchY The y-coordinate of a touch point after the correction
+     * @return the key that the touch point hits.
+     */
+    Key detectHitKeyAmongNearestKeys(final int touchX, final int touchY) {
         int minDistance = Integer.MAX_VALUE;
         Key primaryKey = null;
         for (final Key key: mKeyboard.getNearestKeys(touchX, touchY)) {
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.graphics.Rect;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A precomputed lookup grid for {@link KeyDetector#detectHitKey(int,int)}.
+ *
+ * Each cell of the {@link ProximityInfo} grid is divided into {@link #SUBDIVISION} x
+ * {@link #SUBDIVISION} sub-cells. A sub-cell that is entirely inside the hitbox of one of the
+ * nearest keys and overlaps no other hitbox maps directly to that key. The other sub-cells keep
+ * the short list of nearest keys whose hitboxes overlap them, and only these keys are examined
+ * for a touch point. The result is always the same as examining all the nearest keys.
+ */
+public final class KeyHitGrid {
+    // The sub-cells are about 6x9 pixels on a 720p phone, and the grid takes 8192 ints.
+    private static final int SUBDIVISION = 4;
+    private static final int NO_KEY = -1;
+    private static final int FIRST_REFINEMENT = -2;
+
+    private final int mWidth;
+    private final int mHeight;
+    private final int mCellWidth;
+    private final int mCellHeight;
+    private final int mSubCellGridWidth;
+    @Nonnull
+    private final Key[] mKeys;
+    // The index of the key in {@link #mKeys}, {@link #NO_KEY}, or FIRST_REFINEMENT - index of the
+    // refinement list for each sub-cell.
+    @Nonnull
+    private final int[] mSubCells;
+    // The refinement list i is mRefinementKeys[mRefinementStarts[i]..mRefinementStarts[i+1]).
+    @Nonnull
+    private final int[] mRefinementStarts;
+    @Nonnull
+    private final Key[] mRefinementKeys;
+
+    KeyHitGrid(@Nonnull final ProximityInfo proximityInfo, @Nonnull final List<Key> sortedKeys,
+            final int width, final int height) {
+        mKeys = sortedKeys.toArray(new Key[sortedKeys.size()]);
+        final int gridWidth = proximityInfo.getGridWidth();
+        final int gridHeight = proximityInfo.getGridHeight();
+        mCellWidth = proximityInfo.getCellWidth();
+        mCellHeight = proximityInfo.getCellHeight();
+        if (width <= 0 || height <= 0 || mCellWidth <= 0 || mCellHeight <= 0) {
+            // No proximity grid. Keyboard might be more keys keyboard.
+            mWidth = 0;
+            mHeight = 0;
+            mSubCellGridWidth = 0;
+            mSubCells = new int[0];
+            mRefinementStarts = new int[] { 0 };
+            mRefinementKeys = new Key[0];
+            return;
+        }
+        mWidth = width;
+        mHeight = height;
+        mSubCellGridWidth = gridWidth * SUBDIVISION;
+        mSubCells = new int[mSubCellGridWidth * gridHeight * SUBDIVISION];
+
+        final IdentityHashMap<Key, Integer> keyIndices = new IdentityHashMap<>();
+        for (int index = 0; index < mKeys.length; index++) {
+            keyIndices.put(mKeys[index], index);
+        }
+        final ArrayList<Integer> refinementStarts = new ArrayList<>();
+        final ArrayList<Key> refinementKeys = new ArrayList<>();
+        final ArrayList<Key> overlappingKeys = new ArrayList<>();
+        for (int cellY = 0; cellY < gridHeight; cellY++) {
+            final int cellTop = cellY * mCellHeight;
+            for (int cellX = 0; cellX < gridWidth; cellX++) {
+                final int cellLeft = cellX * mCellWidth;
+                // All points of a cell share the same nearest keys.
+                final List<Key> nearestKeys = (cellLeft < width && cellTop < height)
+                        ? proximityInfo.getNearestKeys(cellLeft, cellTop) : null;
+                for (int subY = 0; subY < SUBDIVISION; subY++) {
+                    final int top = cellTop + getSubCellStart(subY, mCellHeight);
+                    final int bottom = Math.min(height,
+                            cellTop + getSubCellStart(subY + 1, mCellHeight));
+                    for (int subX = 0; subX < SUBDIVISION; subX++) {
+                        final int left = cellLeft + getSubCellStart(subX, mCellWidth);
+                        final int right = Math.min(width,
+                                cellLeft + getSubCellStart(subX + 1, mCellWidth));
+                        final int subCellIndex = (cellY * SUBDIVISION + subY) * mSubCellGridWidth
+                                + cellX * SUBDIVISION + subX;
+                        if (nearestKeys == null || left >= right || top >= bottom) {
+                            // No touch point is mapped to this sub-cell.
+                            mSubCells[subCellIndex] = NO_KEY;
+                            continue;
+                        }
+                        overlappingKeys.clear();
+                        for (final Key key : nearestKeys) {
+                            if (key.getHitBox().intersects(left, top, right, bottom)) {
+                                overlappingKeys.add(key);
+                            }
+                        }
+                        if (overlappingKeys.isEmpty()) {
+                            mSubCells[subCellIndex] = NO_KEY;
+                        } else if (overlappingKeys.size() == 1 && containsRect(
+                                overlappingKeys.get(0).getHitBox(), left, top, right, bottom)) {
+                            mSubCells[subCellIndex] = keyIndices.get(overlappingKeys.get(0));
+                        } else {
+                            mSubCells[subCellIndex] =
+                                    FIRST_REFINEMENT - refinementStarts.size();
+                            refinementStarts.add(refinementKeys.size());
+                            refinementKeys.addAll(overlappingKeys);
+                        }
+                    }
+                }
+            }
+        }
+        final int refinementCount = refinementStarts.size();
+        mRefinementStarts = new int[refinementCount + 1];
+        for (int index = 0; index < refinementCount; index++) {
+            mRefinementStarts[index] = refinementStarts.get(index);
+        }
+        mRefinementStarts[refinementCount] = refinementKeys.size();
+        mRefinementKeys = refinementKeys.toArray(new Key[refinementKeys.size()]);
+    }
+
+    // Returns the first coordinate of the sub-cell relative to the cell, so that a coordinate c
+    // in the cell belongs to the sub-cell c * SUBDIVISION / cellSize.
+    private static int getSubCellStart(final int subIndex, final int cellSize) {
+        return (subIndex * cellSize + SUBDIVISION - 1) / SUBDIVISION;
+    }
+
+    private static boolean containsRect(@Nonnull final Rect rect, final int left, final int top,
+            final int right, final int bottom) {
+        return rect.left <= left && rect.top <= top && right <= rect.right
+                && bottom <= rect.bottom;
+    }
+
+    /**
+     * Returns true if the touch point is covered by this grid. The touch points out of the grid
+     * have to be handled with {@link Keyboard#getNearestKeys(int,int)}.
+     */
+    public boolean contains(final int x, final int y) {
+        return x >= 0 && x < mWidth && y >= 0 && y < mHeight;
+    }
+
+    /**
+     * Detects the key whose hitbox the touch point is in. This doesn't allocate any object.
+     * @param x the x-coordinate of the touch point that this grid {@link #contains(int,int)}.
+     * @param y the y-coordinate of the touch point that this grid {@link #contains(int,int)}.
+     * @return the key that the touch point hits.
+     */
+    @Nullable
+    public Key detectHitKey(final int x, final int y) {
+        final int cellX = x / mCellWidth;
+        final int cellY = y / mCellHeight;
+        final int subX = (x - cellX * mCellWidth) * SUBDIVISION / mCellWidth;
+        final int subY = (y - cellY * mCellHeight) * SUBDIVISION / mCellHeight;
+        final int subCell = mSubCells[(cellY * SUBDIVISION + subY) * mSubCellGridWidth
+                + cellX * SUBDIVISION + subX];
+        if (subCell >= 0) {
+            return mKeys[subCell];
+        }
+        if (subCell == NO_KEY) {
+            return null;
+        }
+        final int refinement = FIRST_REFINEMENT - subCell;
+        final int end = mRefinementStarts[refinement + 1];
+        // The same selection as {@link KeyDetector#detectHitKey(int,int)}, among the keys in the
+        // same order as the nearest keys.
+        int minDistance = Integer.MAX_VALUE;
+        Key primaryKey = null;
+        for (int index = mRefinementStarts[refinement]; index < end; index++) {
+            final Key key = mRefinementKeys[index];
+            if (!key.isOnKey(x, y)) {
+                continue;
+            }
+            final int distance = key.squaredDistanceToEdge(x, y);
+            if (distance > minDistance) {
+                continue;
+            }
+            if (primaryKey == null || distance < minDistance
+                    || key.getCode() > primaryKey.getCode()) {
+                minDistance = distance;
+                primaryKey = key;
+            }
+        }
+        return primaryKey;
+    }
+}
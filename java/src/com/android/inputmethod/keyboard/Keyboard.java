@@ -96,6 +96,8 @@ public class Keyboard {
     @Nonnull
     private final ProximityInfo mProximityInfo;
     @Nonnull
+    private final KeyHitGrid mKeyHitGrid;
+    @Nonnull
     private final KeyboardLayout mKeyboardLayout;
 
     private final boolean mProximityCharsCorrectionEnabled;
@@ -123,6 +125,7 @@ public class Keyboard {
         mProximityInfo = new ProximityInfo(params.GRID_WIDTH, params.GRID_HEIGHT,
                 mOccupiedWidth, mOccupiedHeight, mMostCommonKeyWidth, mMostCommonKeyHeight,
                 mSortedKeys, params.mTouchPositionCorrection);
+        mKeyHitGrid = new KeyHitGrid(mProximityInfo, mSortedKeys, mOccupiedWidth, mOccupiedHeight);
         mProximityCharsCorrectionEnabled = params.mProximityCharsCorrectionEnabled;
         mKeyboardLayout = KeyboardLayout.newKeyboardLayout(mSortedKeys, mMostCommonKeyWidth,
                 mMostCommonKeyHeight, mOccupiedWidth, mOccupiedHeight);
@@ -149,6 +152,7 @@ public class Keyboard {
         mIconsSet = keyboard.mIconsSet;
 
         mProximityInfo = keyboard.mProximityInfo;
+        mKeyHitGrid = keyboard.mKeyHitGrid;
         mProximityCharsCorrectionEnabled = keyboard.mProximityCharsCorrectionEnabled;
         mKeyboardLayout = keyboard.mKeyboardLayout;
     }
@@ -242,6 +246,15 @@ public class Keyboard {
         return mProximityInfo.getNearestKeys(adjustedX, adjustedY);
     }
 
+    /**
+     * Returns the precomputed grid to detect the key that a touch point hits.
+     * @return the grid, or null if the keys may move so that the grid can't be used.
+     */
+    @Nullable
+    public KeyHitGrid getKeyHitGrid() {
+        return mKeyHitGrid;
+    }
+
     @Nonnull
     public int[] getCoordinates(@Nonnull final int[] codePoints) {
         final int length = codePoints.length;
@@ -30,10 +30,12 @@ import android.util.Xml;
 import android.view.inputmethod.EditorInfo;
 import android.view.inputmethod.InputMethodSubtype;
 
+import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.compat.EditorInfoCompatUtils;
 import com.android.inputmethod.compat.InputMethodSubtypeCompatUtils;
 import com.android.inputmethod.compat.UserManagerCompatUtils;
 import com.android.inputmethod.keyboard.internal.KeyboardBuilder;
+import com.android.inputmethod.keyboard.internal.KeyboardFileCache;
 import com.android.inputmethod.keyboard.internal.KeyboardParams;
 import com.android.inputmethod.keyboard.internal.UniqueKeysCache;
 import com.android.inputmethod.latin.InputAttributes;
@@ -75,6 +77,9 @@ public final class KeyboardLayoutSet {
     private final Context mContext;
     @Nonnull
     private final Params mParams;
+    // Created on the first keyboard that is not in {@link #sKeyboardCache}.
+    @Nullable
+    private KeyboardFileCache mKeyboardFileCache;
 
     // How many layouts we forcibly keep in cache. This only includes ALPHABET (default) and
     // ALPHABET_AUTOMATIC_SHIFTED layouts - other layouts may stay in memory in the map of
@@ -88,6 +93,9 @@ public final class KeyboardLayoutSet {
             new HashMap<>();
     @Nonnull
     private static final UniqueKeysCache sUniqueKeysCache = UniqueKeysCache.newInstance();
+    // Guards the caches above, which are shared by all the instances, and the building of
+    // keyboards, which may happen on the UI thread and on the keyboard background executor.
+    private static final Object sKeyboardCacheLock = new Object();
     private final static HashMap<InputMethodSubtype, Integer> sScriptIdsForSubtypes =
             new HashMap<>();
 
@@ -144,8 +152,10 @@ public final class KeyboardLayoutSet {
     }
 
     private static void clearKeyboardCache() {
-        sKeyboardCache.clear();
-        sUniqueKeysCache.clear();
+        synchronized (sKeyboardCacheLock) {
+            sKeyboardCache.clear();
+            sUniqueKeysCache.clear();
+        }
     }
 
     public static int getScriptId(final Resources resources,
@@ -197,17 +207,20 @@ public final class KeyboardLayoutSet {
         // specified as an elementKeyboard attribute in the file.
         // The KeyboardId is an internal key for a Keyboard object.
 
-        mParams.mIsSplitLayoutEnabled = mParams.mIsSplitLayoutEnabledByUser
-                && elementParams.mSupportsSplitLayout;
-        final KeyboardId id = new KeyboardId(keyboardLayoutSetElementId, mParams);
-        try {
-            return getKeyboard(elementParams, id);
-        } catch (final RuntimeException e) {
-            Log.e(TAG, "Can't create keyboard: " + id, e);
-            throw new KeyboardLayoutSetException(e, id);
+        synchronized (sKeyboardCacheLock) {
+            mParams.mIsSplitLayoutEnabled = mParams.mIsSplitLayoutEnabledByUser
+                    && elementParams.mSupportsSplitLayout;
+            final KeyboardId id = new KeyboardId(keyboardLayoutSetElementId, mParams);
+            try {
+                return getKeyboard(elementParams, id);
+            } catch (final RuntimeException e) {
+                Log.e(TAG, "Can't create keyboard: " + id, e);
+                throw new KeyboardLayoutSetException(e, id);
+            }
         }
     }
 
+    // Must be called while holding {@link #sKeyboardCacheLock}.
     @Nonnull
     private Keyboard getKeyboard(final ElementParams elementParams, final KeyboardId id) {
         final SoftReference<Keyboard> ref = sKeyboardCache.get(id);
@@ -224,12 +237,21 @@ public final class KeyboardLayoutSet {
         sUniqueKeysCache.setEnabled(id.isAlphabetKeyboard());
         builder.setAllowRedundantMoreKes(elementParams.mAllowRedundantMoreKeys);
         final int keyboardXmlId = elementParams.mKeyboardXmlId;
-        builder.load(keyboardXmlId, id);
+        final KeyboardFileCache fileCache = getKeyboardFileCache();
+        final KeyboardFileCache.CachedKeyboard cachedKeys = fileCache.read(id);
+        if (cachedKeys != null) {
+            builder.load(keyboardXmlId, id, cachedKeys);
+        } else {
+            builder.load(keyboardXmlId, id);
+        }
         if (mParams.mDisableTouchPositionCorrectionDataForTest) {
             builder.disableTouchPositionCorrectionDataForTest();
         }
         builder.setProximityCharsCorrectionEnabled(elementParams.mProximityCharsCorrectionEnabled);
         final Keyboard keyboard = builder.build();
+        if (cachedKeys == null) {
+            fileCache.writeInBackground(keyboard);
+        }
         sKeyboardCache.put(id, new SoftReference<>(keyboard));
         if ((id.mElementId == KeyboardId.ELEMENT_ALPHABET
                 || id.mElementId == KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED)
@@ -245,11 +267,32 @@ public final class KeyboardLayoutSet {
         }
         if (DEBUG_CACHE) {
             Log.d(TAG, "keyboard cache size=" + sKeyboardCache.size() + ": "
-                    + ((ref == null) ? "LOAD" : "GCed") + " id=" + id);
+                    + ((ref == null) ? "LOAD" : "GCed") + ((cachedKeys == null) ? "" : " FILE")
+                    + " id=" + id);
         }
         return keyboard;
     }
 
+    // Must be called while holding {@link #sKeyboardCacheLock}.
+    @Nonnull
+    private KeyboardFileCache getKeyboardFileCache() {
+        if (mKeyboardFileCache == null) {
+            mKeyboardFileCache = new KeyboardFileCache(mContext);
+        }
+        return mKeyboardFileCache;
+    }
+
+    @UsedForTesting
+    int getKeyboardXmlId(final int keyboardLayoutSetElementId) {
+        ElementParams elementParams = mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
+                keyboardLayoutSetElementId);
+        if (elementParams == null) {
+            elementParams = mParams.mKeyboardLayoutSetElementIdToParamsMap.get(
+                    KeyboardId.ELEMENT_ALPHABET);
+        }
+        return elementParams.mKeyboardXmlId;
+    }
+
     public int getScriptId() {
         return mParams.mScriptId;
     }
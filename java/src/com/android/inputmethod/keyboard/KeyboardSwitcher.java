@@ -444,6 +444,12 @@ public final class KeyboardSwitcher implements KeyboardState.SwitchActions {
         return mKeyboardView;
     }
 
+    public void onFinishInputView() {
+        if (mEmojiPalettesView != null) {
+            mEmojiPalettesView.flushRecentKeys();
+        }
+    }
+
     public void deallocateMemory() {
         if (mKeyboardView != null) {
             mKeyboardView.cancelAllOngoingEvents();
@@ -32,13 +32,17 @@ import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
 
+import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.keyboard.internal.KeyDrawParams;
 import com.android.inputmethod.keyboard.internal.KeyVisualAttributes;
 import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.common.Constants;
 import com.android.inputmethod.latin.utils.TypefaceUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -190,12 +194,86 @@ public class KeyboardView extends View {
      * @param keyboard the keyboard to display in this view
      */
     public void setKeyboard(@Nonnull final Keyboard keyboard) {
+        final Keyboard oldKeyboard = mKeyboard;
+        final KeyDrawParams oldKeyDrawParams = new KeyDrawParams(mKeyDrawParams);
         mKeyboard = keyboard;
         final int keyHeight = keyboard.mMostCommonKeyHeight - keyboard.mVerticalGap;
         mKeyDrawParams.updateParams(keyHeight, mKeyVisualAttributes);
         mKeyDrawParams.updateParams(keyHeight, keyboard.mKeyVisualAttributes);
-        invalidateAllKeys();
-        requestLayout();
+        // Switching between keyboards of the same geometry, such as the shift state flips, only
+        // needs to redraw the keys that look different on the offscreen buffer.
+        if (oldKeyboard == null || mInvalidateAllKeys || mOffscreenBuffer == null
+                || !collectChangedKeys(oldKeyboard, oldKeyDrawParams, keyboard, mKeyDrawParams,
+                        mInvalidatedKeys)) {
+            invalidateAllKeys();
+            requestLayout();
+            return;
+        }
+        for (final Key key : mInvalidatedKeys) {
+            invalidateKeyRect(key);
+        }
+    }
+
+    /**
+     * Collects the keys of the new keyboard that have to be redrawn when the old keyboard is
+     * replaced by the new one. The keys that are already in <code>outChangedKeys</code> are
+     * replaced with their counterparts of the new keyboard.
+     * @return false if the keyboards have different geometries and all keys have to be redrawn.
+     */
+    @UsedForTesting
+    static boolean collectChangedKeys(@Nonnull final Keyboard oldKeyboard,
+            @Nonnull final KeyDrawParams oldKeyDrawParams, @Nonnull final Keyboard newKeyboard,
+            @Nonnull final KeyDrawParams newKeyDrawParams,
+            @Nonnull final Collection<Key> outChangedKeys) {
+        if (oldKeyboard == newKeyboard) {
+            return true;
+        }
+        final List<Key> oldKeys = oldKeyboard.getSortedKeys();
+        final List<Key> newKeys = newKeyboard.getSortedKeys();
+        // The language on the spacebar is drawn from the subtype of the keyboard.
+        if (oldKeyboard.mOccupiedWidth != newKeyboard.mOccupiedWidth
+                || oldKeyboard.mOccupiedHeight != newKeyboard.mOccupiedHeight
+                || !oldKeyboard.mId.mSubtype.equals(newKeyboard.mId.mSubtype)
+                || oldKeys.size() != newKeys.size()
+                || !oldKeyDrawParams.equals(newKeyDrawParams)) {
+            return false;
+        }
+        final ArrayList<Key> changedKeys = new ArrayList<>();
+        for (int index = 0; index < oldKeys.size(); index++) {
+            final Key oldKey = oldKeys.get(index);
+            final Key newKey = newKeys.get(index);
+            if (oldKey.getX() != newKey.getX() || oldKey.getY() != newKey.getY()
+                    || oldKey.getWidth() != newKey.getWidth()
+                    || oldKey.getHeight() != newKey.getHeight()) {
+                return false;
+            }
+            if (outChangedKeys.contains(oldKey)
+                    || !isDrawnIdentically(oldKey, oldKeyDrawParams, newKey, newKeyDrawParams)) {
+                changedKeys.add(newKey);
+            }
+        }
+        outChangedKeys.clear();
+        outChangedKeys.addAll(changedKeys);
+        return true;
+    }
+
+    private static boolean isDrawnIdentically(@Nonnull final Key oldKey,
+            @Nonnull final KeyDrawParams oldKeyDrawParams, @Nonnull final Key newKey,
+            @Nonnull final KeyDrawParams newKeyDrawParams) {
+        if (!oldKey.equals(newKey) || oldKey.isSpacer() != newKey.isSpacer()
+                || oldKey.isEnabled() != newKey.isEnabled()
+                || oldKey.isPressed() != newKey.isPressed()
+                || oldKey.getDrawX() != newKey.getDrawX()
+                || oldKey.getDrawWidth() != newKey.getDrawWidth()) {
+            return false;
+        }
+        final KeyVisualAttributes oldAttr = oldKey.getVisualAttributes();
+        final KeyVisualAttributes newAttr = newKey.getVisualAttributes();
+        if (oldAttr == null && newAttr == null) {
+            return true;
+        }
+        return oldKeyDrawParams.mayCloneAndUpdateParams(oldKey.getHeight(), oldAttr).equals(
+                newKeyDrawParams.mayCloneAndUpdateParams(newKey.getHeight(), newAttr));
     }
 
     /**
@@ -301,22 +379,36 @@ public class KeyboardView extends View {
                 onDrawKey(key, canvas, paint);
             }
         } else {
-            for (final Key key : mInvalidatedKeys) {
-                if (!keyboard.hasKey(key)) {
-                    continue;
+            final List<Key> sortedKeys = keyboard.getSortedKeys();
+            if (background != null) {
+                // Need to redraw keys' background on {@link #mOffscreenBuffer}. The invalidated
+                // keys that are next to each other in a row are cleared at once.
+                final Rect dirtyRect = mClipRect;
+                dirtyRect.setEmpty();
+                Key previousKey = null;
+                boolean previousKeyInvalidated = false;
+                for (final Key key : sortedKeys) {
+                    final boolean invalidated = mInvalidatedKeys.contains(key);
+                    if (invalidated) {
+                        final int x = key.getX() + getPaddingLeft();
+                        final int y = key.getY() + getPaddingTop();
+                        if (previousKeyInvalidated && previousKey.getY() == key.getY()
+                                && previousKey.getHeight() == key.getHeight()) {
+                            dirtyRect.right = x + key.getWidth();
+                        } else {
+                            redrawBackground(canvas, background, dirtyRect);
+                            dirtyRect.set(x, y, x + key.getWidth(), y + key.getHeight());
+                        }
+                    }
+                    previousKey = key;
+                    previousKeyInvalidated = invalidated;
                 }
-                if (background != null) {
-                    // Need to redraw key's background on {@link #mOffscreenBuffer}.
-                    final int x = key.getX() + getPaddingLeft();
-                    final int y = key.getY() + getPaddingTop();
-                    mClipRect.set(x, y, x + key.getWidth(), y + key.getHeight());
-                    canvas.save();
-                    canvas.clipRect(mClipRect);
-                    canvas.drawColor(Color.BLACK, PorterDuff.Mode.CLEAR);
-                    background.draw(canvas);
-                    canvas.restore();
+                redrawBackground(canvas, background, dirtyRect);
+            }
+            for (final Key key : sortedKeys) {
+                if (mInvalidatedKeys.contains(key)) {
+                    onDrawKey(key, canvas, paint);
                 }
-                onDrawKey(key, canvas, paint);
             }
         }
 
@@ -324,6 +416,18 @@ public class KeyboardView extends View {
         mInvalidateAllKeys = false;
     }
 
+    private static void redrawBackground(@Nonnull final Canvas canvas,
+            @Nonnull final Drawable background, @Nonnull final Rect dirtyRect) {
+        if (dirtyRect.isEmpty()) {
+            return;
+        }
+        canvas.save();
+        canvas.clipRect(dirtyRect);
+        canvas.drawColor(Color.BLACK, PorterDuff.Mode.CLEAR);
+        background.draw(canvas);
+        canvas.restore();
+    }
+
     private void onDrawKey(@Nonnull final Key key, @Nonnull final Canvas canvas,
             @Nonnull final Paint paint) {
         final int keyDrawX = key.getDrawX() + getPaddingLeft();
@@ -566,6 +670,10 @@ public class KeyboardView extends View {
             return;
         }
         mInvalidatedKeys.add(key);
+        invalidateKeyRect(key);
+    }
+
+    private void invalidateKeyRect(@Nonnull final Key key) {
         final int x = key.getX() + getPaddingLeft();
         final int y = key.getY() + getPaddingTop();
         invalidate(x, y, x + key.getWidth(), y + key.getHeight());
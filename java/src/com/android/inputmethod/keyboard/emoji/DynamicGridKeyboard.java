@@ -16,18 +16,17 @@
 
 package com.android.inputmethod.keyboard.emoji;
 
-import android.content.SharedPreferences;
 import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.inputmethod.keyboard.Key;
+import com.android.inputmethod.keyboard.KeyHitGrid;
 import com.android.inputmethod.keyboard.Keyboard;
-import com.android.inputmethod.latin.settings.Settings;
-import com.android.inputmethod.latin.utils.JsonUtils;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.StringUtils;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -40,19 +39,20 @@ final class DynamicGridKeyboard extends Keyboard {
     private static final int TEMPLATE_KEY_CODE_1 = 0x31;
     private final Object mLock = new Object();
 
-    private final SharedPreferences mPrefs;
+    private final EmojiRecentKeysStore mRecentKeysStore;
     private final int mHorizontalStep;
     private final int mVerticalStep;
     private final int mColumnsNum;
     private final int mMaxKeyCount;
     private final boolean mIsRecents;
+    private final Key mTemplateKey;
     private final ArrayDeque<GridKey> mGridKeys = new ArrayDeque<>();
     private final ArrayDeque<Key> mPendingKeys = new ArrayDeque<>();
 
     private List<Key> mCachedGridKeys;
 
-    public DynamicGridKeyboard(final SharedPreferences prefs, final Keyboard templateKeyboard,
-            final int maxKeyCount, final int categoryId) {
+    public DynamicGridKeyboard(final EmojiRecentKeysStore recentKeysStore,
+            final Keyboard templateKeyboard, final int maxKeyCount, final int categoryId) {
         super(templateKeyboard);
         final Key key0 = getTemplateKey(TEMPLATE_KEY_CODE_0);
         final Key key1 = getTemplateKey(TEMPLATE_KEY_CODE_1);
@@ -61,7 +61,8 @@ final class DynamicGridKeyboard extends Keyboard {
         mColumnsNum = mBaseWidth / mHorizontalStep;
         mMaxKeyCount = maxKeyCount;
         mIsRecents = categoryId == EmojiCategory.ID_RECENTS;
-        mPrefs = prefs;
+        mRecentKeysStore = recentKeysStore;
+        mTemplateKey = key0;
     }
 
     private Key getTemplateKey(final int code) {
@@ -89,9 +90,11 @@ final class DynamicGridKeyboard extends Keyboard {
     }
 
     public void addKeyFirst(final Key usedKey) {
-        addKey(usedKey, true);
-        if (mIsRecents) {
-            saveRecentKeys();
+        synchronized (mLock) {
+            addKey(usedKey, true);
+            if (mIsRecents) {
+                saveRecentKeys();
+            }
         }
     }
 
@@ -103,9 +106,12 @@ final class DynamicGridKeyboard extends Keyboard {
         if (usedKey == null) {
             return;
         }
+        addGridKey(new GridKey(usedKey), addFirst);
+    }
+
+    private void addGridKey(final GridKey key, final boolean addFirst) {
         synchronized (mLock) {
             mCachedGridKeys = null;
-            final GridKey key = new GridKey(usedKey);
             while (mGridKeys.remove(key)) {
                 // Remove duplicate keys.
             }
@@ -117,15 +123,19 @@ final class DynamicGridKeyboard extends Keyboard {
             while (mGridKeys.size() > mMaxKeyCount) {
                 mGridKeys.removeLast();
             }
-            int index = 0;
-            for (final GridKey gridKey : mGridKeys) {
-                final int keyX0 = getKeyX0(index);
-                final int keyY0 = getKeyY0(index);
-                final int keyX1 = getKeyX1(index);
-                final int keyY1 = getKeyY1(index);
-                gridKey.updateCoordinates(keyX0, keyY0, keyX1, keyY1);
-                index++;
-            }
+            updateCoordinates();
+        }
+    }
+
+    private void updateCoordinates() {
+        int index = 0;
+        for (final GridKey gridKey : mGridKeys) {
+            final int keyX0 = getKeyX0(index);
+            final int keyY0 = getKeyY0(index);
+            final int keyX1 = getKeyX1(index);
+            final int keyY1 = getKeyY1(index);
+            gridKey.updateCoordinates(keyX0, keyY0, keyX1, keyY1);
+            index++;
         }
     }
 
@@ -138,50 +148,84 @@ final class DynamicGridKeyboard extends Keyboard {
                 keys.add(key.getCode());
             }
         }
-        final String jsonStr = JsonUtils.listToJsonStr(keys);
-        Settings.writeEmojiRecentKeys(mPrefs, jsonStr);
+        mRecentKeysStore.save(keys);
     }
 
-    private static Key getKeyByCode(final Collection<DynamicGridKeyboard> keyboards,
-            final int code) {
-        for (final DynamicGridKeyboard keyboard : keyboards) {
-            for (final Key key : keyboard.getSortedKeys()) {
-                if (key.getCode() == code) {
-                    return key;
+    /**
+     * Loads the recent keys. A recent key that isn't in the index is loaded as a key that stands
+     * in for it until {@link #resolveRecentKeys(EmojiKeyIndex)} is called.
+     *
+     * @param keyIndex the index of the keys of the categories that have been built.
+     */
+    public void loadRecentKeys(final EmojiKeyIndex keyIndex) {
+        final List<Object> keys = mRecentKeysStore.load();
+        for (final Object o : keys) {
+            if (o instanceof Integer) {
+                final int code = (Integer)o;
+                final Key key = keyIndex.getKeyByCode(code);
+                if (key != null) {
+                    addKeyLast(key);
+                } else {
+                    addGridKey(new GridKey(mTemplateKey,
+                            StringUtils.newSingleCodePointString(code), code,
+                            null /* outputText */), false /* addFirst */);
+                }
+            } else if (o instanceof String) {
+                final String outputText = (String)o;
+                final Key key = keyIndex.getKeyByOutputText(outputText);
+                if (key != null) {
+                    addKeyLast(key);
+                } else {
+                    addGridKey(new GridKey(mTemplateKey, getLabelOfOutputText(outputText),
+                            Constants.CODE_OUTPUT_TEXT, outputText), false /* addFirst */);
                 }
+            } else {
+                Log.w(TAG, "Invalid object: " + o);
             }
         }
-        return null;
     }
 
-    private static Key getKeyByOutputText(final Collection<DynamicGridKeyboard> keyboards,
-            final String outputText) {
-        for (final DynamicGridKeyboard keyboard : keyboards) {
-            for (final Key key : keyboard.getSortedKeys()) {
-                if (outputText.equals(key.getOutputText())) {
-                    return key;
-                }
-            }
+    // The output text of an emoticon key is the label followed by a space.
+    private static String getLabelOfOutputText(final String outputText) {
+        final int lastIndex = outputText.length() - 1;
+        if (lastIndex > 0 && outputText.charAt(lastIndex) == Constants.CODE_SPACE) {
+            return outputText.substring(0, lastIndex);
         }
-        return null;
+        return outputText;
     }
 
-    public void loadRecentKeys(final Collection<DynamicGridKeyboard> keyboards) {
-        final String str = Settings.readEmojiRecentKeys(mPrefs);
-        final List<Object> keys = JsonUtils.jsonStrToList(str);
-        for (final Object o : keys) {
-            final Key key;
-            if (o instanceof Integer) {
-                final int code = (Integer)o;
-                key = getKeyByCode(keyboards, code);
-            } else if (o instanceof String) {
-                final String outputText = (String)o;
-                key = getKeyByOutputText(keyboards, outputText);
-            } else {
-                Log.w(TAG, "Invalid object: " + o);
-                continue;
+    /**
+     * Replaces the recent keys that stand in for the keys of the categories that hadn't been
+     * built when {@link #loadRecentKeys(EmojiKeyIndex)} was called. A recent key that isn't in
+     * the index is removed.
+     *
+     * @param keyIndex the index of the keys of all the categories.
+     */
+    public void resolveRecentKeys(final EmojiKeyIndex keyIndex) {
+        synchronized (mLock) {
+            final ArrayList<GridKey> resolvedKeys = new ArrayList<>(mGridKeys.size());
+            for (final GridKey gridKey : mGridKeys) {
+                final Key key;
+                if (!gridKey.isStandIn()) {
+                    key = gridKey;
+                } else if (gridKey.getOutputText() != null) {
+                    key = keyIndex.getKeyByOutputText(gridKey.getOutputText());
+                } else {
+                    key = keyIndex.getKeyByCode(gridKey.getCode());
+                }
+                if (key == null) {
+                    continue;
+                }
+                // The keys of the cached list may still be drawn. Move new keys into place.
+                final GridKey resolvedKey = new GridKey(key);
+                if (!resolvedKeys.contains(resolvedKey)) {
+                    resolvedKeys.add(resolvedKey);
+                }
             }
-            addKeyLast(key);
+            mCachedGridKeys = null;
+            mGridKeys.clear();
+            mGridKeys.addAll(resolvedKeys);
+            updateCoordinates();
         }
     }
 
@@ -223,12 +267,30 @@ final class DynamicGridKeyboard extends Keyboard {
         return getSortedKeys();
     }
 
+    @Override
+    public KeyHitGrid getKeyHitGrid() {
+        // The grid keys move when a key is added.
+        return null;
+    }
+
     static final class GridKey extends Key {
         private int mCurrentX;
         private int mCurrentY;
+        private final boolean mIsStandIn;
 
         public GridKey(final Key originalKey) {
             super(originalKey);
+            mIsStandIn = (originalKey instanceof GridKey) && ((GridKey)originalKey).mIsStandIn;
+        }
+
+        public GridKey(final Key templateKey, final String label, final int code,
+                final String outputText) {
+            super(templateKey, label, code, outputText);
+            mIsStandIn = true;
+        }
+
+        public boolean isStandIn() {
+            return mIsStandIn;
         }
 
         public void updateCoordinates(final int x0, final int y0, final int x1, final int y1) {
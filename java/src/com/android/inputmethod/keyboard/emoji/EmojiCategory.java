@@ -16,12 +16,16 @@
 
 package com.android.inputmethod.keyboard.emoji;
 
+import android.content.Context;
 import android.content.SharedPreferences;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Paint;
 import android.graphics.Rect;
 import android.os.Build;
+import android.os.SystemClock;
 import android.util.Log;
 import android.util.Pair;
 
@@ -32,8 +36,11 @@ import com.android.inputmethod.keyboard.KeyboardId;
 import com.android.inputmethod.keyboard.KeyboardLayoutSet;
 import com.android.inputmethod.latin.R;
 import com.android.inputmethod.latin.settings.Settings;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+import com.android.inputmethod.latin.utils.JsonUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -41,7 +48,7 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 final class EmojiCategory {
-    private final String TAG = EmojiCategory.class.getSimpleName();
+    private static final String TAG = EmojiCategory.class.getSimpleName();
 
     private static final int ID_UNSPECIFIED = -1;
     public static final int ID_RECENTS = 0;
@@ -62,6 +69,8 @@ final class EmojiCategory {
     private static final int ID_EIGHT_FLAGS = 15;
     private static final int ID_EIGHT_SMILEY_PEOPLE_BORING = 16;
 
+    private static final int NOT_A_KEY_COUNT = -1;
+
     public final class CategoryProperties {
         public final int mCategoryId;
         public final int mPageCount;
@@ -148,6 +157,7 @@ final class EmojiCategory {
             KeyboardId.ELEMENT_EMOJI_CATEGORY16 };
 
     private final SharedPreferences mPrefs;
+    private final EmojiRecentKeysStore mRecentKeysStore;
     private final Resources mRes;
     private final int mMaxPageKeyCount;
     private final KeyboardLayoutSet mLayoutSet;
@@ -156,21 +166,33 @@ final class EmojiCategory {
     private final ArrayList<CategoryProperties> mShownCategories = new ArrayList<>();
     private final ConcurrentHashMap<Long, DynamicGridKeyboard> mCategoryKeyboardMap =
             new ConcurrentHashMap<>();
+    private final EmojiKeyIndex mKeyIndex = new EmojiKeyIndex();
+    // The index of the key counts of the categories, which the page counts of the categories that
+    // haven't been built yet are computed from. Guarded by mCategoryKeyboardMap.
+    private final String mKeyCountsVersion;
+    private final int[] mCategoryKeyCounts = new int[sCategoryName.length];
+    private boolean mCategoryKeyCountsChanged;
+    // The time that building the keyboards of each category has taken. Guarded by
+    // mCategoryKeyboardMap.
+    private final long[] mCategoryBuildTimeMillis = new long[sCategoryName.length];
 
     private int mCurrentCategoryId = EmojiCategory.ID_UNSPECIFIED;
     private int mCurrentCategoryPageId = 0;
 
-    public EmojiCategory(final SharedPreferences prefs, final Resources res,
+    public EmojiCategory(final Context context, final SharedPreferences prefs,
             final KeyboardLayoutSet layoutSet, final TypedArray emojiPaletteViewAttr) {
         mPrefs = prefs;
-        mRes = res;
-        mMaxPageKeyCount = res.getInteger(R.integer.config_emoji_keyboard_max_page_key_count);
+        mRecentKeysStore = EmojiRecentKeysStore.getInstance(context);
+        mRes = context.getResources();
+        mMaxPageKeyCount = mRes.getInteger(R.integer.config_emoji_keyboard_max_page_key_count);
         mLayoutSet = layoutSet;
         for (int i = 0; i < sCategoryName.length; ++i) {
             mCategoryNameToIdMap.put(sCategoryName[i], i);
             mCategoryTabIconId[i] = emojiPaletteViewAttr.getResourceId(
                     sCategoryTabIconAttr[i], 0);
         }
+        mKeyCountsVersion = getKeyCountsVersion(context);
+        readCategoryKeyCounts();
 
         int defaultCategoryId = EmojiCategory.ID_SYMBOLS;
         addShownCategoryId(EmojiCategory.ID_RECENTS);
@@ -201,9 +223,11 @@ final class EmojiCategory {
         }
         addShownCategoryId(EmojiCategory.ID_EMOTICONS);
 
-        DynamicGridKeyboard recentsKbd =
+        final DynamicGridKeyboard recentsKbd =
                 getKeyboard(EmojiCategory.ID_RECENTS, 0 /* categoryPageId */);
-        recentsKbd.loadRecentKeys(mCategoryKeyboardMap.values());
+        // The recent keys of the categories that haven't been built yet are resolved after the
+        // categories are built in background.
+        recentsKbd.loadRecentKeys(mKeyIndex);
 
         mCurrentCategoryId = Settings.readLastShownEmojiCategoryId(mPrefs, defaultCategoryId);
         Log.i(TAG, "Last Emoji category id is " + mCurrentCategoryId);
@@ -216,16 +240,83 @@ final class EmojiCategory {
             Log.i(TAG, "No recent emojis found, starting in category " + defaultCategoryId);
             mCurrentCategoryId = defaultCategoryId;
         }
+        // The current category is shown first. Build the others in background.
+        getKeyboard(mCurrentCategoryId, 0 /* categoryPageId */);
+        synchronized (mCategoryKeyboardMap) {
+            writeCategoryKeyCountsLocked();
+        }
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+            @Override
+            public void run() {
+                buildShownCategoriesInBackground(recentsKbd);
+            }
+        });
+    }
+
+    private void buildShownCategoriesInBackground(final DynamicGridKeyboard recentsKbd) {
+        for (final CategoryProperties properties : mShownCategories) {
+            getKeyboard(properties.mCategoryId, 0 /* categoryPageId */);
+        }
+        recentsKbd.resolveRecentKeys(mKeyIndex);
+        synchronized (mCategoryKeyboardMap) {
+            writeCategoryKeyCountsLocked();
+            Log.i(TAG, "Emoji category build times in ms: "
+                    + Arrays.toString(mCategoryBuildTimeMillis));
+        }
     }
 
     private void addShownCategoryId(final int categoryId) {
-        // Load a keyboard of categoryId
-        getKeyboard(categoryId, 0 /* categoryPageId */);
         final CategoryProperties properties =
                 new CategoryProperties(categoryId, getCategoryPageCount(categoryId));
         mShownCategories.add(properties);
     }
 
+    // Everything that the key counts of the categories depend on: the app version and the system
+    // build, whose SDK version filters the emojis.
+    private static String getKeyCountsVersion(final Context context) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            final PackageInfo packageInfo = context.getPackageManager().getPackageInfo(
+                    context.getPackageName(), 0 /* flags */);
+            sb.append(packageInfo.versionCode).append('/').append(packageInfo.lastUpdateTime);
+        } catch (final PackageManager.NameNotFoundException e) {
+            Log.e(TAG, "Could not find version info.", e);
+        }
+        sb.append(' ').append(Build.FINGERPRINT);
+        return sb.toString();
+    }
+
+    // The key counts are stored as a list of the version followed by the key count of each
+    // category id.
+    private void readCategoryKeyCounts() {
+        Arrays.fill(mCategoryKeyCounts, NOT_A_KEY_COUNT);
+        final List<Object> list =
+                JsonUtils.jsonStrToList(Settings.readEmojiCategoryKeyCounts(mPrefs));
+        if (list.size() != mCategoryKeyCounts.length + 1
+                || !mKeyCountsVersion.equals(list.get(0))) {
+            return;
+        }
+        for (int categoryId = 0; categoryId < mCategoryKeyCounts.length; categoryId++) {
+            final Object keyCount = list.get(categoryId + 1);
+            if (keyCount instanceof Integer) {
+                mCategoryKeyCounts[categoryId] = (Integer)keyCount;
+            }
+        }
+    }
+
+    private void writeCategoryKeyCountsLocked() {
+        if (!mCategoryKeyCountsChanged) {
+            return;
+        }
+        mCategoryKeyCountsChanged = false;
+        final ArrayList<Object> list = new ArrayList<>();
+        list.add(mKeyCountsVersion);
+        for (final int keyCount : mCategoryKeyCounts) {
+            list.add(keyCount);
+        }
+        Settings.writeEmojiCategoryKeyCounts(mPrefs, JsonUtils.listToJsonStr(list));
+    }
+
     private boolean isShownCategoryId(final int categoryId) {
         for (final CategoryProperties prop : mShownCategories) {
             if (prop.mCategoryId == categoryId) {
@@ -288,6 +379,10 @@ final class EmojiCategory {
         return mCurrentCategoryPageId;
     }
 
+    public void flushRecentKeys() {
+        mRecentKeysStore.flush();
+    }
+
     public void saveLastTypedCategoryPage() {
         Settings.writeLastTypedEmojiCategoryPageId(
                 mPrefs, mCurrentCategoryId, mCurrentCategoryPageId);
@@ -328,8 +423,24 @@ final class EmojiCategory {
     }
 
     private int getCategoryPageCount(final int categoryId) {
-        final Keyboard keyboard = mLayoutSet.getKeyboard(sCategoryElementId[categoryId]);
-        return (keyboard.getSortedKeys().size() - 1) / mMaxPageKeyCount + 1;
+        final int keyCount;
+        if (categoryId == EmojiCategory.ID_RECENTS) {
+            final Keyboard keyboard = mLayoutSet.getKeyboard(sCategoryElementId[categoryId]);
+            keyCount = keyboard.getSortedKeys().size();
+        } else {
+            synchronized (mCategoryKeyboardMap) {
+                if (mCategoryKeyCounts[categoryId] == NOT_A_KEY_COUNT) {
+                    // Not in the index. Build the category to count its keys.
+                    getKeyboard(categoryId, 0 /* categoryPageId */);
+                }
+                keyCount = mCategoryKeyCounts[categoryId];
+            }
+        }
+        return getPageCount(keyCount, mMaxPageKeyCount);
+    }
+
+    private static int getPageCount(final int keyCount, final int maxPageKeyCount) {
+        return (keyCount - 1) / maxPageKeyCount + 1;
     }
 
     // Returns a pair of the category id and the category page id from the view pager's page
@@ -363,40 +474,71 @@ final class EmojiCategory {
     }
 
     public DynamicGridKeyboard getKeyboard(final int categoryId, final int id) {
+        final Long categoryKeyboardMapKey = getCategoryKeyboardMapKey(categoryId, id);
+        // Don't wait for a category being built in background when this one has been built.
+        final DynamicGridKeyboard builtKeyboard = mCategoryKeyboardMap.get(categoryKeyboardMapKey);
+        if (builtKeyboard != null) {
+            return builtKeyboard;
+        }
         synchronized (mCategoryKeyboardMap) {
-            final Long categoryKeyboardMapKey = getCategoryKeyboardMapKey(categoryId, id);
             if (mCategoryKeyboardMap.containsKey(categoryKeyboardMapKey)) {
                 return mCategoryKeyboardMap.get(categoryKeyboardMapKey);
             }
 
             if (categoryId == EmojiCategory.ID_RECENTS) {
-                final DynamicGridKeyboard kbd = new DynamicGridKeyboard(mPrefs,
+                final DynamicGridKeyboard kbd = new DynamicGridKeyboard(mRecentKeysStore,
                         mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
                         mMaxPageKeyCount, categoryId);
                 mCategoryKeyboardMap.put(categoryKeyboardMapKey, kbd);
                 return kbd;
             }
 
+            final long startTime = SystemClock.uptimeMillis();
             final Keyboard keyboard = mLayoutSet.getKeyboard(sCategoryElementId[categoryId]);
-            final Key[][] sortedKeys = sortKeysIntoPages(
-                    keyboard.getSortedKeys(), mMaxPageKeyCount);
-            for (int pageId = 0; pageId < sortedKeys.length; ++pageId) {
-                final DynamicGridKeyboard tempKeyboard = new DynamicGridKeyboard(mPrefs,
-                        mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
+            final List<Key> keys = keyboard.getSortedKeys();
+            mKeyIndex.addKeys(keys);
+            final Key[][] sortedKeys = sortKeysIntoPages(keys, mMaxPageKeyCount);
+            // The pager may have been given the page count of a stale index. Fill the pages that
+            // it expects with empty keyboards until the index is written.
+            final int pageCount = Math.max(sortedKeys.length, getShownPageCount(categoryId));
+            for (int pageId = 0; pageId < pageCount; ++pageId) {
+                final DynamicGridKeyboard tempKeyboard = new DynamicGridKeyboard(
+                        mRecentKeysStore, mLayoutSet.getKeyboard(KeyboardId.ELEMENT_EMOJI_RECENTS),
                         mMaxPageKeyCount, categoryId);
-                for (final Key emojiKey : sortedKeys[pageId]) {
-                    if (emojiKey == null) {
-                        break;
+                if (pageId < sortedKeys.length) {
+                    for (final Key emojiKey : sortedKeys[pageId]) {
+                        if (emojiKey == null) {
+                            break;
+                        }
+                        tempKeyboard.addKeyLast(emojiKey);
                     }
-                    tempKeyboard.addKeyLast(emojiKey);
                 }
                 mCategoryKeyboardMap.put(
                         getCategoryKeyboardMapKey(categoryId, pageId), tempKeyboard);
             }
+            if (mCategoryKeyCounts[categoryId] != keys.size()) {
+                if (mCategoryKeyCounts[categoryId] != NOT_A_KEY_COUNT) {
+                    Log.w(TAG, "Key count of emoji category " + categoryId + " changed from "
+                            + mCategoryKeyCounts[categoryId] + " to " + keys.size());
+                }
+                mCategoryKeyCounts[categoryId] = keys.size();
+                mCategoryKeyCountsChanged = true;
+            }
+            mCategoryBuildTimeMillis[categoryId] = SystemClock.uptimeMillis() - startTime;
             return mCategoryKeyboardMap.get(categoryKeyboardMapKey);
         }
     }
 
+    // Returns the page count that the pager has been given, or 0 if the category isn't shown yet.
+    private int getShownPageCount(final int categoryId) {
+        for (final CategoryProperties prop : mShownCategories) {
+            if (prop.mCategoryId == categoryId) {
+                return prop.mPageCount;
+            }
+        }
+        return 0;
+    }
+
     public int getTotalPageCountOfAllCategories() {
         int sum = 0;
         for (CategoryProperties properties : mShownCategories) {
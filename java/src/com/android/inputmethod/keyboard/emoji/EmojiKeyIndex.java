@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.emoji;
+
+import com.android.inputmethod.keyboard.Key;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The index of the keys of the emoji categories that have been built, by code and by output text,
+ * which the recent keys are looked up in. The keys are added as the categories are built, which
+ * may be in background.
+ */
+final class EmojiKeyIndex {
+    private final ConcurrentHashMap<Integer, Key> mKeysByCode = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Key> mKeysByOutputText = new ConcurrentHashMap<>();
+
+    public void addKeys(@Nonnull final List<Key> keys) {
+        for (final Key key : keys) {
+            final String outputText = key.getOutputText();
+            // Keep the first key that has the code or the output text.
+            if (outputText != null) {
+                mKeysByOutputText.putIfAbsent(outputText, key);
+            } else {
+                mKeysByCode.putIfAbsent(key.getCode(), key);
+            }
+        }
+    }
+
+    @Nullable
+    public Key getKeyByCode(final int code) {
+        return mKeysByCode.get(code);
+    }
+
+    @Nullable
+    public Key getKeyByOutputText(@Nonnull final String outputText) {
+        return mKeysByOutputText.get(outputText);
+    }
+}
@@ -116,8 +116,9 @@ public final class EmojiPalettesView extends LinearLayout implements OnTabChange
         final KeyboardLayoutSet layoutSet = builder.build();
         final TypedArray emojiPalettesViewAttr = context.obtainStyledAttributes(attrs,
                 R.styleable.EmojiPalettesView, defStyle, R.style.EmojiPalettesView);
-        mEmojiCategory = new EmojiCategory(PreferenceManager.getDefaultSharedPreferences(context),
-                res, layoutSet, emojiPalettesViewAttr);
+        mEmojiCategory = new EmojiCategory(context,
+                PreferenceManager.getDefaultSharedPreferences(context), layoutSet,
+                emojiPalettesViewAttr);
         mCategoryIndicatorEnabled = emojiPalettesViewAttr.getBoolean(
                 R.styleable.EmojiPalettesView_categoryIndicatorEnabled, false);
         mCategoryIndicatorDrawableResId = emojiPalettesViewAttr.getResourceId(
@@ -397,6 +398,11 @@ public final class EmojiPalettesView extends LinearLayout implements OnTabChange
         mEmojiPager.setAdapter(null);
     }
 
+    public void flushRecentKeys() {
+        mEmojiPalettesAdapter.flushPendingRecentKeys();
+        mEmojiCategory.flushRecentKeys();
+    }
+
     public void setKeyboardActionListener(final KeyboardActionListener listener) {
         mKeyboardActionListener = listener;
         mDeleteKeyOnTouchListener.setKeyboardActionListener(listener);
@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.emoji;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.preference.PreferenceManager;
+import android.util.Log;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+import com.android.inputmethod.keyboard.internal.KeyboardFileCache;
+import com.android.inputmethod.latin.settings.Settings;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+import com.android.inputmethod.latin.utils.JsonUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The store of the recent emoji keys in a compact binary file in the app files directory.
+ *
+ * The recent keys change with every emoji that is typed. The store keeps the latest recent keys
+ * in memory and writes them behind, at most once in {@link #WRITE_DELAY_MILLIS} and when
+ * {@link #flush()} is called, so that typing emojis quickly doesn't write the file every time.
+ * A recent key is either the code of the key as an {@link Integer} or the output text of the key
+ * as a {@link String}. When there is no file yet, the recent keys that the older versions wrote
+ * as JSON in the preferences are loaded.
+ */
+final class EmojiRecentKeysStore {
+    private static final String TAG = EmojiRecentKeysStore.class.getSimpleName();
+
+    private static final String FILE_NAME = "emoji_recent_keys";
+    private static final String TEMP_FILE_NAME_SUFFIX = ".tmp";
+
+    private static final int MAGIC_NUMBER = 0x454D4A52; // "EMJR"
+    private static final int FORMAT_VERSION = 1;
+    private static final byte TYPE_CODE = 0;
+    private static final byte TYPE_OUTPUT_TEXT = 1;
+
+    private static final long WRITE_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static EmojiRecentKeysStore sInstance;
+
+    private final Object mLock = new Object();
+    @Nullable
+    private final File mFile;
+    @Nonnull
+    private final SharedPreferences mPrefs;
+    // The latest recent keys, or null if they haven't been loaded yet. Guarded by mLock.
+    private List<Object> mRecentKeys;
+    // The write of the latest recent keys that hasn't started yet. Guarded by mLock.
+    private ScheduledFuture<?> mPendingWrite;
+
+    private final Runnable mWriteTask = new Runnable() {
+        @Override
+        public void run() {
+            writeLatestRecentKeys();
+        }
+    };
+
+    @Nonnull
+    public static synchronized EmojiRecentKeysStore getInstance(@Nonnull final Context context) {
+        if (sInstance == null) {
+            final File filesDir = context.getFilesDir();
+            sInstance = new EmojiRecentKeysStore(
+                    (filesDir == null) ? null : new File(filesDir, FILE_NAME),
+                    PreferenceManager.getDefaultSharedPreferences(context));
+        }
+        return sInstance;
+    }
+
+    @UsedForTesting
+    EmojiRecentKeysStore(@Nullable final File file, @Nonnull final SharedPreferences prefs) {
+        mFile = file;
+        mPrefs = prefs;
+    }
+
+    /**
+     * Loads the recent keys. Only the first call reads them from the storage.
+     * @return the latest recent keys.
+     */
+    @Nonnull
+    public List<Object> load() {
+        synchronized (mLock) {
+            if (mRecentKeys == null) {
+                List<Object> recentKeys = (mFile == null) ? null : readFile(mFile);
+                if (recentKeys == null) {
+                    recentKeys = JsonUtils.jsonStrToList(Settings.readEmojiRecentKeys(mPrefs));
+                }
+                mRecentKeys = Collections.unmodifiableList(recentKeys);
+            }
+            return mRecentKeys;
+        }
+    }
+
+    /**
+     * Saves the recent keys. They are written after {@link #WRITE_DELAY_MILLIS}, together with
+     * the recent keys that are saved in the meantime.
+     * @param recentKeys the recent keys, which the caller must not modify anymore.
+     */
+    public void save(@Nonnull final List<Object> recentKeys) {
+        synchronized (mLock) {
+            mRecentKeys = Collections.unmodifiableList(recentKeys);
+            if (mPendingWrite == null) {
+                mPendingWrite = ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD)
+                        .schedule(mWriteTask, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the saved recent keys now, if they haven't been written yet.
+     */
+    public void flush() {
+        synchronized (mLock) {
+            // The write can't be canceled when it has started, and then it writes the latest keys.
+            if (mPendingWrite != null && mPendingWrite.cancel(false /* mayInterruptIfRunning */)) {
+                mPendingWrite = ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD)
+                        .schedule(mWriteTask, 0 /* delay */, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void writeLatestRecentKeys() {
+        final List<Object> recentKeys;
+        synchronized (mLock) {
+            mPendingWrite = null;
+            recentKeys = mRecentKeys;
+        }
+        if (mFile == null || recentKeys == null) {
+            return;
+        }
+        if (writeFile(mFile, recentKeys)) {
+            // The recent keys of the older versions have been migrated.
+            Settings.removeEmojiRecentKeys(mPrefs);
+        }
+    }
+
+    @Nullable
+    private static List<Object> readFile(@Nonnull final File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        FileInputStream inStream = null;
+        try {
+            inStream = new FileInputStream(file);
+            final FileChannel channel = inStream.getChannel();
+            final ByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0 /* position */, channel.size());
+            if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown format");
+            }
+            final int count = buffer.getInt();
+            if (count < 0) {
+                throw new IOException("Invalid count: " + count);
+            }
+            final ArrayList<Object> recentKeys = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final byte type = buffer.get();
+                if (type == TYPE_CODE) {
+                    recentKeys.add(buffer.getInt());
+                } else if (type == TYPE_OUTPUT_TEXT) {
+                    recentKeys.add(KeyboardFileCache.readString(buffer));
+                } else {
+                    throw new IOException("Invalid type: " + type);
+                }
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Trailing bytes: " + buffer.remaining());
+            }
+            return recentKeys;
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException e) {
+            Log.w(TAG, "Broken emoji recent keys file: " + file, e);
+            file.delete();
+            return null;
+        } finally {
+            if (inStream != null) {
+                try {
+                    inStream.close();
+                } catch (final IOException e) {
+                    // Ignore.
+                }
+            }
+        }
+    }
+
+    private static boolean writeFile(@Nonnull final File file,
+            @Nonnull final List<Object> recentKeys) {
+        // Write a temporary file and rename it, so that a reader never sees a partial file.
+        final File tempFile = new File(file.getPath() + TEMP_FILE_NAME_SUFFIX);
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(recentKeys.size());
+            for (final Object recentKey : recentKeys) {
+                if (recentKey instanceof Integer) {
+                    out.writeByte(TYPE_CODE);
+                    out.writeInt((Integer)recentKey);
+                } else {
+                    out.writeByte(TYPE_OUTPUT_TEXT);
+                    KeyboardFileCache.writeString(out, (String)recentKey);
+                }
+            }
+            out.close();
+            out = null;
+            if (!tempFile.renameTo(file)) {
+                Log.e(TAG, "Can't rename " + tempFile + " to " + file);
+                tempFile.delete();
+                return false;
+            }
+            return true;
+        } catch (final IOException e) {
+            Log.e(TAG, "Can't write emoji recent keys file: " + file, e);
+            tempFile.delete();
+            return false;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (final IOException e) {
+                    // Ignore.
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.internal;
+
+import android.content.res.TypedArray;
+import android.util.TypedValue;
+
+import com.android.inputmethod.latin.utils.ResourceUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The attributes of an element of a keyboard layout, indexed by the attributes of a styleable.
+ *
+ * The attributes are read from the keyboard layout XML through a {@link TypedArray}, or from
+ * {@link KeyboardLayoutsTable} when the layout has been compiled by tools/make-keyboard-layout.
+ * The accessors behave as the ones of {@link TypedArray} do.
+ */
+public abstract class ElementAttributes {
+    public abstract boolean hasValue(int index);
+
+    /**
+     * Returns the value of the attribute with its references resolved, or null if the attribute
+     * isn't defined. The returned value may be overwritten by the next call.
+     */
+    @Nullable
+    public abstract TypedValue peekValue(int index);
+
+    @Nullable
+    public abstract String getString(int index);
+
+    /**
+     * Returns the value of a string attribute that lists values separated by "|", as
+     * {@code getString(index).split("\\|")} does, or null if the attribute isn't defined. The
+     * returned array must not be modified.
+     */
+    @Nullable
+    public abstract String[] getStringArray(int index);
+
+    public abstract int getInt(int index, int defValue);
+
+    public abstract boolean getBoolean(int index, boolean defValue);
+
+    public abstract int getColor(int index, int defValue);
+
+    public abstract int getResourceId(int index, int defValue);
+
+    public abstract float getFraction(int index, int base, int pbase, float defValue);
+
+    public abstract float getDimension(int index, float defValue);
+
+    public abstract int getDimensionPixelSize(int index, int defValue);
+
+    public abstract int getIndexCount();
+
+    public abstract int getIndex(int at);
+
+    /**
+     * The same as {@link ResourceUtils#getFraction(TypedArray,int,float)}.
+     */
+    public float getFraction(final int index, final float defValue) {
+        final TypedValue value = peekValue(index);
+        if (value == null || !ResourceUtils.isFractionValue(value)) {
+            return defValue;
+        }
+        return getFraction(index, 1, 1, defValue);
+    }
+
+    /**
+     * The same as {@link ResourceUtils#getFraction(TypedArray,int)}.
+     */
+    public float getFraction(final int index) {
+        return getFraction(index, ResourceUtils.UNDEFINED_RATIO);
+    }
+
+    /**
+     * The same as {@link ResourceUtils#getDimensionPixelSize(TypedArray,int)}.
+     */
+    public int getDimensionPixelSize(final int index) {
+        final TypedValue value = peekValue(index);
+        if (value == null || !ResourceUtils.isDimensionValue(value)) {
+            return ResourceUtils.UNDEFINED_DIMENSION;
+        }
+        return getDimensionPixelSize(index, ResourceUtils.UNDEFINED_DIMENSION);
+    }
+
+    /**
+     * The same as {@link ResourceUtils#getDimensionOrFraction(TypedArray,int,int,float)}.
+     */
+    public float getDimensionOrFraction(final int index, final int base, final float defValue) {
+        final TypedValue value = peekValue(index);
+        if (value == null) {
+            return defValue;
+        }
+        if (ResourceUtils.isFractionValue(value)) {
+            return getFraction(index, base, base, defValue);
+        } else if (ResourceUtils.isDimensionValue(value)) {
+            return getDimension(index, defValue);
+        }
+        return defValue;
+    }
+
+    /**
+     * The same as {@link ResourceUtils#getEnumValue(TypedArray,int,int)}.
+     */
+    public int getEnumValue(final int index, final int defValue) {
+        final TypedValue value = peekValue(index);
+        if (value == null) {
+            return defValue;
+        }
+        if (ResourceUtils.isIntegerValue(value)) {
+            return getInt(index, defValue);
+        }
+        return defValue;
+    }
+
+    /**
+     * Returns the attributes of a {@link TypedArray}. They are valid until the array is recycled.
+     */
+    @Nonnull
+    public static ElementAttributes fromTypedArray(@Nonnull final TypedArray a) {
+        return new TypedArrayAttributes(a);
+    }
+
+    private static final class TypedArrayAttributes extends ElementAttributes {
+        private final TypedArray mArray;
+
+        TypedArrayAttributes(@Nonnull final TypedArray a) {
+            mArray = a;
+        }
+
+        @Override
+        public boolean hasValue(final int index) {
+            return mArray.hasValue(index);
+        }
+
+        @Override
+        @Nullable
+        public TypedValue peekValue(final int index) {
+            return mArray.peekValue(index);
+        }
+
+        @Override
+        @Nullable
+        public String getString(final int index) {
+            return mArray.getString(index);
+        }
+
+        @Override
+        @Nullable
+        public String[] getStringArray(final int index) {
+            final String value = mArray.getString(index);
+            return (value == null) ? null : value.split("\\|");
+        }
+
+        @Override
+        public int getInt(final int index, final int defValue) {
+            return mArray.getInt(index, defValue);
+        }
+
+        @Override
+        public boolean getBoolean(final int index, final boolean defValue) {
+            return mArray.getBoolean(index, defValue);
+        }
+
+        @Override
+        public int getColor(final int index, final int defValue) {
+            return mArray.getColor(index, defValue);
+        }
+
+        @Override
+        public int getResourceId(final int index, final int defValue) {
+            return mArray.getResourceId(index, defValue);
+        }
+
+        @Override
+        public float getFraction(final int index, final int base, final int pbase,
+                final float defValue) {
+            return mArray.getFraction(index, base, pbase, defValue);
+        }
+
+        @Override
+        public float getDimension(final int index, final float defValue) {
+            return mArray.getDimension(index, defValue);
+        }
+
+        @Override
+        public int getDimensionPixelSize(final int index, final int defValue) {
+            return mArray.getDimensionPixelSize(index, defValue);
+        }
+
+        @Override
+        public int getIndexCount() {
+            return mArray.getIndexCount();
+        }
+
+        @Override
+        public int getIndex(final int at) {
+            return mArray.getIndex(at);
+        }
+    }
+}
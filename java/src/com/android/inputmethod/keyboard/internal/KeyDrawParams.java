@@ -20,6 +20,8 @@ import android.graphics.Typeface;
 
 import com.android.inputmethod.latin.utils.ResourceUtils;
 
+import java.util.Arrays;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -53,7 +55,7 @@ public final class KeyDrawParams {
 
     public KeyDrawParams() {}
 
-    private KeyDrawParams(@Nonnull final KeyDrawParams copyFrom) {
+    public KeyDrawParams(@Nonnull final KeyDrawParams copyFrom) {
         mTypeface = copyFrom.mTypeface;
 
         mLetterSize = copyFrom.mLetterSize;
@@ -132,6 +134,60 @@ public final class KeyDrawParams {
         return newParams;
     }
 
+    // Note that {@link #mAnimAlpha} is not compared, because it is set every time a key is drawn.
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof KeyDrawParams)) return false;
+        final KeyDrawParams other = (KeyDrawParams)o;
+        return mTypeface.equals(other.mTypeface)
+                && mLetterSize == other.mLetterSize
+                && mLabelSize == other.mLabelSize
+                && mLargeLetterSize == other.mLargeLetterSize
+                && mHintLetterSize == other.mHintLetterSize
+                && mShiftedLetterHintSize == other.mShiftedLetterHintSize
+                && mHintLabelSize == other.mHintLabelSize
+                && mPreviewTextSize == other.mPreviewTextSize
+                && mTextColor == other.mTextColor
+                && mTextInactivatedColor == other.mTextInactivatedColor
+                && mTextShadowColor == other.mTextShadowColor
+                && mFunctionalTextColor == other.mFunctionalTextColor
+                && mHintLetterColor == other.mHintLetterColor
+                && mHintLabelColor == other.mHintLabelColor
+                && mShiftedLetterHintInactivatedColor == other.mShiftedLetterHintInactivatedColor
+                && mShiftedLetterHintActivatedColor == other.mShiftedLetterHintActivatedColor
+                && mPreviewTextColor == other.mPreviewTextColor
+                && mHintLabelVerticalAdjustment == other.mHintLabelVerticalAdjustment
+                && mLabelOffCenterRatio == other.mLabelOffCenterRatio
+                && mHintLabelOffCenterRatio == other.mHintLabelOffCenterRatio;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(new Object[] {
+                mTypeface,
+                mLetterSize,
+                mLabelSize,
+                mLargeLetterSize,
+                mHintLetterSize,
+                mShiftedLetterHintSize,
+                mHintLabelSize,
+                mPreviewTextSize,
+                mTextColor,
+                mTextInactivatedColor,
+                mTextShadowColor,
+                mFunctionalTextColor,
+                mHintLetterColor,
+                mHintLabelColor,
+                mShiftedLetterHintInactivatedColor,
+                mShiftedLetterHintActivatedColor,
+                mPreviewTextColor,
+                mHintLabelVerticalAdjustment,
+                mLabelOffCenterRatio,
+                mHintLabelOffCenterRatio,
+        });
+    }
+
     private static int selectTextSizeFromDimensionOrRatio(final int keyHeight,
             final int dimens, final float ratio, final int defaultDimens) {
         if (ResourceUtils.isValidDimensionPixelSize(dimens)) {
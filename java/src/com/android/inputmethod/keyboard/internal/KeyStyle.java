@@ -16,25 +16,23 @@
 
 package com.android.inputmethod.keyboard.internal;
 
-import android.content.res.TypedArray;
-
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 public abstract class KeyStyle {
     private final KeyboardTextsSet mTextsSet;
 
-    public abstract @Nullable String[] getStringArray(TypedArray a, int index);
-    public abstract @Nullable String getString(TypedArray a, int index);
-    public abstract int getInt(TypedArray a, int index, int defaultValue);
-    public abstract int getFlags(TypedArray a, int index);
+    public abstract @Nullable String[] getStringArray(ElementAttributes a, int index);
+    public abstract @Nullable String getString(ElementAttributes a, int index);
+    public abstract int getInt(ElementAttributes a, int index, int defaultValue);
+    public abstract int getFlags(ElementAttributes a, int index);
 
     protected KeyStyle(@Nonnull final KeyboardTextsSet textsSet) {
         mTextsSet = textsSet;
     }
 
     @Nullable
-    protected String parseString(final TypedArray a, final int index) {
+    protected String parseString(final ElementAttributes a, final int index) {
         if (a.hasValue(index)) {
             return mTextsSet.resolveTextReference(a.getString(index));
         }
@@ -42,7 +40,7 @@ public abstract class KeyStyle {
     }
 
     @Nullable
-    protected String[] parseStringArray(final TypedArray a, final int index) {
+    protected String[] parseStringArray(final ElementAttributes a, final int index) {
         if (a.hasValue(index)) {
             final String text = mTextsSet.resolveTextReference(a.getString(index));
             return MoreKeySpec.splitKeySpecs(text);
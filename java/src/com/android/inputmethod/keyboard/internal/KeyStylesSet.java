@@ -16,7 +16,6 @@
 
 package com.android.inputmethod.keyboard.internal;
 
-import android.content.res.TypedArray;
 import android.util.Log;
 import android.util.SparseArray;
 
@@ -59,23 +58,23 @@ public final class KeyStylesSet {
 
         @Override
         @Nullable
-        public String[] getStringArray(final TypedArray a, final int index) {
+        public String[] getStringArray(final ElementAttributes a, final int index) {
             return parseStringArray(a, index);
         }
 
         @Override
         @Nullable
-        public String getString(final TypedArray a, final int index) {
+        public String getString(final ElementAttributes a, final int index) {
             return parseString(a, index);
         }
 
         @Override
-        public int getInt(final TypedArray a, final int index, final int defaultValue) {
+        public int getInt(final ElementAttributes a, final int index, final int defaultValue) {
             return a.getInt(index, defaultValue);
         }
 
         @Override
-        public int getFlags(final TypedArray a, final int index) {
+        public int getFlags(final ElementAttributes a, final int index) {
             return a.getInt(index, 0);
         }
     }
@@ -95,7 +94,7 @@ public final class KeyStylesSet {
 
         @Override
         @Nullable
-        public String[] getStringArray(final TypedArray a, final int index) {
+        public String[] getStringArray(final ElementAttributes a, final int index) {
             if (a.hasValue(index)) {
                 return parseStringArray(a, index);
             }
@@ -110,7 +109,7 @@ public final class KeyStylesSet {
 
         @Override
         @Nullable
-        public String getString(final TypedArray a, final int index) {
+        public String getString(final ElementAttributes a, final int index) {
             if (a.hasValue(index)) {
                 return parseString(a, index);
             }
@@ -123,7 +122,7 @@ public final class KeyStylesSet {
         }
 
         @Override
-        public int getInt(final TypedArray a, final int index, final int defaultValue) {
+        public int getInt(final ElementAttributes a, final int index, final int defaultValue) {
             if (a.hasValue(index)) {
                 return a.getInt(index, defaultValue);
             }
@@ -136,7 +135,7 @@ public final class KeyStylesSet {
         }
 
         @Override
-        public int getFlags(final TypedArray a, final int index) {
+        public int getFlags(final ElementAttributes a, final int index) {
             final int parentFlags = mStyles.get(mParentStyleName).getFlags(a, index);
             final Integer value = (Integer)mStyleAttributes.get(index);
             final int styleFlags = (value != null) ? value : 0;
@@ -144,7 +143,7 @@ public final class KeyStylesSet {
             return flags | styleFlags | parentFlags;
         }
 
-        public void readKeyAttributes(final TypedArray keyAttr) {
+        public void readKeyAttributes(final ElementAttributes keyAttr) {
             // TODO: Currently not all Key attributes can be declared as style.
             readString(keyAttr, R.styleable.Keyboard_Key_altCode);
             readString(keyAttr, R.styleable.Keyboard_Key_keySpec);
@@ -158,19 +157,19 @@ public final class KeyStylesSet {
             readFlags(keyAttr, R.styleable.Keyboard_Key_keyActionFlags);
         }
 
-        private void readString(final TypedArray a, final int index) {
+        private void readString(final ElementAttributes a, final int index) {
             if (a.hasValue(index)) {
                 mStyleAttributes.put(index, parseString(a, index));
             }
         }
 
-        private void readInt(final TypedArray a, final int index) {
+        private void readInt(final ElementAttributes a, final int index) {
             if (a.hasValue(index)) {
                 mStyleAttributes.put(index, a.getInt(index, 0));
             }
         }
 
-        private void readFlags(final TypedArray a, final int index) {
+        private void readFlags(final ElementAttributes a, final int index) {
             if (a.hasValue(index)) {
                 final Integer value = (Integer)mStyleAttributes.get(index);
                 final int styleFlags = value != null ? value : 0;
@@ -178,15 +177,16 @@ public final class KeyStylesSet {
             }
         }
 
-        private void readStringArray(final TypedArray a, final int index) {
+        private void readStringArray(final ElementAttributes a, final int index) {
             if (a.hasValue(index)) {
                 mStyleAttributes.put(index, parseStringArray(a, index));
             }
         }
     }
 
-    public void parseKeyStyleAttributes(final TypedArray keyStyleAttr, final TypedArray keyAttrs,
-            final XmlPullParser parser) throws XmlPullParserException {
+    public void parseKeyStyleAttributes(final ElementAttributes keyStyleAttr,
+            final ElementAttributes keyAttrs, final XmlPullParser parser)
+            throws XmlPullParserException {
         final String styleName = keyStyleAttr.getString(R.styleable.Keyboard_KeyStyle_styleName);
         if (styleName == null) {
             throw new XmlParseUtils.ParseException(
@@ -207,24 +207,45 @@ public final class KeyStylesSet {
             throw new XmlParseUtils.ParseException(
                     "Unknown parentStyle " + parentStyleInAttr, parser);
         }
-        final String parentStyleName = (parentStyleInAttr == null) ? EMPTY_STYLE_NAME
-                : parentStyleInAttr;
-        final DeclaredKeyStyle style = new DeclaredKeyStyle(parentStyleName, mTextsSet, mStyles);
+        addKeyStyle(styleName, parentStyleInAttr, keyAttrs);
+    }
+
+    public boolean hasKeyStyle(@Nonnull final String styleName) {
+        return mStyles.containsKey(styleName);
+    }
+
+    /**
+     * Declares a key style whose parent style, if any, has been declared.
+     */
+    public void addKeyStyle(@Nonnull final String styleName,
+            @Nullable final String parentStyleName, final ElementAttributes keyAttrs) {
+        final DeclaredKeyStyle style = new DeclaredKeyStyle(
+                (parentStyleName == null) ? EMPTY_STYLE_NAME : parentStyleName, mTextsSet,
+                mStyles);
         style.readKeyAttributes(keyAttrs);
         mStyles.put(styleName, style);
     }
 
     @Nonnull
-    public KeyStyle getKeyStyle(final TypedArray keyAttr, final XmlPullParser parser)
+    public KeyStyle getKeyStyle(final ElementAttributes keyAttr, final XmlPullParser parser)
             throws XmlParseUtils.ParseException {
+        final KeyStyle style = findKeyStyle(keyAttr);
+        if (style == null) {
+            throw new XmlParseUtils.ParseException("Unknown key style: "
+                    + keyAttr.getString(R.styleable.Keyboard_Key_keyStyle), parser);
+        }
+        return style;
+    }
+
+    /**
+     * Returns the key style of a key, or null if the key style hasn't been declared.
+     */
+    @Nullable
+    public KeyStyle findKeyStyle(final ElementAttributes keyAttr) {
         final String styleName = keyAttr.getString(R.styleable.Keyboard_Key_keyStyle);
         if (styleName == null) {
             return mEmptyKeyStyle;
         }
-        final KeyStyle style = mStyles.get(styleName);
-        if (style == null) {
-            throw new XmlParseUtils.ParseException("Unknown key style: " + styleName, parser);
-        }
-        return style;
+        return mStyles.get(styleName);
     }
 }
@@ -21,7 +21,10 @@ import android.graphics.Typeface;
 import android.util.SparseIntArray;
 
 import com.android.inputmethod.latin.R;
-import com.android.inputmethod.latin.utils.ResourceUtils;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -87,6 +90,11 @@ public final class KeyVisualAttributes {
 
     @Nullable
     public static KeyVisualAttributes newInstance(@Nonnull final TypedArray keyAttr) {
+        return newInstance(ElementAttributes.fromTypedArray(keyAttr));
+    }
+
+    @Nullable
+    public static KeyVisualAttributes newInstance(@Nonnull final ElementAttributes keyAttr) {
         final int indexCount = keyAttr.getIndexCount();
         for (int i = 0; i < indexCount; i++) {
             final int attrId = keyAttr.getIndex(i);
@@ -98,7 +106,7 @@ public final class KeyVisualAttributes {
         return null;
     }
 
-    private KeyVisualAttributes(@Nonnull final TypedArray keyAttr) {
+    private KeyVisualAttributes(@Nonnull final ElementAttributes keyAttr) {
         if (keyAttr.hasValue(R.styleable.Keyboard_Key_keyTypeface)) {
             mTypeface = Typeface.defaultFromStyle(
                     keyAttr.getInt(R.styleable.Keyboard_Key_keyTypeface, Typeface.NORMAL));
@@ -106,24 +114,16 @@ public final class KeyVisualAttributes {
             mTypeface = null;
         }
 
-        mLetterRatio = ResourceUtils.getFraction(keyAttr,
-                R.styleable.Keyboard_Key_keyLetterSize);
-        mLetterSize = ResourceUtils.getDimensionPixelSize(keyAttr,
-                R.styleable.Keyboard_Key_keyLetterSize);
-        mLabelRatio = ResourceUtils.getFraction(keyAttr,
-                R.styleable.Keyboard_Key_keyLabelSize);
-        mLabelSize = ResourceUtils.getDimensionPixelSize(keyAttr,
-                R.styleable.Keyboard_Key_keyLabelSize);
-        mLargeLetterRatio = ResourceUtils.getFraction(keyAttr,
-                R.styleable.Keyboard_Key_keyLargeLetterRatio);
-        mHintLetterRatio = ResourceUtils.getFraction(keyAttr,
-                R.styleable.Keyboard_Key_keyHintLetterRatio);
-        mShiftedLetterHintRatio = ResourceUtils.getFraction(keyAttr,
+        mLetterRatio = keyAttr.getFraction(R.styleable.Keyboard_Key_keyLetterSize);
+        mLetterSize = keyAttr.getDimensionPixelSize(R.styleable.Keyboard_Key_keyLetterSize);
+        mLabelRatio = keyAttr.getFraction(R.styleable.Keyboard_Key_keyLabelSize);
+        mLabelSize = keyAttr.getDimensionPixelSize(R.styleable.Keyboard_Key_keyLabelSize);
+        mLargeLetterRatio = keyAttr.getFraction(R.styleable.Keyboard_Key_keyLargeLetterRatio);
+        mHintLetterRatio = keyAttr.getFraction(R.styleable.Keyboard_Key_keyHintLetterRatio);
+        mShiftedLetterHintRatio = keyAttr.getFraction(
                 R.styleable.Keyboard_Key_keyShiftedLetterHintRatio);
-        mHintLabelRatio = ResourceUtils.getFraction(keyAttr,
-                R.styleable.Keyboard_Key_keyHintLabelRatio);
-        mPreviewTextRatio = ResourceUtils.getFraction(keyAttr,
-                R.styleable.Keyboard_Key_keyPreviewTextRatio);
+        mHintLabelRatio = keyAttr.getFraction(R.styleable.Keyboard_Key_keyHintLabelRatio);
+        mPreviewTextRatio = keyAttr.getFraction(R.styleable.Keyboard_Key_keyPreviewTextRatio);
 
         mTextColor = keyAttr.getColor(R.styleable.Keyboard_Key_keyTextColor, 0);
         mTextInactivatedColor = keyAttr.getColor(
@@ -138,11 +138,82 @@ public final class KeyVisualAttributes {
                 R.styleable.Keyboard_Key_keyShiftedLetterHintActivatedColor, 0);
         mPreviewTextColor = keyAttr.getColor(R.styleable.Keyboard_Key_keyPreviewTextColor, 0);
 
-        mHintLabelVerticalAdjustment = ResourceUtils.getFraction(keyAttr,
+        mHintLabelVerticalAdjustment = keyAttr.getFraction(
                 R.styleable.Keyboard_Key_keyHintLabelVerticalAdjustment, 0.0f);
-        mLabelOffCenterRatio = ResourceUtils.getFraction(keyAttr,
+        mLabelOffCenterRatio = keyAttr.getFraction(
                 R.styleable.Keyboard_Key_keyLabelOffCenterRatio, 0.0f);
-        mHintLabelOffCenterRatio = ResourceUtils.getFraction(keyAttr,
+        mHintLabelOffCenterRatio = keyAttr.getFraction(
                 R.styleable.Keyboard_Key_keyHintLabelOffCenterRatio, 0.0f);
     }
+
+    private static final int NO_TYPEFACE = -1;
+
+    private KeyVisualAttributes(@Nonnull final ByteBuffer buffer) {
+        final int typefaceStyle = buffer.getInt();
+        mTypeface = (typefaceStyle == NO_TYPEFACE) ? null
+                : Typeface.defaultFromStyle(typefaceStyle);
+        mLetterRatio = buffer.getFloat();
+        mLetterSize = buffer.getInt();
+        mLabelRatio = buffer.getFloat();
+        mLabelSize = buffer.getInt();
+        mLargeLetterRatio = buffer.getFloat();
+        mHintLetterRatio = buffer.getFloat();
+        mShiftedLetterHintRatio = buffer.getFloat();
+        mHintLabelRatio = buffer.getFloat();
+        mPreviewTextRatio = buffer.getFloat();
+
+        mTextColor = buffer.getInt();
+        mTextInactivatedColor = buffer.getInt();
+        mTextShadowColor = buffer.getInt();
+        mFunctionalTextColor = buffer.getInt();
+        mHintLetterColor = buffer.getInt();
+        mHintLabelColor = buffer.getInt();
+        mShiftedLetterHintInactivatedColor = buffer.getInt();
+        mShiftedLetterHintActivatedColor = buffer.getInt();
+        mPreviewTextColor = buffer.getInt();
+
+        mHintLabelVerticalAdjustment = buffer.getFloat();
+        mLabelOffCenterRatio = buffer.getFloat();
+        mHintLabelOffCenterRatio = buffer.getFloat();
+    }
+
+    /**
+     * Reads the attributes that {@link #writeTo(DataOutput,KeyVisualAttributes)} has written.
+     */
+    @Nullable
+    public static KeyVisualAttributes readFrom(@Nonnull final ByteBuffer buffer) {
+        return (buffer.get() != 0) ? new KeyVisualAttributes(buffer) : null;
+    }
+
+    public static void writeTo(@Nonnull final DataOutput out,
+            @Nullable final KeyVisualAttributes attrs) throws IOException {
+        out.writeByte(attrs != null ? 1 : 0);
+        if (attrs == null) {
+            return;
+        }
+        out.writeInt(attrs.mTypeface != null ? attrs.mTypeface.getStyle() : NO_TYPEFACE);
+        out.writeFloat(attrs.mLetterRatio);
+        out.writeInt(attrs.mLetterSize);
+        out.writeFloat(attrs.mLabelRatio);
+        out.writeInt(attrs.mLabelSize);
+        out.writeFloat(attrs.mLargeLetterRatio);
+        out.writeFloat(attrs.mHintLetterRatio);
+        out.writeFloat(attrs.mShiftedLetterHintRatio);
+        out.writeFloat(attrs.mHintLabelRatio);
+        out.writeFloat(attrs.mPreviewTextRatio);
+
+        out.writeInt(attrs.mTextColor);
+        out.writeInt(attrs.mTextInactivatedColor);
+        out.writeInt(attrs.mTextShadowColor);
+        out.writeInt(attrs.mFunctionalTextColor);
+        out.writeInt(attrs.mHintLetterColor);
+        out.writeInt(attrs.mHintLabelColor);
+        out.writeInt(attrs.mShiftedLetterHintInactivatedColor);
+        out.writeInt(attrs.mShiftedLetterHintActivatedColor);
+        out.writeInt(attrs.mPreviewTextColor);
+
+        out.writeFloat(attrs.mHintLabelVerticalAdjustment);
+        out.writeFloat(attrs.mLabelOffCenterRatio);
+        out.writeFloat(attrs.mHintLabelOffCenterRatio);
+    }
 }
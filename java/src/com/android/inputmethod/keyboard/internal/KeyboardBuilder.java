@@ -47,6 +47,7 @@ import java.util.Arrays;
 import java.util.Locale;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Keyboard Building helper.
@@ -144,6 +145,9 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
     protected final Context mContext;
     protected final Resources mResources;
 
+    private boolean mCompiledLayoutEnabled = true;
+    private final TypedValue mLayoutPathValue = new TypedValue();
+
     private int mCurrentY = 0;
     private KeyboardRow mCurrentRow = null;
     private boolean mLeftEdge;
@@ -169,7 +173,39 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
         mParams.mId = id;
         final XmlResourceParser parser = mResources.getXml(xmlId);
         try {
-            parseKeyboard(parser);
+            final KeyboardLayoutElement[] compiledLayout = getCompiledLayout(xmlId);
+            if (compiledLayout != null) {
+                // Only the keyboard content has been compiled. The attributes of the root
+                // element depend on the theme.
+                parseKeyboardRoot(parser);
+                startKeyboard();
+                buildKeyboardContent(compiledLayout);
+                endKeyboard();
+            } else {
+                parseKeyboard(parser);
+            }
+        } catch (XmlPullParserException e) {
+            Log.w(BUILDER_TAG, "keyboard XML parse error", e);
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (IOException e) {
+            Log.w(BUILDER_TAG, "keyboard XML parse error", e);
+            throw new RuntimeException(e.getMessage(), e);
+        } finally {
+            parser.close();
+        }
+        return this;
+    }
+
+    /**
+     * Loads a keyboard whose keys have been read from {@link KeyboardFileCache}. Only the
+     * attributes of the root element of the keyboard XML are parsed.
+     */
+    public KeyboardBuilder<KP> load(final int xmlId, final KeyboardId id,
+            @Nonnull final KeyboardFileCache.CachedKeyboard cachedKeyboard) {
+        mParams.mId = id;
+        final XmlResourceParser parser = mResources.getXml(xmlId);
+        try {
+            parseKeyboardRoot(parser);
         } catch (XmlPullParserException e) {
             Log.w(BUILDER_TAG, "keyboard XML parse error", e);
             throw new IllegalArgumentException(e.getMessage(), e);
@@ -179,9 +215,34 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
         } finally {
             parser.close();
         }
+        // The cached keys have been filtered by {@link KeyboardParams#removeRedundantMoreKeys()}
+        // already.
+        for (final Key key : cachedKeyboard.mSortedKeys) {
+            mParams.onAddKey(key);
+        }
+        mParams.mOccupiedHeight = cachedKeyboard.mOccupiedHeight;
+        mParams.mMostCommonKeyHeight = cachedKeyboard.mMostCommonKeyHeight;
+        mParams.mMostCommonKeyWidth = cachedKeyboard.mMostCommonKeyWidth;
         return this;
     }
 
+    // Returns the layout that tools/make-keyboard-layout has compiled from the keyboard layout XML
+    // that the resource configuration selects, or null if it hasn't been compiled.
+    @Nullable
+    private KeyboardLayoutElement[] getCompiledLayout(final int xmlId) {
+        if (!mCompiledLayoutEnabled) {
+            return null;
+        }
+        mResources.getValue(xmlId, mLayoutPathValue, true /* resolveRefs */);
+        final CharSequence layoutPath = mLayoutPathValue.string;
+        return (layoutPath == null) ? null : KeyboardLayoutsTable.getLayout(layoutPath.toString());
+    }
+
+    @UsedForTesting
+    public void disableCompiledLayoutForTest() {
+        mCompiledLayoutEnabled = false;
+    }
+
     @UsedForTesting
     public void disableTouchPositionCorrectionDataForTest() {
         mParams.mTouchPositionCorrection.setEnabled(false);
@@ -234,6 +295,21 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
         }
     }
 
+    private void parseKeyboardRoot(final XmlPullParser parser)
+            throws XmlPullParserException, IOException {
+        while (parser.getEventType() != XmlPullParser.END_DOCUMENT) {
+            final int event = parser.next();
+            if (event == XmlPullParser.START_TAG) {
+                final String tag = parser.getName();
+                if (TAG_KEYBOARD.equals(tag)) {
+                    parseKeyboardAttributes(parser);
+                    return;
+                }
+                throw new XmlParseUtils.IllegalStartTag(parser, tag, TAG_KEYBOARD);
+            }
+        }
+    }
+
     private void parseKeyboardAttributes(final XmlPullParser parser) {
         final AttributeSet attr = Xml.asAttributeSet(parser);
         final TypedArray keyboardAttr = mContext.obtainStyledAttributes(
@@ -339,6 +415,7 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             throws XmlPullParserException {
         final AttributeSet attr = Xml.asAttributeSet(parser);
         final TypedArray keyboardAttr = mResources.obtainAttributes(attr, R.styleable.Keyboard);
+        final TypedArray keyAttr = mResources.obtainAttributes(attr, R.styleable.Keyboard_Key);
         try {
             if (keyboardAttr.hasValue(R.styleable.Keyboard_horizontalGap)) {
                 throw new XmlParseUtils.IllegalAttribute(parser, TAG_ROW, "horizontalGap");
@@ -346,8 +423,10 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             if (keyboardAttr.hasValue(R.styleable.Keyboard_verticalGap)) {
                 throw new XmlParseUtils.IllegalAttribute(parser, TAG_ROW, "verticalGap");
             }
-            return new KeyboardRow(mResources, mParams, parser, mCurrentY);
+            return new KeyboardRow(mParams, ElementAttributes.fromTypedArray(keyboardAttr),
+                    ElementAttributes.fromTypedArray(keyAttr), mCurrentY);
         } finally {
+            keyAttr.recycle();
             keyboardAttr.recycle();
         }
     }
@@ -397,29 +476,46 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             }
             return;
         }
-        final KeyboardRow gridRows = new KeyboardRow(mResources, mParams, parser, mCurrentY);
+        final AttributeSet attr = Xml.asAttributeSet(parser);
+        final TypedArray keyboardAttr = mResources.obtainAttributes(attr, R.styleable.Keyboard);
+        final TypedArray keyAttr = mResources.obtainAttributes(attr, R.styleable.Keyboard_Key);
         final TypedArray gridRowAttr = mResources.obtainAttributes(
-                Xml.asAttributeSet(parser), R.styleable.Keyboard_GridRows);
-        final int codesArrayId = gridRowAttr.getResourceId(
-                R.styleable.Keyboard_GridRows_codesArray, 0);
-        final int textsArrayId = gridRowAttr.getResourceId(
-                R.styleable.Keyboard_GridRows_textsArray, 0);
-        gridRowAttr.recycle();
-        if (codesArrayId == 0 && textsArrayId == 0) {
-            throw new XmlParseUtils.ParseException(
-                    "Missing codesArray or textsArray attributes", parser);
-        }
-        if (codesArrayId != 0 && textsArrayId != 0) {
-            throw new XmlParseUtils.ParseException(
-                    "Both codesArray and textsArray attributes specifed", parser);
+                attr, R.styleable.Keyboard_GridRows);
+        try {
+            final int codesArrayId = gridRowAttr.getResourceId(
+                    R.styleable.Keyboard_GridRows_codesArray, 0);
+            final int textsArrayId = gridRowAttr.getResourceId(
+                    R.styleable.Keyboard_GridRows_textsArray, 0);
+            if (codesArrayId == 0 && textsArrayId == 0) {
+                throw new XmlParseUtils.ParseException(
+                        "Missing codesArray or textsArray attributes", parser);
+            }
+            if (codesArrayId != 0 && textsArrayId != 0) {
+                throw new XmlParseUtils.ParseException(
+                        "Both codesArray and textsArray attributes specifed", parser);
+            }
+            addGridRows(ElementAttributes.fromTypedArray(keyboardAttr),
+                    ElementAttributes.fromTypedArray(keyAttr), codesArrayId, textsArrayId);
+        } finally {
+            gridRowAttr.recycle();
+            keyAttr.recycle();
+            keyboardAttr.recycle();
         }
+        XmlParseUtils.checkEndTag(TAG_GRID_ROWS, parser);
+    }
+
+    // Adds the rows of keys of a <GridRows> element, whose keys are listed by either codesArray or
+    // textsArray.
+    private void addGridRows(final ElementAttributes keyboardAttr,
+            final ElementAttributes keyAttr, final int codesArrayId, final int textsArrayId) {
+        final KeyboardRow gridRows = new KeyboardRow(mParams, keyboardAttr, keyAttr, mCurrentY);
         final String[] array = mResources.getStringArray(
                 codesArrayId != 0 ? codesArrayId : textsArrayId);
         final int counts = array.length;
         final float keyWidth = gridRows.getKeyWidth(null, 0.0f);
         final int numColumns = (int)(mParams.mOccupiedWidth / keyWidth);
         for (int index = 0; index < counts; index += numColumns) {
-            final KeyboardRow row = new KeyboardRow(mResources, mParams, parser, mCurrentY);
+            final KeyboardRow row = new KeyboardRow(mParams, keyboardAttr, keyAttr, mCurrentY);
             startRow(row);
             for (int c = 0; c < numColumns; c++) {
                 final int i = index + c;
@@ -464,7 +560,6 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             endRow(row);
         }
 
-        XmlParseUtils.checkEndTag(TAG_GRID_ROWS, parser);
     }
 
     private void parseKey(final XmlPullParser parser, final KeyboardRow row, final boolean skip)
@@ -474,15 +569,16 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             if (DEBUG) startEndTag("<%s /> skipped", TAG_KEY);
             return;
         }
-        final TypedArray keyAttr = mResources.obtainAttributes(
+        final TypedArray keyArray = mResources.obtainAttributes(
                 Xml.asAttributeSet(parser), R.styleable.Keyboard_Key);
+        final ElementAttributes keyAttr = ElementAttributes.fromTypedArray(keyArray);
         final KeyStyle keyStyle = mParams.mKeyStyles.getKeyStyle(keyAttr, parser);
         final String keySpec = keyStyle.getString(keyAttr, R.styleable.Keyboard_Key_keySpec);
         if (TextUtils.isEmpty(keySpec)) {
             throw new ParseException("Empty keySpec", parser);
         }
         final Key key = new Key(keySpec, keyAttr, keyStyle, mParams, row);
-        keyAttr.recycle();
+        keyArray.recycle();
         if (DEBUG) {
             startEndTag("<%s%s %s moreKeys=%s />", TAG_KEY, (key.isEnabled() ? "" : " disabled"),
                     key, Arrays.toString(key.getMoreKeys()));
@@ -498,11 +594,12 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             if (DEBUG) startEndTag("<%s /> skipped", TAG_SPACER);
             return;
         }
-        final TypedArray keyAttr = mResources.obtainAttributes(
+        final TypedArray keyArray = mResources.obtainAttributes(
                 Xml.asAttributeSet(parser), R.styleable.Keyboard_Key);
+        final ElementAttributes keyAttr = ElementAttributes.fromTypedArray(keyArray);
         final KeyStyle keyStyle = mParams.mKeyStyles.getKeyStyle(keyAttr, parser);
         final Key spacer = new Key.Spacer(keyAttr, keyStyle, mParams, row);
-        keyAttr.recycle();
+        keyArray.recycle();
         if (DEBUG) startEndTag("<%s />", TAG_SPACER);
         XmlParseUtils.checkEndTag(TAG_SPACER, parser);
         endKey(spacer);
@@ -537,10 +634,11 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             keyboardLayout = keyboardAttr.getResourceId(
                     R.styleable.Keyboard_Include_keyboardLayout, 0);
             if (row != null) {
+                final ElementAttributes rowKeyAttr = ElementAttributes.fromTypedArray(keyAttr);
                 // Override current x coordinate.
-                row.setXPos(row.getKeyX(keyAttr));
+                row.setXPos(row.getKeyX(rowKeyAttr));
                 // Push current Row attributes and update with new attributes.
-                row.pushRowAttributes(keyAttr);
+                row.pushRowAttributes(rowKeyAttr);
             }
         } finally {
             keyboardAttr.recycle();
@@ -640,130 +738,140 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             return true;
         }
         final AttributeSet attr = Xml.asAttributeSet(parser);
-        final TypedArray caseAttr = mResources.obtainAttributes(attr, R.styleable.Keyboard_Case);
+        final TypedArray caseArray = mResources.obtainAttributes(attr, R.styleable.Keyboard_Case);
         try {
-            final boolean keyboardLayoutSetMatched = matchString(caseAttr,
-                    R.styleable.Keyboard_Case_keyboardLayoutSet,
-                    id.mSubtype.getKeyboardLayoutSetName());
-            final boolean keyboardLayoutSetElementMatched = matchTypedValue(caseAttr,
-                    R.styleable.Keyboard_Case_keyboardLayoutSetElement, id.mElementId,
-                    KeyboardId.elementIdToName(id.mElementId));
-            final boolean keyboardThemeMacthed = matchTypedValue(caseAttr,
-                    R.styleable.Keyboard_Case_keyboardTheme, mParams.mThemeId,
-                    KeyboardTheme.getKeyboardThemeName(mParams.mThemeId));
-            final boolean modeMatched = matchTypedValue(caseAttr,
-                    R.styleable.Keyboard_Case_mode, id.mMode, KeyboardId.modeName(id.mMode));
-            final boolean navigateNextMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_navigateNext, id.navigateNext());
-            final boolean navigatePreviousMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_navigatePrevious, id.navigatePrevious());
-            final boolean passwordInputMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_passwordInput, id.passwordInput());
-            final boolean clobberSettingsKeyMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_clobberSettingsKey, id.mClobberSettingsKey);
-            final boolean hasShortcutKeyMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_hasShortcutKey, id.mHasShortcutKey);
-            final boolean languageSwitchKeyEnabledMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_languageSwitchKeyEnabled,
-                    id.mLanguageSwitchKeyEnabled);
-            final boolean isMultiLineMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_isMultiLine, id.isMultiLine());
-            final boolean imeActionMatched = matchInteger(caseAttr,
-                    R.styleable.Keyboard_Case_imeAction, id.imeAction());
-            final boolean isIconDefinedMatched = isIconDefined(caseAttr,
-                    R.styleable.Keyboard_Case_isIconDefined, mParams.mIconsSet);
-            final Locale locale = id.getLocale();
-            final boolean localeCodeMatched = matchLocaleCodes(caseAttr, locale);
-            final boolean languageCodeMatched = matchLanguageCodes(caseAttr, locale);
-            final boolean countryCodeMatched = matchCountryCodes(caseAttr, locale);
-            final boolean splitLayoutMatched = matchBoolean(caseAttr,
-                    R.styleable.Keyboard_Case_isSplitLayout, id.mIsSplitLayout);
-            final boolean selected = keyboardLayoutSetMatched && keyboardLayoutSetElementMatched
-                    && keyboardThemeMacthed && modeMatched && navigateNextMatched
-                    && navigatePreviousMatched && passwordInputMatched && clobberSettingsKeyMatched
-                    && hasShortcutKeyMatched  && languageSwitchKeyEnabledMatched
-                    && isMultiLineMatched && imeActionMatched && isIconDefinedMatched
-                    && localeCodeMatched && languageCodeMatched && countryCodeMatched
-                    && splitLayoutMatched;
+            return matchCaseCondition(ElementAttributes.fromTypedArray(caseArray));
+        } finally {
+            caseArray.recycle();
+        }
+    }
 
-            if (DEBUG) {
-                startTag("<%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s>%s", TAG_CASE,
-                        textAttr(caseAttr.getString(
-                                R.styleable.Keyboard_Case_keyboardLayoutSet), "keyboardLayoutSet"),
-                        textAttr(caseAttr.getString(
-                                R.styleable.Keyboard_Case_keyboardLayoutSetElement),
-                                "keyboardLayoutSetElement"),
-                        textAttr(caseAttr.getString(
-                                R.styleable.Keyboard_Case_keyboardTheme), "keyboardTheme"),
-                        textAttr(caseAttr.getString(R.styleable.Keyboard_Case_mode), "mode"),
-                        textAttr(caseAttr.getString(R.styleable.Keyboard_Case_imeAction),
-                                "imeAction"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_navigateNext,
-                                "navigateNext"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_navigatePrevious,
-                                "navigatePrevious"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_clobberSettingsKey,
-                                "clobberSettingsKey"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_passwordInput,
-                                "passwordInput"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_hasShortcutKey,
-                                "hasShortcutKey"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_languageSwitchKeyEnabled,
-                                "languageSwitchKeyEnabled"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_isMultiLine,
-                                "isMultiLine"),
-                        booleanAttr(caseAttr, R.styleable.Keyboard_Case_isSplitLayout,
-                                "splitLayout"),
-                        textAttr(caseAttr.getString(R.styleable.Keyboard_Case_isIconDefined),
-                                "isIconDefined"),
-                        textAttr(caseAttr.getString(R.styleable.Keyboard_Case_localeCode),
-                                "localeCode"),
-                        textAttr(caseAttr.getString(R.styleable.Keyboard_Case_languageCode),
-                                "languageCode"),
-                        textAttr(caseAttr.getString(R.styleable.Keyboard_Case_countryCode),
-                                "countryCode"),
-                        selected ? "" : " skipped");
-            }
+    private boolean matchCaseCondition(final ElementAttributes caseAttr) {
+        final KeyboardId id = mParams.mId;
+        if (id == null) {
+            return true;
+        }
+        final boolean keyboardLayoutSetMatched = matchString(caseAttr,
+                R.styleable.Keyboard_Case_keyboardLayoutSet,
+                id.mSubtype.getKeyboardLayoutSetName());
+        final boolean keyboardLayoutSetElementMatched = matchTypedValue(caseAttr,
+                R.styleable.Keyboard_Case_keyboardLayoutSetElement, id.mElementId,
+                KeyboardId.elementIdToName(id.mElementId));
+        final boolean keyboardThemeMacthed = matchTypedValue(caseAttr,
+                R.styleable.Keyboard_Case_keyboardTheme, mParams.mThemeId,
+                KeyboardTheme.getKeyboardThemeName(mParams.mThemeId));
+        final boolean modeMatched = matchTypedValue(caseAttr,
+                R.styleable.Keyboard_Case_mode, id.mMode, KeyboardId.modeName(id.mMode));
+        final boolean navigateNextMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_navigateNext, id.navigateNext());
+        final boolean navigatePreviousMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_navigatePrevious, id.navigatePrevious());
+        final boolean passwordInputMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_passwordInput, id.passwordInput());
+        final boolean clobberSettingsKeyMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_clobberSettingsKey, id.mClobberSettingsKey);
+        final boolean hasShortcutKeyMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_hasShortcutKey, id.mHasShortcutKey);
+        final boolean languageSwitchKeyEnabledMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_languageSwitchKeyEnabled,
+                id.mLanguageSwitchKeyEnabled);
+        final boolean isMultiLineMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_isMultiLine, id.isMultiLine());
+        final boolean imeActionMatched = matchInteger(caseAttr,
+                R.styleable.Keyboard_Case_imeAction, id.imeAction());
+        final boolean isIconDefinedMatched = isIconDefined(caseAttr,
+                R.styleable.Keyboard_Case_isIconDefined, mParams.mIconsSet);
+        final Locale locale = id.getLocale();
+        final boolean localeCodeMatched = matchLocaleCodes(caseAttr, locale);
+        final boolean languageCodeMatched = matchLanguageCodes(caseAttr, locale);
+        final boolean countryCodeMatched = matchCountryCodes(caseAttr, locale);
+        final boolean splitLayoutMatched = matchBoolean(caseAttr,
+                R.styleable.Keyboard_Case_isSplitLayout, id.mIsSplitLayout);
+        final boolean selected = keyboardLayoutSetMatched && keyboardLayoutSetElementMatched
+                && keyboardThemeMacthed && modeMatched && navigateNextMatched
+                && navigatePreviousMatched && passwordInputMatched && clobberSettingsKeyMatched
+                && hasShortcutKeyMatched  && languageSwitchKeyEnabledMatched
+                && isMultiLineMatched && imeActionMatched && isIconDefinedMatched
+                && localeCodeMatched && languageCodeMatched && countryCodeMatched
+                && splitLayoutMatched;
 
-            return selected;
-        } finally {
-            caseAttr.recycle();
+        if (DEBUG) {
+            startTag("<%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s%s>%s", TAG_CASE,
+                    textAttr(caseAttr.getString(
+                            R.styleable.Keyboard_Case_keyboardLayoutSet), "keyboardLayoutSet"),
+                    textAttr(caseAttr.getString(
+                            R.styleable.Keyboard_Case_keyboardLayoutSetElement),
+                            "keyboardLayoutSetElement"),
+                    textAttr(caseAttr.getString(
+                            R.styleable.Keyboard_Case_keyboardTheme), "keyboardTheme"),
+                    textAttr(caseAttr.getString(R.styleable.Keyboard_Case_mode), "mode"),
+                    textAttr(caseAttr.getString(R.styleable.Keyboard_Case_imeAction),
+                            "imeAction"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_navigateNext,
+                            "navigateNext"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_navigatePrevious,
+                            "navigatePrevious"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_clobberSettingsKey,
+                            "clobberSettingsKey"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_passwordInput,
+                            "passwordInput"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_hasShortcutKey,
+                            "hasShortcutKey"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_languageSwitchKeyEnabled,
+                            "languageSwitchKeyEnabled"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_isMultiLine,
+                            "isMultiLine"),
+                    booleanAttr(caseAttr, R.styleable.Keyboard_Case_isSplitLayout,
+                            "splitLayout"),
+                    textAttr(caseAttr.getString(R.styleable.Keyboard_Case_isIconDefined),
+                            "isIconDefined"),
+                    textAttr(caseAttr.getString(R.styleable.Keyboard_Case_localeCode),
+                            "localeCode"),
+                    textAttr(caseAttr.getString(R.styleable.Keyboard_Case_languageCode),
+                            "languageCode"),
+                    textAttr(caseAttr.getString(R.styleable.Keyboard_Case_countryCode),
+                            "countryCode"),
+                    selected ? "" : " skipped");
         }
+
+        return selected;
     }
 
-    private static boolean matchLocaleCodes(TypedArray caseAttr, final Locale locale) {
+    private static boolean matchLocaleCodes(ElementAttributes caseAttr, final Locale locale) {
         return matchString(caseAttr, R.styleable.Keyboard_Case_localeCode, locale.toString());
     }
 
-    private static boolean matchLanguageCodes(TypedArray caseAttr, Locale locale) {
+    private static boolean matchLanguageCodes(ElementAttributes caseAttr, Locale locale) {
         return matchString(caseAttr, R.styleable.Keyboard_Case_languageCode, locale.getLanguage());
     }
 
-    private static boolean matchCountryCodes(TypedArray caseAttr, Locale locale) {
+    private static boolean matchCountryCodes(ElementAttributes caseAttr, Locale locale) {
         return matchString(caseAttr, R.styleable.Keyboard_Case_countryCode, locale.getCountry());
     }
 
-    private static boolean matchInteger(final TypedArray a, final int index, final int value) {
+    private static boolean matchInteger(final ElementAttributes a, final int index,
+            final int value) {
         // If <case> does not have "index" attribute, that means this <case> is wild-card for
         // the attribute.
         return !a.hasValue(index) || a.getInt(index, 0) == value;
     }
 
-    private static boolean matchBoolean(final TypedArray a, final int index, final boolean value) {
+    private static boolean matchBoolean(final ElementAttributes a, final int index,
+            final boolean value) {
         // If <case> does not have "index" attribute, that means this <case> is wild-card for
         // the attribute.
         return !a.hasValue(index) || a.getBoolean(index, false) == value;
     }
 
-    private static boolean matchString(final TypedArray a, final int index, final String value) {
+    private static boolean matchString(final ElementAttributes a, final int index,
+            final String value) {
         // If <case> does not have "index" attribute, that means this <case> is wild-card for
         // the attribute.
-        return !a.hasValue(index)
-                || StringUtils.containsInArray(value, a.getString(index).split("\\|"));
+        return !a.hasValue(index) || StringUtils.containsInArray(value, a.getStringArray(index));
     }
 
-    private static boolean matchTypedValue(final TypedArray a, final int index, final int intValue,
-            final String strValue) {
+    private static boolean matchTypedValue(final ElementAttributes a, final int index,
+            final int intValue, final String strValue) {
         // If <case> does not have "index" attribute, that means this <case> is wild-card for
         // the attribute.
         final TypedValue v = a.peekValue(index);
@@ -774,12 +882,12 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
             return intValue == a.getInt(index, 0);
         }
         if (ResourceUtils.isStringValue(v)) {
-            return StringUtils.containsInArray(strValue, a.getString(index).split("\\|"));
+            return StringUtils.containsInArray(strValue, a.getStringArray(index));
         }
         return false;
     }
 
-    private static boolean isIconDefined(final TypedArray a, final int index,
+    private static boolean isIconDefined(final ElementAttributes a, final int index,
             final KeyboardIconsSet iconsSet) {
         if (!a.hasValue(index)) {
             return true;
@@ -817,7 +925,9 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
                         skip ? " skipped" : "");
             }
             if (!skip) {
-                mParams.mKeyStyles.parseKeyStyleAttributes(keyStyleAttr, keyAttrs, parser);
+                mParams.mKeyStyles.parseKeyStyleAttributes(
+                        ElementAttributes.fromTypedArray(keyStyleAttr),
+                        ElementAttributes.fromTypedArray(keyAttrs), parser);
             }
         } finally {
             keyStyleAttr.recycle();
@@ -826,6 +936,207 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
         XmlParseUtils.checkEndTag(TAG_KEY_STYLE, parser);
     }
 
+    // The methods below build the keyboard content from a compiled layout, the same way the
+    // methods above build it from the keyboard layout XML. The elements of the compiled layout
+    // have been checked by tools/make-keyboard-layout, and the content that the XML parser skips
+    // is simply not visited.
+
+    private static XmlPullParserException newBuildException(final String message,
+            final KeyboardLayoutElement element) {
+        return new XmlPullParserException(message + " at " + element.getPositionDescription());
+    }
+
+    private void buildContent(final KeyboardLayoutElement[] elements, final KeyboardRow row)
+            throws XmlPullParserException, IOException {
+        if (row == null) {
+            buildKeyboardContent(elements);
+        } else {
+            buildRowContent(elements, row);
+        }
+    }
+
+    private void buildKeyboardContent(final KeyboardLayoutElement[] elements)
+            throws XmlPullParserException, IOException {
+        for (final KeyboardLayoutElement element : elements) {
+            switch (element.mType) {
+            case KeyboardLayoutElement.TYPE_ROW:
+                buildRow(element);
+                break;
+            case KeyboardLayoutElement.TYPE_GRID_ROWS:
+                buildGridRows(element);
+                break;
+            case KeyboardLayoutElement.TYPE_INCLUDE:
+                buildInclude(element, null);
+                break;
+            case KeyboardLayoutElement.TYPE_SWITCH:
+                buildSwitch(element, null);
+                break;
+            case KeyboardLayoutElement.TYPE_KEY_STYLE:
+                buildKeyStyle(element);
+                break;
+            default:
+                throw newBuildException("Illegal element in keyboard content", element);
+            }
+        }
+    }
+
+    private void buildRowContent(final KeyboardLayoutElement[] elements, final KeyboardRow row)
+            throws XmlPullParserException, IOException {
+        for (final KeyboardLayoutElement element : elements) {
+            switch (element.mType) {
+            case KeyboardLayoutElement.TYPE_KEY:
+                buildKey(element, row);
+                break;
+            case KeyboardLayoutElement.TYPE_SPACER:
+                buildSpacer(element, row);
+                break;
+            case KeyboardLayoutElement.TYPE_INCLUDE:
+                buildInclude(element, row);
+                break;
+            case KeyboardLayoutElement.TYPE_SWITCH:
+                buildSwitch(element, row);
+                break;
+            case KeyboardLayoutElement.TYPE_KEY_STYLE:
+                buildKeyStyle(element);
+                break;
+            default:
+                throw newBuildException("Illegal element in row content", element);
+            }
+        }
+    }
+
+    private void buildRow(final KeyboardLayoutElement element)
+            throws XmlPullParserException, IOException {
+        final KeyboardRow row = new KeyboardRow(mParams,
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEYBOARD, mResources),
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEY, mResources), mCurrentY);
+        if (DEBUG) startTag("<%s>", TAG_ROW);
+        startRow(row);
+        buildRowContent(element.mChildren, row);
+        if (DEBUG) endTag("</%s>", TAG_ROW);
+        endRow(row);
+    }
+
+    private void buildGridRows(final KeyboardLayoutElement element) {
+        final ElementAttributes gridRowAttr =
+                element.getAttributes(KeyboardLayoutElement.ATTRS_GRID_ROWS, mResources);
+        if (DEBUG) startEndTag("<%s />", TAG_GRID_ROWS);
+        addGridRows(element.getAttributes(KeyboardLayoutElement.ATTRS_KEYBOARD, mResources),
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEY, mResources),
+                gridRowAttr.getResourceId(R.styleable.Keyboard_GridRows_codesArray, 0),
+                gridRowAttr.getResourceId(R.styleable.Keyboard_GridRows_textsArray, 0));
+    }
+
+    @Nonnull
+    private KeyStyle findKeyStyle(final ElementAttributes keyAttr,
+            final KeyboardLayoutElement element) throws XmlPullParserException {
+        final KeyStyle keyStyle = mParams.mKeyStyles.findKeyStyle(keyAttr);
+        if (keyStyle == null) {
+            throw newBuildException("Unknown key style: "
+                    + keyAttr.getString(R.styleable.Keyboard_Key_keyStyle), element);
+        }
+        return keyStyle;
+    }
+
+    private void buildKey(final KeyboardLayoutElement element, final KeyboardRow row)
+            throws XmlPullParserException {
+        final ElementAttributes keyAttr =
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEY, mResources);
+        final KeyStyle keyStyle = findKeyStyle(keyAttr, element);
+        final String keySpec = keyStyle.getString(keyAttr, R.styleable.Keyboard_Key_keySpec);
+        if (TextUtils.isEmpty(keySpec)) {
+            throw newBuildException("Empty keySpec", element);
+        }
+        final Key key = new Key(keySpec, keyAttr, keyStyle, mParams, row);
+        if (DEBUG) {
+            startEndTag("<%s%s %s moreKeys=%s />", TAG_KEY, (key.isEnabled() ? "" : " disabled"),
+                    key, Arrays.toString(key.getMoreKeys()));
+        }
+        endKey(key);
+    }
+
+    private void buildSpacer(final KeyboardLayoutElement element, final KeyboardRow row)
+            throws XmlPullParserException {
+        final ElementAttributes keyAttr =
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEY, mResources);
+        final KeyStyle keyStyle = findKeyStyle(keyAttr, element);
+        final Key spacer = new Key.Spacer(keyAttr, keyStyle, mParams, row);
+        if (DEBUG) startEndTag("<%s />", TAG_SPACER);
+        endKey(spacer);
+    }
+
+    private void buildInclude(final KeyboardLayoutElement element, final KeyboardRow row)
+            throws XmlPullParserException, IOException {
+        final int keyboardLayout = element.getAttributes(
+                KeyboardLayoutElement.ATTRS_INCLUDE, mResources).getResourceId(
+                        R.styleable.Keyboard_Include_keyboardLayout, 0);
+        if (row != null) {
+            final ElementAttributes keyAttr =
+                    element.getAttributes(KeyboardLayoutElement.ATTRS_KEY, mResources);
+            // Override current x coordinate.
+            row.setXPos(row.getKeyX(keyAttr));
+            // Push current Row attributes and update with new attributes.
+            row.pushRowAttributes(keyAttr);
+        }
+        if (DEBUG) {
+            startEndTag("<%s keyboardLayout=%s />", TAG_INCLUDE,
+                    mResources.getResourceEntryName(keyboardLayout));
+        }
+        try {
+            final KeyboardLayoutElement[] includedLayout = getCompiledLayout(keyboardLayout);
+            if (includedLayout != null) {
+                buildContent(includedLayout, row);
+                return;
+            }
+            // The included layout hasn't been compiled for this resource configuration.
+            final XmlResourceParser parserForInclude = mResources.getXml(keyboardLayout);
+            try {
+                parseMerge(parserForInclude, row, false /* skip */);
+            } finally {
+                parserForInclude.close();
+            }
+        } finally {
+            if (row != null) {
+                // Restore Row attributes.
+                row.popRowAttributes();
+            }
+        }
+    }
+
+    private void buildSwitch(final KeyboardLayoutElement element, final KeyboardRow row)
+            throws XmlPullParserException, IOException {
+        if (DEBUG) startTag("<%s> %s", TAG_SWITCH, mParams.mId);
+        // Only the first <case> whose condition matches, or else the <default>, is built.
+        for (final KeyboardLayoutElement child : element.mChildren) {
+            if (child.mType == KeyboardLayoutElement.TYPE_DEFAULT
+                    || matchCaseCondition(child.getAttributes(
+                            KeyboardLayoutElement.ATTRS_CASE, mResources))) {
+                buildContent(child.mChildren, row);
+                break;
+            }
+        }
+        if (DEBUG) endTag("</%s>", TAG_SWITCH);
+    }
+
+    private void buildKeyStyle(final KeyboardLayoutElement element)
+            throws XmlPullParserException {
+        final ElementAttributes keyStyleAttr =
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEY_STYLE, mResources);
+        final String styleName = keyStyleAttr.getString(R.styleable.Keyboard_KeyStyle_styleName);
+        if (styleName == null) {
+            throw newBuildException("<" + TAG_KEY_STYLE + "/> needs styleName attribute",
+                    element);
+        }
+        final String parentStyle = keyStyleAttr.getString(
+                R.styleable.Keyboard_KeyStyle_parentStyle);
+        if (parentStyle != null && !mParams.mKeyStyles.hasKeyStyle(parentStyle)) {
+            throw newBuildException("Unknown parentStyle " + parentStyle, element);
+        }
+        if (DEBUG) startEndTag("<%s styleName=%s />", TAG_KEY_STYLE, styleName);
+        mParams.mKeyStyles.addKeyStyle(styleName, parentStyle,
+                element.getAttributes(KeyboardLayoutElement.ATTRS_KEY, mResources));
+    }
+
     private void startKeyboard() {
         mCurrentY += mParams.mTopPadding;
         mTopEdge = true;
@@ -882,7 +1193,8 @@ public class KeyboardBuilder<KP extends KeyboardParams> {
         return value != null ? String.format(" %s=%s", name, value) : "";
     }
 
-    private static String booleanAttr(final TypedArray a, final int index, final String name) {
+    private static String booleanAttr(final ElementAttributes a, final int index,
+            final String name) {
         return a.hasValue(index)
                 ? String.format(" %s=%s", name, a.getBoolean(index, false)) : "";
     }
@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.internal;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.content.res.TypedArray;
+import android.os.Build;
+import android.util.Log;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+import com.android.inputmethod.keyboard.Key;
+import com.android.inputmethod.keyboard.Keyboard;
+import com.android.inputmethod.keyboard.KeyboardId;
+import com.android.inputmethod.latin.R;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A cache of built keyboards in the app cache directory.
+ *
+ * Parsing the keyboard XML with all its includes, key styles and texts is what makes building a
+ * {@link Keyboard} slow. This cache stores the keys of a built keyboard in a compact binary file,
+ * so that the keyboard can be rebuilt from the memory mapped file after the process has been
+ * killed. The files are keyed by {@link KeyboardId} and by a version string that changes with
+ * the app and the resource configuration. The attributes of the root element of the keyboard XML,
+ * such as icons, are still loaded from the resources.
+ */
+public final class KeyboardFileCache {
+    private static final String TAG = KeyboardFileCache.class.getSimpleName();
+    private static final boolean DEBUG = false;
+
+    private static final String CACHE_DIRECTORY_NAME = "keyboards";
+    private static final String FILE_NAME_SUFFIX = ".kbd";
+    private static final String TEMP_FILE_NAME_SUFFIX = ".tmp";
+    // Must be incremented when the file format changes.
+    private static final int MAGIC_NUMBER = 0x4B424443; // "KBDC"
+    private static final int FORMAT_VERSION = 1;
+    // The least recently written files are removed beyond this count.
+    private static final int MAX_FILE_COUNT = 48;
+    private static final int NULL_STRING_LENGTH = -1;
+
+    @Nullable
+    private final File mCacheDirectory;
+    @Nonnull
+    private final String mVersion;
+
+    /**
+     * The keyboard properties that are computed while parsing the keys.
+     */
+    public static final class CachedKeyboard {
+        public final int mOccupiedHeight;
+        public final int mMostCommonKeyHeight;
+        public final int mMostCommonKeyWidth;
+        @Nonnull
+        public final List<Key> mSortedKeys;
+
+        CachedKeyboard(final int occupiedHeight, final int mostCommonKeyHeight,
+                final int mostCommonKeyWidth, @Nonnull final List<Key> sortedKeys) {
+            mOccupiedHeight = occupiedHeight;
+            mMostCommonKeyHeight = mostCommonKeyHeight;
+            mMostCommonKeyWidth = mostCommonKeyWidth;
+            mSortedKeys = sortedKeys;
+        }
+    }
+
+    /**
+     * @param context the themed context that the keyboards are built with.
+     */
+    public KeyboardFileCache(@Nonnull final Context context) {
+        this(getCacheDirectory(context), getVersion(context));
+    }
+
+    @UsedForTesting
+    KeyboardFileCache(@Nullable final File cacheDirectory, @Nonnull final String version) {
+        mCacheDirectory = cacheDirectory;
+        mVersion = version;
+    }
+
+    @Nullable
+    private static File getCacheDirectory(@Nonnull final Context context) {
+        final File cacheDir = context.getCacheDir();
+        return (cacheDir == null) ? null : new File(cacheDir, CACHE_DIRECTORY_NAME);
+    }
+
+    // Everything but the {@link KeyboardId} that the built keys depend on: the app version, the
+    // system build, the resource configuration that selects the keyboard XML and values, and the
+    // keyboard theme.
+    @Nonnull
+    private static String getVersion(@Nonnull final Context context) {
+        final StringBuilder sb = new StringBuilder();
+        try {
+            final PackageInfo packageInfo = context.getPackageManager().getPackageInfo(
+                    context.getPackageName(), 0 /* flags */);
+            sb.append(packageInfo.versionCode).append('/').append(packageInfo.lastUpdateTime);
+        } catch (final PackageManager.NameNotFoundException e) {
+            Log.e(TAG, "Could not find version info.", e);
+        }
+        // The keyboard XML may depend on the SDK version.
+        sb.append(' ').append(Build.FINGERPRINT);
+        final Configuration config = context.getResources().getConfiguration();
+        sb.append(' ').append(config.locale)
+                .append(' ').append(config.orientation)
+                .append(' ').append(config.screenLayout)
+                .append(' ').append(config.smallestScreenWidthDp)
+                .append(' ').append(config.screenWidthDp).append('x').append(config.screenHeightDp)
+                .append(' ').append(config.densityDpi)
+                .append(' ').append(config.fontScale);
+        final TypedArray keyboardAttr = context.obtainStyledAttributes(
+                null, R.styleable.Keyboard, R.attr.keyboardStyle, R.style.Keyboard);
+        try {
+            sb.append(" theme=").append(keyboardAttr.getInt(R.styleable.Keyboard_themeId, 0));
+        } finally {
+            keyboardAttr.recycle();
+        }
+        return sb.toString();
+    }
+
+    // Every member of {@link KeyboardId#equals(Object)}.
+    @Nonnull
+    private static String getCacheKey(@Nonnull final KeyboardId id) {
+        return id.toString() + " " + id.mSubtype.getRawSubtype().getLocale()
+                + ":" + id.mSubtype.getRawSubtype().getMode()
+                + ":" + id.mSubtype.getRawSubtype().getExtraValue()
+                + ":" + id.mSubtype.getRawSubtype().hashCode()
+                + " " + id.mCustomActionLabel;
+    }
+
+    @Nonnull
+    private File getFile(@Nonnull final File directory, @Nonnull final String cacheKey) {
+        // Hash collisions are detected by the cache key written in the file.
+        final int hash = (cacheKey + mVersion).hashCode();
+        return new File(directory, Integer.toHexString(hash) + FILE_NAME_SUFFIX);
+    }
+
+    /**
+     * Reads the keys of a keyboard that has been built before.
+     * @param id the id of the keyboard.
+     * @return the cached keyboard, or null if it is not cached or the file is broken.
+     */
+    @Nullable
+    public CachedKeyboard read(@Nonnull final KeyboardId id) {
+        final File directory = mCacheDirectory;
+        if (directory == null) {
+            return null;
+        }
+        final String cacheKey = getCacheKey(id);
+        final File file = getFile(directory, cacheKey);
+        if (!file.isFile()) {
+            return null;
+        }
+        FileInputStream inStream = null;
+        try {
+            inStream = new FileInputStream(file);
+            final FileChannel channel = inStream.getChannel();
+            final ByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0 /* position */, channel.size());
+            if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION
+                    || !cacheKey.equals(readString(buffer))
+                    || !mVersion.equals(readString(buffer))) {
+                // An old file or a hash collision. The file will be overwritten.
+                return null;
+            }
+            final int occupiedHeight = buffer.getInt();
+            final int mostCommonKeyHeight = buffer.getInt();
+            final int mostCommonKeyWidth = buffer.getInt();
+            final int keyCount = buffer.getInt();
+            final ArrayList<Key> sortedKeys = new ArrayList<>(keyCount);
+            for (int i = 0; i < keyCount; i++) {
+                sortedKeys.add(Key.readFrom(buffer));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Trailing bytes: " + buffer.remaining());
+            }
+            if (DEBUG) {
+                Log.d(TAG, "read " + keyCount + " keys from " + file + ": " + id);
+            }
+            return new CachedKeyboard(occupiedHeight, mostCommonKeyHeight, mostCommonKeyWidth,
+                    sortedKeys);
+        } catch (final IOException | BufferUnderflowException | IllegalArgumentException e) {
+            Log.w(TAG, "Broken keyboard cache file: " + file, e);
+            file.delete();
+            return null;
+        } finally {
+            if (inStream != null) {
+                try {
+                    inStream.close();
+                } catch (final IOException e) {
+                    // Ignore.
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the keys of a built keyboard in the background.
+     * @param keyboard the keyboard that has just been built from its XML.
+     */
+    public void writeInBackground(@Nonnull final Keyboard keyboard) {
+        final File directory = mCacheDirectory;
+        if (directory == null) {
+            return;
+        }
+        // The keys are serialized now because their states may change later.
+        final byte[] data;
+        try {
+            data = serialize(keyboard);
+        } catch (final IOException e) {
+            Log.e(TAG, "Can't serialize keyboard: " + keyboard.mId, e);
+            return;
+        }
+        final File file = getFile(directory, getCacheKey(keyboard.mId));
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+            @Override
+            public void run() {
+                writeFile(directory, file, data);
+            }
+        });
+    }
+
+    @UsedForTesting
+    void writeNow(@Nonnull final Keyboard keyboard) throws IOException {
+        final File directory = mCacheDirectory;
+        if (directory != null) {
+            writeFile(directory, getFile(directory, getCacheKey(keyboard.mId)),
+                    serialize(keyboard));
+        }
+    }
+
+    @Nonnull
+    private byte[] serialize(@Nonnull final Keyboard keyboard) throws IOException {
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(byteStream);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        writeString(out, getCacheKey(keyboard.mId));
+        writeString(out, mVersion);
+        out.writeInt(keyboard.mOccupiedHeight);
+        out.writeInt(keyboard.mMostCommonKeyHeight);
+        out.writeInt(keyboard.mMostCommonKeyWidth);
+        final List<Key> sortedKeys = keyboard.getSortedKeys();
+        out.writeInt(sortedKeys.size());
+        for (final Key key : sortedKeys) {
+            key.writeTo(out);
+        }
+        out.flush();
+        return byteStream.toByteArray();
+    }
+
+    private static void writeFile(@Nonnull final File directory, @Nonnull final File file,
+            @Nonnull final byte[] data) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.e(TAG, "Can't create directory: " + directory);
+            return;
+        }
+        // Write a temporary file and rename it, so that a reader never sees a partial file.
+        final File tempFile = new File(directory, file.getName() + TEMP_FILE_NAME_SUFFIX);
+        OutputStream outStream = null;
+        try {
+            outStream = new BufferedOutputStream(new FileOutputStream(tempFile));
+            outStream.write(data);
+            outStream.close();
+            outStream = null;
+            if (!tempFile.renameTo(file)) {
+                Log.e(TAG, "Can't rename " + tempFile + " to " + file);
+                tempFile.delete();
+                return;
+            }
+        } catch (final IOException e) {
+            Log.e(TAG, "Can't write keyboard cache file: " + file, e);
+            tempFile.delete();
+            return;
+        } finally {
+            if (outStream != null) {
+                try {
+                    outStream.close();
+                } catch (final IOException e) {
+                    // Ignore.
+                }
+            }
+        }
+        removeOldFiles(directory);
+    }
+
+    private static void removeOldFiles(@Nonnull final File directory) {
+        final File[] files = directory.listFiles();
+        if (files == null || files.length <= MAX_FILE_COUNT) {
+            return;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File lhs, final File rhs) {
+                return Long.compare(rhs.lastModified(), lhs.lastModified());
+            }
+        });
+        for (int i = MAX_FILE_COUNT; i < files.length; i++) {
+            files[i].delete();
+        }
+    }
+
+    public static void writeString(@Nonnull final DataOutput out, @Nullable final String string)
+            throws IOException {
+        if (string == null) {
+            out.writeInt(NULL_STRING_LENGTH);
+            return;
+        }
+        out.writeInt(string.length());
+        out.writeChars(string);
+    }
+
+    @Nullable
+    public static String readString(@Nonnull final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == NULL_STRING_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length * 2 > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        final char[] chars = new char[length];
+        buffer.asCharBuffer().get(chars);
+        buffer.position(buffer.position() + length * 2);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.internal;
+
+import android.content.res.Resources;
+import android.text.TextUtils;
+import android.util.TypedValue;
+
+import com.android.inputmethod.latin.utils.ResourceUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An element of a keyboard layout XML that tools/make-keyboard-layout has compiled into
+ * {@link KeyboardLayoutsTable}.
+ *
+ * The attribute values have been converted the way aapt converts them, and the "|"-separated
+ * values of the &lt;case&gt; conditions have been split. Resource references are resolved when
+ * the attributes are read, since they depend on the resource configuration.
+ */
+public final class KeyboardLayoutElement {
+    // The types of the elements, by tag.
+    public static final int TYPE_ROW = 0;
+    public static final int TYPE_GRID_ROWS = 1;
+    public static final int TYPE_KEY = 2;
+    public static final int TYPE_SPACER = 3;
+    public static final int TYPE_INCLUDE = 4;
+    public static final int TYPE_SWITCH = 5;
+    public static final int TYPE_CASE = 6;
+    public static final int TYPE_DEFAULT = 7;
+    public static final int TYPE_KEY_STYLE = 8;
+    private static final String[] TAGS = {
+        "Row", "GridRows", "Key", "Spacer", "include", "switch", "case", "default", "key-style"
+    };
+    private static final int TYPE_ROOT = -1;
+
+    // The styleables of the attributes. An attribute is identified by its styleable or'ed with
+    // its index in the styleable.
+    public static final int ATTRS_KEYBOARD = 1 << 16;
+    public static final int ATTRS_KEY = 2 << 16;
+    public static final int ATTRS_INCLUDE = 3 << 16;
+    public static final int ATTRS_GRID_ROWS = 4 << 16;
+    public static final int ATTRS_CASE = 5 << 16;
+    public static final int ATTRS_KEY_STYLE = 6 << 16;
+    private static final int ATTRS_MASK = 0xffff0000;
+    private static final int INDEX_MASK = 0x0000ffff;
+
+    private static final KeyboardLayoutElement[] EMPTY_ELEMENTS = new KeyboardLayoutElement[0];
+
+    public final int mType;
+    @Nonnull
+    public final KeyboardLayoutElement[] mChildren;
+    @Nonnull
+    private final String mLayoutPath;
+    // The attributes sorted by styleable and index, their value types, their data, the values of
+    // the string attributes, and their split values if they have been split.
+    private final int[] mAttrs;
+    private final int[] mTypes;
+    private final int[] mData;
+    private final String[] mStrings;
+    private final String[][] mSplitStrings;
+
+    private KeyboardLayoutElement(final int type, @Nonnull final String layoutPath,
+            @Nonnull final ArrayList<Attribute> attributes,
+            @Nonnull final ArrayList<KeyboardLayoutElement> children) {
+        mType = type;
+        mLayoutPath = layoutPath;
+        mChildren = children.isEmpty() ? EMPTY_ELEMENTS
+                : children.toArray(new KeyboardLayoutElement[children.size()]);
+        final int size = attributes.size();
+        mAttrs = new int[size];
+        mTypes = new int[size];
+        mData = new int[size];
+        mStrings = new String[size];
+        mSplitStrings = new String[size][];
+        // Insertion sort, since an element has a few attributes.
+        for (int i = 0; i < size; i++) {
+            final Attribute attribute = attributes.get(i);
+            int at = i;
+            while (at > 0 && mAttrs[at - 1] > attribute.mAttr) {
+                mAttrs[at] = mAttrs[at - 1];
+                mTypes[at] = mTypes[at - 1];
+                mData[at] = mData[at - 1];
+                mStrings[at] = mStrings[at - 1];
+                mSplitStrings[at] = mSplitStrings[at - 1];
+                at--;
+            }
+            mAttrs[at] = attribute.mAttr;
+            mTypes[at] = attribute.mType;
+            mData[at] = attribute.mData;
+            mStrings[at] = attribute.mString;
+            mSplitStrings[at] = attribute.mSplitString;
+        }
+    }
+
+    /**
+     * Returns the attributes of this element that belong to a styleable.
+     *
+     * @param styleable one of the ATTRS_* constants.
+     * @param res the resources to resolve the references with.
+     */
+    @Nonnull
+    public ElementAttributes getAttributes(final int styleable, @Nonnull final Resources res) {
+        int start = 0;
+        while (start < mAttrs.length && (mAttrs[start] & ATTRS_MASK) != styleable) {
+            start++;
+        }
+        int end = start;
+        while (end < mAttrs.length && (mAttrs[end] & ATTRS_MASK) == styleable) {
+            end++;
+        }
+        return new CompiledAttributes(this, start, end, res);
+    }
+
+    public String getPositionDescription() {
+        return "<" + TAGS[mType] + "> in " + mLayoutPath;
+    }
+
+    private static final class CompiledAttributes extends ElementAttributes {
+        private final KeyboardLayoutElement mElement;
+        private final int mStart;
+        private final int mEnd;
+        private final Resources mResources;
+        private final TypedValue mValue = new TypedValue();
+        private final TypedValue mTempValue = new TypedValue();
+
+        CompiledAttributes(final KeyboardLayoutElement element, final int start, final int end,
+                final Resources res) {
+            mElement = element;
+            mStart = start;
+            mEnd = end;
+            mResources = res;
+        }
+
+        private int find(final int index) {
+            for (int at = mStart; at < mEnd; at++) {
+                if ((mElement.mAttrs[at] & INDEX_MASK) == index) {
+                    return at;
+                }
+            }
+            return -1;
+        }
+
+        private TypedValue getValueAt(final int at, final TypedValue outValue) {
+            final int type = mElement.mTypes[at];
+            if (type == TypedValue.TYPE_REFERENCE) {
+                mResources.getValue(mElement.mData[at], outValue, true /* resolveRefs */);
+                return outValue;
+            }
+            outValue.type = type;
+            outValue.data = mElement.mData[at];
+            outValue.string = mElement.mStrings[at];
+            outValue.resourceId = 0;
+            outValue.assetCookie = 0;
+            return outValue;
+        }
+
+        private TypedValue getIntegerValue(final int at, final String name) {
+            final TypedValue value = getValueAt(at, mTempValue);
+            if (!ResourceUtils.isIntegerValue(value)) {
+                throw new UnsupportedOperationException("Can't convert to " + name + ": type=0x"
+                        + Integer.toHexString(value.type));
+            }
+            return value;
+        }
+
+        @Override
+        public boolean hasValue(final int index) {
+            return find(index) >= 0;
+        }
+
+        @Override
+        @Nullable
+        public TypedValue peekValue(final int index) {
+            final int at = find(index);
+            return (at < 0) ? null : getValueAt(at, mValue);
+        }
+
+        @Override
+        @Nullable
+        public String getString(final int index) {
+            final int at = find(index);
+            if (at < 0) {
+                return null;
+            }
+            if (mElement.mTypes[at] == TypedValue.TYPE_STRING) {
+                return mElement.mStrings[at];
+            }
+            final CharSequence value = getValueAt(at, mTempValue).coerceToString();
+            return (value == null) ? null : value.toString();
+        }
+
+        @Override
+        @Nullable
+        public String[] getStringArray(final int index) {
+            final int at = find(index);
+            if (at < 0) {
+                return null;
+            }
+            final String[] values = mElement.mSplitStrings[at];
+            return (values != null) ? values : getString(index).split("\\|");
+        }
+
+        @Override
+        public int getInt(final int index, final int defValue) {
+            final int at = find(index);
+            return (at < 0) ? defValue : getIntegerValue(at, "integer").data;
+        }
+
+        @Override
+        public boolean getBoolean(final int index, final boolean defValue) {
+            final int at = find(index);
+            return (at < 0) ? defValue : getIntegerValue(at, "boolean").data != 0;
+        }
+
+        @Override
+        public int getColor(final int index, final int defValue) {
+            final int at = find(index);
+            return (at < 0) ? defValue : getIntegerValue(at, "color").data;
+        }
+
+        @Override
+        public int getResourceId(final int index, final int defValue) {
+            final int at = find(index);
+            if (at < 0 || mElement.mTypes[at] != TypedValue.TYPE_REFERENCE) {
+                return defValue;
+            }
+            return mElement.mData[at];
+        }
+
+        @Override
+        public float getFraction(final int index, final int base, final int pbase,
+                final float defValue) {
+            final int at = find(index);
+            if (at < 0) {
+                return defValue;
+            }
+            final TypedValue value = getValueAt(at, mTempValue);
+            if (value.type != TypedValue.TYPE_FRACTION) {
+                throw new UnsupportedOperationException("Can't convert to fraction: type=0x"
+                        + Integer.toHexString(value.type));
+            }
+            return TypedValue.complexToFraction(value.data, base, pbase);
+        }
+
+        @Override
+        public float getDimension(final int index, final float defValue) {
+            final int at = find(index);
+            if (at < 0) {
+                return defValue;
+            }
+            final TypedValue value = getValueAt(at, mTempValue);
+            if (value.type != TypedValue.TYPE_DIMENSION) {
+                throw new UnsupportedOperationException("Can't convert to dimension: type=0x"
+                        + Integer.toHexString(value.type));
+            }
+            return TypedValue.complexToDimension(value.data, mResources.getDisplayMetrics());
+        }
+
+        @Override
+        public int getDimensionPixelSize(final int index, final int defValue) {
+            final int at = find(index);
+            if (at < 0) {
+                return defValue;
+            }
+            final TypedValue value = getValueAt(at, mTempValue);
+            if (value.type != TypedValue.TYPE_DIMENSION) {
+                throw new UnsupportedOperationException("Can't convert to dimension: type=0x"
+                        + Integer.toHexString(value.type));
+            }
+            return TypedValue.complexToDimensionPixelSize(
+                    value.data, mResources.getDisplayMetrics());
+        }
+
+        @Override
+        public int getIndexCount() {
+            return mEnd - mStart;
+        }
+
+        @Override
+        public int getIndex(final int at) {
+            return mElement.mAttrs[mStart + at] & INDEX_MASK;
+        }
+    }
+
+    private static final class Attribute {
+        public final int mAttr;
+        public final int mType;
+        public final int mData;
+        public final String mString;
+        public final String[] mSplitString;
+
+        public Attribute(final int attr, final int type, final int data, final String string,
+                final String[] splitString) {
+            mAttr = attr;
+            mType = type;
+            mData = data;
+            mString = string;
+            mSplitString = splitString;
+        }
+    }
+
+    private static final class PendingElement {
+        public final int mType;
+        public final ArrayList<Attribute> mAttributes = new ArrayList<>();
+        public final ArrayList<KeyboardLayoutElement> mChildren = new ArrayList<>();
+
+        public PendingElement(final int type) {
+            mType = type;
+        }
+    }
+
+    /**
+     * Builds the elements of a keyboard layout in the order of the XML.
+     * {@link KeyboardLayoutsTable} uses it to create a compiled layout.
+     */
+    public static final class Builder {
+        @Nonnull
+        private final String mLayoutPath;
+        private final ArrayDeque<PendingElement> mPendingElements = new ArrayDeque<>();
+
+        /**
+         * @param layoutPath the path of the keyboard layout XML in the APK, which describes the
+         *        position of the elements in error messages.
+         */
+        public Builder(@Nonnull final String layoutPath) {
+            mLayoutPath = layoutPath;
+            mPendingElements.push(new PendingElement(TYPE_ROOT));
+        }
+
+        public Builder start(final int type) {
+            mPendingElements.push(new PendingElement(type));
+            return this;
+        }
+
+        public Builder end() {
+            final PendingElement element = mPendingElements.pop();
+            mPendingElements.peek().mChildren.add(new KeyboardLayoutElement(
+                    element.mType, mLayoutPath, element.mAttributes, element.mChildren));
+            return this;
+        }
+
+        private Builder add(final int attr, final int type, final int data) {
+            mPendingElements.peek().mAttributes.add(
+                    new Attribute(attr, type, data, null /* string */, null /* splitString */));
+            return this;
+        }
+
+        public Builder string(final int attr, @Nonnull final String value) {
+            mPendingElements.peek().mAttributes.add(new Attribute(
+                    attr, TypedValue.TYPE_STRING, 0, value, null /* splitString */));
+            return this;
+        }
+
+        /**
+         * Adds a string attribute whose value has been split at "|".
+         */
+        public Builder strings(final int attr, @Nonnull final String ... values) {
+            mPendingElements.peek().mAttributes.add(new Attribute(
+                    attr, TypedValue.TYPE_STRING, 0, TextUtils.join("|", values), values));
+            return this;
+        }
+
+        public Builder integer(final int attr, final int value) {
+            return add(attr, TypedValue.TYPE_INT_DEC, value);
+        }
+
+        public Builder bool(final int attr, final boolean value) {
+            return add(attr, TypedValue.TYPE_INT_BOOLEAN, value ? -1 : 0);
+        }
+
+        /**
+         * @param complex the value in the complex format of {@link TypedValue#TYPE_FRACTION}.
+         */
+        public Builder fraction(final int attr, final int complex) {
+            return add(attr, TypedValue.TYPE_FRACTION, complex);
+        }
+
+        /**
+         * @param complex the value in the complex format of {@link TypedValue#TYPE_DIMENSION}.
+         */
+        public Builder dimension(final int attr, final int complex) {
+            return add(attr, TypedValue.TYPE_DIMENSION, complex);
+        }
+
+        public Builder reference(final int attr, final int resId) {
+            return add(attr, TypedValue.TYPE_REFERENCE, resId);
+        }
+
+        @Nonnull
+        public KeyboardLayoutElement[] build() {
+            if (mPendingElements.size() != 1) {
+                throw new IllegalStateException("Unclosed element in " + mLayoutPath);
+            }
+            final ArrayList<KeyboardLayoutElement> elements = mPendingElements.peek().mChildren;
+            return elements.toArray(new KeyboardLayoutElement[elements.size()]);
+        }
+    }
+}
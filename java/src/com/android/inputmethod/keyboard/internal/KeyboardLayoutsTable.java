@@ -0,0 +1,13407 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.internal;
+
+import com.android.inputmethod.keyboard.internal.KeyboardLayoutElement.Builder;
+import com.android.inputmethod.latin.R;
+
+import java.util.HashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * !!!!! DO NOT EDIT THIS FILE !!!!!
+ *
+ * This file is generated by tools/make-keyboard-layout. The base template file is
+ *   tools/make-keyboard-layout/res/src/com/android/inputmethod/keyboard/internal/
+ *   KeyboardLayoutsTable.tmpl
+ *
+ * This file must be updated when any keyboard layout XML in java/res/xml* or the attributes of
+ * the keyboard layout elements in java/res/values/attrs.xml have been changed.
+ * CompiledKeyboardLayoutTests fails when this file is out of date.
+ *
+ * To update this file, please run the following commands.
+ *   $ cd $ANDROID_BUILD_TOP
+ *   $ mmm packages/inputmethods/LatinIME/tools/make-keyboard-layout
+ *   $ make-keyboard-layout -res packages/inputmethods/LatinIME/java/res \
+ *       -java packages/inputmethods/LatinIME/java
+ *
+ * The updated source file will be generated to the following path (this file).
+ *   packages/inputmethods/LatinIME/java/src/com/android/inputmethod/keyboard/internal/
+ *   KeyboardLayoutsTable.java
+ */
+public final class KeyboardLayoutsTable {
+    // Layout path to compiled layout map. The compiled layout of a path is created when it is
+    // requested for the first time, because a process uses only a few of the layouts.
+    private static final HashMap<String, KeyboardLayoutElement[]> sPathToLayoutMap =
+            new HashMap<>();
+
+    private static final String VERSION_QUALIFIER_PREFIX = "-v";
+
+    /**
+     * Returns the compiled content of a keyboard layout XML, or null if it hasn't been compiled.
+     *
+     * @param path the path of the keyboard layout XML in the APK, such as
+     *        "res/xml-sw600dp-v13/kbd_qwerty.xml".
+     */
+    @Nullable
+    public static KeyboardLayoutElement[] getLayout(@Nonnull final String path) {
+        synchronized (sPathToLayoutMap) {
+            if (sPathToLayoutMap.containsKey(path)) {
+                return sPathToLayoutMap.get(path);
+            }
+            // The paths that have no compiled layout are also cached, as null.
+            KeyboardLayoutElement[] layout = newLayout(path);
+            if (layout == null) {
+                // aapt may add a platform version qualifier to a resource directory, such as
+                // "-v13" to "xml-sw600dp".
+                final String unversionedPath = removeVersionQualifier(path);
+                if (unversionedPath != null) {
+                    layout = newLayout(unversionedPath);
+                }
+            }
+            sPathToLayoutMap.put(path, layout);
+            return layout;
+        }
+    }
+
+    @Nullable
+    private static String removeVersionQualifier(final String path) {
+        final int dirEnd = path.lastIndexOf('/');
+        final int qualifierStart = path.lastIndexOf(VERSION_QUALIFIER_PREFIX, dirEnd);
+        if (dirEnd < 0 || qualifierStart < 0) {
+            return null;
+        }
+        for (int i = qualifierStart + VERSION_QUALIFIER_PREFIX.length(); i < dirEnd; i++) {
+            if (!Character.isDigit(path.charAt(i))) {
+                return null;
+            }
+        }
+        return path.substring(0, qualifierStart) + path.substring(dirEnd);
+    }
+
+    private static final int ROW = KeyboardLayoutElement.TYPE_ROW;
+    private static final int GRID_ROWS = KeyboardLayoutElement.TYPE_GRID_ROWS;
+    private static final int KEY = KeyboardLayoutElement.TYPE_KEY;
+    private static final int SPACER = KeyboardLayoutElement.TYPE_SPACER;
+    private static final int INCLUDE = KeyboardLayoutElement.TYPE_INCLUDE;
+    private static final int SWITCH = KeyboardLayoutElement.TYPE_SWITCH;
+    private static final int CASE = KeyboardLayoutElement.TYPE_CASE;
+    private static final int DEFAULT = KeyboardLayoutElement.TYPE_DEFAULT;
+    private static final int KEY_STYLE = KeyboardLayoutElement.TYPE_KEY_STYLE;
+
+    private static final int KEY_ADDITIONAL_MORE_KEYS =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_additionalMoreKeys;
+    private static final int KEY_ALT_CODE =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_altCode;
+    private static final int KEY_BACKGROUND_TYPE =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_backgroundType;
+    private static final int KEY_KEY_ACTION_FLAGS =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyActionFlags;
+    private static final int KEY_KEY_HINT_LABEL =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyHintLabel;
+    private static final int KEY_KEY_HINT_LABEL_VERTICAL_ADJUSTMENT =
+            KeyboardLayoutElement.ATTRS_KEY
+                    | R.styleable.Keyboard_Key_keyHintLabelVerticalAdjustment;
+    private static final int KEY_KEY_ICON_DISABLED =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyIconDisabled;
+    private static final int KEY_KEY_LABEL_FLAGS =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyLabelFlags;
+    private static final int KEY_KEY_SPEC =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keySpec;
+    private static final int KEY_KEY_STYLE =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyStyle;
+    private static final int KEY_KEY_WIDTH =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyWidth;
+    private static final int KEY_KEY_XPOS =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_keyXPos;
+    private static final int KEY_MORE_KEYS =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_moreKeys;
+    private static final int KEY_VISUAL_INSETS_LEFT =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_visualInsetsLeft;
+    private static final int KEY_VISUAL_INSETS_RIGHT =
+            KeyboardLayoutElement.ATTRS_KEY | R.styleable.Keyboard_Key_visualInsetsRight;
+
+    private static final int INCLUDE_KEYBOARD_LAYOUT =
+            KeyboardLayoutElement.ATTRS_INCLUDE | R.styleable.Keyboard_Include_keyboardLayout;
+
+    private static final int GRID_ROWS_CODES_ARRAY =
+            KeyboardLayoutElement.ATTRS_GRID_ROWS | R.styleable.Keyboard_GridRows_codesArray;
+    private static final int GRID_ROWS_TEXTS_ARRAY =
+            KeyboardLayoutElement.ATTRS_GRID_ROWS | R.styleable.Keyboard_GridRows_textsArray;
+
+    private static final int CASE_CLOBBER_SETTINGS_KEY =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_clobberSettingsKey;
+    private static final int CASE_COUNTRY_CODE =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_countryCode;
+    private static final int CASE_IME_ACTION =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_imeAction;
+    private static final int CASE_IS_ICON_DEFINED =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_isIconDefined;
+    private static final int CASE_IS_MULTI_LINE =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_isMultiLine;
+    private static final int CASE_IS_SPLIT_LAYOUT =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_isSplitLayout;
+    private static final int CASE_KEYBOARD_LAYOUT_SET =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_keyboardLayoutSet;
+    private static final int CASE_KEYBOARD_LAYOUT_SET_ELEMENT =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_keyboardLayoutSetElement;
+    private static final int CASE_KEYBOARD_THEME =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_keyboardTheme;
+    private static final int CASE_LANGUAGE_CODE =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_languageCode;
+    private static final int CASE_LANGUAGE_SWITCH_KEY_ENABLED =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_languageSwitchKeyEnabled;
+    private static final int CASE_LOCALE_CODE =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_localeCode;
+    private static final int CASE_MODE =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_mode;
+    private static final int CASE_NAVIGATE_NEXT =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_navigateNext;
+    private static final int CASE_NAVIGATE_PREVIOUS =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_navigatePrevious;
+    private static final int CASE_PASSWORD_INPUT =
+            KeyboardLayoutElement.ATTRS_CASE | R.styleable.Keyboard_Case_passwordInput;
+
+    private static final int KEY_STYLE_PARENT_STYLE =
+            KeyboardLayoutElement.ATTRS_KEY_STYLE | R.styleable.Keyboard_KeyStyle_parentStyle;
+    private static final int KEY_STYLE_STYLE_NAME =
+            KeyboardLayoutElement.ATTRS_KEY_STYLE | R.styleable.Keyboard_KeyStyle_styleName;
+
+    private static KeyboardLayoutElement[] newLayout_xml_land_kbd_number() {
+        final Builder b = new Builder("res/xml-land/kbd_number.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_number).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_land_kbd_phone() {
+        final Builder b = new Builder("res/xml-land/kbd_phone.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_land_kbd_phone_symbols() {
+        final Builder b = new Builder("res/xml-land/kbd_phone_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone_symbols).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[]
+                    newLayout_xml_sw600dp_land_kbd_more_keys_keyboard_template() {
+        final Builder b = new Builder("res/xml-sw600dp-land/kbd_more_keys_keyboard_template.xml");
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_land_kbd_number() {
+        final Builder b = new Builder("res/xml-sw600dp-land/kbd_number.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_number).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_land_kbd_phone() {
+        final Builder b = new Builder("res/xml-sw600dp-land/kbd_phone.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_land_kbd_phone_symbols() {
+        final Builder b = new Builder("res/xml-sw600dp-land/kbd_phone_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_land_key_space_3kw() {
+        final Builder b = new Builder("res/xml-sw600dp-land/key_space_3kw.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_LANGUAGE_CODE, "fa", "kn", "ne", "te")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_LANGUAGE_CODE, "fa", "kn", "ne", "te")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, false);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x11eb8531 /* 14.0%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE).bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x11eb8531 /* 14.0%p */)
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x1ae14831 /* 21.0%p */)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_land_row_qwerty4() {
+        final Builder b = new Builder("res/xml-sw600dp-land/row_qwerty4.xml");
+        b.start(SWITCH);
+            b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                b.start(ROW)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */);
+                    b.start(KEY).string(KEY_KEY_STYLE, "toSymbolKeyStyle").end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_comma).end();
+                    b.start(INCLUDE)
+                            .integer(KEY_BACKGROUND_TYPE, 1 /* normal */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_3kw)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x23d70a31 /* 28.0%p */).end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x1ae14831 /* 21.0%p */)
+                            .end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_period).end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji).end();
+                b.end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(ROW)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "toSymbolKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_comma).end();
+                    b.start(INCLUDE)
+                            .integer(KEY_BACKGROUND_TYPE, 1 /* normal */)
+                            .fraction(KEY_KEY_XPOS, 0x1851ec31 /* 19.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_7kw)
+                            .end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_period).end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji).end();
+                b.end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_land_rows_qwerty() {
+        final Builder b = new Builder("res/xml-sw600dp-land/rows_qwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1_left5)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x19999a31 /* 20.0%p */).end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1_right5)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .fraction(KEY_KEY_XPOS, 0x051eb831 /* 4.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2_left5)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x1d70a431 /* 23.0%p */).end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2_right4)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "enterKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "enterKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3_left4)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x15c28f31 /* 17.0%p */).end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3_right3)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_kbd_more_keys_keyboard_template() {
+        final Builder b = new Builder("res/xml-sw600dp/kbd_more_keys_keyboard_template.xml");
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_kbd_number() {
+        final Builder b = new Builder("res/xml-sw600dp/kbd_number.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_number).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_kbd_phone() {
+        final Builder b = new Builder("res/xml-sw600dp/kbd_phone.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_kbd_phone_symbols() {
+        final Builder b = new Builder("res/xml-sw600dp/kbd_phone_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_comma() {
+        final Builder b = new Builder("res/xml-sw600dp/key_comma.xml");
+        b.start(SWITCH);
+            b.start(CASE).integer(CASE_MODE, 1 /* url */);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "/")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_MODE, 2 /* email */);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "@")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "dvorak");
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "!")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_exclamation,%")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "!text/keyhintlabel_tablet_comma")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_tablet_comma")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_tablet_comma,%")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_period() {
+        final Builder b = new Builder("res/xml-sw600dp/key_period.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "dvorak");
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "?")
+                        .string(KEY_MORE_KEYS,
+                                "!text/morekeys_tablet_period,!text/morekeys_question")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_HINT_LABEL, "!text/keyhintlabel_tablet_period")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_tablet_period")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_tablet_period")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_settings() {
+        final Builder b = new Builder("res/xml-sw600dp/key_settings.xml");
+        b.start(SWITCH);
+            b.start(CASE).bool(CASE_CLOBBER_SETTINGS_KEY, false);
+                b.start(KEY).string(KEY_KEY_STYLE, "settingsKeyStyle").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(SPACER).end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_space_3kw() {
+        final Builder b = new Builder("res/xml-sw600dp/key_space_3kw.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET, "bengali_akkhor", "farsi", "kannada",
+                            "nepali_romanized", "nepali_traditional", "telugu")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET, "bengali_akkhor", "farsi", "kannada",
+                            "nepali_romanized", "nepali_traditional", "telugu")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, false);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x147ae131 /* 16.0%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE).bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x147ae131 /* 16.0%p */)
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x1eb85231 /* 24.0%p */)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_space_7kw() {
+        final Builder b = new Builder("res/xml-sw600dp/key_space_7kw.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET, "bengali_akkhor", "farsi", "kannada",
+                            "nepali_romanized", "nepali_traditional", "telugu")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x39999a31 /* 45.0%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET, "bengali_akkhor", "farsi", "kannada",
+                            "nepali_romanized", "nepali_traditional", "telugu")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, false);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x451eb831 /* 54.0%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE).bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x451eb831 /* 54.0%p */)
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x50a3d731 /* 63.0%p */)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_space_symbols() {
+        final Builder b = new Builder("res/xml-sw600dp/key_space_symbols.xml");
+        b.start(KEY)
+                .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                .fraction(KEY_KEY_WIDTH, 0x39999a31 /* 45.0%p */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_styles_common() {
+        final Builder b = new Builder("res/xml-sw600dp/key_styles_common.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x20400 /* hasShiftedLetterHint|
+                                shiftedLetterActivated */)
+                        .string(KEY_STYLE_STYLE_NAME, "hasShiftedLetterHintStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x400 /* hasShiftedLetterHint */)
+                        .string(KEY_STYLE_STYLE_NAME, "hasShiftedLetterHintStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_settings).end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10000 /* preserveCase */)
+                .string(KEY_MORE_KEYS, "!noPanelAutoMoreKey!, |!code/key_capslock")
+                .string(KEY_STYLE_STYLE_NAME, "baseForShiftKeyStyle")
+                .end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetAutomaticShifted");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 3 /* stickyOff */)
+                        .string(KEY_KEY_SPEC, "!icon/shift_key_shifted|!code/key_shift")
+                        .string(KEY_STYLE_PARENT_STYLE, "baseForShiftKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "shiftKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetShiftLocked",
+                            "alphabetShiftLockShifted");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 4 /* stickyOn */)
+                        .string(KEY_KEY_SPEC, "!icon/shift_key_shifted|!code/key_shift")
+                        .string(KEY_STYLE_PARENT_STYLE, "baseForShiftKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "shiftKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 3 /* stickyOff */)
+                        .string(KEY_KEY_SPEC, "!icon/shift_key|!code/key_shift")
+                        .string(KEY_STYLE_PARENT_STYLE, "baseForShiftKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "shiftKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x3 /* isRepeatable|noKeyPreview */)
+                .string(KEY_KEY_SPEC, "!icon/delete_key|!code/key_delete")
+                .string(KEY_STYLE_STYLE_NAME, "deleteKeyStyle")
+                .end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_enter).end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 6 /* spacebar */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0xa /* noKeyPreview|enableLongPress */)
+                .string(KEY_KEY_SPEC, "!icon/space_key|!code/key_space")
+                .string(KEY_STYLE_STYLE_NAME, "spaceKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                .string(KEY_KEY_SPEC, "!icon/zwnj_key|\u200C")
+                .string(KEY_MORE_KEYS, "!icon/zwj_key|\u200D")
+                .string(KEY_STYLE_STYLE_NAME, "zwnjKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .string(KEY_KEY_ICON_DISABLED, "!icon/shortcut_key_disabled")
+                .string(KEY_KEY_SPEC, "!icon/shortcut_key|!code/key_shortcut")
+                .string(KEY_STYLE_STYLE_NAME, "shortcutKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_ALT_CODE, "!code/key_space")
+                .integer(KEY_KEY_ACTION_FLAGS, 0xe /* noKeyPreview|altCodeWhileTyping|
+                        enableLongPress */)
+                .string(KEY_KEY_SPEC, "!icon/language_switch_key|!code/key_language_switch")
+                .string(KEY_STYLE_STYLE_NAME, "languageSwitchKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .string(KEY_KEY_SPEC, "!icon/emoji_normal_key|!code/key_emoji")
+                .string(KEY_STYLE_STYLE_NAME, "emojiKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .string(KEY_KEY_SPEC, "!icon/settings_key|!code/key_settings")
+                .string(KEY_STYLE_STYLE_NAME, "settingsKeyStyle")
+                .end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted")
+                    .bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!icon/tab_key|!code/key_action_previous")
+                        .string(KEY_STYLE_STYLE_NAME, "tabKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked")
+                    .bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!icon/tab_key|!code/key_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "tabKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!icon/tab_key|!code/key_tab")
+                        .string(KEY_STYLE_STYLE_NAME, "tabKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x90000 /* preserveCase|followFunctionalTextColor */)
+                .string(KEY_STYLE_STYLE_NAME, "baseForLayoutSwitchKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_symbol|!code/key_switch_alpha_symbol")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "toSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_alpha|!code/key_switch_alpha_symbol")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "toAlphaKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_tablet_to_more_symbol|!code/key_shift")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "toMoreSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_symbol|!code/key_shift")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "backFromMoreSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x14210 /* autoXScale|fontNormal|hasPopupHint|
+                        preserveCase */)
+                .string(KEY_KEY_SPEC, "!text/keyspec_popular_domain")
+                .string(KEY_MORE_KEYS, "!text/morekeys_popular_domain")
+                .string(KEY_STYLE_STYLE_NAME, "comKeyStyle")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_key_styles_enter() {
+        final Builder b = new Builder("res/xml-sw600dp/key_styles_enter.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_navigate_more_keys)
+                .end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 5 /* actionNext */)
+                    .bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 5 /* actionNext */);
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 7 /* actionPrevious */)
+                    .bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 7 /* actionPrevious */);
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_NEXT, true).bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "ICS", "KLP");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x940c0 /* preserveCase|autoXScale|
+                                followKeyLabelRatio|followFunctionalTextColor */)
+                        .string(KEY_KEY_SPEC, "!icon/enter_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "defaultEnterKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x1940c0 /* preserveCase|autoXScale|
+                                followKeyLabelRatio|followFunctionalTextColor|
+                                keepBackgroundAspectRatio */)
+                        .string(KEY_KEY_SPEC, "!icon/enter_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "defaultEnterKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_actions).end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .bool(CASE_IS_MULTI_LINE, true)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/enter_key|!code/key_shift_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 2 /* actionGo */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "goActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 5 /* actionNext */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "nextActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 7 /* actionPrevious */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "previousActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 6 /* actionDone */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "doneActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 4 /* actionSend */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "sendActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 3 /* actionSearch */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "searchActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 256 /* actionCustomLabel */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "customLabelActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_arabic3_left() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_arabic3_left.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0630").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0626").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_dvorak_123() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_dvorak_123.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\"")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "<")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, ">")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_MORE_KEYS, "!,\"")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, ",")
+                        .string(KEY_MORE_KEYS, "?,<")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, ".")
+                        .string(KEY_MORE_KEYS, ">")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_exclamation_question() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_exclamation_question.xml");
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                .string(KEY_KEY_SPEC, "!")
+                .string(KEY_MORE_KEYS, "!text/morekeys_exclamation")
+                .end();
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                .string(KEY_KEY_SPEC, "?")
+                .string(KEY_MORE_KEYS, "!text/morekeys_question")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_farsi3_right() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_farsi3_right.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0622").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0686").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_pcqwerty2_right3() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_pcqwerty2_right3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "{")
+                        .string(KEY_KEY_HINT_LABEL, "{")
+                        .string(KEY_KEY_SPEC, "[")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "}")
+                        .string(KEY_KEY_HINT_LABEL, "}")
+                        .string(KEY_KEY_SPEC, "]")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\\|")
+                        .string(KEY_KEY_HINT_LABEL, "|")
+                        .string(KEY_KEY_SPEC, "\\")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "{").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "}").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "|").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_pcqwerty3_right2() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_pcqwerty3_right2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, ":")
+                        .string(KEY_KEY_HINT_LABEL, ":")
+                        .string(KEY_KEY_SPEC, ";")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                        .string(KEY_KEY_HINT_LABEL, "\"")
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!4,!text/double_quotes,%,"
+                                + "!text/single_quotes")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, ":").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\"")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,!text/double_quotes,"
+                                + "!text/single_quotes")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_keys_pcqwerty4_right3() {
+        final Builder b = new Builder("res/xml-sw600dp/keys_pcqwerty4_right3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "<")
+                        .string(KEY_KEY_HINT_LABEL, "<")
+                        .string(KEY_KEY_SPEC, ",")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, ">")
+                        .string(KEY_KEY_HINT_LABEL, ">")
+                        .string(KEY_KEY_SPEC, ".")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "?")
+                        .string(KEY_KEY_HINT_LABEL, "?")
+                        .string(KEY_KEY_SPEC, "/")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_question")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "<")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,\u2039,\u2264,\u00AB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, ">")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,\u203A,\u2265,\u00BB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "?")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_question")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_row_pcqwerty5() {
+        final Builder b = new Builder("res/xml-sw600dp/row_pcqwerty5.xml");
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_settings)
+                    .end();
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "languageSwitchKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .fraction(KEY_KEY_XPOS, 0x1c28f631 /* 22.0%p */)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x33333331 /* 40.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x35c28f31 /* 42.0%p */)
+                            .fraction(KEY_KEY_XPOS, 0x251eb831 /* 29.0%p */)
+                            .end();
+                b.end();
+            b.end();
+            b.start(INCLUDE)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                    .fraction(KEY_KEY_XPOS, 0xf47ae131 /* -9.0%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_row_qwerty4() {
+        final Builder b = new Builder("res/xml-sw600dp/row_qwerty4.xml");
+        b.start(SWITCH);
+            b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                b.start(ROW)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */);
+                    b.start(KEY).string(KEY_KEY_STYLE, "toSymbolKeyStyle").end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_comma).end();
+                    b.start(INCLUDE)
+                            .integer(KEY_BACKGROUND_TYPE, 1 /* normal */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_3kw)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x19999a31 /* 20.0%p */).end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x1eb85231 /* 24.0%p */)
+                            .end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_period).end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji).end();
+                b.end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(ROW)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "toSymbolKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_comma).end();
+                    b.start(INCLUDE)
+                            .integer(KEY_BACKGROUND_TYPE, 1 /* normal */)
+                            .fraction(KEY_KEY_XPOS, 0x1851ec31 /* 19.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_7kw)
+                            .end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_period).end();
+                    b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji).end();
+                b.end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rowkeys_dvorak3() {
+        final Builder b = new Builder("res/xml-sw600dp/rowkeys_dvorak3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "q").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "j").string(KEY_MORE_KEYS, "!text/morekeys_j").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "k").string(KEY_MORE_KEYS, "!text/morekeys_k").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "x").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "b").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "m").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "w").string(KEY_MORE_KEYS, "!text/morekeys_w").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "v").string(KEY_MORE_KEYS, "!text/morekeys_v").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "z").string(KEY_MORE_KEYS, "!text/morekeys_z").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rowkeys_pcqwerty1() {
+        final Builder b = new Builder("res/xml-sw600dp/rowkeys_pcqwerty1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "~")
+                        .string(KEY_KEY_HINT_LABEL, "~")
+                        .string(KEY_KEY_SPEC, "`")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "!")
+                        .string(KEY_KEY_HINT_LABEL, "!")
+                        .string(KEY_KEY_SPEC, "1")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS,
+                                "!text/morekeys_exclamation,!text/morekeys_symbols_1")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "@")
+                        .string(KEY_KEY_HINT_LABEL, "@")
+                        .string(KEY_KEY_SPEC, "2")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "#")
+                        .string(KEY_KEY_HINT_LABEL, "#")
+                        .string(KEY_KEY_SPEC, "3")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "$")
+                        .string(KEY_KEY_HINT_LABEL, "$")
+                        .string(KEY_KEY_SPEC, "4")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_4")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\\%")
+                        .string(KEY_KEY_HINT_LABEL, "%")
+                        .string(KEY_KEY_SPEC, "5")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_5")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "^")
+                        .string(KEY_KEY_HINT_LABEL, "^")
+                        .string(KEY_KEY_SPEC, "6")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                        .string(KEY_KEY_HINT_LABEL, "&")
+                        .string(KEY_KEY_SPEC, "7")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                        .string(KEY_KEY_HINT_LABEL, "*")
+                        .string(KEY_KEY_SPEC, "8")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                        .string(KEY_KEY_HINT_LABEL, "(")
+                        .string(KEY_KEY_SPEC, "9")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_9")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                        .string(KEY_KEY_HINT_LABEL, ")")
+                        .string(KEY_KEY_SPEC, "0")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "_")
+                        .string(KEY_KEY_HINT_LABEL, "_")
+                        .string(KEY_KEY_SPEC, "-")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "\u2013,\u2014,\u00B7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                        .string(KEY_KEY_HINT_LABEL, "+")
+                        .string(KEY_KEY_SPEC, "=")
+                        .string(KEY_KEY_STYLE, "hasShiftedLetterHintStyle")
+                        .string(KEY_MORE_KEYS, "\u221E,\u2260,\u2248")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty1_shift)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_arabic() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_arabic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_arabic1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_arabic2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_arabic3).end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_armenian_phonetic() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_armenian_phonetic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic1)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic2)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_armenian_xeh).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic3)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_armenian_sha).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b60b731 /* 8.8889%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic4)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_azerty() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_azerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_azerty1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_azerty2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_azerty3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_bengali() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_bengali.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_bengali_akkhor() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_bengali_akkhor.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali_akkhor1)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali_akkhor2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali_akkhor3)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_bulgarian() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_bulgarian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_bulgarian_bds() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_bulgarian_bds.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian_bds1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian_bds2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian_bds3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_colemak() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_colemak.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_colemak1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_colemak2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_colemak3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_dvorak() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_dvorak.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_dvorak1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_dvorak2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_dvorak3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_east_slavic() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_east_slavic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_east_slavic1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_east_slavic2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_east_slavic3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_farsi() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_farsi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_farsi1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_farsi2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x053c8a31 /* 4.091%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_farsi3)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_georgian() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_georgian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_georgian1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_georgian2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_georgian3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_greek() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_greek.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_greek1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_greek2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_greek3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_hebrew() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_hebrew.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hebrew1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hebrew2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hebrew3).end();
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_WIDTH, 0x0c28f631 /* 9.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_hindi() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_hindi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_hindi_compact() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_hindi_compact.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi_compact1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi_compact2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi_compact3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_kannada() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_kannada.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_kannada1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_kannada2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_kannada3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_khmer() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_khmer.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer4).end();
+            b.start(SWITCH);
+                b.start(CASE)
+                        .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                                "alphabetShiftLocked", "alphabetShiftLockShifted");
+                    b.start(SPACER).end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_lao() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_lao.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao4).end();
+            b.start(SWITCH);
+                b.start(CASE)
+                        .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                                "alphabetShiftLocked", "alphabetShiftLockShifted");
+                    b.start(SPACER).end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_malayalam() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_malayalam.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_malayalam1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_malayalam2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_malayalam3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_marathi() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_marathi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_marathi1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_marathi2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_marathi3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_mongolian() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_mongolian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_mongolian1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_mongolian2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_mongolian3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_nepali_romanized() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_nepali_romanized.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_romanized1)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_romanized2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_romanized3)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_nepali_traditional() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_nepali_traditional.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_traditional1)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_traditional2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_traditional3)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_nordic() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_nordic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nordic1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nordic2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x04125a31 /* 3.181%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xf3333331 /* -10.0%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_number_normal() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_number_normal.xml");
+        b.start(ROW);
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "-")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "+")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ".")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "1")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "2").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "3").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xee147b31 /* -14%p */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "\uFF0A|*")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "/")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(SWITCH);
+                b.start(CASE).strings(CASE_MODE, "time", "datetime");
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                            .string(KEY_KEY_SPEC, ",")
+                            .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                            .string(KEY_MORE_KEYS, "!text/morekeys_am_pm")
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .string(KEY_KEY_SPEC, ",")
+                            .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                            .end();
+                b.end();
+            b.end();
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "4")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "5").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "6").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xee147b31 /* -14%p */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "(")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ")")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(SWITCH);
+                b.start(CASE).strings(CASE_MODE, "time", "datetime");
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .string(KEY_KEY_SPEC, ":")
+                            .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .string(KEY_KEY_SPEC, "=")
+                            .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                            .end();
+                b.end();
+            b.end();
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "7")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "8").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "9").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(SPACER).end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "tabletNumSpaceKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x26666631 /* 30%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "\uFF0A|*")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "0").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "#").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_number_password() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_number_password.xml");
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x1d70a431 /* 23%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num1KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num2KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num3KeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x1d70a431 /* 23%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num4KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num5KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num6KeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x1d70a431 /* 23%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num7KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num8KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num9KeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x1d70a431 /* 23%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "deleteKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_HINT_LABEL, "+")
+                    .string(KEY_KEY_STYLE, "num0KeyStyle")
+                    .end();
+            b.start(KEY).string(KEY_KEY_STYLE, "enterKeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_pcqwerty() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_pcqwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "tabKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x08f5c331 /* 7.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty4).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xeccccd31 /* -15.0%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_pcqwerty5).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_phone() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_phone.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_number).end();
+        b.start(ROW);
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "-")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "+")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x40c0 /* followKeyLabelRatio|autoXScale */)
+                    .string(KEY_KEY_SPEC, "!string/label_pause_key|,")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "num1KeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num2KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num3KeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xee147b31 /* -14%p */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ",")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ".")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x40c0 /* followKeyLabelRatio|autoXScale */)
+                    .string(KEY_KEY_SPEC, "!string/label_wait_key|;")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "num4KeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num5KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num6KeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xee147b31 /* -14%p */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "(")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ")")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, "N")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "num7KeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num8KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num9KeyStyle").end();
+            b.start(SPACER).end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "tabletNumSpaceKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x26666631 /* 30%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "\uFF0A|*")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .fraction(KEY_KEY_XPOS, 0x27ae1531 /* 31%p */)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_HINT_LABEL, "+")
+                    .string(KEY_KEY_STYLE, "num0KeyStyle")
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "#").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_qwerty() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_qwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1_left5)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */).end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1_right5)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .fraction(KEY_KEY_XPOS, 0x051eb831 /* 4.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2_left5)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x11eb8531 /* 14.0%p */).end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2_right4)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "enterKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "enterKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_IS_SPLIT_LAYOUT, true);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3_left4)
+                            .end();
+                    b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */).end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3_right3)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0a3d7131 /* 8.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3)
+                            .end();
+                    b.start(INCLUDE)
+                            .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_qwertz() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_qwertz.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_serbian_qwertz() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_serbian_qwertz.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_serbian_qwertz1)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_serbian_qwertz2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_serbian_qwertz3)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_sinhala() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_sinhala.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_sinhala1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_sinhala2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_sinhala3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_south_slavic() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_south_slavic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_south_slavic1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_south_slavic2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_south_slavic3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_spanish() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_spanish.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_spanish2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_swiss() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_swiss.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_swiss1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_swiss2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x04125a31 /* 3.181%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xf3333331 /* -10.0%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_symbols() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toMoreSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "\\").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "=").end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toMoreSymbolKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toAlphaKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_symbols4).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji).end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_symbols_shift() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_symbols_shift.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols_shift1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x05c28f31 /* 4.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols_shift2)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "backFromMoreSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols_shift3).end();
+            b.start(KEY).string(KEY_KEY_SPEC, "\u00A1").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "\u00BF").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "backFromMoreSymbolKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .fraction(KEY_KEY_WIDTH, 0x0b851f31 /* 9.0%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toAlphaKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_symbols_shift4).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_emoji).end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_tamil() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_tamil.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_tamil1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_tamil2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_tamil3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_telugu() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_telugu.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_telugu1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_telugu2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_telugu3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_thai() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_thai.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x03333331 /* 2.5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai2)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_thai_kho_khuat).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5.0%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai3)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x09999a31 /* 7.5%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai4).end();
+            b.start(SWITCH);
+                b.start(CASE)
+                        .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                                "alphabetShiftLocked", "alphabetShiftLockShifted");
+                    b.start(SPACER).end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(INCLUDE)
+                            .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_sw600dp_rows_uzbek() {
+        final Builder b = new Builder("res/xml-sw600dp/rows_uzbek.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_uzbek1).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_uzbek2).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0a791431 /* 8.182%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */)
+                    .end();
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x04125a31 /* 3.181%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_exclamation_question)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xf3333331 /* -10.0%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_sign_anusvara() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_sign_anusvara.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0903,\u0901,\u093C")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignAnusvara")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0903,\u0901")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignAnusvara")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignAnusvara")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0902")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignAnusvara")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignAnusvara")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[]
+                    newLayout_xml_v16_keystyle_devanagari_sign_candrabindu() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_sign_candrabindu.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0945")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignCandrabindu")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignCandrabindu")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0901")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignCandrabindu")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignCandrabindu")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_sign_nukta() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_sign_nukta.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u097D,\u0970,\u093D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignNukta")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_romanized");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u093C")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignNukta")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignNukta")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u093C")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignNukta")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignNukta")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_sign_virama() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_sign_virama.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u094D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeySpecDevanagariSignVirama")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0945,\u090D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignVirama")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0905")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignVirama")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignVirama")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u094D")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignVirama")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignVirama")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_sign_visarga() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_sign_visarga.xml");
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0903")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignVisarga")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_aa() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_aa.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u093E\u0902,\u093E\u0901,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u093E,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0906,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u093E")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignAa")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignAa")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_ai() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_ai.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0948\u0902,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0948,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0910,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_traditional");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0936\u094D\u0930")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0948")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignAi")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignAi")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_au() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_au.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u094C\u0902,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u094C,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0914,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u094C")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignAu")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignAu")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[]
+                    newLayout_xml_v16_keystyle_devanagari_vowel_sign_candra_e() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_candra_e.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0945")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraE")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraE")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0945")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignCandraE")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignCandraE")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[]
+                    newLayout_xml_v16_keystyle_devanagari_vowel_sign_candra_o() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_candra_o.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0949")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraO")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0911")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraO")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraO")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0949")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignCandraO")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignCandraO")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_e() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_e.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0947\u0902")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0947")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090F")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_traditional");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0903,\u093D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0947")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignE")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignE")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_i() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_i.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u093F\u0902")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u093F")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0907")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u093F")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignI")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignI")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_ii() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_ii.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0940\u0902,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0940,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0908,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0940")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignIi")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignIi")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_o() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_o.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u094B\u0902,\u0949,\u094A")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u094B")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0913")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u094B")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignO")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignO")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_u() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_u.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0941\u0902,\u0941\u0901")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0941")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0909")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0941")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignU")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignU")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_v16_keystyle_devanagari_vowel_sign_uu() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_uu.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0942\u0902,\u0942\u0901,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0942,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090A,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0942")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignUu")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignUu")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[]
+                    newLayout_xml_v16_keystyle_devanagari_vowel_sign_vocalic_r() {
+        final Builder b = new Builder("res/xml-v16/keystyle_devanagari_vowel_sign_vocalic_r.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0944")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090B,\u0943")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0931,\u090B,\u0943")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_traditional");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0913")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u0943")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignVocalicR")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignVocalicR")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_arabic() {
+        final Builder b = new Builder("res/xml/kbd_arabic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_arabic).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_armenian_phonetic() {
+        final Builder b = new Builder("res/xml/kbd_armenian_phonetic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_armenian_phonetic).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_azerty() {
+        final Builder b = new Builder("res/xml/kbd_azerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_azerty).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_bengali() {
+        final Builder b = new Builder("res/xml/kbd_bengali.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_bengali).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_bengali_akkhor() {
+        final Builder b = new Builder("res/xml/kbd_bengali_akkhor.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_bengali_akkhor).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_bulgarian() {
+        final Builder b = new Builder("res/xml/kbd_bulgarian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_bulgarian).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_bulgarian_bds() {
+        final Builder b = new Builder("res/xml/kbd_bulgarian_bds.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_bulgarian_bds).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_colemak() {
+        final Builder b = new Builder("res/xml/kbd_colemak.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_colemak).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_dvorak() {
+        final Builder b = new Builder("res/xml/kbd_dvorak.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_dvorak).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_east_slavic() {
+        final Builder b = new Builder("res/xml/kbd_east_slavic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_east_slavic).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category1() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category1.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_faces)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category10() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category10.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_food_drink)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category11() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category11.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_travel_places)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category12() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category12.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_activity)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category13() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category13.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_objects)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category14() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category14.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_symbols)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category15() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category15.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_flags)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category16() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category16.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_smiley_people_boring)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category2() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category2.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_objects)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category3() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category3.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_nature)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category4() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category4.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_places)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category5() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category5.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_symbols)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category6() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category6.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .reference(GRID_ROWS_TEXTS_ARRAY, R.array.emoji_emoticons)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category7() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category7.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_flags)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category8() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category8.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_smiley_people)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_category9() {
+        final Builder b = new Builder("res/xml/kbd_emoji_category9.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_eight_animals_nature)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_emoji_recents() {
+        final Builder b = new Builder("res/xml/kbd_emoji_recents.xml");
+        b.start(GRID_ROWS)
+                .integer(KEY_BACKGROUND_TYPE, 0 /* empty */)
+                .reference(GRID_ROWS_CODES_ARRAY, R.array.emoji_recents)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_farsi() {
+        final Builder b = new Builder("res/xml/kbd_farsi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_farsi).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_georgian() {
+        final Builder b = new Builder("res/xml/kbd_georgian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_georgian).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_greek() {
+        final Builder b = new Builder("res/xml/kbd_greek.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_greek).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_hebrew() {
+        final Builder b = new Builder("res/xml/kbd_hebrew.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_hebrew).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_hindi() {
+        final Builder b = new Builder("res/xml/kbd_hindi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_hindi).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_hindi_compact() {
+        final Builder b = new Builder("res/xml/kbd_hindi_compact.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_hindi_compact).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_kannada() {
+        final Builder b = new Builder("res/xml/kbd_kannada.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_kannada).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_khmer() {
+        final Builder b = new Builder("res/xml/kbd_khmer.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_khmer).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_lao() {
+        final Builder b = new Builder("res/xml/kbd_lao.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_lao).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_malayalam() {
+        final Builder b = new Builder("res/xml/kbd_malayalam.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_malayalam).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_marathi() {
+        final Builder b = new Builder("res/xml/kbd_marathi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_marathi).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_mongolian() {
+        final Builder b = new Builder("res/xml/kbd_mongolian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_mongolian).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_more_keys_keyboard_template() {
+        final Builder b = new Builder("res/xml/kbd_more_keys_keyboard_template.xml");
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_nepali_romanized() {
+        final Builder b = new Builder("res/xml/kbd_nepali_romanized.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_nepali_romanized).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_nepali_traditional() {
+        final Builder b = new Builder("res/xml/kbd_nepali_traditional.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_nepali_traditional).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_nordic() {
+        final Builder b = new Builder("res/xml/kbd_nordic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_nordic).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_number() {
+        final Builder b = new Builder("res/xml/kbd_number.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_number).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_pcqwerty() {
+        final Builder b = new Builder("res/xml/kbd_pcqwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_pcqwerty).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_phone() {
+        final Builder b = new Builder("res/xml/kbd_phone.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_phone_symbols() {
+        final Builder b = new Builder("res/xml/kbd_phone_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_phone_symbols).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_qwerty() {
+        final Builder b = new Builder("res/xml/kbd_qwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_qwerty).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_qwertz() {
+        final Builder b = new Builder("res/xml/kbd_qwertz.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_qwertz).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_serbian_qwertz() {
+        final Builder b = new Builder("res/xml/kbd_serbian_qwertz.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_serbian_qwertz).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_sinhala() {
+        final Builder b = new Builder("res/xml/kbd_sinhala.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_sinhala).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_south_slavic() {
+        final Builder b = new Builder("res/xml/kbd_south_slavic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_south_slavic).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_spanish() {
+        final Builder b = new Builder("res/xml/kbd_spanish.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_spanish).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_suggestions_pane_template() {
+        final Builder b = new Builder("res/xml/kbd_suggestions_pane_template.xml");
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_swiss() {
+        final Builder b = new Builder("res/xml/kbd_swiss.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_swiss).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_symbols() {
+        final Builder b = new Builder("res/xml/kbd_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_symbols).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_symbols_shift() {
+        final Builder b = new Builder("res/xml/kbd_symbols_shift.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_symbols_shift).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_tamil() {
+        final Builder b = new Builder("res/xml/kbd_tamil.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_tamil).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_telugu() {
+        final Builder b = new Builder("res/xml/kbd_telugu.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_telugu).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_thai() {
+        final Builder b = new Builder("res/xml/kbd_thai.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_thai).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_kbd_uzbek() {
+        final Builder b = new Builder("res/xml/kbd_uzbek.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_uzbek).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_armenian_sha() {
+        final Builder b = new Builder("res/xml/key_armenian_sha.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0577").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_armenian_xeh() {
+        final Builder b = new Builder("res/xml/key_armenian_xeh.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u056D").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_comma() {
+        final Builder b = new Builder("res/xml/key_comma.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "dvorak");
+                b.start(KEY)
+                        .integer(KEY_BACKGROUND_TYPE, 1 /* normal */)
+                        .string(KEY_KEY_SPEC, "q")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_q,%")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_MODE, 1 /* url */);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "/")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_MODE, 2 /* email */);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "@")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_comma")
+                        .string(KEY_KEY_STYLE, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_emoji() {
+        final Builder b = new Builder("res/xml/key_emoji.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_MODE, "email", "url");
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "comKeyStyle")
+                        .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "emojiKeyStyle")
+                        .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_period() {
+        final Builder b = new Builder("res/xml/key_period.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "dvorak");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                        .string(KEY_KEY_SPEC, "z")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_punctuation,!text/morekeys_z")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_HINT_LABEL, "!text/keyhintlabel_period")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x600 /* hasPopupHint|hasShiftedLetterHint */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_period")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_period")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_space_5kw() {
+        final Builder b = new Builder("res/xml/key_space_5kw.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET, "bengali_akkhor", "farsi", "kannada",
+                            "nepali_romanized", "nepali_traditional", "telugu")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x26666631 /* 30%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET, "bengali_akkhor", "farsi", "kannada",
+                            "nepali_romanized", "nepali_traditional", "telugu")
+                    .bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, false);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x33333331 /* 40%p */)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "zwnjKeyStyle").end();
+            b.end();
+            b.start(CASE).bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                b.start(KEY).string(KEY_KEY_STYLE, "languageSwitchKeyStyle").end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x33333331 /* 40%p */)
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                        .fraction(KEY_KEY_WIDTH, 0x40000031 /* 50%p */)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_space_symbols() {
+        final Builder b = new Builder("res/xml/key_space_symbols.xml");
+        b.start(KEY)
+                .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                .fraction(KEY_KEY_WIDTH, 0x26666631 /* 30%p */)
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_actions() {
+        final Builder b = new Builder("res/xml/key_styles_actions.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_IS_ICON_DEFINED, "go_key");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/go_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "goActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!text/label_go_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "goActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_IS_ICON_DEFINED, "next_key");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/next_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "nextActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!text/label_next_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "nextActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_IS_ICON_DEFINED, "previous_key");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/previous_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "previousActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!text/label_previous_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "previousActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_IS_ICON_DEFINED, "done_key");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/done_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "doneActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!text/label_done_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "doneActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_IS_ICON_DEFINED, "send_key");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/send_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "sendActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!text/label_send_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "sendActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_IS_ICON_DEFINED, "search_key");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/search_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "searchActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!text/label_search_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "searchActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "ICS", "KLP");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x40000 /* fromCustomActionLabel */)
+                        .string(KEY_KEY_SPEC, "dummy_label|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "customLabelActionKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x40000 /* fromCustomActionLabel */)
+                        .string(KEY_KEY_SPEC, "dummy_label|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "customLabelActionKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_common() {
+        final Builder b = new Builder("res/xml/key_styles_common.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x20400 /* hasShiftedLetterHint|
+                                shiftedLetterActivated */)
+                        .string(KEY_STYLE_STYLE_NAME, "hasShiftedLetterHintStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x400 /* hasShiftedLetterHint */)
+                        .string(KEY_STYLE_STYLE_NAME, "hasShiftedLetterHintStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_settings).end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10000 /* preserveCase */)
+                .string(KEY_MORE_KEYS, "!noPanelAutoMoreKey!, |!code/key_capslock")
+                .string(KEY_STYLE_STYLE_NAME, "baseForShiftKeyStyle")
+                .end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetAutomaticShifted");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 3 /* stickyOff */)
+                        .string(KEY_KEY_SPEC, "!icon/shift_key_shifted|!code/key_shift")
+                        .string(KEY_STYLE_PARENT_STYLE, "baseForShiftKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "shiftKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetShiftLocked",
+                            "alphabetShiftLockShifted");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 4 /* stickyOn */)
+                        .string(KEY_KEY_SPEC, "!icon/shift_key_shifted|!code/key_shift")
+                        .string(KEY_STYLE_PARENT_STYLE, "baseForShiftKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "shiftKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 3 /* stickyOff */)
+                        .string(KEY_KEY_SPEC, "!icon/shift_key|!code/key_shift")
+                        .string(KEY_STYLE_PARENT_STYLE, "baseForShiftKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "shiftKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x3 /* isRepeatable|noKeyPreview */)
+                .string(KEY_KEY_SPEC, "!icon/delete_key|!code/key_delete")
+                .string(KEY_STYLE_STYLE_NAME, "deleteKeyStyle")
+                .end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "ICS", "KLP");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                        .string(KEY_KEY_SPEC, "!icon/emoji_action_key|!code/key_emoji")
+                        .string(KEY_STYLE_STYLE_NAME, "emojiKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x100000 /* keepBackgroundAspectRatio */)
+                        .string(KEY_KEY_SPEC, "!icon/emoji_action_key|!code/key_emoji")
+                        .string(KEY_STYLE_STYLE_NAME, "emojiKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_enter).end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 6 /* spacebar */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0xa /* noKeyPreview|enableLongPress */)
+                .string(KEY_KEY_SPEC, "!icon/space_key|!code/key_space")
+                .string(KEY_STYLE_STYLE_NAME, "spaceKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                .string(KEY_KEY_SPEC, "!icon/zwnj_key|\u200C")
+                .string(KEY_MORE_KEYS, "!icon/zwj_key|\u200D")
+                .string(KEY_STYLE_STYLE_NAME, "zwnjKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_ALT_CODE, "!code/key_space")
+                .integer(KEY_KEY_ACTION_FLAGS, 0x6 /* noKeyPreview|altCodeWhileTyping */)
+                .string(KEY_KEY_ICON_DISABLED, "!icon/shortcut_key_disabled")
+                .string(KEY_KEY_SPEC, "!icon/shortcut_key|!code/key_shortcut")
+                .string(KEY_STYLE_PARENT_STYLE, "settingsMoreKeysStyle")
+                .string(KEY_STYLE_STYLE_NAME, "shortcutKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_ALT_CODE, "!code/key_space")
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x6 /* noKeyPreview|altCodeWhileTyping */)
+                .string(KEY_KEY_SPEC, "!icon/settings_key|!code/key_settings")
+                .string(KEY_STYLE_STYLE_NAME, "settingsKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_ALT_CODE, "!code/key_space")
+                .integer(KEY_KEY_ACTION_FLAGS, 0xe /* noKeyPreview|altCodeWhileTyping|
+                        enableLongPress */)
+                .string(KEY_KEY_SPEC, "!icon/language_switch_key|!code/key_language_switch")
+                .string(KEY_STYLE_STYLE_NAME, "languageSwitchKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .string(KEY_KEY_SPEC, "!icon/tab_key|!code/key_tab")
+                .string(KEY_STYLE_STYLE_NAME, "tabKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!icon/tab_key|!code/key_tab")
+                .string(KEY_STYLE_STYLE_NAME, "nonSpecialBackgroundTabKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x90000 /* preserveCase|followFunctionalTextColor */)
+                .string(KEY_STYLE_STYLE_NAME, "baseForLayoutSwitchKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_symbol|!code/key_switch_alpha_symbol")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "toSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_alpha|!code/key_switch_alpha_symbol")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "toAlphaKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_more_symbol|!code/key_shift")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "toMoreSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keylabel_to_symbol|!code/key_shift")
+                .string(KEY_STYLE_PARENT_STYLE, "baseForLayoutSwitchKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "backFromMoreSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x14210 /* autoXScale|fontNormal|hasPopupHint|
+                        preserveCase */)
+                .string(KEY_KEY_SPEC, "!text/keyspec_popular_domain")
+                .string(KEY_MORE_KEYS, "!text/morekeys_popular_domain")
+                .string(KEY_STYLE_STYLE_NAME, "comKeyStyle")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_currency() {
+        final Builder b = new Builder("res/xml/key_styles_currency.xml");
+        b.start(SWITCH);
+            b.start(CASE).bool(CASE_PASSWORD_INPUT, true);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_dollar)
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_COUNTRY_CODE, "AD", "AT", "BE", "CY", "EE", "FI", "FR", "DE",
+                            "GR", "IE", "IT", "XK", "LU", "MT", "MO", "ME", "NL", "PT", "SM", "SK",
+                            "SI", "ES", "VA");
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_euro)
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_LOCALE_CODE, "da", "de", "es", "el", "fi", "fr", "it", "nl", "sk",
+                            "sl", "sv", "tr");
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_euro)
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_LANGUAGE_CODE, "ca", "et", "lb", "mt");
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_euro)
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_LANGUAGE_CODE, "fa", "hi", "iw", "lo", "mn", "ne", "th", "uk",
+                            "vi");
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_generic)
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_COUNTRY_CODE, "LK", "BD");
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_generic)
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_COUNTRY_CODE, "IN");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u20B9")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_currency_generic")
+                        .string(KEY_STYLE_STYLE_NAME, "currencyKeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u00A3")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency1KeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u20AC")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency2KeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "$")
+                        .string(KEY_MORE_KEYS, "\u00A2")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency3KeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u00A2")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency4KeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_COUNTRY_CODE, "GB");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u00A3")
+                        .string(KEY_MORE_KEYS, "\u00A2,$,\u20AC,\u00A5,\u20B1")
+                        .string(KEY_STYLE_STYLE_NAME, "currencyKeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u20AC")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency1KeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u00A5")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency2KeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "$")
+                        .string(KEY_MORE_KEYS, "\u00A2")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency3KeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "\u00A2")
+                        .string(KEY_STYLE_STYLE_NAME, "moreCurrency4KeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency_dollar)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_currency_dollar() {
+        final Builder b = new Builder("res/xml/key_styles_currency_dollar.xml");
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "$")
+                .string(KEY_MORE_KEYS, "!text/morekeys_currency_dollar")
+                .string(KEY_STYLE_STYLE_NAME, "currencyKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A3")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency1KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A2")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency2KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u20AC")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency3KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A5")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency4KeyStyle")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_currency_euro() {
+        final Builder b = new Builder("res/xml/key_styles_currency_euro.xml");
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u20AC")
+                .string(KEY_MORE_KEYS, "\u00A2,\u00A3,$,\u00A5,\u20B1")
+                .string(KEY_STYLE_STYLE_NAME, "currencyKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A3")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency1KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A5")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency2KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "$")
+                .string(KEY_MORE_KEYS, "\u00A2")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency3KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A2")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency4KeyStyle")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_currency_generic() {
+        final Builder b = new Builder("res/xml/key_styles_currency_generic.xml");
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "!text/keyspec_currency")
+                .string(KEY_MORE_KEYS, "!text/morekeys_currency_generic")
+                .string(KEY_STYLE_STYLE_NAME, "currencyKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A3")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency1KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u20AC")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency2KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "$")
+                .string(KEY_MORE_KEYS, "\u00A2")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency3KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "\u00A2")
+                .string(KEY_STYLE_STYLE_NAME, "moreCurrency4KeyStyle")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_enter() {
+        final Builder b = new Builder("res/xml/key_styles_enter.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_navigate_more_keys)
+                .end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 5 /* actionNext */)
+                    .bool(CASE_NAVIGATE_PREVIOUS, true)
+                    .bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 5 /* actionNext */)
+                    .bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 7 /* actionPrevious */)
+                    .bool(CASE_NAVIGATE_NEXT, true)
+                    .bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 7 /* actionPrevious */)
+                    .bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .bool(CASE_NAVIGATE_NEXT, true)
+                    .bool(CASE_NAVIGATE_PREVIOUS, true)
+                    .bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_NEXT, true).bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_PREVIOUS, true).bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_PASSWORD_INPUT, true);
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 5 /* actionNext */)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime")
+                    .bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 5 /* actionNext */)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime");
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 7 /* actionPrevious */)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime")
+                    .bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 7 /* actionPrevious */)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime");
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime")
+                    .bool(CASE_NAVIGATE_NEXT, true)
+                    .bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime")
+                    .bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime")
+                    .bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigatePreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .strings(CASE_MODE, "email", "url", "phone", "number", "date", "time",
+                            "datetime");
+                b.start(KEY_STYLE).string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle").end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 5 /* actionNext */)
+                    .bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiPreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 5 /* actionNext */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE)
+                    .integer(CASE_IME_ACTION, 7 /* actionPrevious */)
+                    .bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 7 /* actionPrevious */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_NEXT, true).bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiPreviousNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_NEXT, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiNextMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(CASE).bool(CASE_NAVIGATE_PREVIOUS, true);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiPreviousMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateEmojiMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateMoreKeysStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "ICS", "KLP");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x940c0 /* preserveCase|autoXScale|
+                                followKeyLabelRatio|followFunctionalTextColor */)
+                        .string(KEY_KEY_SPEC, "!icon/enter_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "defaultEnterKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 5 /* action */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x1940c0 /* preserveCase|autoXScale|
+                                followKeyLabelRatio|followFunctionalTextColor|
+                                keepBackgroundAspectRatio */)
+                        .string(KEY_KEY_SPEC, "!icon/enter_key|!code/key_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "navigateMoreKeysStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "defaultEnterKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_actions).end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .bool(CASE_IS_MULTI_LINE, true)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY_STYLE)
+                        .string(KEY_KEY_SPEC, "!icon/enter_key|!code/key_shift_enter")
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_MODE, 3 /* im */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "emojiKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 2 /* actionGo */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "goActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 5 /* actionNext */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "nextActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 7 /* actionPrevious */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "previousActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 6 /* actionDone */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "doneActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 4 /* actionSend */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "sendActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 3 /* actionSearch */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "searchActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_IME_ACTION, 256 /* actionCustomLabel */);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "customLabelActionKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_PARENT_STYLE, "defaultEnterKeyStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "enterKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_less_greater() {
+        final Builder b = new Builder("res/xml/key_styles_less_greater.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_LANGUAGE_CODE, "fa");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_left_double_angle_quote")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_less_than")
+                        .string(KEY_STYLE_STYLE_NAME, "lessKeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_right_double_angle_quote")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_greater_than")
+                        .string(KEY_STYLE_STYLE_NAME, "greaterKeyStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_less_than")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_less_than")
+                        .string(KEY_STYLE_STYLE_NAME, "lessKeyStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_greater_than")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_greater_than")
+                        .string(KEY_STYLE_STYLE_NAME, "greaterKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_navigate_more_keys() {
+        final Builder b = new Builder("res/xml/key_styles_navigate_more_keys.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "ICS", "KLP");
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!text/keyspec_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateNextMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!text/keyspec_action_previous")
+                        .string(KEY_STYLE_STYLE_NAME, "navigatePreviousMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!2,!needsDividers!,"
+                                + "!text/keyspec_action_previous,!text/keyspec_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigatePreviousNextMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!text/keyspec_emoji_action_key")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!2,!needsDividers!,"
+                                + "!text/keyspec_emoji_action_key,!text/keyspec_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiNextMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!2,!needsDividers!,"
+                                + "!text/keyspec_emoji_action_key,"
+                                + "!text/keyspec_action_previous")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiPreviousMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,!needsDividers!,"
+                                + "!text/keyspec_emoji_action_key,"
+                                + "!text/keyspec_action_previous,!text/keyspec_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiPreviousNextMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!icon/next_key|!code/key_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateNextMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!icon/previous_key|!code/key_action_previous")
+                        .string(KEY_STYLE_STYLE_NAME, "navigatePreviousMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!2,!needsDividers!,"
+                                + "!icon/previous_key|!code/key_action_previous,"
+                                + "!icon/next_key|!code/key_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigatePreviousNextMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!text/keyspec_emoji_action_key")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!2,!needsDividers!,"
+                                + "!text/keyspec_emoji_action_key,"
+                                + "!icon/next_key|!code/key_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiNextMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!2,!needsDividers!,"
+                                + "!text/keyspec_emoji_action_key,"
+                                + "!icon/previous_key|!code/key_action_previous")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiPreviousMoreKeysStyle")
+                        .end();
+                b.start(KEY_STYLE)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x10200 /* hasPopupHint|preserveCase */)
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,!needsDividers!,"
+                                + "!text/keyspec_emoji_action_key,"
+                                + "!icon/previous_key|!code/key_action_previous,"
+                                + "!icon/next_key|!code/key_action_next")
+                        .string(KEY_STYLE_STYLE_NAME, "navigateEmojiPreviousNextMoreKeysStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_number() {
+        final Builder b = new Builder("res/xml/key_styles_number.xml");
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .string(KEY_STYLE_STYLE_NAME, "numKeyBaseStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x40 /* followKeyLargeLetterRatio */)
+                .string(KEY_STYLE_PARENT_STYLE, "numKeyBaseStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80090 /* fontNormal|followKeyLetterRatio|
+                        followFunctionalTextColor */)
+                .string(KEY_STYLE_PARENT_STYLE, "numKeyBaseStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numModeKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_STYLE_PARENT_STYLE, "numKeyBaseStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x808 /* alignLabelOffCenter|hasHintLabel */)
+                .string(KEY_STYLE_PARENT_STYLE, "numKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numberKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "0")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num0KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC, "1")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num1KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "ABC")
+                .string(KEY_KEY_SPEC, "2")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num2KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "DEF")
+                .string(KEY_KEY_SPEC, "3")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num3KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "GHI")
+                .string(KEY_KEY_SPEC, "4")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num4KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "JKL")
+                .string(KEY_KEY_SPEC, "5")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num5KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "MNO")
+                .string(KEY_KEY_SPEC, "6")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num6KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "PQRS")
+                .string(KEY_KEY_SPEC, "7")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num7KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "TUV")
+                .string(KEY_KEY_SPEC, "8")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num8KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_HINT_LABEL, "WXYZ")
+                .string(KEY_KEY_SPEC, "9")
+                .string(KEY_STYLE_PARENT_STYLE, "numberKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "num9KeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC,
+                        "!text/keylabel_to_phone_symbols|!code/key_switch_alpha_symbol")
+                .string(KEY_STYLE_PARENT_STYLE, "numModeKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numPhoneToSymbolKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .string(KEY_KEY_SPEC,
+                        "!text/keylabel_to_phone_numeric|!code/key_switch_alpha_symbol")
+                .string(KEY_STYLE_PARENT_STYLE, "numModeKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numPhoneToNumericKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x2 /* noKeyPreview */)
+                .string(KEY_STYLE_PARENT_STYLE, "tabKeyStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numTabKeyStyle")
+                .end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_ACTION_FLAGS, 0x8 /* enableLongPress */)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4 /* alignIconToBottom */)
+                .string(KEY_KEY_SPEC, "!icon/space_key_for_number_layout|!code/key_space")
+                .string(KEY_STYLE_PARENT_STYLE, "numKeyBaseStyle")
+                .string(KEY_STYLE_STYLE_NAME, "numSpaceKeyStyle")
+                .end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "ICS", "KLP");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x8 /* enableLongPress */)
+                        .string(KEY_KEY_SPEC, "!icon/space_key|!code/key_space")
+                        .string(KEY_STYLE_PARENT_STYLE, "numKeyBaseStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "tabletNumSpaceKeyStyle")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_THEME, "LXXLight", "LXXDark");
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 6 /* spacebar */)
+                        .integer(KEY_KEY_ACTION_FLAGS, 0x8 /* enableLongPress */)
+                        .string(KEY_KEY_SPEC, "!icon/space_key|!code/key_space")
+                        .string(KEY_STYLE_PARENT_STYLE, "numKeyBaseStyle")
+                        .string(KEY_STYLE_STYLE_NAME, "tabletNumSpaceKeyStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_styles_settings() {
+        final Builder b = new Builder("res/xml/key_styles_settings.xml");
+        b.start(SWITCH);
+            b.start(CASE).bool(CASE_CLOBBER_SETTINGS_KEY, true);
+                b.start(KEY_STYLE)
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .string(KEY_STYLE_STYLE_NAME, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "!text/keyspec_settings")
+                        .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                        .string(KEY_STYLE_STYLE_NAME, "settingsMoreKeysStyle")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_key_thai_kho_khuat() {
+        final Builder b = new Builder("res/xml/key_thai_kho_khuat.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E05").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E03").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_arabic3_left() {
+        final Builder b = new Builder("res/xml/keys_arabic3_left.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0630").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_curly_brackets() {
+        final Builder b = new Builder("res/xml/keys_curly_brackets.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_left_curly_bracket").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_right_curly_bracket").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_dvorak_123() {
+        final Builder b = new Builder("res/xml/keys_dvorak_123.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\"")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_MODE, 1 /* url */);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "/")
+                        .end();
+            b.end();
+            b.start(CASE).integer(CASE_MODE, 2 /* email */);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "@")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_MORE_KEYS, "!,\"")
+                        .end();
+            b.end();
+        b.end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "<")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, ">")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, ",")
+                        .string(KEY_MORE_KEYS, "?,<")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, ".")
+                        .string(KEY_MORE_KEYS, ">")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_farsi3_right() {
+        final Builder b = new Builder("res/xml/keys_farsi3_right.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0686").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_parentheses() {
+        final Builder b = new Builder("res/xml/keys_parentheses.xml");
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_left_parenthesis")
+                .string(KEY_MORE_KEYS, "!text/morekeys_left_parenthesis")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_right_parenthesis")
+                .string(KEY_MORE_KEYS, "!text/morekeys_right_parenthesis")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_pcqwerty2_right3() {
+        final Builder b = new Builder("res/xml/keys_pcqwerty2_right3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY).string(KEY_ADDITIONAL_MORE_KEYS, "{").string(KEY_KEY_SPEC, "[").end();
+                b.start(KEY).string(KEY_ADDITIONAL_MORE_KEYS, "}").string(KEY_KEY_SPEC, "]").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\\|")
+                        .string(KEY_KEY_SPEC, "\\")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "{").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "}").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "|").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_pcqwerty3_right2() {
+        final Builder b = new Builder("res/xml/keys_pcqwerty3_right2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY).string(KEY_ADDITIONAL_MORE_KEYS, ":").string(KEY_KEY_SPEC, ";").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!4,!text/double_quotes,%,"
+                                + "!text/single_quotes")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, ":").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\"")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,!text/double_quotes,"
+                                + "!text/single_quotes")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_pcqwerty4_right3() {
+        final Builder b = new Builder("res/xml/keys_pcqwerty4_right3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY).string(KEY_ADDITIONAL_MORE_KEYS, "<").string(KEY_KEY_SPEC, ",").end();
+                b.start(KEY).string(KEY_ADDITIONAL_MORE_KEYS, ">").string(KEY_KEY_SPEC, ".").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "?")
+                        .string(KEY_KEY_SPEC, "/")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_question")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "<")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,\u2039,\u2264,\u00AB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, ">")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!3,\u203A,\u2265,\u00BB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "?")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_question")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keys_square_brackets() {
+        final Builder b = new Builder("res/xml/keys_square_brackets.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_left_square_bracket").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_right_square_bracket").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_sign_anusvara() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_sign_anusvara.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0903|\u0903,\u25CC\u0901|\u0901,"
+                                + "\u25CC\u093C|\u093C")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignAnusvara")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0903|\u0903,\u25CC\u0901|\u0901")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignAnusvara")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignAnusvara")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0902|\u0902")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignAnusvara")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignAnusvara")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_sign_candrabindu() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_sign_candrabindu.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0945|\u0945")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignCandrabindu")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignCandrabindu")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0901|\u0901")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignCandrabindu")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignCandrabindu")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_sign_nukta() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_sign_nukta.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u097D|\u097D,\u25CC\u0970|\u0970,"
+                                + "\u25CC\u093D|\u093D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignNukta")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_romanized");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u093C|\u093C")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignNukta")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignNukta")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u093C|\u093C")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignNukta")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignNukta")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_sign_virama() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_sign_virama.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u094D|\u094D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeySpecDevanagariSignVirama")
+                        .end();
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0945|\u0945,\u090D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignVirama")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0905")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignVirama")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariSignVirama")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u094D|\u094D")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariSignVirama")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignVirama")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_sign_visarga() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_sign_visarga.xml");
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0903|\u0903")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariSignVisarga")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_aa() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_aa.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u093E\u0902|\u093E\u0902,"
+                                + "\u25CC\u093E\u0901|\u093E\u0901,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u093E|\u093E,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0906,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAa")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u093E|\u093E")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignAa")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignAa")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_ai() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_ai.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0948\u0902|\u0948\u0902,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0948|\u0948,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0910,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_traditional");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0936\u094D\u0930")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAi")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0948|\u0948")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignAi")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignAi")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_au() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_au.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u094C\u0902|\u094C\u0902,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u094C|\u094C,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0914,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignAu")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u094C|\u094C")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignAu")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignAu")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_candra_e() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_candra_e.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0945|\u0945")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraE")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraE")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0945|\u0945")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignCandraE")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignCandraE")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_candra_o() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_candra_o.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0949|\u0949")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraO")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0911")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraO")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignCandraO")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0949|\u0949")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignCandraO")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignCandraO")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_e() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_e.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0947\u0902|\u0947\u0902")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0947|\u0947")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090F")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_traditional");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0903|\u0903,\u093D")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignE")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0947|\u0947")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignE")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignE")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_i() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_i.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u093F\u25CC\u0902|\u093F\u0902")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u093F|\u093F")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0907")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignI")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u093F|\u093F")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignI")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignI")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_ii() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_ii.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0940\u0902|\u0940\u0902,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0940|\u0940,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0908,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignIi")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0940|\u0940")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignIi")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignIi")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_o() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_o.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS,
+                                "\u25CC\u094B\u0902|\u094B\u0902,\u25CC\u0949|\u0949,"
+                                + "\u25CC\u094A|\u094A")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u094B|\u094B")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0913")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignO")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u094B|\u094B")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignO")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignO")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_u() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_u.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0941\u0902|\u0941\u0902,"
+                                + "\u25CC\u0941\u0901|\u0941\u0901")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0941|\u0941")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0909")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignU")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0941|\u0941")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignU")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignU")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_keystyle_devanagari_vowel_sign_uu() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_uu.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0942\u0902|\u0942\u0902,"
+                                + "\u25CC\u0942\u0901|\u0942\u0901,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0942|\u0942,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090A,%")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignUu")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0942|\u0942")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignUu")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignUu")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[]
+                    newLayout_xml_keystyle_devanagari_vowel_sign_vocalic_r() {
+        final Builder b = new Builder("res/xml/keystyle_devanagari_vowel_sign_vocalic_r.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u25CC\u0944|\u0944")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "hindi_compact");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u090B,\u25CC\u0943|\u0943")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "marathi");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0931,\u090B,\u25CC\u0943|\u0943")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(CASE).strings(CASE_KEYBOARD_LAYOUT_SET, "nepali_traditional");
+                b.start(KEY_STYLE)
+                        .string(KEY_MORE_KEYS, "\u0913")
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY_STYLE)
+                        .string(KEY_STYLE_STYLE_NAME, "moreKeysDevanagariVowelSignVocalicR")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY_STYLE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u25CC\u0943|\u0943")
+                .string(KEY_STYLE_PARENT_STYLE, "moreKeysDevanagariVowelSignVocalicR")
+                .string(KEY_STYLE_STYLE_NAME, "baseKeyDevanagariVowelSignVocalicR")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_row_pcqwerty5() {
+        final Builder b = new Builder("res/xml/row_pcqwerty5.xml");
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x09d88431 /* 7.692%p */);
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_CLOBBER_SETTINGS_KEY, false);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "settingsKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ec4c631 /* 11.538%p */)
+                            .end();
+                b.end();
+            b.end();
+            b.start(SWITCH);
+                b.start(CASE).bool(CASE_LANGUAGE_SWITCH_KEY_ENABLED, true);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "languageSwitchKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x0ec4c631 /* 11.538%p */)
+                            .fraction(KEY_KEY_XPOS, 0x189d9d31 /* 19.231%p */)
+                            .end();
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x36277c31 /* 42.308%p */)
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .string(KEY_KEY_STYLE, "spaceKeyStyle")
+                            .fraction(KEY_KEY_WIDTH, 0x3b13be31 /* 46.154%p */)
+                            .fraction(KEY_KEY_XPOS, 0x22762131 /* 26.923%p */)
+                            .end();
+                b.end();
+            b.end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xe7626331 /* -19.231%p */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_row_qwerty4() {
+        final Builder b = new Builder("res/xml/row_qwerty4.xml");
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_comma).end();
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x20000031 /* 25%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_5kw)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_period).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_row_symbols4() {
+        final Builder b = new Builder("res/xml/row_symbols4.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_comma").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "_").end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_symbols).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "/").end();
+        b.start(KEY).string(KEY_KEY_SPEC, ".").string(KEY_MORE_KEYS, "\u2026").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_row_symbols_shift4() {
+        final Builder b = new Builder("res/xml/row_symbols_shift4.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_less_greater).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_comma").end();
+        b.start(KEY).string(KEY_KEY_STYLE, "lessKeyStyle").end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_space_symbols).end();
+        b.start(KEY).string(KEY_KEY_STYLE, "greaterKeyStyle").end();
+        b.start(KEY).string(KEY_KEY_SPEC, ".").string(KEY_MORE_KEYS, "\u2026").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_arabic1() {
+        final Builder b = new Builder("res/xml/rowkeys_arabic1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1,\u0661")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0636")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2,\u0662")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0635")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3,\u0663")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u062B")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4,\u0664")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0642")
+                .string(KEY_MORE_KEYS, "\u06A8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5,\u0665")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0641")
+                .string(KEY_MORE_KEYS, "\u06A4,\u06A2,\u06A5")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6,\u0666")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u063A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7,\u0667")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0639")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8,\u0668")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0647")
+                .string(KEY_MORE_KEYS, "\uFEEB|\u0647\u200D")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9,\u0669")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u062E")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0,\u0660")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u062D")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u062C").string(KEY_MORE_KEYS, "\u0686").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_arabic2() {
+        final Builder b = new Builder("res/xml/rowkeys_arabic2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0634").string(KEY_MORE_KEYS, "\u069C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0633").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u064A").string(KEY_MORE_KEYS, "\u0626,\u0649").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0628").string(KEY_MORE_KEYS, "\u067E").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0644")
+                .string(KEY_MORE_KEYS, "\uFEFB|\u0644\u0627,\uFEF7|\u0644\u0623,"
+                        + "\uFEF9|\u0644\u0625,\uFEF5|\u0644\u0622")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0627")
+                .string(KEY_MORE_KEYS, "!fixedColumnOrder!5,\u0622,\u0621,\u0623,\u0625,\u0671")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u062A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0646").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0645").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0643").string(KEY_MORE_KEYS, "\u06AF,\u06A9").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0637").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_arabic3() {
+        final Builder b = new Builder("res/xml/rowkeys_arabic3.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_arabic3_left).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0621").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0624").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0631").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0649").string(KEY_MORE_KEYS, "\u0626").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0629").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0648").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0632").string(KEY_MORE_KEYS, "\u0698").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0638").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u062F").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_armenian_phonetic1() {
+        final Builder b = new Builder("res/xml/rowkeys_armenian_phonetic1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0567")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0569")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0583")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0571")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u057B")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u0580")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0579")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0573")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u056A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u056E")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_armenian_phonetic2() {
+        final Builder b = new Builder("res/xml/rowkeys_armenian_phonetic2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0584").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0578").end();
+        b.start(KEY)
+                .string(KEY_KEY_HINT_LABEL, "\u0587")
+                .string(KEY_KEY_SPEC, "\u0565")
+                .string(KEY_MORE_KEYS, "\u0587")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u057C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u057F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0568").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0582").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u056B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0585").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u057A").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_armenian_phonetic3() {
+        final Builder b = new Builder("res/xml/rowkeys_armenian_phonetic3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0561").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u057D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0564").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0586").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0563").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0570").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0575").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u056F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u056C").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_armenian_phonetic4() {
+        final Builder b = new Builder("res/xml/rowkeys_armenian_phonetic4.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0566").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0572").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0581").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u057E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0562").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0576").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0574").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_azerty1() {
+        final Builder b = new Builder("res/xml/rowkeys_azerty1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "a")
+                .string(KEY_MORE_KEYS, "!text/morekeys_a")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "z")
+                .string(KEY_MORE_KEYS, "!text/morekeys_z")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "e")
+                .string(KEY_MORE_KEYS, "!text/morekeys_e")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "r")
+                .string(KEY_MORE_KEYS, "!text/morekeys_r")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "t")
+                .string(KEY_MORE_KEYS, "!text/morekeys_t")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "y")
+                .string(KEY_MORE_KEYS, "!text/morekeys_y")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "u")
+                .string(KEY_MORE_KEYS, "!text/morekeys_u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "i")
+                .string(KEY_MORE_KEYS, "!text/morekeys_i")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "o")
+                .string(KEY_MORE_KEYS, "!text/morekeys_o")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "p")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_azerty2() {
+        final Builder b = new Builder("res/xml/rowkeys_azerty2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "q").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "s").string(KEY_MORE_KEYS, "!text/morekeys_s").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "d").string(KEY_MORE_KEYS, "!text/morekeys_d").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "f").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "g").string(KEY_MORE_KEYS, "!text/morekeys_g").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "h").string(KEY_MORE_KEYS, "!text/morekeys_h").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "j").string(KEY_MORE_KEYS, "!text/morekeys_j").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "k").string(KEY_MORE_KEYS, "!text/morekeys_k").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "l").string(KEY_MORE_KEYS, "!text/morekeys_l").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "m").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_azerty3() {
+        final Builder b = new Builder("res/xml/rowkeys_azerty3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "w").string(KEY_MORE_KEYS, "!text/morekeys_w").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "x").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "c").string(KEY_MORE_KEYS, "!text/morekeys_c").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "v").string(KEY_MORE_KEYS, "!text/morekeys_v").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "b").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "n").string(KEY_MORE_KEYS, "!text/morekeys_n").end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "?").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_single_quote")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bengali1() {
+        final Builder b = new Builder("res/xml/rowkeys_bengali1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09CC,\u09E7,1")
+                .string(KEY_KEY_HINT_LABEL, "\u09E7")
+                .string(KEY_KEY_SPEC, "\u0994")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09C8,\u09E8,2")
+                .string(KEY_KEY_HINT_LABEL, "\u09E8")
+                .string(KEY_KEY_SPEC, "\u0990")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09BE,\u09E9,3")
+                .string(KEY_KEY_HINT_LABEL, "\u09E9")
+                .string(KEY_KEY_SPEC, "\u0986")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09C0,\u09EA,4")
+                .string(KEY_KEY_HINT_LABEL, "\u09EA")
+                .string(KEY_KEY_SPEC, "\u0988")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09C2,\u09EB,5")
+                .string(KEY_KEY_HINT_LABEL, "\u09EB")
+                .string(KEY_KEY_SPEC, "\u098A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EC,6")
+                .string(KEY_KEY_HINT_LABEL, "\u09EC")
+                .string(KEY_KEY_SPEC, "\u09AC")
+                .string(KEY_MORE_KEYS, "\u09AD,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09ED,7")
+                .string(KEY_KEY_HINT_LABEL, "\u09ED")
+                .string(KEY_KEY_SPEC, "\u09B9")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EE,8")
+                .string(KEY_KEY_HINT_LABEL, "\u09EE")
+                .string(KEY_KEY_SPEC, "\u0997")
+                .string(KEY_MORE_KEYS, "\u0998,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EF,9")
+                .string(KEY_KEY_HINT_LABEL, "\u09EF")
+                .string(KEY_KEY_SPEC, "\u09A6")
+                .string(KEY_MORE_KEYS, "\u09A7,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u09E6,0")
+                .string(KEY_KEY_HINT_LABEL, "\u09E6")
+                .string(KEY_KEY_SPEC, "\u099C")
+                .string(KEY_MORE_KEYS, "\u099D,\u099C\u09CD\u099E,%")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09A1").string(KEY_MORE_KEYS, "\u09A1\u09BC").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bengali2() {
+        final Builder b = new Builder("res/xml/rowkeys_bengali2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0993").string(KEY_MORE_KEYS, "\u09CB").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u098F").string(KEY_MORE_KEYS, "\u09C7").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0985").string(KEY_MORE_KEYS, "\u09CD").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0987").string(KEY_MORE_KEYS, "\u09BF").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0989").string(KEY_MORE_KEYS, "\u09C1").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09AA").string(KEY_MORE_KEYS, "\u09AB").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u09B0")
+                .string(KEY_MORE_KEYS, "\u09C3,\u098B,\u09A4\u09CD\u09B0")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0995").string(KEY_MORE_KEYS, "\u0996").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u09A4")
+                .string(KEY_MORE_KEYS, "\u09CE,\u09A5,\u09A4\u09CD\u09A4")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u099A").string(KEY_MORE_KEYS, "\u099B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u099F").string(KEY_MORE_KEYS, "\u09A0").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bengali3() {
+        final Builder b = new Builder("res/xml/rowkeys_bengali3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0981").string(KEY_MORE_KEYS, "\u0983,\u0982").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09A2").string(KEY_MORE_KEYS, "\u09A2\u09BC").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09AE").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09A8").string(KEY_MORE_KEYS, "\u09A3").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u099E")
+                .string(KEY_MORE_KEYS, "\u0999,\u099E\u09CD\u099C")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09B2").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u09B7")
+                .string(KEY_MORE_KEYS, "\u0995\u09CD\u09B7")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09B8").string(KEY_MORE_KEYS, "\u09B6").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u09DF").string(KEY_MORE_KEYS, "\u09AF").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0964").string(KEY_MORE_KEYS, "\u0965").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bengali_akkhor1() {
+        final Builder b = new Builder("res/xml/rowkeys_bengali_akkhor1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09A2").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09A0").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09C8").string(KEY_MORE_KEYS, "\u0990").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09DC").string(KEY_MORE_KEYS, "\u09BC").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u099F")
+                        .string(KEY_MORE_KEYS, "\u09F3,\u099F\u09CD\u099F,\u099F\u09CD\u09AC,"
+                                + "\u099F\u09CD\u09AE")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u099E")
+                        .string(KEY_MORE_KEYS,
+                                "\u099E\u09CD\u099A,\u099E\u09CD\u099B,\u099E\u09CD\u099C")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09C2").string(KEY_MORE_KEYS, "\u098A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09C0").string(KEY_MORE_KEYS, "\u0988").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09CC")
+                        .string(KEY_MORE_KEYS, "\u099A,\u09D7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09AB")
+                        .string(KEY_MORE_KEYS,
+                                "\u09AB\u09CD\u099F,\u09AB\u09CD\u09AF,\u09AB\u09CD\u09B0,"
+                                + "\u09AB\u09CD\u09B2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u098B")
+                        .string(KEY_MORE_KEYS, "\u098C,\u09E1,\u09F4,\u09F5,\u09F6,\u09E2,\u09E3")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09E7")
+                        .string(KEY_KEY_HINT_LABEL, "\u09E7")
+                        .string(KEY_KEY_SPEC, "\u09A7")
+                        .string(KEY_MORE_KEYS,
+                                "\u09A7\u09CD\u09AC,\u09A7\u09CD\u09AF,\u09A7\u09CD\u09B0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09E8")
+                        .string(KEY_KEY_HINT_LABEL, "\u09E8")
+                        .string(KEY_KEY_SPEC, "\u09A5")
+                        .string(KEY_MORE_KEYS, "\u09A5\u09CD\u09AF,\u09A5\u09CD\u09B0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09E9")
+                        .string(KEY_KEY_HINT_LABEL, "\u09E9")
+                        .string(KEY_KEY_SPEC, "\u09C7")
+                        .string(KEY_MORE_KEYS, "\u098F")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EA")
+                        .string(KEY_KEY_HINT_LABEL, "\u09EA")
+                        .string(KEY_KEY_SPEC, "\u09B0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EB")
+                        .string(KEY_KEY_HINT_LABEL, "\u09EB")
+                        .string(KEY_KEY_SPEC, "\u09A4")
+                        .string(KEY_MORE_KEYS, "\u09CE,\u09A4\u09CD\u09A4,\u09A4\u09CD\u09A8,"
+                                + "\u09A4\u09CD\u09AC,\u09A4\u09CD\u09AE")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EC")
+                        .string(KEY_KEY_HINT_LABEL, "\u09EC")
+                        .string(KEY_KEY_SPEC, "\u09DF")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09ED")
+                        .string(KEY_KEY_HINT_LABEL, "\u09ED")
+                        .string(KEY_KEY_SPEC, "\u09C1")
+                        .string(KEY_MORE_KEYS, "\u0989")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EE")
+                        .string(KEY_KEY_HINT_LABEL, "\u09EE")
+                        .string(KEY_KEY_SPEC, "\u09BF")
+                        .string(KEY_MORE_KEYS, "\u0987")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09EF")
+                        .string(KEY_KEY_HINT_LABEL, "\u09EF")
+                        .string(KEY_KEY_SPEC, "\u09CB")
+                        .string(KEY_MORE_KEYS, "\u0993")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u09E6")
+                        .string(KEY_KEY_HINT_LABEL, "\u09E6")
+                        .string(KEY_KEY_SPEC, "\u09AA")
+                        .string(KEY_MORE_KEYS,
+                                "\u09AA\u09CD\u09A4,\u09AA\u09CD\u09A8,\u09AA\u09CD\u09AA,"
+                                + "\u09AA\u09CD\u09AF,\u09AA\u09CD\u09B0,\u09AA\u09CD\u09B2,"
+                                + "\u09AA\u09CD\u09B8")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0986").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bengali_akkhor2() {
+        final Builder b = new Builder("res/xml/rowkeys_bengali_akkhor2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0985").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09B6")
+                        .string(KEY_MORE_KEYS,
+                                "\u09B6\u09CD\u099A,\u09B6\u09CD\u099B,\u09B6\u09CD\u09A4,"
+                                + "\u09B6\u09CD\u09A8,\u09B6\u09CD\u09AC,\u09B6\u09CD\u09AE,"
+                                + "\u09B6\u09CD\u09B0,\u09B6\u09CD\u09B2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09A1")
+                        .string(KEY_MORE_KEYS, "\u09A1\u09CD\u09A1")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09DD").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0998").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09B9")
+                        .string(KEY_MORE_KEYS, "\u09BD,\u09B9\u09CD\u09A3,\u09B9\u09CD\u09A8,"
+                                + "\u09B9\u09CD\u09AC,\u09B9\u09CD\u09AE,\u09B9\u09CD\u09B0,"
+                                + "\u09B9\u09CD\u09B2")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u099D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0996").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09CE").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0988").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u098A").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09BE").string(KEY_MORE_KEYS, "\u0986").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09B8")
+                        .string(KEY_MORE_KEYS,
+                                "\u09B8\u09CD\u09AC,\u09B8\u09CD\u09A4,\u09B8\u09CD\u099F,"
+                                + "\u09B8\u09CD\u0995,\u09B8\u09CD\u09AA")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09A6")
+                        .string(KEY_MORE_KEYS,
+                                "\u09A6\u09CD\u09A6,\u09A6\u09CD\u09A7,\u09A6\u09CD\u09AC,"
+                                + "\u09A6\u09CD\u09AD,\u09A6\u09CD\u09AE,\u09A6\u09CD\u09AF,"
+                                + "\u09A6\u09CD\u09B0")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09C3").string(KEY_MORE_KEYS, "\u098B").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0997")
+                        .string(KEY_MORE_KEYS,
+                                "\u0997\u09CD\u09A7,\u0997\u09CD\u09B0,\u0997\u09CD\u09B2,"
+                                + "\u0997\u09CD\u09A8")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u09CD").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u099C")
+                        .string(KEY_MORE_KEYS,
+                                "\u099C\u09CD\u099E,\u099C\u09CD\u099C,\u099C\u09CD\u09AF,"
+                                + "\u099C\u09CD\u09AC,\u099C\u09CD\u09B0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0995")
+                        .string(KEY_MORE_KEYS,
+                                "\u0995\u09CD\u09B7,\u0995\u09CD\u0995,\u0995\u09CD\u099F,"
+                                + "\u0995\u09CD\u09A4,\u0995\u09CD\u09B0,\u0995\u09CD\u09B8,"
+                                + "\u0995\u09CD\u09B2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09B2")
+                        .string(KEY_MORE_KEYS,
+                                "\u09B2\u09CD\u0995,\u09B2\u09CD\u0997,\u09B2\u09CD\u099F,"
+                                + "\u09B2\u09CD\u09A1,\u09B2\u09CD\u09A4,\u09B2\u09CD\u09A6,"
+                                + "\u09B2\u09CD\u09A7,\u09B2\u09CD\u09AA,\u09B2\u09CD\u09AB,"
+                                + "\u09B2\u09CD\u09AC,\u09B2\u09CD\u09AE,\u09B2\u09CD\u09B2")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0987").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0989").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bengali_akkhor3() {
+        final Builder b = new Builder("res/xml/rowkeys_bengali_akkhor3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0964").string(KEY_MORE_KEYS, "\u0965").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0999")
+                        .string(KEY_MORE_KEYS,
+                                "\u0999\u09CD\u0995,\u0999\u09CD\u0996,\u0999\u09CD\u0997")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u099B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0983").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0981").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09A3")
+                        .string(KEY_MORE_KEYS,
+                                "\u09A3\u09CD\u099F,\u09A3\u09CD\u09A1,\u09A3\u09CD\u09A3")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0982").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0990").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0994").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09AF")
+                        .string(KEY_MORE_KEYS, "\u09CD\u09AF")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09B7")
+                        .string(KEY_MORE_KEYS,
+                                "\u09B7\u09CD\u0995,\u09B7\u09CD\u099F,\u09B7\u09CD\u09A0,"
+                                + "\u09B7\u09CD\u09A3,\u09B7\u09CD\u09AA,\u09B7\u09CD\u09AB,"
+                                + "\u09B7\u09CD\u09AE")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u099A")
+                        .string(KEY_MORE_KEYS, "\u099A\u09CD\u099A,\u099A\u09CD\u099B")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09AD")
+                        .string(KEY_MORE_KEYS,
+                                "\u09AD\u09CD\u09AF,\u09AD\u09CD\u09B0,\u09AD\u09CD\u09B2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09AC")
+                        .string(KEY_MORE_KEYS, "\u09CD\u09AC,\u09AC\u09CD\u09B0,\u09AC\u09CD\u099C,"
+                                + "\u09AC\u09CD\u09A6,\u09AC\u09CD\u09A7,\u09AC\u09CD\u09AC,"
+                                + "\u09AC\u09CD\u09B2,\u09F1,\u09F0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09A8")
+                        .string(KEY_MORE_KEYS,
+                                "\u09A8\u09CD\u09A4,\u09A8\u09CD\u09A5,\u09A8\u09CD\u099F,"
+                                + "\u09A8\u09CD\u09A6,\u09A8\u09CD\u09A7,\u09A8\u09CD\u09A1,"
+                                + "\u09A8\u09CD\u09A8,\u09A8\u09CD\u09AC,\u09A8\u09CD\u09AE,"
+                                + "\u09A8\u09CD\u09B8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u09AE")
+                        .string(KEY_MORE_KEYS,
+                                ",\u09AE\u09CD\u09A8,\u09AE\u09CD\u09AA,\u09AE\u09CD\u09AC,"
+                                + "\u09AE\u09CD\u09AD,\u09AE\u09CD\u09AE,\u09AE\u09CD\u09B0,"
+                                + "\u09AE\u09CD\u09B2")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u098F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0993").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bulgarian1() {
+        final Builder b = new Builder("res/xml/rowkeys_bulgarian1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u044F")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0432")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0435")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0440")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0442")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u044A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0443")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0438")
+                .string(KEY_MORE_KEYS, "\u045D")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u043E")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u043F")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0447").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bulgarian2() {
+        final Builder b = new Builder("res/xml/rowkeys_bulgarian2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0430").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0441").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0434").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0444").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0433").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0445").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0439").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0448").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0449").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bulgarian3() {
+        final Builder b = new Builder("res/xml/rowkeys_bulgarian3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0437").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0446").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0436").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0431").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044E").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bulgarian_bds1() {
+        final Builder b = new Builder("res/xml/rowkeys_bulgarian_bds1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0443")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0435")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0438")
+                .string(KEY_MORE_KEYS, "\u045D")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0448")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0449")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u043A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0441")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0434")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0437")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0446")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0431").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bulgarian_bds2() {
+        final Builder b = new Builder("res/xml/rowkeys_bulgarian_bds2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0430").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0436").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0433").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0442").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0432").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0447").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_bulgarian_bds3() {
+        final Builder b = new Builder("res/xml/rowkeys_bulgarian_bds3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0439").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0444").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0445").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0440").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043B").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_colemak1() {
+        final Builder b = new Builder("res/xml/rowkeys_colemak1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "q")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "w")
+                .string(KEY_MORE_KEYS, "!text/morekeys_w")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "f")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "p")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "g")
+                .string(KEY_MORE_KEYS, "!text/morekeys_g")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "j")
+                .string(KEY_MORE_KEYS, "!text/morekeys_j")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "l")
+                .string(KEY_MORE_KEYS, "!text/morekeys_l")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "u")
+                .string(KEY_MORE_KEYS, "!text/morekeys_u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "y")
+                .string(KEY_MORE_KEYS, "!text/morekeys_y")
+                .end();
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, ":")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, ";")
+                        .string(KEY_MORE_KEYS, ":")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_colemak2() {
+        final Builder b = new Builder("res/xml/rowkeys_colemak2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "a").string(KEY_MORE_KEYS, "!text/morekeys_a").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "r").string(KEY_MORE_KEYS, "!text/morekeys_r").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "s").string(KEY_MORE_KEYS, "!text/morekeys_s").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "t").string(KEY_MORE_KEYS, "!text/morekeys_t").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "d").string(KEY_MORE_KEYS, "!text/morekeys_d").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "h").string(KEY_MORE_KEYS, "!text/morekeys_h").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "n").string(KEY_MORE_KEYS, "!text/morekeys_n").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "e").string(KEY_MORE_KEYS, "!text/morekeys_e").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "i").string(KEY_MORE_KEYS, "!text/morekeys_i").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "o").string(KEY_MORE_KEYS, "!text/morekeys_o").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_colemak3() {
+        final Builder b = new Builder("res/xml/rowkeys_colemak3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "z").string(KEY_MORE_KEYS, "!text/morekeys_z").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "x").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "c").string(KEY_MORE_KEYS, "!text/morekeys_c").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "v").string(KEY_MORE_KEYS, "!text/morekeys_v").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "b").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "k").string(KEY_MORE_KEYS, "!text/morekeys_k").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "m").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_dvorak1() {
+        final Builder b = new Builder("res/xml/rowkeys_dvorak1.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_dvorak_123).end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "#")
+                .string(KEY_KEY_HINT_LABEL, "#")
+                .string(KEY_KEY_SPEC, "p")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                .string(KEY_KEY_HINT_LABEL, "&")
+                .string(KEY_KEY_SPEC, "y")
+                .string(KEY_MORE_KEYS, "!text/morekeys_y")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                .string(KEY_KEY_HINT_LABEL, "*")
+                .string(KEY_KEY_SPEC, "f")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "-")
+                .string(KEY_KEY_HINT_LABEL, "-")
+                .string(KEY_KEY_SPEC, "g")
+                .string(KEY_MORE_KEYS, "!text/morekeys_g")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                .string(KEY_KEY_HINT_LABEL, "+")
+                .string(KEY_KEY_SPEC, "c")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                .string(KEY_KEY_HINT_LABEL, "(")
+                .string(KEY_KEY_SPEC, "r")
+                .string(KEY_MORE_KEYS, "!text/morekeys_r")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                .string(KEY_KEY_HINT_LABEL, ")")
+                .string(KEY_KEY_SPEC, "l")
+                .string(KEY_MORE_KEYS, "!text/morekeys_l")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_dvorak2() {
+        final Builder b = new Builder("res/xml/rowkeys_dvorak2.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\")
+                .string(KEY_KEY_HINT_LABEL, "\\")
+                .string(KEY_KEY_SPEC, "a")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "`")
+                .string(KEY_KEY_HINT_LABEL, "`")
+                .string(KEY_KEY_SPEC, "o")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "~")
+                .string(KEY_KEY_HINT_LABEL, "~")
+                .string(KEY_KEY_SPEC, "e")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "|")
+                .string(KEY_KEY_HINT_LABEL, "|")
+                .string(KEY_KEY_SPEC, "u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "[")
+                .string(KEY_KEY_HINT_LABEL, "[")
+                .string(KEY_KEY_SPEC, "i")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "]")
+                .string(KEY_KEY_HINT_LABEL, "]")
+                .string(KEY_KEY_SPEC, "d")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "<")
+                .string(KEY_KEY_HINT_LABEL, "<")
+                .string(KEY_KEY_SPEC, "h")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ">")
+                .string(KEY_KEY_HINT_LABEL, ">")
+                .string(KEY_KEY_SPEC, "t")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/keyspec_left_curly_bracket")
+                .string(KEY_KEY_HINT_LABEL, "!text/keyspec_left_curly_bracket")
+                .string(KEY_KEY_SPEC, "n")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/keyspec_right_curly_bracket")
+                .string(KEY_KEY_HINT_LABEL, "!text/keyspec_right_curly_bracket")
+                .string(KEY_KEY_SPEC, "s")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_dvorak3() {
+        final Builder b = new Builder("res/xml/rowkeys_dvorak3.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "$")
+                .string(KEY_KEY_HINT_LABEL, "$")
+                .string(KEY_KEY_SPEC, "j")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                .string(KEY_KEY_HINT_LABEL, "\"")
+                .string(KEY_KEY_SPEC, "k")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ":")
+                .string(KEY_KEY_HINT_LABEL, ":")
+                .string(KEY_KEY_SPEC, "x")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ";")
+                .string(KEY_KEY_HINT_LABEL, ";")
+                .string(KEY_KEY_SPEC, "b")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "^")
+                .string(KEY_KEY_HINT_LABEL, "^")
+                .string(KEY_KEY_SPEC, "m")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "=")
+                .string(KEY_KEY_HINT_LABEL, "=")
+                .string(KEY_KEY_SPEC, "w")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "%")
+                .string(KEY_KEY_HINT_LABEL, "%")
+                .string(KEY_KEY_SPEC, "v")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_east_slavic1() {
+        final Builder b = new Builder("res/xml/rowkeys_east_slavic1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0439")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0446")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0443")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u043A")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_ka")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0435")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_ie")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u043D")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_en")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0433")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_ghe")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0448")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "!text/keyspec_east_slavic_row1_9")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0437")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0445").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_east_slavic2() {
+        final Builder b = new Builder("res/xml/rowkeys_east_slavic2.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\@")
+                .string(KEY_KEY_HINT_LABEL, "@")
+                .string(KEY_KEY_SPEC, "\u0444")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "#")
+                .string(KEY_KEY_HINT_LABEL, "#")
+                .string(KEY_KEY_SPEC, "!text/keyspec_east_slavic_row2_2")
+                .string(KEY_MORE_KEYS, "!text/morekeys_east_slavic_row2_2")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "$")
+                .string(KEY_KEY_HINT_LABEL, "$")
+                .string(KEY_KEY_SPEC, "\u0432")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "%")
+                .string(KEY_KEY_HINT_LABEL, "%")
+                .string(KEY_KEY_SPEC, "\u0430")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_a")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                .string(KEY_KEY_HINT_LABEL, "&")
+                .string(KEY_KEY_SPEC, "\u043F")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "_")
+                .string(KEY_KEY_HINT_LABEL, "_")
+                .string(KEY_KEY_SPEC, "\u0440")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "/")
+                .string(KEY_KEY_HINT_LABEL, "/")
+                .string(KEY_KEY_SPEC, "\u043E")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_o")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "-")
+                .string(KEY_KEY_HINT_LABEL, "-")
+                .string(KEY_KEY_SPEC, "\u043B")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                .string(KEY_KEY_HINT_LABEL, "+")
+                .string(KEY_KEY_SPEC, "\u0434")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                .string(KEY_KEY_HINT_LABEL, "(")
+                .string(KEY_KEY_SPEC, "\u0436")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                .string(KEY_KEY_HINT_LABEL, ")")
+                .string(KEY_KEY_SPEC, "!text/keyspec_east_slavic_row2_11")
+                .string(KEY_MORE_KEYS, "!text/morekeys_east_slavic_row2_11")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_east_slavic3() {
+        final Builder b = new Builder("res/xml/rowkeys_east_slavic3.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                .string(KEY_KEY_HINT_LABEL, "*")
+                .string(KEY_KEY_SPEC, "\u044F")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                .string(KEY_KEY_HINT_LABEL, "\"")
+                .string(KEY_KEY_SPEC, "\u0447")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "'")
+                .string(KEY_KEY_HINT_LABEL, "'")
+                .string(KEY_KEY_SPEC, "\u0441")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ":")
+                .string(KEY_KEY_HINT_LABEL, ":")
+                .string(KEY_KEY_SPEC, "\u043C")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ";")
+                .string(KEY_KEY_HINT_LABEL, ";")
+                .string(KEY_KEY_SPEC, "!text/keyspec_east_slavic_row3_5")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!")
+                .string(KEY_KEY_HINT_LABEL, "!")
+                .string(KEY_KEY_SPEC, "\u0442")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\?")
+                .string(KEY_KEY_HINT_LABEL, "?")
+                .string(KEY_KEY_SPEC, "\u044C")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_soft_sign")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "<")
+                .string(KEY_KEY_HINT_LABEL, "<")
+                .string(KEY_KEY_SPEC, "\u0431")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ">")
+                .string(KEY_KEY_HINT_LABEL, ">")
+                .string(KEY_KEY_SPEC, "\u044E")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_farsi1() {
+        final Builder b = new Builder("res/xml/rowkeys_farsi1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F1,1")
+                .string(KEY_KEY_HINT_LABEL, "\u06F1")
+                .string(KEY_KEY_SPEC, "\u0636")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F2,2")
+                .string(KEY_KEY_HINT_LABEL, "\u06F2")
+                .string(KEY_KEY_SPEC, "\u0635")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F3,3")
+                .string(KEY_KEY_HINT_LABEL, "\u06F3")
+                .string(KEY_KEY_SPEC, "\u062B")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F4,4")
+                .string(KEY_KEY_HINT_LABEL, "\u06F4")
+                .string(KEY_KEY_SPEC, "\u0642")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F5,5")
+                .string(KEY_KEY_HINT_LABEL, "\u06F5")
+                .string(KEY_KEY_SPEC, "\u0641")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F6,6")
+                .string(KEY_KEY_HINT_LABEL, "\u06F6")
+                .string(KEY_KEY_SPEC, "\u063A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F7,7")
+                .string(KEY_KEY_HINT_LABEL, "\u06F7")
+                .string(KEY_KEY_SPEC, "\u0639")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F8,8")
+                .string(KEY_KEY_HINT_LABEL, "\u06F8")
+                .string(KEY_KEY_SPEC, "\u0647")
+                .string(KEY_MORE_KEYS, "\uFEEB|\u0647\u200D,\u0647\u0654,\u0629,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F9,9")
+                .string(KEY_KEY_HINT_LABEL, "\u06F9")
+                .string(KEY_KEY_SPEC, "\u062E")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u06F0,0")
+                .string(KEY_KEY_HINT_LABEL, "\u06F0")
+                .string(KEY_KEY_SPEC, "\u062D")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u062C").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_farsi2() {
+        final Builder b = new Builder("res/xml/rowkeys_farsi2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0634").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0633").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u06CC")
+                .string(KEY_MORE_KEYS, "\u0626,\u064A,\uFBE8|\u0649")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0628").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0644").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0627")
+                .string(KEY_MORE_KEYS, "!fixedColumnOrder!5,\u0671,\u0621,\u0622,\u0623,\u0625")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u062A").string(KEY_MORE_KEYS, "\u0629").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0646").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0645").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u06A9").string(KEY_MORE_KEYS, "\u0643").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u06AF").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_farsi3() {
+        final Builder b = new Builder("res/xml/rowkeys_farsi3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0638").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0637").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0698").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0632").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0631").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0630").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u062F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u067E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0648").string(KEY_MORE_KEYS, "\u0624").end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_farsi3_right).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_georgian1() {
+        final Builder b = new Builder("res/xml/rowkeys_georgian1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "Q")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "\u10ED")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "E")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u10E6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u10D7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "Y")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "U")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "I")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "O")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "P")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\u10E5")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "\u10EC")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "\u10D4")
+                        .string(KEY_MORE_KEYS, "\u10F1")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u10E0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u10E2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u10E7")
+                        .string(KEY_MORE_KEYS, "\u10F8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u10E3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u10D8")
+                        .string(KEY_MORE_KEYS, "\u10F2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u10DD")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u10DE")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_georgian2() {
+        final Builder b = new Builder("res/xml/rowkeys_georgian2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10E8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "G").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "H").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10DF").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "K").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "L").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D0").string(KEY_MORE_KEYS, "\u10FA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10E1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10E4").string(KEY_MORE_KEYS, "\u10F6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D2").string(KEY_MORE_KEYS, "\u10F9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10F0").string(KEY_MORE_KEYS, "\u10F5").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10EF").string(KEY_MORE_KEYS, "\u10F7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10DA").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_georgian3() {
+        final Builder b = new Builder("res/xml/rowkeys_georgian3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10EB").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "X").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10E9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "V").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "N").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "M").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10EE").string(KEY_MORE_KEYS, "\u10F4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10EA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D5").string(KEY_MORE_KEYS, "\u10F3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10D1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10DC").string(KEY_MORE_KEYS, "\u10FC").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u10DB").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_greek1() {
+        final Builder b = new Builder("res/xml/rowkeys_greek1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, ":")
+                        .string(KEY_MORE_KEYS, ";")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, ";")
+                        .string(KEY_MORE_KEYS, ":")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10000 /* preserveCase */)
+                .string(KEY_KEY_SPEC, "\u03C2")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u03B5")
+                .string(KEY_MORE_KEYS, "\u03AD,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u03C1")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u03C4")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u03C5")
+                .string(KEY_MORE_KEYS, "\u03CD,%,\u03CB,\u03B0")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u03B8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u03B9")
+                .string(KEY_MORE_KEYS, "\u03AF,%,\u03CA,\u0390")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u03BF")
+                .string(KEY_MORE_KEYS, "\u03CC,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u03C0")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_greek2() {
+        final Builder b = new Builder("res/xml/rowkeys_greek2.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\@")
+                .string(KEY_KEY_HINT_LABEL, "@")
+                .string(KEY_KEY_SPEC, "\u03B1")
+                .string(KEY_MORE_KEYS, "\u03AC")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "#")
+                .string(KEY_KEY_HINT_LABEL, "#")
+                .string(KEY_KEY_SPEC, "\u03C3")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "$")
+                .string(KEY_KEY_HINT_LABEL, "$")
+                .string(KEY_KEY_SPEC, "\u03B4")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "%")
+                .string(KEY_KEY_HINT_LABEL, "%")
+                .string(KEY_KEY_SPEC, "\u03C6")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                .string(KEY_KEY_HINT_LABEL, "&")
+                .string(KEY_KEY_SPEC, "\u03B3")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "-")
+                .string(KEY_KEY_HINT_LABEL, "-")
+                .string(KEY_KEY_SPEC, "\u03B7")
+                .string(KEY_MORE_KEYS, "\u03AE")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                .string(KEY_KEY_HINT_LABEL, "+")
+                .string(KEY_KEY_SPEC, "\u03BE")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                .string(KEY_KEY_HINT_LABEL, "(")
+                .string(KEY_KEY_SPEC, "\u03BA")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                .string(KEY_KEY_HINT_LABEL, ")")
+                .string(KEY_KEY_SPEC, "\u03BB")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_greek3() {
+        final Builder b = new Builder("res/xml/rowkeys_greek3.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                .string(KEY_KEY_HINT_LABEL, "*")
+                .string(KEY_KEY_SPEC, "\u03B6")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                .string(KEY_KEY_HINT_LABEL, "\"")
+                .string(KEY_KEY_SPEC, "\u03C7")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "'")
+                .string(KEY_KEY_HINT_LABEL, "'")
+                .string(KEY_KEY_SPEC, "\u03C8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ":")
+                .string(KEY_KEY_HINT_LABEL, ":")
+                .string(KEY_KEY_SPEC, "\u03C9")
+                .string(KEY_MORE_KEYS, "\u03CE")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ";")
+                .string(KEY_KEY_HINT_LABEL, ";")
+                .string(KEY_KEY_SPEC, "\u03B2")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!")
+                .string(KEY_KEY_HINT_LABEL, "!")
+                .string(KEY_KEY_SPEC, "\u03BD")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\?")
+                .string(KEY_KEY_HINT_LABEL, "?")
+                .string(KEY_KEY_SPEC, "\u03BC")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hebrew1() {
+        final Builder b = new Builder("res/xml/rowkeys_hebrew1.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_MODE, "email", "url");
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "-")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "_")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_MORE_KEYS, "\"")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "-")
+                        .string(KEY_MORE_KEYS, "_")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u05E7")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u05E8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u05D0")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u05D8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u05D5")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u05DF")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u05DD")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u05E4")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hebrew2() {
+        final Builder b = new Builder("res/xml/rowkeys_hebrew2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E9").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D2").string(KEY_MORE_KEYS, "\u05D2\u05F3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05DB").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E2").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D9").string(KEY_MORE_KEYS, "\u05F2\u05B7").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D7").string(KEY_MORE_KEYS, "\u05D7\u05F3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05DC").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05DA").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E3").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hebrew3() {
+        final Builder b = new Builder("res/xml/rowkeys_hebrew3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D6").string(KEY_MORE_KEYS, "\u05D6\u05F3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E1").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D1").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05D4").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E0").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05DE").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E6").string(KEY_MORE_KEYS, "\u05E6\u05F3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05EA").string(KEY_MORE_KEYS, "\u05EA\u05F3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u05E5").string(KEY_MORE_KEYS, "\u05E5\u05F3").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hindi1() {
+        final Builder b = new Builder("res/xml/rowkeys_hindi1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0914")
+                        .string(KEY_MORE_KEYS, "\u0912\u0902")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0910")
+                        .string(KEY_MORE_KEYS, "\u0910\u0902")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0906")
+                        .string(KEY_MORE_KEYS, "\u0906\u0902,\u0906\u0901")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0908")
+                        .string(KEY_MORE_KEYS, "\u0908\u0902")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u090A")
+                        .string(KEY_MORE_KEYS, "\u090A\u0902,\u090A\u0901")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092D").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_visarga)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignVisarga").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0918").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0927")
+                        .string(KEY_MORE_KEYS, "\u0915\u094D\u0937,\u0936\u094D\u0930")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0922").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_au)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0967,1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAu")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ai)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0968,2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAi")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_aa)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0969,3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAa")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ii)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096A,4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignIi")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_uu)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096B,5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignUu")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096C,6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u092C")
+                        .string(KEY_MORE_KEYS, "\u092C\u0952,%")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096D,7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u0939")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096E,8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u0917")
+                        .string(KEY_MORE_KEYS, "\u091C\u094D\u091E,\u0917\u093C,\u0917\u0952,%")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096F,9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u0926")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0966,0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u091C")
+                        .string(KEY_MORE_KEYS, "\u091C\u0952,\u091C\u094D\u091E,\u091C\u093C,%")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0921")
+                        .string(KEY_MORE_KEYS, "\u0921\u0952,\u0921\u093C")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hindi2() {
+        final Builder b = new Builder("res/xml/rowkeys_hindi2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0913")
+                        .string(KEY_MORE_KEYS, "\u0913\u0902,\u0911,\u0912")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u090F")
+                        .string(KEY_MORE_KEYS, "\u090F\u0902,\u090F\u0901,\u090D,\u090E")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0905")
+                        .string(KEY_MORE_KEYS, "\u0905\u0902,\u0905\u0901")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0907")
+                        .string(KEY_MORE_KEYS, "\u0907\u0902,\u0907\u0901")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0909")
+                        .string(KEY_MORE_KEYS, "\u0909\u0902,\u0909\u0901")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u092B")
+                        .string(KEY_MORE_KEYS, "\u092B\u093C")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0931")
+                        .string(KEY_MORE_KEYS, "\u094D\u0930,\u0930\u094D")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0916")
+                        .string(KEY_MORE_KEYS, "\u0916\u093C")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0925").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0920").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_o)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignO").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_e)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignE").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_virama)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignVirama").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_i)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignI").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_u)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignU").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092A").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0930")
+                        .string(KEY_MORE_KEYS, "\u090B,\u0930\u093C,\u0960")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0915")
+                        .string(KEY_MORE_KEYS, "\u0915\u093C")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0924")
+                        .string(KEY_MORE_KEYS, "\u0924\u094D\u0930")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091F").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hindi3() {
+        final Builder b = new Builder("res/xml/rowkeys_hindi3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0911").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_sign_candrabindu)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignCandrabindu").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0923").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0929").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0933").string(KEY_MORE_KEYS, "\u0934").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0936").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0937").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_vowel_sign_vocalic_r)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignVocalicR").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091E").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_vowel_sign_candra_o)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignCandraO").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_anusvara)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignAnusvara").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092E").string(KEY_MORE_KEYS, "\u0950").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0928")
+                        .string(KEY_MORE_KEYS, "\u091E,\u0919,\u0928\u093C")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0935").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0932")
+                        .string(KEY_MORE_KEYS, "\u090C,\u0961")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0938").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092F").string(KEY_MORE_KEYS, "\u095F").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_nukta)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignNukta").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hindi_compact1() {
+        final Builder b = new Builder("res/xml/rowkeys_hindi_compact1.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_au)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0967,1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0914")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignAu")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ai)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0968,2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0910")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignAi")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_aa)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0969,3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0906")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignAa")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ii)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096A,4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0908")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignIi")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_uu)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096B,5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u090A")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignUu")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096C,6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u092C")
+                .string(KEY_MORE_KEYS, "\u092D,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096D,7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0939")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096E,8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0917")
+                .string(KEY_MORE_KEYS, "\u0918,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096F,9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0926")
+                .string(KEY_MORE_KEYS, "\u0927,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0966,0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u091C")
+                .string(KEY_MORE_KEYS, "\u091D,\u091C\u094D\u091E,%")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0921").string(KEY_MORE_KEYS, "\u0922").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hindi_compact2() {
+        final Builder b = new Builder("res/xml/rowkeys_hindi_compact2.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_o)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0913")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignO")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_e)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u090F")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignE")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_virama)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0905")
+                .string(KEY_KEY_STYLE, "moreKeySpecDevanagariSignVirama")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_i)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0907")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignI")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_u)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0909")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignU")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u092A").string(KEY_MORE_KEYS, "\u092B").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_vocalic_r)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0930")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignVocalicR")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0915").string(KEY_MORE_KEYS, "\u0916").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0924")
+                .string(KEY_MORE_KEYS, "\u0925,\u0924\u094D\u0930")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u091A").string(KEY_MORE_KEYS, "\u091B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u091F").string(KEY_MORE_KEYS, "\u0920").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_hindi_compact3() {
+        final Builder b = new Builder("res/xml/rowkeys_hindi_compact3.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_candra_o)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0911")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignCandraO")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_virama)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignVirama").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_anusvara)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignAnusvara").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u092E").string(KEY_MORE_KEYS, "\u0950").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0928")
+                .string(KEY_MORE_KEYS, "\u0923,\u091E,\u0919")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0935").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0932").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0938")
+                .string(KEY_MORE_KEYS, "\u0936,\u0937,\u0936\u094D\u0930")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u092F").end();
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u0915\u094D\u0937")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_kannada1() {
+        final Builder b = new Builder("res/xml/rowkeys_kannada1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0CCC")
+                .string(KEY_MORE_KEYS, "\u0C94,\u0CE7,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0CC8")
+                .string(KEY_MORE_KEYS, "\u0C90,\u0CE8,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0CBE")
+                .string(KEY_MORE_KEYS, "\u0C86,\u0CE9,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0CC0")
+                .string(KEY_MORE_KEYS, "\u0C88,\u0CEA,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0CC2")
+                .string(KEY_MORE_KEYS, "\u0C8A,\u0CEB,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u0CAC")
+                .string(KEY_MORE_KEYS, "\u0CAD,\u0CEC,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0CB9")
+                .string(KEY_MORE_KEYS, "\u0C99,\u0CED,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0C97")
+                .string(KEY_MORE_KEYS, "\u0C98,\u0CEE,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0CA6")
+                .string(KEY_MORE_KEYS, "\u0CA7,\u0CEF,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0C9C")
+                .string(KEY_MORE_KEYS, "\u0C9D,\u0CE6,%")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CA1").string(KEY_MORE_KEYS, "\u0CA2").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_kannada2() {
+        final Builder b = new Builder("res/xml/rowkeys_kannada2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CCB").string(KEY_MORE_KEYS, "\u0C93").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CC7").string(KEY_MORE_KEYS, "\u0C8F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CCD").string(KEY_MORE_KEYS, "\u0C85").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CBF").string(KEY_MORE_KEYS, "\u0C87").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CC1").string(KEY_MORE_KEYS, "\u0C89").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CAA").string(KEY_MORE_KEYS, "\u0CAB").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CB0").string(KEY_MORE_KEYS, "\u0CB1,\u0CC3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C95").string(KEY_MORE_KEYS, "\u0C96").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CA4").string(KEY_MORE_KEYS, "\u0CA5").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C9A").string(KEY_MORE_KEYS, "\u0C9B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C9F").string(KEY_MORE_KEYS, "\u0CA0").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_kannada3() {
+        final Builder b = new Builder("res/xml/rowkeys_kannada3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CC6").string(KEY_MORE_KEYS, "\u0C92").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C82").string(KEY_MORE_KEYS, "\u0C8E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CAE").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CA8").string(KEY_MORE_KEYS, "\u0CA3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CB5").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CB2").string(KEY_MORE_KEYS, "\u0CB3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0CB8").string(KEY_MORE_KEYS, "\u0CB6").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C8B").string(KEY_MORE_KEYS, "\u0CCD\u0CB0").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0CB7")
+                .string(KEY_MORE_KEYS, "\u0C95\u0CCD\u0CB7")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0CAF")
+                .string(KEY_MORE_KEYS, "\u0C9C\u0CCD\u0C9E")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_khmer1() {
+        final Builder b = new Builder("res/xml/rowkeys_khmer1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "!")
+                        .string(KEY_MORE_KEYS, "!icon/zwj_key|\u200D")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u17D7")
+                        .string(KEY_MORE_KEYS, "!icon/zwnj_key|\u200C")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17D1")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "\"")
+                        .string(KEY_MORE_KEYS, "\u17D1")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "$")
+                        .string(KEY_KEY_SPEC, "\u17DB")
+                        .string(KEY_MORE_KEYS, "$,\u20AC")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17D6")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "%")
+                        .string(KEY_MORE_KEYS, "\u17D6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17D9")
+                        .string(KEY_KEY_SPEC, "\u17CD")
+                        .string(KEY_MORE_KEYS, "\u17D9")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17DA")
+                        .fraction(KEY_KEY_HINT_LABEL_VERTICAL_ADJUSTMENT, 0xd9999a30 /* -30% */)
+                        .string(KEY_KEY_SPEC, "\u17D0")
+                        .string(KEY_MORE_KEYS, "\u17DA")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "*")
+                        .string(KEY_KEY_SPEC, "\u17CF")
+                        .string(KEY_MORE_KEYS, "*")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "{")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "(")
+                        .string(KEY_MORE_KEYS, "{,\u00AB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "}")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ")")
+                        .string(KEY_MORE_KEYS, "},\u00BB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u00D7")
+                        .string(KEY_KEY_SPEC, "\u17CC")
+                        .string(KEY_MORE_KEYS, "\u00D7")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17CE").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\u17E1")
+                        .string(KEY_MORE_KEYS, "\u17F1")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "\u17E2")
+                        .string(KEY_MORE_KEYS, "\u17F2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "\u17E3")
+                        .string(KEY_MORE_KEYS, "\u17F3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u17E4")
+                        .string(KEY_MORE_KEYS, "\u17F4")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u17E5")
+                        .string(KEY_MORE_KEYS, "\u17F5")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u17E6")
+                        .string(KEY_MORE_KEYS, "\u17F6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u17E7")
+                        .string(KEY_MORE_KEYS, "\u17F7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u17E8")
+                        .string(KEY_MORE_KEYS, "\u17F8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u17E9")
+                        .string(KEY_MORE_KEYS, "\u17F9")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u17E0")
+                        .string(KEY_MORE_KEYS, "\u17F0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17A6")
+                        .string(KEY_KEY_SPEC, "\u17A5")
+                        .string(KEY_MORE_KEYS, ",\u17A6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17B1")
+                        .string(KEY_KEY_SPEC, "\u17B2")
+                        .string(KEY_MORE_KEYS, "\u17B1")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_khmer2() {
+        final Builder b = new Builder("res/xml/rowkeys_khmer2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17DC")
+                        .string(KEY_KEY_SPEC, "\u1788")
+                        .string(KEY_MORE_KEYS, "\u17DC")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17DD")
+                        .fraction(KEY_KEY_HINT_LABEL_VERTICAL_ADJUSTMENT, 0x33333330 /* 40% */)
+                        .string(KEY_KEY_SPEC, "\u17BA")
+                        .string(KEY_MORE_KEYS, "\u17DD")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C2").end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17AB")
+                        .string(KEY_KEY_SPEC, "\u17AC")
+                        .string(KEY_MORE_KEYS, "\u17AB")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1791").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17BD").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17BC").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17B8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C5").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1797").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17BF").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17B0").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1786").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17B9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u179A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u178F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1799").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17BB").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17B7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1795").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C0").end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17A7")
+                        .string(KEY_KEY_SPEC, "\u17AA")
+                        .string(KEY_MORE_KEYS, "\u17A7,\u17B1,\u17B3,\u17A9,\u17A8")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_khmer3() {
+        final Builder b = new Builder("res/xml/rowkeys_khmer3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u17B6\u17C6")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u178C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1792").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17A2").end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17C8")
+                        .string(KEY_KEY_SPEC, "\u17C7")
+                        .string(KEY_MORE_KEYS, "\u17C8")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1789").end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u179D")
+                        .string(KEY_KEY_SPEC, "\u1782")
+                        .string(KEY_MORE_KEYS, "\u179D")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17A1").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0xc080 /* followKeyLetterRatio|autoScale */)
+                        .string(KEY_KEY_SPEC, "\u17C4\u17C7")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17AF").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17B6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u179F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u178A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1790").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1784").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17A0").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17D2").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1780").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u179B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17BE").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17CB").end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u17AD")
+                        .string(KEY_KEY_SPEC, "\u17AE")
+                        .string(KEY_MORE_KEYS, "\u17AD,\u17B0")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_khmer4() {
+        final Builder b = new Builder("res/xml/rowkeys_khmer4.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u178D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1783").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1787").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u17C1\u17C7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "\u179E")
+                        .string(KEY_KEY_SPEC, "\u1796")
+                        .string(KEY_MORE_KEYS, "\u179E")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u178E").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17C6").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u17BB\u17C7")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17D5").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "?")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u178B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1781").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1785").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u179C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1794").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1793").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u1798").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u17BB\u17C6")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17D4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u17CA").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_lao1() {
+        final Builder b = new Builder("res/xml/rowkeys_lao1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED2").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ECC").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EBC").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED5").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED9").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0ECD\u0EC8")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\u0EA2")
+                        .string(KEY_MORE_KEYS, "\u0ED1")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "\u0E9F")
+                        .string(KEY_MORE_KEYS, "\u0ED2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "\u0EC2")
+                        .string(KEY_MORE_KEYS, "\u0ED3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u0E96")
+                        .string(KEY_MORE_KEYS, "\u0ED4")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB9").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u0E84")
+                        .string(KEY_MORE_KEYS, "\u0ED5")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u0E95")
+                        .string(KEY_MORE_KEYS, "\u0ED6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u0E88")
+                        .string(KEY_MORE_KEYS, "\u0ED7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u0E82")
+                        .string(KEY_MORE_KEYS, "\u0ED8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u0E8A")
+                        .string(KEY_MORE_KEYS, "\u0ED9")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ECD").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_lao2() {
+        final Builder b = new Builder("res/xml/rowkeys_lao2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EBB\u0EC9")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ED0").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EB3\u0EC9")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "_")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "+")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EB4\u0EC9")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EB5\u0EC9")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EA3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EDC").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EBD").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EAB\u0EBC")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "\u201D")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EBB").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u0EC4")
+                        .string(KEY_MORE_KEYS, "\u0ED0")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E9E").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB0").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB5").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EAE").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E99").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E8D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E9A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EA5").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_lao3() {
+        final Builder b = new Builder("res/xml/rowkeys_lao3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EB1\u0EC9")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ";")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ".")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ",")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ":")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ECA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0ECB").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "!")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "?")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "%")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "=")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "\u201C")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EAB").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E81").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E94").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EC0").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EC9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EC8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB2").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EAA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EA7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E87").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "\u201C")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_lao4() {
+        final Builder b = new Builder("res/xml/rowkeys_lao4.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "\u20AD")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "(")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EAF").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "@")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EB6\u0EC9")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0EB7\u0EC9")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EC6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EDD").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "$")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ")")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E9C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E9B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EC1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EAD").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EB7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E97").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EA1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0EC3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E9D").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_malayalam1() {
+        final Builder b = new Builder("res/xml/rowkeys_malayalam1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0D4D")
+                .string(KEY_MORE_KEYS, "\u0D05,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0D3E")
+                .string(KEY_MORE_KEYS, "\u0D06,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0D3F")
+                .string(KEY_MORE_KEYS, "\u0D07,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0D40")
+                .string(KEY_MORE_KEYS, "\u0D08,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0D41")
+                .string(KEY_MORE_KEYS, "\u0D09,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u0D42")
+                .string(KEY_MORE_KEYS, "\u0D0A,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0D43")
+                .string(KEY_MORE_KEYS, "\u0D0B,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0D46")
+                .string(KEY_MORE_KEYS, "\u0D0E,\u0D10,\u0D48,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0D47")
+                .string(KEY_MORE_KEYS, "\u0D0F,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0D4A")
+                .string(KEY_MORE_KEYS, "\u0D12,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0D4B")
+                .string(KEY_MORE_KEYS, "\u0D13,\u0D14,\u0D57")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_malayalam2() {
+        final Builder b = new Builder("res/xml/rowkeys_malayalam2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D15").string(KEY_MORE_KEYS, "\u0D16").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D17").string(KEY_MORE_KEYS, "\u0D18").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D19").string(KEY_MORE_KEYS, "\u0D1E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D1A").string(KEY_MORE_KEYS, "\u0D1B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D1C").string(KEY_MORE_KEYS, "\u0D1D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D1F").string(KEY_MORE_KEYS, "\u0D20").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D21").string(KEY_MORE_KEYS, "\u0D22").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D23").string(KEY_MORE_KEYS, "\u0D7A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D24").string(KEY_MORE_KEYS, "\u0D25").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D26").string(KEY_MORE_KEYS, "\u0D27").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D28").string(KEY_MORE_KEYS, "\u0D7B").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_malayalam3() {
+        final Builder b = new Builder("res/xml/rowkeys_malayalam3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D2A").string(KEY_MORE_KEYS, "\u0D2B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D2C").string(KEY_MORE_KEYS, "\u0D2D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D2E").string(KEY_MORE_KEYS, "\u0D02").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D2F").string(KEY_MORE_KEYS, "\u0D4D\u0D2F").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0D30")
+                .string(KEY_MORE_KEYS, "\u0D4D\u0D30,\u0D7C,\u0D31")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D32").string(KEY_MORE_KEYS, "\u0D7D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D35").string(KEY_MORE_KEYS, "\u0D4D\u0D35").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D36").string(KEY_MORE_KEYS, "\u0D37,\u0D38").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D39").string(KEY_MORE_KEYS, "\u0D03").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0D33").string(KEY_MORE_KEYS, "\u0D7E,\u0D34").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_marathi1() {
+        final Builder b = new Builder("res/xml/rowkeys_marathi1.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_au)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0967,1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAu")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ai)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0968,2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAi")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_aa)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0969,3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAa")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ii)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096A,4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignIi")
+                .end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_uu)
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096B,5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignUu")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096C,6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u092C")
+                .string(KEY_MORE_KEYS, "\u092D,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096D,7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0939")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096E,8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0917")
+                .string(KEY_MORE_KEYS, "\u0918,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u096F,9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0926")
+                .string(KEY_MORE_KEYS, "\u0927,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u0966,0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u091C")
+                .string(KEY_MORE_KEYS, "\u091D,\u091C\u094D\u091E,%")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0921").string(KEY_MORE_KEYS, "\u0922").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_marathi2() {
+        final Builder b = new Builder("res/xml/rowkeys_marathi2.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_o)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignO").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_e)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignE").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_virama)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignVirama").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_i)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignI").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_u)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignU").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u092A").string(KEY_MORE_KEYS, "\u092B").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_vocalic_r)
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0930")
+                .string(KEY_KEY_STYLE, "moreKeysDevanagariVowelSignVocalicR")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0915").string(KEY_MORE_KEYS, "\u0916").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0924")
+                .string(KEY_MORE_KEYS, "\u0925,\u0924\u094D\u0930")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u091A").string(KEY_MORE_KEYS, "\u091B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u091F").string(KEY_MORE_KEYS, "\u0920").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_marathi3() {
+        final Builder b = new Builder("res/xml/rowkeys_marathi3.xml");
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_candra_o)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignCandraO").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_candra_e)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignCandraE").end();
+        b.start(INCLUDE)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_anusvara)
+                .end();
+        b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignAnusvara").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u092E").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0928")
+                .string(KEY_MORE_KEYS, "\u0923,\u091E,\u0919")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0935").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0932").string(KEY_MORE_KEYS, "\u0933").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0938")
+                .string(KEY_MORE_KEYS, "\u0936,\u0937,\u0936\u094D\u0930")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u092F").end();
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "\u0915\u094D\u0937")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_mongolian1() {
+        final Builder b = new Builder("res/xml/rowkeys_mongolian1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0444")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0446")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0443")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0436")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u044D")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_ie")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u043D")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_en")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0433")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_ghe")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0448")
+                .string(KEY_MORE_KEYS, "\u0449")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u04AF")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0437")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043A").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_mongolian2() {
+        final Builder b = new Builder("res/xml/rowkeys_mongolian2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0439").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0431").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u04E9").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0430").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0445").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0440").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0434").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043F").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_mongolian3() {
+        final Builder b = new Builder("res/xml/rowkeys_mongolian3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0447").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0451").string(KEY_MORE_KEYS, "\u0435").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0441").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0438").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0442").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u044C").string(KEY_MORE_KEYS, "\u044A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0432").string(KEY_MORE_KEYS, "\u044E").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nepali_romanized1() {
+        final Builder b = new Builder("res/xml/rowkeys_nepali_romanized1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0920").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0914").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ai)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAi").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_vowel_sign_vocalic_r)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignVocalicR").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0925").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091E").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_uu)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignUu").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ii)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignIi").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0913").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0908").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_nukta)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0967,1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\u091F")
+                        .string(KEY_KEY_STYLE, "moreKeysDevanagariSignNukta")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_au)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0968,2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAu")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_e)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0969,3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignE")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096A,4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u0930")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096B,5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u0924")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096C,6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u092F")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_u)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096D,7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignU")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_i)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096E,8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignI")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_o)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096F,9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignO")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0966,0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u092A")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0907").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nepali_romanized2() {
+        final Builder b = new Builder("res/xml/rowkeys_nepali_romanized2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0906").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0936").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0927").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u090A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0918").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0905").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0916").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0965").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0910").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_visarga)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignVisarga").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_aa)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAa").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0938").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0926").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0909").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0917").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0939").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0915").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0932").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u090F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0950").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nepali_romanized3() {
+        final Builder b = new Builder("res/xml/rowkeys_nepali_romanized3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u090B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0922").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091B").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_sign_candrabindu)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignCandrabindu").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0923").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_anusvara)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignAnusvara").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0919").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0937").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0921").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0935").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0928").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092E").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_virama)
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_STYLE, "baseKeyDevanagariSignVirama")
+                        .string(KEY_MORE_KEYS, "\u093D")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nepali_traditional1() {
+        final Builder b = new Builder("res/xml/rowkeys_nepali_traditional1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0924\u094D\u0924")
+                        .string(KEY_MORE_KEYS, "\u091E,\u091C\u094D\u091E,\u0965")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0921\u094D\u0922")
+                        .string(KEY_MORE_KEYS, "\u0908")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0910").string(KEY_MORE_KEYS, "\u0918").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0926\u094D\u0935")
+                        .string(KEY_MORE_KEYS, "\u0926\u094D\u0927")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u091F\u094D\u091F")
+                        .string(KEY_MORE_KEYS, "\u091B")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0920\u094D\u0920")
+                        .string(KEY_MORE_KEYS, "\u091F")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u090A").string(KEY_MORE_KEYS, "\u0920").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0915\u094D\u0937")
+                        .string(KEY_MORE_KEYS, "\u0921")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0907").string(KEY_MORE_KEYS, "\u0922").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u090F").string(KEY_MORE_KEYS, "\u0923").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_vowel_sign_vocalic_r)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignVocalicR").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0967,1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\u091F")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0968,2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "\u0927")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0969,3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "\u092D")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096A,4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u091A")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096B,5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u0924")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096C,6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u0925")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096D,7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u0917")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096E,8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u0937")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u096F,9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u092F")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\u0966,0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u0909")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0907").string(KEY_MORE_KEYS, "\u0914").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nepali_traditional2() {
+        final Builder b = new Builder("res/xml/rowkeys_nepali_traditional2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0906").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0919\u094D")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0921\u094D\u0921")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT,
+                                R.xml.keystyle_devanagari_sign_candrabindu)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignCandrabindu").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0926\u094D\u0926")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091D").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_o)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignO").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092B").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ii)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignIi").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u091F\u094D\u0920")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_uu)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignUu").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0915").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092E").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_aa)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAa").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0928").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u091C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0935").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u092A").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_i)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignI").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0938").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_u)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignU").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nepali_traditional3() {
+        final Builder b = new Builder("res/xml/rowkeys_nepali_traditional3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0915\u094D")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0939\u094D\u092E")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u090B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0950").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_au)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAu").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, "\u0926\u094D\u092F")
+                        .end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_anusvara)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignAnusvara").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0919").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_ai)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignAi").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0936").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0939").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0905").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0916").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0926").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0932").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_vowel_sign_e)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariVowelSignE").end();
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keystyle_devanagari_sign_virama)
+                        .end();
+                b.start(KEY).string(KEY_KEY_STYLE, "baseKeyDevanagariSignVirama").end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\u0930")
+                        .string(KEY_MORE_KEYS, "\u0930\u0941")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nordic1() {
+        final Builder b = new Builder("res/xml/rowkeys_nordic1.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_nordic_row1_11").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_nordic2() {
+        final Builder b = new Builder("res/xml/rowkeys_nordic2.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2).end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_nordic_row2_10")
+                .string(KEY_MORE_KEYS, "!text/morekeys_nordic_row2_10")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_nordic_row2_11")
+                .string(KEY_MORE_KEYS, "!text/morekeys_nordic_row2_11")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_pcqwerty1() {
+        final Builder b = new Builder("res/xml/rowkeys_pcqwerty1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabet",
+                            "alphabetAutomaticShifted", "alphabetShiftLocked");
+                b.start(KEY).string(KEY_ADDITIONAL_MORE_KEYS, "~").string(KEY_KEY_SPEC, "`").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "!,!text/morekeys_exclamation")
+                        .string(KEY_KEY_SPEC, "1")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_1")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "@")
+                        .string(KEY_KEY_SPEC, "2")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_2")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "#")
+                        .string(KEY_KEY_SPEC, "3")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "$")
+                        .string(KEY_KEY_SPEC, "4")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_4")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "\\%")
+                        .string(KEY_KEY_SPEC, "5")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_5")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "^")
+                        .string(KEY_KEY_SPEC, "6")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_6")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                        .string(KEY_KEY_SPEC, "7")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                        .string(KEY_KEY_SPEC, "8")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                        .string(KEY_KEY_SPEC, "9")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_9")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                        .string(KEY_KEY_SPEC, "0")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_symbols_0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "_")
+                        .string(KEY_KEY_SPEC, "-")
+                        .string(KEY_MORE_KEYS, "\u2013,\u2014,\u00B7")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                        .string(KEY_KEY_SPEC, "=")
+                        .string(KEY_MORE_KEYS, "!fixedColumnOrder!4,\u221E,\u2260,\u2248,%")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty1_shift)
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_pcqwerty1_shift() {
+        final Builder b = new Builder("res/xml/rowkeys_pcqwerty1_shift.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "~").end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/morekeys_exclamation")
+                .string(KEY_KEY_SPEC, "!")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "@").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "#").end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/morekeys_currency_dollar")
+                .string(KEY_KEY_SPEC, "$")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/morekeys_symbols_percent")
+                .string(KEY_KEY_SPEC, "%")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "^").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "&").end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/morekeys_star")
+                .string(KEY_KEY_SPEC, "*")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "(").end();
+        b.start(KEY).string(KEY_KEY_SPEC, ")").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "_").end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/morekeys_plus")
+                .string(KEY_KEY_SPEC, "+")
+                .string(KEY_MORE_KEYS, "\u00D7,\u00F7,\u221A")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_pcqwerty2() {
+        final Builder b = new Builder("res/xml/rowkeys_pcqwerty2.xml");
+        b.start(INCLUDE)
+                .integer(KEY_KEY_LABEL_FLAGS, 0xc0000000 /* disableAdditionalMoreKeys|
+                        disableKeyHintLabel */)
+                .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1)
+                .end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_pcqwerty2_right3).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_pcqwerty3() {
+        final Builder b = new Builder("res/xml/rowkeys_pcqwerty3.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_pcqwerty3_right2).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_pcqwerty4() {
+        final Builder b = new Builder("res/xml/rowkeys_pcqwerty4.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_pcqwerty4_right3).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty1() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty1.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1_left5).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1_right5).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty1_left5() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty1_left5.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "!text/keyspec_q")
+                .string(KEY_MORE_KEYS, "!text/morekeys_q")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "!text/keyspec_w")
+                .string(KEY_MORE_KEYS, "!text/morekeys_w")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "e")
+                .string(KEY_MORE_KEYS, "!text/morekeys_e")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "r")
+                .string(KEY_MORE_KEYS, "!text/morekeys_r")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "t")
+                .string(KEY_MORE_KEYS, "!text/morekeys_t")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty1_right5() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty1_right5.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "!text/keyspec_y")
+                .string(KEY_MORE_KEYS, "!text/morekeys_y")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "u")
+                .string(KEY_MORE_KEYS, "!text/morekeys_u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "i")
+                .string(KEY_MORE_KEYS, "!text/morekeys_i")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "o")
+                .string(KEY_MORE_KEYS, "!text/morekeys_o")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "p")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty2() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty2.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2_left5).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2_right4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty2_left5() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty2_left5.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\@")
+                .string(KEY_KEY_HINT_LABEL, "@")
+                .string(KEY_KEY_SPEC, "a")
+                .string(KEY_MORE_KEYS, "!text/morekeys_a")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "#")
+                .string(KEY_KEY_HINT_LABEL, "#")
+                .string(KEY_KEY_SPEC, "s")
+                .string(KEY_MORE_KEYS, "!text/morekeys_s")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "$")
+                .string(KEY_KEY_HINT_LABEL, "$")
+                .string(KEY_KEY_SPEC, "d")
+                .string(KEY_MORE_KEYS, "!text/morekeys_d")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "%")
+                .string(KEY_KEY_HINT_LABEL, "%")
+                .string(KEY_KEY_SPEC, "f")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                .string(KEY_KEY_HINT_LABEL, "&")
+                .string(KEY_KEY_SPEC, "g")
+                .string(KEY_MORE_KEYS, "!text/morekeys_g")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty2_right4() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty2_right4.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "-")
+                .string(KEY_KEY_HINT_LABEL, "-")
+                .string(KEY_KEY_SPEC, "h")
+                .string(KEY_MORE_KEYS, "!text/morekeys_h")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                .string(KEY_KEY_HINT_LABEL, "+")
+                .string(KEY_KEY_SPEC, "j")
+                .string(KEY_MORE_KEYS, "!text/morekeys_j")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                .string(KEY_KEY_HINT_LABEL, "(")
+                .string(KEY_KEY_SPEC, "k")
+                .string(KEY_MORE_KEYS, "!text/morekeys_k")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                .string(KEY_KEY_HINT_LABEL, ")")
+                .string(KEY_KEY_SPEC, "l")
+                .string(KEY_MORE_KEYS, "!text/morekeys_l")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty3() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty3.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3_left4).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3_right3).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty3_left4() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty3_left4.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                .string(KEY_KEY_HINT_LABEL, "*")
+                .string(KEY_KEY_SPEC, "z")
+                .string(KEY_MORE_KEYS, "!text/morekeys_z")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                .string(KEY_KEY_HINT_LABEL, "\"")
+                .string(KEY_KEY_SPEC, "!text/keyspec_x")
+                .string(KEY_MORE_KEYS, "!text/morekeys_x")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "'")
+                .string(KEY_KEY_HINT_LABEL, "'")
+                .string(KEY_KEY_SPEC, "c")
+                .string(KEY_MORE_KEYS, "!text/morekeys_c")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ":")
+                .string(KEY_KEY_HINT_LABEL, ":")
+                .string(KEY_KEY_SPEC, "v")
+                .string(KEY_MORE_KEYS, "!text/morekeys_v")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwerty3_right3() {
+        final Builder b = new Builder("res/xml/rowkeys_qwerty3_right3.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ";")
+                .string(KEY_KEY_HINT_LABEL, ";")
+                .string(KEY_KEY_SPEC, "b")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!")
+                .string(KEY_KEY_HINT_LABEL, "!")
+                .string(KEY_KEY_SPEC, "n")
+                .string(KEY_MORE_KEYS, "!text/morekeys_n")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\?")
+                .string(KEY_KEY_HINT_LABEL, "?")
+                .string(KEY_KEY_SPEC, "m")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwertz1() {
+        final Builder b = new Builder("res/xml/rowkeys_qwertz1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "q")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "w")
+                .string(KEY_MORE_KEYS, "!text/morekeys_w")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "e")
+                .string(KEY_MORE_KEYS, "!text/morekeys_e")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "r")
+                .string(KEY_MORE_KEYS, "!text/morekeys_r")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "t")
+                .string(KEY_MORE_KEYS, "!text/morekeys_t")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "z")
+                .string(KEY_MORE_KEYS, "!text/morekeys_z")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "u")
+                .string(KEY_MORE_KEYS, "!text/morekeys_u")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "i")
+                .string(KEY_MORE_KEYS, "!text/morekeys_i")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "o")
+                .string(KEY_MORE_KEYS, "!text/morekeys_o")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "p")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwertz2() {
+        final Builder b = new Builder("res/xml/rowkeys_qwertz2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "a").string(KEY_MORE_KEYS, "!text/morekeys_a").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "s").string(KEY_MORE_KEYS, "!text/morekeys_s").end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\u20AC")
+                .string(KEY_KEY_HINT_LABEL, "\u20AC")
+                .string(KEY_KEY_SPEC, "d")
+                .string(KEY_MORE_KEYS, "!text/morekeys_d")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "%")
+                .string(KEY_KEY_HINT_LABEL, "%")
+                .string(KEY_KEY_SPEC, "f")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "&")
+                .string(KEY_KEY_HINT_LABEL, "&")
+                .string(KEY_KEY_SPEC, "g")
+                .string(KEY_MORE_KEYS, "!text/morekeys_g")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "-")
+                .string(KEY_KEY_HINT_LABEL, "-")
+                .string(KEY_KEY_SPEC, "h")
+                .string(KEY_MORE_KEYS, "!text/morekeys_h")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "+")
+                .string(KEY_KEY_HINT_LABEL, "+")
+                .string(KEY_KEY_SPEC, "j")
+                .string(KEY_MORE_KEYS, "!text/morekeys_j")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "(")
+                .string(KEY_KEY_HINT_LABEL, "(")
+                .string(KEY_KEY_SPEC, "k")
+                .string(KEY_MORE_KEYS, "!text/morekeys_k")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ")")
+                .string(KEY_KEY_HINT_LABEL, ")")
+                .string(KEY_KEY_SPEC, "l")
+                .string(KEY_MORE_KEYS, "!text/morekeys_l")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_qwertz3() {
+        final Builder b = new Builder("res/xml/rowkeys_qwertz3.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "*")
+                .string(KEY_KEY_HINT_LABEL, "*")
+                .string(KEY_KEY_SPEC, "y")
+                .string(KEY_MORE_KEYS, "!text/morekeys_y")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\"")
+                .string(KEY_KEY_HINT_LABEL, "\"")
+                .string(KEY_KEY_SPEC, "x")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "'")
+                .string(KEY_KEY_HINT_LABEL, "'")
+                .string(KEY_KEY_SPEC, "c")
+                .string(KEY_MORE_KEYS, "!text/morekeys_c")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ":")
+                .string(KEY_KEY_HINT_LABEL, ":")
+                .string(KEY_KEY_SPEC, "v")
+                .string(KEY_MORE_KEYS, "!text/morekeys_v")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, ";")
+                .string(KEY_KEY_HINT_LABEL, ";")
+                .string(KEY_KEY_SPEC, "b")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!")
+                .string(KEY_KEY_HINT_LABEL, "!")
+                .string(KEY_KEY_SPEC, "n")
+                .string(KEY_MORE_KEYS, "!text/morekeys_n")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "\\?")
+                .string(KEY_KEY_HINT_LABEL, "?")
+                .string(KEY_KEY_SPEC, "m")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_serbian_qwertz1() {
+        final Builder b = new Builder("res/xml/rowkeys_serbian_qwertz1.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz1).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0161").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_serbian_qwertz2() {
+        final Builder b = new Builder("res/xml/rowkeys_serbian_qwertz2.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u010D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0107").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_serbian_qwertz3() {
+        final Builder b = new Builder("res/xml/rowkeys_serbian_qwertz3.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz3).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0111").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u017E").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_sinhala1() {
+        final Builder b = new Builder("res/xml/rowkeys_sinhala1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DD6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D8B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DD1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D8D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D94").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DC1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DC2").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB0").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA5").string(KEY_MORE_KEYS, "\u0DF4").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .string(KEY_KEY_SPEC, "\u0DD4")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .string(KEY_KEY_SPEC, "\u0D85")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "\u0DD0")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u0DBB")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u0D91")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u0DC4")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u0DB8")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u0DC3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u0DAF")
+                        .string(KEY_MORE_KEYS, "\u0DB3")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u0DA0")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA4").string(KEY_MORE_KEYS, "\u0DF4").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_sinhala2() {
+        final Builder b = new Builder("res/xml/rowkeys_sinhala2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DDF").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DD3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DD8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DC6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA8").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DCA\u200D\u0DBA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DC5\u0DD4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DAB").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D9B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DAE").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DCA\u200D\u0DBB").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DCA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DD2").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DCF").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DD9").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DBA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DC0").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB1").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D9A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DAD").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D8F").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_sinhala3() {
+        final Builder b = new Builder("res/xml/rowkeys_sinhala3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D9E").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA3").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DAA").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D8A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB7").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB5").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DC5").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D9D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DBB\u0DCA\u200D").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D82").string(KEY_MORE_KEYS, "\u0D83").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA2").string(KEY_MORE_KEYS, "\u0DA6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DA9").string(KEY_MORE_KEYS, "\u0DAC").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D89").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB6").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DB4").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DBD").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0D9C").string(KEY_MORE_KEYS, "\u0D9F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0DF3").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_south_slavic1() {
+        final Builder b = new Builder("res/xml/rowkeys_south_slavic1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0459")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u045A")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0435")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_ie")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0440")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0442")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "!text/keyspec_south_slavic_row1_6")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0443")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0438")
+                .string(KEY_MORE_KEYS, "!text/morekeys_cyrillic_i")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u043E")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u043F")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0448").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_south_slavic2() {
+        final Builder b = new Builder("res/xml/rowkeys_south_slavic2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0430").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0441").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0434").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0444").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0433").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0445").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0458").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0447").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_south_slavic_row2_11").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_south_slavic3() {
+        final Builder b = new Builder("res/xml/rowkeys_south_slavic3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_south_slavic_row3_1").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u045F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0446").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0432").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0431").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043D").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u043C").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_south_slavic_row3_8").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0436").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_spanish2() {
+        final Builder b = new Builder("res/xml/rowkeys_spanish2.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2).end();
+        b.start(KEY).string(KEY_KEY_SPEC, "!text/keyspec_spanish_row2_10").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_swiss1() {
+        final Builder b = new Builder("res/xml/rowkeys_swiss1.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz1).end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_swiss_row1_11")
+                .string(KEY_MORE_KEYS, "!text/morekeys_swiss_row1_11")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_swiss2() {
+        final Builder b = new Builder("res/xml/rowkeys_swiss2.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2).end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_swiss_row2_10")
+                .string(KEY_MORE_KEYS, "!text/morekeys_swiss_row2_10")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_swiss_row2_11")
+                .string(KEY_MORE_KEYS, "!text/morekeys_swiss_row2_11")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_symbols1() {
+        final Builder b = new Builder("res/xml/rowkeys_symbols1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_1")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_1")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_1")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_2")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_2")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_2")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_3")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_3")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_3")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_4")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_4")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_4")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_5")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_5")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_5")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_6")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_6")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_6")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_7")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_7")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_7")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_8")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_8")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_9")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_9")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_9")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "!text/additional_morekeys_symbols_0")
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_0")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_0")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_symbols2() {
+        final Builder b = new Builder("res/xml/rowkeys_symbols2.xml");
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_LANGUAGE_CODE, "fa");
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "@")
+                        .string(KEY_KEY_SPEC, "\u066C")
+                        .string(KEY_MORE_KEYS, "@")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_HINT_LABEL, "#")
+                        .string(KEY_KEY_SPEC, "\u066B")
+                        .string(KEY_MORE_KEYS, "#")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "@").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "#").end();
+            b.end();
+        b.end();
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_STYLE, "currencyKeyStyle")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_percent")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_percent")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "&").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "-")
+                .string(KEY_MORE_KEYS, "_,\u2013,\u2014,\u00B7")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "+").string(KEY_MORE_KEYS, "!text/morekeys_plus").end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_parentheses).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_symbols3() {
+        final Builder b = new Builder("res/xml/rowkeys_symbols3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "*").string(KEY_MORE_KEYS, "!text/morekeys_star").end();
+        b.start(SWITCH);
+            b.start(CASE).strings(CASE_LANGUAGE_CODE, "fa");
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_left_double_angle_quote")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_double_quote")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "!text/keyspec_right_double_angle_quote")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_single_quote")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "\"")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_double_quote")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_KEY_SPEC, "'")
+                        .string(KEY_MORE_KEYS, "!text/morekeys_single_quote")
+                        .end();
+            b.end();
+        b.end();
+        b.start(KEY).string(KEY_KEY_SPEC, ":").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_semicolon")
+                .string(KEY_MORE_KEYS, "!text/morekeys_symbols_semicolon")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!")
+                .string(KEY_MORE_KEYS, "!text/morekeys_exclamation")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "!text/keyspec_symbols_question")
+                .string(KEY_MORE_KEYS, "!text/morekeys_question")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_symbols_shift1() {
+        final Builder b = new Builder("res/xml/rowkeys_symbols_shift1.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "~").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "`").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "|").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u2022")
+                .string(KEY_MORE_KEYS, "!text/morekeys_bullet")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u221A").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u03C0").string(KEY_MORE_KEYS, "\u03A0").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u00F7").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u00D7").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u00B6").string(KEY_MORE_KEYS, "\u00A7").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u2206").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_symbols_shift2() {
+        final Builder b = new Builder("res/xml/rowkeys_symbols_shift2.xml");
+        b.start(KEY).string(KEY_KEY_STYLE, "moreCurrency1KeyStyle").end();
+        b.start(KEY).string(KEY_KEY_STYLE, "moreCurrency2KeyStyle").end();
+        b.start(KEY).string(KEY_KEY_STYLE, "moreCurrency3KeyStyle").end();
+        b.start(KEY).string(KEY_KEY_STYLE, "moreCurrency4KeyStyle").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "^")
+                .string(KEY_MORE_KEYS, "\u2191,\u2193,\u2190,\u2192")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u00B0").string(KEY_MORE_KEYS, "\u2032,\u2033").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "=").string(KEY_MORE_KEYS, "\u2260,\u2248,\u221E").end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_curly_brackets).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_symbols_shift3() {
+        final Builder b = new Builder("res/xml/rowkeys_symbols_shift3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\\").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u00A9").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u00AE").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u2122").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u2105").end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.keys_square_brackets).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_tamil1() {
+        final Builder b = new Builder("res/xml/rowkeys_tamil1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0B94")
+                .string(KEY_MORE_KEYS, "\u0BCC,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0B90")
+                .string(KEY_MORE_KEYS, "\u0BC8,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0B86")
+                .string(KEY_MORE_KEYS, "\u0BBE,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0B88")
+                .string(KEY_MORE_KEYS, "\u0BC0,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0B8A")
+                .string(KEY_MORE_KEYS, "\u0BC2,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u0BAE")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0BA9")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0BA8")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0B99")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0BA3")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B9E").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_tamil2() {
+        final Builder b = new Builder("res/xml/rowkeys_tamil2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B93").string(KEY_MORE_KEYS, "\u0BCB,\u0BD0").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B8F").string(KEY_MORE_KEYS, "\u0BC7").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B85").string(KEY_MORE_KEYS, "\u0B83").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B87").string(KEY_MORE_KEYS, "\u0BBF").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B89").string(KEY_MORE_KEYS, "\u0BC1").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB1").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BAA").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0B95")
+                .string(KEY_MORE_KEYS, "\u0BB9,\u0B95\u0BCD\u0BB7")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BA4").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0B9A")
+                .string(KEY_MORE_KEYS, "\u0BB8,\u0BB6\u0BCD\u0BB0\u0BC0")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B9F").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_tamil3() {
+        final Builder b = new Builder("res/xml/rowkeys_tamil3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B92").string(KEY_MORE_KEYS, "\u0BCA").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0B8E").string(KEY_MORE_KEYS, "\u0BC6").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BCD").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB0").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB5").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB4").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB2").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB3").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BAF").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0BB7").string(KEY_MORE_KEYS, "\u0B9C").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_telugu1() {
+        final Builder b = new Builder("res/xml/rowkeys_telugu1.xml");
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                .string(KEY_KEY_HINT_LABEL, "1")
+                .string(KEY_KEY_SPEC, "\u0C4C")
+                .string(KEY_MORE_KEYS, "\u0C14,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                .string(KEY_KEY_HINT_LABEL, "2")
+                .string(KEY_KEY_SPEC, "\u0C48")
+                .string(KEY_MORE_KEYS, "\u0C10,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                .string(KEY_KEY_HINT_LABEL, "3")
+                .string(KEY_KEY_SPEC, "\u0C3E")
+                .string(KEY_MORE_KEYS, "\u0C06,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                .string(KEY_KEY_HINT_LABEL, "4")
+                .string(KEY_KEY_SPEC, "\u0C40")
+                .string(KEY_MORE_KEYS, "\u0C08,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                .string(KEY_KEY_HINT_LABEL, "5")
+                .string(KEY_KEY_SPEC, "\u0C42")
+                .string(KEY_MORE_KEYS, "\u0C0A,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                .string(KEY_KEY_HINT_LABEL, "6")
+                .string(KEY_KEY_SPEC, "\u0C2C")
+                .string(KEY_MORE_KEYS, "\u0C2D,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                .string(KEY_KEY_HINT_LABEL, "7")
+                .string(KEY_KEY_SPEC, "\u0C39")
+                .string(KEY_MORE_KEYS, "\u0C03,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                .string(KEY_KEY_HINT_LABEL, "8")
+                .string(KEY_KEY_SPEC, "\u0C17")
+                .string(KEY_MORE_KEYS, "\u0C18,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                .string(KEY_KEY_HINT_LABEL, "9")
+                .string(KEY_KEY_SPEC, "\u0C26")
+                .string(KEY_MORE_KEYS, "\u0C27,%")
+                .end();
+        b.start(KEY)
+                .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                .string(KEY_KEY_HINT_LABEL, "0")
+                .string(KEY_KEY_SPEC, "\u0C1C")
+                .string(KEY_MORE_KEYS, "\u0C1D,%")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C21").string(KEY_MORE_KEYS, "\u0C22").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_telugu2() {
+        final Builder b = new Builder("res/xml/rowkeys_telugu2.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C4B").string(KEY_MORE_KEYS, "\u0C13").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C47").string(KEY_MORE_KEYS, "\u0C0F").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C4D").string(KEY_MORE_KEYS, "\u0C05").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C3F").string(KEY_MORE_KEYS, "\u0C07").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C41").string(KEY_MORE_KEYS, "\u0C09").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C2A").string(KEY_MORE_KEYS, "\u0C2B").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0C30")
+                .string(KEY_MORE_KEYS, "\u0C31,\u0C4D\u0C30")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C15").string(KEY_MORE_KEYS, "\u0C16").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C24").string(KEY_MORE_KEYS, "\u0C25").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C1A").string(KEY_MORE_KEYS, "\u0C1B").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C1F").string(KEY_MORE_KEYS, "\u0C20").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_telugu3() {
+        final Builder b = new Builder("res/xml/rowkeys_telugu3.xml");
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C4A").string(KEY_MORE_KEYS, "\u0C12").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C46").string(KEY_MORE_KEYS, "\u0C0E").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C2E").string(KEY_MORE_KEYS, "\u0C02,\u0C01").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0C28")
+                .string(KEY_MORE_KEYS, "\u0C23,\u0C19,\u0C1E")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C35").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C32").string(KEY_MORE_KEYS, "\u0C33").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C38").string(KEY_MORE_KEYS, "\u0C36").end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u0C0B").string(KEY_MORE_KEYS, "\u0C43").end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0C37")
+                .string(KEY_MORE_KEYS, "\u0C15\u0C4D\u0C37")
+                .end();
+        b.start(KEY)
+                .string(KEY_KEY_SPEC, "\u0C2F")
+                .string(KEY_MORE_KEYS, "\u0C1C\u0C4D\u0C1E")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_thai1() {
+        final Builder b = new Builder("res/xml/rowkeys_thai1.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "+")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E51").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E52").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E53").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E54").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E39|\u0E39")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E3F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E55").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E56").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E57").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E58").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E59").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E45").end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "1")
+                        .string(KEY_KEY_HINT_LABEL, "1")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "/")
+                        .string(KEY_MORE_KEYS, "\u0E51")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "2")
+                        .string(KEY_KEY_HINT_LABEL, "2")
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "_")
+                        .string(KEY_MORE_KEYS, "\u0E52")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "3")
+                        .string(KEY_KEY_HINT_LABEL, "3")
+                        .string(KEY_KEY_SPEC, "\u0E20")
+                        .string(KEY_MORE_KEYS, "\u0E53")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "4")
+                        .string(KEY_KEY_HINT_LABEL, "4")
+                        .string(KEY_KEY_SPEC, "\u0E16")
+                        .string(KEY_MORE_KEYS, "\u0E54")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E38|\u0E38")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E36|\u0E36")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "5")
+                        .string(KEY_KEY_HINT_LABEL, "5")
+                        .string(KEY_KEY_SPEC, "\u0E04")
+                        .string(KEY_MORE_KEYS, "\u0E55")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "6")
+                        .string(KEY_KEY_HINT_LABEL, "6")
+                        .string(KEY_KEY_SPEC, "\u0E15")
+                        .string(KEY_MORE_KEYS, "\u0E56")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "7")
+                        .string(KEY_KEY_HINT_LABEL, "7")
+                        .string(KEY_KEY_SPEC, "\u0E08")
+                        .string(KEY_MORE_KEYS, "\u0E57")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "8")
+                        .string(KEY_KEY_HINT_LABEL, "8")
+                        .string(KEY_KEY_SPEC, "\u0E02")
+                        .string(KEY_MORE_KEYS, "\u0E58")
+                        .end();
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "9")
+                        .string(KEY_KEY_HINT_LABEL, "9")
+                        .string(KEY_KEY_SPEC, "\u0E0A")
+                        .string(KEY_MORE_KEYS, "\u0E59")
+                        .end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_thai2() {
+        final Builder b = new Builder("res/xml/rowkeys_thai2.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E50").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "\"")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E0E").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E11").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E18").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E4D|\u0E4D")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E4A|\u0E4A")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E13").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E2F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E0D").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E10").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ",")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY)
+                        .string(KEY_ADDITIONAL_MORE_KEYS, "0")
+                        .string(KEY_KEY_HINT_LABEL, "0")
+                        .string(KEY_KEY_SPEC, "\u0E46")
+                        .string(KEY_MORE_KEYS, "\u0E50")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E44").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E33").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E1E").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E30").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E31|\u0E31")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E35|\u0E35")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E23").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E19").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E22").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E1A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E25").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_thai3() {
+        final Builder b = new Builder("res/xml/rowkeys_thai3.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E24").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E06").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E0F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E42").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E0C").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E47|\u0E47")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E4B|\u0E4B")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E29").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E28").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E0B").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ".")
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E1F").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E2B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E01").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E14").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E40").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E49|\u0E49")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E48|\u0E48")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E32").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E2A").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E27").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E07").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_thai4() {
+        final Builder b = new Builder("res/xml/rowkeys_thai4.xml");
+        b.start(SWITCH);
+            b.start(CASE)
+                    .strings(CASE_KEYBOARD_LAYOUT_SET_ELEMENT, "alphabetManualShifted",
+                            "alphabetShiftLocked", "alphabetShiftLockShifted");
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "(")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, ")")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E09").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E2E").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E3A|\u0E3A")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E4C|\u0E4C")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x30 /* fontDefault */)
+                        .string(KEY_KEY_SPEC, "?")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E12").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E2C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E26").end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E1C").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E1B").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E41").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E2D").end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E34|\u0E34")
+                        .end();
+                b.start(KEY)
+                        .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                        .string(KEY_KEY_SPEC, " \u0E37|\u0E37")
+                        .end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E17").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E21").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E43").end();
+                b.start(KEY).string(KEY_KEY_SPEC, "\u0E1D").end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_uzbek1() {
+        final Builder b = new Builder("res/xml/rowkeys_uzbek1.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1).end();
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "o\u02BB")
+                .end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rowkeys_uzbek2() {
+        final Builder b = new Builder("res/xml/rowkeys_uzbek2.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2).end();
+        b.start(KEY)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x80 /* followKeyLetterRatio */)
+                .string(KEY_KEY_SPEC, "g\u02BB")
+                .end();
+        b.start(KEY).string(KEY_KEY_SPEC, "\u02BC").end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_arabic() {
+        final Builder b = new Builder("res/xml/rows_arabic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_arabic1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_arabic2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_arabic3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_armenian_phonetic() {
+        final Builder b = new Builder("res/xml/rows_armenian_phonetic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic1)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic2)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10.0%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic3)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_armenian_xeh).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0c8b4431 /* 9.8000%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_armenian_phonetic4)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_armenian_sha).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_azerty() {
+        final Builder b = new Builder("res/xml/rows_azerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_azerty1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_azerty2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_azerty3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_bengali() {
+        final Builder b = new Builder("res/xml/rows_bengali.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_bengali_akkhor() {
+        final Builder b = new Builder("res/xml/rows_bengali_akkhor.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali_akkhor1)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali_akkhor2)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bengali_akkhor3)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_bulgarian() {
+        final Builder b = new Builder("res/xml/rows_bulgarian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x11743f31 /* 13.636%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_bulgarian_bds() {
+        final Builder b = new Builder("res/xml/rows_bulgarian_bds.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian_bds1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian_bds2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_bulgarian_bds3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_colemak() {
+        final Builder b = new Builder("res/xml/rows_colemak.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_colemak1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_colemak2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_colemak3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_dvorak() {
+        final Builder b = new Builder("res/xml/rows_dvorak.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_dvorak1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_dvorak2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_dvorak3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_east_slavic() {
+        final Builder b = new Builder("res/xml/rows_east_slavic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_east_slavic1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_east_slavic2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_east_slavic3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_farsi() {
+        final Builder b = new Builder("res/xml/rows_farsi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_farsi1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_farsi2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_farsi3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_georgian() {
+        final Builder b = new Builder("res/xml/rows_georgian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_georgian1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_georgian2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_georgian3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_greek() {
+        final Builder b = new Builder("res/xml/rows_greek.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_greek1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_greek2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_greek3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_hebrew() {
+        final Builder b = new Builder("res/xml/rows_hebrew.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hebrew1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hebrew2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hebrew3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_hindi() {
+        final Builder b = new Builder("res/xml/rows_hindi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_hindi_compact() {
+        final Builder b = new Builder("res/xml/rows_hindi_compact.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi_compact1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi_compact2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_hindi_compact3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_kannada() {
+        final Builder b = new Builder("res/xml/rows_kannada.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_kannada1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_kannada2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_kannada3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_khmer() {
+        final Builder b = new Builder("res/xml/rows_khmer.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer3).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(KEY).string(KEY_KEY_STYLE, "shiftKeyStyle").end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_khmer4).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "deleteKeyStyle").end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_lao() {
+        final Builder b = new Builder("res/xml/rows_lao.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao3).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(KEY).string(KEY_KEY_STYLE, "shiftKeyStyle").end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_lao4).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "deleteKeyStyle").end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_malayalam() {
+        final Builder b = new Builder("res/xml/rows_malayalam.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_malayalam1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_malayalam2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_malayalam3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_marathi() {
+        final Builder b = new Builder("res/xml/rows_marathi.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_marathi1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_marathi2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_marathi3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_mongolian() {
+        final Builder b = new Builder("res/xml/rows_mongolian.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_mongolian1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_mongolian2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_mongolian3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_nepali_romanized() {
+        final Builder b = new Builder("res/xml/rows_nepali_romanized.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_romanized1)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_romanized2)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b333331 /* 8.75%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_romanized3)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_nepali_traditional() {
+        final Builder b = new Builder("res/xml/rows_nepali_traditional.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_traditional1)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_traditional2)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nepali_traditional3)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_nordic() {
+        final Builder b = new Builder("res/xml/rows_nordic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nordic1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_nordic2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0bc6a831 /* 9.2%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x03958131 /* 2.8%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xeccccd31 /* -15%p */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_number() {
+        final Builder b = new Builder("res/xml/rows_number.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_number).end();
+        b.start(SWITCH);
+            b.start(CASE).bool(CASE_PASSWORD_INPUT, true);
+                b.start(INCLUDE)
+                        .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_number_password)
+                        .end();
+            b.end();
+            b.start(DEFAULT);
+                b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rows_number_normal).end();
+            b.end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_number_normal() {
+        final Builder b = new Builder("res/xml/rows_number_normal.xml");
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_SPEC, "1").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "2").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "3").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                    .string(KEY_KEY_SPEC, "-")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .string(KEY_MORE_KEYS, "+")
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_SPEC, "4").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "5").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "6").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(SWITCH);
+                b.start(CASE).strings(CASE_MODE, "date");
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .string(KEY_KEY_SPEC, ".")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+                b.start(CASE).strings(CASE_MODE, "time", "datetime");
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                            .string(KEY_KEY_SPEC, ".")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .string(KEY_MORE_KEYS, "!text/morekeys_am_pm")
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                            .string(KEY_KEY_SPEC, ",")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                            .end();
+                b.end();
+            b.end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_SPEC, "7").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "8").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "9").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(SWITCH);
+                b.start(CASE).strings(CASE_MODE, "date");
+                    b.start(KEY)
+                            .string(KEY_KEY_SPEC, "/")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .end();
+                b.end();
+                b.start(CASE).strings(CASE_MODE, "time");
+                    b.start(KEY)
+                            .string(KEY_KEY_SPEC, ":")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .end();
+                b.end();
+                b.start(CASE).strings(CASE_MODE, "datetime");
+                    b.start(KEY)
+                            .string(KEY_KEY_SPEC, "/ :|/")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .string(KEY_MORE_KEYS, "!noPanelAutoMoreKey!,:")
+                            .end();
+                b.end();
+                b.start(DEFAULT);
+                    b.start(KEY)
+                            .string(KEY_KEY_SPEC, ".")
+                            .string(KEY_KEY_STYLE, "numKeyStyle")
+                            .end();
+                b.end();
+            b.end();
+            b.start(KEY).string(KEY_KEY_SPEC, "0").string(KEY_KEY_STYLE, "numKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "numSpaceKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_number_password() {
+        final Builder b = new Builder("res/xml/rows_number_password.xml");
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num1KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num2KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num3KeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num4KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num5KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num6KeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num7KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num8KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num9KeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        b.start(ROW);
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "deleteKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_HINT_LABEL, "+")
+                    .string(KEY_KEY_STYLE, "num0KeyStyle")
+                    .end();
+            b.start(KEY).string(KEY_KEY_STYLE, "enterKeyStyle").end();
+            b.start(SPACER).integer(KEY_KEY_WIDTH, -1 /* fillRight */).end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_pcqwerty() {
+        final Builder b = new Builder("res/xml/rows_pcqwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x09d88431 /* 7.692%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x09d88431 /* 7.692%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x09d88431 /* 7.692%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x04ec4231 /* 3.846%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty3)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x09d88431 /* 7.692%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0ec4c631 /* 11.538%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_pcqwerty4).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_pcqwerty5).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_phone() {
+        final Builder b = new Builder("res/xml/rows_phone.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_number).end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_STYLE, "num1KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num2KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num3KeyStyle").end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                    .string(KEY_KEY_SPEC, "-")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .string(KEY_MORE_KEYS, "+")
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_STYLE, "num4KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num5KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num6KeyStyle").end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ".")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_STYLE, "num7KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num8KeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "num9KeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_STYLE, "numPhoneToSymbolKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "0 +|0")
+                    .string(KEY_KEY_STYLE, "num0KeyStyle")
+                    .string(KEY_MORE_KEYS, "!noPanelAutoMoreKey!,+")
+                    .end();
+            b.start(KEY).string(KEY_KEY_STYLE, "numSpaceKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_phone_symbols() {
+        final Builder b = new Builder("res/xml/rows_phone_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_number).end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_SPEC, "(").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "/").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, ")").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x200 /* hasPopupHint */)
+                    .string(KEY_KEY_SPEC, "-")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .string(KEY_MORE_KEYS, "+")
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_SPEC, "N").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x40c0 /* followKeyLabelRatio|autoXScale */)
+                    .string(KEY_KEY_SPEC, "!string/label_pause_key|,")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, ",").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY)
+                    .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                    .string(KEY_KEY_SPEC, ".")
+                    .string(KEY_KEY_STYLE, "numKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY)
+                    .string(KEY_KEY_SPEC, "\uFF0A|*")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .end();
+            b.start(KEY)
+                    .integer(KEY_KEY_LABEL_FLAGS, 0x40c0 /* followKeyLabelRatio|autoXScale */)
+                    .string(KEY_KEY_SPEC, "!string/label_wait_key|;")
+                    .string(KEY_KEY_STYLE, "numSymbolKeyStyle")
+                    .end();
+            b.start(KEY).string(KEY_KEY_SPEC, "#").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(ROW);
+            b.start(KEY).string(KEY_KEY_STYLE, "numPhoneToNumericKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_SPEC, "+").string(KEY_KEY_STYLE, "numSymbolKeyStyle").end();
+            b.start(KEY).string(KEY_KEY_STYLE, "numSpaceKeyStyle").end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_qwerty() {
+        final Builder b = new Builder("res/xml/rows_qwerty.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_qwertz() {
+        final Builder b = new Builder("res/xml/rows_qwertz.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_serbian_qwertz() {
+        final Builder b = new Builder("res/xml/rows_serbian_qwertz.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_serbian_qwertz1)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_serbian_qwertz2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_serbian_qwertz3)
+                    .end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_sinhala() {
+        final Builder b = new Builder("res/xml/rows_sinhala.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_sinhala1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_sinhala2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_sinhala3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_south_slavic() {
+        final Builder b = new Builder("res/xml/rows_south_slavic.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_south_slavic1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_south_slavic2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0b266c31 /* 8.711%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x0dd2f231 /* 10.8%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_south_slavic3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_spanish() {
+        final Builder b = new Builder("res/xml/rows_spanish.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_spanish2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_swiss() {
+        final Builder b = new Builder("res/xml/rows_swiss.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_swiss1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_swiss2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0bc6a831 /* 9.2%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x03958131 /* 2.8%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwertz3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xeccccd31 /* -15%p */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_symbols() {
+        final Builder b = new Builder("res/xml/rows_symbols.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toMoreSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toAlphaKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_symbols4).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_symbols_shift() {
+        final Builder b = new Builder("res/xml/rows_symbols_shift.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_currency).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols_shift1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(INCLUDE)
+                    .fraction(KEY_KEY_XPOS, 0x06666631 /* 5%p */)
+                    .reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols_shift2)
+                    .end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "backFromMoreSymbolKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_symbols_shift3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_BACKGROUND_TYPE, 2 /* functional */)
+                .fraction(KEY_KEY_WIDTH, 0x0ccccd31 /* 10%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "toAlphaKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_symbols_shift4).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "enterKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_tamil() {
+        final Builder b = new Builder("res/xml/rows_tamil.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_tamil1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_tamil2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_tamil3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_telugu() {
+        final Builder b = new Builder("res/xml/rows_telugu.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_telugu1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_telugu2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x4010 /* fontNormal|autoXScale */)
+                .fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_telugu3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_thai() {
+        final Builder b = new Builder("res/xml/rows_thai.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai1).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai2).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai3).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_thai_kho_khuat).end();
+        b.end();
+        b.start(ROW)
+                .integer(KEY_KEY_LABEL_FLAGS, 0x10 /* fontNormal */)
+                .fraction(KEY_KEY_WIDTH, 0x0aaaa831 /* 8.3333%p */);
+            b.start(KEY).string(KEY_KEY_STYLE, "shiftKeyStyle").end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_thai4).end();
+            b.start(KEY).string(KEY_KEY_STYLE, "deleteKeyStyle").end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    private static KeyboardLayoutElement[] newLayout_xml_rows_uzbek() {
+        final Builder b = new Builder("res/xml/rows_uzbek.xml");
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.key_styles_common).end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_uzbek1).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0ba2f031 /* 9.091%p */);
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_uzbek2).end();
+        b.end();
+        b.start(ROW).fraction(KEY_KEY_WIDTH, 0x0bc6a831 /* 9.2%p */);
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "shiftKeyStyle")
+                    .fraction(KEY_KEY_WIDTH, 0x13333331 /* 15%p */)
+                    .fraction(KEY_VISUAL_INSETS_RIGHT, 0x0147ae31 /* 1%p */)
+                    .end();
+            b.start(SPACER).fraction(KEY_KEY_WIDTH, 0x03958131 /* 2.8%p */).end();
+            b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.rowkeys_qwerty3).end();
+            b.start(KEY)
+                    .string(KEY_KEY_STYLE, "deleteKeyStyle")
+                    .integer(KEY_KEY_WIDTH, -1 /* fillRight */)
+                    .fraction(KEY_KEY_XPOS, 0xeccccd31 /* -15%p */)
+                    .fraction(KEY_VISUAL_INSETS_LEFT, 0x0147ae31 /* 1%p */)
+                    .end();
+        b.end();
+        b.start(INCLUDE).reference(INCLUDE_KEYBOARD_LAYOUT, R.xml.row_qwerty4).end();
+        return b.build();
+    }
+
+    @Nullable
+    private static KeyboardLayoutElement[] newLayout(final String path) {
+        switch (path) {
+        // case "path": return newLayout_directory_name();
+        case "res/xml-land/kbd_number.xml":
+            return newLayout_xml_land_kbd_number();
+        case "res/xml-land/kbd_phone.xml":
+            return newLayout_xml_land_kbd_phone();
+        case "res/xml-land/kbd_phone_symbols.xml":
+            return newLayout_xml_land_kbd_phone_symbols();
+        case "res/xml-sw600dp-land/kbd_more_keys_keyboard_template.xml":
+            return newLayout_xml_sw600dp_land_kbd_more_keys_keyboard_template();
+        case "res/xml-sw600dp-land/kbd_number.xml":
+            return newLayout_xml_sw600dp_land_kbd_number();
+        case "res/xml-sw600dp-land/kbd_phone.xml":
+            return newLayout_xml_sw600dp_land_kbd_phone();
+        case "res/xml-sw600dp-land/kbd_phone_symbols.xml":
+            return newLayout_xml_sw600dp_land_kbd_phone_symbols();
+        case "res/xml-sw600dp-land/key_space_3kw.xml":
+            return newLayout_xml_sw600dp_land_key_space_3kw();
+        case "res/xml-sw600dp-land/row_qwerty4.xml":
+            return newLayout_xml_sw600dp_land_row_qwerty4();
+        case "res/xml-sw600dp-land/rows_qwerty.xml":
+            return newLayout_xml_sw600dp_land_rows_qwerty();
+        case "res/xml-sw600dp/kbd_more_keys_keyboard_template.xml":
+            return newLayout_xml_sw600dp_kbd_more_keys_keyboard_template();
+        case "res/xml-sw600dp/kbd_number.xml":
+            return newLayout_xml_sw600dp_kbd_number();
+        case "res/xml-sw600dp/kbd_phone.xml":
+            return newLayout_xml_sw600dp_kbd_phone();
+        case "res/xml-sw600dp/kbd_phone_symbols.xml":
+            return newLayout_xml_sw600dp_kbd_phone_symbols();
+        case "res/xml-sw600dp/key_comma.xml":
+            return newLayout_xml_sw600dp_key_comma();
+        case "res/xml-sw600dp/key_period.xml":
+            return newLayout_xml_sw600dp_key_period();
+        case "res/xml-sw600dp/key_settings.xml":
+            return newLayout_xml_sw600dp_key_settings();
+        case "res/xml-sw600dp/key_space_3kw.xml":
+            return newLayout_xml_sw600dp_key_space_3kw();
+        case "res/xml-sw600dp/key_space_7kw.xml":
+            return newLayout_xml_sw600dp_key_space_7kw();
+        case "res/xml-sw600dp/key_space_symbols.xml":
+            return newLayout_xml_sw600dp_key_space_symbols();
+        case "res/xml-sw600dp/key_styles_common.xml":
+            return newLayout_xml_sw600dp_key_styles_common();
+        case "res/xml-sw600dp/key_styles_enter.xml":
+            return newLayout_xml_sw600dp_key_styles_enter();
+        case "res/xml-sw600dp/keys_arabic3_left.xml":
+            return newLayout_xml_sw600dp_keys_arabic3_left();
+        case "res/xml-sw600dp/keys_dvorak_123.xml":
+            return newLayout_xml_sw600dp_keys_dvorak_123();
+        case "res/xml-sw600dp/keys_exclamation_question.xml":
+            return newLayout_xml_sw600dp_keys_exclamation_question();
+        case "res/xml-sw600dp/keys_farsi3_right.xml":
+            return newLayout_xml_sw600dp_keys_farsi3_right();
+        case "res/xml-sw600dp/keys_pcqwerty2_right3.xml":
+            return newLayout_xml_sw600dp_keys_pcqwerty2_right3();
+        case "res/xml-sw600dp/keys_pcqwerty3_right2.xml":
+            return newLayout_xml_sw600dp_keys_pcqwerty3_right2();
+        case "res/xml-sw600dp/keys_pcqwerty4_right3.xml":
+            return newLayout_xml_sw600dp_keys_pcqwerty4_right3();
+        case "res/xml-sw600dp/row_pcqwerty5.xml":
+            return newLayout_xml_sw600dp_row_pcqwerty5();
+        case "res/xml-sw600dp/row_qwerty4.xml":
+            return newLayout_xml_sw600dp_row_qwerty4();
+        case "res/xml-sw600dp/rowkeys_dvorak3.xml":
+            return newLayout_xml_sw600dp_rowkeys_dvorak3();
+        case "res/xml-sw600dp/rowkeys_pcqwerty1.xml":
+            return newLayout_xml_sw600dp_rowkeys_pcqwerty1();
+        case "res/xml-sw600dp/rows_arabic.xml":
+            return newLayout_xml_sw600dp_rows_arabic();
+        case "res/xml-sw600dp/rows_armenian_phonetic.xml":
+            return newLayout_xml_sw600dp_rows_armenian_phonetic();
+        case "res/xml-sw600dp/rows_azerty.xml":
+            return newLayout_xml_sw600dp_rows_azerty();
+        case "res/xml-sw600dp/rows_bengali.xml":
+            return newLayout_xml_sw600dp_rows_bengali();
+        case "res/xml-sw600dp/rows_bengali_akkhor.xml":
+            return newLayout_xml_sw600dp_rows_bengali_akkhor();
+        case "res/xml-sw600dp/rows_bulgarian.xml":
+            return newLayout_xml_sw600dp_rows_bulgarian();
+        case "res/xml-sw600dp/rows_bulgarian_bds.xml":
+            return newLayout_xml_sw600dp_rows_bulgarian_bds();
+        case "res/xml-sw600dp/rows_colemak.xml":
+            return newLayout_xml_sw600dp_rows_colemak();
+        case "res/xml-sw600dp/rows_dvorak.xml":
+            return newLayout_xml_sw600dp_rows_dvorak();
+        case "res/xml-sw600dp/rows_east_slavic.xml":
+            return newLayout_xml_sw600dp_rows_east_slavic();
+        case "res/xml-sw600dp/rows_farsi.xml":
+            return newLayout_xml_sw600dp_rows_farsi();
+        case "res/xml-sw600dp/rows_georgian.xml":
+            return newLayout_xml_sw600dp_rows_georgian();
+        case "res/xml-sw600dp/rows_greek.xml":
+            return newLayout_xml_sw600dp_rows_greek();
+        case "res/xml-sw600dp/rows_hebrew.xml":
+            return newLayout_xml_sw600dp_rows_hebrew();
+        case "res/xml-sw600dp/rows_hindi.xml":
+            return newLayout_xml_sw600dp_rows_hindi();
+        case "res/xml-sw600dp/rows_hindi_compact.xml":
+            return newLayout_xml_sw600dp_rows_hindi_compact();
+        case "res/xml-sw600dp/rows_kannada.xml":
+            return newLayout_xml_sw600dp_rows_kannada();
+        case "res/xml-sw600dp/rows_khmer.xml":
+            return newLayout_xml_sw600dp_rows_khmer();
+        case "res/xml-sw600dp/rows_lao.xml":
+            return newLayout_xml_sw600dp_rows_lao();
+        case "res/xml-sw600dp/rows_malayalam.xml":
+            return newLayout_xml_sw600dp_rows_malayalam();
+        case "res/xml-sw600dp/rows_marathi.xml":
+            return newLayout_xml_sw600dp_rows_marathi();
+        case "res/xml-sw600dp/rows_mongolian.xml":
+            return newLayout_xml_sw600dp_rows_mongolian();
+        case "res/xml-sw600dp/rows_nepali_romanized.xml":
+            return newLayout_xml_sw600dp_rows_nepali_romanized();
+        case "res/xml-sw600dp/rows_nepali_traditional.xml":
+            return newLayout_xml_sw600dp_rows_nepali_traditional();
+        case "res/xml-sw600dp/rows_nordic.xml":
+            return newLayout_xml_sw600dp_rows_nordic();
+        case "res/xml-sw600dp/rows_number_normal.xml":
+            return newLayout_xml_sw600dp_rows_number_normal();
+        case "res/xml-sw600dp/rows_number_password.xml":
+            return newLayout_xml_sw600dp_rows_number_password();
+        case "res/xml-sw600dp/rows_pcqwerty.xml":
+            return newLayout_xml_sw600dp_rows_pcqwerty();
+        case "res/xml-sw600dp/rows_phone.xml":
+            return newLayout_xml_sw600dp_rows_phone();
+        case "res/xml-sw600dp/rows_qwerty.xml":
+            return newLayout_xml_sw600dp_rows_qwerty();
+        case "res/xml-sw600dp/rows_qwertz.xml":
+            return newLayout_xml_sw600dp_rows_qwertz();
+        case "res/xml-sw600dp/rows_serbian_qwertz.xml":
+            return newLayout_xml_sw600dp_rows_serbian_qwertz();
+        case "res/xml-sw600dp/rows_sinhala.xml":
+            return newLayout_xml_sw600dp_rows_sinhala();
+        case "res/xml-sw600dp/rows_south_slavic.xml":
+            return newLayout_xml_sw600dp_rows_south_slavic();
+        case "res/xml-sw600dp/rows_spanish.xml":
+            return newLayout_xml_sw600dp_rows_spanish();
+        case "res/xml-sw600dp/rows_swiss.xml":
+            return newLayout_xml_sw600dp_rows_swiss();
+        case "res/xml-sw600dp/rows_symbols.xml":
+            return newLayout_xml_sw600dp_rows_symbols();
+        case "res/xml-sw600dp/rows_symbols_shift.xml":
+            return newLayout_xml_sw600dp_rows_symbols_shift();
+        case "res/xml-sw600dp/rows_tamil.xml":
+            return newLayout_xml_sw600dp_rows_tamil();
+        case "res/xml-sw600dp/rows_telugu.xml":
+            return newLayout_xml_sw600dp_rows_telugu();
+        case "res/xml-sw600dp/rows_thai.xml":
+            return newLayout_xml_sw600dp_rows_thai();
+        case "res/xml-sw600dp/rows_uzbek.xml":
+            return newLayout_xml_sw600dp_rows_uzbek();
+        case "res/xml-v16/keystyle_devanagari_sign_anusvara.xml":
+            return newLayout_xml_v16_keystyle_devanagari_sign_anusvara();
+        case "res/xml-v16/keystyle_devanagari_sign_candrabindu.xml":
+            return newLayout_xml_v16_keystyle_devanagari_sign_candrabindu();
+        case "res/xml-v16/keystyle_devanagari_sign_nukta.xml":
+            return newLayout_xml_v16_keystyle_devanagari_sign_nukta();
+        case "res/xml-v16/keystyle_devanagari_sign_virama.xml":
+            return newLayout_xml_v16_keystyle_devanagari_sign_virama();
+        case "res/xml-v16/keystyle_devanagari_sign_visarga.xml":
+            return newLayout_xml_v16_keystyle_devanagari_sign_visarga();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_aa.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_aa();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_ai.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_ai();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_au.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_au();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_candra_e.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_candra_e();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_candra_o.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_candra_o();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_e.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_e();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_i.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_i();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_ii.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_ii();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_o.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_o();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_u.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_u();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_uu.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_uu();
+        case "res/xml-v16/keystyle_devanagari_vowel_sign_vocalic_r.xml":
+            return newLayout_xml_v16_keystyle_devanagari_vowel_sign_vocalic_r();
+        case "res/xml/kbd_arabic.xml":
+            return newLayout_xml_kbd_arabic();
+        case "res/xml/kbd_armenian_phonetic.xml":
+            return newLayout_xml_kbd_armenian_phonetic();
+        case "res/xml/kbd_azerty.xml":
+            return newLayout_xml_kbd_azerty();
+        case "res/xml/kbd_bengali.xml":
+            return newLayout_xml_kbd_bengali();
+        case "res/xml/kbd_bengali_akkhor.xml":
+            return newLayout_xml_kbd_bengali_akkhor();
+        case "res/xml/kbd_bulgarian.xml":
+            return newLayout_xml_kbd_bulgarian();
+        case "res/xml/kbd_bulgarian_bds.xml":
+            return newLayout_xml_kbd_bulgarian_bds();
+        case "res/xml/kbd_colemak.xml":
+            return newLayout_xml_kbd_colemak();
+        case "res/xml/kbd_dvorak.xml":
+            return newLayout_xml_kbd_dvorak();
+        case "res/xml/kbd_east_slavic.xml":
+            return newLayout_xml_kbd_east_slavic();
+        case "res/xml/kbd_emoji_category1.xml":
+            return newLayout_xml_kbd_emoji_category1();
+        case "res/xml/kbd_emoji_category10.xml":
+            return newLayout_xml_kbd_emoji_category10();
+        case "res/xml/kbd_emoji_category11.xml":
+            return newLayout_xml_kbd_emoji_category11();
+        case "res/xml/kbd_emoji_category12.xml":
+            return newLayout_xml_kbd_emoji_category12();
+        case "res/xml/kbd_emoji_category13.xml":
+            return newLayout_xml_kbd_emoji_category13();
+        case "res/xml/kbd_emoji_category14.xml":
+            return newLayout_xml_kbd_emoji_category14();
+        case "res/xml/kbd_emoji_category15.xml":
+            return newLayout_xml_kbd_emoji_category15();
+        case "res/xml/kbd_emoji_category16.xml":
+            return newLayout_xml_kbd_emoji_category16();
+        case "res/xml/kbd_emoji_category2.xml":
+            return newLayout_xml_kbd_emoji_category2();
+        case "res/xml/kbd_emoji_category3.xml":
+            return newLayout_xml_kbd_emoji_category3();
+        case "res/xml/kbd_emoji_category4.xml":
+            return newLayout_xml_kbd_emoji_category4();
+        case "res/xml/kbd_emoji_category5.xml":
+            return newLayout_xml_kbd_emoji_category5();
+        case "res/xml/kbd_emoji_category6.xml":
+            return newLayout_xml_kbd_emoji_category6();
+        case "res/xml/kbd_emoji_category7.xml":
+            return newLayout_xml_kbd_emoji_category7();
+        case "res/xml/kbd_emoji_category8.xml":
+            return newLayout_xml_kbd_emoji_category8();
+        case "res/xml/kbd_emoji_category9.xml":
+            return newLayout_xml_kbd_emoji_category9();
+        case "res/xml/kbd_emoji_recents.xml":
+            return newLayout_xml_kbd_emoji_recents();
+        case "res/xml/kbd_farsi.xml":
+            return newLayout_xml_kbd_farsi();
+        case "res/xml/kbd_georgian.xml":
+            return newLayout_xml_kbd_georgian();
+        case "res/xml/kbd_greek.xml":
+            return newLayout_xml_kbd_greek();
+        case "res/xml/kbd_hebrew.xml":
+            return newLayout_xml_kbd_hebrew();
+        case "res/xml/kbd_hindi.xml":
+            return newLayout_xml_kbd_hindi();
+        case "res/xml/kbd_hindi_compact.xml":
+            return newLayout_xml_kbd_hindi_compact();
+        case "res/xml/kbd_kannada.xml":
+            return newLayout_xml_kbd_kannada();
+        case "res/xml/kbd_khmer.xml":
+            return newLayout_xml_kbd_khmer();
+        case "res/xml/kbd_lao.xml":
+            return newLayout_xml_kbd_lao();
+        case "res/xml/kbd_malayalam.xml":
+            return newLayout_xml_kbd_malayalam();
+        case "res/xml/kbd_marathi.xml":
+            return newLayout_xml_kbd_marathi();
+        case "res/xml/kbd_mongolian.xml":
+            return newLayout_xml_kbd_mongolian();
+        case "res/xml/kbd_more_keys_keyboard_template.xml":
+            return newLayout_xml_kbd_more_keys_keyboard_template();
+        case "res/xml/kbd_nepali_romanized.xml":
+            return newLayout_xml_kbd_nepali_romanized();
+        case "res/xml/kbd_nepali_traditional.xml":
+            return newLayout_xml_kbd_nepali_traditional();
+        case "res/xml/kbd_nordic.xml":
+            return newLayout_xml_kbd_nordic();
+        case "res/xml/kbd_number.xml":
+            return newLayout_xml_kbd_number();
+        case "res/xml/kbd_pcqwerty.xml":
+            return newLayout_xml_kbd_pcqwerty();
+        case "res/xml/kbd_phone.xml":
+            return newLayout_xml_kbd_phone();
+        case "res/xml/kbd_phone_symbols.xml":
+            return newLayout_xml_kbd_phone_symbols();
+        case "res/xml/kbd_qwerty.xml":
+            return newLayout_xml_kbd_qwerty();
+        case "res/xml/kbd_qwertz.xml":
+            return newLayout_xml_kbd_qwertz();
+        case "res/xml/kbd_serbian_qwertz.xml":
+            return newLayout_xml_kbd_serbian_qwertz();
+        case "res/xml/kbd_sinhala.xml":
+            return newLayout_xml_kbd_sinhala();
+        case "res/xml/kbd_south_slavic.xml":
+            return newLayout_xml_kbd_south_slavic();
+        case "res/xml/kbd_spanish.xml":
+            return newLayout_xml_kbd_spanish();
+        case "res/xml/kbd_suggestions_pane_template.xml":
+            return newLayout_xml_kbd_suggestions_pane_template();
+        case "res/xml/kbd_swiss.xml":
+            return newLayout_xml_kbd_swiss();
+        case "res/xml/kbd_symbols.xml":
+            return newLayout_xml_kbd_symbols();
+        case "res/xml/kbd_symbols_shift.xml":
+            return newLayout_xml_kbd_symbols_shift();
+        case "res/xml/kbd_tamil.xml":
+            return newLayout_xml_kbd_tamil();
+        case "res/xml/kbd_telugu.xml":
+            return newLayout_xml_kbd_telugu();
+        case "res/xml/kbd_thai.xml":
+            return newLayout_xml_kbd_thai();
+        case "res/xml/kbd_uzbek.xml":
+            return newLayout_xml_kbd_uzbek();
+        case "res/xml/key_armenian_sha.xml":
+            return newLayout_xml_key_armenian_sha();
+        case "res/xml/key_armenian_xeh.xml":
+            return newLayout_xml_key_armenian_xeh();
+        case "res/xml/key_comma.xml":
+            return newLayout_xml_key_comma();
+        case "res/xml/key_emoji.xml":
+            return newLayout_xml_key_emoji();
+        case "res/xml/key_period.xml":
+            return newLayout_xml_key_period();
+        case "res/xml/key_space_5kw.xml":
+            return newLayout_xml_key_space_5kw();
+        case "res/xml/key_space_symbols.xml":
+            return newLayout_xml_key_space_symbols();
+        case "res/xml/key_styles_actions.xml":
+            return newLayout_xml_key_styles_actions();
+        case "res/xml/key_styles_common.xml":
+            return newLayout_xml_key_styles_common();
+        case "res/xml/key_styles_currency.xml":
+            return newLayout_xml_key_styles_currency();
+        case "res/xml/key_styles_currency_dollar.xml":
+            return newLayout_xml_key_styles_currency_dollar();
+        case "res/xml/key_styles_currency_euro.xml":
+            return newLayout_xml_key_styles_currency_euro();
+        case "res/xml/key_styles_currency_generic.xml":
+            return newLayout_xml_key_styles_currency_generic();
+        case "res/xml/key_styles_enter.xml":
+            return newLayout_xml_key_styles_enter();
+        case "res/xml/key_styles_less_greater.xml":
+            return newLayout_xml_key_styles_less_greater();
+        case "res/xml/key_styles_navigate_more_keys.xml":
+            return newLayout_xml_key_styles_navigate_more_keys();
+        case "res/xml/key_styles_number.xml":
+            return newLayout_xml_key_styles_number();
+        case "res/xml/key_styles_settings.xml":
+            return newLayout_xml_key_styles_settings();
+        case "res/xml/key_thai_kho_khuat.xml":
+            return newLayout_xml_key_thai_kho_khuat();
+        case "res/xml/keys_arabic3_left.xml":
+            return newLayout_xml_keys_arabic3_left();
+        case "res/xml/keys_curly_brackets.xml":
+            return newLayout_xml_keys_curly_brackets();
+        case "res/xml/keys_dvorak_123.xml":
+            return newLayout_xml_keys_dvorak_123();
+        case "res/xml/keys_farsi3_right.xml":
+            return newLayout_xml_keys_farsi3_right();
+        case "res/xml/keys_parentheses.xml":
+            return newLayout_xml_keys_parentheses();
+        case "res/xml/keys_pcqwerty2_right3.xml":
+            return newLayout_xml_keys_pcqwerty2_right3();
+        case "res/xml/keys_pcqwerty3_right2.xml":
+            return newLayout_xml_keys_pcqwerty3_right2();
+        case "res/xml/keys_pcqwerty4_right3.xml":
+            return newLayout_xml_keys_pcqwerty4_right3();
+        case "res/xml/keys_square_brackets.xml":
+            return newLayout_xml_keys_square_brackets();
+        case "res/xml/keystyle_devanagari_sign_anusvara.xml":
+            return newLayout_xml_keystyle_devanagari_sign_anusvara();
+        case "res/xml/keystyle_devanagari_sign_candrabindu.xml":
+            return newLayout_xml_keystyle_devanagari_sign_candrabindu();
+        case "res/xml/keystyle_devanagari_sign_nukta.xml":
+            return newLayout_xml_keystyle_devanagari_sign_nukta();
+        case "res/xml/keystyle_devanagari_sign_virama.xml":
+            return newLayout_xml_keystyle_devanagari_sign_virama();
+        case "res/xml/keystyle_devanagari_sign_visarga.xml":
+            return newLayout_xml_keystyle_devanagari_sign_visarga();
+        case "res/xml/keystyle_devanagari_vowel_sign_aa.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_aa();
+        case "res/xml/keystyle_devanagari_vowel_sign_ai.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_ai();
+        case "res/xml/keystyle_devanagari_vowel_sign_au.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_au();
+        case "res/xml/keystyle_devanagari_vowel_sign_candra_e.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_candra_e();
+        case "res/xml/keystyle_devanagari_vowel_sign_candra_o.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_candra_o();
+        case "res/xml/keystyle_devanagari_vowel_sign_e.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_e();
+        case "res/xml/keystyle_devanagari_vowel_sign_i.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_i();
+        case "res/xml/keystyle_devanagari_vowel_sign_ii.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_ii();
+        case "res/xml/keystyle_devanagari_vowel_sign_o.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_o();
+        case "res/xml/keystyle_devanagari_vowel_sign_u.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_u();
+        case "res/xml/keystyle_devanagari_vowel_sign_uu.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_uu();
+        case "res/xml/keystyle_devanagari_vowel_sign_vocalic_r.xml":
+            return newLayout_xml_keystyle_devanagari_vowel_sign_vocalic_r();
+        case "res/xml/row_pcqwerty5.xml":
+            return newLayout_xml_row_pcqwerty5();
+        case "res/xml/row_qwerty4.xml":
+            return newLayout_xml_row_qwerty4();
+        case "res/xml/row_symbols4.xml":
+            return newLayout_xml_row_symbols4();
+        case "res/xml/row_symbols_shift4.xml":
+            return newLayout_xml_row_symbols_shift4();
+        case "res/xml/rowkeys_arabic1.xml":
+            return newLayout_xml_rowkeys_arabic1();
+        case "res/xml/rowkeys_arabic2.xml":
+            return newLayout_xml_rowkeys_arabic2();
+        case "res/xml/rowkeys_arabic3.xml":
+            return newLayout_xml_rowkeys_arabic3();
+        case "res/xml/rowkeys_armenian_phonetic1.xml":
+            return newLayout_xml_rowkeys_armenian_phonetic1();
+        case "res/xml/rowkeys_armenian_phonetic2.xml":
+            return newLayout_xml_rowkeys_armenian_phonetic2();
+        case "res/xml/rowkeys_armenian_phonetic3.xml":
+            return newLayout_xml_rowkeys_armenian_phonetic3();
+        case "res/xml/rowkeys_armenian_phonetic4.xml":
+            return newLayout_xml_rowkeys_armenian_phonetic4();
+        case "res/xml/rowkeys_azerty1.xml":
+            return newLayout_xml_rowkeys_azerty1();
+        case "res/xml/rowkeys_azerty2.xml":
+            return newLayout_xml_rowkeys_azerty2();
+        case "res/xml/rowkeys_azerty3.xml":
+            return newLayout_xml_rowkeys_azerty3();
+        case "res/xml/rowkeys_bengali1.xml":
+            return newLayout_xml_rowkeys_bengali1();
+        case "res/xml/rowkeys_bengali2.xml":
+            return newLayout_xml_rowkeys_bengali2();
+        case "res/xml/rowkeys_bengali3.xml":
+            return newLayout_xml_rowkeys_bengali3();
+        case "res/xml/rowkeys_bengali_akkhor1.xml":
+            return newLayout_xml_rowkeys_bengali_akkhor1();
+        case "res/xml/rowkeys_bengali_akkhor2.xml":
+            return newLayout_xml_rowkeys_bengali_akkhor2();
+        case "res/xml/rowkeys_bengali_akkhor3.xml":
+            return newLayout_xml_rowkeys_bengali_akkhor3();
+        case "res/xml/rowkeys_bulgarian1.xml":
+            return newLayout_xml_rowkeys_bulgarian1();
+        case "res/xml/rowkeys_bulgarian2.xml":
+            return newLayout_xml_rowkeys_bulgarian2();
+        case "res/xml/rowkeys_bulgarian3.xml":
+            return newLayout_xml_rowkeys_bulgarian3();
+        case "res/xml/rowkeys_bulgarian_bds1.xml":
+            return newLayout_xml_rowkeys_bulgarian_bds1();
+        case "res/xml/rowkeys_bulgarian_bds2.xml":
+            return newLayout_xml_rowkeys_bulgarian_bds2();
+        case "res/xml/rowkeys_bulgarian_bds3.xml":
+            return newLayout_xml_rowkeys_bulgarian_bds3();
+        case "res/xml/rowkeys_colemak1.xml":
+            return newLayout_xml_rowkeys_colemak1();
+        case "res/xml/rowkeys_colemak2.xml":
+            return newLayout_xml_rowkeys_colemak2();
+        case "res/xml/rowkeys_colemak3.xml":
+            return newLayout_xml_rowkeys_colemak3();
+        case "res/xml/rowkeys_dvorak1.xml":
+            return newLayout_xml_rowkeys_dvorak1();
+        case "res/xml/rowkeys_dvorak2.xml":
+            return newLayout_xml_rowkeys_dvorak2();
+        case "res/xml/rowkeys_dvorak3.xml":
+            return newLayout_xml_rowkeys_dvorak3();
+        case "res/xml/rowkeys_east_slavic1.xml":
+            return newLayout_xml_rowkeys_east_slavic1();
+        case "res/xml/rowkeys_east_slavic2.xml":
+            return newLayout_xml_rowkeys_east_slavic2();
+        case "res/xml/rowkeys_east_slavic3.xml":
+            return newLayout_xml_rowkeys_east_slavic3();
+        case "res/xml/rowkeys_farsi1.xml":
+            return newLayout_xml_rowkeys_farsi1();
+        case "res/xml/rowkeys_farsi2.xml":
+            return newLayout_xml_rowkeys_farsi2();
+        case "res/xml/rowkeys_farsi3.xml":
+            return newLayout_xml_rowkeys_farsi3();
+        case "res/xml/rowkeys_georgian1.xml":
+            return newLayout_xml_rowkeys_georgian1();
+        case "res/xml/rowkeys_georgian2.xml":
+            return newLayout_xml_rowkeys_georgian2();
+        case "res/xml/rowkeys_georgian3.xml":
+            return newLayout_xml_rowkeys_georgian3();
+        case "res/xml/rowkeys_greek1.xml":
+            return newLayout_xml_rowkeys_greek1();
+        case "res/xml/rowkeys_greek2.xml":
+            return newLayout_xml_rowkeys_greek2();
+        case "res/xml/rowkeys_greek3.xml":
+            return newLayout_xml_rowkeys_greek3();
+        case "res/xml/rowkeys_hebrew1.xml":
+            return newLayout_xml_rowkeys_hebrew1();
+        case "res/xml/rowkeys_hebrew2.xml":
+            return newLayout_xml_rowkeys_hebrew2();
+        case "res/xml/rowkeys_hebrew3.xml":
+            return newLayout_xml_rowkeys_hebrew3();
+        case "res/xml/rowkeys_hindi1.xml":
+            return newLayout_xml_rowkeys_hindi1();
+        case "res/xml/rowkeys_hindi2.xml":
+            return newLayout_xml_rowkeys_hindi2();
+        case "res/xml/rowkeys_hindi3.xml":
+            return newLayout_xml_rowkeys_hindi3();
+        case "res/xml/rowkeys_hindi_compact1.xml":
+            return newLayout_xml_rowkeys_hindi_compact1();
+        case "res/xml/rowkeys_hindi_compact2.xml":
+            return newLayout_xml_rowkeys_hindi_compact2();
+        case "res/xml/rowkeys_hindi_compact3.xml":
+            return newLayout_xml_rowkeys_hindi_compact3();
+        case "res/xml/rowkeys_kannada1.xml":
+            return newLayout_xml_rowkeys_kannada1();
+        case "res/xml/rowkeys_kannada2.xml":
+            return newLayout_xml_rowkeys_kannada2();
+        case "res/xml/rowkeys_kannada3.xml":
+            return newLayout_xml_rowkeys_kannada3();
+        case "res/xml/rowkeys_khmer1.xml":
+            return newLayout_xml_rowkeys_khmer1();
+        case "res/xml/rowkeys_khmer2.xml":
+            return newLayout_xml_rowkeys_khmer2();
+        case "res/xml/rowkeys_khmer3.xml":
+            return newLayout_xml_rowkeys_khmer3();
+        case "res/xml/rowkeys_khmer4.xml":
+            return newLayout_xml_rowkeys_khmer4();
+        case "res/xml/rowkeys_lao1.xml":
+            return newLayout_xml_rowkeys_lao1();
+        case "res/xml/rowkeys_lao2.xml":
+            return newLayout_xml_rowkeys_lao2();
+        case "res/xml/rowkeys_lao3.xml":
+            return newLayout_xml_rowkeys_lao3();
+        case "res/xml/rowkeys_lao4.xml":
+            return newLayout_xml_rowkeys_lao4();
+        case "res/xml/rowkeys_malayalam1.xml":
+            return newLayout_xml_rowkeys_malayalam1();
+        case "res/xml/rowkeys_malayalam2.xml":
+            return newLayout_xml_rowkeys_malayalam2();
+        case "res/xml/rowkeys_malayalam3.xml":
+            return newLayout_xml_rowkeys_malayalam3();
+        case "res/xml/rowkeys_marathi1.xml":
+            return newLayout_xml_rowkeys_marathi1();
+        case "res/xml/rowkeys_marathi2.xml":
+            return newLayout_xml_rowkeys_marathi2();
+        case "res/xml/rowkeys_marathi3.xml":
+            return newLayout_xml_rowkeys_marathi3();
+        case "res/xml/rowkeys_mongolian1.xml":
+            return newLayout_xml_rowkeys_mongolian1();
+        case "res/xml/rowkeys_mongolian2.xml":
+            return newLayout_xml_rowkeys_mongolian2();
+        case "res/xml/rowkeys_mongolian3.xml":
+            return newLayout_xml_rowkeys_mongolian3();
+        case "res/xml/rowkeys_nepali_romanized1.xml":
+            return newLayout_xml_rowkeys_nepali_romanized1();
+        case "res/xml/rowkeys_nepali_romanized2.xml":
+            return newLayout_xml_rowkeys_nepali_romanized2();
+        case "res/xml/rowkeys_nepali_romanized3.xml":
+            return newLayout_xml_rowkeys_nepali_romanized3();
+        case "res/xml/rowkeys_nepali_traditional1.xml":
+            return newLayout_xml_rowkeys_nepali_traditional1();
+        case "res/xml/rowkeys_nepali_traditional2.xml":
+            return newLayout_xml_rowkeys_nepali_traditional2();
+        case "res/xml/rowkeys_nepali_traditional3.xml":
+            return newLayout_xml_rowkeys_nepali_traditional3();
+        case "res/xml/rowkeys_nordic1.xml":
+            return newLayout_xml_rowkeys_nordic1();
+        case "res/xml/rowkeys_nordic2.xml":
+            return newLayout_xml_rowkeys_nordic2();
+        case "res/xml/rowkeys_pcqwerty1.xml":
+            return newLayout_xml_rowkeys_pcqwerty1();
+        case "res/xml/rowkeys_pcqwerty1_shift.xml":
+            return newLayout_xml_rowkeys_pcqwerty1_shift();
+        case "res/xml/rowkeys_pcqwerty2.xml":
+            return newLayout_xml_rowkeys_pcqwerty2();
+        case "res/xml/rowkeys_pcqwerty3.xml":
+            return newLayout_xml_rowkeys_pcqwerty3();
+        case "res/xml/rowkeys_pcqwerty4.xml":
+            return newLayout_xml_rowkeys_pcqwerty4();
+        case "res/xml/rowkeys_qwerty1.xml":
+            return newLayout_xml_rowkeys_qwerty1();
+        case "res/xml/rowkeys_qwerty1_left5.xml":
+            return newLayout_xml_rowkeys_qwerty1_left5();
+        case "res/xml/rowkeys_qwerty1_right5.xml":
+            return newLayout_xml_rowkeys_qwerty1_right5();
+        case "res/xml/rowkeys_qwerty2.xml":
+            return newLayout_xml_rowkeys_qwerty2();
+        case "res/xml/rowkeys_qwerty2_left5.xml":
+            return newLayout_xml_rowkeys_qwerty2_left5();
+        case "res/xml/rowkeys_qwerty2_right4.xml":
+            return newLayout_xml_rowkeys_qwerty2_right4();
+        case "res/xml/rowkeys_qwerty3.xml":
+            return newLayout_xml_rowkeys_qwerty3();
+        case "res/xml/rowkeys_qwerty3_left4.xml":
+            return newLayout_xml_rowkeys_qwerty3_left4();
+        case "res/xml/rowkeys_qwerty3_right3.xml":
+            return newLayout_xml_rowkeys_qwerty3_right3();
+        case "res/xml/rowkeys_qwertz1.xml":
+            return newLayout_xml_rowkeys_qwertz1();
+        case "res/xml/rowkeys_qwertz2.xml":
+            return newLayout_xml_rowkeys_qwertz2();
+        case "res/xml/rowkeys_qwertz3.xml":
+            return newLayout_xml_rowkeys_qwertz3();
+        case "res/xml/rowkeys_serbian_qwertz1.xml":
+            return newLayout_xml_rowkeys_serbian_qwertz1();
+        case "res/xml/rowkeys_serbian_qwertz2.xml":
+            return newLayout_xml_rowkeys_serbian_qwertz2();
+        case "res/xml/rowkeys_serbian_qwertz3.xml":
+            return newLayout_xml_rowkeys_serbian_qwertz3();
+        case "res/xml/rowkeys_sinhala1.xml":
+            return newLayout_xml_rowkeys_sinhala1();
+        case "res/xml/rowkeys_sinhala2.xml":
+            return newLayout_xml_rowkeys_sinhala2();
+        case "res/xml/rowkeys_sinhala3.xml":
+            return newLayout_xml_rowkeys_sinhala3();
+        case "res/xml/rowkeys_south_slavic1.xml":
+            return newLayout_xml_rowkeys_south_slavic1();
+        case "res/xml/rowkeys_south_slavic2.xml":
+            return newLayout_xml_rowkeys_south_slavic2();
+        case "res/xml/rowkeys_south_slavic3.xml":
+            return newLayout_xml_rowkeys_south_slavic3();
+        case "res/xml/rowkeys_spanish2.xml":
+            return newLayout_xml_rowkeys_spanish2();
+        case "res/xml/rowkeys_swiss1.xml":
+            return newLayout_xml_rowkeys_swiss1();
+        case "res/xml/rowkeys_swiss2.xml":
+            return newLayout_xml_rowkeys_swiss2();
+        case "res/xml/rowkeys_symbols1.xml":
+            return newLayout_xml_rowkeys_symbols1();
+        case "res/xml/rowkeys_symbols2.xml":
+            return newLayout_xml_rowkeys_symbols2();
+        case "res/xml/rowkeys_symbols3.xml":
+            return newLayout_xml_rowkeys_symbols3();
+        case "res/xml/rowkeys_symbols_shift1.xml":
+            return newLayout_xml_rowkeys_symbols_shift1();
+        case "res/xml/rowkeys_symbols_shift2.xml":
+            return newLayout_xml_rowkeys_symbols_shift2();
+        case "res/xml/rowkeys_symbols_shift3.xml":
+            return newLayout_xml_rowkeys_symbols_shift3();
+        case "res/xml/rowkeys_tamil1.xml":
+            return newLayout_xml_rowkeys_tamil1();
+        case "res/xml/rowkeys_tamil2.xml":
+            return newLayout_xml_rowkeys_tamil2();
+        case "res/xml/rowkeys_tamil3.xml":
+            return newLayout_xml_rowkeys_tamil3();
+        case "res/xml/rowkeys_telugu1.xml":
+            return newLayout_xml_rowkeys_telugu1();
+        case "res/xml/rowkeys_telugu2.xml":
+            return newLayout_xml_rowkeys_telugu2();
+        case "res/xml/rowkeys_telugu3.xml":
+            return newLayout_xml_rowkeys_telugu3();
+        case "res/xml/rowkeys_thai1.xml":
+            return newLayout_xml_rowkeys_thai1();
+        case "res/xml/rowkeys_thai2.xml":
+            return newLayout_xml_rowkeys_thai2();
+        case "res/xml/rowkeys_thai3.xml":
+            return newLayout_xml_rowkeys_thai3();
+        case "res/xml/rowkeys_thai4.xml":
+            return newLayout_xml_rowkeys_thai4();
+        case "res/xml/rowkeys_uzbek1.xml":
+            return newLayout_xml_rowkeys_uzbek1();
+        case "res/xml/rowkeys_uzbek2.xml":
+            return newLayout_xml_rowkeys_uzbek2();
+        case "res/xml/rows_arabic.xml":
+            return newLayout_xml_rows_arabic();
+        case "res/xml/rows_armenian_phonetic.xml":
+            return newLayout_xml_rows_armenian_phonetic();
+        case "res/xml/rows_azerty.xml":
+            return newLayout_xml_rows_azerty();
+        case "res/xml/rows_bengali.xml":
+            return newLayout_xml_rows_bengali();
+        case "res/xml/rows_bengali_akkhor.xml":
+            return newLayout_xml_rows_bengali_akkhor();
+        case "res/xml/rows_bulgarian.xml":
+            return newLayout_xml_rows_bulgarian();
+        case "res/xml/rows_bulgarian_bds.xml":
+            return newLayout_xml_rows_bulgarian_bds();
+        case "res/xml/rows_colemak.xml":
+            return newLayout_xml_rows_colemak();
+        case "res/xml/rows_dvorak.xml":
+            return newLayout_xml_rows_dvorak();
+        case "res/xml/rows_east_slavic.xml":
+            return newLayout_xml_rows_east_slavic();
+        case "res/xml/rows_farsi.xml":
+            return newLayout_xml_rows_farsi();
+        case "res/xml/rows_georgian.xml":
+            return newLayout_xml_rows_georgian();
+        case "res/xml/rows_greek.xml":
+            return newLayout_xml_rows_greek();
+        case "res/xml/rows_hebrew.xml":
+            return newLayout_xml_rows_hebrew();
+        case "res/xml/rows_hindi.xml":
+            return newLayout_xml_rows_hindi();
+        case "res/xml/rows_hindi_compact.xml":
+            return newLayout_xml_rows_hindi_compact();
+        case "res/xml/rows_kannada.xml":
+            return newLayout_xml_rows_kannada();
+        case "res/xml/rows_khmer.xml":
+            return newLayout_xml_rows_khmer();
+        case "res/xml/rows_lao.xml":
+            return newLayout_xml_rows_lao();
+        case "res/xml/rows_malayalam.xml":
+            return newLayout_xml_rows_malayalam();
+        case "res/xml/rows_marathi.xml":
+            return newLayout_xml_rows_marathi();
+        case "res/xml/rows_mongolian.xml":
+            return newLayout_xml_rows_mongolian();
+        case "res/xml/rows_nepali_romanized.xml":
+            return newLayout_xml_rows_nepali_romanized();
+        case "res/xml/rows_nepali_traditional.xml":
+            return newLayout_xml_rows_nepali_traditional();
+        case "res/xml/rows_nordic.xml":
+            return newLayout_xml_rows_nordic();
+        case "res/xml/rows_number.xml":
+            return newLayout_xml_rows_number();
+        case "res/xml/rows_number_normal.xml":
+            return newLayout_xml_rows_number_normal();
+        case "res/xml/rows_number_password.xml":
+            return newLayout_xml_rows_number_password();
+        case "res/xml/rows_pcqwerty.xml":
+            return newLayout_xml_rows_pcqwerty();
+        case "res/xml/rows_phone.xml":
+            return newLayout_xml_rows_phone();
+        case "res/xml/rows_phone_symbols.xml":
+            return newLayout_xml_rows_phone_symbols();
+        case "res/xml/rows_qwerty.xml":
+            return newLayout_xml_rows_qwerty();
+        case "res/xml/rows_qwertz.xml":
+            return newLayout_xml_rows_qwertz();
+        case "res/xml/rows_serbian_qwertz.xml":
+            return newLayout_xml_rows_serbian_qwertz();
+        case "res/xml/rows_sinhala.xml":
+            return newLayout_xml_rows_sinhala();
+        case "res/xml/rows_south_slavic.xml":
+            return newLayout_xml_rows_south_slavic();
+        case "res/xml/rows_spanish.xml":
+            return newLayout_xml_rows_spanish();
+        case "res/xml/rows_swiss.xml":
+            return newLayout_xml_rows_swiss();
+        case "res/xml/rows_symbols.xml":
+            return newLayout_xml_rows_symbols();
+        case "res/xml/rows_symbols_shift.xml":
+            return newLayout_xml_rows_symbols_shift();
+        case "res/xml/rows_tamil.xml":
+            return newLayout_xml_rows_tamil();
+        case "res/xml/rows_telugu.xml":
+            return newLayout_xml_rows_telugu();
+        case "res/xml/rows_thai.xml":
+            return newLayout_xml_rows_thai();
+        case "res/xml/rows_uzbek.xml":
+            return newLayout_xml_rows_uzbek();
+        default:
+            return null;
+        }
+    }
+}
@@ -25,6 +25,9 @@ import com.android.inputmethod.latin.common.CollectionUtils;
 import com.android.inputmethod.latin.common.Constants;
 import com.android.inputmethod.latin.common.StringUtils;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Locale;
@@ -76,6 +79,23 @@ public final class MoreKeySpec {
         mIconId = KeySpecParser.getIconId(moreKeySpec);
     }
 
+    /**
+     * Constructor for a more key read from {@link KeyboardFileCache}.
+     */
+    public MoreKeySpec(@Nonnull final ByteBuffer buffer) {
+        mCode = buffer.getInt();
+        mLabel = KeyboardFileCache.readString(buffer);
+        mOutputText = KeyboardFileCache.readString(buffer);
+        mIconId = buffer.getInt();
+    }
+
+    public void writeTo(@Nonnull final DataOutput out) throws IOException {
+        out.writeInt(mCode);
+        KeyboardFileCache.writeString(out, mLabel);
+        KeyboardFileCache.writeString(out, mOutputText);
+        out.writeInt(mIconId);
+    }
+
     @Nonnull
     public Key buildKey(final int x, final int y, final int labelFlags,
             @Nonnull final KeyboardParams params) {
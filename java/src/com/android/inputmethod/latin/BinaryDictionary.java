@@ -24,6 +24,7 @@ import com.android.inputmethod.annotations.UsedForTesting;
 import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
 import com.android.inputmethod.latin.common.ComposedData;
 import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.DirectInputPointers;
 import com.android.inputmethod.latin.common.FileUtils;
 import com.android.inputmethod.latin.common.InputPointers;
 import com.android.inputmethod.latin.common.StringUtils;
@@ -38,6 +39,7 @@ import com.android.inputmethod.latin.utils.JniUtils;
 import com.android.inputmethod.latin.utils.WordInputEventForPersonalization;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -68,6 +70,9 @@ public final class BinaryDictionary extends Dictionary {
     public static final String MAX_UNIGRAM_COUNT_QUERY = "MAX_UNIGRAM_COUNT";
     @UsedForTesting
     public static final String MAX_BIGRAM_COUNT_QUERY = "MAX_BIGRAM_COUNT";
+    // Must be equal to Dictionary::PERF_STATS_QUERY in
+    // native/jni/src/suggest/core/dictionary/dictionary.cpp
+    public static final String PERF_STATS_QUERY = "PERF_STATS";
 
     public static final int NOT_A_VALID_TIMESTAMP = -1;
 
@@ -111,6 +116,16 @@ public final class BinaryDictionary extends Dictionary {
         }
     }
 
+    @Override
+    public void cancelSuggestions(final int sessionId) {
+        synchronized(mDicTraverseSessions) {
+            final DicTraverseSession traverseSession = mDicTraverseSessions.get(sessionId);
+            if (traverseSession != null) {
+                traverseSession.cancel();
+            }
+        }
+    }
+
     /**
      * Constructs binary dictionary using existing dictionary file.
      * @param filename the name of the file to read through native code.
@@ -166,6 +181,12 @@ public final class BinaryDictionary extends Dictionary {
         JniUtils.loadNativeLibrary();
     }
 
+    // The layout of the direct buffers is defined both in Java and in native code. If they
+    // disagree, gestures are decoded through the array-based call instead. Null until the first
+    // gesture checks it, so that a native library without the check only disables the direct
+    // buffers instead of failing the initialization of this class.
+    private static volatile Boolean sIsDirectBufferLayoutValid;
+
     private static native long openNative(String sourceDir, long dictOffset, long dictSize,
             boolean isUpdatable);
     private static native long createOnMemoryNative(long formatVersion,
@@ -195,9 +216,20 @@ public final class BinaryDictionary extends Dictionary {
             int[] pointerIds, int[] inputCodePoints, int inputSize, int[] suggestOptions,
             int[][] prevWordCodePointArrays, boolean[] isBeginningOfSentenceArray,
             int prevWordCount, int[] outputSuggestionCount, int[] outputCodePoints,
-            int[] outputScores, int[] outputIndices, int[] outputTypes,
-            int[] outputAutoCommitFirstWordConfidence,
+            int[] outputCodePointCounts, int[] outputScores, int[] outputIndices,
+            int[] outputTypes, int[] outputAutoCommitFirstWordConfidence,
             float[] inOutWeightOfLangModelVsSpatialModel);
+    private static native void getSuggestionsDirectNative(long dict, long proximityInfo,
+            long traverseSession, ByteBuffer inputPointers, int inputPointersCapacity,
+            int[] inputCodePoints, int inputSize, int[] suggestOptions,
+            int[][] prevWordCodePointArrays, boolean[] isBeginningOfSentenceArray,
+            int prevWordCount, ByteBuffer output);
+    private static native boolean isDirectBufferLayoutValidNative(
+            int inputPointersSectionCount, int outputSuggestionCountIndex,
+            int outputAutoCommitFirstWordConfidenceIndex,
+            int outputWeightOfLangModelVsSpatialModelIndex, int outputCodePointsIndex,
+            int outputCodePointCountsIndex, int outputScoresIndex, int outputSpaceIndicesIndex,
+            int outputTypesIndex, int outputSize);
     private static native boolean addUnigramEntryNative(long dict, int[] word, int probability,
             int[] shortcutTarget, int shortcutProbability, boolean isBeginningOfSentence,
             boolean isNotAWord, boolean isPossiblyOffensive, int timestamp);
@@ -264,6 +296,40 @@ public final class BinaryDictionary extends Dictionary {
                 new FormatSpec.FormatOptions(outFormatVersion[0], hasHistoricalInfo));
     }
 
+    private static boolean checkDirectBufferLayout() {
+        final boolean isValid;
+        try {
+            isValid = isDirectBufferLayoutValidNative(
+                    DirectInputPointers.SECTION_COUNT,
+                    DicTraverseSession.DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_AUTO_COMMIT_FIRST_WORD_CONFIDENCE_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_CODE_POINTS_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_SCORES_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_SPACE_INDICES_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_TYPES_INDEX,
+                    DicTraverseSession.DIRECT_OUTPUT_SIZE);
+        } catch (final UnsatisfiedLinkError e) {
+            Log.e(TAG, "The native library can't check the direct buffer layout", e);
+            return false;
+        }
+        if (!isValid) {
+            Log.e(TAG, "The direct buffer layouts of Java and native code differ");
+        }
+        return isValid;
+    }
+
+    static boolean isDirectBufferLayoutValid() {
+        Boolean isValid = sIsDirectBufferLayoutValid;
+        if (isValid == null) {
+            // Checking twice from racing threads is harmless.
+            isValid = checkDirectBufferLayout();
+            sIsDirectBufferLayoutValid = isValid;
+        }
+        return isValid;
+    }
+
     @Override
     public ArrayList<SuggestedWordInfo> getSuggestions(final ComposedData composedData,
             final NgramContext ngramContext, final long proximityInfoHandle,
@@ -303,40 +369,46 @@ public final class BinaryDictionary extends Dictionary {
                     Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL;
         }
         // TOOD: Pass multiple previous words information for n-gram.
-        getSuggestionsNative(mNativeDict, proximityInfoHandle,
-                getTraverseSession(sessionId).getSession(), inputPointers.getXCoordinates(),
-                inputPointers.getYCoordinates(), inputPointers.getTimes(),
-                inputPointers.getPointerIds(), session.mInputCodePoints, inputSize,
-                session.mNativeSuggestOptions.getOptions(), session.mPrevWordCodePointArrays,
-                session.mIsBeginningOfSentenceArray, ngramContext.getPrevWordCount(),
-                session.mOutputSuggestionCount, session.mOutputCodePoints, session.mOutputScores,
-                session.mSpaceIndices, session.mOutputTypes,
-                session.mOutputAutoCommitFirstWordConfidence,
-                session.mInputOutputWeightOfLangModelVsSpatialModel);
+        if (isGesture && isDirectBufferLayoutValid()) {
+            // Gestures have hundreds of points and are decoded again on every update, so they
+            // go through off-heap buffers that native code accesses in place. Only the points
+            // appended since the previous update are copied. When the old points are unchanged,
+            // the native session resumes sampling from where it left off, and the search resumes
+            // from the DicNode frontier that the previous update kept instead of the root.
+            session.mDirectInputPointers.copyAppendedPointersFrom(inputPointers);
+            session.prepareDirectOutput(session.mInputOutputWeightOfLangModelVsSpatialModel[0]);
+            getSuggestionsDirectNative(mNativeDict, proximityInfoHandle, session.getSession(),
+                    session.mDirectInputPointers.getBuffer(),
+                    session.mDirectInputPointers.getCapacity(), session.mInputCodePoints,
+                    inputSize, session.mNativeSuggestOptions.getOptions(),
+                    session.mPrevWordCodePointArrays, session.mIsBeginningOfSentenceArray,
+                    ngramContext.getPrevWordCount(), session.mDirectOutputBuffer);
+            session.readDirectOutput();
+        } else {
+            getSuggestionsNative(mNativeDict, proximityInfoHandle, session.getSession(),
+                    inputPointers.getXCoordinates(), inputPointers.getYCoordinates(),
+                    inputPointers.getTimes(), inputPointers.getPointerIds(),
+                    session.mInputCodePoints, inputSize,
+                    session.mNativeSuggestOptions.getOptions(), session.mPrevWordCodePointArrays,
+                    session.mIsBeginningOfSentenceArray, ngramContext.getPrevWordCount(),
+                    session.mOutputSuggestionCount, session.mOutputCodePoints,
+                    session.mOutputCodePointCounts, session.mOutputScores, session.mSpaceIndices,
+                    session.mOutputTypes, session.mOutputAutoCommitFirstWordConfidence,
+                    session.mInputOutputWeightOfLangModelVsSpatialModel);
+        }
         if (inOutWeightOfLangModelVsSpatialModel != null) {
             inOutWeightOfLangModelVsSpatialModel[0] =
                     session.mInputOutputWeightOfLangModelVsSpatialModel[0];
         }
         final int count = session.mOutputSuggestionCount[0];
-        final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>();
+        final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>(count);
         for (int j = 0; j < count; ++j) {
-            final int start = j * DICTIONARY_MAX_WORD_LENGTH;
-            int len = 0;
-            while (len < DICTIONARY_MAX_WORD_LENGTH
-                    && session.mOutputCodePoints[start + len] != 0) {
-                ++len;
-            }
-            if (len > 0) {
-                suggestions.add(new SuggestedWordInfo(
-                        new String(session.mOutputCodePoints, start, len),
-                        "" /* prevWordsContext */,
-                        (int)(session.mOutputScores[j] * weightForLocale),
-                        session.mOutputTypes[j],
-                        this /* sourceDict */,
-                        session.mSpaceIndices[j] /* indexOfTouchPointOfSecondWord */,
-                        session.mOutputAutoCommitFirstWordConfidence[0]));
+            if (session.mOutputCodePointCounts[j] > 0) {
+                suggestions.add(session.obtainSuggestedWordInfo(j,
+                        (int)(session.mOutputScores[j] * weightForLocale), this /* sourceDict */));
             }
         }
+        session.finishObtainingSuggestedWordInfos();
         return suggestions;
     }
 
@@ -489,6 +561,24 @@ public final class BinaryDictionary extends Dictionary {
         return true;
     }
 
+    // Remove an n-gram entry from the binary dictionary in native code.
+    public boolean removeNgramEntry(@Nonnull final NgramContext ngramContext,
+            final String word) {
+        if (!ngramContext.isValid() || TextUtils.isEmpty(word)) {
+            return false;
+        }
+        final int[][] prevWordCodePointArrays = new int[ngramContext.getPrevWordCount()][];
+        final boolean[] isBeginningOfSentenceArray = new boolean[ngramContext.getPrevWordCount()];
+        ngramContext.outputToArray(prevWordCodePointArrays, isBeginningOfSentenceArray);
+        final int[] wordCodePoints = StringUtils.toCodePointArray(word);
+        if (!removeNgramEntryNative(mNativeDict, prevWordCodePointArrays,
+                isBeginningOfSentenceArray, wordCodePoints)) {
+            return false;
+        }
+        mHasUpdated = true;
+        return true;
+    }
+
     // Update entries for the word occurrence with the ngramContext.
     public boolean updateEntriesForWordWithNgramContext(@Nonnull final NgramContext ngramContext,
             final String word, final boolean isValidWord, final int count, final int timestamp) {
@@ -507,23 +597,25 @@ public final class BinaryDictionary extends Dictionary {
         return true;
     }
 
-    @UsedForTesting
-    public void updateEntriesForInputEvents(final WordInputEventForPersonalization[] inputEvents) {
+    /**
+     * Updates the entries for the input events from startIndex on. Stops early when the
+     * dictionary needs GC to take more writes, and leaves running it to the caller.
+     *
+     * @return the index of the first input event that hasn't been processed, or the number of the
+     * input events if all of them have been processed or they can't be.
+     */
+    public int updateEntriesForInputEvents(final WordInputEventForPersonalization[] inputEvents,
+            final int startIndex) {
         if (!isValidDictionary()) {
-            return;
+            return inputEvents.length;
         }
-        int processedEventCount = 0;
-        while (processedEventCount < inputEvents.length) {
-            if (needsToRunGC(true /* mindsBlockByGC */)) {
-                flushWithGC();
-            }
-            processedEventCount = updateEntriesForInputEventsNative(mNativeDict, inputEvents,
-                    processedEventCount);
-            mHasUpdated = true;
-            if (processedEventCount <= 0) {
-                return;
-            }
+        final int processedEventCount = updateEntriesForInputEventsNative(mNativeDict,
+                inputEvents, startIndex);
+        mHasUpdated = true;
+        if (processedEventCount <= startIndex) {
+            return inputEvents.length;
         }
+        return processedEventCount;
     }
 
     private void reopen() {
@@ -550,6 +642,18 @@ public final class BinaryDictionary extends Dictionary {
         return true;
     }
 
+    /**
+     * Writes the current contents to another file. This dictionary keeps using its own file.
+     * @param filePath the path of the file to write.
+     * @return whether the contents have been written.
+     */
+    public boolean flushTo(final String filePath) {
+        if (!isValidDictionary()) {
+            return false;
+        }
+        return flushNative(mNativeDict, filePath);
+    }
+
     // Run GC and flush to dict file if the dictionary has been updated.
     public boolean flushWithGCIfHasUpdated() {
         if (mHasUpdated) {
@@ -630,6 +734,14 @@ public final class BinaryDictionary extends Dictionary {
         return getPropertyNative(mNativeDict, query);
     }
 
+    @Override
+    public String getPerfStats() {
+        if (!isValidDictionary()) {
+            return "";
+        }
+        return getPropertyNative(mNativeDict, PERF_STATS_QUERY);
+    }
+
     @Override
     public boolean shouldAutoCommit(final SuggestedWordInfo candidate) {
         return candidate.mAutoCommitFirstWordConfidence > CONFIDENCE_TO_AUTO_COMMIT;
@@ -24,6 +24,7 @@ import android.content.res.AssetFileDescriptor;
 import android.database.Cursor;
 import android.net.Uri;
 import android.os.RemoteException;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Log;
 
@@ -46,6 +47,8 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -229,13 +232,16 @@ public final class BinaryDictionaryFileDumper {
     private static void installWordListToStaging(final String wordlistId, final String locale,
             final String rawChecksum, final ContentProviderClient providerClient,
             final Context context) {
-        final int COMPRESSED_CRYPTED_COMPRESSED = 0;
-        final int CRYPTED_COMPRESSED = 1;
-        final int COMPRESSED_CRYPTED = 2;
-        final int COMPRESSED_ONLY = 3;
-        final int CRYPTED_ONLY = 4;
-        final int NONE = 5;
-        final int MODE_MIN = COMPRESSED_CRYPTED_COMPRESSED;
+        // Uncompressed word lists are copied between file channels without going through the
+        // Java heap. The other modes only work with streams.
+        final int UNCOMPRESSED_WITH_CHANNELS = 0;
+        final int COMPRESSED_CRYPTED_COMPRESSED = 1;
+        final int CRYPTED_COMPRESSED = 2;
+        final int COMPRESSED_CRYPTED = 3;
+        final int COMPRESSED_ONLY = 4;
+        final int CRYPTED_ONLY = 5;
+        final int NONE = 6;
+        final int MODE_MIN = UNCOMPRESSED_WITH_CHANNELS;
         final int MODE_MAX = NONE;
 
         final String clientId = context.getString(R.string.dictionary_pack_client_id);
@@ -267,49 +273,61 @@ public final class BinaryDictionaryFileDumper {
             BufferedOutputStream bufferedOutputStream = null;
             AssetFileDescriptor afd = null;
             final Uri wordListUri = wordListUriBuilder.build();
+            final long startTime = SystemClock.uptimeMillis();
             try {
                 // Open input.
                 afd = openAssetFileDescriptor(providerClient, wordListUri);
                 // If we can't open it at all, don't even try a number of times.
                 if (null == afd) return;
-                originalSourceStream = afd.createInputStream();
                 // Open output.
                 outputFile = new File(tempFileName);
                 // Just to be sure, delete the file. This may fail silently, and return false: this
                 // is the right thing to do, as we just want to continue anyway.
                 outputFile.delete();
-                // Get the appropriate decryption method for this try
-                switch (mode) {
-                    case COMPRESSED_CRYPTED_COMPRESSED:
-                        uncompressedStream =
-                                FileTransforms.getUncompressedStream(originalSourceStream);
-                        decryptedStream = FileTransforms.getDecryptedStream(uncompressedStream);
-                        inputStream = FileTransforms.getUncompressedStream(decryptedStream);
-                        break;
-                    case CRYPTED_COMPRESSED:
-                        decryptedStream = FileTransforms.getDecryptedStream(originalSourceStream);
-                        inputStream = FileTransforms.getUncompressedStream(decryptedStream);
-                        break;
-                    case COMPRESSED_CRYPTED:
-                        uncompressedStream =
-                                FileTransforms.getUncompressedStream(originalSourceStream);
-                        inputStream = FileTransforms.getDecryptedStream(uncompressedStream);
-                        break;
-                    case COMPRESSED_ONLY:
-                        inputStream = FileTransforms.getUncompressedStream(originalSourceStream);
-                        break;
-                    case CRYPTED_ONLY:
-                        inputStream = FileTransforms.getDecryptedStream(originalSourceStream);
-                        break;
-                    case NONE:
-                        inputStream = originalSourceStream;
-                        break;
+                if (UNCOMPRESSED_WITH_CHANNELS == mode) {
+                    if (!checkMagicAndCopyFileWithChannels(afd, outputFile)) {
+                        // Not a plain uncompressed file. Try the stream based modes.
+                        continue;
+                    }
+                } else {
+                    originalSourceStream = afd.createInputStream();
+                    // Get the appropriate decryption method for this try
+                    switch (mode) {
+                        case COMPRESSED_CRYPTED_COMPRESSED:
+                            uncompressedStream =
+                                    FileTransforms.getUncompressedStream(originalSourceStream);
+                            decryptedStream = FileTransforms.getDecryptedStream(uncompressedStream);
+                            inputStream = FileTransforms.getUncompressedStream(decryptedStream);
+                            break;
+                        case CRYPTED_COMPRESSED:
+                            decryptedStream =
+                                    FileTransforms.getDecryptedStream(originalSourceStream);
+                            inputStream = FileTransforms.getUncompressedStream(decryptedStream);
+                            break;
+                        case COMPRESSED_CRYPTED:
+                            uncompressedStream =
+                                    FileTransforms.getUncompressedStream(originalSourceStream);
+                            inputStream = FileTransforms.getDecryptedStream(uncompressedStream);
+                            break;
+                        case COMPRESSED_ONLY:
+                            inputStream =
+                                    FileTransforms.getUncompressedStream(originalSourceStream);
+                            break;
+                        case CRYPTED_ONLY:
+                            inputStream = FileTransforms.getDecryptedStream(originalSourceStream);
+                            break;
+                        case NONE:
+                            inputStream = originalSourceStream;
+                            break;
+                    }
+                    bufferedInputStream = new BufferedInputStream(inputStream);
+                    bufferedOutputStream =
+                            new BufferedOutputStream(new FileOutputStream(outputFile));
+                    checkMagicAndCopyFileTo(bufferedInputStream, bufferedOutputStream);
+                    bufferedOutputStream.flush();
+                    bufferedOutputStream.close();
                 }
-                bufferedInputStream = new BufferedInputStream(inputStream);
-                bufferedOutputStream = new BufferedOutputStream(new FileOutputStream(outputFile));
-                checkMagicAndCopyFileTo(bufferedInputStream, bufferedOutputStream);
-                bufferedOutputStream.flush();
-                bufferedOutputStream.close();
+                final long copiedTime = SystemClock.uptimeMillis();
 
                 if (SHOULD_VERIFY_CHECKSUM) {
                     final String actualRawChecksum = MD5Calculator.checksum(
@@ -335,6 +353,9 @@ public final class BinaryDictionaryFileDumper {
                     Log.e(TAG, "Could not have the dictionary pack delete a word list");
                 }
                 Log.d(TAG, "Successfully copied file for wordlist ID " + wordlistId);
+                Log.i(TAG, "Installed a word list of " + finalFile.length() + " bytes in mode "
+                        + mode + " : copy " + (copiedTime - startTime) + " ms, total "
+                        + (SystemClock.uptimeMillis() - startTime) + " ms");
                 // Success! Close files (through the finally{} clause) and return.
                 return;
             } catch (Exception e) {
@@ -472,10 +493,8 @@ public final class BinaryDictionaryFileDumper {
             throw new IOException("Less bytes to read than the magic number length");
         }
         if (SHOULD_VERIFY_MAGIC_NUMBER) {
-            if (!Arrays.equals(MAGIC_NUMBER_VERSION_2, magicNumberBuffer)) {
-                if (!Arrays.equals(MAGIC_NUMBER_VERSION_1, magicNumberBuffer)) {
-                    throw new IOException("Wrong magic number for downloaded file");
-                }
+            if (!isValidMagicNumber(magicNumberBuffer)) {
+                throw new IOException("Wrong magic number for downloaded file");
             }
         }
         output.write(magicNumberBuffer);
@@ -488,6 +507,64 @@ public final class BinaryDictionaryFileDumper {
         input.close();
     }
 
+    /**
+     * Copies a word list to a target file with file channels if it is stored uncompressed.
+     *
+     * The magic number is read from a memory mapped view of the header, and the data is then
+     * transferred between the file channels without being copied through a Java buffer. As the
+     * magic number is the only way to tell an uncompressed word list apart, it is always checked
+     * here, regardless of SHOULD_VERIFY_MAGIC_NUMBER.
+     *
+     * @param afd the word list to copy.
+     * @param outputFile the file to copy the word list to.
+     * @return true if the word list has been copied, false if it does not start with the magic
+     *   number, in which case nothing has been written.
+     * @throws IOException if the word list can't be mapped, for example because it is not a
+     *   regular file, or if the copy fails.
+     */
+    private static boolean checkMagicAndCopyFileWithChannels(final AssetFileDescriptor afd,
+            final File outputFile) throws IOException {
+        final FileInputStream inputStream = afd.createInputStream();
+        FileOutputStream outputStream = null;
+        try {
+            final FileChannel sourceChannel = inputStream.getChannel();
+            final long startOffset = afd.getStartOffset();
+            final long length = (AssetFileDescriptor.UNKNOWN_LENGTH == afd.getLength())
+                    ? sourceChannel.size() - startOffset : afd.getLength();
+            final int magicNumberLength = MAGIC_NUMBER_VERSION_2.length;
+            if (length < magicNumberLength) {
+                return false;
+            }
+            final ByteBuffer header = sourceChannel.map(FileChannel.MapMode.READ_ONLY,
+                    startOffset, magicNumberLength);
+            final byte[] magicNumberBuffer = new byte[magicNumberLength];
+            header.get(magicNumberBuffer);
+            if (!isValidMagicNumber(magicNumberBuffer)) {
+                return false;
+            }
+            outputStream = new FileOutputStream(outputFile);
+            final FileChannel destinationChannel = outputStream.getChannel();
+            long copiedLength = 0;
+            while (copiedLength < length) {
+                final long transferredLength = sourceChannel.transferTo(
+                        startOffset + copiedLength, length - copiedLength, destinationChannel);
+                if (transferredLength <= 0) {
+                    throw new IOException("Unexpected end of the word list");
+                }
+                copiedLength += transferredLength;
+            }
+            return true;
+        } finally {
+            closeCloseableAndReportAnyException(inputStream);
+            closeCloseableAndReportAnyException(outputStream);
+        }
+    }
+
+    private static boolean isValidMagicNumber(final byte[] magicNumberBuffer) {
+        return Arrays.equals(MAGIC_NUMBER_VERSION_2, magicNumberBuffer)
+                || Arrays.equals(MAGIC_NUMBER_VERSION_1, magicNumberBuffer);
+    }
+
     private static void reinitializeClientRecordInDictionaryContentProvider(final Context context,
             final ContentProviderClient client, final String clientId) throws RemoteException {
         final String metadataFileUri = MetadataFileUriGetter.getMetadataUri(context);
@@ -22,18 +22,22 @@ import android.net.Uri;
 import android.provider.ContactsContract;
 import android.provider.ContactsContract.Contacts;
 import android.util.Log;
+import android.util.Pair;
 
 import com.android.inputmethod.annotations.ExternallyReferenced;
 import com.android.inputmethod.latin.ContactsManager.ContactsChangedListener;
+import com.android.inputmethod.latin.ContactsManager.NamesDelta;
 import com.android.inputmethod.latin.common.StringUtils;
 import com.android.inputmethod.latin.permissions.PermissionsUtil;
 import com.android.inputmethod.latin.personalization.AccountUtils;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
@@ -115,25 +119,27 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
             Log.i(TAG, "No permission to read contacts. Not loading the Dictionary.");
         }
 
+        final boolean isContactsUri = uri.equals(Contacts.CONTENT_URI);
+        // Read the timestamp before the names, so that an update in between isn't missed.
+        final long lastUpdatedTimestamp =
+                isContactsUri ? mContactsManager.getLastUpdatedTimestamp() : 0;
         final ArrayList<String> validNames = mContactsManager.getValidNames(uri);
         for (final String name : validNames) {
             addNameLocked(name);
         }
-        if (uri.equals(Contacts.CONTENT_URI)) {
+        if (isContactsUri) {
             // Since we were able to add content successfully, update the local
             // state of the manager.
-            mContactsManager.updateLocalState(validNames);
+            mContactsManager.updateLocalState(validNames, lastUpdatedTimestamp);
         }
     }
 
     /**
-     * Adds the words in a name (e.g., firstname/lastname) to the binary dictionary along with their
-     * bigrams depending on locale.
+     * Returns the words in a name (e.g., firstname/lastname) that are added to the dictionary.
      */
-    private void addNameLocked(final String name) {
+    private static ArrayList<String> getWordsOfName(final String name) {
+        final ArrayList<String> words = new ArrayList<>();
         int len = StringUtils.codePointCount(name);
-        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
-                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
         // TODO: Better tokenization for non-Latin writing systems
         for (int i = 0; i < len; i++) {
             if (Character.isLetter(name.codePointAt(i))) {
@@ -147,30 +153,118 @@ public class ContactsBinaryDictionary extends ExpandableBinaryDictionary
                 // capitalization of i.
                 final int wordLen = StringUtils.codePointCount(word);
                 if (wordLen <= MAX_WORD_LENGTH && wordLen > 1) {
-                    if (DEBUG) {
-                        Log.d(TAG, "addName " + name + ", " + word + ", "  + ngramContext);
-                    }
-                    runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                    addUnigramLocked(word,
-                            ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS, false /* isNotAWord */,
-                            false /* isPossiblyOffensive */,
-                            BinaryDictionary.NOT_A_VALID_TIMESTAMP);
-                    if (ngramContext.isValid() && mUseFirstLastBigrams) {
-                        runGCIfRequiredLocked(true /* mindsBlockByGC */);
-                        addNgramEntryLocked(ngramContext,
-                                word,
-                                ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
-                                BinaryDictionary.NOT_A_VALID_TIMESTAMP);
-                    }
-                    ngramContext = ngramContext.getNextNgramContext(
-                            new NgramContext.WordInfo(word));
+                    words.add(word);
                 }
             }
         }
+        return words;
+    }
+
+    /**
+     * Returns the n-grams of the words in a name that are added to the dictionary along with the
+     * words, as pairs of the previous words and the word.
+     */
+    private static ArrayList<Pair<NgramContext, String>> getNgramsOfName(final String name) {
+        final ArrayList<Pair<NgramContext, String>> ngrams = new ArrayList<>();
+        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
+                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        for (final String word : getWordsOfName(name)) {
+            if (ngramContext.isValid()) {
+                ngrams.add(new Pair<>(ngramContext, word));
+            }
+            ngramContext = ngramContext.getNextNgramContext(new NgramContext.WordInfo(word));
+        }
+        return ngrams;
+    }
+
+    /**
+     * Adds the words in a name (e.g., firstname/lastname) to the binary dictionary along with their
+     * bigrams depending on locale.
+     */
+    private void addNameLocked(final String name) {
+        NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
+                BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+        for (final String word : getWordsOfName(name)) {
+            if (DEBUG) {
+                Log.d(TAG, "addName " + name + ", " + word + ", "  + ngramContext);
+            }
+            runGCIfRequiredLocked(true /* mindsBlockByGC */);
+            addUnigramLocked(word,
+                    ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */,
+                    BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            if (ngramContext.isValid() && mUseFirstLastBigrams) {
+                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                addNgramEntryLocked(ngramContext,
+                        word,
+                        ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
+                        BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+            }
+            ngramContext = ngramContext.getNextNgramContext(new NgramContext.WordInfo(word));
+        }
     }
 
     @Override
     public void onContactsChange() {
         setNeedsToRecreate();
     }
+
+    /**
+     * Applies the names that have been added and removed to the dictionary, instead of
+     * recreating it from all the contacts.
+     */
+    @Override
+    public void onContactNamesChange(@Nonnull final NamesDelta delta) {
+        if (!delta.mRemovedNames.isEmpty()) {
+            // A word or an n-gram of a removed name stays if another name or the profile has it.
+            // A word also stays if an account has it.
+            final HashSet<String> retainedWords = new HashSet<>();
+            final HashSet<Pair<NgramContext, String>> retainedNgrams = new HashSet<>();
+            final ArrayList<String> retainedNames = new ArrayList<>(delta.mNames);
+            retainedNames.addAll(
+                    mContactsManager.getValidNames(ContactsContract.Profile.CONTENT_URI));
+            for (final String name : retainedNames) {
+                retainedWords.addAll(getWordsOfName(name));
+                retainedNgrams.addAll(getNgramsOfName(name));
+            }
+            final List<String> accountVocabulary =
+                    AccountUtils.getDeviceAccountsEmailAddresses(mContext);
+            if (accountVocabulary != null) {
+                retainedWords.addAll(accountVocabulary);
+            }
+            // The n-grams are removed first, since the dictionary can't find an n-gram once a
+            // word of its previous words has been removed.
+            if (mUseFirstLastBigrams) {
+                for (final String name : delta.mRemovedNames) {
+                    for (final Pair<NgramContext, String> ngram : getNgramsOfName(name)) {
+                        if (retainedNgrams.add(ngram)) {
+                            removeNgramEntryDynamically(ngram.first, ngram.second);
+                        }
+                    }
+                }
+            }
+            for (final String name : delta.mRemovedNames) {
+                for (final String word : getWordsOfName(name)) {
+                    if (retainedWords.add(word)) {
+                        removeUnigramEntryDynamically(word);
+                    }
+                }
+            }
+        }
+        for (final String name : delta.mAddedNames) {
+            NgramContext ngramContext = NgramContext.getEmptyPrevWordsContext(
+                    BinaryDictionary.MAX_PREV_WORD_COUNT_FOR_N_GRAM);
+            for (final String word : getWordsOfName(name)) {
+                addUnigramEntry(word, ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS,
+                        false /* isNotAWord */, false /* isPossiblyOffensive */,
+                        BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+                if (ngramContext.isValid() && mUseFirstLastBigrams) {
+                    addNgramEntry(ngramContext, word,
+                            ContactsDictionaryConstants.FREQUENCY_FOR_CONTACTS_BIGRAM,
+                            BinaryDictionary.NOT_A_VALID_TIMESTAMP);
+                }
+                ngramContext = ngramContext.getNextNgramContext(new NgramContext.WordInfo(word));
+            }
+        }
+    }
 }
@@ -25,6 +25,7 @@ import android.provider.ContactsContract.Contacts;
 import android.util.Log;
 
 import com.android.inputmethod.latin.ContactsManager.ContactsChangedListener;
+import com.android.inputmethod.latin.ContactsManager.NamesDelta;
 import com.android.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.permissions.PermissionsUtil;
 import com.android.inputmethod.latin.utils.ExecutorUtils;
@@ -89,10 +90,19 @@ public class ContactsContentObserver implements Runnable {
             return;
         }
         if (haveContentsChanged()) {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(TAG, "run() : Contacts have changed. Notifying listeners.");
+            final NamesDelta delta = mManager.getNamesDeltaSinceLastUpdate();
+            if (delta == null) {
+                if (DebugFlags.DEBUG_ENABLED) {
+                    Log.d(TAG, "run() : Contacts have changed. Notifying listeners.");
+                }
+                mContactsChangedListener.onContactsChange();
+            } else if (!delta.isEmpty()) {
+                if (DebugFlags.DEBUG_ENABLED) {
+                    Log.d(TAG, "run() : " + delta.mAddedNames.size() + " names added and "
+                            + delta.mRemovedNames.size() + " names removed. Notifying listeners.");
+                }
+                mContactsChangedListener.onContactNamesChange(delta);
             }
-            mContactsChangedListener.onContactsChange();
         }
         mRunning.set(false);
     }
@@ -105,13 +115,18 @@ public class ContactsContentObserver implements Runnable {
         }
 
         final long startTime = SystemClock.uptimeMillis();
-        final int contactCount = mManager.getContactCount();
-        if (contactCount > ContactsDictionaryConstants.MAX_CONTACTS_PROVIDER_QUERY_LIMIT) {
-            // If there are too many contacts then return false. In this rare case it is impossible
-            // to include all of them anyways and the cost of rebuilding the dictionary is too high.
-            // TODO: Sort and check only the most recent contacts?
-            return false;
+        if (mManager.canDetectChangesByTimestamp()) {
+            // Only the contacts updated or deleted since the last update are queried, so this
+            // doesn't depend on the number of contacts.
+            final boolean changed = mManager.haveContactsChangedSinceLastUpdate();
+            if (DebugFlags.DEBUG_ENABLED) {
+                Log.d(TAG, "haveContentsChanged() : " + (changed ? "Change" : "No change")
+                        + " detected by timestamp in " + (SystemClock.uptimeMillis() - startTime)
+                        + " ms");
+            }
+            return changed;
         }
+        final int contactCount = mManager.getContactCount();
         if (contactCount != mManager.getContactCountAtLastRebuild()) {
             if (DebugFlags.DEBUG_ENABLED) {
                 Log.d(TAG, "haveContentsChanged() : Count changed from "
@@ -29,6 +29,8 @@ public class ContactsDictionaryConstants {
     public static final String[] PROJECTION = { BaseColumns._ID, Contacts.DISPLAY_NAME,
             Contacts.TIMES_CONTACTED, Contacts.LAST_TIME_CONTACTED, Contacts.IN_VISIBLE_GROUP };
     public static final String[] PROJECTION_ID_ONLY = { BaseColumns._ID };
+    public static final String[] PROJECTION_LAST_UPDATED_TIMESTAMP =
+            { Contacts.CONTACT_LAST_UPDATED_TIMESTAMP };
 
     /**
      * Frequency for contacts information into the dictionary
@@ -36,11 +38,6 @@ public class ContactsDictionaryConstants {
     public static final int FREQUENCY_FOR_CONTACTS = 40;
     public static final int FREQUENCY_FOR_CONTACTS_BIGRAM = 90;
 
-    /**
-     *  Do not attempt to query contacts if there are more than this many entries.
-     */
-    public static final int MAX_CONTACTS_PROVIDER_QUERY_LIMIT = 10000;
-
     /**
      * Index of the column for 'name' in content providers:
      * Contacts & ContactsContract.Profile.
@@ -16,24 +16,33 @@
 
 package com.android.inputmethod.latin;
 
+import android.annotation.TargetApi;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
 import android.net.Uri;
+import android.os.Build;
+import android.provider.ContactsContract;
 import android.provider.ContactsContract.Contacts;
+import android.provider.ContactsContract.DeletedContacts;
 import android.text.TextUtils;
 import android.util.Log;
 
+import com.android.inputmethod.compat.BuildCompatUtils;
 import com.android.inputmethod.latin.common.Constants;
 import com.android.inputmethod.latin.common.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.PriorityQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 /**
  * Manages all interactions with Contacts DB.
  *
@@ -48,6 +57,8 @@ public class ContactsManager {
      */
     public static final int MAX_CONTACT_NAMES = 200;
 
+    private static final long NOT_A_TIMESTAMP = -1;
+
     protected static class RankedContact {
         public final String mName;
         public final long mLastContactedTime;
@@ -93,10 +104,32 @@ public class ContactsManager {
         }
     }
 
-    private static class AffinityComparator implements Comparator<RankedContact> {
+    private static class LowestAffinityFirstComparator implements Comparator<RankedContact> {
         @Override
         public int compare(RankedContact contact1, RankedContact contact2) {
-            return Float.compare(contact2.getAffinity(), contact1.getAffinity());
+            return Float.compare(contact1.getAffinity(), contact2.getAffinity());
+        }
+    }
+
+    /**
+     * The valid names that have been added and removed since the last update of the local state.
+     */
+    public static final class NamesDelta {
+        public final ArrayList<String> mAddedNames;
+        public final ArrayList<String> mRemovedNames;
+        /** All the valid names after the change. */
+        public final HashSet<String> mNames;
+
+        NamesDelta(@Nonnull final ArrayList<String> addedNames,
+                @Nonnull final ArrayList<String> removedNames,
+                @Nonnull final HashSet<String> names) {
+            mAddedNames = addedNames;
+            mRemovedNames = removedNames;
+            mNames = names;
+        }
+
+        public boolean isEmpty() {
+            return mAddedNames.isEmpty() && mRemovedNames.isEmpty();
         }
     }
 
@@ -105,7 +138,17 @@ public class ContactsManager {
      * to Contacts content provider.
      */
     public static interface ContactsChangedListener {
+        /**
+         * Called when the contacts have changed in a way that can't be described by a
+         * {@link NamesDelta}, and the whole contacts need to be read again.
+         */
         public void onContactsChange();
+
+        /**
+         * Called when some valid names have been added or removed. The local state of the
+         * manager has already been updated.
+         */
+        public void onContactNamesChange(@Nonnull NamesDelta delta);
     }
 
     /**
@@ -120,6 +163,14 @@ public class ContactsManager {
      */
     private AtomicInteger mHashCodeAtLastRebuild = new AtomicInteger(0);
 
+    /**
+     * The valid names and the last updated timestamp of the contacts at the most recent update
+     * of the local state, or null and {@link #NOT_A_TIMESTAMP} if the local state isn't known.
+     * Guarded by this.
+     */
+    private HashSet<String> mNamesAtLastUpdate;
+    private long mLastUpdatedTimestampAtLastUpdate = NOT_A_TIMESTAMP;
+
     private final Context mContext;
     private final ContactsContentObserver mObserver;
 
@@ -142,52 +193,173 @@ public class ContactsManager {
     }
 
     /**
-     * Returns all the valid names in the Contacts DB. Callers should also
-     * call {@link #updateLocalState(ArrayList)} after they are done with result
-     * so that the manager can cache local state for determining updates.
+     * Returns the valid names of at most {@link #MAX_CONTACT_NAMES} contacts with the highest
+     * affinity to the user in the Contacts DB. Callers should also call
+     * {@link #updateLocalState(ArrayList,long)} after they are done with result so that the
+     * manager can cache local state for determining updates.
      *
-     * These names are sorted by their affinity to the user, with favorite
-     * contacts appearing first.
+     * The contacts are streamed from the cursor, so that only the highest ranked contacts are
+     * kept in memory however large the address book is.
      */
     public ArrayList<String> getValidNames(final Uri uri) {
-        // Check all contacts since it's not possible to find out which names have changed.
-        // This is needed because it's possible to receive extraneous onChange events even when no
-        // name has changed.
         final Cursor cursor = mContext.getContentResolver().query(uri,
                 ContactsDictionaryConstants.PROJECTION, null, null, null);
-        final ArrayList<RankedContact> contacts = new ArrayList<>();
-        int maxTimesContacted = 0;
-        if (cursor != null) {
-            try {
-                if (cursor.moveToFirst()) {
-                    while (!cursor.isAfterLast()) {
-                        final String name = cursor.getString(
-                                ContactsDictionaryConstants.NAME_INDEX);
-                        if (isValidName(name)) {
-                            final int timesContacted = cursor.getInt(
-                                    ContactsDictionaryConstants.TIMES_CONTACTED_INDEX);
-                            if (timesContacted > maxTimesContacted) {
-                                maxTimesContacted = timesContacted;
-                            }
-                            contacts.add(new RankedContact(cursor));
-                        }
-                        cursor.moveToNext();
+        if (cursor == null) {
+            return new ArrayList<>();
+        }
+        // The contacts with the lowest affinity of the highest ranked ones come first.
+        final PriorityQueue<RankedContact> topContacts =
+                new PriorityQueue<>(MAX_CONTACT_NAMES, new LowestAffinityFirstComparator());
+        final HashMap<String, RankedContact> topContactsByName = new HashMap<>();
+        try {
+            // The affinity depends on the maximum times contacted, which the first pass finds.
+            int maxTimesContacted = 0;
+            for (cursor.moveToFirst(); !cursor.isAfterLast(); cursor.moveToNext()) {
+                if (isValidName(cursor.getString(ContactsDictionaryConstants.NAME_INDEX))) {
+                    maxTimesContacted = Math.max(maxTimesContacted,
+                            cursor.getInt(ContactsDictionaryConstants.TIMES_CONTACTED_INDEX));
+                }
+            }
+            final long currentTime = System.currentTimeMillis();
+            for (cursor.moveToFirst(); !cursor.isAfterLast(); cursor.moveToNext()) {
+                if (!isValidName(cursor.getString(ContactsDictionaryConstants.NAME_INDEX))) {
+                    continue;
+                }
+                final RankedContact contact = new RankedContact(cursor);
+                contact.computeAffinity(maxTimesContacted, currentTime);
+                // A name is ranked by the contact with the highest affinity that has the name.
+                final RankedContact sameNameContact = topContactsByName.get(contact.mName);
+                if (sameNameContact != null) {
+                    if (contact.getAffinity() <= sameNameContact.getAffinity()) {
+                        continue;
+                    }
+                    topContacts.remove(sameNameContact);
+                } else if (topContacts.size() >= MAX_CONTACT_NAMES) {
+                    if (contact.getAffinity() <= topContacts.peek().getAffinity()) {
+                        continue;
                     }
+                    topContactsByName.remove(topContacts.poll().mName);
                 }
-            } finally {
+                topContacts.add(contact);
+                topContactsByName.put(contact.mName, contact);
+            }
+        } finally {
+            cursor.close();
+        }
+        return new ArrayList<>(topContactsByName.keySet());
+    }
+
+    private static boolean canUseLastUpdatedTimestamp() {
+        return BuildCompatUtils.EFFECTIVE_SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+    }
+
+    /**
+     * Returns the last time that a contact was updated, or {@link #NOT_A_TIMESTAMP} if it can't
+     * be known. Read this before the names so that an update in between isn't missed.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    public long getLastUpdatedTimestamp() {
+        if (!canUseLastUpdatedTimestamp()) {
+            return NOT_A_TIMESTAMP;
+        }
+        final Uri uri = Contacts.CONTENT_URI.buildUpon()
+                .appendQueryParameter(ContactsContract.LIMIT_PARAM_KEY, "1").build();
+        Cursor cursor = null;
+        try {
+            cursor = mContext.getContentResolver().query(uri,
+                    ContactsDictionaryConstants.PROJECTION_LAST_UPDATED_TIMESTAMP, null, null,
+                    Contacts.CONTACT_LAST_UPDATED_TIMESTAMP + " DESC");
+            if (null == cursor) {
+                return NOT_A_TIMESTAMP;
+            }
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } catch (final SQLiteException | IllegalArgumentException e) {
+            Log.e(TAG, "Exception in the remote Contacts process.", e);
+        } finally {
+            if (null != cursor) {
+                cursor.close();
+            }
+        }
+        return NOT_A_TIMESTAMP;
+    }
+
+    /**
+     * Returns whether {@link #haveContactsChangedSinceLastUpdate()} can tell the changes.
+     */
+    public synchronized boolean canDetectChangesByTimestamp() {
+        return mNamesAtLastUpdate != null
+                && mLastUpdatedTimestampAtLastUpdate != NOT_A_TIMESTAMP;
+    }
+
+    /**
+     * Returns whether a contact has been updated or deleted since the last update of the local
+     * state, without reading the contacts.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    public boolean haveContactsChangedSinceLastUpdate() {
+        final long timestamp;
+        synchronized (this) {
+            timestamp = mLastUpdatedTimestampAtLastUpdate;
+        }
+        if (timestamp == NOT_A_TIMESTAMP) {
+            return true;
+        }
+        return hasRowUpdatedAfter(Contacts.CONTENT_URI, Contacts.CONTACT_LAST_UPDATED_TIMESTAMP,
+                timestamp)
+                || hasRowUpdatedAfter(DeletedContacts.CONTENT_URI,
+                        DeletedContacts.CONTACT_DELETED_TIMESTAMP, timestamp);
+    }
+
+    private boolean hasRowUpdatedAfter(final Uri contentUri, final String timestampColumn,
+            final long timestamp) {
+        final Uri uri = contentUri.buildUpon()
+                .appendQueryParameter(ContactsContract.LIMIT_PARAM_KEY, "1").build();
+        Cursor cursor = null;
+        try {
+            cursor = mContext.getContentResolver().query(uri,
+                    ContactsDictionaryConstants.PROJECTION_ID_ONLY, timestampColumn + " > ?",
+                    new String[] { Long.toString(timestamp) }, null);
+            // Assume a change when the provider can't tell.
+            return null == cursor || cursor.getCount() > 0;
+        } catch (final SQLiteException | IllegalArgumentException e) {
+            Log.e(TAG, "Exception in the remote Contacts process.", e);
+            return true;
+        } finally {
+            if (null != cursor) {
                 cursor.close();
             }
         }
-        final long currentTime = System.currentTimeMillis();
-        for (RankedContact contact : contacts) {
-            contact.computeAffinity(maxTimesContacted, currentTime);
+    }
+
+    /**
+     * Reads the valid names again and returns the names that have been added and removed since
+     * the last update of the local state, which is updated to the new names.
+     *
+     * @return the delta, or null if the local state isn't known and the whole contacts need to
+     * be read again.
+     */
+    @Nullable
+    public synchronized NamesDelta getNamesDeltaSinceLastUpdate() {
+        if (mNamesAtLastUpdate == null) {
+            return null;
         }
-        Collections.sort(contacts, new AffinityComparator());
-        final HashSet<String> names = new HashSet<>();
-        for (int i = 0; i < contacts.size() && names.size() < MAX_CONTACT_NAMES; ++i) {
-            names.add(contacts.get(i).mName);
+        final long lastUpdatedTimestamp = getLastUpdatedTimestamp();
+        final ArrayList<String> validNames = getValidNames(Contacts.CONTENT_URI);
+        final HashSet<String> names = new HashSet<>(validNames);
+        final ArrayList<String> addedNames = new ArrayList<>();
+        for (final String name : names) {
+            if (!mNamesAtLastUpdate.contains(name)) {
+                addedNames.add(name);
+            }
+        }
+        final ArrayList<String> removedNames = new ArrayList<>();
+        for (final String name : mNamesAtLastUpdate) {
+            if (!names.contains(name)) {
+                removedNames.add(name);
+            }
         }
-        return new ArrayList<>(names);
+        updateLocalState(validNames, lastUpdatedTimestamp);
+        return new NamesDelta(addedNames, removedNames, names);
     }
 
     /**
@@ -230,10 +402,17 @@ public class ContactsManager {
     /**
      * Updates the local state of the manager. This should be called when the callers
      * are done with all the updates of the content provider successfully.
+     *
+     * @param names the valid names that have been read.
+     * @param lastUpdatedTimestamp the result of {@link #getLastUpdatedTimestamp()} before the
+     * names were read.
      */
-    public void updateLocalState(final ArrayList<String> names) {
+    public synchronized void updateLocalState(final ArrayList<String> names,
+            final long lastUpdatedTimestamp) {
         mContactCountAtLastRebuild.set(getContactCount());
         mHashCodeAtLastRebuild.set(names.hashCode());
+        mNamesAtLastUpdate = new HashSet<>(names);
+        mLastUpdatedTimestampAtLastUpdate = lastUpdatedTimestamp;
     }
 
     /**
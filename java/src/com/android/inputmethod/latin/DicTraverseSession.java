@@ -16,10 +16,17 @@
 
 package com.android.inputmethod.latin;
 
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.DirectInputPointers;
 import com.android.inputmethod.latin.common.NativeSuggestOptions;
 import com.android.inputmethod.latin.define.DecoderSpecificConstants;
 import com.android.inputmethod.latin.utils.JniUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
 import java.util.Locale;
 
 public final class DicTraverseSession {
@@ -28,6 +35,25 @@ public final class DicTraverseSession {
     }
     // Must be equal to MAX_RESULTS in native/jni/src/defines.h
     private static final int MAX_RESULTS = 18;
+
+    // Layout of mDirectOutputBuffer, in ints. Must be equal to the layout used by
+    // latinime_BinaryDictionary_getSuggestionsDirect in
+    // native/jni/com_android_inputmethod_latin_BinaryDictionary.cpp, which BinaryDictionary
+    // checks before using the buffer.
+    static final int DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX = 0;
+    static final int DIRECT_OUTPUT_AUTO_COMMIT_FIRST_WORD_CONFIDENCE_INDEX = 1;
+    static final int DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX = 2;
+    static final int DIRECT_OUTPUT_CODE_POINTS_INDEX = 3;
+    static final int DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX =
+            DIRECT_OUTPUT_CODE_POINTS_INDEX
+                    + DecoderSpecificConstants.DICTIONARY_MAX_WORD_LENGTH * MAX_RESULTS;
+    static final int DIRECT_OUTPUT_SCORES_INDEX =
+            DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX + MAX_RESULTS;
+    static final int DIRECT_OUTPUT_SPACE_INDICES_INDEX =
+            DIRECT_OUTPUT_SCORES_INDEX + MAX_RESULTS;
+    static final int DIRECT_OUTPUT_TYPES_INDEX =
+            DIRECT_OUTPUT_SPACE_INDICES_INDEX + MAX_RESULTS;
+    static final int DIRECT_OUTPUT_SIZE = DIRECT_OUTPUT_TYPES_INDEX + MAX_RESULTS;
     public final int[] mInputCodePoints =
             new int[DecoderSpecificConstants.DICTIONARY_MAX_WORD_LENGTH];
     public final int[][] mPrevWordCodePointArrays =
@@ -37,6 +63,7 @@ public final class DicTraverseSession {
     public final int[] mOutputSuggestionCount = new int[1];
     public final int[] mOutputCodePoints =
             new int[DecoderSpecificConstants.DICTIONARY_MAX_WORD_LENGTH * MAX_RESULTS];
+    public final int[] mOutputCodePointCounts = new int[MAX_RESULTS];
     public final int[] mSpaceIndices = new int[MAX_RESULTS];
     public final int[] mOutputScores = new int[MAX_RESULTS];
     public final int[] mOutputTypes = new int[MAX_RESULTS];
@@ -46,10 +73,30 @@ public final class DicTraverseSession {
 
     public final NativeSuggestOptions mNativeSuggestOptions = new NativeSuggestOptions();
 
+    // Off-heap input and output of getSuggestionsDirectNative(), which native code accesses in
+    // place instead of copying Java arrays in and out on each call.
+    public final DirectInputPointers mDirectInputPointers =
+            new DirectInputPointers(Constants.DEFAULT_GESTURE_POINTS_CAPACITY);
+    public final ByteBuffer mDirectOutputBuffer =
+            ByteBuffer.allocateDirect(DIRECT_OUTPUT_SIZE * Integer.SIZE / Byte.SIZE)
+                    .order(ByteOrder.nativeOrder());
+    private final IntBuffer mDirectOutputIntBuffer = mDirectOutputBuffer.asIntBuffer();
+
+    // Suggestions output by the previous request on this session. Results of the next request
+    // that are identical reuse these instead of allocating a new String and SuggestedWordInfo,
+    // since consecutive gesture updates and keystrokes mostly return the same words again. The
+    // suggestions are then shared between requests, so they must not be modified once output:
+    // the only mutable field, the debug string, is set on a copy by Suggest.
+    private SuggestedWordInfo[] mRecycledSuggestions = new SuggestedWordInfo[MAX_RESULTS];
+    private int mRecycledSuggestionCount = 0;
+    private SuggestedWordInfo[] mOutputSuggestions = new SuggestedWordInfo[MAX_RESULTS];
+    private int mOutputSuggestionInfoCount = 0;
+
     private static native long setDicTraverseSessionNative(String locale, long dictSize);
     private static native void initDicTraverseSessionNative(long nativeDicTraverseSession,
             long dictionary, int[] previousWord, int previousWordLength);
     private static native void releaseDicTraverseSessionNative(long nativeDicTraverseSession);
+    private static native void cancelDicTraverseSessionNative(long nativeDicTraverseSession);
 
     private long mNativeDicTraverseSession;
 
@@ -72,10 +119,125 @@ public final class DicTraverseSession {
                 mNativeDicTraverseSession, dictionary, previousWord, previousWordLength);
     }
 
+    /**
+     * Prepares mDirectOutputBuffer for a call to getSuggestionsDirectNative().
+     */
+    public void prepareDirectOutput(final float weightOfLangModelVsSpatialModel) {
+        mDirectOutputIntBuffer.put(DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX, 0);
+        mDirectOutputBuffer.putFloat(DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX
+                * Integer.SIZE / Byte.SIZE, weightOfLangModelVsSpatialModel);
+    }
+
+    /**
+     * Moves the results written by getSuggestionsDirectNative() to the output arrays, with one
+     * bulk transfer per array.
+     */
+    public void readDirectOutput() {
+        final IntBuffer output = mDirectOutputIntBuffer;
+        final int count = output.get(DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX);
+        mOutputSuggestionCount[0] = count;
+        mOutputAutoCommitFirstWordConfidence[0] =
+                output.get(DIRECT_OUTPUT_AUTO_COMMIT_FIRST_WORD_CONFIDENCE_INDEX);
+        mInputOutputWeightOfLangModelVsSpatialModel[0] = mDirectOutputBuffer.getFloat(
+                DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX
+                        * Integer.SIZE / Byte.SIZE);
+        output.position(DIRECT_OUTPUT_CODE_POINTS_INDEX);
+        output.get(mOutputCodePoints, 0,
+                count * DecoderSpecificConstants.DICTIONARY_MAX_WORD_LENGTH);
+        output.position(DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX);
+        output.get(mOutputCodePointCounts, 0, count);
+        output.position(DIRECT_OUTPUT_SCORES_INDEX);
+        output.get(mOutputScores, 0, count);
+        output.position(DIRECT_OUTPUT_SPACE_INDICES_INDEX);
+        output.get(mSpaceIndices, 0, count);
+        output.position(DIRECT_OUTPUT_TYPES_INDEX);
+        output.get(mOutputTypes, 0, count);
+        output.clear();
+    }
+
+    /**
+     * Returns the suggestion at the index of the output arrays. A suggestion identical to one
+     * output by the previous request is returned as is, and the word of a previous suggestion is
+     * shared when only its other attributes changed.
+     */
+    public SuggestedWordInfo obtainSuggestedWordInfo(final int index, final int score,
+            final Dictionary sourceDict) {
+        final int start = index * DecoderSpecificConstants.DICTIONARY_MAX_WORD_LENGTH;
+        final int codePointCount = mOutputCodePointCounts[index];
+        final SuggestedWordInfo recycledInfo = findRecycledSuggestion(start, codePointCount);
+        final SuggestedWordInfo info;
+        if (recycledInfo != null && recycledInfo.mScore == score
+                && recycledInfo.mKindAndFlags == mOutputTypes[index]
+                && recycledInfo.mSourceDict == sourceDict
+                && recycledInfo.mIndexOfTouchPointOfSecondWord == mSpaceIndices[index]
+                && recycledInfo.mAutoCommitFirstWordConfidence
+                        == mOutputAutoCommitFirstWordConfidence[0]) {
+            info = recycledInfo;
+        } else {
+            final String word = (recycledInfo != null) ? recycledInfo.mWord
+                    : new String(mOutputCodePoints, start, codePointCount);
+            info = new SuggestedWordInfo(word, "" /* prevWordsContext */, score,
+                    mOutputTypes[index], sourceDict,
+                    mSpaceIndices[index] /* indexOfTouchPointOfSecondWord */,
+                    mOutputAutoCommitFirstWordConfidence[0]);
+        }
+        mOutputSuggestions[mOutputSuggestionInfoCount++] = info;
+        return info;
+    }
+
+    /**
+     * Makes the suggestions obtained since the previous call recyclable by the next request.
+     */
+    public void finishObtainingSuggestedWordInfos() {
+        final SuggestedWordInfo[] previousSuggestions = mRecycledSuggestions;
+        mRecycledSuggestions = mOutputSuggestions;
+        mRecycledSuggestionCount = mOutputSuggestionInfoCount;
+        Arrays.fill(previousSuggestions, null);
+        mOutputSuggestions = previousSuggestions;
+        mOutputSuggestionInfoCount = 0;
+    }
+
+    private SuggestedWordInfo findRecycledSuggestion(final int start, final int codePointCount) {
+        for (int i = 0; i < mRecycledSuggestionCount; ++i) {
+            final SuggestedWordInfo info = mRecycledSuggestions[i];
+            if (info.mCodePointCount == codePointCount
+                    && hasCodePoints(info.mWord, mOutputCodePoints, start, codePointCount)) {
+                return info;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasCodePoints(final String word, final int[] codePoints,
+            final int start, final int codePointCount) {
+        int charIndex = 0;
+        for (int i = 0; i < codePointCount; ++i) {
+            if (charIndex >= word.length()) {
+                return false;
+            }
+            final int codePoint = word.codePointAt(charIndex);
+            if (codePoint != codePoints[start + i]) {
+                return false;
+            }
+            charIndex += Character.charCount(codePoint);
+        }
+        return charIndex == word.length();
+    }
+
     private static long createNativeDicTraverseSession(String locale, long dictSize) {
         return setDicTraverseSessionNative(locale, dictSize);
     }
 
+    /**
+     * Makes the search that is running on this session, if any, stop at its next step. Can be
+     * called from any thread, but must not race with {@link #close()}.
+     */
+    public void cancel() {
+        if (mNativeDicTraverseSession != 0) {
+            cancelDicTraverseSessionNative(mNativeDicTraverseSession);
+        }
+    }
+
     private void closeInternal() {
         if (mNativeDicTraverseSession != 0) {
             releaseDicTraverseSessionNative(mNativeDicTraverseSession);
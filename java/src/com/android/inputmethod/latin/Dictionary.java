@@ -102,6 +102,16 @@ public abstract class Dictionary {
             final int sessionId, final float weightForLocale,
             final float[] inOutWeightOfLangModelVsSpatialModel);
 
+    /**
+     * Asks the {@link #getSuggestions} calls that are running with the given session id to stop
+     * early. This is only a hint: the calls still return, possibly with fewer suggestions, and
+     * calls that start after this one are not affected.
+     * @param sessionId the session id passed to {@link #getSuggestions}.
+     */
+    public void cancelSuggestions(final int sessionId) {
+        // empty base implementation
+    }
+
     /**
      * Checks if the given word has to be treated as a valid word. Please note that some
      * dictionaries have entries that should be treated as invalid words.
@@ -160,6 +170,15 @@ public abstract class Dictionary {
         // empty base implementation
     }
 
+    /**
+     * Returns the counters and timings native code recorded while getting suggestions from this
+     * dictionary, as comma separated "name=value" pairs.
+     * @return the stats, or an empty string if this dictionary doesn't record any.
+     */
+    public String getPerfStats() {
+        return "";
+    }
+
     /**
      * Subclasses may override to indicate that this Dictionary is not yet properly initialized.
      */
@@ -82,6 +82,13 @@ public final class DictionaryCollection extends Dictionary {
         return suggestions;
     }
 
+    @Override
+    public void cancelSuggestions(final int sessionId) {
+        for (final Dictionary dictionary : mDictionaries) {
+            dictionary.cancelSuggestions(sessionId);
+        }
+    }
+
     @Override
     public boolean isInDictionary(final String word) {
         for (int i = mDictionaries.size() - 1; i >= 0; --i)
@@ -109,6 +116,20 @@ public final class DictionaryCollection extends Dictionary {
         return maxFreq;
     }
 
+    @Override
+    public String getPerfStats() {
+        final StringBuilder builder = new StringBuilder();
+        for (final Dictionary dictionary : mDictionaries) {
+            final String perfStats = dictionary.getPerfStats();
+            if (perfStats.isEmpty()) continue;
+            if (builder.length() > 0) {
+                builder.append("\n");
+            }
+            builder.append(perfStats);
+        }
+        return builder.toString();
+    }
+
     @Override
     public boolean isInitialized() {
         return !mDictionaries.isEmpty();
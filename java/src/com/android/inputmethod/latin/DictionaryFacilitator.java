@@ -162,6 +162,12 @@ public interface DictionaryFacilitator {
             final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
             final int inputStyle);
 
+    /**
+     * Asks the running {@link #getSuggestionResults} call with the given session id, if any, to
+     * stop early because its results are not needed anymore.
+     */
+    void cancelSuggestionResults(final int sessionId);
+
     boolean isValidSpellingWord(final String word);
 
     boolean isValidSuggestionWord(final String word);
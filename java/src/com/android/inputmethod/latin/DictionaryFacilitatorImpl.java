@@ -29,6 +29,7 @@ import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
 import com.android.inputmethod.latin.common.ComposedData;
 import com.android.inputmethod.latin.common.Constants;
 import com.android.inputmethod.latin.common.StringUtils;
+import com.android.inputmethod.latin.define.ProductionFlags;
 import com.android.inputmethod.latin.permissions.PermissionsUtil;
 import com.android.inputmethod.latin.personalization.UserHistoryDictionary;
 import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
@@ -45,9 +46,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -68,6 +76,24 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
     // dictionary.
     private static final int CAPITALIZED_FORM_MAX_PROBABILITY_FOR_INSERT = 140;
 
+    // Deadline for the parallel suggestion fan-out. Suggestions from dictionaries that have not
+    // answered by then are dropped.
+    private static final long PARALLEL_SUGGESTION_DEADLINE_MS = 100;
+    // Stride between the session IDs of the parallel suggestion workers. Each worker thread
+    // uses its own DicTraverseSession, so that a dictionary that missed the previous deadline
+    // never shares a session with the next request.
+    private static final int PARALLEL_SUGGESTION_SESSION_ID_STRIDE = 1000;
+
+    private static final AtomicInteger sNextWorkerIndex = new AtomicInteger(0);
+    private static final ThreadLocal<Integer> sWorkerSessionIdOffset = new ThreadLocal<Integer>() {
+        @Override
+        protected Integer initialValue() {
+            return sNextWorkerIndex.incrementAndGet() * PARALLEL_SUGGESTION_SESSION_ID_STRIDE;
+        }
+    };
+
+    private final boolean mUsesParallelSuggestionFanOut;
+
     private DictionaryGroup mDictionaryGroup = new DictionaryGroup();
     private volatile CountDownLatch mLatchForWaitingLoadingMainDictionaries = new CountDownLatch(0);
     // To synchronize assigning mDictionaryGroup to ensure closing dictionaries.
@@ -217,6 +243,11 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
     }
 
     public DictionaryFacilitatorImpl() {
+        this(ProductionFlags.ENABLE_PARALLEL_SUGGESTION_FAN_OUT);
+    }
+
+    public DictionaryFacilitatorImpl(final boolean usesParallelSuggestionFanOut) {
+        mUsesParallelSuggestionFanOut = usesParallelSuggestionFanOut;
     }
 
     @Override
@@ -225,6 +256,10 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
 
     @Override
     public void onFinishInput(Context context) {
+        // Apply the learning that has been buffered while typing in this field.
+        for (final ExpandableBinaryDictionary dict : mDictionaryGroup.mSubDictMap.values()) {
+            dict.flushPendingInputEvents();
+        }
     }
 
     @Override
@@ -621,25 +656,240 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
         final SuggestionResults suggestionResults = new SuggestionResults(
                 SuggestedWords.MAX_SUGGESTIONS, ngramContext.isBeginningOfSentenceContext(),
                 false /* firstSuggestionExceedsConfidenceThreshold */);
+        final DictionaryGroup dictionaryGroup = mDictionaryGroup;
+        final Dictionary[] dictionaries = new Dictionary[ALL_DICTIONARY_TYPES.length];
+        for (int i = 0; i < ALL_DICTIONARY_TYPES.length; ++i) {
+            dictionaries[i] = dictionaryGroup.getDict(ALL_DICTIONARY_TYPES[i]);
+        }
+        final float weightForLocale = composedData.mIsBatchMode
+                ? dictionaryGroup.mWeightForGesturingInLocale
+                : dictionaryGroup.mWeightForTypingInLocale;
+        if (mUsesParallelSuggestionFanOut) {
+            getSuggestionResultsInParallel(dictionaries, suggestionResults, composedData,
+                    ngramContext, proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                    weightForLocale, ExecutorUtils.getBackgroundExecutor(ExecutorUtils.SUGGESTION),
+                    PARALLEL_SUGGESTION_DEADLINE_MS);
+        } else {
+            getSuggestionResultsSerially(dictionaries, suggestionResults, composedData,
+                    ngramContext, proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                    weightForLocale);
+        }
+        return suggestionResults;
+    }
+
+    private static void addDictionarySuggestions(final SuggestionResults suggestionResults,
+            @Nullable final ArrayList<SuggestedWordInfo> dictionarySuggestions) {
+        if (null == dictionarySuggestions) return;
+        suggestionResults.addAll(dictionarySuggestions);
+        if (null != suggestionResults.mRawSuggestions) {
+            suggestionResults.mRawSuggestions.addAll(dictionarySuggestions);
+        }
+    }
+
+    /**
+     * Fetches suggestions from the dictionaries one after the other. Null dictionaries are
+     * skipped.
+     */
+    @UsedForTesting
+    static void getSuggestionResultsSerially(@Nonnull final Dictionary[] dictionaries,
+            final SuggestionResults suggestionResults, final ComposedData composedData,
+            final NgramContext ngramContext, final long proximityInfoHandle,
+            final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
+            final float weightForLocale) {
         final float[] weightOfLangModelVsSpatialModel =
                 new float[] { Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL };
-        for (final String dictType : ALL_DICTIONARY_TYPES) {
-            final Dictionary dictionary = mDictionaryGroup.getDict(dictType);
+        for (final Dictionary dictionary : dictionaries) {
             if (null == dictionary) continue;
-            final float weightForLocale = composedData.mIsBatchMode
-                    ? mDictionaryGroup.mWeightForGesturingInLocale
-                    : mDictionaryGroup.mWeightForTypingInLocale;
             final ArrayList<SuggestedWordInfo> dictionarySuggestions =
                     dictionary.getSuggestions(composedData, ngramContext,
                             proximityInfoHandle, settingsValuesForSuggestion, sessionId,
                             weightForLocale, weightOfLangModelVsSpatialModel);
-            if (null == dictionarySuggestions) continue;
-            suggestionResults.addAll(dictionarySuggestions);
-            if (null != suggestionResults.mRawSuggestions) {
-                suggestionResults.mRawSuggestions.addAll(dictionarySuggestions);
+            addDictionarySuggestions(suggestionResults, dictionarySuggestions);
+        }
+    }
+
+    /**
+     * A query of one dictionary on a worker of the parallel fan-out. The query can be cancelled
+     * when it misses the deadline: if it hasn't started, it won't, and if it is running, the
+     * session of the worker is asked to stop. The worker can't start its next query before the
+     * cancellation is done, so that a late cancellation never reaches the next query.
+     */
+    private static final class SuggestionTask implements Callable<ArrayList<SuggestedWordInfo>> {
+        private final Dictionary mDictionary;
+        private final ComposedData mComposedData;
+        private final NgramContext mNgramContext;
+        private final long mProximityInfoHandle;
+        private final SettingsValuesForSuggestion mSettingsValuesForSuggestion;
+        private final int mSessionId;
+        private final float mWeightForLocale;
+        private final float[] mWeightOfLangModelVsSpatialModel;
+
+        // The session id the worker is running the query with. Guarded by this.
+        private int mRunningSessionId;
+        // Guarded by this.
+        private boolean mIsRunning;
+        // Guarded by this.
+        private boolean mIsCancelled;
+
+        public SuggestionTask(final Dictionary dictionary, final ComposedData composedData,
+                final NgramContext ngramContext, final long proximityInfoHandle,
+                final SettingsValuesForSuggestion settingsValuesForSuggestion,
+                final int sessionId, final float weightForLocale,
+                final float weightOfLangModelVsSpatialModel) {
+            mDictionary = dictionary;
+            mComposedData = composedData;
+            mNgramContext = ngramContext;
+            mProximityInfoHandle = proximityInfoHandle;
+            mSettingsValuesForSuggestion = settingsValuesForSuggestion;
+            mSessionId = sessionId;
+            mWeightForLocale = weightForLocale;
+            // Each task gets its own copy of the weight so that workers don't write to a shared
+            // array.
+            mWeightOfLangModelVsSpatialModel = new float[] { weightOfLangModelVsSpatialModel };
+        }
+
+        @Override
+        public ArrayList<SuggestedWordInfo> call() {
+            final int sessionId = mSessionId + sWorkerSessionIdOffset.get();
+            synchronized (this) {
+                if (mIsCancelled) {
+                    return null;
+                }
+                mRunningSessionId = sessionId;
+                mIsRunning = true;
+            }
+            try {
+                return mDictionary.getSuggestions(mComposedData, mNgramContext,
+                        mProximityInfoHandle, mSettingsValuesForSuggestion, sessionId,
+                        mWeightForLocale, mWeightOfLangModelVsSpatialModel);
+            } finally {
+                synchronized (this) {
+                    mIsRunning = false;
+                }
+            }
+        }
+
+        public synchronized void cancel() {
+            mIsCancelled = true;
+            if (mIsRunning) {
+                mDictionary.cancelSuggestions(mRunningSessionId);
+            }
+        }
+    }
+
+    /**
+     * Fetches suggestions from the dictionaries concurrently. Null dictionaries are skipped.
+     *
+     * The first dictionary is queried on the calling thread and the others are sent to the
+     * executor. The calls are joined with a deadline, and the queries of any dictionary that
+     * misses it are cancelled and their results dropped. Results are merged in the order of the
+     * dictionaries regardless of completion order, so the outcome is the same as
+     * {@link #getSuggestionResultsSerially} for the dictionaries that answered in time.
+     */
+    @UsedForTesting
+    static void getSuggestionResultsInParallel(@Nonnull final Dictionary[] dictionaries,
+            final SuggestionResults suggestionResults, final ComposedData composedData,
+            final NgramContext ngramContext, final long proximityInfoHandle,
+            final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
+            final float weightForLocale, @Nonnull final ExecutorService executor,
+            final long deadlineMillis) {
+        final float[] weightOfLangModelVsSpatialModel =
+                new float[] { Dictionary.NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL };
+        final int dictCount = dictionaries.length;
+        int firstDictIndex = -1;
+        for (int i = 0; i < dictCount; ++i) {
+            if (null != dictionaries[i]) {
+                firstDictIndex = i;
+                break;
+            }
+        }
+        if (firstDictIndex < 0) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        final ArrayList<SuggestedWordInfo>[] dictionarySuggestions = new ArrayList[dictCount];
+        final SuggestionTask[] tasks = new SuggestionTask[dictCount];
+        @SuppressWarnings("unchecked")
+        final Future<ArrayList<SuggestedWordInfo>>[] futures = new Future[dictCount];
+        if (composedData.mIsBatchMode) {
+            // The gesture scoring policy computes the weight of the language model from the
+            // first dictionary's results and the following dictionaries reuse it, so the first
+            // dictionary has to complete before the others are started.
+            dictionarySuggestions[firstDictIndex] = dictionaries[firstDictIndex].getSuggestions(
+                    composedData, ngramContext, proximityInfoHandle,
+                    settingsValuesForSuggestion, sessionId, weightForLocale,
+                    weightOfLangModelVsSpatialModel);
+        }
+        for (int i = firstDictIndex + 1; i < dictCount; ++i) {
+            if (null == dictionaries[i]) continue;
+            // When typing, the weight is not derived from other dictionaries' results, so
+            // starting from NOT_A_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL gives the same scores.
+            tasks[i] = new SuggestionTask(dictionaries[i], composedData, ngramContext,
+                    proximityInfoHandle, settingsValuesForSuggestion, sessionId,
+                    weightForLocale, weightOfLangModelVsSpatialModel[0]);
+            try {
+                futures[i] = executor.submit(tasks[i]);
+            } catch (final RejectedExecutionException e) {
+                Log.w(TAG, "Cannot query " + dictionaries[i].mDictType + " in parallel", e);
+            }
+        }
+        if (!composedData.mIsBatchMode) {
+            dictionarySuggestions[firstDictIndex] = dictionaries[firstDictIndex].getSuggestions(
+                    composedData, ngramContext, proximityInfoHandle,
+                    settingsValuesForSuggestion, sessionId, weightForLocale,
+                    weightOfLangModelVsSpatialModel);
+        }
+        final long deadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        boolean isInterrupted = false;
+        for (int i = firstDictIndex + 1; i < dictCount; ++i) {
+            if (null == futures[i]) continue;
+            if (isInterrupted) {
+                cancelSuggestionTask(tasks[i], futures[i]);
+                continue;
+            }
+            try {
+                dictionarySuggestions[i] = futures[i].get(
+                        Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                // Free the worker and the session for the next request.
+                cancelSuggestionTask(tasks[i], futures[i]);
+                Log.w(TAG, "Dropping suggestions of " + dictionaries[i].mDictType
+                        + " that missed the deadline");
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                isInterrupted = true;
+                cancelSuggestionTask(tasks[i], futures[i]);
+            } catch (final ExecutionException e) {
+                Log.e(TAG, "Failed to get suggestions from " + dictionaries[i].mDictType, e);
+            }
+        }
+        for (int i = 0; i < dictCount; ++i) {
+            addDictionarySuggestions(suggestionResults, dictionarySuggestions[i]);
+        }
+    }
+
+    private static void cancelSuggestionTask(final SuggestionTask task,
+            final Future<ArrayList<SuggestedWordInfo>> future) {
+        // A task that hasn't started won't run, and a running task stops at the next depth level
+        // of the search.
+        future.cancel(false /* mayInterruptIfRunning */);
+        task.cancel();
+    }
+
+    @Override
+    public void cancelSuggestionResults(final int sessionId) {
+        final DictionaryGroup dictionaryGroup = mDictionaryGroup;
+        // Workers of the parallel fan-out use their own session ids.
+        final int workerCount = mUsesParallelSuggestionFanOut ? sNextWorkerIndex.get() : 0;
+        for (final String dictType : ALL_DICTIONARY_TYPES) {
+            final Dictionary dictionary = dictionaryGroup.getDict(dictType);
+            if (null == dictionary) continue;
+            dictionary.cancelSuggestions(sessionId);
+            for (int i = 1; i <= workerCount; ++i) {
+                dictionary.cancelSuggestions(sessionId + i * PARALLEL_SUGGESTION_SESSION_ID_STRIDE);
             }
         }
-        return suggestionResults;
     }
 
     public boolean isValidSpellingWord(final String word) {
@@ -731,6 +981,18 @@ public class DictionaryFacilitatorImpl implements DictionaryFacilitator {
 
     @Override
     public String dump(final Context context) {
-        return "";
+        final StringBuilder builder = new StringBuilder("Dictionary perf stats");
+        final Dictionary mainDict = mDictionaryGroup.getDict(Dictionary.TYPE_MAIN);
+        if (mainDict != null) {
+            builder.append("\n    main: ");
+            builder.append(mainDict.getPerfStats());
+        }
+        for (final DictionaryStats stats : getDictionaryStats(context)) {
+            // Null when the dictionary was too busy to answer in time.
+            if (stats == null) continue;
+            builder.append("\n    ");
+            builder.append(stats.toString());
+        }
+        return builder.toString();
     }
 }
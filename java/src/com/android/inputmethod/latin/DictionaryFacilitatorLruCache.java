@@ -16,33 +16,70 @@
 
 package com.android.inputmethod.latin;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 import android.content.Context;
 import android.util.Log;
 
+import com.android.inputmethod.annotations.UsedForTesting;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+
 /**
  * Cache for dictionary facilitators of multiple locales.
  * This class automatically creates and releases up to 3 facilitator instances using LRU policy.
+ * Facilitators are also evicted when the estimated size of the dictionaries they hold exceeds
+ * the memory budget of the cache.
+ *
+ * Callers must balance each {@link #get(Locale)} with a {@link #release(DictionaryFacilitator)}
+ * once they are done with the facilitator, so that an evicted facilitator is only closed when it
+ * is not in use anymore.
  */
 public class DictionaryFacilitatorLruCache {
     private static final String TAG = "DictionaryFacilitatorLruCache";
     private static final int WAIT_FOR_LOADING_MAIN_DICT_IN_MILLISECONDS = 1000;
     private static final int MAX_RETRY_COUNT_FOR_WAITING_FOR_LOADING_DICT = 5;
+    private static final int MAX_FACILITATOR_COUNT = 3;
+    // The dictionaries are memory mapped, so their file size is a good estimate of the memory
+    // they use once they are paged in.
+    private static final long MEMORY_BUDGET_IN_BYTES = 24 * 1024 * 1024;
+
+    private static final class Entry {
+        public final Locale mLocale;
+        public final DictionaryFacilitator mDictionaryFacilitator;
+        public final long mEstimatedSize;
+        // The number of callers that got this facilitator and have not released it yet.
+        public int mRefCount;
+        public boolean mIsEvicted;
+
+        public Entry(final Locale locale, final DictionaryFacilitator dictionaryFacilitator,
+                final long estimatedSize) {
+            mLocale = locale;
+            mDictionaryFacilitator = dictionaryFacilitator;
+            mEstimatedSize = estimatedSize;
+        }
+    }
 
     private final Context mContext;
     private final String mDictionaryNamePrefix;
     private final Object mLock = new Object();
-    private final DictionaryFacilitator mDictionaryFacilitator;
+    // Ordered from the least recently used to the most recently used.
+    private final LinkedHashMap<Locale, Entry> mEntries =
+            new LinkedHashMap<>(MAX_FACILITATOR_COUNT + 1, 0.75f, true /* accessOrder */);
+    private final HashMap<DictionaryFacilitator, Entry> mEvictedEntriesInUse = new HashMap<>();
     private boolean mUseContactsDictionary;
-    private Locale mLocale;
+    private long mTotalEstimatedSize;
+    private int mHitCount;
+    private int mMissCount;
+    private int mEvictionCount;
 
     public DictionaryFacilitatorLruCache(final Context context, final String dictionaryNamePrefix) {
         mContext = context;
         mDictionaryNamePrefix = dictionaryNamePrefix;
-        mDictionaryFacilitator = DictionaryFacilitatorProvider.getDictionaryFacilitator(
-                true /* isNeededForSpellChecking */);
     }
 
     private static void waitForLoadingMainDictionary(
@@ -64,15 +101,21 @@ public class DictionaryFacilitatorLruCache {
         }
     }
 
-    private void resetDictionariesForLocaleLocked() {
-        // Nothing to do if the locale is null.  This would be the case before any get() calls.
-        if (mLocale != null) {
-          // Note: Given that personalized dictionaries are not used here; we can pass null account.
-          mDictionaryFacilitator.resetDictionaries(mContext, mLocale,
-              mUseContactsDictionary, false /* usePersonalizedDicts */,
-              false /* forceReloadMainDictionary */, null /* account */,
-              mDictionaryNamePrefix, null /* listener */);
+    private void resetDictionariesLocked(final Entry entry) {
+        // Note: Given that personalized dictionaries are not used here; we can pass null account.
+        entry.mDictionaryFacilitator.resetDictionaries(mContext, entry.mLocale,
+                mUseContactsDictionary, false /* usePersonalizedDicts */,
+                false /* forceReloadMainDictionary */, null /* account */,
+                mDictionaryNamePrefix, null /* listener */);
+    }
+
+    private long estimateDictionarySize(final Locale locale) {
+        long size = 0;
+        for (final AssetFileAddress address : BinaryDictionaryGetter.getDictionaryFiles(
+                locale, mContext, false /* notifyDictionaryPackForUpdates */)) {
+            size += address.mLength;
         }
+        return size;
     }
 
     public void setUseContactsDictionary(final boolean useContactsDictionary) {
@@ -82,25 +125,133 @@ public class DictionaryFacilitatorLruCache {
                 return;
             }
             mUseContactsDictionary = useContactsDictionary;
-            resetDictionariesForLocaleLocked();
-            waitForLoadingMainDictionary(mDictionaryFacilitator);
+            for (final Entry entry : mEntries.values()) {
+                resetDictionariesLocked(entry);
+            }
+        }
+    }
+
+    private Entry getOrCreateEntryLocked(final Locale locale) {
+        Entry entry = mEntries.get(locale);
+        if (entry != null) {
+            mHitCount++;
+            return entry;
         }
+        mMissCount++;
+        entry = new Entry(locale, DictionaryFacilitatorProvider.getDictionaryFacilitator(
+                true /* isNeededForSpellChecking */), estimateDictionarySize(locale));
+        resetDictionariesLocked(entry);
+        mEntries.put(locale, entry);
+        mTotalEstimatedSize += entry.mEstimatedSize;
+        evictEntriesLocked();
+        return entry;
     }
 
+    private void evictEntriesLocked() {
+        final Iterator<Entry> iterator = mEntries.values().iterator();
+        // Always keep the most recently used entry, even if it alone exceeds the budget.
+        while (mEntries.size() > 1 && (mEntries.size() > MAX_FACILITATOR_COUNT
+                || mTotalEstimatedSize > MEMORY_BUDGET_IN_BYTES)) {
+            final Entry eldestEntry = iterator.next();
+            iterator.remove();
+            mTotalEstimatedSize -= eldestEntry.mEstimatedSize;
+            mEvictionCount++;
+            eldestEntry.mIsEvicted = true;
+            if (eldestEntry.mRefCount == 0) {
+                eldestEntry.mDictionaryFacilitator.closeDictionaries();
+            } else {
+                // Still in use by another thread. It will be closed when it's released.
+                mEvictedEntriesInUse.put(eldestEntry.mDictionaryFacilitator, eldestEntry);
+            }
+        }
+    }
+
+    /**
+     * Returns the facilitator for the locale, creating it if needed, and waits for its main
+     * dictionary to be loaded. The caller must call {@link #release(DictionaryFacilitator)} when
+     * it's done with the returned facilitator.
+     */
     public DictionaryFacilitator get(final Locale locale) {
+        final Entry entry;
+        synchronized (mLock) {
+            entry = getOrCreateEntryLocked(locale);
+            entry.mRefCount++;
+        }
+        waitForLoadingMainDictionary(entry.mDictionaryFacilitator);
+        return entry.mDictionaryFacilitator;
+    }
+
+    public void release(final DictionaryFacilitator dictionaryFacilitator) {
+        synchronized (mLock) {
+            Entry entry = mEvictedEntriesInUse.get(dictionaryFacilitator);
+            if (entry == null) {
+                entry = mEntries.get(dictionaryFacilitator.getLocale());
+            }
+            if (entry == null || entry.mDictionaryFacilitator != dictionaryFacilitator) {
+                return;
+            }
+            entry.mRefCount--;
+            if (entry.mIsEvicted && entry.mRefCount <= 0) {
+                mEvictedEntriesInUse.remove(dictionaryFacilitator);
+                entry.mDictionaryFacilitator.closeDictionaries();
+            }
+        }
+    }
+
+    /**
+     * Creates the facilitator for the locale in the background if it's not cached yet, so that a
+     * later {@link #get(Locale)} doesn't have to wait for its main dictionary to load.
+     */
+    public void warmUp(final Locale locale) {
         synchronized (mLock) {
-            if (!mDictionaryFacilitator.isForLocale(locale)) {
-                mLocale = locale;
-                resetDictionariesForLocaleLocked();
+            if (mEntries.containsKey(locale)) {
+                return;
             }
-            waitForLoadingMainDictionary(mDictionaryFacilitator);
-            return mDictionaryFacilitator;
         }
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.SPELLING).execute(new Runnable() {
+            @Override
+            public void run() {
+                release(get(locale));
+            }
+        });
     }
 
     public void closeDictionaries() {
         synchronized (mLock) {
-            mDictionaryFacilitator.closeDictionaries();
+            for (final Entry entry : mEntries.values()) {
+                entry.mDictionaryFacilitator.closeDictionaries();
+            }
+            for (final Entry entry : mEvictedEntriesInUse.values()) {
+                entry.mDictionaryFacilitator.closeDictionaries();
+            }
+            mEntries.clear();
+            mEvictedEntriesInUse.clear();
+            mTotalEstimatedSize = 0;
+        }
+    }
+
+    public int getHitCount() {
+        synchronized (mLock) {
+            return mHitCount;
+        }
+    }
+
+    public int getMissCount() {
+        synchronized (mLock) {
+            return mMissCount;
+        }
+    }
+
+    public int getEvictionCount() {
+        synchronized (mLock) {
+            return mEvictionCount;
+        }
+    }
+
+    @UsedForTesting
+    ArrayList<Locale> getCachedLocalesForTesting() {
+        synchronized (mLock) {
+            return new ArrayList<>(mEntries.keySet());
         }
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.os.SystemClock;
+
+import com.android.inputmethod.annotations.UsedForTesting;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Schedules the GC of the dynamic dictionaries, which also decays the entries of the user history
+ * dictionaries, out of the way of the writes that learn from the user input.
+ *
+ * A write that finds that its dictionary would benefit from GC requests maintenance of the
+ * dictionary instead of running GC. The maintenance runs when no maintenance has been requested
+ * for {@link #IDLE_DELAY_MILLIS}, or right away when the keyboard is hidden. It runs in slices of
+ * one dictionary each, so that other dictionary tasks run between them, and a maintenance pass
+ * yields until the next idle time once it has run for {@link #MAX_PASS_MILLIS}.
+ */
+public final class DictionaryMaintenanceScheduler {
+    private static final long IDLE_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long MAX_PASS_MILLIS = 500;
+
+    private static final DictionaryMaintenanceScheduler sInstance =
+            new DictionaryMaintenanceScheduler();
+
+    private final Object mLock = new Object();
+    // The dictionaries to maintain in the order of the requests. Guarded by mLock.
+    private final LinkedHashSet<ExpandableBinaryDictionary> mPendingDictionaries =
+            new LinkedHashSet<>();
+    // The pass that hasn't started yet. Guarded by mLock.
+    private ScheduledFuture<?> mScheduledPass;
+    // Whether a pass is running a slice. Guarded by mLock.
+    private boolean mIsRunningPass;
+    // Guarded by mLock.
+    private long mPassStartTime;
+    // The number of the maintenance slices that have started. Guarded by mLock.
+    private int mMaintenanceCount;
+
+    private final Runnable mPassTask = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (mLock) {
+                mScheduledPass = null;
+                if (mIsRunningPass) {
+                    return;
+                }
+                mIsRunningPass = true;
+                mPassStartTime = SystemClock.uptimeMillis();
+            }
+            runNextSlice();
+        }
+    };
+
+    private final Runnable mSliceFinishedCallback = new Runnable() {
+        @Override
+        public void run() {
+            runNextSlice();
+        }
+    };
+
+    public static DictionaryMaintenanceScheduler getInstance() {
+        return sInstance;
+    }
+
+    @UsedForTesting
+    DictionaryMaintenanceScheduler() {
+    }
+
+    /**
+     * Requests maintenance of the dictionary. Postpones the maintenance that hasn't started yet,
+     * since the user is typing.
+     */
+    public void requestMaintenance(@Nonnull final ExpandableBinaryDictionary dictionary) {
+        synchronized (mLock) {
+            mPendingDictionaries.add(dictionary);
+            if (!mIsRunningPass) {
+                schedulePassLocked(IDLE_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Runs the requested maintenance now, since the keyboard is hidden.
+     */
+    public void onKeyboardHidden() {
+        synchronized (mLock) {
+            if (!mPendingDictionaries.isEmpty() && !mIsRunningPass) {
+                schedulePassLocked(0 /* delay */);
+            }
+        }
+    }
+
+    @UsedForTesting
+    boolean hasPendingMaintenance() {
+        synchronized (mLock) {
+            return !mPendingDictionaries.isEmpty() || mIsRunningPass;
+        }
+    }
+
+    @UsedForTesting
+    int getMaintenanceCount() {
+        synchronized (mLock) {
+            return mMaintenanceCount;
+        }
+    }
+
+    private void schedulePassLocked(final long delayInMillis) {
+        if (mScheduledPass != null) {
+            mScheduledPass.cancel(false /* mayInterruptIfRunning */);
+        }
+        mScheduledPass = ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD)
+                .schedule(mPassTask, delayInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void runNextSlice() {
+        final ExpandableBinaryDictionary dictionary;
+        synchronized (mLock) {
+            final Iterator<ExpandableBinaryDictionary> iterator = mPendingDictionaries.iterator();
+            if (!iterator.hasNext()) {
+                mIsRunningPass = false;
+                return;
+            }
+            if (SystemClock.uptimeMillis() - mPassStartTime >= MAX_PASS_MILLIS) {
+                // The remaining dictionaries wait for the next idle time.
+                mIsRunningPass = false;
+                schedulePassLocked(IDLE_DELAY_MILLIS);
+                return;
+            }
+            dictionary = iterator.next();
+            iterator.remove();
+            mMaintenanceCount++;
+        }
+        dictionary.runMaintenance(mSliceFinishedCallback);
+    }
+}
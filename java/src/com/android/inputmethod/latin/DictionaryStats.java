@@ -32,6 +32,16 @@ public class DictionaryStats {
     public final long mDictFileSize;
     public final int mContentVersion;
     public final int mWordCount;
+    // The number of read operations, the number of them that found the dictionary locked by a
+    // write operation, the number of them that were served by a snapshot instead, and the number
+    // of them that gave up.
+    public final int mReadCount;
+    public final int mContendedReadCount;
+    public final int mSnapshotReadCount;
+    public final int mMissedReadCount;
+    // The counters and timings recorded by native code, or an empty string.
+    @Nonnull
+    public final String mPerfStats;
 
     public DictionaryStats(
             @Nonnull final Locale locale,
@@ -39,12 +49,46 @@ public class DictionaryStats {
             @Nullable final String dictFileName,
             @Nullable final File dictFile,
             final int contentVersion) {
+        this(locale, dictType, dictFileName, dictFile, contentVersion, 0 /* readCount */,
+                0 /* contendedReadCount */, 0 /* snapshotReadCount */, 0 /* missedReadCount */);
+    }
+
+    public DictionaryStats(
+            @Nonnull final Locale locale,
+            @Nonnull final String dictType,
+            @Nullable final String dictFileName,
+            @Nullable final File dictFile,
+            final int contentVersion,
+            final int readCount,
+            final int contendedReadCount,
+            final int snapshotReadCount,
+            final int missedReadCount) {
+        this(locale, dictType, dictFileName, dictFile, contentVersion, readCount,
+                contendedReadCount, snapshotReadCount, missedReadCount, "" /* perfStats */);
+    }
+
+    public DictionaryStats(
+            @Nonnull final Locale locale,
+            @Nonnull final String dictType,
+            @Nullable final String dictFileName,
+            @Nullable final File dictFile,
+            final int contentVersion,
+            final int readCount,
+            final int contendedReadCount,
+            final int snapshotReadCount,
+            final int missedReadCount,
+            @Nonnull final String perfStats) {
         mLocale = locale;
         mDictType = dictType;
         mDictFileSize = (dictFile == null || !dictFile.exists()) ? 0 : dictFile.length();
         mDictFileName = dictFileName;
         mContentVersion = contentVersion;
         mWordCount = -1;
+        mReadCount = readCount;
+        mContendedReadCount = contendedReadCount;
+        mSnapshotReadCount = snapshotReadCount;
+        mMissedReadCount = missedReadCount;
+        mPerfStats = perfStats;
     }
 
     public DictionaryStats(
@@ -57,6 +101,11 @@ public class DictionaryStats {
         mDictFileName = null;
         mContentVersion = 0;
         mWordCount = wordCount;
+        mReadCount = 0;
+        mContendedReadCount = 0;
+        mSnapshotReadCount = 0;
+        mMissedReadCount = 0;
+        mPerfStats = "";
     }
 
     public String getFileSizeString() {
@@ -89,6 +138,20 @@ public class DictionaryStats {
             builder.append(" / ");
             builder.append(getFileSizeString());
         }
+        if (mReadCount > 0) {
+            builder.append(" / reads: ");
+            builder.append(mReadCount);
+            builder.append(", contended: ");
+            builder.append(mContendedReadCount);
+            builder.append(", from snapshot: ");
+            builder.append(mSnapshotReadCount);
+            builder.append(", missed: ");
+            builder.append(mMissedReadCount);
+        }
+        if (!mPerfStats.isEmpty()) {
+            builder.append(" / perf: ");
+            builder.append(mPerfStats);
+        }
         return builder.toString();
     }
 
@@ -17,6 +17,7 @@
 package com.android.inputmethod.latin;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.util.Log;
 
 import com.android.inputmethod.annotations.UsedForTesting;
@@ -32,6 +33,8 @@ import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
 import com.android.inputmethod.latin.utils.AsyncResultHolder;
 import com.android.inputmethod.latin.utils.CombinedFormatUtils;
 import com.android.inputmethod.latin.utils.ExecutorUtils;
+import com.android.inputmethod.latin.utils.KeyedSerialExecutor;
+import com.android.inputmethod.latin.utils.KeyedSerialExecutor.TimingHistogram;
 import com.android.inputmethod.latin.utils.WordInputEventForPersonalization;
 
 import java.io.File;
@@ -40,8 +43,10 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -67,6 +72,11 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     private static final int TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS = 100;
 
+    // Input events that are buffered by addInputEventToBatch() are applied when this many of them
+    // are pending, or when the oldest of them has been waiting for this long.
+    private static final int MAX_PENDING_INPUT_EVENT_COUNT = 32;
+    private static final long PENDING_INPUT_EVENTS_FLUSH_DELAY_IN_MILLISECONDS = 5000;
+
     /**
      * The maximum length of a word in this dictionary.
      */
@@ -102,13 +112,50 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     /** Indicates whether the current dictionary needs to be recreated. */
     private boolean mNeedsToRecreate;
 
+    private final Object mPendingInputEventsLock = new Object();
+    // Guarded by mPendingInputEventsLock.
+    private ArrayList<WordInputEventForPersonalization> mPendingInputEvents = new ArrayList<>();
+    // Guarded by mPendingInputEventsLock.
+    private ScheduledFuture<?> mPendingInputEventsFlushFuture;
+
     private final ReentrantReadWriteLock mLock;
 
+    /**
+     * A read-only copy of the binary dictionary, so that reads that can't get {@link #mLock}
+     * because a write holds it don't have to wait for the write or fail. It is refreshed after
+     * each write, so it only lacks the changes of the write in progress. Replacing it waits for
+     * the reads that use it through {@link #mSnapshotLock}, but reading the field doesn't need
+     * the lock.
+     */
+    private volatile BinaryDictionary mSnapshot;
+    private final ReentrantReadWriteLock mSnapshotLock = new ReentrantReadWriteLock();
+    // The file of mSnapshot. Only changed by the tasks of this dictionary, which run one at a time.
+    private volatile File mSnapshotFile;
+    // The number of write tasks that have been submitted and haven't finished. A snapshot refresh
+    // is skipped when a later write is pending, since the refresh after that write covers it.
+    private final AtomicInteger mPendingWriteTaskCount = new AtomicInteger();
+
+    // Counters for read operations and how they got access to a dictionary.
+    private final AtomicInteger mReadCount = new AtomicInteger();
+    private final AtomicInteger mContendedReadCount = new AtomicInteger();
+    private final AtomicInteger mSnapshotReadCount = new AtomicInteger();
+    private final AtomicInteger mMissedReadCount = new AtomicInteger();
+    // The number of snapshots that have been published.
+    private final AtomicInteger mPublishedSnapshotCount = new AtomicInteger();
+
+    // The durations of GC, and the number of GC that writes had to run before they could write.
+    private final TimingHistogram mGCTimeHistogram = new TimingHistogram();
+    private final AtomicInteger mInlineGCCount = new AtomicInteger();
+
     private Map<String, String> mAdditionalAttributeMap = null;
 
     /* A extension for a binary dictionary file. */
     protected static final String DICT_FILE_EXTENSION = ".dict";
 
+    /* Suffixes for the files of the snapshot of a binary dictionary. A new snapshot is written
+     * to the file that the current one doesn't use. */
+    private static final String[] SNAPSHOT_FILE_SUFFIXES = { ".snapshot0", ".snapshot1" };
+
     /**
      * Abstract method for loading initial contents of a given dictionary.
      */
@@ -163,11 +210,51 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     }
 
     private void asyncExecuteTaskWithWriteLock(final Runnable task) {
-        asyncExecuteTaskWithLock(mLock.writeLock(), task);
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_NORMAL, task);
+    }
+
+    private void asyncExecuteTaskWithWriteLock(final int priority, final Runnable task) {
+        // Buffered input events must be applied before any later write.
+        flushPendingInputEvents();
+        asyncExecuteWriteTask(priority, task);
+    }
+
+    /**
+     * Runs the task with the write lock held, and then refreshes the snapshot from the read lock,
+     * so that the reads that come during the next write see the changes of this one.
+     */
+    private void asyncExecuteWriteTask(final int priority, final Runnable task) {
+        mPendingWriteTaskCount.incrementAndGet();
+        asyncExecuteTaskWithLock(mLock.writeLock(), priority, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    mPendingWriteTaskCount.decrementAndGet();
+                }
+            }
+        });
+        asyncExecuteTaskWithLock(mLock.readLock(), KeyedSerialExecutor.PRIORITY_LOW,
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        if (mPendingWriteTaskCount.get() == 0) {
+                            refreshSnapshotLocked();
+                        }
+                    }
+                });
+    }
+
+    private void asyncExecuteTaskWithLock(final Lock lock, final Runnable task) {
+        asyncExecuteTaskWithLock(lock, KeyedSerialExecutor.PRIORITY_NORMAL, task);
     }
 
-    private static void asyncExecuteTaskWithLock(final Lock lock, final Runnable task) {
-        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).execute(new Runnable() {
+    // Tasks of the same dictionary file run in order. Tasks of other dictionaries may run in
+    // parallel, so that a long rebuild of one dictionary doesn't delay the others.
+    private void asyncExecuteTaskWithLock(final Lock lock, final int priority,
+            final Runnable task) {
+        ExecutorUtils.executeSerially(mDictFile.getAbsolutePath(), priority, new Runnable() {
             @Override
             public void run() {
                 lock.lock();
@@ -249,6 +336,8 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         asyncExecuteTaskWithWriteLock(new Runnable() {
             @Override
             public void run() {
+                // The cleared contents must not be read from the snapshot meanwhile.
+                discardSnapshot();
                 removeBinaryDictionaryLocked();
                 createOnMemoryBinaryDictionaryLocked();
             }
@@ -259,7 +348,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
      * Check whether GC is needed and run GC if required.
      */
     public void runGCIfRequired(final boolean mindsBlockByGC) {
-        asyncExecuteTaskWithWriteLock(new Runnable() {
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_LOW, new Runnable() {
             @Override
             public void run() {
                 if (getBinaryDictionary() == null) {
@@ -272,7 +361,120 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
 
     protected void runGCIfRequiredLocked(final boolean mindsBlockByGC) {
         if (mBinaryDictionary.needsToRunGC(mindsBlockByGC)) {
-            mBinaryDictionary.flushWithGC();
+            runGCLocked();
+        }
+    }
+
+    private void runGCLocked() {
+        final long startTime = SystemClock.uptimeMillis();
+        mBinaryDictionary.flushWithGC();
+        final long gcTime = SystemClock.uptimeMillis() - startTime;
+        mGCTimeHistogram.add(gcTime);
+        Log.i(TAG, "GC of " + mDictName + " took " + gcTime + " ms.");
+    }
+
+    /**
+     * Called with the write lock held before a write that learns from the user input. Leaves GC
+     * to {@link DictionaryMaintenanceScheduler}, unless the dictionary is so full that the write
+     * needs GC to succeed.
+     */
+    private void prepareForWriteLocked() {
+        if (mBinaryDictionary.needsToRunGC(true /* mindsBlockByGC */)) {
+            // The maintenance hasn't caught up with the writes.
+            mInlineGCCount.incrementAndGet();
+            runGCLocked();
+        } else if (mBinaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
+            DictionaryMaintenanceScheduler.getInstance().requestMaintenance(this);
+        }
+    }
+
+    /**
+     * Runs GC, which also decays the entries of a decaying dictionary, if the dictionary would
+     * benefit from it. Called by {@link DictionaryMaintenanceScheduler}.
+     *
+     * @param onFinished run when the maintenance is done or has been skipped.
+     */
+    void runMaintenance(@Nonnull final Runnable onFinished) {
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_LOW, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (getBinaryDictionary() == null
+                            || !mBinaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
+                        return;
+                    }
+                    runGCLocked();
+                } finally {
+                    onFinished.run();
+                }
+            }
+        });
+    }
+
+    @UsedForTesting
+    @Nullable
+    File getSnapshotFile() {
+        return mSnapshotFile;
+    }
+
+    /**
+     * Replaces the snapshot with a copy of the current binary dictionary. Runs with the read lock
+     * held, so that the reads that don't find the snapshot can still use the binary dictionary
+     * while it is written.
+     */
+    private void refreshSnapshotLocked() {
+        final BinaryDictionary binaryDictionary = mBinaryDictionary;
+        if (binaryDictionary == null || !binaryDictionary.isValidDictionary()) {
+            discardSnapshot();
+            return;
+        }
+        final String snapshotFileSuffix = SNAPSHOT_FILE_SUFFIXES[
+                (mSnapshotFile == null || mSnapshotFile.getName().endsWith(
+                        SNAPSHOT_FILE_SUFFIXES[1])) ? 0 : 1];
+        final File snapshotFile = new File(mDictFile.getAbsolutePath() + snapshotFileSuffix);
+        if (snapshotFile.exists() && !FileUtils.deleteRecursively(snapshotFile)) {
+            Log.e(TAG, "Can't remove a stale snapshot: " + snapshotFile.getName());
+            return;
+        }
+        if (!binaryDictionary.flushTo(snapshotFile.getAbsolutePath())) {
+            Log.e(TAG, "Can't write a snapshot of " + mDictName);
+            FileUtils.deleteRecursively(snapshotFile);
+            return;
+        }
+        final BinaryDictionary snapshot = new BinaryDictionary(
+                snapshotFile.getAbsolutePath(), 0 /* offset */, snapshotFile.length(),
+                true /* useFullEditDistance */, mLocale, mDictType, false /* isUpdatable */);
+        if (!snapshot.isValidDictionary()) {
+            snapshot.close();
+            FileUtils.deleteRecursively(snapshotFile);
+            return;
+        }
+        replaceSnapshot(snapshot, snapshotFile);
+        mPublishedSnapshotCount.incrementAndGet();
+    }
+
+    private void discardSnapshot() {
+        replaceSnapshot(null /* snapshot */, null /* snapshotFile */);
+    }
+
+    private void replaceSnapshot(@Nullable final BinaryDictionary snapshot,
+            @Nullable final File snapshotFile) {
+        final BinaryDictionary oldSnapshot = mSnapshot;
+        final File oldSnapshotFile = mSnapshotFile;
+        // Waits for the reads that are using the old snapshot.
+        mSnapshotLock.writeLock().lock();
+        try {
+            mSnapshot = snapshot;
+            mSnapshotFile = snapshotFile;
+        } finally {
+            mSnapshotLock.writeLock().unlock();
+        }
+        if (oldSnapshot == null) {
+            return;
+        }
+        oldSnapshot.close();
+        if (!FileUtils.deleteRecursively(oldSnapshotFile)) {
+            Log.e(TAG, "Can't remove a snapshot: " + oldSnapshotFile.getName());
         }
     }
 
@@ -284,11 +486,11 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                 if (getBinaryDictionary() == null) {
                     return;
                 }
-                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                prepareForWriteLocked();
                 updateTask.run();
             }
         };
-        asyncExecuteTaskWithWriteLock(task);
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_HIGH, task);
     }
 
     /**
@@ -317,14 +519,14 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
      */
     public void removeUnigramEntryDynamically(final String word) {
         reloadDictionaryIfRequired();
-        asyncExecuteTaskWithWriteLock(new Runnable() {
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_HIGH, new Runnable() {
             @Override
             public void run() {
                 final BinaryDictionary binaryDictionary = getBinaryDictionary();
                 if (binaryDictionary == null) {
                     return;
                 }
-                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                prepareForWriteLocked();
                 if (!binaryDictionary.removeUnigramEntry(word)) {
                     if (DEBUG) {
                         Log.i(TAG, "Cannot remove unigram entry: " + word);
@@ -340,13 +542,13 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
     public void addNgramEntry(@Nonnull final NgramContext ngramContext, final String word,
             final int frequency, final int timestamp) {
         reloadDictionaryIfRequired();
-        asyncExecuteTaskWithWriteLock(new Runnable() {
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_HIGH, new Runnable() {
             @Override
             public void run() {
                 if (getBinaryDictionary() == null) {
                     return;
                 }
-                runGCIfRequiredLocked(true /* mindsBlockByGC */);
+                prepareForWriteLocked();
                 addNgramEntryLocked(ngramContext, word, frequency, timestamp);
             }
         });
@@ -362,6 +564,30 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         }
     }
 
+    /**
+     * Dynamically remove the n-gram entry from the dictionary.
+     */
+    public void removeNgramEntryDynamically(@Nonnull final NgramContext ngramContext,
+            final String word) {
+        reloadDictionaryIfRequired();
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_HIGH, new Runnable() {
+            @Override
+            public void run() {
+                final BinaryDictionary binaryDictionary = getBinaryDictionary();
+                if (binaryDictionary == null) {
+                    return;
+                }
+                prepareForWriteLocked();
+                if (!binaryDictionary.removeNgramEntry(ngramContext, word)) {
+                    if (DEBUG) {
+                        Log.i(TAG, "Cannot remove n-gram entry.");
+                        Log.i(TAG, "  NgramContext: " + ngramContext + ", word: " + word);
+                    }
+                }
+            }
+        });
+    }
+
     /**
      * Update dictionary for the word with the ngramContext.
      */
@@ -385,6 +611,93 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         });
     }
 
+    /**
+     * Buffers an input event of the word with the ngramContext, to be applied with other buffered
+     * events in a single write operation. This is cheaper than
+     * {@link #updateEntriesForWord(NgramContext, String, boolean, int, int)} for each word, but
+     * the word is not visible to reads until the events are flushed.
+     */
+    public void addInputEventToBatch(@Nonnull final NgramContext ngramContext, final String word,
+            final boolean isValidWord, final int timestamp) {
+        final WordInputEventForPersonalization inputEvent =
+                new WordInputEventForPersonalization(word, ngramContext, isValidWord, timestamp);
+        final boolean needsToFlush;
+        synchronized (mPendingInputEventsLock) {
+            mPendingInputEvents.add(inputEvent);
+            needsToFlush = mPendingInputEvents.size() >= MAX_PENDING_INPUT_EVENT_COUNT;
+            if (!needsToFlush && mPendingInputEventsFlushFuture == null) {
+                mPendingInputEventsFlushFuture = ExecutorUtils.getBackgroundExecutor(
+                        ExecutorUtils.KEYBOARD).schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                flushPendingInputEvents();
+                            }
+                        }, PENDING_INPUT_EVENTS_FLUSH_DELAY_IN_MILLISECONDS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        if (needsToFlush) {
+            flushPendingInputEvents();
+        }
+    }
+
+    /**
+     * Applies the input events buffered by
+     * {@link #addInputEventToBatch(NgramContext, String, boolean, int)}.
+     */
+    public void flushPendingInputEvents() {
+        final ArrayList<WordInputEventForPersonalization> inputEvents;
+        synchronized (mPendingInputEventsLock) {
+            if (mPendingInputEventsFlushFuture != null) {
+                mPendingInputEventsFlushFuture.cancel(false /* mayInterruptIfRunning */);
+                mPendingInputEventsFlushFuture = null;
+            }
+            if (mPendingInputEvents.isEmpty()) {
+                return;
+            }
+            inputEvents = mPendingInputEvents;
+            mPendingInputEvents = new ArrayList<>();
+            // Queued while holding mPendingInputEventsLock so that batches are applied in order.
+            reloadDictionaryIfRequired();
+            final Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    final BinaryDictionary binaryDictionary = getBinaryDictionary();
+                    if (binaryDictionary == null) {
+                        return;
+                    }
+                    updateEntriesForInputEventsLocked(binaryDictionary, inputEvents);
+                }
+            };
+            asyncExecuteWriteTask(KeyedSerialExecutor.PRIORITY_HIGH, task);
+        }
+    }
+
+    /**
+     * Applies the input events in chunks. The dictionary may need GC to take the events of a
+     * large batch, and {@link #prepareForWriteLocked} runs it between the chunks, so that it is
+     * timed and counted as any inline GC is.
+     */
+    private void updateEntriesForInputEventsLocked(
+            @Nonnull final BinaryDictionary binaryDictionary,
+            @Nonnull final ArrayList<WordInputEventForPersonalization> inputEvents) {
+        final WordInputEventForPersonalization[] inputEventArray =
+                inputEvents.toArray(new WordInputEventForPersonalization[inputEvents.size()]);
+        int processedEventCount = 0;
+        while (processedEventCount < inputEventArray.length) {
+            prepareForWriteLocked();
+            processedEventCount = binaryDictionary.updateEntriesForInputEvents(inputEventArray,
+                    processedEventCount);
+        }
+    }
+
+    @UsedForTesting
+    public int getPendingInputEventCountForTests() {
+        synchronized (mPendingInputEventsLock) {
+            return mPendingInputEvents.size();
+        }
+    }
+
     /**
      * Used by Sketch.
      * {@see https://cs.corp.google.com/#android/vendor/unbundled_google/packages/LatinIMEGoogle/tools/sketch/ime-simulator/src/com/android/inputmethod/sketch/imesimulator/ImeSimulator.java&q=updateEntriesForInputEventsCallback&l=286}
@@ -413,9 +726,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                     if (binaryDictionary == null) {
                         return;
                     }
-                    binaryDictionary.updateEntriesForInputEvents(
-                            inputEvents.toArray(
-                                    new WordInputEventForPersonalization[inputEvents.size()]));
+                    updateEntriesForInputEventsLocked(binaryDictionary, inputEvents);
                 } finally {
                     if (callback != null) {
                         callback.onFinished();
@@ -425,90 +736,124 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         });
     }
 
+    private interface ReadTask<T> {
+        T read(@Nonnull final BinaryDictionary binaryDictionary);
+    }
+
+    /**
+     * Runs a read operation, avoiding to wait for write operations when possible.
+     *
+     * The read runs on the binary dictionary if {@link #mLock} is free. Otherwise, a write
+     * operation is running, and the read runs on the snapshot. The read only waits for the lock
+     * when there is no snapshot yet.
+     */
+    private <T> T read(@Nonnull final ReadTask<T> task, final T defaultValue,
+            final String operationName) {
+        mReadCount.incrementAndGet();
+        if (mLock.readLock().tryLock()) {
+            try {
+                return readLocked(task, defaultValue);
+            } finally {
+                mLock.readLock().unlock();
+            }
+        }
+        mContendedReadCount.incrementAndGet();
+        if (mSnapshotLock.readLock().tryLock()) {
+            try {
+                final BinaryDictionary snapshot = mSnapshot;
+                if (snapshot != null) {
+                    mSnapshotReadCount.incrementAndGet();
+                    return task.read(snapshot);
+                }
+            } finally {
+                mSnapshotLock.readLock().unlock();
+            }
+        }
+        boolean lockAcquired = false;
+        try {
+            lockAcquired = mLock.readLock().tryLock(
+                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+            if (lockAcquired) {
+                return readLocked(task, defaultValue);
+            }
+        } catch (final InterruptedException e) {
+            Log.e(TAG, "Interrupted tryLock() in " + operationName + "().", e);
+        } finally {
+            if (lockAcquired) {
+                mLock.readLock().unlock();
+            }
+        }
+        mMissedReadCount.incrementAndGet();
+        return defaultValue;
+    }
+
+    private <T> T readLocked(@Nonnull final ReadTask<T> task, final T defaultValue) {
+        if (mBinaryDictionary == null) {
+            return defaultValue;
+        }
+        return task.read(mBinaryDictionary);
+    }
+
     @Override
     public ArrayList<SuggestedWordInfo> getSuggestions(final ComposedData composedData,
             final NgramContext ngramContext, final long proximityInfoHandle,
             final SettingsValuesForSuggestion settingsValuesForSuggestion, final int sessionId,
             final float weightForLocale, final float[] inOutWeightOfLangModelVsSpatialModel) {
         reloadDictionaryIfRequired();
-        boolean lockAcquired = false;
-        try {
-            lockAcquired = mLock.readLock().tryLock(
-                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
-            if (lockAcquired) {
-                if (mBinaryDictionary == null) {
-                    return null;
-                }
+        return read(new ReadTask<ArrayList<SuggestedWordInfo>>() {
+            @Override
+            public ArrayList<SuggestedWordInfo> read(
+                    @Nonnull final BinaryDictionary binaryDictionary) {
                 final ArrayList<SuggestedWordInfo> suggestions =
-                        mBinaryDictionary.getSuggestions(composedData, ngramContext,
+                        binaryDictionary.getSuggestions(composedData, ngramContext,
                                 proximityInfoHandle, settingsValuesForSuggestion, sessionId,
                                 weightForLocale, inOutWeightOfLangModelVsSpatialModel);
-                if (mBinaryDictionary.isCorrupted()) {
+                // A snapshot is never corrupted by writes, so only check the live dictionary.
+                if (binaryDictionary == mBinaryDictionary && binaryDictionary.isCorrupted()) {
                     Log.i(TAG, "Dictionary (" + mDictName +") is corrupted. "
                             + "Remove and regenerate it.");
                     removeBinaryDictionary();
                 }
                 return suggestions;
             }
-        } catch (final InterruptedException e) {
-            Log.e(TAG, "Interrupted tryLock() in getSuggestionsWithSessionId().", e);
-        } finally {
-            if (lockAcquired) {
-                mLock.readLock().unlock();
-            }
+        }, null /* defaultValue */, "getSuggestions");
+    }
+
+    @Override
+    public void cancelSuggestions(final int sessionId) {
+        // Doesn't take mLock: canceling must not wait for the running read to finish. Closing
+        // the binary dictionary is synchronized with canceling its sessions.
+        final BinaryDictionary binaryDictionary = mBinaryDictionary;
+        if (binaryDictionary != null) {
+            binaryDictionary.cancelSuggestions(sessionId);
+        }
+        // Doesn't take mSnapshotLock either, for the same reason.
+        final BinaryDictionary snapshot = mSnapshot;
+        if (snapshot != null) {
+            snapshot.cancelSuggestions(sessionId);
         }
-        return null;
     }
 
     @Override
     public boolean isInDictionary(final String word) {
         reloadDictionaryIfRequired();
-        boolean lockAcquired = false;
-        try {
-            lockAcquired = mLock.readLock().tryLock(
-                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
-            if (lockAcquired) {
-                if (mBinaryDictionary == null) {
-                    return false;
-                }
-                return isInDictionaryLocked(word);
-            }
-        } catch (final InterruptedException e) {
-            Log.e(TAG, "Interrupted tryLock() in isInDictionary().", e);
-        } finally {
-            if (lockAcquired) {
-                mLock.readLock().unlock();
+        return read(new ReadTask<Boolean>() {
+            @Override
+            public Boolean read(@Nonnull final BinaryDictionary binaryDictionary) {
+                return binaryDictionary.isInDictionary(word);
             }
-        }
-        return false;
-    }
-
-    protected boolean isInDictionaryLocked(final String word) {
-        if (mBinaryDictionary == null) return false;
-        return mBinaryDictionary.isInDictionary(word);
+        }, false /* defaultValue */, "isInDictionary");
     }
 
     @Override
     public int getMaxFrequencyOfExactMatches(final String word) {
         reloadDictionaryIfRequired();
-        boolean lockAcquired = false;
-        try {
-            lockAcquired = mLock.readLock().tryLock(
-                    TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
-            if (lockAcquired) {
-                if (mBinaryDictionary == null) {
-                    return NOT_A_PROBABILITY;
-                }
-                return mBinaryDictionary.getMaxFrequencyOfExactMatches(word);
-            }
-        } catch (final InterruptedException e) {
-            Log.e(TAG, "Interrupted tryLock() in getMaxFrequencyOfExactMatches().", e);
-        } finally {
-            if (lockAcquired) {
-                mLock.readLock().unlock();
+        return read(new ReadTask<Integer>() {
+            @Override
+            public Integer read(@Nonnull final BinaryDictionary binaryDictionary) {
+                return binaryDictionary.getMaxFrequencyOfExactMatches(word);
             }
-        }
-        return NOT_A_PROBABILITY;
+        }, NOT_A_PROBABILITY /* defaultValue */, "getMaxFrequencyOfExactMatches");
     }
 
 
@@ -596,7 +941,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
             return;
         }
         final File dictFile = mDictFile;
-        asyncExecuteTaskWithWriteLock(new Runnable() {
+        asyncExecuteTaskWithWriteLock(KeyedSerialExecutor.PRIORITY_LOW, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -638,7 +983,7 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
                     return;
                 }
                 if (binaryDictionary.needsToRunGC(false /* mindsBlockByGC */)) {
-                    binaryDictionary.flushWithGC();
+                    runGCLocked();
                 } else {
                     binaryDictionary.flush();
                 }
@@ -655,12 +1000,31 @@ abstract public class ExpandableBinaryDictionary extends Dictionary {
         asyncExecuteTaskWithLock(mLock.readLock(), new Runnable() {
             @Override
             public void run() {
-                result.set(new DictionaryStats(mLocale, dictName, dictName, dictFile, 0));
+                final BinaryDictionary binaryDictionary = getBinaryDictionary();
+                final String perfStats =
+                        (binaryDictionary == null) ? "" : binaryDictionary.getPerfStats();
+                result.set(new DictionaryStats(mLocale, dictName, dictName, dictFile, 0,
+                        mReadCount.get(), mContendedReadCount.get(), mSnapshotReadCount.get(),
+                        mMissedReadCount.get(), perfStats.isEmpty() ? getGCStats()
+                                : perfStats + ", " + getGCStats()));
             }
         });
         return result.get(null /* defaultValue */, TIMEOUT_FOR_READ_OPS_IN_MILLISECONDS);
     }
 
+    private String getGCStats() {
+        return "GC: " + mGCTimeHistogram.getTotalCount() + " (inline: " + mInlineGCCount.get()
+                + ") " + mGCTimeHistogram + ", snapshots: " + mPublishedSnapshotCount.get();
+    }
+
+    /**
+     * Runs the operation with the write lock held, as GC and recreating the dictionary do.
+     */
+    @UsedForTesting
+    void runLongWriteForTests(@Nonnull final Runnable operation) {
+        asyncExecuteTaskWithWriteLock(operation);
+    }
+
     @UsedForTesting
     public void waitAllTasksForTests() {
         final CountDownLatch countDownLatch = new CountDownLatch(1);
@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.text.TextUtils;
+
+import com.android.inputmethod.latin.common.LocaleUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable index of the words and shortcuts of the personal dictionary.
+ *
+ * The entries are partitioned by the locale of the dictionary, and each partition keeps its words
+ * and shortcuts in sorted arrays that are searched by binary search. The partitions that apply to
+ * an input locale are computed on the first lookup for the input locale, so that
+ * {@link #isValidWord} and {@link #expandShortcut} don't allocate.
+ */
+final class PersonalDictionaryIndex {
+    private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final Partition[] EMPTY_PARTITION_ARRAY = new Partition[0];
+
+    private static final class Partition {
+        public final Locale mLocale;
+        public final String mLocaleString;
+        // The lowercased words in sorted order, and the raw words in the same order.
+        public final String[] mWords;
+        public final String[] mRawWords;
+        // The shortcuts in sorted order, and the raw words they expand to in the same order.
+        public final String[] mShortcuts;
+        public final String[] mExpansions;
+
+        public Partition(@Nonnull final Locale locale,
+                @Nullable final HashMap<String, String> rawWordsByWord,
+                @Nullable final HashMap<String, String> expansionsByShortcut) {
+            mLocale = locale;
+            mLocaleString = locale.toString();
+            mWords = getSortedKeys(rawWordsByWord);
+            mRawWords = getValues(rawWordsByWord, mWords);
+            mShortcuts = getSortedKeys(expansionsByShortcut);
+            mExpansions = getValues(expansionsByShortcut, mShortcuts);
+        }
+
+        private static String[] getSortedKeys(@Nullable final HashMap<String, String> map) {
+            if (map == null) {
+                return EMPTY_STRING_ARRAY;
+            }
+            final String[] keys = map.keySet().toArray(new String[map.size()]);
+            Arrays.sort(keys);
+            return keys;
+        }
+
+        private static String[] getValues(@Nullable final HashMap<String, String> map,
+                @Nonnull final String[] keys) {
+            final String[] values = new String[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                values[i] = map.get(keys[i]);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * The partitions that apply to an input locale.
+     */
+    private static final class LocaleView {
+        // The partitions whose locale matches the input locale, for words.
+        public final Partition[] mWordPartitions;
+        // The partitions for the input locale, its language and any locale, in this order, for
+        // shortcuts.
+        public final Partition[] mShortcutPartitions;
+        // The sets that are returned for the input locale, created on first use.
+        public volatile Set<String> mWords;
+        public volatile Set<String> mShortcuts;
+
+        public LocaleView(@Nonnull final Partition[] wordPartitions,
+                @Nonnull final Partition[] shortcutPartitions) {
+            mWordPartitions = wordPartitions;
+            mShortcutPartitions = shortcutPartitions;
+        }
+    }
+
+    private final Partition[] mPartitions;
+    private final HashMap<Locale, Partition> mPartitionsByLocale = new HashMap<>();
+    private final ConcurrentHashMap<Locale, LocaleView> mLocaleViews = new ConcurrentHashMap<>();
+    private final int mWordCount;
+    private final int mShortcutCount;
+
+    private PersonalDictionaryIndex(@Nonnull final Partition[] partitions, final int wordCount) {
+        mPartitions = partitions;
+        int shortcutCount = 0;
+        for (final Partition partition : partitions) {
+            mPartitionsByLocale.put(partition.mLocale, partition);
+            shortcutCount += partition.mShortcuts.length;
+        }
+        mWordCount = wordCount;
+        mShortcutCount = shortcutCount;
+    }
+
+    /**
+     * Returns the number of distinct lowercased words of all the locales.
+     */
+    public int getWordCount() {
+        return mWordCount;
+    }
+
+    /**
+     * Returns the number of shortcuts of all the locales.
+     */
+    public int getShortcutCount() {
+        return mShortcutCount;
+    }
+
+    @Nonnull
+    private LocaleView getLocaleView(@Nonnull final Locale inputLocale) {
+        final LocaleView cachedView = mLocaleViews.get(inputLocale);
+        if (cachedView != null) {
+            return cachedView;
+        }
+        final String inputLocaleString = inputLocale.toString();
+        final ArrayList<Partition> wordPartitions = new ArrayList<>();
+        for (final Partition partition : mPartitions) {
+            if (partition.mWords.length > 0 && LocaleUtils.isMatch(
+                    LocaleUtils.getMatchLevel(partition.mLocaleString, inputLocaleString))) {
+                wordPartitions.add(partition);
+            }
+        }
+        final ArrayList<Partition> shortcutPartitions = new ArrayList<>();
+        if (!TextUtils.isEmpty(inputLocale.getCountry())) {
+            // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
+            addShortcutPartition(shortcutPartitions, inputLocale);
+        }
+        // Next look for the language-specific shortcut: en, fr, etc.
+        addShortcutPartition(shortcutPartitions,
+                LocaleUtils.constructLocaleFromString(inputLocale.getLanguage()));
+        // If all else fails, look for a global shortcut.
+        addShortcutPartition(shortcutPartitions, PersonalDictionaryLookup.ANY_LOCALE);
+        final LocaleView view = new LocaleView(wordPartitions.toArray(EMPTY_PARTITION_ARRAY),
+                shortcutPartitions.toArray(EMPTY_PARTITION_ARRAY));
+        final LocaleView previousView = mLocaleViews.putIfAbsent(inputLocale, view);
+        return (previousView != null) ? previousView : view;
+    }
+
+    private void addShortcutPartition(@Nonnull final ArrayList<Partition> partitions,
+            @Nonnull final Locale locale) {
+        final Partition partition = mPartitionsByLocale.get(locale);
+        if (partition != null && partition.mShortcuts.length > 0
+                && !partitions.contains(partition)) {
+            partitions.add(partition);
+        }
+    }
+
+    /**
+     * Returns whether the lowercased word is in a locale that matches the input locale.
+     */
+    public boolean isValidWord(@Nonnull final String lowercasedWord,
+            @Nonnull final Locale inputLocale) {
+        for (final Partition partition : getLocaleView(inputLocale).mWordPartitions) {
+            if (Arrays.binarySearch(partition.mWords, lowercasedWord) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the expansion of the shortcut for the input locale, its language or any locale,
+     * in this order, or null if the shortcut isn't in any of them.
+     */
+    @Nullable
+    public String expandShortcut(@Nonnull final String shortcut,
+            @Nonnull final Locale inputLocale) {
+        for (final Partition partition : getLocaleView(inputLocale).mShortcutPartitions) {
+            final int index = Arrays.binarySearch(partition.mShortcuts, shortcut);
+            if (index >= 0 && !TextUtils.isEmpty(partition.mExpansions[index])) {
+                return partition.mExpansions[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the raw words for the input locale. The returned set can't be modified.
+     */
+    @Nonnull
+    public Set<String> getWords(@Nonnull final Locale inputLocale) {
+        final LocaleView view = getLocaleView(inputLocale);
+        Set<String> words = view.mWords;
+        if (words == null) {
+            final HashSet<String> newWords = new HashSet<>();
+            for (final Partition partition : view.mWordPartitions) {
+                Collections.addAll(newWords, partition.mRawWords);
+            }
+            words = Collections.unmodifiableSet(newWords);
+            view.mWords = words;
+        }
+        return words;
+    }
+
+    /**
+     * Returns the shortcuts for the input locale. The returned set can't be modified.
+     */
+    @Nonnull
+    public Set<String> getShortcuts(@Nonnull final Locale inputLocale) {
+        final LocaleView view = getLocaleView(inputLocale);
+        Set<String> shortcuts = view.mShortcuts;
+        if (shortcuts == null) {
+            final HashSet<String> newShortcuts = new HashSet<>();
+            for (final Partition partition : view.mShortcutPartitions) {
+                Collections.addAll(newShortcuts, partition.mShortcuts);
+            }
+            shortcuts = Collections.unmodifiableSet(newShortcuts);
+            view.mShortcuts = shortcuts;
+        }
+        return shortcuts;
+    }
+
+    /**
+     * Returns the raw words for the input locale whose lowercased form starts with the lowercased
+     * prefix.
+     */
+    @Nonnull
+    public List<String> getWordsWithPrefix(@Nonnull final String lowercasedPrefix,
+            @Nonnull final Locale inputLocale) {
+        final ArrayList<String> words = new ArrayList<>();
+        for (final Partition partition : getLocaleView(inputLocale).mWordPartitions) {
+            final int index = Arrays.binarySearch(partition.mWords, lowercasedPrefix);
+            // The words that start with the prefix are right after where the prefix would be.
+            for (int i = (index >= 0) ? index : -index - 1; i < partition.mWords.length
+                    && partition.mWords[i].startsWith(lowercasedPrefix); i++) {
+                words.add(partition.mRawWords[i]);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Collects the entries of the personal dictionary and builds the index. As in the personal
+     * dictionary, an entry replaces the entry that was added earlier for the same word or
+     * shortcut in the same locale.
+     */
+    static final class Builder {
+        private final HashMap<Locale, HashMap<String, String>> mRawWordsPerLocale =
+                new HashMap<>();
+        private final HashMap<Locale, HashMap<String, String>> mExpansionsPerLocale =
+                new HashMap<>();
+        private final HashSet<String> mWords = new HashSet<>();
+
+        /**
+         * Adds a word. The word is lowercased using the locale for lookups.
+         */
+        public void addWord(@Nonnull final Locale locale, @Nonnull final String rawWord) {
+            final String word = rawWord.toLowerCase(locale);
+            getOrCreateMap(mRawWordsPerLocale, locale).put(word, rawWord);
+            mWords.add(word);
+        }
+
+        /**
+         * Adds a shortcut that expands to the raw word.
+         */
+        public void addShortcut(@Nonnull final Locale locale, @Nonnull final String shortcut,
+                @Nonnull final String rawWord) {
+            getOrCreateMap(mExpansionsPerLocale, locale).put(shortcut, rawWord);
+        }
+
+        /**
+         * Returns the number of distinct lowercased words that have been added.
+         */
+        public int getWordCount() {
+            return mWords.size();
+        }
+
+        private static HashMap<String, String> getOrCreateMap(
+                @Nonnull final HashMap<Locale, HashMap<String, String>> mapPerLocale,
+                @Nonnull final Locale locale) {
+            HashMap<String, String> map = mapPerLocale.get(locale);
+            if (map == null) {
+                map = new HashMap<>();
+                mapPerLocale.put(locale, map);
+            }
+            return map;
+        }
+
+        @Nonnull
+        public PersonalDictionaryIndex build() {
+            final HashSet<Locale> locales = new HashSet<>(mRawWordsPerLocale.keySet());
+            locales.addAll(mExpansionsPerLocale.keySet());
+            final ArrayList<Partition> partitions = new ArrayList<>();
+            for (final Locale locale : locales) {
+                partitions.add(new Partition(locale, mRawWordsPerLocale.get(locale),
+                        mExpansionsPerLocale.get(locale)));
+            }
+            return new PersonalDictionaryIndex(partitions.toArray(EMPTY_PARTITION_ARRAY),
+                    mWords.size());
+        }
+    }
+}
@@ -21,12 +21,11 @@ import android.content.Context;
 import android.database.ContentObserver;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.SystemClock;
 import android.provider.UserDictionary;
-import android.text.TextUtils;
 import android.util.Log;
 
 import com.android.inputmethod.annotations.UsedForTesting;
-import com.android.inputmethod.latin.common.CollectionUtils;
 import com.android.inputmethod.latin.common.LocaleUtils;
 import com.android.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.utils.ExecutorUtils;
@@ -34,11 +33,9 @@ import com.android.inputmethod.latin.utils.ExecutorUtils;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -196,16 +193,10 @@ public class PersonalDictionaryLookup implements Closeable {
     private AtomicBoolean mIsClosed = new AtomicBoolean(false);
 
     /**
-     * We store a map from a dictionary word to the set of locales & raw string(as it appears)
-     * We then iterate over the set of locales to find a match using LocaleUtils.
+     * The index of the words and shortcuts, partitioned by locale. Shortcuts that apply to any
+     * locale are in the partition of {@link #ANY_LOCALE}. It is replaced as a whole on reload.
      */
-    private volatile HashMap<String, HashMap<Locale, String>> mDictWords;
-
-    /**
-     * We store a map from a shortcut to a word for each locale.
-     * Shortcuts that apply to any locale are keyed by {@link #ANY_LOCALE}.
-     */
-    private volatile HashMap<Locale, HashMap<String, String>> mShortcutsPerLocale;
+    private volatile PersonalDictionaryIndex mIndex;
 
     /**
      *  The last-scheduled reload future.  Saved in order to cancel a pending reload if a new one
@@ -301,7 +292,7 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return true if the initial load is successful
      */
     public boolean isLoaded() {
-        return mDictWords != null && mShortcutsPerLocale != null;
+        return mIndex != null;
     }
 
     /**
@@ -316,26 +307,11 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return set of words that apply to the given locale.
      */
     public Set<String> getWordsForLocale(@Nonnull final Locale inputLocale) {
-        final HashMap<String, HashMap<Locale, String>> dictWords = mDictWords;
-        if (CollectionUtils.isNullOrEmpty(dictWords)) {
+        final PersonalDictionaryIndex index = mIndex;
+        if (index == null) {
             return Collections.emptySet();
         }
-
-        final Set<String> words = new HashSet<>();
-        final String inputLocaleString = inputLocale.toString();
-        for (String word : dictWords.keySet()) {
-            HashMap<Locale, String> localeStringMap = dictWords.get(word);
-                if (!CollectionUtils.isNullOrEmpty(localeStringMap)) {
-                    for (Locale wordLocale : localeStringMap.keySet()) {
-                        final String wordLocaleString = wordLocale.toString();
-                        final int match = LocaleUtils.getMatchLevel(wordLocaleString, inputLocaleString);
-                        if (LocaleUtils.isMatch(match)) {
-                            words.add(localeStringMap.get(wordLocale));
-                        }
-                    }
-            }
-        }
-        return words;
+        return index.getWords(inputLocale);
     }
 
     /**
@@ -350,35 +326,28 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return set of shortcuts that apply to the given locale.
      */
     public Set<String> getShortcutsForLocale(@Nonnull final Locale inputLocale) {
-        final Map<Locale, HashMap<String, String>> shortcutsPerLocale = mShortcutsPerLocale;
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
+        final PersonalDictionaryIndex index = mIndex;
+        if (index == null) {
             return Collections.emptySet();
         }
+        return index.getShortcuts(inputLocale);
+    }
 
-        final Set<String> shortcuts = new HashSet<>();
-        if (!TextUtils.isEmpty(inputLocale.getCountry())) {
-            // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
-            final Map<String, String> countryShortcuts = shortcutsPerLocale.get(inputLocale);
-            if (!CollectionUtils.isNullOrEmpty(countryShortcuts)) {
-                shortcuts.addAll(countryShortcuts.keySet());
-            }
-        }
-
-        // Next look for the language-specific shortcut: en, fr, etc.
-        final Locale languageOnlyLocale =
-                LocaleUtils.constructLocaleFromString(inputLocale.getLanguage());
-        final Map<String, String> languageShortcuts = shortcutsPerLocale.get(languageOnlyLocale);
-        if (!CollectionUtils.isNullOrEmpty(languageShortcuts)) {
-            shortcuts.addAll(languageShortcuts.keySet());
-        }
-
-        // If all else fails, look for a global shortcut.
-        final Map<String, String> globalShortcuts = shortcutsPerLocale.get(ANY_LOCALE);
-        if (!CollectionUtils.isNullOrEmpty(globalShortcuts)) {
-            shortcuts.addAll(globalShortcuts.keySet());
+    /**
+     * Returns the words defined for the given locale and more general locales that start with
+     * the given prefix, ignoring case.
+     *
+     * @param prefix the prefix of the words
+     * @param inputLocale the locale to restrict for
+     * @return the words as they appear in the dictionary.
+     */
+    public List<String> getWordsWithPrefix(@Nonnull final String prefix,
+            @Nonnull final Locale inputLocale) {
+        final PersonalDictionaryIndex index = mIndex;
+        if (index == null) {
+            return Collections.emptyList();
         }
-
-        return shortcuts;
+        return index.getWordsWithPrefix(prefix.toLowerCase(inputLocale), inputLocale);
     }
 
     /**
@@ -392,7 +361,9 @@ public class PersonalDictionaryLookup implements Closeable {
      * @return true iff the word has been matched for this locale in the dictionary.
      */
     public boolean isValidWord(@Nonnull final String word, @Nonnull final Locale inputLocale) {
-        if (!isLoaded()) {
+        // Atomically obtain the current copy of mIndex;
+        final PersonalDictionaryIndex index = mIndex;
+        if (index == null) {
             // This is a corner case in the event the initial load of the dictionary has not
             // completed. In that case, we assume the word is not a valid word in the dictionary.
             if (DebugFlags.DEBUG_ENABLED) {
@@ -404,47 +375,16 @@ public class PersonalDictionaryLookup implements Closeable {
         if (DebugFlags.DEBUG_ENABLED) {
             Log.d(mTag, "isValidWord() : Word [" + word + "] in Locale [" + inputLocale + "]");
         }
-        // Atomically obtain the current copy of mDictWords;
-        final HashMap<String, HashMap<Locale, String>> dictWords = mDictWords;
         // Lowercase the word using the given locale. Note, that dictionary
         // words are lowercased using their locale, and theoretically the
         // lowercasing between two matching locales may differ. For simplicity
         // we ignore that possibility.
         final String lowercased = word.toLowerCase(inputLocale);
-        final HashMap<Locale, String> dictLocales = dictWords.get(lowercased);
-
-        if (CollectionUtils.isNullOrEmpty(dictLocales)) {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : No entry for word [" + word + "]");
-            }
-            return false;
-        } else {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : Found entry for word [" + word + "]");
-            }
-            // Iterate over the locales this word is in.
-            for (final Locale dictLocale : dictLocales.keySet()) {
-                final int matchLevel = LocaleUtils.getMatchLevel(dictLocale.toString(),
-                        inputLocale.toString());
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "isValidWord() : MatchLevel for DictLocale [" + dictLocale
-                            + "] and InputLocale [" + inputLocale + "] is " + matchLevel);
-                }
-                if (LocaleUtils.isMatch(matchLevel)) {
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "isValidWord() : MatchLevel " + matchLevel + " IS a match");
-                    }
-                    return true;
-                }
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "isValidWord() : MatchLevel " + matchLevel + " is NOT a match");
-                }
-            }
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "isValidWord() : False, since none of the locales matched");
-            }
-            return false;
+        final boolean isValid = index.isValidWord(lowercased, inputLocale);
+        if (DebugFlags.DEBUG_ENABLED) {
+            Log.d(mTag, "isValidWord() : " + isValid + " for word [" + word + "]");
         }
+        return isValid;
     }
 
     /**
@@ -460,63 +400,19 @@ public class PersonalDictionaryLookup implements Closeable {
             Log.d(mTag, "expandShortcut() : Shortcut [" + shortcut + "] for [" + inputLocale + "]");
         }
 
-        // Atomically obtain the current copy of mShortcuts;
-        final HashMap<Locale, HashMap<String, String>> shortcutsPerLocale = mShortcutsPerLocale;
-
-        // Exit as early as possible. Most users don't use shortcuts.
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
-            if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "expandShortcut() : User has no shortcuts");
-            }
-            return null;
-        }
-
-        if (!TextUtils.isEmpty(inputLocale.getCountry())) {
-            // First look for the country-specific shortcut: en_US, en_UK, fr_FR, etc.
-            final String expansionForCountry = expandShortcut(
-                    shortcutsPerLocale, shortcut, inputLocale);
-            if (!TextUtils.isEmpty(expansionForCountry)) {
-                if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "expandShortcut() : Country expansion is ["
-                            + expansionForCountry + "]");
-                }
-                return expansionForCountry;
-            }
-        }
-
-        // Next look for the language-specific shortcut: en, fr, etc.
-        final Locale languageOnlyLocale =
-                LocaleUtils.constructLocaleFromString(inputLocale.getLanguage());
-        final String expansionForLanguage = expandShortcut(
-                shortcutsPerLocale, shortcut, languageOnlyLocale);
-        if (!TextUtils.isEmpty(expansionForLanguage)) {
+        // Atomically obtain the current copy of mIndex;
+        final PersonalDictionaryIndex index = mIndex;
+        if (index == null) {
             if (DebugFlags.DEBUG_ENABLED) {
-                Log.d(mTag, "expandShortcut() : Language expansion is ["
-                        + expansionForLanguage + "]");
+                Log.d(mTag, "expandShortcut() : Initial load not complete");
             }
-            return expansionForLanguage;
-        }
-
-        // If all else fails, look for a global shortcut.
-        final String expansionForGlobal = expandShortcut(shortcutsPerLocale, shortcut, ANY_LOCALE);
-        if (!TextUtils.isEmpty(expansionForGlobal) && DebugFlags.DEBUG_ENABLED) {
-            Log.d(mTag, "expandShortcut() : Global expansion is [" + expansionForGlobal + "]");
-        }
-        return expansionForGlobal;
-    }
-
-    @Nullable private String expandShortcut(
-            @Nullable final HashMap<Locale, HashMap<String, String>> shortcutsPerLocale,
-            @Nonnull final String shortcut,
-            @Nonnull final Locale locale) {
-        if (CollectionUtils.isNullOrEmpty(shortcutsPerLocale)) {
             return null;
         }
-        final HashMap<String, String> localeShortcuts = shortcutsPerLocale.get(locale);
-        if (CollectionUtils.isNullOrEmpty(localeShortcuts)) {
-            return null;
+        final String expansion = index.expandShortcut(shortcut, inputLocale);
+        if (expansion != null && DebugFlags.DEBUG_ENABLED) {
+            Log.d(mTag, "expandShortcut() : Expansion is [" + expansion + "]");
         }
-        return localeShortcuts.get(shortcut);
+        return expansion;
     }
 
     /**
@@ -531,8 +427,8 @@ public class PersonalDictionaryLookup implements Closeable {
             return;
         }
         Log.i(mTag, "loadPersonalDictionary() : Start Loading");
-        HashMap<String, HashMap<Locale, String>> dictWords = new HashMap<>();
-        HashMap<Locale, HashMap<String, String>> shortcutsPerLocale = new HashMap<>();
+        final long startTime = SystemClock.uptimeMillis();
+        final PersonalDictionaryIndex.Builder builder = new PersonalDictionaryIndex.Builder();
         // Load the dictionary.  Items are returned in the default sort order (by frequency).
         Cursor cursor = mResolver.query(UserDictionary.Words.CONTENT_URI,
                 null, null, null, UserDictionary.Words.DEFAULT_SORT_ORDER);
@@ -541,7 +437,7 @@ public class PersonalDictionaryLookup implements Closeable {
         } else {
             // Iterate over the entries in the personal dictionary.  Note, that iteration is in
             // descending frequency by default.
-            while (dictWords.size() < MAX_NUM_ENTRIES && cursor.moveToNext()) {
+            while (builder.getWordCount() < MAX_NUM_ENTRIES && cursor.moveToNext()) {
                 // If there is no column for locale, skip this entry. An empty
                 // locale on the other hand will not be skipped.
                 final int dictLocaleIndex = cursor.getColumnIndex(UserDictionary.Words.LOCALE);
@@ -579,25 +475,12 @@ public class PersonalDictionaryLookup implements Closeable {
                     localeString = "";
                 }
                 final Locale dictLocale = LocaleUtils.constructLocaleFromString(localeString);
-                // Lowercase the word before storing it.
-                final String dictWord = rawDictWord.toLowerCase(dictLocale);
                 if (DebugFlags.DEBUG_ENABLED) {
-                    Log.d(mTag, "loadPersonalDictionary() : Adding word [" + dictWord
-                            + "] for locale " + dictLocale + "with value" + rawDictWord);
-                }
-                // Check if there is an existing entry for this word.
-                HashMap<Locale, String> dictLocales = dictWords.get(dictWord);
-                if (CollectionUtils.isNullOrEmpty(dictLocales)) {
-                    // If there is no entry for this word, create one.
-                    if (DebugFlags.DEBUG_ENABLED) {
-                        Log.d(mTag, "loadPersonalDictionary() : Word [" + dictWord +
-                                "] not seen for other locales, creating new entry");
-                    }
-                    dictLocales = new HashMap<>();
-                    dictWords.put(dictWord, dictLocales);
+                    Log.d(mTag, "loadPersonalDictionary() : Adding word [" + rawDictWord
+                            + "] for locale " + dictLocale);
                 }
-                // Append the locale to the list of locales this word is in.
-                dictLocales.put(dictLocale, rawDictWord);
+                // The index lowercases the word before storing it.
+                builder.addWord(dictLocale, rawDictWord);
 
                 // If there is no column for a shortcut, we're done.
                 final int shortcutIndex = cursor.getColumnIndex(UserDictionary.Words.SHORTCUT);
@@ -616,35 +499,31 @@ public class PersonalDictionaryLookup implements Closeable {
                     continue;
                 }
                 // Else, save the shortcut.
-                HashMap<String, String> localeShortcuts = shortcutsPerLocale.get(dictLocale);
-                if (localeShortcuts == null) {
-                    localeShortcuts = new HashMap<>();
-                    shortcutsPerLocale.put(dictLocale, localeShortcuts);
-                }
                 // Map to the raw input, which might be capitalized.
                 // This lets the user create a shortcut from "gm" to "General Motors".
-                localeShortcuts.put(shortcut, rawDictWord);
+                builder.addShortcut(dictLocale, shortcut, rawDictWord);
             }
         }
+        if (null != cursor) {
+            cursor.close();
+        }
+        final PersonalDictionaryIndex index = builder.build();
 
         List<DictionaryStats> stats = new ArrayList<>();
-        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER, dictWords.size()));
-        int numShortcuts = 0;
-        for (HashMap<String, String> shortcuts : shortcutsPerLocale.values()) {
-            numShortcuts += shortcuts.size();
-        }
-        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER_SHORTCUT, numShortcuts));
+        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER, index.getWordCount()));
+        stats.add(new DictionaryStats(ANY_LOCALE, Dictionary.TYPE_USER_SHORTCUT,
+                index.getShortcutCount()));
         mDictionaryStats = stats;
 
-        // Atomically replace the copy of mDictWords and mShortcuts.
-        mDictWords = dictWords;
-        mShortcutsPerLocale = shortcutsPerLocale;
+        // Atomically replace the copy of mIndex.
+        mIndex = index;
 
         // Allow other calls to loadPersonalDictionary to execute now.
         mIsLoading.set(false);
 
-        Log.i(mTag, "loadPersonalDictionary() : Loaded " + mDictWords.size()
-                + " words and " + numShortcuts + " shortcuts");
+        Log.i(mTag, "loadPersonalDictionary() : Loaded " + index.getWordCount()
+                + " words and " + index.getShortcutCount() + " shortcuts in "
+                + (SystemClock.uptimeMillis() - startTime) + " ms");
 
         notifyListeners();
     }
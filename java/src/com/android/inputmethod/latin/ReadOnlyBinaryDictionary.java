@@ -67,6 +67,11 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
         return null;
     }
 
+    @Override
+    public void cancelSuggestions(final int sessionId) {
+        mBinaryDictionary.cancelSuggestions(sessionId);
+    }
+
     @Override
     public boolean isInDictionary(final String word) {
         if (mLock.readLock().tryLock()) {
@@ -115,6 +120,18 @@ public final class ReadOnlyBinaryDictionary extends Dictionary {
         return NOT_A_PROBABILITY;
     }
 
+    @Override
+    public String getPerfStats() {
+        if (mLock.readLock().tryLock()) {
+            try {
+                return mBinaryDictionary.getPerfStats();
+            } finally {
+                mLock.readLock().unlock();
+            }
+        }
+        return "";
+    }
+
     @Override
     public void close() {
         mLock.writeLock().lock();
@@ -23,7 +23,9 @@ import static com.android.inputmethod.latin.define.DecoderSpecificConstants.SHOU
 
 import com.android.inputmethod.keyboard.Keyboard;
 import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
 import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.InputPointers;
 import com.android.inputmethod.latin.common.StringUtils;
 import com.android.inputmethod.latin.define.DebugFlags;
 import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
@@ -36,6 +38,7 @@ import java.util.HashMap;
 import java.util.Locale;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * This class loads a dictionary and provides a list of suggestions for a given sequence of
@@ -99,10 +102,12 @@ public final class Suggest {
             final NgramContext ngramContext, final Keyboard keyboard,
             final SettingsValuesForSuggestion settingsValuesForSuggestion,
             final boolean isCorrectionEnabled, final int inputStyle, final int sequenceNumber,
+            @Nullable final InputPointers batchPointers,
             final OnGetSuggestedWordsCallback callback) {
         if (wordComposer.isBatchMode()) {
             getSuggestedWordsForBatchInput(wordComposer, ngramContext, keyboard,
-                    settingsValuesForSuggestion, inputStyle, sequenceNumber, callback);
+                    settingsValuesForSuggestion, inputStyle, sequenceNumber, batchPointers,
+                    callback);
         } else {
             getSuggestedWordsForNonBatchInput(wordComposer, ngramContext, keyboard,
                     settingsValuesForSuggestion, inputStyle, isCorrectionEnabled,
@@ -110,6 +115,14 @@ public final class Suggest {
         }
     }
 
+    /**
+     * Asks the running batch input request, if any, to stop early because newer input has made its
+     * results obsolete. The callback of the request is still called.
+     */
+    public void cancelSuggestedWordsForBatchInput() {
+        mDictionaryFacilitator.cancelSuggestionResults(SESSION_ID_GESTURE);
+    }
+
     private static ArrayList<SuggestedWordInfo> getTransformedSuggestedWordInfoList(
             final WordComposer wordComposer, final SuggestionResults results,
             final int trailingSingleQuotesCount, final Locale defaultLocale) {
@@ -290,9 +303,13 @@ public final class Suggest {
             final NgramContext ngramContext, final Keyboard keyboard,
             final SettingsValuesForSuggestion settingsValuesForSuggestion,
             final int inputStyle, final int sequenceNumber,
+            @Nullable final InputPointers batchPointers,
             final OnGetSuggestedWordsCallback callback) {
+        final ComposedData composedData = (batchPointers != null)
+                ? wordComposer.getComposedDataSnapshotForBatchInput(batchPointers)
+                : wordComposer.getComposedDataSnapshot();
         final SuggestionResults suggestionResults = mDictionaryFacilitator.getSuggestionResults(
-                wordComposer.getComposedDataSnapshot(), ngramContext, keyboard,
+                composedData, ngramContext, keyboard,
                 settingsValuesForSuggestion, SESSION_ID_GESTURE, inputStyle);
         // For transforming words that don't come from a dictionary, because it's our best bet
         final Locale locale = mDictionaryFacilitator.getLocale();
@@ -347,8 +364,7 @@ public final class Suggest {
 
     private static ArrayList<SuggestedWordInfo> getSuggestionsInfoListWithDebugInfo(
             final String typedWord, final ArrayList<SuggestedWordInfo> suggestions) {
-        final SuggestedWordInfo typedWordInfo = suggestions.get(0);
-        typedWordInfo.setDebugString("+");
+        final SuggestedWordInfo typedWordInfo = getCopyWithDebugString(suggestions.get(0), "+");
         final int suggestionsSize = suggestions.size();
         final ArrayList<SuggestedWordInfo> suggestionsList = new ArrayList<>(suggestionsSize);
         suggestionsList.add(typedWordInfo);
@@ -366,12 +382,22 @@ public final class Suggest {
             } else {
                 scoreInfoString = Integer.toString(cur.mScore);
             }
-            cur.setDebugString(scoreInfoString);
-            suggestionsList.add(cur);
+            suggestionsList.add(getCopyWithDebugString(cur, scoreInfoString));
         }
         return suggestionsList;
     }
 
+    // The dictionaries reuse the suggestions of a request for identical results of the next
+    // requests, so the debug string is set on a copy to keep it from showing up in other results.
+    private static SuggestedWordInfo getCopyWithDebugString(final SuggestedWordInfo info,
+            final String debugString) {
+        final SuggestedWordInfo copy = new SuggestedWordInfo(info.mWord, info.mPrevWordsContext,
+                info.mScore, info.mKindAndFlags, info.mSourceDict,
+                info.mIndexOfTouchPointOfSecondWord, info.mAutoCommitFirstWordConfidence);
+        copy.setDebugString(debugString);
+        return copy;
+    }
+
     /**
      * Computes whether this suggestion should be blocked or not in this language
      *
@@ -97,6 +97,17 @@ public final class WordComposer {
         return new ComposedData(getInputPointers(), isBatchMode(), mTypedWordCache.toString());
     }
 
+    /**
+     * Returns a snapshot of the batch input with the given points instead of the points held by
+     * this composer, which the UI thread keeps updating while the batch input is decoded.
+     * @param batchInputPointers the points of the batch input, owned by the calling thread.
+     */
+    public ComposedData getComposedDataSnapshotForBatchInput(
+            @Nonnull final InputPointers batchInputPointers) {
+        return new ComposedData(batchInputPointers, true /* isBatchMode */,
+                mTypedWordCache.toString());
+    }
+
     /**
      * Restart the combiners, possibly with a new spec.
      * @param combiningSpec The spec string for combining. This is found in the extra value.
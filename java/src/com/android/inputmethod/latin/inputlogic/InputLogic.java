@@ -65,6 +65,7 @@ import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * This class manages the input logic.
@@ -221,6 +222,10 @@ public final class InputLogic {
         mDictionaryFacilitator.closeDictionaries();
     }
 
+    public String dump() {
+        return mInputLogicHandler.dump();
+    }
+
     /**
      * React to a string input.
      *
@@ -2241,9 +2246,15 @@ public final class InputLogic {
         return true;
     }
 
+    /**
+     * Gets the suggestions for the word being composed.
+     * @param batchPointers the points of the batch input to decode instead of the points held by
+     * the word composer, or null. See {@link InputLogicHandler}.
+     */
     public void getSuggestedWords(final SettingsValues settingsValues,
             final Keyboard keyboard, final int keyboardShiftMode, final int inputStyle,
-            final int sequenceNumber, final OnGetSuggestedWordsCallback callback) {
+            final int sequenceNumber, @Nullable final InputPointers batchPointers,
+            final OnGetSuggestedWordsCallback callback) {
         mWordComposer.adviseCapitalizedModeBeforeFetchingSuggestions(
                 getActualCapsMode(settingsValues, keyboardShiftMode));
         mSuggest.getSuggestedWords(mWordComposer,
@@ -2256,7 +2267,7 @@ public final class InputLogic {
                 keyboard,
                 new SettingsValuesForSuggestion(settingsValues.mBlockPotentiallyOffensive),
                 settingsValues.mAutoCorrectionEnabledPerUserSettings,
-                inputStyle, sequenceNumber, callback);
+                inputStyle, sequenceNumber, batchPointers, callback);
     }
 
     /**
@@ -24,8 +24,14 @@ import com.android.inputmethod.compat.LooperCompatUtils;
 import com.android.inputmethod.latin.LatinIME;
 import com.android.inputmethod.latin.SuggestedWords;
 import com.android.inputmethod.latin.Suggest.OnGetSuggestedWordsCallback;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.GesturePointsRing;
 import com.android.inputmethod.latin.common.InputPointers;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
 /**
  * A helper to manage deferred tasks for the input logic.
  */
@@ -38,6 +44,117 @@ class InputLogicHandler implements Handler.Callback {
     private boolean mInBatchInput; // synchronized using {@link #mLock}.
 
     private static final int MSG_GET_SUGGESTED_WORDS = 1;
+    private static final int MSG_GET_SUGGESTED_WORDS_FOR_BATCH_UPDATE = 2;
+    private static final int MSG_GET_SUGGESTED_WORDS_FOR_BATCH_TAIL = 3;
+
+    // The number of gesture points that the ring can hold. The Non-UI handler thread drains the
+    // ring each time it decodes, so this only needs to cover the points of one decoding.
+    private static final int BATCH_POINTS_RING_CAPACITY = 1024;
+
+    static final int NOT_A_BATCH_REQUEST_ID = 0;
+    // Batch input requests are numbered in the order they are posted. Only the latest one is
+    // worth computing: the word composer already holds its pointers when an older update runs.
+    private volatile int mLatestBatchRequestId = NOT_A_BATCH_REQUEST_ID;
+    // The batch update that is running on the Non-UI handler thread, if any.
+    private final RunningBatchRequest mRunningBatchRequest = new RunningBatchRequest();
+    // Number of batch updates that were dropped before running or whose results were discarded.
+    private final AtomicInteger mCoalescedRequestCount = new AtomicInteger();
+    // Number of running batch updates that were asked to stop early.
+    private final AtomicInteger mCanceledRequestCount = new AtomicInteger();
+
+    // The gesture points of the batch input are passed from the UI thread to the Non-UI handler
+    // thread through this ring, so that the decoder never reads the pointers that the UI thread
+    // is updating and the UI thread never waits for the decoder.
+    private final GesturePointsRing mBatchPointsRing;
+    // The sequence number of the batch input whose points are being published, and the number
+    // of its points that have been published. Only used on the UI thread with {@link #mLock}.
+    private int mPublishedBatchSequenceNumber = GesturePointsRing.NOT_A_SEQUENCE_NUMBER;
+    private int mPublishedPointerSize;
+    // The points that the Non-UI handler thread has received. Only used on that thread.
+    private final InputPointers mReceivedBatchPointers;
+
+    /**
+     * Keeps track of the batch update that is running on the Non-UI handler thread.
+     *
+     * A cancellation stops whatever search is running on the gesture session, and the session
+     * only forgets it when its next search starts. The running update is therefore only
+     * canceled while it is known to be running: the Non-UI handler thread can't finish the
+     * update, and start the search of the next request, until the cancellation is done.
+     */
+    static final class RunningBatchRequest {
+        private int mRequestId = NOT_A_BATCH_REQUEST_ID; // synchronized using this.
+
+        // Called on the Non-UI handler thread.
+        public synchronized void start(final int requestId) {
+            mRequestId = requestId;
+        }
+
+        // Called on the Non-UI handler thread.
+        public synchronized void finish() {
+            mRequestId = NOT_A_BATCH_REQUEST_ID;
+        }
+
+        /**
+         * Cancels the running update unless it is the latest request.
+         * @param latestRequestId the id of the latest batch request.
+         * @param canceler cancels the search that is running on the gesture session.
+         * @return true if the running update has been canceled.
+         */
+        public synchronized boolean cancelIfObsolete(final int latestRequestId,
+                final Runnable canceler) {
+            if (mRequestId == NOT_A_BATCH_REQUEST_ID || mRequestId == latestRequestId) {
+                return false;
+            }
+            canceler.run();
+            return true;
+        }
+    }
+
+    /**
+     * The tail of a batch input. The tail commits the gesture, so it must be decoded with all its
+     * points. When the ring was too full to take them all, the tail carries a private copy of
+     * them instead, since the pointers that the UI thread aggregates may change while the Non-UI
+     * handler thread reads them.
+     */
+    static final class BatchTailRequest {
+        private final OnGetSuggestedWordsCallback mCallback;
+        @Nullable
+        private final InputPointers mPrivateBatchPointers;
+
+        // Called on the UI thread.
+        public BatchTailRequest(final OnGetSuggestedWordsCallback callback,
+                final InputPointers batchPointers, final boolean allPointsPublished) {
+            mCallback = callback;
+            if (allPointsPublished) {
+                mPrivateBatchPointers = null;
+            } else {
+                mPrivateBatchPointers =
+                        new InputPointers(Constants.DEFAULT_GESTURE_POINTS_CAPACITY);
+                mPrivateBatchPointers.copy(batchPointers);
+            }
+        }
+
+        public OnGetSuggestedWordsCallback getCallback() {
+            return mCallback;
+        }
+
+        /**
+         * @param receivedBatchPointers the points received through the ring.
+         * @return the points to decode the tail with.
+         */
+        // Called on the Non-UI handler thread.
+        public InputPointers getBatchPointers(final InputPointers receivedBatchPointers) {
+            return (mPrivateBatchPointers != null) ? mPrivateBatchPointers
+                    : receivedBatchPointers;
+        }
+    }
+
+    private final Runnable mBatchInputCanceler = new Runnable() {
+        @Override
+        public void run() {
+            mInputLogic.mSuggest.cancelSuggestedWordsForBatchInput();
+        }
+    };
 
     // A handler that never does anything. This is used for cases where events come before anything
     // is initialized, though probably only the monkey can actually do this.
@@ -65,6 +182,8 @@ class InputLogicHandler implements Handler.Callback {
         mNonUIThreadHandler = null;
         mLatinIME = null;
         mInputLogic = null;
+        mBatchPointsRing = null;
+        mReceivedBatchPointers = null;
     }
 
     public InputLogicHandler(final LatinIME latinIME, final InputLogic inputLogic) {
@@ -74,6 +193,8 @@ class InputLogicHandler implements Handler.Callback {
         mNonUIThreadHandler = new Handler(handlerThread.getLooper(), this);
         mLatinIME = latinIME;
         mInputLogic = inputLogic;
+        mBatchPointsRing = new GesturePointsRing(BATCH_POINTS_RING_CAPACITY);
+        mReceivedBatchPointers = new InputPointers(Constants.DEFAULT_GESTURE_POINTS_CAPACITY);
     }
 
     public void reset() {
@@ -98,14 +219,95 @@ class InputLogicHandler implements Handler.Callback {
                 mLatinIME.getSuggestedWords(msg.arg1 /* inputStyle */,
                         msg.arg2 /* sequenceNumber */, (OnGetSuggestedWordsCallback) msg.obj);
                 break;
+            case MSG_GET_SUGGESTED_WORDS_FOR_BATCH_UPDATE:
+                final int requestId = msg.arg1;
+                if (isObsoleteBatchRequest(requestId)) {
+                    mCoalescedRequestCount.incrementAndGet();
+                    break;
+                }
+                final InputPointers updatedBatchPointers =
+                        receiveBatchPoints(msg.arg2 /* sequenceNumber */);
+                if (updatedBatchPointers == null) {
+                    // The ring was too full to take the start of this batch input. A later
+                    // update or the tail will decode it.
+                    mCoalescedRequestCount.incrementAndGet();
+                    break;
+                }
+                mRunningBatchRequest.start(requestId);
+                try {
+                    mLatinIME.getSuggestedWords(SuggestedWords.INPUT_STYLE_UPDATE_BATCH,
+                            msg.arg2 /* sequenceNumber */, updatedBatchPointers,
+                            (OnGetSuggestedWordsCallback) msg.obj);
+                } finally {
+                    mRunningBatchRequest.finish();
+                }
+                break;
+            case MSG_GET_SUGGESTED_WORDS_FOR_BATCH_TAIL:
+                final BatchTailRequest tailRequest = (BatchTailRequest) msg.obj;
+                // Drains the ring even if the tail has its own copy of the points.
+                final InputPointers receivedBatchPointers =
+                        receiveBatchPoints(msg.arg2 /* sequenceNumber */);
+                mLatinIME.getSuggestedWords(SuggestedWords.INPUT_STYLE_TAIL_BATCH,
+                        msg.arg2 /* sequenceNumber */,
+                        tailRequest.getBatchPointers(receivedBatchPointers),
+                        tailRequest.getCallback());
+                break;
         }
         return true;
     }
 
+    /**
+     * Receives the gesture points of a batch input that have been published since the last call.
+     * @param sequenceNumber the sequence number of the batch input.
+     * @return the received points, or null if the points of this batch input have not started
+     * to be published.
+     */
+    // Called on the Non-UI handler thread.
+    private InputPointers receiveBatchPoints(final int sequenceNumber) {
+        final int receivedSequenceNumber =
+                mBatchPointsRing.drainTo(mReceivedBatchPointers, sequenceNumber);
+        return (receivedSequenceNumber == sequenceNumber) ? mReceivedBatchPointers : null;
+    }
+
+    /**
+     * Publishes the gesture points that have been appended to a batch input since the last call.
+     * @param batchPointers the aggregated pointers of the batch input.
+     * @param sequenceNumber the sequence number of the batch input.
+     * @return true if all the points have been published.
+     */
+    // Called on the UI thread with {@link #mLock} held.
+    private boolean publishBatchPoints(final InputPointers batchPointers,
+            final int sequenceNumber) {
+        if (sequenceNumber != mPublishedBatchSequenceNumber
+                || batchPointers.getPointerSize() < mPublishedPointerSize) {
+            if (!mBatchPointsRing.startBatch(sequenceNumber)) {
+                return false;
+            }
+            mPublishedBatchSequenceNumber = sequenceNumber;
+            mPublishedPointerSize = 0;
+        }
+        mPublishedPointerSize = mBatchPointsRing.append(batchPointers, mPublishedPointerSize);
+        return mPublishedPointerSize == batchPointers.getPointerSize();
+    }
+
+    private boolean isObsoleteBatchRequest(final int requestId) {
+        return requestId != mLatestBatchRequestId;
+    }
+
+    // Called on the UI thread with {@link #mLock} held, before posting a newer batch request.
+    private void cancelRunningBatchRequest() {
+        if (mRunningBatchRequest.cancelIfObsolete(mLatestBatchRequestId, mBatchInputCanceler)) {
+            mCanceledRequestCount.incrementAndGet();
+        }
+    }
+
     // Called on the UI thread by InputLogic.
     public void onStartBatchInput() {
         synchronized (mLock) {
             mInBatchInput = true;
+            // The points of the new batch input are published from the first one, even if it
+            // has the same sequence number as a canceled one.
+            mPublishedBatchSequenceNumber = GesturePointsRing.NOT_A_SEQUENCE_NUMBER;
         }
     }
 
@@ -133,14 +335,32 @@ class InputLogicHandler implements Handler.Callback {
                 return;
             }
             mInputLogic.mWordComposer.setBatchInputPointers(batchPointers);
+            final boolean allPointsPublished = publishBatchPoints(batchPointers, sequenceNumber);
+            final int requestId = ++mLatestBatchRequestId;
+            // The requests posted before this one have become obsolete.
+            cancelRunningBatchRequest();
             final OnGetSuggestedWordsCallback callback = new OnGetSuggestedWordsCallback() {
                 @Override
                 public void onGetSuggestedWords(final SuggestedWords suggestedWords) {
+                    if (!isTailBatchInput && isObsoleteBatchRequest(requestId)) {
+                        // A newer update or the tail will show its own suggestions.
+                        mCoalescedRequestCount.incrementAndGet();
+                        return;
+                    }
                     showGestureSuggestionsWithPreviewVisuals(suggestedWords, isTailBatchInput);
                 }
             };
-            getSuggestedWords(isTailBatchInput ? SuggestedWords.INPUT_STYLE_TAIL_BATCH
-                    : SuggestedWords.INPUT_STYLE_UPDATE_BATCH, sequenceNumber, callback);
+            if (isTailBatchInput) {
+                // The tail is never dropped: it commits the gesture. The updates that are still
+                // queued before it are skipped when they come up.
+                mNonUIThreadHandler.obtainMessage(MSG_GET_SUGGESTED_WORDS_FOR_BATCH_TAIL,
+                        0 /* unused */, sequenceNumber,
+                        new BatchTailRequest(callback, batchPointers, allPointsPublished))
+                        .sendToTarget();
+            } else {
+                mNonUIThreadHandler.obtainMessage(MSG_GET_SUGGESTED_WORDS_FOR_BATCH_UPDATE,
+                        requestId, sequenceNumber, callback).sendToTarget();
+            }
         }
     }
 
@@ -218,4 +438,17 @@ class InputLogicHandler implements Handler.Callback {
         mNonUIThreadHandler.obtainMessage(
                 MSG_GET_SUGGESTED_WORDS, inputStyle, sequenceNumber, callback).sendToTarget();
     }
+
+    public int getCoalescedRequestCount() {
+        return mCoalescedRequestCount.get();
+    }
+
+    public int getCanceledRequestCount() {
+        return mCanceledRequestCount.get();
+    }
+
+    public String dump() {
+        return "  Batch suggestion requests: coalesced = " + getCoalescedRequestCount()
+                + ", canceled = " + getCanceledRequestCount();
+    }
 }
@@ -102,8 +102,7 @@ public class UserHistoryDictionary extends ExpandableBinaryDictionary {
         if (word.length() > BinaryDictionary.DICTIONARY_MAX_WORD_LENGTH) {
             return;
         }
-        userHistoryDictionary.updateEntriesForWord(ngramContext, word,
-                isValid, 1 /* count */, timestamp);
+        userHistoryDictionary.addInputEventToBatch(ngramContext, word, isValid, timestamp);
     }
 
     @Override
@@ -118,6 +118,7 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
     public static final String PREF_EMOJI_RECENT_KEYS = "emoji_recent_keys";
     public static final String PREF_EMOJI_CATEGORY_LAST_TYPED_ID = "emoji_category_last_typed_id";
     public static final String PREF_LAST_SHOWN_EMOJI_CATEGORY_ID = "last_shown_emoji_category_id";
+    public static final String PREF_EMOJI_CATEGORY_KEY_COUNTS = "emoji_category_key_counts";
 
     private static final float UNDEFINED_PREFERENCE_VALUE_FLOAT = -1.0f;
     private static final int UNDEFINED_PREFERENCE_VALUE_INT = -1;
@@ -414,8 +415,10 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
         return mPrefs.getStringSet(PREF_CORPUS_HANDLES_FOR_PERSONALIZATION, emptySet);
     }
 
-    public static void writeEmojiRecentKeys(final SharedPreferences prefs, String str) {
-        prefs.edit().putString(PREF_EMOJI_RECENT_KEYS, str).apply();
+    public static void removeEmojiRecentKeys(final SharedPreferences prefs) {
+        if (prefs.contains(PREF_EMOJI_RECENT_KEYS)) {
+            prefs.edit().remove(PREF_EMOJI_RECENT_KEYS).apply();
+        }
     }
 
     public static String readEmojiRecentKeys(final SharedPreferences prefs) {
@@ -444,6 +447,15 @@ public final class Settings implements SharedPreferences.OnSharedPreferenceChang
         return prefs.getInt(PREF_LAST_SHOWN_EMOJI_CATEGORY_ID, defValue);
     }
 
+    public static void writeEmojiCategoryKeyCounts(final SharedPreferences prefs,
+            final String str) {
+        prefs.edit().putString(PREF_EMOJI_CATEGORY_KEY_COUNTS, str).apply();
+    }
+
+    public static String readEmojiCategoryKeyCounts(final SharedPreferences prefs) {
+        return prefs.getString(PREF_EMOJI_CATEGORY_KEY_COUNTS, "");
+    }
+
     private void upgradeAutocorrectionSettings(final SharedPreferences prefs, final Resources res) {
         final String thresholdSetting =
                 prefs.getString(PREF_AUTO_CORRECTION_THRESHOLD_OBSOLETE, null);
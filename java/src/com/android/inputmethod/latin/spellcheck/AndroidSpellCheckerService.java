@@ -160,9 +160,13 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
     public boolean isValidWord(final Locale locale, final String word) {
         mSemaphore.acquireUninterruptibly();
         try {
-            DictionaryFacilitator dictionaryFacilitatorForLocale =
+            final DictionaryFacilitator dictionaryFacilitatorForLocale =
                     mDictionaryFacilitatorCache.get(locale);
-            return dictionaryFacilitatorForLocale.isValidSpellingWord(word);
+            try {
+                return dictionaryFacilitatorForLocale.isValidSpellingWord(word);
+            } finally {
+                mDictionaryFacilitatorCache.release(dictionaryFacilitatorForLocale);
+            }
         } finally {
             mSemaphore.release();
         }
@@ -175,11 +179,15 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
         mSemaphore.acquireUninterruptibly();
         try {
             sessionId = mSessionIdPool.poll();
-            DictionaryFacilitator dictionaryFacilitatorForLocale =
+            final DictionaryFacilitator dictionaryFacilitatorForLocale =
                     mDictionaryFacilitatorCache.get(locale);
-            return dictionaryFacilitatorForLocale.getSuggestionResults(composedData, ngramContext,
-                    keyboard, mSettingsValuesForSuggestion,
-                    sessionId, SuggestedWords.INPUT_STYLE_TYPING);
+            try {
+                return dictionaryFacilitatorForLocale.getSuggestionResults(composedData,
+                        ngramContext, keyboard, mSettingsValuesForSuggestion,
+                        sessionId, SuggestedWords.INPUT_STYLE_TYPING);
+            } finally {
+                mDictionaryFacilitatorCache.release(dictionaryFacilitatorForLocale);
+            }
         } finally {
             if (sessionId != null) {
                 mSessionIdPool.add(sessionId);
@@ -193,12 +201,24 @@ public final class AndroidSpellCheckerService extends SpellCheckerService
         try {
             final DictionaryFacilitator dictionaryFacilitator =
                     mDictionaryFacilitatorCache.get(locale);
-            return dictionaryFacilitator.hasAtLeastOneInitializedMainDictionary();
+            try {
+                return dictionaryFacilitator.hasAtLeastOneInitializedMainDictionary();
+            } finally {
+                mDictionaryFacilitatorCache.release(dictionaryFacilitator);
+            }
         } finally {
             mSemaphore.release();
         }
     }
 
+    /**
+     * Starts loading the dictionaries for the locale in the background, so that the first
+     * request for this locale doesn't have to wait for them.
+     */
+    public void warmUpDictionariesForLocale(final Locale locale) {
+        mDictionaryFacilitatorCache.warmUp(locale);
+    }
+
     @Override
     public boolean onUnbind(final Intent intent) {
         mSemaphore.acquireUninterruptibly(MAX_NUM_OF_THREADS_READ_DICTIONARY);
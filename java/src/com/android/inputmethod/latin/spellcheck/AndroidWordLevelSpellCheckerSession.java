@@ -117,6 +117,9 @@ public abstract class AndroidWordLevelSpellCheckerSession extends Session {
         mLocale = (null == localeString) ? null
                 : LocaleUtils.constructLocaleFromString(localeString);
         mScript = ScriptUtils.getScriptFromSpellCheckerLocale(mLocale);
+        if (null != mLocale) {
+            mService.warmUpDictionariesForLocale(mLocale);
+        }
     }
 
     @Override
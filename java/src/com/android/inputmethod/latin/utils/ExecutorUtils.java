@@ -26,6 +26,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nonnull;
+
 /**
  * Utilities to manage executors.
  */
@@ -35,11 +37,29 @@ public class ExecutorUtils {
 
     public static final String KEYBOARD = "Keyboard";
     public static final String SPELLING = "Spelling";
+    public static final String SUGGESTION = "Suggestion";
+    public static final String DICTIONARY = "Dictionary";
+
+    // Number of worker threads used to query dictionaries in parallel for suggestions.
+    private static final int SUGGESTION_THREAD_COUNT = 3;
+    // Number of worker threads used to update dictionaries.
+    private static final int DICTIONARY_THREAD_COUNT = 2;
 
     private static ScheduledExecutorService sKeyboardExecutorService = newExecutorService(KEYBOARD);
     private static ScheduledExecutorService sSpellingExecutorService = newExecutorService(SPELLING);
+    private static ScheduledExecutorService sSuggestionExecutorService =
+            newExecutorService(SUGGESTION);
+    private static KeyedSerialExecutor sDictionaryExecutor = newDictionaryExecutor();
+
+    private static KeyedSerialExecutor newDictionaryExecutor() {
+        return new KeyedSerialExecutor(DICTIONARY_THREAD_COUNT, new ExecutorFactory(DICTIONARY));
+    }
 
     private static ScheduledExecutorService newExecutorService(final String name) {
+        if (SUGGESTION.equals(name)) {
+            return Executors.newScheduledThreadPool(SUGGESTION_THREAD_COUNT,
+                    new ExecutorFactory(name));
+        }
         return Executors.newSingleThreadScheduledExecutor(new ExecutorFactory(name));
     }
 
@@ -89,12 +109,40 @@ public class ExecutorUtils {
                 return sKeyboardExecutorService;
             case SPELLING:
                 return sSpellingExecutorService;
+            case SUGGESTION:
+                return sSuggestionExecutorService;
             default:
                 throw new IllegalArgumentException("Invalid executor: " + name);
         }
     }
 
+    /**
+     * Runs the task on the {@link #DICTIONARY} threads, after the tasks that have been submitted
+     * with the same key. See {@link KeyedSerialExecutor}.
+     */
+    public static void executeSerially(@Nonnull final String key, final int priority,
+            @Nonnull final Runnable task) {
+        if (sExecutorServiceForTests != null) {
+            sExecutorServiceForTests.execute(task);
+            return;
+        }
+        sDictionaryExecutor.execute(key, priority, task);
+    }
+
+    @UsedForTesting
+    public static KeyedSerialExecutor getDictionaryExecutorForTests() {
+        return sDictionaryExecutor;
+    }
+
+    public static String dump() {
+        return "ExecutorUtils:\n" + "  " + DICTIONARY + " tasks:\n" + sDictionaryExecutor.dump();
+    }
+
     public static void killTasks(final String name) {
+        if (DICTIONARY.equals(name) && sExecutorServiceForTests == null) {
+            killDictionaryTasks();
+            return;
+        }
         final ScheduledExecutorService executorService = getBackgroundExecutor(name);
         executorService.shutdownNow();
         try {
@@ -113,11 +161,25 @@ public class ExecutorUtils {
             case SPELLING:
                 sSpellingExecutorService = newExecutorService(SPELLING);
                 break;
+            case SUGGESTION:
+                sSuggestionExecutorService = newExecutorService(SUGGESTION);
+                break;
             default:
                 throw new IllegalArgumentException("Invalid executor: " + name);
         }
     }
 
+    private static void killDictionaryTasks() {
+        final KeyedSerialExecutor dictionaryExecutor = sDictionaryExecutor;
+        dictionaryExecutor.shutdownNow();
+        try {
+            dictionaryExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Log.wtf(TAG, "Failed to shut down: " + DICTIONARY);
+        }
+        sDictionaryExecutor = newDictionaryExecutor();
+    }
+
     @UsedForTesting
     public static Runnable chain(final Runnable... runnables) {
         return new RunnableChain(runnables);
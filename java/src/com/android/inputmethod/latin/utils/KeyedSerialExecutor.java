@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.utils;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Runs tasks on a bounded pool of threads. Tasks with the same key run one at a time in the order
+ * they have been submitted, while tasks with different keys may run in parallel.
+ *
+ * When more keys have pending tasks than there are threads, the key whose next task has the
+ * highest priority runs first. Keys with the same priority run in the order their next task has
+ * been submitted. A key only holds a thread for one task at a time, so a key with many tasks
+ * doesn't starve the others.
+ */
+public final class KeyedSerialExecutor {
+    private static final String TAG = KeyedSerialExecutor.class.getSimpleName();
+
+    // Smaller values run first.
+    public static final int PRIORITY_HIGH = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_LOW = 2;
+
+    private final ThreadPoolExecutor mThreadPoolExecutor;
+    private final Object mLock = new Object();
+    // Guarded by mLock. Only holds the keys that have pending or running tasks.
+    private final HashMap<String, SerialQueue> mSerialQueues = new HashMap<>();
+    // Guarded by mLock.
+    private long mNextSequenceNumber;
+    private final TimingHistogram mQueueWaitTimeHistogram = new TimingHistogram();
+    private final TimingHistogram mRunTimeHistogram = new TimingHistogram();
+
+    private static final class Task {
+        public final Runnable mRunnable;
+        public final int mPriority;
+        public final long mSequenceNumber;
+        public final long mSubmitTime;
+
+        public Task(final Runnable runnable, final int priority, final long sequenceNumber,
+                final long submitTime) {
+            mRunnable = runnable;
+            mPriority = priority;
+            mSequenceNumber = sequenceNumber;
+            mSubmitTime = submitTime;
+        }
+    }
+
+    // The pool runs the next task of a key. PriorityBlockingQueue requires the runnables it holds
+    // to be comparable.
+    private final class SerialQueue implements Runnable, Comparable<SerialQueue> {
+        public final String mKey;
+        // Guarded by mLock.
+        public final ArrayDeque<Task> mTasks = new ArrayDeque<>();
+        // The next task when this queue is in the pool. Guarded by mLock.
+        public Task mHeadTask;
+
+        public SerialQueue(final String key) {
+            mKey = key;
+        }
+
+        @Override
+        public int compareTo(final SerialQueue other) {
+            if (mHeadTask.mPriority != other.mHeadTask.mPriority) {
+                return mHeadTask.mPriority < other.mHeadTask.mPriority ? -1 : 1;
+            }
+            return Long.compare(mHeadTask.mSequenceNumber, other.mHeadTask.mSequenceNumber);
+        }
+
+        @Override
+        public void run() {
+            final Task task;
+            synchronized (mLock) {
+                task = mHeadTask;
+            }
+            final long startTime = SystemClock.uptimeMillis();
+            mQueueWaitTimeHistogram.add(startTime - task.mSubmitTime);
+            try {
+                task.mRunnable.run();
+            } catch (final RuntimeException e) {
+                Log.w(TAG, "Task for " + mKey + " failed.", e);
+            } finally {
+                mRunTimeHistogram.add(SystemClock.uptimeMillis() - startTime);
+                synchronized (mLock) {
+                    mTasks.pollFirst();
+                    if (mThreadPoolExecutor.isShutdown()) {
+                        // The remaining tasks have been dropped by shutdownNow().
+                        mTasks.clear();
+                        mHeadTask = null;
+                    } else if (mTasks.isEmpty()) {
+                        mHeadTask = null;
+                        mSerialQueues.remove(mKey);
+                    } else {
+                        // Goes back to the pool so that other keys get a chance to run.
+                        mHeadTask = mTasks.peekFirst();
+                        mThreadPoolExecutor.execute(this);
+                    }
+                }
+            }
+        }
+    }
+
+    public KeyedSerialExecutor(final int threadCount, final ThreadFactory threadFactory) {
+        mThreadPoolExecutor = new ThreadPoolExecutor(threadCount, threadCount,
+                0 /* keepAliveTime */, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<Runnable>(), threadFactory);
+    }
+
+    /**
+     * Runs the task after the tasks that have been submitted with the same key.
+     * @param key the key of the tasks that must not run concurrently with this task.
+     * @param priority one of {@link #PRIORITY_HIGH}, {@link #PRIORITY_NORMAL} and
+     * {@link #PRIORITY_LOW}.
+     * @param runnable the task.
+     */
+    public void execute(@Nonnull final String key, final int priority,
+            @Nonnull final Runnable runnable) {
+        synchronized (mLock) {
+            final Task task = new Task(runnable, priority, mNextSequenceNumber++,
+                    SystemClock.uptimeMillis());
+            SerialQueue serialQueue = mSerialQueues.get(key);
+            if (serialQueue != null) {
+                serialQueue.mTasks.addLast(task);
+                return;
+            }
+            serialQueue = new SerialQueue(key);
+            serialQueue.mTasks.addLast(task);
+            serialQueue.mHeadTask = task;
+            mSerialQueues.put(key, serialQueue);
+            mThreadPoolExecutor.execute(serialQueue);
+        }
+    }
+
+    /**
+     * Drops the tasks that haven't started and interrupts the running ones. Tasks can't be
+     * submitted any more.
+     */
+    public void shutdownNow() {
+        synchronized (mLock) {
+            mThreadPoolExecutor.shutdownNow();
+            mSerialQueues.clear();
+        }
+    }
+
+    /**
+     * Waits for the running tasks to finish after {@link #shutdownNow()}.
+     * @return true if they have finished, false if the timeout elapsed before.
+     */
+    public boolean awaitTermination(final long timeout, @Nonnull final TimeUnit unit)
+            throws InterruptedException {
+        return mThreadPoolExecutor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * @return the histogram of the time between the submission and the start of each task.
+     */
+    @Nonnull
+    public TimingHistogram getQueueWaitTimeHistogram() {
+        return mQueueWaitTimeHistogram;
+    }
+
+    /**
+     * @return the histogram of the time each task took to run.
+     */
+    @Nonnull
+    public TimingHistogram getRunTimeHistogram() {
+        return mRunTimeHistogram;
+    }
+
+    public String dump() {
+        return "  Queue wait time: " + mQueueWaitTimeHistogram
+                + "\n  Run time: " + mRunTimeHistogram;
+    }
+
+    /**
+     * Counts durations in buckets whose upper bounds double from 1 ms to 1024 ms. The last bucket
+     * holds everything above.
+     */
+    public static final class TimingHistogram {
+        private static final int BUCKET_COUNT = 12;
+
+        private final int[] mCounts = new int[BUCKET_COUNT];
+
+        public static int getBucketIndex(final long durationInMillis) {
+            int index = 0;
+            long upperBound = 1;
+            while (index < BUCKET_COUNT - 1 && durationInMillis >= upperBound) {
+                ++index;
+                upperBound <<= 1;
+            }
+            return index;
+        }
+
+        public synchronized void add(final long durationInMillis) {
+            ++mCounts[getBucketIndex(durationInMillis)];
+        }
+
+        public synchronized int getCount(final int bucketIndex) {
+            return mCounts[bucketIndex];
+        }
+
+        public synchronized int getTotalCount() {
+            int totalCount = 0;
+            for (final int count : mCounts) {
+                totalCount += count;
+            }
+            return totalCount;
+        }
+
+        @Override
+        public synchronized String toString() {
+            final StringBuilder builder = new StringBuilder();
+            long upperBound = 1;
+            for (int i = 0; i < BUCKET_COUNT; ++i) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                if (i < BUCKET_COUNT - 1) {
+                    builder.append("<").append(upperBound).append("ms: ");
+                } else {
+                    builder.append(">=").append(upperBound >> 1).append("ms: ");
+                }
+                builder.append(mCounts[i]);
+                upperBound <<= 1;
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -99,6 +99,7 @@ LATIN_IME_CORE_SRC_FILES := \
         char_utils.cpp \
         jni_data_utils.cpp \
         log_utils.cpp \
+        perf_stats.cpp \
         time_keeper.cpp)
 
 LATIN_IME_CORE_SRC_FILES_BACKWARD_V402 := \
@@ -143,4 +144,5 @@ LATIN_IME_CORE_TEST_FILES := \
     utils/autocorrection_threshold_utils_test.cpp \
     utils/char_utils_test.cpp \
     utils/int_array_view_test.cpp \
+    utils/perf_stats_test.cpp \
     utils/time_keeper_test.cpp
@@ -181,7 +181,8 @@ static void latinime_BinaryDictionary_getSuggestions(JNIEnv *env, jclass clazz,
         jintArray inputCodePointsArray, jint inputSize, jintArray suggestOptions,
         jobjectArray prevWordCodePointArrays, jbooleanArray isBeginningOfSentenceArray,
         jint prevWordCount, jintArray outSuggestionCount, jintArray outCodePointsArray,
-        jintArray outScoresArray, jintArray outSpaceIndicesArray, jintArray outTypesArray,
+        jintArray outCodePointCountsArray, jintArray outScoresArray,
+        jintArray outSpaceIndicesArray, jintArray outTypesArray,
         jintArray outAutoCommitFirstWordConfidenceArray,
         jfloatArray inOutWeightOfLangModelVsSpatialModel) {
     Dictionary *dictionary = reinterpret_cast<Dictionary *>(dict);
@@ -222,6 +223,12 @@ static void latinime_BinaryDictionary_getSuggestions(JNIEnv *env, jclass clazz,
         ASSERT(false);
         return;
     }
+    const jsize codePointCountsLength = env->GetArrayLength(outCodePointCountsArray);
+    if (codePointCountsLength != MAX_RESULTS) {
+        AKLOGE("Invalid codePointCountsLength: %d", codePointCountsLength);
+        ASSERT(false);
+        return;
+    }
     const jsize scoresLength = env->GetArrayLength(outScoresArray);
     if (scoresLength != MAX_RESULTS) {
         AKLOGE("Invalid scoresLength: %d", scoresLength);
@@ -256,10 +263,123 @@ static void latinime_BinaryDictionary_getSuggestions(JNIEnv *env, jclass clazz,
         suggestionResults.dumpSuggestions();
     }
     suggestionResults.outputSuggestions(env, outSuggestionCount, outCodePointsArray,
-            outScoresArray, outSpaceIndicesArray, outTypesArray,
+            outCodePointCountsArray, outScoresArray, outSpaceIndicesArray, outTypesArray,
             outAutoCommitFirstWordConfidenceArray, inOutWeightOfLangModelVsSpatialModel);
 }
 
+// Layout of the direct output buffer, in ints. Must be equal to the layout in
+// DicTraverseSession.java.
+static const int DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX = 0;
+static const int DIRECT_OUTPUT_AUTO_COMMIT_FIRST_WORD_CONFIDENCE_INDEX = 1;
+static const int DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX = 2;
+static const int DIRECT_OUTPUT_CODE_POINTS_INDEX = 3;
+static const int DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX =
+        DIRECT_OUTPUT_CODE_POINTS_INDEX + MAX_WORD_LENGTH * MAX_RESULTS;
+static const int DIRECT_OUTPUT_SCORES_INDEX = DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX + MAX_RESULTS;
+static const int DIRECT_OUTPUT_SPACE_INDICES_INDEX = DIRECT_OUTPUT_SCORES_INDEX + MAX_RESULTS;
+static const int DIRECT_OUTPUT_TYPES_INDEX = DIRECT_OUTPUT_SPACE_INDICES_INDEX + MAX_RESULTS;
+static const int DIRECT_OUTPUT_SIZE = DIRECT_OUTPUT_TYPES_INDEX + MAX_RESULTS;
+// Number of sections of the direct input pointers buffer: x-coordinates, y-coordinates, times and
+// pointer ids. Must be equal to the layout in DirectInputPointers.java.
+static const int DIRECT_INPUT_POINTERS_SECTION_COUNT = 4;
+
+// Same as latinime_BinaryDictionary_getSuggestions, but the input pointers and the results are
+// passed through direct ByteBuffers that are accessed in place.
+static void latinime_BinaryDictionary_getSuggestionsDirect(JNIEnv *env, jclass clazz, jlong dict,
+        jlong proximityInfo, jlong dicTraverseSession, jobject inputPointersBuffer,
+        jint inputPointersCapacity, jintArray inputCodePointsArray, jint inputSize,
+        jintArray suggestOptions, jobjectArray prevWordCodePointArrays,
+        jbooleanArray isBeginningOfSentenceArray, jint prevWordCount, jobject outputBuffer) {
+    int *const output = static_cast<int *>(env->GetDirectBufferAddress(outputBuffer));
+    if (!output || env->GetDirectBufferCapacity(outputBuffer)
+            < static_cast<jlong>(DIRECT_OUTPUT_SIZE * sizeof(int))) {
+        AKLOGE("Invalid direct output buffer");
+        ASSERT(false);
+        return;
+    }
+    // Assign 0 to the suggestion count here in case of returning earlier in this method.
+    output[DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX] = 0;
+    Dictionary *dictionary = reinterpret_cast<Dictionary *>(dict);
+    if (!dictionary) {
+        return;
+    }
+    ProximityInfo *pInfo = reinterpret_cast<ProximityInfo *>(proximityInfo);
+    DicTraverseSession *traverseSession =
+            reinterpret_cast<DicTraverseSession *>(dicTraverseSession);
+    if (!traverseSession) {
+        return;
+    }
+    int *const inputPointers = static_cast<int *>(env->GetDirectBufferAddress(inputPointersBuffer));
+    if (!inputPointers || inputSize > inputPointersCapacity
+            || env->GetDirectBufferCapacity(inputPointersBuffer)
+                    < static_cast<jlong>(DIRECT_INPUT_POINTERS_SECTION_COUNT
+                            * inputPointersCapacity * sizeof(int))) {
+        AKLOGE("Invalid direct input pointers buffer");
+        ASSERT(false);
+        return;
+    }
+    int *const xCoordinates = inputPointers;
+    int *const yCoordinates = inputPointers + inputPointersCapacity;
+    int *const times = inputPointers + 2 * inputPointersCapacity;
+    int *const pointerIds = inputPointers + 3 * inputPointersCapacity;
+    const jsize inputCodePointsLength = env->GetArrayLength(inputCodePointsArray);
+    int inputCodePoints[inputCodePointsLength];
+    env->GetIntArrayRegion(inputCodePointsArray, 0, inputCodePointsLength, inputCodePoints);
+
+    const jsize numberOfOptions = env->GetArrayLength(suggestOptions);
+    int options[numberOfOptions];
+    env->GetIntArrayRegion(suggestOptions, 0, numberOfOptions, options);
+    SuggestOptions givenSuggestOptions(options, numberOfOptions);
+
+    float *const weightOfLangModelVsSpatialModel = reinterpret_cast<float *>(
+            output + DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX);
+    SuggestionResults suggestionResults(MAX_RESULTS);
+    const NgramContext ngramContext = JniDataUtils::constructNgramContext(env,
+            prevWordCodePointArrays, isBeginningOfSentenceArray, prevWordCount);
+    if (givenSuggestOptions.isGesture() || inputSize > 0) {
+        dictionary->getSuggestions(pInfo, traverseSession, xCoordinates, yCoordinates,
+                times, pointerIds, inputCodePoints, inputSize, &ngramContext,
+                &givenSuggestOptions, *weightOfLangModelVsSpatialModel, &suggestionResults);
+    } else {
+        dictionary->getPredictions(&ngramContext, &suggestionResults);
+    }
+    if (DEBUG_DICT) {
+        suggestionResults.dumpSuggestions();
+    }
+    suggestionResults.outputSuggestions(output + DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX,
+            output + DIRECT_OUTPUT_CODE_POINTS_INDEX,
+            output + DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX, output + DIRECT_OUTPUT_SCORES_INDEX,
+            output + DIRECT_OUTPUT_SPACE_INDICES_INDEX, output + DIRECT_OUTPUT_TYPES_INDEX,
+            output + DIRECT_OUTPUT_AUTO_COMMIT_FIRST_WORD_CONFIDENCE_INDEX,
+            weightOfLangModelVsSpatialModel);
+}
+
+// Returns whether the layout of the direct buffers that Java code passes to
+// latinime_BinaryDictionary_getSuggestionsDirect is the layout defined above.
+static jboolean latinime_BinaryDictionary_isDirectBufferLayoutValid(JNIEnv *env, jclass clazz,
+        jint inputPointersSectionCount, jint outputSuggestionCountIndex,
+        jint outputAutoCommitFirstWordConfidenceIndex,
+        jint outputWeightOfLangModelVsSpatialModelIndex, jint outputCodePointsIndex,
+        jint outputCodePointCountsIndex, jint outputScoresIndex, jint outputSpaceIndicesIndex,
+        jint outputTypesIndex, jint outputSize) {
+    const bool isValid = inputPointersSectionCount == DIRECT_INPUT_POINTERS_SECTION_COUNT
+            && outputSuggestionCountIndex == DIRECT_OUTPUT_SUGGESTION_COUNT_INDEX
+            && outputAutoCommitFirstWordConfidenceIndex
+                    == DIRECT_OUTPUT_AUTO_COMMIT_FIRST_WORD_CONFIDENCE_INDEX
+            && outputWeightOfLangModelVsSpatialModelIndex
+                    == DIRECT_OUTPUT_WEIGHT_OF_LANG_MODEL_VS_SPATIAL_MODEL_INDEX
+            && outputCodePointsIndex == DIRECT_OUTPUT_CODE_POINTS_INDEX
+            && outputCodePointCountsIndex == DIRECT_OUTPUT_CODE_POINT_COUNTS_INDEX
+            && outputScoresIndex == DIRECT_OUTPUT_SCORES_INDEX
+            && outputSpaceIndicesIndex == DIRECT_OUTPUT_SPACE_INDICES_INDEX
+            && outputTypesIndex == DIRECT_OUTPUT_TYPES_INDEX
+            && outputSize == DIRECT_OUTPUT_SIZE;
+    if (!isValid) {
+        AKLOGE("The direct buffer layout differs from the layout in Java code.");
+    }
+    return isValid;
+}
+
 static jint latinime_BinaryDictionary_getProbability(JNIEnv *env, jclass clazz, jlong dict,
         jintArray word) {
     Dictionary *dictionary = reinterpret_cast<Dictionary *>(dict);
@@ -498,12 +618,12 @@ static int latinime_BinaryDictionary_updateEntriesForInputEvents(JNIEnv *env, jc
         dictionary->updateEntriesForWordWithNgramContext(&ngramContext,
                 CodePointArrayView(wordCodePoints, wordLength), isValid,
                 HistoricalInfo(timestamp, 0 /* level */, 1 /* count */));
-        if (dictionary->needsToRunGC(true /* mindsBlockByGC */)) {
-            return i + 1;
-        }
         env->DeleteLocalRef(prevWordArray);
         env->DeleteLocalRef(isPrevWordBeginningOfSentenceArray);
         env->DeleteLocalRef(inputEvent);
+        if (dictionary->needsToRunGC(true /* mindsBlockByGC */)) {
+            return i + 1;
+        }
     }
     return inputEventCount;
 }
@@ -518,7 +638,8 @@ static jstring latinime_BinaryDictionary_getProperty(JNIEnv *env, jclass clazz,
     char queryChars[queryUtf8Length + 1];
     env->GetStringUTFRegion(query, 0, env->GetStringLength(query), queryChars);
     queryChars[queryUtf8Length] = '\0';
-    static const int GET_PROPERTY_RESULT_LENGTH = 100;
+    // Large enough for the PERF_STATS query.
+    static const int GET_PROPERTY_RESULT_LENGTH = 1024;
     char resultChars[GET_PROPERTY_RESULT_LENGTH];
     resultChars[0] = '\0';
     dictionary->getProperty(queryChars, queryUtf8Length, resultChars, GET_PROPERTY_RESULT_LENGTH);
@@ -659,9 +780,20 @@ static const JNINativeMethod sMethods[] = {
     },
     {
         const_cast<char *>("getSuggestionsNative"),
-        const_cast<char *>("(JJJ[I[I[I[I[II[I[[I[ZI[I[I[I[I[I[I[F)V"),
+        const_cast<char *>("(JJJ[I[I[I[I[II[I[[I[ZI[I[I[I[I[I[I[I[F)V"),
         reinterpret_cast<void *>(latinime_BinaryDictionary_getSuggestions)
     },
+    {
+        const_cast<char *>("getSuggestionsDirectNative"),
+        const_cast<char *>(
+                "(JJJLjava/nio/ByteBuffer;I[II[I[[I[ZILjava/nio/ByteBuffer;)V"),
+        reinterpret_cast<void *>(latinime_BinaryDictionary_getSuggestionsDirect)
+    },
+    {
+        const_cast<char *>("isDirectBufferLayoutValidNative"),
+        const_cast<char *>("(IIIIIIIIII)Z"),
+        reinterpret_cast<void *>(latinime_BinaryDictionary_isDirectBufferLayoutValid)
+    },
     {
         const_cast<char *>("getProbabilityNative"),
         const_cast<char *>("(J[I)I"),
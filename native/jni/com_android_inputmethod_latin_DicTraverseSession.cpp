@@ -55,6 +55,14 @@ static void latinime_releaseDicTraverseSession(JNIEnv *env, jclass clazz, jlong
     DicTraverseSession::releaseSessionInstance(ts);
 }
 
+static void latinime_cancelDicTraverseSession(JNIEnv *env, jclass clazz, jlong traverseSession) {
+    DicTraverseSession *ts = reinterpret_cast<DicTraverseSession *>(traverseSession);
+    if (!ts) {
+        return;
+    }
+    ts->requestCancel();
+}
+
 static const JNINativeMethod sMethods[] = {
     {
         const_cast<char *>("setDicTraverseSessionNative"),
@@ -70,6 +78,11 @@ static const JNINativeMethod sMethods[] = {
         const_cast<char *>("releaseDicTraverseSessionNative"),
         const_cast<char *>("(J)V"),
         reinterpret_cast<void *>(latinime_releaseDicTraverseSession)
+    },
+    {
+        const_cast<char *>("cancelDicTraverseSessionNative"),
+        const_cast<char *>("(J)V"),
+        reinterpret_cast<void *>(latinime_cancelDicTraverseSession)
     }
 };
 
@@ -30,7 +30,8 @@ namespace latinime {
 class DicNodePriorityQueue {
  public:
     AK_FORCE_INLINE explicit DicNodePriorityQueue(const int capacity)
-            : mMaxSize(capacity), mDicNodesQueue(), mDicNodePool(capacity) {
+            : mMaxSize(capacity), mDicNodesQueue(), mDicNodePool(capacity), mPushCount(0),
+              mDropCount(0) {
         clear();
     }
 
@@ -62,14 +63,18 @@ class DicNodePriorityQueue {
     }
 
     AK_FORCE_INLINE void copyPush(const DicNode *const dicNode) {
+        ++mPushCount;
         DicNode *const pooledDicNode = newDicNode(dicNode);
         if (!pooledDicNode) {
+            ++mDropCount;
             return;
         }
         if (getSize() < mMaxSize) {
             mDicNodesQueue.push(pooledDicNode);
             return;
         }
+        // Either the worst DicNode or the pushed one is dropped.
+        ++mDropCount;
         if (betterThanWorstDicNode(pooledDicNode)) {
             mDicNodePool.placeBackInstance(mDicNodesQueue.top());
             mDicNodesQueue.pop();
@@ -96,6 +101,15 @@ class DicNodePriorityQueue {
         mDicNodePool.dump();
     }
 
+    // Adds the number of pushed DicNodes and the number of them that have been dropped since the
+    // last call, and resets them. Clearing the queue doesn't reset them.
+    AK_FORCE_INLINE void takePushAndDropCounts(int *const outPushCount, int *const outDropCount) {
+        *outPushCount += mPushCount;
+        *outDropCount += mDropCount;
+        mPushCount = 0;
+        mDropCount = 0;
+    }
+
  private:
     DISALLOW_IMPLICIT_CONSTRUCTORS(DicNodePriorityQueue);
 
@@ -114,6 +128,8 @@ class DicNodePriorityQueue {
     int mMaxSize;
     DicNodesQueue mDicNodesQueue;
     DicNodePool mDicNodePool;
+    int mPushCount;
+    int mDropCount;
 
     AK_FORCE_INLINE bool betterThanWorstDicNode(const DicNode *const dicNode) const {
         DicNode *worstNode = mDicNodesQueue.top();
@@ -21,6 +21,7 @@
 
 #include "defines.h"
 #include "suggest/core/dicnode/dic_node_priority_queue.h"
+#include "utils/perf_stats.h"
 
 namespace latinime {
 
@@ -41,7 +42,7 @@ class DicNodesCache {
               mNextActiveDicNodes(&mDicNodePriorityQueue1),
               mCachedDicNodesForContinuousSuggestion(&mDicNodePriorityQueue2),
               mTerminalDicNodes(&mDicNodePriorityQueueForTerminal),
-              mInputIndex(0), mLastCachedInputIndex(0) {}
+              mInputIndex(0), mLastCachedInputIndex(0), mPoppedActiveDicNodeCount(0) {}
 
     AK_FORCE_INLINE virtual ~DicNodesCache() {}
 
@@ -106,6 +107,7 @@ class DicNodesCache {
     }
 
     void popActive(DicNode *dest) {
+        ++mPoppedActiveDicNodeCount;
         mActiveDicNodes->copyPop(dest);
     }
 
@@ -114,6 +116,11 @@ class DicNodesCache {
                 && mCachedDicNodesForContinuousSuggestion->getSize() > 0;
     }
 
+    // Drops the cached dicNodes, so that the next search starts over at the root.
+    void clearCachedDicNodesForContinuousSuggestion() {
+        mCachedDicNodesForContinuousSuggestion->clear();
+    }
+
     AK_FORCE_INLINE bool isCacheBorderForTyping(const int inputSize) const {
         // TODO: Move this variable to header
         static const int CACHE_BACK_LENGTH = 3;
@@ -127,6 +134,21 @@ class DicNodesCache {
         mLastCachedInputIndex = mInputIndex;
     }
 
+    // Adds the counts accumulated since the last call to perfStats. The counts are kept here
+    // during the search so that the hot path doesn't touch shared memory.
+    void addPerfCountsTo(PerfStats *const perfStats) {
+        int pushCount = 0;
+        int dropCount = 0;
+        mDicNodePriorityQueue0.takePushAndDropCounts(&pushCount, &dropCount);
+        mDicNodePriorityQueue1.takePushAndDropCounts(&pushCount, &dropCount);
+        mDicNodePriorityQueue2.takePushAndDropCounts(&pushCount, &dropCount);
+        mDicNodePriorityQueueForTerminal.takePushAndDropCounts(&pushCount, &dropCount);
+        perfStats->addCount(PerfStats::DIC_NODES_CACHE_PUSH_COUNT, pushCount);
+        perfStats->addCount(PerfStats::DIC_NODES_CACHE_DROP_COUNT, dropCount);
+        perfStats->addCount(PerfStats::EXPANDED_DIC_NODE_COUNT, mPoppedActiveDicNodeCount);
+        mPoppedActiveDicNodeCount = 0;
+    }
+
  private:
     DISALLOW_COPY_AND_ASSIGN(DicNodesCache);
 
@@ -185,6 +207,7 @@ class DicNodesCache {
     DicNodePriorityQueue *mTerminalDicNodes;
     int mInputIndex;
     int mLastCachedInputIndex;
+    int mPoppedActiveDicNodeCount;
 };
 } // namespace latinime
 #endif // LATINIME_DIC_NODES_CACHE_H
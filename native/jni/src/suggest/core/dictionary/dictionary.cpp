@@ -18,6 +18,8 @@
 
 #include "suggest/core/dictionary/dictionary.h"
 
+#include <cstring>
+
 #include "defines.h"
 #include "dictionary/interface/dictionary_header_structure_policy.h"
 #include "dictionary/property/ngram_context.h"
@@ -35,12 +37,14 @@
 namespace latinime {
 
 const int Dictionary::HEADER_ATTRIBUTE_BUFFER_SIZE = 32;
+const char *const Dictionary::PERF_STATS_QUERY = "PERF_STATS";
 
 Dictionary::Dictionary(JNIEnv *env, DictionaryStructureWithBufferPolicy::StructurePolicyPtr
         dictionaryStructureWithBufferPolicy)
         : mDictionaryStructureWithBufferPolicy(std::move(dictionaryStructureWithBufferPolicy)),
           mGestureSuggest(new Suggest(GestureSuggestPolicyFactory::getGestureSuggestPolicy())),
-          mTypingSuggest(new Suggest(TypingSuggestPolicyFactory::getTypingSuggestPolicy())) {
+          mTypingSuggest(new Suggest(TypingSuggestPolicyFactory::getTypingSuggestPolicy())),
+          mPerfStats() {
     logDictionaryInfo(env);
 }
 
@@ -52,9 +56,12 @@ void Dictionary::getSuggestions(ProximityInfo *proximityInfo, DicTraverseSession
     TimeKeeper::setCurrentTime();
     traverseSession->init(this, ngramContext, suggestOptions);
     const auto &suggest = suggestOptions->isGesture() ? mGestureSuggest : mTypingSuggest;
+    const PerfStats::PageFaultCounts pageFaultCounts;
     suggest->getSuggestions(proximityInfo, traverseSession, xcoordinates,
             ycoordinates, times, pointerIds, inputCodePoints, inputSize,
-            weightOfLangModelVsSpatialModel, outSuggestionResults);
+            weightOfLangModelVsSpatialModel, outSuggestionResults, &mPerfStats);
+    pageFaultCounts.addDeltaTo(&mPerfStats);
+    mPerfStats.addCount(PerfStats::GET_SUGGESTIONS_CALL_COUNT, 1);
 }
 
 Dictionary::NgramListenerForPrediction::NgramListenerForPrediction(
@@ -179,6 +186,10 @@ bool Dictionary::needsToRunGC(const bool mindsBlockByGC) {
 
 void Dictionary::getProperty(const char *const query, const int queryLength, char *const outResult,
         const int maxResultLength) {
+    if (strncmp(query, PERF_STATS_QUERY, queryLength + 1 /* terminator */) == 0) {
+        mPerfStats.dump(outResult, maxResultLength);
+        return;
+    }
     TimeKeeper::setCurrentTime();
     return mDictionaryStructureWithBufferPolicy->getProperty(query, queryLength, outResult,
             maxResultLength);
@@ -28,6 +28,7 @@
 #include "dictionary/property/word_property.h"
 #include "suggest/core/suggest_interface.h"
 #include "utils/int_array_view.h"
+#include "utils/perf_stats.h"
 
 namespace latinime {
 
@@ -138,11 +139,14 @@ class Dictionary {
     };
 
     static const int HEADER_ATTRIBUTE_BUFFER_SIZE;
+    static const char *const PERF_STATS_QUERY;
 
     const DictionaryStructureWithBufferPolicy::StructurePolicyPtr
             mDictionaryStructureWithBufferPolicy;
     const SuggestInterfacePtr mGestureSuggest;
     const SuggestInterfacePtr mTypingSuggest;
+    // Updated by the const suggestion methods, which may run concurrently.
+    mutable PerfStats mPerfStats;
 
     void logDictionaryInfo(JNIEnv *const env) const;
 };
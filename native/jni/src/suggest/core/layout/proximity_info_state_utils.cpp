@@ -830,7 +830,11 @@ namespace latinime {
     const int readForwordLength = static_cast<int>(
             hypotf(proximityInfo->getKeyboardWidth(), proximityInfo->getKeyboardHeight())
                     * ProximityInfoParams::SEARCH_KEY_RADIUS_RATIO);
-    for (int i = 0; i < sampledInputSize; ++i) {
+    // Only the points that are within readForwordLength from the first new point can see the new
+    // points. The search key sets of the points before them have not changed since the last update.
+    const int firstUpdatedIndex = getFirstIndexReachingNewPoints(sampledInputSize,
+            lastSavedInputSize, readForwordLength, sampledLengthCache);
+    for (int i = firstUpdatedIndex; i < sampledInputSize; ++i) {
         if (i >= lastSavedInputSize) {
             (*sampledSearchKeySets)[i].reset();
         }
@@ -848,7 +852,7 @@ namespace latinime {
         }
     }
     const int keyCount = proximityInfo->getKeyCount();
-    for (int i = 0; i < sampledInputSize; ++i) {
+    for (int i = firstUpdatedIndex; i < sampledInputSize; ++i) {
         std::vector<int> *searchKeyVector = &(*sampledSearchKeyVectors)[i];
         searchKeyVector->clear();
         for (int j = 0; j < keyCount; ++j) {
@@ -863,6 +867,24 @@ namespace latinime {
     }
 }
 
+// Returns the first sampled point whose search key set may include keys of the points that have
+// been added since lastSavedInputSize. The length cache is cumulative, so the points before it are
+// too far from every new point.
+/* static */ int ProximityInfoStateUtils::getFirstIndexReachingNewPoints(
+        const int sampledInputSize, const int lastSavedInputSize, const int readForwordLength,
+        const std::vector<int> *const sampledLengthCache) {
+    if (lastSavedInputSize >= sampledInputSize) {
+        return sampledInputSize;
+    }
+    const int firstNewPointLength = (*sampledLengthCache)[lastSavedInputSize];
+    int index = lastSavedInputSize;
+    while (index > 0
+            && firstNewPointLength - (*sampledLengthCache)[index - 1] < readForwordLength) {
+        --index;
+    }
+    return index;
+}
+
 // Decreases char probabilities of index0 by checking probabilities of a near point (index1) and
 // increases char probabilities of index1 by checking probabilities of index0.
 /* static */ bool ProximityInfoStateUtils::suppressCharProbabilities(const int mostCommonKeyWidth,
@@ -111,6 +111,10 @@ class ProximityInfoStateUtils {
  private:
     DISALLOW_IMPLICIT_CONSTRUCTORS(ProximityInfoStateUtils);
 
+    static int getFirstIndexReachingNewPoints(const int sampledInputSize,
+            const int lastSavedInputSize, const int readForwordLength,
+            const std::vector<int> *const sampledLengthCache);
+
     static float updateNearKeysDistances(const ProximityInfo *const proximityInfo,
             const float maxPointToKeyLength, const int x, const int y,
             const bool isGeometric,
@@ -21,17 +21,20 @@
 namespace latinime {
 
 void SuggestionResults::outputSuggestions(JNIEnv *env, jintArray outSuggestionCount,
-        jintArray outputCodePointsArray, jintArray outScoresArray, jintArray outSpaceIndicesArray,
-        jintArray outTypesArray, jintArray outAutoCommitFirstWordConfidenceArray,
+        jintArray outputCodePointsArray, jintArray outCodePointCountsArray,
+        jintArray outScoresArray, jintArray outSpaceIndicesArray, jintArray outTypesArray,
+        jintArray outAutoCommitFirstWordConfidenceArray,
         jfloatArray outWeightOfLangModelVsSpatialModel) {
     int outputIndex = 0;
     while (!mSuggestedWords.empty()) {
         const SuggestedWord &suggestedWord = mSuggestedWords.top();
-        suggestedWord.getCodePointCount();
         const int start = outputIndex * MAX_WORD_LENGTH;
-        JniDataUtils::outputCodePoints(env, outputCodePointsArray, start,
-                MAX_WORD_LENGTH /* maxLength */, suggestedWord.getCodePoint(),
-                suggestedWord.getCodePointCount(), true /* needsNullTermination */);
+        const int outputCodePointCount = JniDataUtils::outputCodePoints(env,
+                outputCodePointsArray, start, MAX_WORD_LENGTH /* maxLength */,
+                suggestedWord.getCodePoint(), suggestedWord.getCodePointCount(),
+                true /* needsNullTermination */);
+        JniDataUtils::putIntToArray(env, outCodePointCountsArray, outputIndex,
+                outputCodePointCount);
         JniDataUtils::putIntToArray(env, outScoresArray, outputIndex, suggestedWord.getScore());
         JniDataUtils::putIntToArray(env, outSpaceIndicesArray, outputIndex,
                 suggestedWord.getIndexToPartialCommit());
@@ -48,6 +51,31 @@ void SuggestionResults::outputSuggestions(JNIEnv *env, jintArray outSuggestionCo
             mWeightOfLangModelVsSpatialModel);
 }
 
+void SuggestionResults::outputSuggestions(int *const outSuggestionCount,
+        int *const outCodePoints, int *const outCodePointCounts, int *const outScores,
+        int *const outSpaceIndices, int *const outTypes,
+        int *const outAutoCommitFirstWordConfidence,
+        float *const outWeightOfLangModelVsSpatialModel) {
+    int outputIndex = 0;
+    while (!mSuggestedWords.empty()) {
+        const SuggestedWord &suggestedWord = mSuggestedWords.top();
+        outCodePointCounts[outputIndex] = JniDataUtils::outputCodePoints(
+                outCodePoints + outputIndex * MAX_WORD_LENGTH, MAX_WORD_LENGTH /* maxLength */,
+                suggestedWord.getCodePoint(), suggestedWord.getCodePointCount(),
+                true /* needsNullTermination */);
+        outScores[outputIndex] = suggestedWord.getScore();
+        outSpaceIndices[outputIndex] = suggestedWord.getIndexToPartialCommit();
+        outTypes[outputIndex] = suggestedWord.getType();
+        if (mSuggestedWords.size() == 1) {
+            *outAutoCommitFirstWordConfidence = suggestedWord.getAutoCommitFirstWordConfidence();
+        }
+        ++outputIndex;
+        mSuggestedWords.pop();
+    }
+    *outSuggestionCount = outputIndex;
+    *outWeightOfLangModelVsSpatialModel = mWeightOfLangModelVsSpatialModel;
+}
+
 void SuggestionResults::addPrediction(const int *const codePoints, const int codePointCount,
         const int probability) {
     if (probability == NOT_A_PROBABILITY) {
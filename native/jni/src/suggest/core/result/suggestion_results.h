@@ -35,9 +35,16 @@ class SuggestionResults {
 
     // Returns suggestion count.
     void outputSuggestions(JNIEnv *env, jintArray outSuggestionCount, jintArray outCodePointsArray,
-            jintArray outScoresArray, jintArray outSpaceIndicesArray, jintArray outTypesArray,
+            jintArray outCodePointCountsArray, jintArray outScoresArray,
+            jintArray outSpaceIndicesArray, jintArray outTypesArray,
             jintArray outAutoCommitFirstWordConfidenceArray,
             jfloatArray outWeightOfLangModelVsSpatialModel);
+    // Same as above, but writes to native buffers such as a direct ByteBuffer. outCodePoints
+    // must have room for MAX_WORD_LENGTH code points per suggestion.
+    void outputSuggestions(int *const outSuggestionCount, int *const outCodePoints,
+            int *const outCodePointCounts, int *const outScores, int *const outSpaceIndices,
+            int *const outTypes, int *const outAutoCommitFirstWordConfidence,
+            float *const outWeightOfLangModelVsSpatialModel);
     void addPrediction(const int *const codePoints, const int codePointCount, const int score);
     void addSuggestion(const int *const codePoints, const int codePointCount,
             const int score, const int type, const int indexToPartialCommit,
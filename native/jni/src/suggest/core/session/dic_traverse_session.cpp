@@ -20,7 +20,9 @@
 #include "dictionary/interface/dictionary_header_structure_policy.h"
 #include "dictionary/interface/dictionary_structure_with_buffer_policy.h"
 #include "dictionary/property/ngram_context.h"
+#include "suggest/core/dicnode/dic_node.h"
 #include "suggest/core/dictionary/dictionary.h"
+#include "suggest/core/suggest_options.h"
 
 namespace latinime {
 
@@ -28,6 +30,9 @@ namespace latinime {
 // (e.g. main dictionary) from small dictionaries (e.g. contacts...)
 const int DicTraverseSession::DICTIONARY_SIZE_THRESHOLD_TO_USE_LARGE_CACHE_FOR_SUGGESTION =
         256 * 1024;
+// The number of sampled points before the last points that a node may have reached to be kept for
+// the next update of a gesture. Wider frontiers keep more paths but resume from earlier points.
+const int DicTraverseSession::GESTURE_FRONTIER_WIDTH = 3;
 
 void DicTraverseSession::init(const Dictionary *const dictionary,
         const NgramContext *const ngramContext, const SuggestOptions *const suggestOptions) {
@@ -43,6 +48,7 @@ void DicTraverseSession::setupForGetSuggestions(const ProximityInfo *pInfo,
         const int *inputCodePoints, const int inputSize, const int *const inputXs,
         const int *const inputYs, const int *const times, const int *const pointerIds,
         const float maxSpatialDistance, const int maxPointerCount) {
+    mIsCancelled.store(false, std::memory_order_relaxed);
     mProximityInfo = pInfo;
     mMaxPointerCount = maxPointerCount;
     initializeProximityInfoStates(inputCodePoints, inputXs, inputYs, times, pointerIds, inputSize,
@@ -60,6 +66,29 @@ void DicTraverseSession::resetCache(const int thresholdForNextActiveDicNodes, co
     mMultiBigramMap.clear();
 }
 
+// A gesture is decoded again each time points are appended to it. The search keeps the first node
+// of each path that reaches the last points the next update keeps, and the next update resumes
+// from these nodes through DicNodesCache::continueSearch() instead of starting over at the root.
+// ProximityInfoState always samples the last two points again (see
+// ProximityInfoStateUtils::trimLastTwoTouchPoints()), so the kept nodes must not have reached
+// them. The nodes that descend from a kept node are not kept again. When the points of the next
+// update don't start with the current ones, ProximityInfoState doesn't allow the continuation and
+// the next update starts over at the root. A path that skips the whole frontier in one step isn't
+// kept.
+bool DicTraverseSession::isGestureFrontierDicNode(const DicNode *const dicNode) const {
+    if (!mSuggestOptions->isGesture() || dicNode->isCached()) {
+        return false;
+    }
+    int pointerId = 0;
+    if (!isOnlyOnePointerUsed(&pointerId)) {
+        return false;
+    }
+    const int keptSampledInputSize = mProximityInfoStates[pointerId].size() - 2;
+    const int inputIndex = dicNode->getInputIndex(pointerId);
+    return inputIndex < keptSampledInputSize
+            && inputIndex >= keptSampledInputSize - GESTURE_FRONTIER_WIDTH;
+}
+
 void DicTraverseSession::initializeProximityInfoStates(const int *const inputCodePoints,
         const int *const inputXs, const int *const inputYs, const int *const times,
         const int *const pointerIds, const int inputSize, const float maxSpatialDistance,
@@ -17,6 +17,7 @@
 #ifndef LATINIME_DIC_TRAVERSE_SESSION_H
 #define LATINIME_DIC_TRAVERSE_SESSION_H
 
+#include <atomic>
 #include <vector>
 
 #include "defines.h"
@@ -28,6 +29,7 @@
 
 namespace latinime {
 
+class DicNode;
 class Dictionary;
 class DictionaryStructureWithBufferPolicy;
 class NgramContext;
@@ -53,7 +55,8 @@ class DicTraverseSession {
     AK_FORCE_INLINE DicTraverseSession(JNIEnv *env, jstring localeStr, bool usesLargeCache)
             : mPrevWordIdCount(0), mProximityInfo(nullptr), mDictionary(nullptr),
               mSuggestOptions(nullptr), mDicNodesCache(usesLargeCache), mMultiBigramMap(),
-              mInputSize(0), mMaxPointerCount(1), mMultiWordCostMultiplier(1.0f) {
+              mInputSize(0), mMaxPointerCount(1), mMultiWordCostMultiplier(1.0f),
+              mIsCancelled(false) {
         // NOTE: mProximityInfoStates is an array of instances.
         // No need to initialize it explicitly here.
     }
@@ -149,6 +152,10 @@ class DicTraverseSession {
         return true;
     }
 
+    // Returns whether dicNode is on the frontier that the next update of a gesture resumes
+    // from. See DicTraverseSession::isGestureFrontierDicNode() for details.
+    bool isGestureFrontierDicNode(const DicNode *const dicNode) const;
+
     bool isTouchPositionCorrectionEnabled() const {
         return mProximityInfoStates[0].touchPositionCorrectionEnabled();
     }
@@ -157,11 +164,23 @@ class DicTraverseSession {
         return mMultiWordCostMultiplier;
     }
 
+    // Can be called from any thread. The search that is running on this session stops at the next
+    // depth level and outputs the suggestions it has found so far. The request is cleared when the
+    // next search starts.
+    void requestCancel() {
+        mIsCancelled.store(true, std::memory_order_relaxed);
+    }
+
+    bool isCancelled() const {
+        return mIsCancelled.load(std::memory_order_relaxed);
+    }
+
  private:
     DISALLOW_IMPLICIT_CONSTRUCTORS(DicTraverseSession);
     // threshold to start caching
     static const int CACHE_START_INPUT_LENGTH_THRESHOLD;
     static const int DICTIONARY_SIZE_THRESHOLD_TO_USE_LARGE_CACHE_FOR_SUGGESTION;
+    static const int GESTURE_FRONTIER_WIDTH;
     void initializeProximityInfoStates(const int *const inputCodePoints, const int *const inputXs,
             const int *const inputYs, const int *const times, const int *const pointerIds,
             const int inputSize, const float maxSpatialDistance, const int maxPointerCount);
@@ -183,6 +202,7 @@ class DicTraverseSession {
     /////////////////////////////////
     // Configuration per dictionary
     float mMultiWordCostMultiplier;
+    std::atomic<bool> mIsCancelled;
 
 };
 } // namespace latinime
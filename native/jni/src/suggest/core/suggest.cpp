@@ -29,6 +29,7 @@
 #include "suggest/core/result/suggestions_output_utils.h"
 #include "suggest/core/session/dic_traverse_session.h"
 #include "suggest/core/suggest_options.h"
+#include "utils/perf_stats.h"
 #include "utils/profiler.h"
 
 namespace latinime {
@@ -48,29 +49,41 @@ const int Suggest::MIN_CONTINUOUS_SUGGESTION_INPUT_SIZE = 2;
 void Suggest::getSuggestions(ProximityInfo *pInfo, void *traverseSession,
         int *inputXs, int *inputYs, int *times, int *pointerIds, int *inputCodePoints,
         int inputSize, const float weightOfLangModelVsSpatialModel,
-        SuggestionResults *const outSuggestionResults) const {
+        SuggestionResults *const outSuggestionResults, PerfStats *const perfStats) const {
     PROF_INIT;
     PROF_TIMER_START(0);
+    const int64_t startTime = PerfStats::getTimeInMicroSec();
     const float maxSpatialDistance = TRAVERSAL->getMaxSpatialDistance();
     DicTraverseSession *tSession = static_cast<DicTraverseSession *>(traverseSession);
     tSession->setupForGetSuggestions(pInfo, inputCodePoints, inputSize, inputXs, inputYs, times,
             pointerIds, maxSpatialDistance, TRAVERSAL->getMaxPointerCount());
     // TODO: Add the way to evaluate cache
 
-    initializeSearch(tSession);
+    initializeSearch(tSession, perfStats);
+    const int64_t expandStartTime = PerfStats::getTimeInMicroSec();
+    perfStats->addTime(PerfStats::INITIALIZE_SEARCH_TIMER, expandStartTime - startTime);
     PROF_TIMER_END(0);
     PROF_TIMER_START(1);
 
-    // keep expanding search dicNodes until all have terminated.
-    while (tSession->getDicTraverseCache()->activeSize() > 0) {
+    // keep expanding search dicNodes until all have terminated or the search has been canceled.
+    while (tSession->getDicTraverseCache()->activeSize() > 0 && !tSession->isCancelled()) {
         expandCurrentDicNodes(tSession);
         tSession->getDicTraverseCache()->advanceActiveDicNodes();
         tSession->getDicTraverseCache()->advanceInputIndex(inputSize);
     }
+    if (tSession->isCancelled()) {
+        // The nodes cached for the next search are incomplete.
+        tSession->getDicTraverseCache()->clearCachedDicNodesForContinuousSuggestion();
+    }
+    const int64_t outputStartTime = PerfStats::getTimeInMicroSec();
+    perfStats->addTime(PerfStats::EXPAND_DIC_NODES_TIMER, outputStartTime - expandStartTime);
     PROF_TIMER_END(1);
     PROF_TIMER_START(2);
     SuggestionsOutputUtils::outputSuggestions(
             SCORING, tSession, weightOfLangModelVsSpatialModel, outSuggestionResults);
+    perfStats->addTime(PerfStats::OUTPUT_SUGGESTIONS_TIMER,
+            PerfStats::getTimeInMicroSec() - outputStartTime);
+    tSession->getDicTraverseCache()->addPerfCountsTo(perfStats);
     PROF_TIMER_END(2);
 }
 
@@ -78,7 +91,8 @@ void Suggest::getSuggestions(ProximityInfo *pInfo, void *traverseSession,
  * Initializes the search at the root of the lexicon trie. Note that when possible the search will
  * continue suggestion from where it left off during the last call.
  */
-void Suggest::initializeSearch(DicTraverseSession *traverseSession) const {
+void Suggest::initializeSearch(DicTraverseSession *traverseSession,
+        PerfStats *const perfStats) const {
     if (!traverseSession->getProximityInfoState(0)->isUsed()) {
         return;
     }
@@ -87,6 +101,7 @@ void Suggest::initializeSearch(DicTraverseSession *traverseSession) const {
             && traverseSession->isContinuousSuggestionPossible()) {
         // Continue suggestion
         traverseSession->getDicTraverseCache()->continueSearch();
+        perfStats->addCount(PerfStats::CONTINUED_SEARCH_COUNT, 1);
     } else {
         // Restart recognition at the root.
         traverseSession->resetCache(TRAVERSAL->getMaxCacheSize(traverseSession->getInputSize(),
@@ -134,7 +149,8 @@ void Suggest::expandCurrentDicNodes(DicTraverseSession *traverseSession) const {
         const bool isCompletion = dicNode.isCompletion(inputSize);
 
         const bool shouldNodeLevelCache =
-                TRAVERSAL->shouldNodeLevelCache(traverseSession, &dicNode);
+                TRAVERSAL->shouldNodeLevelCache(traverseSession, &dicNode)
+                        || traverseSession->isGestureFrontierDicNode(&dicNode);
         if (shouldDepthLevelCache || shouldNodeLevelCache) {
             if (DEBUG_CACHE) {
                 dicNode.dump("PUSH_CACHE");
@@ -21,6 +21,7 @@
 
 namespace latinime {
 
+class PerfStats;
 class ProximityInfo;
 class SuggestionResults;
 
@@ -29,7 +30,7 @@ class SuggestInterface {
     virtual void getSuggestions(ProximityInfo *pInfo, void *traverseSession, int *inputXs,
             int *inputYs, int *times, int *pointerIds, int *inputCodePoints, int inputSize,
             const float weightOfLangModelVsSpatialModel,
-            SuggestionResults *const suggestionResults) const = 0;
+            SuggestionResults *const suggestionResults, PerfStats *const perfStats) const = 0;
     SuggestInterface() {}
     virtual ~SuggestInterface() {}
  private:
@@ -70,33 +70,34 @@ class JniDataUtils {
         return attributeMap;
     }
 
-    static void outputCodePoints(JNIEnv *env, jintArray intArrayToOutputCodePoints, const int start,
+    // Returns the number of code points that have been output, which can be smaller than
+    // codePointCount as the Beginning-of-Sentence marker is skipped.
+    static int outputCodePoints(JNIEnv *env, jintArray intArrayToOutputCodePoints, const int start,
             const int maxLength, const int *const codePoints, const int codePointCount,
             const bool needsNullTermination) {
         const int codePointBufSize = std::min(maxLength, codePointCount);
         int outputCodePonts[codePointBufSize];
-        int outputCodePointCount = 0;
-        for (int i = 0; i < codePointBufSize; ++i) {
-            const int codePoint = codePoints[i];
-            int codePointToOutput = codePoint;
-            if (!CharUtils::isInUnicodeSpace(codePoint)) {
-                if (codePoint == CODE_POINT_BEGINNING_OF_SENTENCE) {
-                    // Just skip Beginning-of-Sentence marker.
-                    continue;
-                }
-                codePointToOutput = CODE_POINT_REPLACEMENT_CHARACTER;
-            } else if (codePoint >= 0x01 && codePoint <= 0x1F) {
-                // Control code.
-                codePointToOutput = CODE_POINT_REPLACEMENT_CHARACTER;
-            }
-            outputCodePonts[outputCodePointCount++] = codePointToOutput;
-        }
+        const int outputCodePointCount = convertCodePointsForOutput(codePoints,
+                codePointBufSize, outputCodePonts);
         env->SetIntArrayRegion(intArrayToOutputCodePoints, start, outputCodePointCount,
                 outputCodePonts);
         if (needsNullTermination && outputCodePointCount < maxLength) {
             env->SetIntArrayRegion(intArrayToOutputCodePoints, start + outputCodePointCount,
                     1 /* len */, &CODE_POINT_NULL);
         }
+        return outputCodePointCount;
+    }
+
+    // Same as above, but writes to a native buffer such as a direct ByteBuffer.
+    static int outputCodePoints(int *const outCodePoints, const int maxLength,
+            const int *const codePoints, const int codePointCount,
+            const bool needsNullTermination) {
+        const int outputCodePointCount = convertCodePointsForOutput(codePoints,
+                std::min(maxLength, codePointCount), outCodePoints);
+        if (needsNullTermination && outputCodePointCount < maxLength) {
+            outCodePoints[outputCodePointCount] = CODE_POINT_NULL;
+        }
+        return outputCodePointCount;
     }
 
     static NgramContext constructNgramContext(JNIEnv *env, jobjectArray prevWordCodePointArrays,
@@ -148,6 +149,26 @@ class JniDataUtils {
             jobject outShortcutProbabilities);
 
  private:
+    static int convertCodePointsForOutput(const int *const codePoints, const int codePointCount,
+            int *const outCodePoints) {
+        int outputCodePointCount = 0;
+        for (int i = 0; i < codePointCount; ++i) {
+            const int codePoint = codePoints[i];
+            int codePointToOutput = codePoint;
+            if (!CharUtils::isInUnicodeSpace(codePoint)) {
+                if (codePoint == CODE_POINT_BEGINNING_OF_SENTENCE) {
+                    // Just skip Beginning-of-Sentence marker.
+                    continue;
+                }
+                codePointToOutput = CODE_POINT_REPLACEMENT_CHARACTER;
+            } else if (codePoint >= 0x01 && codePoint <= 0x1F) {
+                // Control code.
+                codePointToOutput = CODE_POINT_REPLACEMENT_CHARACTER;
+            }
+            outCodePoints[outputCodePointCount++] = codePointToOutput;
+        }
+        return outputCodePointCount;
+    }
     DISALLOW_IMPLICIT_CONSTRUCTORS(JniDataUtils);
 
     static const int CODE_POINT_REPLACEMENT_CHARACTER;
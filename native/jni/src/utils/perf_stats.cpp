@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2016, The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "utils/perf_stats.h"
+
+#include <cstdio>
+#include <ctime>
+#include <sys/resource.h>
+
+namespace latinime {
+
+const int PerfStats::HISTOGRAM_BUCKET_COUNT;
+const int64_t PerfStats::FIRST_BUCKET_UPPER_BOUND_IN_MICRO_SEC = 128;
+// Must be in the order of the Counter and Timer enums.
+const char *const PerfStats::COUNTER_NAMES[] = {
+    "getSuggestions",
+    "continuedSearches",
+    "expandedDicNodes",
+    "cachePushes",
+    "cacheDrops",
+    "minorFaults",
+    "majorFaults",
+};
+const char *const PerfStats::TIMER_NAMES[] = {
+    "initializeSearch",
+    "expandDicNodes",
+    "outputSuggestions",
+};
+
+PerfStats::PageFaultCounts::PageFaultCounts() : mMinorFaultCount(0), mMajorFaultCount(0) {
+#ifdef RUSAGE_THREAD
+    struct rusage usage;
+    if (getrusage(RUSAGE_THREAD, &usage) == 0) {
+        mMinorFaultCount = usage.ru_minflt;
+        mMajorFaultCount = usage.ru_majflt;
+    }
+#endif // RUSAGE_THREAD
+}
+
+void PerfStats::PageFaultCounts::addDeltaTo(PerfStats *const perfStats) const {
+    const PageFaultCounts currentCounts;
+    perfStats->addCount(MINOR_PAGE_FAULT_COUNT,
+            currentCounts.mMinorFaultCount - mMinorFaultCount);
+    perfStats->addCount(MAJOR_PAGE_FAULT_COUNT,
+            currentCounts.mMajorFaultCount - mMajorFaultCount);
+}
+
+PerfStats::PerfStats() {
+    for (int i = 0; i < COUNTER_COUNT; ++i) {
+        mCounters[i].store(0, std::memory_order_relaxed);
+    }
+    for (int i = 0; i < TIMER_COUNT; ++i) {
+        TimerStats *const timerStats = &mTimers[i];
+        timerStats->mCount.store(0, std::memory_order_relaxed);
+        timerStats->mTotalTimeInMicroSec.store(0, std::memory_order_relaxed);
+        timerStats->mMaxTimeInMicroSec.store(0, std::memory_order_relaxed);
+        for (int j = 0; j < HISTOGRAM_BUCKET_COUNT; ++j) {
+            timerStats->mHistogram[j].store(0, std::memory_order_relaxed);
+        }
+    }
+}
+
+void PerfStats::addTime(const Timer timer, const int64_t timeInMicroSec) {
+    TimerStats *const timerStats = &mTimers[timer];
+    timerStats->mCount.fetch_add(1, std::memory_order_relaxed);
+    timerStats->mTotalTimeInMicroSec.fetch_add(timeInMicroSec, std::memory_order_relaxed);
+    timerStats->mHistogram[getBucketIndex(timeInMicroSec)].fetch_add(1,
+            std::memory_order_relaxed);
+    int64_t maxTime = timerStats->mMaxTimeInMicroSec.load(std::memory_order_relaxed);
+    while (timeInMicroSec > maxTime && !timerStats->mMaxTimeInMicroSec.compare_exchange_weak(
+            maxTime, timeInMicroSec, std::memory_order_relaxed)) {
+        // maxTime has been updated by the failed exchange. Retry.
+    }
+}
+
+void PerfStats::dump(char *const outResult, const int maxResultLength) const {
+    int length = 0;
+    for (int i = 0; i < COUNTER_COUNT && length < maxResultLength; ++i) {
+        length += snprintf(outResult + length, maxResultLength - length, "%s%s=%lld",
+                i == 0 ? "" : ",", COUNTER_NAMES[i],
+                static_cast<long long>(mCounters[i].load(std::memory_order_relaxed)));
+    }
+    for (int i = 0; i < TIMER_COUNT && length < maxResultLength; ++i) {
+        const TimerStats *const timerStats = &mTimers[i];
+        // name=count/totalUs/maxUs/bucket0:bucket1:...
+        length += snprintf(outResult + length, maxResultLength - length, ",%s=%lld/%lld/%lld/",
+                TIMER_NAMES[i],
+                static_cast<long long>(timerStats->mCount.load(std::memory_order_relaxed)),
+                static_cast<long long>(
+                        timerStats->mTotalTimeInMicroSec.load(std::memory_order_relaxed)),
+                static_cast<long long>(
+                        timerStats->mMaxTimeInMicroSec.load(std::memory_order_relaxed)));
+        for (int j = 0; j < HISTOGRAM_BUCKET_COUNT && length < maxResultLength; ++j) {
+            length += snprintf(outResult + length, maxResultLength - length, "%s%lld",
+                    j == 0 ? "" : ":", static_cast<long long>(
+                            timerStats->mHistogram[j].load(std::memory_order_relaxed)));
+        }
+    }
+}
+
+/* static */ int64_t PerfStats::getTimeInMicroSec() {
+    timespec time;
+    clock_gettime(CLOCK_MONOTONIC, &time);
+    return static_cast<int64_t>(time.tv_sec) * 1000000
+            + static_cast<int64_t>(time.tv_nsec) / 1000;
+}
+
+/* static */ int PerfStats::getBucketIndex(const int64_t timeInMicroSec) {
+    int index = 0;
+    int64_t upperBound = FIRST_BUCKET_UPPER_BOUND_IN_MICRO_SEC;
+    while (index < HISTOGRAM_BUCKET_COUNT - 1 && timeInMicroSec >= upperBound) {
+        ++index;
+        upperBound <<= 1;
+    }
+    return index;
+}
+
+} // namespace latinime
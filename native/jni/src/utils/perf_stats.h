@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2016, The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef LATINIME_PERF_STATS_H
+#define LATINIME_PERF_STATS_H
+
+#include <atomic>
+#include <cstdint>
+
+#include "defines.h"
+
+namespace latinime {
+
+/**
+ * Counters and timing histograms of the suggestion hot path of a dictionary. Unlike Profiler,
+ * this is always compiled in, so it must stay cheap: callers accumulate locally and add their
+ * totals once per operation. Every method is thread safe.
+ */
+class PerfStats final {
+ public:
+    enum Counter {
+        GET_SUGGESTIONS_CALL_COUNT = 0,
+        CONTINUED_SEARCH_COUNT,
+        EXPANDED_DIC_NODE_COUNT,
+        DIC_NODES_CACHE_PUSH_COUNT,
+        DIC_NODES_CACHE_DROP_COUNT,
+        MINOR_PAGE_FAULT_COUNT,
+        MAJOR_PAGE_FAULT_COUNT,
+        COUNTER_COUNT
+    };
+
+    enum Timer {
+        INITIALIZE_SEARCH_TIMER = 0,
+        EXPAND_DIC_NODES_TIMER,
+        OUTPUT_SUGGESTIONS_TIMER,
+        TIMER_COUNT
+    };
+
+    // Holds the page fault counts of the calling thread, to compute how many faults an operation
+    // caused. The dictionaries are memory mapped, so major faults mean reading them from storage.
+    class PageFaultCounts final {
+     public:
+        PageFaultCounts();
+
+        void addDeltaTo(PerfStats *const perfStats) const;
+
+     private:
+        DISALLOW_ASSIGNMENT_OPERATOR(PageFaultCounts);
+
+        int64_t mMinorFaultCount;
+        int64_t mMajorFaultCount;
+    };
+
+    PerfStats();
+
+    void addCount(const Counter counter, const int64_t count) {
+        mCounters[counter].fetch_add(count, std::memory_order_relaxed);
+    }
+
+    void addTime(const Timer timer, const int64_t timeInMicroSec);
+
+    // Writes the stats as a single line of comma separated "name=value" pairs.
+    void dump(char *const outResult, const int maxResultLength) const;
+
+    static int64_t getTimeInMicroSec();
+
+ private:
+    DISALLOW_COPY_AND_ASSIGN(PerfStats);
+
+    // The upper bounds of the histogram buckets double from 128 us. The last bucket holds
+    // everything above.
+    static const int HISTOGRAM_BUCKET_COUNT = 12;
+    static const int64_t FIRST_BUCKET_UPPER_BOUND_IN_MICRO_SEC;
+    static const char *const COUNTER_NAMES[];
+    static const char *const TIMER_NAMES[];
+
+    struct TimerStats {
+        std::atomic<int64_t> mCount;
+        std::atomic<int64_t> mTotalTimeInMicroSec;
+        std::atomic<int64_t> mMaxTimeInMicroSec;
+        std::atomic<int64_t> mHistogram[HISTOGRAM_BUCKET_COUNT];
+    };
+
+    std::atomic<int64_t> mCounters[COUNTER_COUNT];
+    TimerStats mTimers[TIMER_COUNT];
+
+    static int getBucketIndex(const int64_t timeInMicroSec);
+};
+} // namespace latinime
+#endif /* LATINIME_PERF_STATS_H */
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#include "utils/perf_stats.h"
+
+#include <gtest/gtest.h>
+
+#include <string>
+
+namespace latinime {
+namespace {
+
+std::string dump(const PerfStats &perfStats, const int maxResultLength) {
+    char result[maxResultLength];
+    result[0] = '\0';
+    perfStats.dump(result, maxResultLength);
+    return std::string(result);
+}
+
+TEST(PerfStatsTest, TestEmpty) {
+    const PerfStats perfStats;
+    EXPECT_EQ("getSuggestions=0,expandedDicNodes=0,cachePushes=0,cacheDrops=0,minorFaults=0,"
+            "majorFaults=0,initializeSearch=0/0/0/0:0:0:0:0:0:0:0:0:0:0:0,"
+            "expandDicNodes=0/0/0/0:0:0:0:0:0:0:0:0:0:0:0,"
+            "outputSuggestions=0/0/0/0:0:0:0:0:0:0:0:0:0:0:0", dump(perfStats, 1024));
+}
+
+TEST(PerfStatsTest, TestCountersAndTimers) {
+    PerfStats perfStats;
+    perfStats.addCount(PerfStats::GET_SUGGESTIONS_CALL_COUNT, 1);
+    perfStats.addCount(PerfStats::GET_SUGGESTIONS_CALL_COUNT, 2);
+    perfStats.addCount(PerfStats::MAJOR_PAGE_FAULT_COUNT, 5);
+    perfStats.addTime(PerfStats::EXPAND_DIC_NODES_TIMER, 100);
+    perfStats.addTime(PerfStats::EXPAND_DIC_NODES_TIMER, 300);
+    perfStats.addTime(PerfStats::EXPAND_DIC_NODES_TIMER, 1000000);
+    const std::string result = dump(perfStats, 1024);
+    EXPECT_EQ(0u, result.find("getSuggestions=3,"));
+    EXPECT_NE(std::string::npos, result.find(",majorFaults=5,"));
+    // 100 us is in the first bucket, 300 us in the third one and 1 s in the last one.
+    EXPECT_NE(std::string::npos,
+            result.find(",expandDicNodes=3/1000400/1000000/1:0:1:0:0:0:0:0:0:0:0:1,"));
+}
+
+TEST(PerfStatsTest, TestTruncation) {
+    PerfStats perfStats;
+    perfStats.addCount(PerfStats::GET_SUGGESTIONS_CALL_COUNT, 1);
+    EXPECT_EQ("getSuggestions=1,expan", dump(perfStats, 23));
+}
+
+TEST(PerfStatsTest, TestPageFaultCounts) {
+    PerfStats perfStats;
+    const PerfStats::PageFaultCounts pageFaultCounts;
+    pageFaultCounts.addDeltaTo(&perfStats);
+    const std::string result = dump(perfStats, 1024);
+    EXPECT_NE(std::string::npos, result.find(",minorFaults="));
+    EXPECT_EQ(std::string::npos, result.find(",minorFaults=-"));
+}
+
+}  // namespace
+}  // namespace latinime
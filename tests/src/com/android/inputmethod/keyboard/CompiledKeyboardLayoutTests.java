@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.test.suitebuilder.annotation.LargeTest;
+import android.util.Log;
+import android.util.TypedValue;
+import android.view.inputmethod.EditorInfo;
+import android.view.inputmethod.InputMethodSubtype;
+
+import com.android.inputmethod.keyboard.internal.KeyboardBuilder;
+import com.android.inputmethod.keyboard.internal.KeyboardLayoutsTable;
+import com.android.inputmethod.keyboard.internal.KeyboardParams;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests that the layouts compiled by make-keyboard-layout build the same keyboards as the
+ * keyboard layout XMLs. It fails when KeyboardLayoutsTable is out of date.
+ */
+@LargeTest
+public class CompiledKeyboardLayoutTests extends KeyboardLayoutSetTestsBase {
+    private static final String TAG = CompiledKeyboardLayoutTests.class.getSimpleName();
+
+    private static final int[] ELEMENT_IDS = {
+        KeyboardId.ELEMENT_ALPHABET,
+        KeyboardId.ELEMENT_ALPHABET_MANUAL_SHIFTED,
+        KeyboardId.ELEMENT_ALPHABET_SHIFT_LOCKED,
+        KeyboardId.ELEMENT_SYMBOLS,
+        KeyboardId.ELEMENT_SYMBOLS_SHIFTED,
+    };
+
+    private long mXmlBuildNanos;
+    private long mCompiledBuildNanos;
+
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    private Keyboard buildKeyboard(final int xmlId, final KeyboardId id,
+            final boolean compiledLayoutEnabled) {
+        final long startTime = System.nanoTime();
+        final KeyboardBuilder<KeyboardParams> builder =
+                new KeyboardBuilder<>(getContext(), new KeyboardParams());
+        if (!compiledLayoutEnabled) {
+            builder.disableCompiledLayoutForTest();
+        }
+        builder.load(xmlId, id);
+        final Keyboard keyboard = builder.build();
+        final long buildNanos = System.nanoTime() - startTime;
+        if (compiledLayoutEnabled) {
+            mCompiledBuildNanos += buildNanos;
+        } else {
+            mXmlBuildNanos += buildNanos;
+        }
+        return keyboard;
+    }
+
+    private void assertLayoutCompiled(final String message, final int xmlId) {
+        final TypedValue value = new TypedValue();
+        getContext().getResources().getValue(xmlId, value, true /* resolveRefs */);
+        final String path = value.string.toString();
+        assertNotNull(message + " " + path, KeyboardLayoutsTable.getLayout(path));
+    }
+
+    private static void assertSameKeys(final String message, final List<Key> expectedKeys,
+            final List<Key> actualKeys) {
+        assertEquals(message, expectedKeys.size(), actualKeys.size());
+        for (int i = 0; i < expectedKeys.size(); i++) {
+            final Key expected = expectedKeys.get(i);
+            final Key actual = actualKeys.get(i);
+            final String keyMessage = message + " " + expected;
+            assertEquals(keyMessage, expected, actual);
+            assertEquals(keyMessage, expected.getHitBox(), actual.getHitBox());
+            assertEquals(keyMessage, expected.isSpacer(), actual.isSpacer());
+            assertTrue(keyMessage, Arrays.equals(expected.getMoreKeys(), actual.getMoreKeys()));
+            assertEquals(keyMessage, expected.getAltCode(), actual.getAltCode());
+        }
+    }
+
+    private void doTestSubtype(final InputMethodSubtype subtype) {
+        final KeyboardLayoutSet layoutSet = createKeyboardLayoutSet(subtype, new EditorInfo());
+        for (final int elementId : ELEMENT_IDS) {
+            final KeyboardId id = layoutSet.getKeyboard(elementId).mId;
+            final int xmlId = layoutSet.getKeyboardXmlId(id.mElementId);
+            final String message = id.toString();
+            assertLayoutCompiled(message, xmlId);
+            final Keyboard expected = buildKeyboard(xmlId, id, false /* compiledLayoutEnabled */);
+            final Keyboard actual = buildKeyboard(xmlId, id, true /* compiledLayoutEnabled */);
+            assertEquals(message, expected.mOccupiedHeight, actual.mOccupiedHeight);
+            assertEquals(message, expected.mMostCommonKeyWidth, actual.mMostCommonKeyWidth);
+            assertSameKeys(message, expected.getSortedKeys(), actual.getSortedKeys());
+        }
+    }
+
+    /**
+     * The build times are logged rather than asserted, since they depend on the device. The
+     * resources that both builds share are cached by the first build of each keyboard, so the
+     * XML build, which runs first, pays for them.
+     */
+    public void testAllSubtypes() {
+        for (final InputMethodSubtype subtype : getAllSubtypesList()) {
+            doTestSubtype(subtype);
+        }
+        Log.i(TAG, "Build: xml " + mXmlBuildNanos / 1000 + " us, compiled "
+                + mCompiledBuildNanos / 1000 + " us");
+    }
+}
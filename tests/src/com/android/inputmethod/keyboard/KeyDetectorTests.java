@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.test.suitebuilder.annotation.MediumTest;
+import android.util.Log;
+import android.view.inputmethod.EditorInfo;
+
+import java.util.Locale;
+import java.util.Random;
+
+@MediumTest
+public class KeyDetectorTests extends KeyboardLayoutSetTestsBase {
+    private static final String TAG = KeyDetectorTests.class.getSimpleName();
+    // Touch points out of the keyboard are detected as well.
+    private static final int MARGIN = 20;
+    private static final int BENCHMARK_TOUCH_POINT_COUNT = 100000;
+    private static final int BENCHMARK_ROUND_COUNT = 5;
+
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    private Keyboard createKeyboard(final Locale locale, final String keyboardLayout,
+            final int elementId) {
+        return createKeyboardLayoutSet(getSubtype(locale, keyboardLayout), new EditorInfo())
+                .getKeyboard(elementId);
+    }
+
+    private static KeyDetector createKeyDetector(final Keyboard keyboard) {
+        final KeyDetector keyDetector = new KeyDetector();
+        keyDetector.setKeyboard(keyboard, 0.0f /* correctionX */, 0.0f /* correctionY */);
+        return keyDetector;
+    }
+
+    private static void doTestHitKeys(final Keyboard keyboard) {
+        final KeyDetector keyDetector = createKeyDetector(keyboard);
+        for (int y = -MARGIN; y < keyboard.mOccupiedHeight + MARGIN; y++) {
+            for (int x = -MARGIN; x < keyboard.mOccupiedWidth + MARGIN; x++) {
+                assertSame(keyboard.mId + " " + x + "," + y,
+                        keyDetector.detectHitKeyAmongNearestKeys(x, y),
+                        keyDetector.detectHitKey(x, y));
+            }
+        }
+    }
+
+    public void testHitKeysOfAlphabet() {
+        doTestHitKeys(createKeyboard(Locale.US, "qwerty", KeyboardId.ELEMENT_ALPHABET));
+        doTestHitKeys(createKeyboard(Locale.FRANCE, "azerty", KeyboardId.ELEMENT_ALPHABET));
+        doTestHitKeys(createKeyboard(new Locale("ru"), "east_slavic",
+                KeyboardId.ELEMENT_ALPHABET));
+    }
+
+    public void testHitKeysOfSymbols() {
+        doTestHitKeys(createKeyboard(Locale.US, "qwerty", KeyboardId.ELEMENT_SYMBOLS));
+        doTestHitKeys(createKeyboard(Locale.US, "qwerty", KeyboardId.ELEMENT_PHONE));
+    }
+
+    // Compares the hit test with the grid and the hit test among the nearest keys.
+    public void testHitKeyPerformance() {
+        final Keyboard keyboard = createKeyboard(Locale.US, "qwerty",
+                KeyboardId.ELEMENT_ALPHABET);
+        final KeyDetector keyDetector = createKeyDetector(keyboard);
+        final Random random = new Random(0);
+        final int[] xs = new int[BENCHMARK_TOUCH_POINT_COUNT];
+        final int[] ys = new int[BENCHMARK_TOUCH_POINT_COUNT];
+        for (int i = 0; i < BENCHMARK_TOUCH_POINT_COUNT; i++) {
+            xs[i] = random.nextInt(keyboard.mOccupiedWidth);
+            ys[i] = random.nextInt(keyboard.mOccupiedHeight);
+        }
+        long nearestKeysTimeInNanoSec = 0;
+        long gridTimeInNanoSec = 0;
+        int hitCount = 0;
+        for (int round = 0; round < BENCHMARK_ROUND_COUNT; round++) {
+            final long startTime = System.nanoTime();
+            for (int i = 0; i < BENCHMARK_TOUCH_POINT_COUNT; i++) {
+                if (keyDetector.detectHitKeyAmongNearestKeys(xs[i], ys[i]) != null) {
+                    hitCount++;
+                }
+            }
+            final long middleTime = System.nanoTime();
+            for (int i = 0; i < BENCHMARK_TOUCH_POINT_COUNT; i++) {
+                if (keyDetector.detectHitKey(xs[i], ys[i]) != null) {
+                    hitCount--;
+                }
+            }
+            final long endTime = System.nanoTime();
+            // The first round is for warming up.
+            if (round > 0) {
+                nearestKeysTimeInNanoSec += middleTime - startTime;
+                gridTimeInNanoSec += endTime - middleTime;
+            }
+        }
+        assertEquals(0, hitCount);
+        final int measuredCount = BENCHMARK_TOUCH_POINT_COUNT * (BENCHMARK_ROUND_COUNT - 1);
+        Log.d(TAG, "detectHitKey: nearest keys=" + nearestKeysTimeInNanoSec / measuredCount
+                + "ns grid=" + gridTimeInNanoSec / measuredCount + "ns");
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.test.suitebuilder.annotation.MediumTest;
+import android.view.inputmethod.EditorInfo;
+
+import com.android.inputmethod.latin.RichInputMethodSubtype;
+import com.android.inputmethod.latin.utils.ResourceUtils;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests building keyboards on a background thread, as the emoji palettes do, while the UI thread
+ * builds other keyboards and clears the keyboard cache.
+ */
+@MediumTest
+public class KeyboardLayoutSetConcurrencyTests extends KeyboardLayoutSetTestsBase {
+    private static final long TIMEOUT_IN_MILLISECONDS = 30000;
+    private static final int ITERATION_COUNT = 20;
+
+    private static final int[] EMOJI_ELEMENT_IDS = {
+        KeyboardId.ELEMENT_EMOJI_RECENTS,
+        KeyboardId.ELEMENT_EMOJI_CATEGORY1,
+        KeyboardId.ELEMENT_EMOJI_CATEGORY2,
+        KeyboardId.ELEMENT_EMOJI_CATEGORY3,
+        KeyboardId.ELEMENT_EMOJI_CATEGORY4,
+        KeyboardId.ELEMENT_EMOJI_CATEGORY5,
+        KeyboardId.ELEMENT_EMOJI_CATEGORY6,
+    };
+    private static final int[] ALPHABET_ELEMENT_IDS = {
+        KeyboardId.ELEMENT_ALPHABET,
+        KeyboardId.ELEMENT_ALPHABET_AUTOMATIC_SHIFTED,
+        KeyboardId.ELEMENT_SYMBOLS,
+        KeyboardId.ELEMENT_SYMBOLS_SHIFTED,
+    };
+
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    // The same way as {@link com.android.inputmethod.keyboard.emoji.EmojiPalettesView} does.
+    private KeyboardLayoutSet createEmojiLayoutSet() {
+        final Context context = getContext();
+        final Resources res = context.getResources();
+        final KeyboardLayoutSet.Builder builder = new KeyboardLayoutSet.Builder(
+                context, null /* editorInfo */);
+        builder.setSubtype(RichInputMethodSubtype.getEmojiSubtype());
+        builder.setKeyboardGeometry(ResourceUtils.getDefaultKeyboardWidth(res),
+                ResourceUtils.getDefaultKeyboardHeight(res));
+        return builder.build();
+    }
+
+    private static int[] getKeyCounts(final KeyboardLayoutSet layoutSet,
+            final int[] elementIds) {
+        final int[] keyCounts = new int[elementIds.length];
+        for (int i = 0; i < elementIds.length; i++) {
+            keyCounts[i] = layoutSet.getKeyboard(elementIds[i]).getSortedKeys().size();
+        }
+        return keyCounts;
+    }
+
+    private static void assertKeyboards(final String message, final KeyboardLayoutSet layoutSet,
+            final int[] elementIds, final int[] expectedKeyCounts) {
+        for (int i = 0; i < elementIds.length; i++) {
+            final Keyboard keyboard = layoutSet.getKeyboard(elementIds[i]);
+            assertEquals(message + " element", elementIds[i], keyboard.mId.mElementId);
+            assertEquals(message + " key count of " + keyboard.mId, expectedKeyCounts[i],
+                    keyboard.getSortedKeys().size());
+        }
+    }
+
+    public void testBuildKeyboardsConcurrently() throws InterruptedException {
+        final KeyboardLayoutSet emojiLayoutSet = createEmojiLayoutSet();
+        final KeyboardLayoutSet alphabetLayoutSet =
+                createKeyboardLayoutSet(getSubtype(Locale.US, "qwerty"), new EditorInfo());
+        final int[] emojiKeyCounts = getKeyCounts(emojiLayoutSet, EMOJI_ELEMENT_IDS);
+        final int[] alphabetKeyCounts = getKeyCounts(alphabetLayoutSet, ALPHABET_ELEMENT_IDS);
+        KeyboardLayoutSet.onKeyboardThemeChanged();
+
+        final AtomicReference<Throwable> backgroundFailure = new AtomicReference<>();
+        // Builds the emoji keyboards as the keyboard background executor does.
+        final Thread backgroundThread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < ITERATION_COUNT; i++) {
+                        assertKeyboards("emoji", emojiLayoutSet, EMOJI_ELEMENT_IDS,
+                                emojiKeyCounts);
+                    }
+                } catch (final Throwable e) {
+                    backgroundFailure.set(e);
+                }
+            }
+        };
+        backgroundThread.start();
+        for (int i = 0; i < ITERATION_COUNT; i++) {
+            assertKeyboards("alphabet", alphabetLayoutSet, ALPHABET_ELEMENT_IDS,
+                    alphabetKeyCounts);
+            KeyboardLayoutSet.onKeyboardThemeChanged();
+        }
+        backgroundThread.join(TIMEOUT_IN_MILLISECONDS);
+
+        assertFalse("background thread is still building", backgroundThread.isAlive());
+        if (backgroundFailure.get() != null) {
+            throw new AssertionError(backgroundFailure.get());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard;
+
+import android.test.suitebuilder.annotation.SmallTest;
+import android.view.inputmethod.EditorInfo;
+
+import com.android.inputmethod.keyboard.internal.KeyDrawParams;
+import com.android.inputmethod.latin.common.Constants;
+
+import java.util.HashSet;
+import java.util.Locale;
+
+@SmallTest
+public class KeyboardViewChangedKeysTests extends KeyboardLayoutSetTestsBase {
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    private KeyboardLayoutSet createQwertyLayoutSet() {
+        return createKeyboardLayoutSet(getSubtype(Locale.US, "qwerty"), new EditorInfo());
+    }
+
+    private static KeyDrawParams createKeyDrawParams(final Keyboard keyboard) {
+        final KeyDrawParams params = new KeyDrawParams();
+        params.updateParams(keyboard.mMostCommonKeyHeight - keyboard.mVerticalGap,
+                keyboard.mKeyVisualAttributes);
+        return params;
+    }
+
+    public void testSameKeyboard() {
+        final Keyboard keyboard = createQwertyLayoutSet().getKeyboard(
+                KeyboardId.ELEMENT_ALPHABET);
+        final KeyDrawParams params = createKeyDrawParams(keyboard);
+        final HashSet<Key> changedKeys = new HashSet<>();
+        assertTrue(KeyboardView.collectChangedKeys(keyboard, params, keyboard, params,
+                changedKeys));
+        assertTrue(changedKeys.isEmpty());
+    }
+
+    public void testShiftedKeyboard() {
+        final KeyboardLayoutSet layoutSet = createQwertyLayoutSet();
+        final Keyboard alphabet = layoutSet.getKeyboard(KeyboardId.ELEMENT_ALPHABET);
+        final Keyboard shifted = layoutSet.getKeyboard(
+                KeyboardId.ELEMENT_ALPHABET_MANUAL_SHIFTED);
+        final HashSet<Key> changedKeys = new HashSet<>();
+        assertTrue(KeyboardView.collectChangedKeys(alphabet, createKeyDrawParams(alphabet),
+                shifted, createKeyDrawParams(shifted), changedKeys));
+
+        for (final Key key : changedKeys) {
+            assertTrue(key.toString(), shifted.hasKey(key));
+        }
+        // All letters are changed to upper case.
+        for (int code = 'A'; code <= 'Z'; code++) {
+            assertTrue(Constants.printableCode(code), changedKeys.contains(shifted.getKey(code)));
+        }
+        // The functional keys look the same.
+        assertFalse(changedKeys.contains(shifted.getKey(Constants.CODE_SPACE)));
+        assertFalse(changedKeys.contains(shifted.getKey(Constants.CODE_DELETE)));
+        assertFalse(changedKeys.contains(shifted.getKey(Constants.CODE_ENTER)));
+    }
+
+    public void testPendingKeysAreMovedToNewKeyboard() {
+        final KeyboardLayoutSet layoutSet = createQwertyLayoutSet();
+        final Keyboard alphabet = layoutSet.getKeyboard(KeyboardId.ELEMENT_ALPHABET);
+        final Keyboard shifted = layoutSet.getKeyboard(
+                KeyboardId.ELEMENT_ALPHABET_MANUAL_SHIFTED);
+        final HashSet<Key> changedKeys = new HashSet<>();
+        changedKeys.add(alphabet.getKey(Constants.CODE_SPACE));
+        assertTrue(KeyboardView.collectChangedKeys(alphabet, createKeyDrawParams(alphabet),
+                shifted, createKeyDrawParams(shifted), changedKeys));
+
+        final Key spaceKey = shifted.getKey(Constants.CODE_SPACE);
+        assertTrue(changedKeys.contains(spaceKey));
+        for (final Key key : changedKeys) {
+            if (key.getCode() == Constants.CODE_SPACE) {
+                assertSame(spaceKey, key);
+            }
+        }
+    }
+
+    public void testDifferentSubtype() {
+        final Keyboard qwerty = createQwertyLayoutSet().getKeyboard(KeyboardId.ELEMENT_ALPHABET);
+        final Keyboard azerty = createKeyboardLayoutSet(getSubtype(Locale.FRANCE, "azerty"),
+                new EditorInfo()).getKeyboard(KeyboardId.ELEMENT_ALPHABET);
+        final HashSet<Key> changedKeys = new HashSet<>();
+        changedKeys.add(qwerty.getKey('a'));
+        assertFalse(KeyboardView.collectChangedKeys(qwerty, createKeyDrawParams(qwerty),
+                azerty, createKeyDrawParams(azerty), changedKeys));
+        // The pending keys are left untouched.
+        assertEquals(1, changedKeys.size());
+        assertTrue(changedKeys.contains(qwerty.getKey('a')));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.emoji;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.settings.Settings;
+import com.android.inputmethod.latin.utils.ExecutorUtils;
+import com.android.inputmethod.latin.utils.JsonUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@SmallTest
+public class EmojiRecentKeysStoreTests extends AndroidTestCase {
+    private static final String PREFS_NAME = "EmojiRecentKeysStoreTests";
+
+    private static final List<Object> RECENT_KEYS = Arrays.<Object>asList(
+            0x1F600, "1\u20E3", ":-) ", 0x2764, "\uD83C\uDDE8\uD83C\uDDED");
+
+    private File mFile;
+    private SharedPreferences mPrefs;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mFile = new File(getContext().getCacheDir(), "test_emoji_recent_keys");
+        mFile.delete();
+        mPrefs = getContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        mPrefs.edit().clear().commit();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mFile.delete();
+        mPrefs.edit().clear().commit();
+        super.tearDown();
+    }
+
+    private static void waitForWrites() throws Exception {
+        ExecutorUtils.getBackgroundExecutor(ExecutorUtils.KEYBOARD).submit(new Runnable() {
+            @Override
+            public void run() {
+                // Nothing to do.
+            }
+        }).get();
+    }
+
+    public void testLoadEmpty() {
+        final EmojiRecentKeysStore store = new EmojiRecentKeysStore(mFile, mPrefs);
+        assertTrue(store.load().isEmpty());
+    }
+
+    public void testSaveIsWrittenBehind() throws Exception {
+        final EmojiRecentKeysStore store = new EmojiRecentKeysStore(mFile, mPrefs);
+        store.save(new ArrayList<>(RECENT_KEYS));
+        assertEquals(RECENT_KEYS, store.load());
+        waitForWrites();
+        assertFalse("written before the delay", mFile.exists());
+
+        store.flush();
+        waitForWrites();
+        assertTrue(mFile.isFile());
+        assertEquals(RECENT_KEYS, new EmojiRecentKeysStore(mFile, mPrefs).load());
+    }
+
+    public void testFlushWritesLatestKeys() throws Exception {
+        final EmojiRecentKeysStore store = new EmojiRecentKeysStore(mFile, mPrefs);
+        store.save(new ArrayList<>(RECENT_KEYS.subList(0, 2)));
+        store.save(new ArrayList<>(RECENT_KEYS));
+        store.flush();
+        waitForWrites();
+        assertEquals(RECENT_KEYS, new EmojiRecentKeysStore(mFile, mPrefs).load());
+    }
+
+    public void testMigrateJson() throws Exception {
+        mPrefs.edit().putString(Settings.PREF_EMOJI_RECENT_KEYS,
+                JsonUtils.listToJsonStr(RECENT_KEYS)).commit();
+        final EmojiRecentKeysStore store = new EmojiRecentKeysStore(mFile, mPrefs);
+        final List<Object> recentKeys = store.load();
+        assertEquals(RECENT_KEYS, recentKeys);
+
+        store.save(new ArrayList<>(recentKeys));
+        store.flush();
+        waitForWrites();
+        assertEquals(RECENT_KEYS, new EmojiRecentKeysStore(mFile, mPrefs).load());
+        assertFalse(mPrefs.contains(Settings.PREF_EMOJI_RECENT_KEYS));
+    }
+
+    public void testBrokenFile() throws Exception {
+        final FileOutputStream out = new FileOutputStream(mFile);
+        out.write(new byte[] { 1, 2, 3 });
+        out.close();
+        final EmojiRecentKeysStore store = new EmojiRecentKeysStore(mFile, mPrefs);
+        assertTrue(store.load().isEmpty());
+        assertFalse(mFile.exists());
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.internal;
+
+import android.test.suitebuilder.annotation.SmallTest;
+import android.view.inputmethod.EditorInfo;
+
+import com.android.inputmethod.keyboard.Key;
+import com.android.inputmethod.keyboard.Keyboard;
+import com.android.inputmethod.keyboard.KeyboardId;
+import com.android.inputmethod.keyboard.KeyboardLayoutSetTestsBase;
+import com.android.inputmethod.keyboard.KeyboardTheme;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+@SmallTest
+public class KeyboardFileCacheTests extends KeyboardLayoutSetTestsBase {
+    private static final String TEST_VERSION = "test";
+
+    private File mCacheDir;
+
+    @Override
+    protected int getKeyboardThemeForTests() {
+        return KeyboardTheme.THEME_ID_LXX_LIGHT;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mCacheDir = new File(getContext().getCacheDir(), "test_keyboards");
+        deleteCacheDir();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        deleteCacheDir();
+        super.tearDown();
+    }
+
+    private void deleteCacheDir() {
+        final File[] files = mCacheDir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                file.delete();
+            }
+        }
+        mCacheDir.delete();
+    }
+
+    private Keyboard createKeyboard(final Locale locale, final String keyboardLayout,
+            final int elementId) {
+        return createKeyboardLayoutSet(getSubtype(locale, keyboardLayout), new EditorInfo())
+                .getKeyboard(elementId);
+    }
+
+    private static void assertSameKeys(final List<Key> expectedKeys, final List<Key> actualKeys) {
+        assertEquals(expectedKeys.size(), actualKeys.size());
+        for (int i = 0; i < expectedKeys.size(); i++) {
+            final Key expected = expectedKeys.get(i);
+            final Key actual = actualKeys.get(i);
+            assertEquals(expected, actual);
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(expected.toString(), expected.isSpacer(), actual.isSpacer());
+            assertEquals(expected.toString(), expected.getHitBox(), actual.getHitBox());
+            assertTrue(expected.toString(),
+                    Arrays.equals(expected.getMoreKeys(), actual.getMoreKeys()));
+            assertEquals(expected.toString(), expected.getAltCode(), actual.getAltCode());
+            assertEquals(expected.toString(), expected.getOutputText(), actual.getOutputText());
+            assertEquals(expected.toString(), expected.isEnabled(), actual.isEnabled());
+            assertEquals(expected.toString(), expected.getVisualAttributes() == null,
+                    actual.getVisualAttributes() == null);
+        }
+    }
+
+    private void doTestRoundTrip(final Keyboard keyboard) throws Exception {
+        final KeyboardFileCache cache = new KeyboardFileCache(mCacheDir, TEST_VERSION);
+        assertNull(cache.read(keyboard.mId));
+        cache.writeNow(keyboard);
+        final KeyboardFileCache.CachedKeyboard cachedKeyboard = cache.read(keyboard.mId);
+        assertNotNull(cachedKeyboard);
+        assertEquals(keyboard.mOccupiedHeight, cachedKeyboard.mOccupiedHeight);
+        assertEquals(keyboard.mMostCommonKeyHeight, cachedKeyboard.mMostCommonKeyHeight);
+        assertEquals(keyboard.mMostCommonKeyWidth, cachedKeyboard.mMostCommonKeyWidth);
+        assertSameKeys(keyboard.getSortedKeys(), cachedKeyboard.mSortedKeys);
+    }
+
+    public void testAlphabetRoundTrip() throws Exception {
+        doTestRoundTrip(createKeyboard(Locale.US, "qwerty", KeyboardId.ELEMENT_ALPHABET));
+        doTestRoundTrip(createKeyboard(Locale.US, "qwerty",
+                KeyboardId.ELEMENT_ALPHABET_MANUAL_SHIFTED));
+        doTestRoundTrip(createKeyboard(Locale.GERMAN, "qwertz", KeyboardId.ELEMENT_ALPHABET));
+    }
+
+    public void testSymbolsRoundTrip() throws Exception {
+        doTestRoundTrip(createKeyboard(Locale.US, "qwerty", KeyboardId.ELEMENT_SYMBOLS));
+        doTestRoundTrip(createKeyboard(Locale.US, "qwerty", KeyboardId.ELEMENT_SYMBOLS_SHIFTED));
+    }
+
+    public void testVersionMismatch() throws Exception {
+        final Keyboard keyboard = createKeyboard(Locale.US, "qwerty",
+                KeyboardId.ELEMENT_ALPHABET);
+        new KeyboardFileCache(mCacheDir, TEST_VERSION).writeNow(keyboard);
+        assertNull(new KeyboardFileCache(mCacheDir, TEST_VERSION + "2").read(keyboard.mId));
+    }
+
+    public void testBrokenFile() throws Exception {
+        final Keyboard keyboard = createKeyboard(Locale.US, "qwerty",
+                KeyboardId.ELEMENT_ALPHABET);
+        final KeyboardFileCache cache = new KeyboardFileCache(mCacheDir, TEST_VERSION);
+        cache.writeNow(keyboard);
+        final File[] files = mCacheDir.listFiles();
+        assertEquals(1, files.length);
+        // Truncate the file in the middle of the keys.
+        final long length = files[0].length();
+        final FileOutputStream outStream = new FileOutputStream(files[0], true /* append */);
+        try {
+            outStream.getChannel().truncate(length / 2);
+        } finally {
+            outStream.close();
+        }
+        assertNull(cache.read(keyboard.mId));
+        assertFalse(files[0].exists());
+    }
+}
@@ -121,6 +121,19 @@ public class BinaryDictionaryTests extends AndroidTestCase {
         binaryDictionary.close();
     }
 
+    public void testGetPerfStats() {
+        final BinaryDictionary binaryDictionary = getEmptyBinaryDictionary(FormatSpec.VERSION403);
+        final String perfStats = binaryDictionary.getPerfStats();
+        assertTrue(perfStats, perfStats.startsWith("getSuggestions=0,"));
+        assertTrue(perfStats, perfStats.contains(",expandDicNodes=0/0/0/"));
+        binaryDictionary.close();
+        assertEquals("", binaryDictionary.getPerfStats());
+    }
+
+    public void testDirectBufferLayout() {
+        assertTrue(BinaryDictionary.isDirectBufferLayoutValid());
+    }
+
     public void testConstructingDictionaryOnMemory() {
         final File dictFile = createEmptyDictionaryAndGetFile(FormatSpec.VERSION403);
         FileUtils.deleteRecursively(dictFile);
@@ -311,6 +324,25 @@ public class BinaryDictionaryTests extends AndroidTestCase {
                 getBigramProbability(binaryDictionary, "abcde", "fghij"));
     }
 
+    public void testRemoveBigramWords() {
+        final BinaryDictionary binaryDictionary = getEmptyBinaryDictionary(FormatSpec.VERSION403);
+        final int unigramProbability = 100;
+        final int bigramProbability = 150;
+        addUnigramWord(binaryDictionary, "aaa", unigramProbability);
+        addUnigramWord(binaryDictionary, "abb", unigramProbability);
+        addUnigramWord(binaryDictionary, "bcc", unigramProbability);
+        addBigramWords(binaryDictionary, "aaa", "abb", bigramProbability);
+        addBigramWords(binaryDictionary, "aaa", "bcc", bigramProbability);
+
+        assertTrue(binaryDictionary.removeNgramEntry(
+                new NgramContext(new WordInfo("aaa")), "abb"));
+        assertFalse(isValidBigram(binaryDictionary, "aaa", "abb"));
+        assertTrue(isValidBigram(binaryDictionary, "aaa", "bcc"));
+        assertEquals(unigramProbability, binaryDictionary.getFrequency("abb"));
+        assertFalse(binaryDictionary.removeNgramEntry(
+                new NgramContext(new WordInfo("bcc")), "aaa"));
+    }
+
     public void testRandomlyAddBigramWords() {
         final int wordCount = 100;
         final int bigramCount = 1000;
@@ -18,11 +18,15 @@ package com.android.inputmethod.latin;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.validateMockitoUsage;
 import static org.mockito.Mockito.when;
 
 import android.content.Context;
+import android.net.Uri;
 import android.provider.ContactsContract.Contacts;
 import android.test.suitebuilder.annotation.SmallTest;
 
@@ -91,4 +95,15 @@ public class ContactsContentObserverTest {
         when(mMockManager.getHashCodeAtLastRebuild()).thenReturn(STALE_NAMES_LIST.hashCode());
         assertTrue(mObserver.haveContentsChanged());
     }
+
+    @Test
+    public void testHaveContentsChanged_Timestamp() {
+        when(mMockManager.canDetectChangesByTimestamp()).thenReturn(true);
+        when(mMockManager.haveContactsChangedSinceLastUpdate()).thenReturn(false);
+        assertFalse(mObserver.haveContentsChanged());
+        when(mMockManager.haveContactsChangedSinceLastUpdate()).thenReturn(true);
+        assertTrue(mObserver.haveContentsChanged());
+        // The names aren't read to detect the change.
+        verify(mMockManager, never()).getValidNames(any(Uri.class));
+    }
 }
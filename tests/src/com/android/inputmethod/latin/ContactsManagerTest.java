@@ -101,6 +101,50 @@ public class ContactsManagerTest extends AndroidTestCase {
         }
     }
 
+    @Test
+    public void testGetValidNamesDuplicates() {
+        final long now = System.currentTimeMillis();
+        // The name of the least contacted contacts is also the name of the most contacted one.
+        mMatrixCursor.addRow(new Object[] { 0, "larry", 100, now, 1 });
+        for (int i = 1; i <= ContactsManager.MAX_CONTACT_NAMES; ++i) {
+            mMatrixCursor.addRow(new Object[] { i, "name" + i, i, now, 1 });
+        }
+        mMatrixCursor.addRow(new Object[] { 1000, "larry", 1000, now, 1 });
+        mFakeContactsContentProvider.addQueryResult(Contacts.CONTENT_URI, mMatrixCursor);
+
+        final ArrayList<String> validNames = mManager.getValidNames(Contacts.CONTENT_URI);
+        assertEquals(ContactsManager.MAX_CONTACT_NAMES, validNames.size());
+        assertTrue(validNames.contains("larry"));
+        assertFalse(validNames.contains("name1"));
+        assertTrue(validNames.contains("name2"));
+    }
+
+    @Test
+    public void testGetNamesDeltaSinceLastUpdate() {
+        assertNull("no local state", mManager.getNamesDeltaSinceLastUpdate());
+
+        final ArrayList<String> names = new ArrayList<>();
+        names.add("larry");
+        names.add("sergey");
+        mManager.updateLocalState(names, 0 /* lastUpdatedTimestamp */);
+        mMatrixCursor.addRow(new Object[] { 1, "sergey", 0, 0, 0 });
+        mMatrixCursor.addRow(new Object[] { 2, "sundar", 0, 0, 0 });
+        mFakeContactsContentProvider.addQueryResult(Contacts.CONTENT_URI, mMatrixCursor);
+
+        final ContactsManager.NamesDelta delta = mManager.getNamesDeltaSinceLastUpdate();
+        assertEquals(1, delta.mAddedNames.size());
+        assertEquals("sundar", delta.mAddedNames.get(0));
+        assertEquals(1, delta.mRemovedNames.size());
+        assertEquals("larry", delta.mRemovedNames.get(0));
+        assertEquals(2, delta.mNames.size());
+
+        final MatrixCursor sameCursor = new MatrixCursor(ContactsDictionaryConstants.PROJECTION);
+        sameCursor.addRow(new Object[] { 1, "sergey", 0, 0, 0 });
+        sameCursor.addRow(new Object[] { 2, "sundar", 0, 0, 0 });
+        mFakeContactsContentProvider.addQueryResult(Contacts.CONTENT_URI, sameCursor);
+        assertTrue("no change", mManager.getNamesDeltaSinceLastUpdate().isEmpty());
+    }
+
     @Test
     public void testComputeAffinity() {
         final long now = System.currentTimeMillis();
@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.SuggestedWords.SuggestedWordInfo;
+import com.android.inputmethod.latin.common.ComposedData;
+import com.android.inputmethod.latin.common.Constants;
+import com.android.inputmethod.latin.common.InputPointers;
+import com.android.inputmethod.latin.settings.SettingsValuesForSuggestion;
+import com.android.inputmethod.latin.utils.SuggestionResults;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the parallel suggestion fan-out of {@link DictionaryFacilitatorImpl}.
+ */
+@SmallTest
+public class DictionaryFacilitatorImplTests extends AndroidTestCase {
+    private static final int SESSION_ID = 1;
+    private static final int WORKER_COUNT = 3;
+    private static final long DEADLINE_MILLIS = 100;
+    private static final long TIMEOUT_IN_MILLISECONDS = 5000;
+
+    private static final SettingsValuesForSuggestion SETTINGS_VALUES_FOR_SUGGESTION =
+            new SettingsValuesForSuggestion(false /* blockPotentiallyOffensive */);
+
+    private ExecutorService mExecutor;
+
+    /**
+     * A dictionary that suggests fixed words and records the sessions it is queried with.
+     */
+    private static final class FakeDictionary extends Dictionary {
+        private final String[] mWords;
+        // Queries wait for this latch to be counted down, if any.
+        private final CountDownLatch mStartLatch;
+        private final boolean mRunsUntilCancelled;
+        public final List<Integer> mSessionIds =
+                Collections.synchronizedList(new ArrayList<Integer>());
+        public final List<Integer> mCancelledSessionIds =
+                Collections.synchronizedList(new ArrayList<Integer>());
+        private final CountDownLatch mCancelLatch = new CountDownLatch(1);
+
+        public FakeDictionary(final String dictType, final CountDownLatch startLatch,
+                final boolean runsUntilCancelled, final String... words) {
+            super(dictType, Locale.US);
+            mWords = words;
+            mStartLatch = startLatch;
+            mRunsUntilCancelled = runsUntilCancelled;
+        }
+
+        public FakeDictionary(final String dictType, final String... words) {
+            this(dictType, null /* startLatch */, false /* runsUntilCancelled */, words);
+        }
+
+        @Override
+        public ArrayList<SuggestedWordInfo> getSuggestions(final ComposedData composedData,
+                final NgramContext ngramContext, final long proximityInfoHandle,
+                final SettingsValuesForSuggestion settingsValuesForSuggestion,
+                final int sessionId, final float weightForLocale,
+                final float[] inOutWeightOfLangModelVsSpatialModel) {
+            mSessionIds.add(sessionId);
+            try {
+                if (mStartLatch != null) {
+                    mStartLatch.countDown();
+                    mStartLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                }
+                if (mRunsUntilCancelled) {
+                    mCancelLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final ArrayList<SuggestedWordInfo> suggestions = new ArrayList<>();
+            for (int i = 0; i < mWords.length; ++i) {
+                suggestions.add(new SuggestedWordInfo(mWords[i], "" /* prevWordsContext */,
+                        100 - i, SuggestedWordInfo.KIND_CORRECTION, this,
+                        SuggestedWordInfo.NOT_AN_INDEX, SuggestedWordInfo.NOT_A_CONFIDENCE));
+            }
+            return suggestions;
+        }
+
+        @Override
+        public void cancelSuggestions(final int sessionId) {
+            mCancelledSessionIds.add(sessionId);
+            mCancelLatch.countDown();
+        }
+
+        @Override
+        public boolean isInDictionary(final String word) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mExecutor = Executors.newFixedThreadPool(WORKER_COUNT);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mExecutor.shutdownNow();
+        super.tearDown();
+    }
+
+    private static ComposedData getComposedData(final boolean isBatchMode) {
+        return new ComposedData(new InputPointers(Constants.DEFAULT_GESTURE_POINTS_CAPACITY),
+                isBatchMode, "typed" /* typedWord */);
+    }
+
+    private static SuggestionResults newSuggestionResults() {
+        return new SuggestionResults(SuggestedWords.MAX_SUGGESTIONS,
+                false /* isBeginningOfSentence */,
+                false /* firstSuggestionExceedsConfidenceThreshold */);
+    }
+
+    private SuggestionResults getSuggestionResultsInParallel(final Dictionary[] dictionaries,
+            final boolean isBatchMode) {
+        final SuggestionResults results = newSuggestionResults();
+        DictionaryFacilitatorImpl.getSuggestionResultsInParallel(dictionaries, results,
+                getComposedData(isBatchMode), NgramContext.EMPTY_PREV_WORDS_INFO,
+                0 /* proximityInfoHandle */, SETTINGS_VALUES_FOR_SUGGESTION, SESSION_ID,
+                1.0f /* weightForLocale */, mExecutor, DEADLINE_MILLIS);
+        return results;
+    }
+
+    private static SuggestionResults getSuggestionResultsSerially(
+            final Dictionary[] dictionaries, final boolean isBatchMode) {
+        final SuggestionResults results = newSuggestionResults();
+        DictionaryFacilitatorImpl.getSuggestionResultsSerially(dictionaries, results,
+                getComposedData(isBatchMode), NgramContext.EMPTY_PREV_WORDS_INFO,
+                0 /* proximityInfoHandle */, SETTINGS_VALUES_FOR_SUGGESTION, SESSION_ID,
+                1.0f /* weightForLocale */);
+        return results;
+    }
+
+    private static void assertSameSuggestions(final SuggestionResults expected,
+            final SuggestionResults actual) {
+        assertEquals(expected.size(), actual.size());
+        final ArrayList<SuggestedWordInfo> expectedList = new ArrayList<>(expected);
+        final ArrayList<SuggestedWordInfo> actualList = new ArrayList<>(actual);
+        for (int i = 0; i < expectedList.size(); ++i) {
+            assertEquals(expectedList.get(i).mWord, actualList.get(i).mWord);
+            assertEquals(expectedList.get(i).mScore, actualList.get(i).mScore);
+            assertSame(expectedList.get(i).mSourceDict, actualList.get(i).mSourceDict);
+        }
+    }
+
+    private static boolean containsWord(final SuggestionResults results, final String word) {
+        for (final SuggestedWordInfo info : results) {
+            if (info.mWord.equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Dictionary[] getDictionaries() {
+        return new Dictionary[] {
+                new FakeDictionary(Dictionary.TYPE_MAIN, "the", "they", "then"),
+                null,
+                new FakeDictionary(Dictionary.TYPE_USER_HISTORY, "them", "the"),
+                new FakeDictionary(Dictionary.TYPE_USER, "theremin") };
+    }
+
+    public void testParallelResultsAreSameAsSerialResults() {
+        for (final boolean isBatchMode : new boolean[] { false, true }) {
+            final Dictionary[] dictionaries = getDictionaries();
+            assertSameSuggestions(getSuggestionResultsSerially(dictionaries, isBatchMode),
+                    getSuggestionResultsInParallel(dictionaries, isBatchMode));
+        }
+    }
+
+    public void testDictionaryMissingDeadlineIsDroppedAndCancelled() {
+        final FakeDictionary slowDictionary = new FakeDictionary(Dictionary.TYPE_USER_HISTORY,
+                null /* startLatch */, true /* runsUntilCancelled */, "slow");
+        final Dictionary[] dictionaries = new Dictionary[] {
+                new FakeDictionary(Dictionary.TYPE_MAIN, "the"),
+                slowDictionary,
+                new FakeDictionary(Dictionary.TYPE_USER, "then") };
+
+        final long startTime = System.currentTimeMillis();
+        final SuggestionResults results = getSuggestionResultsInParallel(dictionaries,
+                false /* isBatchMode */);
+        assertTrue("returns at the deadline",
+                System.currentTimeMillis() - startTime < TIMEOUT_IN_MILLISECONDS);
+        assertTrue(containsWord(results, "the"));
+        assertTrue(containsWord(results, "then"));
+        assertFalse(containsWord(results, "slow"));
+        // The query that missed the deadline was cancelled on the session it runs with.
+        assertEquals(1, slowDictionary.mSessionIds.size());
+        assertEquals(slowDictionary.mSessionIds, slowDictionary.mCancelledSessionIds);
+    }
+
+    public void testWorkersUseDistinctSessions() {
+        // The workers wait for each other, so that each query runs on its own worker.
+        final CountDownLatch startLatch = new CountDownLatch(WORKER_COUNT);
+        final FakeDictionary[] workerDictionaries = new FakeDictionary[WORKER_COUNT];
+        final Dictionary[] dictionaries = new Dictionary[WORKER_COUNT + 1];
+        final FakeDictionary firstDictionary = new FakeDictionary(Dictionary.TYPE_MAIN, "a");
+        dictionaries[0] = firstDictionary;
+        for (int i = 0; i < WORKER_COUNT; ++i) {
+            workerDictionaries[i] = new FakeDictionary(Dictionary.TYPE_USER, startLatch,
+                    false /* runsUntilCancelled */, "word" + i);
+            dictionaries[i + 1] = workerDictionaries[i];
+        }
+        final SuggestionResults results = getSuggestionResultsInParallel(dictionaries,
+                false /* isBatchMode */);
+        assertEquals(WORKER_COUNT + 1, results.size());
+
+        final HashSet<Integer> sessionIds = new HashSet<>();
+        assertEquals(Collections.singletonList(SESSION_ID), firstDictionary.mSessionIds);
+        sessionIds.add(SESSION_ID);
+        for (final FakeDictionary dictionary : workerDictionaries) {
+            assertEquals(1, dictionary.mSessionIds.size());
+            assertTrue("session ids are distinct", sessionIds.add(dictionary.mSessionIds.get(0)));
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.android.inputmethod.latin;
 
+import java.util.ArrayList;
 import java.util.Locale;
 
 import android.test.AndroidTestCase;
@@ -38,5 +39,47 @@ public class DictionaryFacilitatorLruCacheTests extends AndroidTestCase {
         final DictionaryFacilitator dictionaryFacilitatorDe = cache.get(Locale.GERMANY);
         assertNotNull(dictionaryFacilitatorDe);
         assertTrue(dictionaryFacilitatorDe.isForLocale(Locale.GERMANY));
+
+        cache.release(dictionaryFacilitatorEnUs);
+        cache.release(dictionaryFacilitatorFr);
+        cache.release(dictionaryFacilitatorDe);
+        cache.closeDictionaries();
+    }
+
+    public void testHitAndMissCounts() {
+        final DictionaryFacilitatorLruCache cache =
+                new DictionaryFacilitatorLruCache(getContext(), "");
+
+        cache.release(cache.get(Locale.US));
+        cache.release(cache.get(Locale.FRENCH));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+
+        // Alternating between cached locales must not recreate the facilitators.
+        final DictionaryFacilitator dictionaryFacilitatorEnUs = cache.get(Locale.US);
+        assertTrue(dictionaryFacilitatorEnUs.isForLocale(Locale.US));
+        cache.release(dictionaryFacilitatorEnUs);
+        final DictionaryFacilitator dictionaryFacilitatorFr = cache.get(Locale.FRENCH);
+        assertTrue(dictionaryFacilitatorFr.isForLocale(Locale.FRENCH));
+        cache.release(dictionaryFacilitatorFr);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, cache.getEvictionCount());
+        cache.closeDictionaries();
+    }
+
+    public void testEviction() {
+        final DictionaryFacilitatorLruCache cache =
+                new DictionaryFacilitatorLruCache(getContext(), "");
+
+        cache.release(cache.get(Locale.US));
+        cache.release(cache.get(Locale.FRENCH));
+        cache.release(cache.get(Locale.GERMANY));
+        cache.release(cache.get(Locale.ITALIAN));
+        assertTrue(cache.getEvictionCount() >= 1);
+        final ArrayList<Locale> cachedLocales = cache.getCachedLocalesForTesting();
+        assertFalse(cachedLocales.contains(Locale.US));
+        assertEquals(Locale.ITALIAN, cachedLocales.get(cachedLocales.size() - 1));
+        cache.closeDictionaries();
     }
 }
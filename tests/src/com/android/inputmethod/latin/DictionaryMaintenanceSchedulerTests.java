@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+
+import com.android.inputmethod.latin.personalization.PersonalizationHelper;
+import com.android.inputmethod.latin.personalization.UserHistoryDictionary;
+import com.android.inputmethod.latin.personalization.UserHistoryDictionaryTestsHelper;
+import com.android.inputmethod.latin.utils.BinaryDictionaryUtils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Unit tests for {@link DictionaryMaintenanceScheduler}.
+ */
+@LargeTest
+public class DictionaryMaintenanceSchedulerTests extends AndroidTestCase {
+    private static final long TIMEOUT_IN_MILLISECONDS = 5000;
+    private static final long POLLING_INTERVAL_IN_MILLISECONDS = 10;
+    // The time after which a user history dictionary benefits from GC, which decays its entries.
+    // The dictionary doesn't need GC to take more writes until it is full.
+    private static final int TIME_TO_DECAY_IN_SECONDS = (int)TimeUnit.HOURS.toSeconds(2) + 1;
+    private static final Pattern GC_STATS_PATTERN =
+            Pattern.compile("GC: (\\d+) \\(inline: (\\d+)\\)");
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // The dictionaries are created at the time 0 and were last decayed then.
+        BinaryDictionaryUtils.setCurrentTimeForTest(0);
+        UserHistoryDictionaryTestsHelper.removeAllTestDictFiles(
+                UserHistoryDictionaryTestsHelper.TEST_LOCALE_PREFIX, mContext);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        UserHistoryDictionaryTestsHelper.removeAllTestDictFiles(
+                UserHistoryDictionaryTestsHelper.TEST_LOCALE_PREFIX, mContext);
+        BinaryDictionaryUtils.setCurrentTimeForTest(-1);
+        super.tearDown();
+    }
+
+    private static void waitForMaintenance(final DictionaryMaintenanceScheduler scheduler)
+            throws InterruptedException {
+        final long startTime = System.currentTimeMillis();
+        while (scheduler.hasPendingMaintenance()) {
+            assertTrue("maintenance timed out",
+                    System.currentTimeMillis() - startTime < TIMEOUT_IN_MILLISECONDS);
+            Thread.sleep(POLLING_INTERVAL_IN_MILLISECONDS);
+        }
+    }
+
+    private UserHistoryDictionary getDictionary(final String name) {
+        final Locale dummyLocale = UserHistoryDictionaryTestsHelper.getDummyLocale(name);
+        return PersonalizationHelper.getUserHistoryDictionary(getContext(), dummyLocale,
+                null /* account */);
+    }
+
+    private static Matcher getGCStats(final UserHistoryDictionary dict) {
+        final String perfStats = dict.getDictionaryStats().mPerfStats;
+        final Matcher matcher = GC_STATS_PATTERN.matcher(perfStats);
+        assertTrue("GC stats in " + perfStats, matcher.find());
+        return matcher;
+    }
+
+    private static int getGCCount(final UserHistoryDictionary dict) {
+        return Integer.parseInt(getGCStats(dict).group(1));
+    }
+
+    private static int getInlineGCCount(final UserHistoryDictionary dict) {
+        return Integer.parseInt(getGCStats(dict).group(2));
+    }
+
+    public void testMaintenanceWaitsUntilKeyboardHidden() throws InterruptedException {
+        final DictionaryMaintenanceScheduler scheduler = new DictionaryMaintenanceScheduler();
+        final UserHistoryDictionary dict = getDictionary("maintenance");
+        dict.waitAllTasksForTests();
+        assertFalse(scheduler.hasPendingMaintenance());
+
+        scheduler.requestMaintenance(dict);
+        assertTrue("waits for idle time", scheduler.hasPendingMaintenance());
+        scheduler.onKeyboardHidden();
+        waitForMaintenance(scheduler);
+        dict.waitAllTasksForTests();
+        dict.close();
+    }
+
+    public void testMaintenanceOfSeveralDictionaries() throws InterruptedException {
+        final DictionaryMaintenanceScheduler scheduler = new DictionaryMaintenanceScheduler();
+        final UserHistoryDictionary dict1 = getDictionary("maintenance1");
+        final UserHistoryDictionary dict2 = getDictionary("maintenance2");
+        scheduler.requestMaintenance(dict1);
+        scheduler.requestMaintenance(dict2);
+        // A dictionary that is requested again is maintained once.
+        scheduler.requestMaintenance(dict1);
+        scheduler.onKeyboardHidden();
+        waitForMaintenance(scheduler);
+        assertEquals(2, scheduler.getMaintenanceCount());
+
+        // A closed dictionary is skipped.
+        dict2.close();
+        scheduler.requestMaintenance(dict2);
+        scheduler.onKeyboardHidden();
+        waitForMaintenance(scheduler);
+        assertEquals(3, scheduler.getMaintenanceCount());
+        dict1.close();
+    }
+
+    public void testMaintenanceRunsGC() throws InterruptedException {
+        final DictionaryMaintenanceScheduler scheduler = new DictionaryMaintenanceScheduler();
+        final UserHistoryDictionary dict = getDictionary("maintenance_gc");
+        dict.waitAllTasksForTests();
+        BinaryDictionaryUtils.setCurrentTimeForTest(TIME_TO_DECAY_IN_SECONDS);
+
+        scheduler.requestMaintenance(dict);
+        // A dictionary that is requested again is maintained once.
+        scheduler.requestMaintenance(dict);
+        scheduler.onKeyboardHidden();
+        waitForMaintenance(scheduler);
+        dict.waitAllTasksForTests();
+        assertEquals(1, scheduler.getMaintenanceCount());
+        assertEquals(1, getGCCount(dict));
+        assertEquals(0, getInlineGCCount(dict));
+        dict.close();
+    }
+
+    public void testWriteUnderSoftThresholdDoesNotRunGC() throws InterruptedException {
+        final DictionaryMaintenanceScheduler scheduler =
+                DictionaryMaintenanceScheduler.getInstance();
+        final UserHistoryDictionary dict = getDictionary("soft_threshold");
+        dict.waitAllTasksForTests();
+        BinaryDictionaryUtils.setCurrentTimeForTest(TIME_TO_DECAY_IN_SECONDS);
+
+        // The dictionary would benefit from GC, but can take the write without it.
+        UserHistoryDictionary.addToDictionary(dict, NgramContext.EMPTY_PREV_WORDS_INFO, "soft",
+                true /* isValid */, TIME_TO_DECAY_IN_SECONDS);
+        dict.flushPendingInputEvents();
+        dict.waitAllTasksForTests();
+        assertEquals(0, getGCCount(dict));
+        assertTrue("the write requests maintenance", scheduler.hasPendingMaintenance());
+
+        scheduler.onKeyboardHidden();
+        waitForMaintenance(scheduler);
+        dict.waitAllTasksForTests();
+        assertEquals(1, getGCCount(dict));
+        assertEquals(0, getInlineGCCount(dict));
+        dict.close();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+
+import com.android.inputmethod.latin.personalization.PersonalizationHelper;
+import com.android.inputmethod.latin.personalization.UserHistoryDictionary;
+import com.android.inputmethod.latin.personalization.UserHistoryDictionaryTestsHelper;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the reads of {@link ExpandableBinaryDictionary} during long write operations.
+ */
+@LargeTest
+public class ExpandableBinaryDictionaryTests extends AndroidTestCase {
+    private static final long TIMEOUT_IN_MILLISECONDS = 5000;
+    private static final String WORD = "snapshot";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        UserHistoryDictionaryTestsHelper.removeAllTestDictFiles(
+                UserHistoryDictionaryTestsHelper.TEST_LOCALE_PREFIX, mContext);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        UserHistoryDictionaryTestsHelper.removeAllTestDictFiles(
+                UserHistoryDictionaryTestsHelper.TEST_LOCALE_PREFIX, mContext);
+        super.tearDown();
+    }
+
+    private UserHistoryDictionary getDictionaryWithWord(final String name) {
+        final Locale dummyLocale = UserHistoryDictionaryTestsHelper.getDummyLocale(name);
+        final UserHistoryDictionary dict = PersonalizationHelper.getUserHistoryDictionary(
+                getContext(), dummyLocale, null /* account */);
+        dict.waitAllTasksForTests();
+        dict.clear();
+        UserHistoryDictionary.addToDictionary(dict, NgramContext.EMPTY_PREV_WORDS_INFO, WORD,
+                true /* isValid */, (int)TimeUnit.MILLISECONDS.toSeconds(
+                        System.currentTimeMillis()));
+        dict.waitAllTasksForTests();
+        return dict;
+    }
+
+    /**
+     * A long write operation that holds the write lock until it is released.
+     */
+    private static final class BlockingWrite implements Runnable {
+        private final CountDownLatch mStartedLatch = new CountDownLatch(1);
+        private final CountDownLatch mReleaseLatch = new CountDownLatch(1);
+
+        @Override
+        public void run() {
+            mStartedLatch.countDown();
+            try {
+                mReleaseLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        public void waitUntilStarted() throws InterruptedException {
+            assertTrue("the write started",
+                    mStartedLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+        }
+
+        public void release() {
+            mReleaseLatch.countDown();
+        }
+    }
+
+    public void testReadDuringLongWriteUsesSnapshot() throws InterruptedException {
+        final UserHistoryDictionary dict = getDictionaryWithWord("snapshot_read");
+        final DictionaryStats statsBefore = dict.getDictionaryStats();
+
+        final BlockingWrite write = new BlockingWrite();
+        dict.runLongWriteForTests(write);
+        write.waitUntilStarted();
+        final File snapshotFile = dict.getSnapshotFile();
+        assertNotNull("the snapshot is published", snapshotFile);
+        assertTrue("the snapshot file exists", snapshotFile.exists());
+        assertTrue("the read returns the snapshot result", dict.isInDictionary(WORD));
+        write.release();
+        dict.waitAllTasksForTests();
+
+        final DictionaryStats statsAfter = dict.getDictionaryStats();
+        assertEquals(1, statsAfter.mReadCount - statsBefore.mReadCount);
+        assertEquals(1, statsAfter.mContendedReadCount - statsBefore.mContendedReadCount);
+        assertEquals(1, statsAfter.mSnapshotReadCount - statsBefore.mSnapshotReadCount);
+        assertEquals(0, statsAfter.mMissedReadCount - statsBefore.mMissedReadCount);
+        dict.close();
+        dict.waitAllTasksForTests();
+        assertNull("the snapshot is discarded", dict.getSnapshotFile());
+        assertFalse("the snapshot file is removed", snapshotFile.exists());
+    }
+
+    public void testSnapshotIsRefreshedAfterWrites() throws InterruptedException {
+        final UserHistoryDictionary dict = getDictionaryWithWord("snapshot_refresh");
+        final String newWord = "refreshed";
+        UserHistoryDictionary.addToDictionary(dict, NgramContext.EMPTY_PREV_WORDS_INFO, newWord,
+                true /* isValid */, (int)TimeUnit.MILLISECONDS.toSeconds(
+                        System.currentTimeMillis()));
+        dict.waitAllTasksForTests();
+        final DictionaryStats statsBefore = dict.getDictionaryStats();
+
+        final BlockingWrite write = new BlockingWrite();
+        dict.runLongWriteForTests(write);
+        write.waitUntilStarted();
+        assertTrue("the snapshot has the word of the previous write",
+                dict.isInDictionary(newWord));
+        write.release();
+        dict.waitAllTasksForTests();
+
+        dict.clear();
+        dict.waitAllTasksForTests();
+        final BlockingWrite writeAfterClear = new BlockingWrite();
+        dict.runLongWriteForTests(writeAfterClear);
+        writeAfterClear.waitUntilStarted();
+        assertFalse("the snapshot doesn't have the cleared word", dict.isInDictionary(WORD));
+        writeAfterClear.release();
+        dict.waitAllTasksForTests();
+
+        final DictionaryStats statsAfter = dict.getDictionaryStats();
+        assertEquals(2, statsAfter.mReadCount - statsBefore.mReadCount);
+        assertEquals(2, statsAfter.mContendedReadCount - statsBefore.mContendedReadCount);
+        assertEquals(2, statsAfter.mSnapshotReadCount - statsBefore.mSnapshotReadCount);
+        assertEquals(0, statsAfter.mMissedReadCount - statsBefore.mMissedReadCount);
+        dict.close();
+    }
+}
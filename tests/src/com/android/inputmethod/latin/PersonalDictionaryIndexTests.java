@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin;
+
+import static com.android.inputmethod.latin.PersonalDictionaryLookup.ANY_LOCALE;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.LargeTest;
+import android.test.suitebuilder.annotation.SmallTest;
+import android.util.Log;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Unit tests for {@link PersonalDictionaryIndex}.
+ */
+@SmallTest
+public class PersonalDictionaryIndexTests extends AndroidTestCase {
+    private static final String TAG = PersonalDictionaryIndexTests.class.getSimpleName();
+
+    private static final int BENCHMARK_ENTRY_COUNT = 10000;
+    private static final int BENCHMARK_LOOKUP_COUNT = 100000;
+
+    public void testEmpty() {
+        final PersonalDictionaryIndex index = new PersonalDictionaryIndex.Builder().build();
+        assertEquals(0, index.getWordCount());
+        assertEquals(0, index.getShortcutCount());
+        assertFalse(index.isValidWord("foo", Locale.US));
+        assertNull(index.expandShortcut("foo", Locale.US));
+        assertTrue(index.getWords(Locale.US).isEmpty());
+        assertTrue(index.getShortcuts(Locale.US).isEmpty());
+        assertTrue(index.getWordsWithPrefix("f", Locale.US).isEmpty());
+    }
+
+    public void testWordsMatchMoreGeneralLocales() {
+        final PersonalDictionaryIndex.Builder builder = new PersonalDictionaryIndex.Builder();
+        builder.addWord(Locale.US, "Foo");
+        builder.addWord(Locale.ENGLISH, "bar");
+        builder.addWord(ANY_LOCALE, "baz");
+        builder.addWord(Locale.FRENCH, "bar");
+        final PersonalDictionaryIndex index = builder.build();
+        assertEquals(3, index.getWordCount());
+
+        assertTrue(index.isValidWord("foo", Locale.US));
+        assertTrue(index.isValidWord("bar", Locale.US));
+        assertTrue(index.isValidWord("baz", Locale.US));
+        assertFalse(index.isValidWord("foo", Locale.UK));
+        assertTrue(index.isValidWord("bar", Locale.UK));
+        assertFalse(index.isValidWord("foo", Locale.FRENCH));
+        assertTrue(index.isValidWord("bar", Locale.FRENCH));
+        assertTrue(index.isValidWord("baz", Locale.FRENCH));
+        // Words are looked up lowercased, and the raw words are returned.
+        assertFalse(index.isValidWord("Foo", Locale.US));
+        assertTrue(index.getWords(Locale.US).contains("Foo"));
+        assertFalse(index.getWords(Locale.US).contains("foo"));
+        assertEquals(3, index.getWords(Locale.US).size());
+        assertEquals(2, index.getWords(Locale.FRENCH).size());
+    }
+
+    public void testShortcutsPreferMoreSpecificLocales() {
+        final PersonalDictionaryIndex.Builder builder = new PersonalDictionaryIndex.Builder();
+        builder.addShortcut(ANY_LOCALE, "gm", "Good morning");
+        builder.addShortcut(Locale.ENGLISH, "gm", "General Motors");
+        builder.addShortcut(Locale.US, "ty", "Thank you");
+        final PersonalDictionaryIndex index = builder.build();
+        assertEquals(3, index.getShortcutCount());
+
+        assertEquals("General Motors", index.expandShortcut("gm", Locale.US));
+        assertEquals("General Motors", index.expandShortcut("gm", Locale.ENGLISH));
+        assertEquals("Good morning", index.expandShortcut("gm", Locale.FRENCH));
+        assertEquals("Thank you", index.expandShortcut("ty", Locale.US));
+        assertNull(index.expandShortcut("ty", Locale.UK));
+        assertNull(index.expandShortcut("GM", Locale.US));
+        assertEquals(2, index.getShortcuts(Locale.US).size());
+        assertEquals(1, index.getShortcuts(Locale.UK).size());
+    }
+
+    public void testLaterEntryReplacesEarlierEntry() {
+        final PersonalDictionaryIndex.Builder builder = new PersonalDictionaryIndex.Builder();
+        builder.addWord(Locale.US, "foo");
+        builder.addWord(Locale.US, "Foo");
+        builder.addShortcut(Locale.US, "f", "foo");
+        builder.addShortcut(Locale.US, "f", "Foo");
+        final PersonalDictionaryIndex index = builder.build();
+        assertEquals(1, index.getWordCount());
+        assertEquals(1, index.getShortcutCount());
+        assertTrue(index.getWords(Locale.US).contains("Foo"));
+        assertEquals("Foo", index.expandShortcut("f", Locale.US));
+    }
+
+    public void testGetWordsWithPrefix() {
+        final PersonalDictionaryIndex.Builder builder = new PersonalDictionaryIndex.Builder();
+        builder.addWord(Locale.US, "Android");
+        builder.addWord(Locale.US, "and");
+        builder.addWord(Locale.US, "ant");
+        builder.addWord(Locale.ENGLISH, "anchor");
+        builder.addWord(Locale.FRENCH, "ananas");
+        final PersonalDictionaryIndex index = builder.build();
+
+        final List<String> words = index.getWordsWithPrefix("and", Locale.US);
+        assertEquals(2, words.size());
+        assertTrue(words.contains("Android"));
+        assertTrue(words.contains("and"));
+        assertEquals(4, index.getWordsWithPrefix("an", Locale.US).size());
+        assertEquals(1, index.getWordsWithPrefix("an", Locale.FRENCH).size());
+        assertTrue(index.getWordsWithPrefix("andy", Locale.US).isEmpty());
+    }
+
+    private static long getUsedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static PersonalDictionaryIndex buildIndex(final String[] words,
+            final Locale[] locales) {
+        // The builder can be collected when the index has been built.
+        final PersonalDictionaryIndex.Builder builder = new PersonalDictionaryIndex.Builder();
+        for (int i = 0; i < words.length; i++) {
+            builder.addWord(locales[i % locales.length], words[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compares the index with the nested hash maps it replaced, for a large personal dictionary.
+     * The numbers are logged rather than asserted, since they depend on the device.
+     */
+    @LargeTest
+    public void testBenchmark() {
+        final String[] words = new String[BENCHMARK_ENTRY_COUNT];
+        for (int i = 0; i < BENCHMARK_ENTRY_COUNT; i++) {
+            words[i] = "Word" + Integer.toString(i * 7919, Character.MAX_RADIX);
+        }
+        final Locale[] locales = { Locale.US, Locale.ENGLISH, ANY_LOCALE, Locale.FRENCH };
+
+        long memory = getUsedMemory();
+        long startTime = System.nanoTime();
+        final HashMap<String, HashMap<Locale, String>> maps = new HashMap<>();
+        for (int i = 0; i < BENCHMARK_ENTRY_COUNT; i++) {
+            final Locale locale = locales[i % locales.length];
+            final String word = words[i].toLowerCase(locale);
+            HashMap<Locale, String> wordLocales = maps.get(word);
+            if (wordLocales == null) {
+                wordLocales = new HashMap<>();
+                maps.put(word, wordLocales);
+            }
+            wordLocales.put(locale, words[i]);
+        }
+        final long mapsLoadNanos = System.nanoTime() - startTime;
+        final long mapsMemory = getUsedMemory() - memory;
+
+        memory = getUsedMemory();
+        startTime = System.nanoTime();
+        final PersonalDictionaryIndex index = buildIndex(words, locales);
+        final long indexLoadNanos = System.nanoTime() - startTime;
+        final long indexMemory = getUsedMemory() - memory;
+        assertEquals(BENCHMARK_ENTRY_COUNT, index.getWordCount());
+
+        final String[] lookups = new String[BENCHMARK_LOOKUP_COUNT];
+        for (int i = 0; i < BENCHMARK_LOOKUP_COUNT; i++) {
+            // Every other lookup is for a word that isn't in the dictionary.
+            lookups[i] = (i % 2 == 0)
+                    ? words[(i / 2) % BENCHMARK_ENTRY_COUNT].toLowerCase(Locale.US)
+                    : "absent" + i;
+        }
+        int found = 0;
+        startTime = System.nanoTime();
+        for (final String lookup : lookups) {
+            if (index.isValidWord(lookup, Locale.US)) {
+                found++;
+            }
+        }
+        final long indexLookupNanos = System.nanoTime() - startTime;
+        // The words of the French locale don't match en_US.
+        assertEquals(BENCHMARK_LOOKUP_COUNT / 2 * 3 / 4, found);
+
+        Log.i(TAG, "Load: maps " + mapsLoadNanos / 1000 + " us, index "
+                + indexLoadNanos / 1000 + " us");
+        Log.i(TAG, "Memory: maps " + mapsMemory + " bytes, index " + indexMemory + " bytes");
+        Log.i(TAG, "Lookup: index " + indexLookupNanos / BENCHMARK_LOOKUP_COUNT + " ns");
+    }
+}
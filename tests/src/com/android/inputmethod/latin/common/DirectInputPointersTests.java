@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.common;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+@SmallTest
+public class DirectInputPointersTests extends AndroidTestCase {
+    private static final int DEFAULT_CAPACITY = 48;
+
+    private static InputPointers createInputPointers(final int size) {
+        final InputPointers src = new InputPointers(DEFAULT_CAPACITY);
+        for (int i = 0; i < size; i++) {
+            src.addPointer(i /* x */, i * 2 /* y */, i * 3 /* pointerId */, i * 4 /* time */);
+        }
+        return src;
+    }
+
+    private static void assertSamePointers(final String message, final InputPointers expected,
+            final DirectInputPointers actual) {
+        assertEquals(message + " size", expected.getPointerSize(), actual.getPointerSize());
+        for (int i = 0; i < expected.getPointerSize(); i++) {
+            assertEquals(message + " xCoordinates at " + i,
+                    expected.getXCoordinates()[i], actual.getXCoordinate(i));
+            assertEquals(message + " yCoordinates at " + i,
+                    expected.getYCoordinates()[i], actual.getYCoordinate(i));
+            assertEquals(message + " pointerIds at " + i,
+                    expected.getPointerIds()[i], actual.getPointerId(i));
+            assertEquals(message + " times at " + i,
+                    expected.getTimes()[i], actual.getTime(i));
+        }
+    }
+
+    public void testNewInstance() {
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        assertEquals("new instance size", 0, dst.getPointerSize());
+        assertEquals("new instance capacity", DEFAULT_CAPACITY, dst.getCapacity());
+        assertTrue("new instance is direct", dst.getBuffer().isDirect());
+        assertEquals("new instance byte order", ByteOrder.nativeOrder(),
+                dst.getBuffer().order());
+    }
+
+    public void testCopyFrom() {
+        final InputPointers src = createInputPointers(DEFAULT_CAPACITY / 2);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyFrom(src);
+        assertSamePointers("after copyFrom", src, dst);
+    }
+
+    public void testCopyFromWithExpansion() {
+        final InputPointers src = createInputPointers(DEFAULT_CAPACITY * 3 + 5);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyFrom(src);
+        assertTrue("capacity after expansion", dst.getCapacity() >= src.getPointerSize());
+        assertSamePointers("after expansion", src, dst);
+    }
+
+    public void testCopyAppendedPointers() {
+        final InputPointers src = createInputPointers(DEFAULT_CAPACITY - 10);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyFrom(src);
+        final int copiedSize = dst.getPointerSize();
+        for (int i = copiedSize; i < DEFAULT_CAPACITY * 2; i++) {
+            src.addPointer(i, i * 2, i * 3, i * 4);
+        }
+        dst.copyFrom(src, copiedSize);
+        assertSamePointers("after copying appended pointers", src, dst);
+    }
+
+    public void testCopyAppendedPointersFrom() {
+        final InputPointers src = createInputPointers(DEFAULT_CAPACITY - 10);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        assertEquals("kept pointers of the first copy", 0, dst.copyAppendedPointersFrom(src));
+        final int copiedSize = dst.getPointerSize();
+        for (int i = copiedSize; i < DEFAULT_CAPACITY * 2; i++) {
+            src.addPointer(i, i * 2, i * 3, i * 4);
+        }
+        assertEquals("kept pointers of an appended copy", copiedSize,
+                dst.copyAppendedPointersFrom(src));
+        assertSamePointers("after copying appended pointers", src, dst);
+    }
+
+    public void testCopyAppendedPointersFromAnotherGesture() {
+        final InputPointers src = createInputPointers(DEFAULT_CAPACITY / 2);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyAppendedPointersFrom(src);
+        final InputPointers anotherGesture = new InputPointers(DEFAULT_CAPACITY);
+        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+            anotherGesture.addPointer(i + 1, i, 0 /* pointerId */, i * 5);
+        }
+        assertEquals("kept pointers of another gesture", 0,
+                dst.copyAppendedPointersFrom(anotherGesture));
+        assertSamePointers("after copying another gesture", anotherGesture, dst);
+        final InputPointers shorterGesture = createInputPointers(DEFAULT_CAPACITY / 4);
+        assertEquals("kept pointers of a shorter gesture", 0,
+                dst.copyAppendedPointersFrom(shorterGesture));
+        assertSamePointers("after copying a shorter gesture", shorterGesture, dst);
+    }
+
+    public void testCopyAppendedPointersFromGestureWithChangedMiddlePointer() {
+        final int size = DEFAULT_CAPACITY / 2;
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyAppendedPointersFrom(createInputPointers(size));
+        // Same first and last held pointers, but a different pointer in between.
+        final InputPointers changedGesture = createInputPointers(size + 5);
+        changedGesture.addPointerAt(size / 2, -1 /* x */, size /* y */, size * 3 /* pointerId */,
+                size * 2 /* time */);
+        assertEquals("kept pointers of a gesture with a changed pointer", 0,
+                dst.copyAppendedPointersFrom(changedGesture));
+        assertSamePointers("after copying a gesture with a changed pointer", changedGesture, dst);
+    }
+
+    public void testCopyAppendedPointersFromResetPointers() {
+        final InputPointers src = createInputPointers(DEFAULT_CAPACITY / 2);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyAppendedPointersFrom(src);
+        // The same instance is reused for the next gesture.
+        src.reset();
+        for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+            src.addPointer(i + 1, i, 0 /* pointerId */, i * 5);
+        }
+        assertEquals("kept pointers of a reset gesture", 0, dst.copyAppendedPointersFrom(src));
+        assertSamePointers("after copying a reset gesture", src, dst);
+    }
+
+    public void testLayout() {
+        final int size = DEFAULT_CAPACITY / 2;
+        final InputPointers src = createInputPointers(size);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        dst.copyFrom(src);
+        // This is how native code reads the buffer.
+        final IntBuffer buffer = dst.getBuffer().asIntBuffer();
+        final int capacity = dst.getCapacity();
+        for (int i = 0; i < size; i++) {
+            assertEquals("x section at " + i, src.getXCoordinates()[i], buffer.get(i));
+            assertEquals("y section at " + i, src.getYCoordinates()[i],
+                    buffer.get(capacity + i));
+            assertEquals("times section at " + i, src.getTimes()[i],
+                    buffer.get(capacity * 2 + i));
+            assertEquals("pointerIds section at " + i, src.getPointerIds()[i],
+                    buffer.get(capacity * 3 + i));
+        }
+    }
+
+    public void testCopyFromInvalidStartIndex() {
+        final InputPointers src = createInputPointers(10);
+        final DirectInputPointers dst = new DirectInputPointers(DEFAULT_CAPACITY);
+        try {
+            dst.copyFrom(src, 5);
+            fail("copyFrom with a start index beyond the copied pointers must fail");
+        } catch (final IllegalArgumentException e) {
+            // Expected.
+        }
+    }
+}
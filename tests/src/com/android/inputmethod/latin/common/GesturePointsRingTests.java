@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.common;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+@SmallTest
+public class GesturePointsRingTests extends AndroidTestCase {
+    private static final int RING_CAPACITY = 16;
+    private static final int DEFAULT_CAPACITY = 48;
+
+    private static void addPointers(final InputPointers src, final int count) {
+        for (int i = 0; i < count; i++) {
+            final int index = src.getPointerSize();
+            src.addPointer(index /* x */, index * 2 /* y */, index % 3 /* pointerId */,
+                    index * 4 /* time */);
+        }
+    }
+
+    private static void assertSamePointers(final String message, final InputPointers expected,
+            final InputPointers actual) {
+        assertEquals(message + " size", expected.getPointerSize(), actual.getPointerSize());
+        for (int i = 0; i < expected.getPointerSize(); i++) {
+            assertEquals(message + " xCoordinates at " + i,
+                    expected.getXCoordinates()[i], actual.getXCoordinates()[i]);
+            assertEquals(message + " yCoordinates at " + i,
+                    expected.getYCoordinates()[i], actual.getYCoordinates()[i]);
+            assertEquals(message + " pointerIds at " + i,
+                    expected.getPointerIds()[i], actual.getPointerIds()[i]);
+            assertEquals(message + " times at " + i,
+                    expected.getTimes()[i], actual.getTimes()[i]);
+        }
+    }
+
+    public void testIllegalCapacity() {
+        try {
+            new GesturePointsRing(RING_CAPACITY - 1);
+            fail("capacity must be a power of two");
+        } catch (final IllegalArgumentException e) {
+            // Expected.
+        }
+    }
+
+    public void testAppendAndDrain() {
+        final GesturePointsRing ring = new GesturePointsRing(RING_CAPACITY);
+        final InputPointers src = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers dst = new InputPointers(DEFAULT_CAPACITY);
+        assertEquals("nothing published", GesturePointsRing.NOT_A_SEQUENCE_NUMBER,
+                ring.drainTo(dst, 1 /* maxSequenceNumber */));
+
+        assertTrue(ring.startBatch(1 /* sequenceNumber */));
+        addPointers(src, 5);
+        assertEquals("published", 5, ring.append(src, 0 /* startIndex */));
+        assertEquals(1, ring.drainTo(dst, 1 /* maxSequenceNumber */));
+        assertSamePointers("first drain", src, dst);
+
+        addPointers(src, 3);
+        assertEquals("published", 8, ring.append(src, 5 /* startIndex */));
+        assertEquals(1, ring.drainTo(dst, 1 /* maxSequenceNumber */));
+        assertSamePointers("appended points", src, dst);
+    }
+
+    public void testAppendWhenFull() {
+        final GesturePointsRing ring = new GesturePointsRing(RING_CAPACITY);
+        final InputPointers src = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers dst = new InputPointers(DEFAULT_CAPACITY);
+        assertTrue(ring.startBatch(1 /* sequenceNumber */));
+        addPointers(src, RING_CAPACITY * 2);
+        int publishedSize = ring.append(src, 0 /* startIndex */);
+        // The start marker takes a record.
+        assertEquals("published until full", RING_CAPACITY - 1, publishedSize);
+        assertFalse("no room for a new batch", ring.startBatch(2 /* sequenceNumber */));
+        assertEquals("nothing more published", publishedSize, ring.append(src, publishedSize));
+
+        while (publishedSize < src.getPointerSize()) {
+            ring.drainTo(dst, 1 /* maxSequenceNumber */);
+            publishedSize = ring.append(src, publishedSize);
+        }
+        ring.drainTo(dst, 1 /* maxSequenceNumber */);
+        assertSamePointers("after draining", src, dst);
+    }
+
+    public void testDrainStopsBeforeNextBatch() {
+        final GesturePointsRing ring = new GesturePointsRing(RING_CAPACITY);
+        final InputPointers first = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers second = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers dst = new InputPointers(DEFAULT_CAPACITY);
+        assertTrue(ring.startBatch(1 /* sequenceNumber */));
+        addPointers(first, 4);
+        ring.append(first, 0 /* startIndex */);
+        assertTrue(ring.startBatch(2 /* sequenceNumber */));
+        addPointers(second, 6);
+        ring.append(second, 0 /* startIndex */);
+
+        assertEquals(1, ring.drainTo(dst, 1 /* maxSequenceNumber */));
+        assertSamePointers("first batch", first, dst);
+        assertEquals(2, ring.drainTo(dst, 2 /* maxSequenceNumber */));
+        assertSamePointers("second batch", second, dst);
+    }
+
+    public void testRestartWithSameSequenceNumber() {
+        final GesturePointsRing ring = new GesturePointsRing(RING_CAPACITY);
+        final InputPointers canceled = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers restarted = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers dst = new InputPointers(DEFAULT_CAPACITY);
+        assertTrue(ring.startBatch(1 /* sequenceNumber */));
+        addPointers(canceled, 7);
+        ring.append(canceled, 0 /* startIndex */);
+        assertTrue(ring.startBatch(1 /* sequenceNumber */));
+        addPointers(restarted, 2);
+        ring.append(restarted, 0 /* startIndex */);
+
+        assertEquals(1, ring.drainTo(dst, 1 /* maxSequenceNumber */));
+        assertSamePointers("restarted batch", restarted, dst);
+    }
+
+    public void testConcurrentProducer() throws InterruptedException {
+        final GesturePointsRing ring = new GesturePointsRing(RING_CAPACITY);
+        final InputPointers src = new InputPointers(DEFAULT_CAPACITY);
+        final InputPointers dst = new InputPointers(DEFAULT_CAPACITY);
+        final int pointerCount = RING_CAPACITY * 100;
+        addPointers(src, pointerCount);
+        final Thread producer = new Thread() {
+            @Override
+            public void run() {
+                while (!ring.startBatch(1 /* sequenceNumber */)) {
+                    Thread.yield();
+                }
+                int publishedSize = 0;
+                while (publishedSize < pointerCount) {
+                    publishedSize = ring.append(src, publishedSize);
+                }
+            }
+        };
+        producer.start();
+        while (dst.getPointerSize() < pointerCount) {
+            ring.drainTo(dst, 1 /* maxSequenceNumber */);
+        }
+        producer.join();
+        assertSamePointers("concurrent", src, dst);
+    }
+}
@@ -321,4 +321,30 @@ public class InputPointersTests extends AndroidTestCase {
             assertEquals("times at " + i, time, src.getTimes()[i]);
         }
     }
+
+    public void testGeneration() {
+        final InputPointers src = new InputPointers(DEFAULT_CAPACITY);
+        assertTrue("generation of another instance",
+                src.getGeneration() != new InputPointers(DEFAULT_CAPACITY).getGeneration());
+        final int generation = src.getGeneration();
+        src.addPointer(1 /* x */, 2 /* y */, 0 /* pointerId */, 3 /* time */);
+        src.addPointerAt(src.getPointerSize(), 4 /* x */, 5 /* y */, 0 /* pointerId */,
+                6 /* time */);
+        assertEquals("generation after adding pointers", generation, src.getGeneration());
+
+        final InputPointers dst = new InputPointers(DEFAULT_CAPACITY);
+        dst.copy(src);
+        assertEquals("generation after copy", generation, dst.getGeneration());
+        dst.set(src);
+        assertEquals("generation after set", generation, dst.getGeneration());
+
+        src.addPointerAt(0, 7 /* x */, 8 /* y */, 0 /* pointerId */, 9 /* time */);
+        final int overwrittenGeneration = src.getGeneration();
+        assertTrue("generation after overwriting a pointer", overwrittenGeneration != generation);
+        src.shift(1);
+        final int shiftedGeneration = src.getGeneration();
+        assertTrue("generation after shift", shiftedGeneration != overwrittenGeneration);
+        src.reset();
+        assertTrue("generation after reset", src.getGeneration() != shiftedGeneration);
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.inputlogic;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.SmallTest;
+
+import com.android.inputmethod.latin.common.InputPointers;
+import com.android.inputmethod.latin.inputlogic.InputLogicHandler.BatchTailRequest;
+import com.android.inputmethod.latin.inputlogic.InputLogicHandler.RunningBatchRequest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unit tests for the batch requests of {@link InputLogicHandler}.
+ */
+@SmallTest
+public class InputLogicHandlerTests extends AndroidTestCase {
+    private static final long TIMEOUT_IN_MILLISECONDS = 5000;
+    // How long the cancellation gives the Non-UI handler thread to start the tail.
+    private static final long RACE_WINDOW_IN_MILLISECONDS = 100;
+
+    private static final int UPDATE_REQUEST_ID = 1;
+    private static final int TAIL_REQUEST_ID = 2;
+    private static final int NEXT_GESTURE_REQUEST_ID = 3;
+
+    private static final Runnable FAILING_CANCELER = new Runnable() {
+        @Override
+        public void run() {
+            fail("canceled a request that isn't obsolete");
+        }
+    };
+
+    public void testNothingIsCanceledWhenNothingRuns() {
+        final RunningBatchRequest runningRequest = new RunningBatchRequest();
+        assertFalse(runningRequest.cancelIfObsolete(UPDATE_REQUEST_ID, FAILING_CANCELER));
+        runningRequest.start(UPDATE_REQUEST_ID);
+        runningRequest.finish();
+        assertFalse(runningRequest.cancelIfObsolete(TAIL_REQUEST_ID, FAILING_CANCELER));
+    }
+
+    public void testLatestRequestIsNotCanceled() {
+        final RunningBatchRequest runningRequest = new RunningBatchRequest();
+        runningRequest.start(UPDATE_REQUEST_ID);
+        assertFalse(runningRequest.cancelIfObsolete(UPDATE_REQUEST_ID, FAILING_CANCELER));
+    }
+
+    /**
+     * An update is running, the tail of its gesture is queued behind it, and the first update of
+     * the next gesture comes in. The cancellation of the running update must not reach the
+     * search of the tail, even if the update finishes while it is being canceled.
+     */
+    public void testCancellationDoesNotReachQueuedTail() throws InterruptedException {
+        final RunningBatchRequest runningRequest = new RunningBatchRequest();
+        final CountDownLatch updateRunningLatch = new CountDownLatch(1);
+        final CountDownLatch updateFinishingLatch = new CountDownLatch(1);
+        final AtomicBoolean tailStarted = new AtomicBoolean(false);
+        final AtomicBoolean tailCanceled = new AtomicBoolean(false);
+
+        // The Non-UI handler thread runs the update, then the queued tail.
+        final Thread handlerThread = new Thread() {
+            @Override
+            public void run() {
+                runningRequest.start(UPDATE_REQUEST_ID);
+                updateRunningLatch.countDown();
+                try {
+                    updateFinishingLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    return;
+                } finally {
+                    runningRequest.finish();
+                }
+                // The tail isn't tracked as a running update, so it is never canceled.
+                tailStarted.set(true);
+            }
+        };
+        handlerThread.start();
+        assertTrue(updateRunningLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+
+        // The UI thread posts the first update of the next gesture while the first update is
+        // still running, which cancels the first update.
+        final boolean canceled = runningRequest.cancelIfObsolete(NEXT_GESTURE_REQUEST_ID,
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        // Let the update finish while the cancellation is in progress.
+                        updateFinishingLatch.countDown();
+                        try {
+                            Thread.sleep(RACE_WINDOW_IN_MILLISECONDS);
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        if (tailStarted.get()) {
+                            tailCanceled.set(true);
+                        }
+                    }
+                });
+        handlerThread.join(TIMEOUT_IN_MILLISECONDS);
+
+        assertTrue("the running update is canceled", canceled);
+        assertTrue(tailStarted.get());
+        assertFalse("the cancellation reached the tail", tailCanceled.get());
+        // The next gesture's update only starts after the tail, and nothing is left to cancel.
+        assertFalse(runningRequest.cancelIfObsolete(NEXT_GESTURE_REQUEST_ID, FAILING_CANCELER));
+    }
+
+    private static InputPointers createPointers(final int size) {
+        final InputPointers pointers = new InputPointers(size);
+        for (int index = 0; index < size; index++) {
+            pointers.addPointerAt(index, index /* x */, index * 2 /* y */, 0 /* pointerId */,
+                    index * 10 /* time */);
+        }
+        return pointers;
+    }
+
+    public void testTailWithPublishedPointsUsesReceivedPointers() {
+        final InputPointers batchPointers = createPointers(10);
+        final InputPointers receivedPointers = createPointers(10);
+        final BatchTailRequest tailRequest = new BatchTailRequest(null /* callback */,
+                batchPointers, true /* allPointsPublished */);
+        assertSame(receivedPointers, tailRequest.getBatchPointers(receivedPointers));
+    }
+
+    /**
+     * The UI thread keeps updating the pointers of the word composer after posting the tail. The
+     * tail whose points didn't all fit in the ring must not see these updates.
+     */
+    public void testTailWithUnpublishedPointsHasPrivateCopy() {
+        final InputPointers batchPointers = createPointers(10);
+        final InputPointers receivedPointers = createPointers(4);
+        final BatchTailRequest tailRequest = new BatchTailRequest(null /* callback */,
+                batchPointers, false /* allPointsPublished */);
+        batchPointers.reset();
+        batchPointers.addPointerAt(0, 100 /* x */, 200 /* y */, 0 /* pointerId */, 0 /* time */);
+
+        final InputPointers tailPointers = tailRequest.getBatchPointers(receivedPointers);
+        assertNotSame(batchPointers, tailPointers);
+        assertNotSame(receivedPointers, tailPointers);
+        final InputPointers expectedPointers = createPointers(10);
+        assertEquals(expectedPointers.getPointerSize(), tailPointers.getPointerSize());
+        for (int index = 0; index < expectedPointers.getPointerSize(); index++) {
+            assertEquals(expectedPointers.getXCoordinates()[index],
+                    tailPointers.getXCoordinates()[index]);
+            assertEquals(expectedPointers.getYCoordinates()[index],
+                    tailPointers.getYCoordinates()[index]);
+            assertEquals(expectedPointers.getTimes()[index], tailPointers.getTimes()[index]);
+        }
+    }
+}
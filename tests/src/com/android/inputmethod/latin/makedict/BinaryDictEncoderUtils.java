@@ -25,6 +25,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map.Entry;
 
@@ -89,46 +90,6 @@ public class BinaryDictEncoderUtils {
         return BinaryDictIOUtils.getPtNodeCountSize(nodeArray.mData.size());
     }
 
-    /**
-     * Compute the maximum size of a PtNode, assuming 3-byte addresses for everything.
-     *
-     * @param ptNode the PtNode to compute the size of.
-     * @return the maximum size of the PtNode.
-     */
-    private static int getPtNodeMaximumSize(final PtNode ptNode,
-            final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
-        int size = getNodeHeaderSize(ptNode, codePointToOneByteCodeMap);
-        if (ptNode.isTerminal()) {
-            // If terminal, one byte for the frequency.
-            size += FormatSpec.PTNODE_FREQUENCY_SIZE;
-        }
-        size += FormatSpec.PTNODE_MAX_ADDRESS_SIZE; // For children address
-        if (null != ptNode.mBigrams) {
-            size += (FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE
-                    + FormatSpec.PTNODE_ATTRIBUTE_MAX_ADDRESS_SIZE)
-                    * ptNode.mBigrams.size();
-        }
-        return size;
-    }
-
-    /**
-     * Compute the maximum size of each PtNode of a PtNode array, assuming 3-byte addresses for
-     * everything, and caches it in the `mCachedSize' member of the nodes; deduce the size of
-     * the containing node array, and cache it it its 'mCachedSize' member.
-     *
-     * @param ptNodeArray the node array to compute the maximum size of.
-     */
-    private static void calculatePtNodeArrayMaximumSize(final PtNodeArray ptNodeArray,
-            final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
-        int size = getPtNodeCountSize(ptNodeArray);
-        for (PtNode node : ptNodeArray.mData) {
-            final int nodeSize = getPtNodeMaximumSize(node, codePointToOneByteCodeMap);
-            node.mCachedSize = nodeSize;
-            size += nodeSize;
-        }
-        ptNodeArray.mCachedSize = size;
-    }
-
     /**
      * Compute the size of the header (flag + [parent address] + characters size) of a PtNode.
      *
@@ -245,146 +206,365 @@ public class BinaryDictEncoderUtils {
     }
 
     /**
-     * Get the offset from a position inside a current node array to a target node array, during
-     * update.
-     *
-     * If the current node array is before the target node array, the target node array has not
-     * been updated yet, so we should return the offset from the old position of the current node
-     * array to the old position of the target node array. If on the other hand the target is
-     * before the current node array, it already has been updated, so we should return the offset
-     * from the new position in the current node array to the new position in the target node
-     * array.
-     *
-     * @param currentNodeArray node array containing the PtNode where the offset will be written
-     * @param offsetFromStartOfCurrentNodeArray offset, in bytes, from the start of currentNodeArray
-     * @param targetNodeArray the target node array to get the offset to
-     * @return the offset to the target node array
+     * Statistics about the last address computation, reported by
+     * {@link #showStatistics(ArrayList, AddressComputationStats)}.
      */
-    private static int getOffsetToTargetNodeArrayDuringUpdate(final PtNodeArray currentNodeArray,
-            final int offsetFromStartOfCurrentNodeArray, final PtNodeArray targetNodeArray) {
-        final boolean isTargetBeforeCurrent = (targetNodeArray.mCachedAddressBeforeUpdate
-                < currentNodeArray.mCachedAddressBeforeUpdate);
-        if (isTargetBeforeCurrent) {
-            return targetNodeArray.mCachedAddressAfterUpdate
-                    - (currentNodeArray.mCachedAddressAfterUpdate
-                            + offsetFromStartOfCurrentNodeArray);
-        }
-        return targetNodeArray.mCachedAddressBeforeUpdate
-                - (currentNodeArray.mCachedAddressBeforeUpdate + offsetFromStartOfCurrentNodeArray);
-    }
+    /* package */ static final class AddressComputationStats {
+        public int mNodeArrayCount;
+        public int mPassCount;
+        // The number of node arrays whose size has been recomputed during each pass.
+        public final ArrayList<Integer> mRecomputedNodeArrayCounts = new ArrayList<>();
+        public int mOriginalSize;
+        public int mCompressedSize;
+        public long mSetupTimeInMillis;
+        public long mLayoutTimeInMillis;
+
+        public int getTotalRecomputedNodeArrayCount() {
+            int count = 0;
+            for (final int recomputedNodeArrayCount : mRecomputedNodeArrayCounts) {
+                count += recomputedNodeArrayCount;
+            }
+            return count;
+        }
 
-    /**
-     * Get the offset from a position inside a current node array to a target PtNode, during
-     * update.
-     *
-     * @param currentNodeArray node array containing the PtNode where the offset will be written
-     * @param offsetFromStartOfCurrentNodeArray offset, in bytes, from the start of currentNodeArray
-     * @param targetPtNode the target PtNode to get the offset to
-     * @return the offset to the target PtNode
-     */
-    // TODO: is there any way to factorize this method with the one above?
-    private static int getOffsetToTargetPtNodeDuringUpdate(final PtNodeArray currentNodeArray,
-            final int offsetFromStartOfCurrentNodeArray, final PtNode targetPtNode) {
-        final int oldOffsetBasePoint = currentNodeArray.mCachedAddressBeforeUpdate
-                + offsetFromStartOfCurrentNodeArray;
-        final boolean isTargetBeforeCurrent = (targetPtNode.mCachedAddressBeforeUpdate
-                < oldOffsetBasePoint);
-        // If the target is before the current node array, then its address has already been
-        // updated. We can use the AfterUpdate member, and compare it to our own member after
-        // update. Otherwise, the AfterUpdate member is not updated yet, so we need to use the
-        // BeforeUpdate member, and of course we have to compare this to our own address before
-        // update.
-        if (isTargetBeforeCurrent) {
-            final int newOffsetBasePoint = currentNodeArray.mCachedAddressAfterUpdate
-                    + offsetFromStartOfCurrentNodeArray;
-            return targetPtNode.mCachedAddressAfterUpdate - newOffsetBasePoint;
-        }
-        return targetPtNode.mCachedAddressBeforeUpdate - oldOffsetBasePoint;
+        @Override
+        public String toString() {
+            return "  Address computation : " + mPassCount + " passes, "
+                    + getTotalRecomputedNodeArrayCount() + " node array layouts for "
+                    + mNodeArrayCount + " node arrays " + mRecomputedNodeArrayCounts + "\n"
+                    + "  Address compression : " + mOriginalSize + " -> " + mCompressedSize
+                    + " bytes\n"
+                    + "  Address computation time : setup " + mSetupTimeInMillis + " ms, layout "
+                    + mLayoutTimeInMillis + " ms";
+        }
     }
 
     /**
-     * Computes the actual node array size, based on the cached addresses of the children nodes.
+     * Computes the smallest addresses of an ordered list of PtNode arrays.
      *
-     * Each node array stores its tentative address. During dictionary address computing, these
-     * are not final, but they can be used to compute the node array size (the node array size
-     * depends on the address of the children because the number of bytes necessary to store an
-     * address depends on its numeric value. The return value indicates whether the node array
-     * contents (as in, any of the addresses stored in the cache fields) have changed with
-     * respect to their previous value.
+     * The size of a node array depends on the offsets it stores to its children and bigram
+     * targets, and these offsets depend on the sizes of all the node arrays they span. This
+     * starts from the largest possible sizes and shrinks them pass after pass until nothing
+     * changes. Each pass computes the size of every stored offset from the layout of the previous
+     * pass only, so that offsets never grow. It only lays out again the node arrays that store an
+     * offset spanning a node array whose layout changed during the previous pass; the others would
+     * get the same result.
      *
-     * @param ptNodeArray the node array to compute the size of.
-     * @param dict the dictionary in which the word/attributes are to be found.
-     * @return false if none of the cached addresses inside the node array changed, true otherwise.
+     * PtNodes are identified by their index in the flattened list of all PtNodes. Bigram targets
+     * are looked up only once.
      */
-    private static boolean computeActualPtNodeArraySize(final PtNodeArray ptNodeArray,
-            final FusionDictionary dict,
-            final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
-        boolean changed = false;
-        int size = getPtNodeCountSize(ptNodeArray);
-        for (PtNode ptNode : ptNodeArray.mData) {
-            ptNode.mCachedAddressAfterUpdate = ptNodeArray.mCachedAddressAfterUpdate + size;
-            if (ptNode.mCachedAddressAfterUpdate != ptNode.mCachedAddressBeforeUpdate) {
-                changed = true;
+    private static final class AddressResolver {
+        private final ArrayList<PtNodeArray> mFlatNodes;
+        // The index of the first PtNode of each node array. Has one more element for the end.
+        private final int[] mFirstPtNodeIndices;
+        // The size of the header and the frequency of each PtNode. They don't depend on addresses.
+        private final int[] mFixedPtNodeSizes;
+        // The index of the children node array of each PtNode, or -1 if it has no children.
+        private final int[] mChildrenNodeArrayIndices;
+        // The PtNode indices of the bigram targets of each PtNode, or null if it has no bigrams.
+        private final int[][] mBigramTargetPtNodeIndices;
+        // The node array index of each PtNode.
+        private final int[] mNodeArrayIndices;
+        // The lowest and highest indices of the node arrays the size of each node array depends
+        // on, including itself.
+        private final int[] mDependencyStarts;
+        private final int[] mDependencyEnds;
+        // The layout as of the last pass.
+        private final int[] mNodeArrayAddresses;
+        private final int[] mNodeArraySizes;
+        private final int[] mPtNodeSizes;
+        // The offset of each PtNode from the start of its node array.
+        private final int[] mPtNodeOffsets;
+        // The byte size of the children address and of each bigram address of each PtNode.
+        private final int[] mChildrenAddressSizes;
+        private final int[][] mBigramAddressSizes;
+        // The byte sizes of the addresses computed by the current pass.
+        private final int[] mNewChildrenAddressSizes;
+        private final int[][] mNewBigramAddressSizes;
+
+        public AddressResolver(final FusionDictionary dict, final ArrayList<PtNodeArray> flatNodes,
+                final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
+            mFlatNodes = flatNodes;
+            final int nodeArrayCount = flatNodes.size();
+            mFirstPtNodeIndices = new int[nodeArrayCount + 1];
+            final HashMap<PtNodeArray, Integer> nodeArrayIndices = new HashMap<>();
+            final HashMap<PtNode, Integer> ptNodeIndices = new HashMap<>();
+            int ptNodeCount = 0;
+            for (int i = 0; i < nodeArrayCount; ++i) {
+                final PtNodeArray nodeArray = flatNodes.get(i);
+                nodeArrayIndices.put(nodeArray, i);
+                mFirstPtNodeIndices[i] = ptNodeCount;
+                for (final PtNode ptNode : nodeArray.mData) {
+                    ptNodeIndices.put(ptNode, ptNodeCount++);
+                }
             }
-            int nodeSize = getNodeHeaderSize(ptNode, codePointToOneByteCodeMap);
-            if (ptNode.isTerminal()) {
-                nodeSize += FormatSpec.PTNODE_FREQUENCY_SIZE;
+            mFirstPtNodeIndices[nodeArrayCount] = ptNodeCount;
+            mFixedPtNodeSizes = new int[ptNodeCount];
+            mChildrenNodeArrayIndices = new int[ptNodeCount];
+            mBigramTargetPtNodeIndices = new int[ptNodeCount][];
+            mNodeArrayIndices = new int[ptNodeCount];
+            mDependencyStarts = new int[nodeArrayCount];
+            mDependencyEnds = new int[nodeArrayCount];
+            mNodeArrayAddresses = new int[nodeArrayCount];
+            mNodeArraySizes = new int[nodeArrayCount];
+            mPtNodeSizes = new int[ptNodeCount];
+            mPtNodeOffsets = new int[ptNodeCount];
+            mChildrenAddressSizes = new int[ptNodeCount];
+            mBigramAddressSizes = new int[ptNodeCount][];
+            mNewChildrenAddressSizes = new int[ptNodeCount];
+            mNewBigramAddressSizes = new int[ptNodeCount][];
+
+            for (int i = 0; i < nodeArrayCount; ++i) {
+                Arrays.fill(mNodeArrayIndices, mFirstPtNodeIndices[i], mFirstPtNodeIndices[i + 1],
+                        i);
             }
-            if (null != ptNode.mChildren) {
-                nodeSize += getByteSize(getOffsetToTargetNodeArrayDuringUpdate(ptNodeArray,
-                        nodeSize + size, ptNode.mChildren));
+            for (int i = 0; i < nodeArrayCount; ++i) {
+                int dependencyStart = i;
+                int dependencyEnd = i;
+                int ptNodeIndex = mFirstPtNodeIndices[i];
+                for (final PtNode ptNode : flatNodes.get(i).mData) {
+                    int fixedSize = getNodeHeaderSize(ptNode, codePointToOneByteCodeMap);
+                    if (ptNode.isTerminal()) {
+                        fixedSize += FormatSpec.PTNODE_FREQUENCY_SIZE;
+                    }
+                    mFixedPtNodeSizes[ptNodeIndex] = fixedSize;
+                    mChildrenNodeArrayIndices[ptNodeIndex] = -1;
+                    if (null != ptNode.mChildren) {
+                        final int childrenIndex = nodeArrayIndices.get(ptNode.mChildren);
+                        mChildrenNodeArrayIndices[ptNodeIndex] = childrenIndex;
+                        dependencyStart = Math.min(dependencyStart, childrenIndex);
+                        dependencyEnd = Math.max(dependencyEnd, childrenIndex);
+                    }
+                    if (null != ptNode.mBigrams) {
+                        final int[] targets = new int[ptNode.mBigrams.size()];
+                        for (int j = 0; j < targets.length; ++j) {
+                            final String word = ptNode.mBigrams.get(j).mWord;
+                            final PtNode target =
+                                    FusionDictionary.findWordInTree(dict.mRootNodeArray, word);
+                            if (null == target) {
+                                throw new RuntimeException("Bigram target not found : " + word);
+                            }
+                            targets[j] = ptNodeIndices.get(target);
+                            final int targetIndex = mNodeArrayIndices[targets[j]];
+                            dependencyStart = Math.min(dependencyStart, targetIndex);
+                            dependencyEnd = Math.max(dependencyEnd, targetIndex);
+                        }
+                        mBigramTargetPtNodeIndices[ptNodeIndex] = targets;
+                        mBigramAddressSizes[ptNodeIndex] = new int[targets.length];
+                        mNewBigramAddressSizes[ptNodeIndex] = new int[targets.length];
+                    }
+                    ++ptNodeIndex;
+                }
+                mDependencyStarts[i] = dependencyStart;
+                mDependencyEnds[i] = dependencyEnd;
             }
-            if (null != ptNode.mBigrams) {
-                for (WeightedString bigram : ptNode.mBigrams) {
-                    final int offset = getOffsetToTargetPtNodeDuringUpdate(ptNodeArray,
-                            nodeSize + size + FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE,
-                            FusionDictionary.findWordInTree(dict.mRootNodeArray, bigram.mWord));
-                    nodeSize += getByteSize(offset) + FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE;
+        }
+
+        /**
+         * Starts from the maximum size of each PtNode, assuming 3-byte addresses for everything.
+         * @return the total size.
+         */
+        private int initializeMaximumSizes() {
+            for (int i = 0; i < mFlatNodes.size(); ++i) {
+                for (int ptNodeIndex = mFirstPtNodeIndices[i];
+                        ptNodeIndex < mFirstPtNodeIndices[i + 1]; ++ptNodeIndex) {
+                    mChildrenAddressSizes[ptNodeIndex] = FormatSpec.PTNODE_MAX_ADDRESS_SIZE;
+                    final int[] bigramAddressSizes = mBigramAddressSizes[ptNodeIndex];
+                    if (null != bigramAddressSizes) {
+                        Arrays.fill(bigramAddressSizes,
+                                FormatSpec.PTNODE_ATTRIBUTE_MAX_ADDRESS_SIZE);
+                    }
+                    mPtNodeSizes[ptNodeIndex] = computePtNodeSize(ptNodeIndex);
                 }
+                mNodeArraySizes[i] = updatePtNodeOffsets(i);
             }
-            ptNode.mCachedSize = nodeSize;
-            size += nodeSize;
+            return updateNodeArrayAddresses(0);
         }
-        if (ptNodeArray.mCachedSize != size) {
-            ptNodeArray.mCachedSize = size;
-            changed = true;
+
+        private int computePtNodeSize(final int ptNodeIndex) {
+            int size = mFixedPtNodeSizes[ptNodeIndex] + mChildrenAddressSizes[ptNodeIndex];
+            final int[] bigramAddressSizes = mBigramAddressSizes[ptNodeIndex];
+            if (null != bigramAddressSizes) {
+                for (final int bigramAddressSize : bigramAddressSizes) {
+                    size += FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE + bigramAddressSize;
+                }
+            }
+            return size;
         }
-        return changed;
-    }
 
-    /**
-     * Initializes the cached addresses of node arrays and their containing nodes from their size.
-     *
-     * @param flatNodes the list of node arrays.
-     * @return the byte size of the entire stack.
-     */
-    private static int initializePtNodeArraysCachedAddresses(
-            final ArrayList<PtNodeArray> flatNodes) {
-        int nodeArrayOffset = 0;
-        for (final PtNodeArray nodeArray : flatNodes) {
-            nodeArray.mCachedAddressBeforeUpdate = nodeArrayOffset;
-            int nodeCountSize = getPtNodeCountSize(nodeArray);
-            int nodeffset = 0;
-            for (final PtNode ptNode : nodeArray.mData) {
-                ptNode.mCachedAddressBeforeUpdate = ptNode.mCachedAddressAfterUpdate =
-                        nodeCountSize + nodeArrayOffset + nodeffset;
-                nodeffset += ptNode.mCachedSize;
+        /**
+         * Lays out the PtNodes of a node array from their sizes.
+         * @return the size of the node array.
+         */
+        private int updatePtNodeOffsets(final int nodeArrayIndex) {
+            int offset = getPtNodeCountSize(mFlatNodes.get(nodeArrayIndex));
+            for (int ptNodeIndex = mFirstPtNodeIndices[nodeArrayIndex];
+                    ptNodeIndex < mFirstPtNodeIndices[nodeArrayIndex + 1]; ++ptNodeIndex) {
+                mPtNodeOffsets[ptNodeIndex] = offset;
+                offset += mPtNodeSizes[ptNodeIndex];
             }
-            nodeArrayOffset += nodeArray.mCachedSize;
+            return offset;
         }
-        return nodeArrayOffset;
-    }
 
-    /**
-     * Updates the cached addresses of node arrays after recomputing their new positions.
-     *
-     * @param flatNodes the list of node arrays.
-     */
-    private static void updatePtNodeArraysCachedAddresses(final ArrayList<PtNodeArray> flatNodes) {
-        for (final PtNodeArray nodeArray : flatNodes) {
-            nodeArray.mCachedAddressBeforeUpdate = nodeArray.mCachedAddressAfterUpdate;
-            for (final PtNode ptNode : nodeArray.mData) {
-                ptNode.mCachedAddressBeforeUpdate = ptNode.mCachedAddressAfterUpdate;
+        /**
+         * Updates the addresses of the node arrays from the given index on.
+         * @return the total size.
+         */
+        private int updateNodeArrayAddresses(final int fromNodeArrayIndex) {
+            int address = fromNodeArrayIndex == 0 ? 0
+                    : mNodeArrayAddresses[fromNodeArrayIndex - 1]
+                            + mNodeArraySizes[fromNodeArrayIndex - 1];
+            for (int i = fromNodeArrayIndex; i < mFlatNodes.size(); ++i) {
+                mNodeArrayAddresses[i] = address;
+                address += mNodeArraySizes[i];
+            }
+            return address;
+        }
+
+        /**
+         * Computes the byte size of the addresses stored in a node array from the layout of the
+         * last pass, into mNewChildrenAddressSizes and mNewBigramAddressSizes.
+         */
+        private void computeAddressSizes(final int nodeArrayIndex) {
+            final int nodeArrayAddress = mNodeArrayAddresses[nodeArrayIndex];
+            for (int ptNodeIndex = mFirstPtNodeIndices[nodeArrayIndex];
+                    ptNodeIndex < mFirstPtNodeIndices[nodeArrayIndex + 1]; ++ptNodeIndex) {
+                // The offsets are relative to the position of the address itself.
+                int position = nodeArrayAddress + mPtNodeOffsets[ptNodeIndex]
+                        + mFixedPtNodeSizes[ptNodeIndex];
+                final int childrenIndex = mChildrenNodeArrayIndices[ptNodeIndex];
+                mNewChildrenAddressSizes[ptNodeIndex] = childrenIndex < 0 ? 0
+                        : getByteSize(mNodeArrayAddresses[childrenIndex] - position);
+                position += mChildrenAddressSizes[ptNodeIndex];
+                final int[] targets = mBigramTargetPtNodeIndices[ptNodeIndex];
+                if (null == targets) continue;
+                final int[] bigramAddressSizes = mBigramAddressSizes[ptNodeIndex];
+                final int[] newBigramAddressSizes = mNewBigramAddressSizes[ptNodeIndex];
+                for (int j = 0; j < targets.length; ++j) {
+                    final int target = targets[j];
+                    position += FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE;
+                    final int targetAddress = mNodeArrayAddresses[mNodeArrayIndices[target]]
+                            + mPtNodeOffsets[target];
+                    newBigramAddressSizes[j] = getByteSize(targetAddress - position);
+                    position += bigramAddressSizes[j];
+                }
+            }
+        }
+
+        /**
+         * Commits the address sizes computed for a node array by the current pass.
+         * @return whether the layout of the node array changed.
+         */
+        private boolean commitAddressSizes(final int nodeArrayIndex) {
+            boolean changed = false;
+            for (int ptNodeIndex = mFirstPtNodeIndices[nodeArrayIndex];
+                    ptNodeIndex < mFirstPtNodeIndices[nodeArrayIndex + 1]; ++ptNodeIndex) {
+                boolean ptNodeChanged = commitAddressSize(mChildrenAddressSizes,
+                        mNewChildrenAddressSizes, ptNodeIndex);
+                final int[] bigramAddressSizes = mBigramAddressSizes[ptNodeIndex];
+                if (null != bigramAddressSizes) {
+                    for (int j = 0; j < bigramAddressSizes.length; ++j) {
+                        ptNodeChanged |= commitAddressSize(bigramAddressSizes,
+                                mNewBigramAddressSizes[ptNodeIndex], j);
+                    }
+                }
+                if (ptNodeChanged) {
+                    mPtNodeSizes[ptNodeIndex] = computePtNodeSize(ptNodeIndex);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                mNodeArraySizes[nodeArrayIndex] = updatePtNodeOffsets(nodeArrayIndex);
+            }
+            return changed;
+        }
+
+        private static boolean commitAddressSize(final int[] sizes, final int[] newSizes,
+                final int index) {
+            if (newSizes[index] > sizes[index]) {
+                throw new RuntimeException("Increased size ?!");
+            }
+            if (newSizes[index] == sizes[index]) return false;
+            sizes[index] = newSizes[index];
+            return true;
+        }
+
+        public void resolve(final AddressComputationStats stats) {
+            final int nodeArrayCount = mFlatNodes.size();
+            stats.mOriginalSize = initializeMaximumSizes();
+            MakedictLog.i("Compressing the array addresses. Original size : "
+                    + stats.mOriginalSize);
+
+            // Node arrays to lay out again, in increasing order.
+            final int[] dirtyIndices = new int[nodeArrayCount];
+            int dirtyCount = nodeArrayCount;
+            for (int i = 0; i < nodeArrayCount; ++i) {
+                dirtyIndices[i] = i;
+            }
+            final int[] changedIndices = new int[nodeArrayCount];
+            // changedCountsBefore[i] is the number of node arrays before i whose layout changed.
+            final int[] changedCountsBefore = new int[nodeArrayCount + 1];
+            int passes = 0;
+            while (dirtyCount > 0) {
+                ++passes;
+                if (passes > MAX_PASSES) {
+                    throw new RuntimeException("Too many passes - probably a bug");
+                }
+                stats.mRecomputedNodeArrayCounts.add(dirtyCount);
+                // Every dirty node array is computed from the layout of the last pass before any
+                // of them is committed, so the order doesn't matter.
+                for (int d = 0; d < dirtyCount; ++d) {
+                    computeAddressSizes(dirtyIndices[d]);
+                }
+                int changedCount = 0;
+                for (int d = 0; d < dirtyCount; ++d) {
+                    if (commitAddressSizes(dirtyIndices[d])) {
+                        changedIndices[changedCount++] = dirtyIndices[d];
+                    }
+                }
+                if (changedCount == 0) break;
+                updateNodeArrayAddresses(changedIndices[0]);
+
+                int changedIndex = 0;
+                for (int i = 0; i <= nodeArrayCount; ++i) {
+                    while (changedIndex < changedCount && changedIndices[changedIndex] < i) {
+                        ++changedIndex;
+                    }
+                    changedCountsBefore[i] = changedIndex;
+                }
+                dirtyCount = 0;
+                for (int i = 0; i < nodeArrayCount; ++i) {
+                    if (changedCountsBefore[mDependencyEnds[i] + 1]
+                            > changedCountsBefore[mDependencyStarts[i]]) {
+                        dirtyIndices[dirtyCount++] = i;
+                    }
+                }
+            }
+            stats.mPassCount = passes;
+            stats.mCompressedSize = nodeArrayCount == 0 ? 0
+                    : mNodeArrayAddresses[nodeArrayCount - 1] + mNodeArraySizes[nodeArrayCount - 1];
+            MakedictLog.i("Compression complete in " + passes + " passes.");
+            MakedictLog.i("After address compression : " + stats.mCompressedSize);
+        }
+
+        /**
+         * Stores the final layout in the cached sizes and addresses of the node arrays and of
+         * their PtNodes.
+         */
+        public void storeCachedAddresses() {
+            for (int i = 0; i < mFlatNodes.size(); ++i) {
+                final PtNodeArray nodeArray = mFlatNodes.get(i);
+                final int address = mNodeArrayAddresses[i];
+                nodeArray.mCachedAddressBeforeUpdate = address;
+                nodeArray.mCachedAddressAfterUpdate = address;
+                nodeArray.mCachedSize = mNodeArraySizes[i];
+                int ptNodeIndex = mFirstPtNodeIndices[i];
+                for (final PtNode ptNode : nodeArray.mData) {
+                    ptNode.mCachedAddressBeforeUpdate = ptNode.mCachedAddressAfterUpdate =
+                            address + mPtNodeOffsets[ptNodeIndex];
+                    ptNode.mCachedSize = mPtNodeSizes[ptNodeIndex];
+                    ++ptNodeIndex;
+                }
             }
         }
     }
@@ -406,42 +586,27 @@ public class BinaryDictEncoderUtils {
     /* package */ static ArrayList<PtNodeArray> computeAddresses(final FusionDictionary dict,
             final ArrayList<PtNodeArray> flatNodes,
             final HashMap<Integer, Integer> codePointToOneByteCodeMap) {
-        // First get the worst possible sizes and offsets
-        for (final PtNodeArray n : flatNodes) {
-            calculatePtNodeArrayMaximumSize(n, codePointToOneByteCodeMap);
-        }
-        final int offset = initializePtNodeArraysCachedAddresses(flatNodes);
-
-        MakedictLog.i("Compressing the array addresses. Original size : " + offset);
-        MakedictLog.i("(Recursively seen size : " + offset + ")");
-
-        int passes = 0;
-        boolean changesDone = false;
-        do {
-            changesDone = false;
-            int ptNodeArrayStartOffset = 0;
-            for (final PtNodeArray ptNodeArray : flatNodes) {
-                ptNodeArray.mCachedAddressAfterUpdate = ptNodeArrayStartOffset;
-                final int oldNodeArraySize = ptNodeArray.mCachedSize;
-                final boolean changed = computeActualPtNodeArraySize(ptNodeArray, dict,
-                        codePointToOneByteCodeMap);
-                final int newNodeArraySize = ptNodeArray.mCachedSize;
-                if (oldNodeArraySize < newNodeArraySize) {
-                    throw new RuntimeException("Increased size ?!");
-                }
-                ptNodeArrayStartOffset += newNodeArraySize;
-                changesDone |= changed;
-            }
-            updatePtNodeArraysCachedAddresses(flatNodes);
-            ++passes;
-            if (passes > MAX_PASSES) throw new RuntimeException("Too many passes - probably a bug");
-        } while (changesDone);
-
-        final PtNodeArray lastPtNodeArray = flatNodes.get(flatNodes.size() - 1);
-        MakedictLog.i("Compression complete in " + passes + " passes.");
-        MakedictLog.i("After address compression : "
-                + (lastPtNodeArray.mCachedAddressAfterUpdate + lastPtNodeArray.mCachedSize));
+        return computeAddresses(dict, flatNodes, codePointToOneByteCodeMap,
+                new AddressComputationStats());
+    }
 
+    /**
+     * Same as {@link #computeAddresses(FusionDictionary, ArrayList, HashMap)}, and records how
+     * the computation went into stats.
+     */
+    /* package */ static ArrayList<PtNodeArray> computeAddresses(final FusionDictionary dict,
+            final ArrayList<PtNodeArray> flatNodes,
+            final HashMap<Integer, Integer> codePointToOneByteCodeMap,
+            final AddressComputationStats stats) {
+        final long startTime = System.currentTimeMillis();
+        final AddressResolver resolver =
+                new AddressResolver(dict, flatNodes, codePointToOneByteCodeMap);
+        final long layoutStartTime = System.currentTimeMillis();
+        resolver.resolve(stats);
+        resolver.storeCachedAddresses();
+        stats.mNodeArrayCount = flatNodes.size();
+        stats.mSetupTimeInMillis = layoutStartTime - startTime;
+        stats.mLayoutTimeInMillis = System.currentTimeMillis() - layoutStartTime;
         return flatNodes;
     }
 
@@ -689,6 +854,18 @@ public class BinaryDictEncoderUtils {
      * @param ptNodeArrays the list of PtNode arrays.
      */
     /* package */ static void showStatistics(ArrayList<PtNodeArray> ptNodeArrays) {
+        showStatistics(ptNodeArrays, null);
+    }
+
+    /**
+     * Same as {@link #showStatistics(ArrayList)}, and also dumps how the addresses have been
+     * computed.
+     *
+     * @param ptNodeArrays the list of PtNode arrays.
+     * @param addressComputationStats the stats of the address computation, or null.
+     */
+    /* package */ static void showStatistics(ArrayList<PtNodeArray> ptNodeArrays,
+            final AddressComputationStats addressComputationStats) {
         int firstTerminalAddress = Integer.MAX_VALUE;
         int lastTerminalAddress = Integer.MIN_VALUE;
         int size = 0;
@@ -727,7 +904,8 @@ public class BinaryDictEncoderUtils {
                         + " PtNodes per node)\n"
                 + "  First terminal at " + firstTerminalAddress + "\n"
                 + "  Last terminal at " + lastTerminalAddress + "\n"
-                + "  PtNode stats : max = " + maxNodes);
+                + "  PtNode stats : max = " + maxNodes
+                + (null == addressComputationStats ? "" : "\n" + addressComputationStats));
     }
 
     /**
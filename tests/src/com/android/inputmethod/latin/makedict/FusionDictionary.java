@@ -23,6 +23,7 @@ import com.android.inputmethod.latin.makedict.FormatSpec.DictionaryOptions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 
@@ -429,6 +430,195 @@ public final class FusionDictionary implements Iterable<WordProperty> {
         }
     }
 
+    /**
+     * Builds a dictionary from words that are added in code point order.
+     *
+     * Each word only shares a prefix with the previous word, so the builder only needs to keep
+     * the path of PtNodes of the previous word. Adding a word pops the PtNodes past the common
+     * prefix, splits at most one PtNode, and appends the new PtNode at the end of its PtNode
+     * array, which makes the build linear in the total length of the words. The terminal PtNode
+     * of each word is indexed by the word, so that bigrams are resolved without walking the
+     * tree, and bigram targets share the String of the word.
+     */
+    public static final class BulkBuilder {
+        private static final class PathElement {
+            public PtNode mPtNode;
+            // The index in the word of the first char of the PtNode.
+            public final int mStart;
+            // The word that ends at the PtNode, or null if the PtNode is not a terminal.
+            public final String mWord;
+
+            public PathElement(final PtNode ptNode, final int start, final String word) {
+                mPtNode = ptNode;
+                mStart = start;
+                mWord = word;
+            }
+
+            public int getEnd() {
+                return mStart + mPtNode.mChars.length;
+            }
+        }
+
+        private static final class PendingBigram {
+            public final String mWord0;
+            public final String mWord1;
+            public final ProbabilityInfo mProbabilityInfo;
+
+            public PendingBigram(final String word0, final String word1,
+                    final ProbabilityInfo probabilityInfo) {
+                mWord0 = word0;
+                mWord1 = word1;
+                mProbabilityInfo = probabilityInfo;
+            }
+        }
+
+        private final FusionDictionary mDictionary;
+        private final ArrayList<PathElement> mPath = new ArrayList<>();
+        private int[] mLastWord = new int[0];
+        private final HashMap<String, PtNode> mTerminals = new HashMap<>();
+        // Maps each word to the instance of its String that is shared by the bigrams.
+        private final HashMap<String, String> mInternedWords = new HashMap<>();
+        private final ArrayList<PendingBigram> mPendingBigrams = new ArrayList<>();
+
+        public BulkBuilder(final DictionaryOptions options) {
+            mDictionary = new FusionDictionary(new PtNodeArray(), options);
+        }
+
+        private String intern(final String word) {
+            final String internedWord = mInternedWords.get(word);
+            if (null != internedWord) return internedWord;
+            mInternedWords.put(word, word);
+            return word;
+        }
+
+        private PtNodeArray getLastPtNodeArray() {
+            return mPath.isEmpty() ? mDictionary.mRootNodeArray
+                    : mPath.get(mPath.size() - 1).mPtNode.mChildren;
+        }
+
+        /**
+         * Adds a word. The words must be added in code point order. Adding the same word again
+         * updates it like {@link FusionDictionary#add(String, ProbabilityInfo, boolean, boolean)}.
+         */
+        public void add(final String word, final ProbabilityInfo probabilityInfo,
+                final boolean isNotAWord, final boolean isPossiblyOffensive) {
+            final int[] codePoints = getCodePoints(word);
+            if (codePoints.length == 0) {
+                throw new IllegalArgumentException("Can't add an empty word");
+            }
+            if (codePoints.length >= DecoderSpecificConstants.DICTIONARY_MAX_WORD_LENGTH) {
+                MakedictLog.w("Ignoring a word that is too long: word.length = "
+                        + codePoints.length);
+                return;
+            }
+            int commonLength = 0;
+            while (commonLength < codePoints.length && commonLength < mLastWord.length
+                    && codePoints[commonLength] == mLastWord[commonLength]) {
+                ++commonLength;
+            }
+            if (commonLength < mLastWord.length && (commonLength == codePoints.length
+                    || codePoints[commonLength] < mLastWord[commonLength])) {
+                throw new IllegalArgumentException("Words must be added in code point order: "
+                        + word);
+            }
+            if (commonLength == codePoints.length && commonLength == mLastWord.length) {
+                // Same word as the last one.
+                final PtNode ptNode = mPath.get(mPath.size() - 1).mPtNode;
+                ptNode.update(probabilityInfo, null, ptNode.mIsNotAWord && isNotAWord,
+                        ptNode.mIsPossiblyOffensive || isPossiblyOffensive);
+                return;
+            }
+            while (!mPath.isEmpty() && mPath.get(mPath.size() - 1).mStart >= commonLength) {
+                mPath.remove(mPath.size() - 1);
+            }
+            if (!mPath.isEmpty()) {
+                final PathElement lastElement = mPath.get(mPath.size() - 1);
+                if (lastElement.getEnd() > commonLength) {
+                    splitLastPtNode(lastElement, commonLength - lastElement.mStart);
+                }
+            }
+            final PtNode newPtNode = new PtNode(
+                    Arrays.copyOfRange(codePoints, commonLength, codePoints.length),
+                    null /* bigrams */, probabilityInfo, isNotAWord, isPossiblyOffensive);
+            if (mPath.isEmpty()) {
+                mDictionary.mRootNodeArray.mData.add(newPtNode);
+            } else {
+                mPath.get(mPath.size() - 1).mPtNode.addChild(newPtNode);
+            }
+            final String internedWord = intern(word);
+            mPath.add(new PathElement(newPtNode, commonLength, internedWord));
+            mTerminals.put(internedWord, newPtNode);
+            mLastWord = codePoints;
+        }
+
+        /**
+         * Splits the last PtNode of the path so that it ends after splitIndex chars. The PtNode
+         * is the last one of its PtNode array, because it's on the path of the last word.
+         */
+        private void splitLastPtNode(final PathElement element, final int splitIndex) {
+            final PtNode ptNode = element.mPtNode;
+            final PtNode tail = new PtNode(
+                    Arrays.copyOfRange(ptNode.mChars, splitIndex, ptNode.mChars.length),
+                    ptNode.mBigrams, ptNode.mProbabilityInfo, ptNode.mIsNotAWord,
+                    ptNode.mIsPossiblyOffensive, ptNode.mChildren);
+            tail.mTerminalId = ptNode.mTerminalId;
+            final PtNodeArray children = new PtNodeArray();
+            children.mData.add(tail);
+            final PtNode head = new PtNode(Arrays.copyOfRange(ptNode.mChars, 0, splitIndex),
+                    null /* bigrams */, null /* probabilityInfo */, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */, children);
+            mPath.remove(mPath.size() - 1);
+            final ArrayList<PtNode> siblings = getLastPtNodeArray().mData;
+            siblings.set(siblings.size() - 1, head);
+            mPath.add(new PathElement(head, element.mStart, null /* word */));
+            if (null != element.mWord) {
+                mTerminals.put(element.mWord, tail);
+            }
+        }
+
+        /**
+         * Adds a bigram. The bigrams are resolved by {@link #build()}, so they may be added
+         * before their words.
+         */
+        public void addBigram(final String word0, final String word1,
+                final ProbabilityInfo probabilityInfo) {
+            mPendingBigrams.add(new PendingBigram(word0, word1, probabilityInfo));
+        }
+
+        /**
+         * Resolves the bigrams and returns the dictionary. The builder can't be used after this.
+         */
+        public FusionDictionary build() {
+            boolean hasAddedBigramTargets = false;
+            for (final PendingBigram bigram : mPendingBigrams) {
+                if (!mTerminals.containsKey(bigram.mWord1)
+                        && !mDictionary.hasWord(bigram.mWord1)) {
+                    // Like setBigram(), add the missing targets as words. This is slow, but
+                    // there are usually none.
+                    mDictionary.add(bigram.mWord1, new ProbabilityInfo(0),
+                            false /* isNotAWord */, false /* isPossiblyOffensive */);
+                    hasAddedBigramTargets = true;
+                }
+            }
+            for (final PendingBigram bigram : mPendingBigrams) {
+                // Adding words may have moved the terminals.
+                final PtNode ptNode0 = hasAddedBigramTargets
+                        ? findWordInTree(mDictionary.mRootNodeArray, bigram.mWord0)
+                        : mTerminals.get(bigram.mWord0);
+                if (null == ptNode0) {
+                    throw new RuntimeException("First word of bigram not found " + bigram.mWord0);
+                }
+                final String word1 = mInternedWords.get(bigram.mWord1);
+                ptNode0.addBigram(null != word1 ? word1 : bigram.mWord1, bigram.mProbabilityInfo);
+            }
+            mPendingBigrams.clear();
+            mPath.clear();
+            mTerminals.clear();
+            mInternedWords.clear();
+            return mDictionary;
+        }
+    }
+
     private static int ARRAYS_ARE_EQUAL = 0;
 
     /**
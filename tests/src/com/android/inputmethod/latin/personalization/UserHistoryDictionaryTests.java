@@ -21,9 +21,11 @@ import android.test.suitebuilder.annotation.LargeTest;
 import android.util.Log;
 
 import com.android.inputmethod.latin.ExpandableBinaryDictionary;
+import com.android.inputmethod.latin.NgramContext;
 import com.android.inputmethod.latin.utils.BinaryDictionaryUtils;
 
 import java.io.File;
+import java.util.List;
 import java.util.Locale;
 import java.util.Random;
 
@@ -210,4 +212,27 @@ public class UserHistoryDictionaryTests extends AndroidTestCase {
                 numberOfWords, random, true /* checksContents */, mCurrentTime));
         assertDictionaryExists(dict, dictFile);
     }
+
+    public void testBatchedInputEvents() {
+        final Locale dummyLocale =
+                UserHistoryDictionaryTestsHelper.getDummyLocale("batched_input_events");
+        final UserHistoryDictionary dict = PersonalizationHelper.getUserHistoryDictionary(
+                getContext(), dummyLocale, TEST_ACCOUNT);
+        clearHistory(dict);
+        final List<String> words =
+                UserHistoryDictionaryTestsHelper.generateWords(5, new Random(123456));
+        for (final String word : words) {
+            UserHistoryDictionary.addToDictionary(dict, NgramContext.EMPTY_PREV_WORDS_INFO,
+                    word, true /* isValid */, mCurrentTime);
+        }
+        // Too few events to be applied right away.
+        assertEquals(words.size(), dict.getPendingInputEventCountForTests());
+        dict.flushPendingInputEvents();
+        assertEquals(0, dict.getPendingInputEventCountForTests());
+        dict.waitAllTasksForTests();
+        for (final String word : words) {
+            assertTrue(word, dict.isInDictionary(word));
+        }
+        clearHistory(dict);
+    }
 }
\ No newline at end of file
@@ -20,8 +20,10 @@ import android.test.AndroidTestCase;
 import android.test.suitebuilder.annotation.MediumTest;
 import android.util.Log;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -54,4 +56,45 @@ public class ExecutorUtilsTests extends AndroidTestCase {
 
         assertEquals(NUM_OF_TASKS, v.get());
     }
+
+    public void testKillDictionaryTasks() throws InterruptedException {
+        final String key = "kill";
+        final CountDownLatch startedLatch = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+        final AtomicBoolean queuedTaskRan = new AtomicBoolean(false);
+        ExecutorUtils.executeSerially(key, KeyedSerialExecutor.PRIORITY_NORMAL, new Runnable() {
+            @Override
+            public void run() {
+                startedLatch.countDown();
+                try {
+                    Thread.sleep(DELAY_FOR_WAITING_TASKS_MILLISECONDS * 10);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            }
+        });
+        ExecutorUtils.executeSerially(key, KeyedSerialExecutor.PRIORITY_NORMAL, new Runnable() {
+            @Override
+            public void run() {
+                queuedTaskRan.set(true);
+            }
+        });
+        assertTrue(startedLatch.await(DELAY_FOR_WAITING_TASKS_MILLISECONDS,
+                TimeUnit.MILLISECONDS));
+
+        ExecutorUtils.killTasks(ExecutorUtils.DICTIONARY);
+        assertTrue("the running task is interrupted", interrupted.get());
+
+        // The recreated executor runs the new tasks of the same key.
+        final CountDownLatch newTaskLatch = new CountDownLatch(1);
+        ExecutorUtils.executeSerially(key, KeyedSerialExecutor.PRIORITY_NORMAL, new Runnable() {
+            @Override
+            public void run() {
+                newTaskLatch.countDown();
+            }
+        });
+        assertTrue(newTaskLatch.await(DELAY_FOR_WAITING_TASKS_MILLISECONDS,
+                TimeUnit.MILLISECONDS));
+        assertFalse("the queued task is dropped", queuedTaskRan.get());
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.utils;
+
+import android.test.AndroidTestCase;
+import android.test.suitebuilder.annotation.MediumTest;
+
+import com.android.inputmethod.latin.utils.KeyedSerialExecutor.TimingHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link KeyedSerialExecutor}.
+ */
+@MediumTest
+public class KeyedSerialExecutorTests extends AndroidTestCase {
+    private static final int NUM_OF_TASKS = 100;
+    private static final int TIMEOUT_IN_MILLISECONDS = 5000;
+
+    private static KeyedSerialExecutor createExecutor(final int threadCount) {
+        return new KeyedSerialExecutor(threadCount, Executors.defaultThreadFactory());
+    }
+
+    public void testTasksWithSameKeyRunInOrder() throws InterruptedException {
+        final KeyedSerialExecutor executor = createExecutor(4 /* threadCount */);
+        final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch latch = new CountDownLatch(NUM_OF_TASKS);
+        for (int i = 0; i < NUM_OF_TASKS; ++i) {
+            final int value = i;
+            // Alternates priorities to check that they don't reorder tasks of the same key.
+            final int priority = (i % 2 == 0) ? KeyedSerialExecutor.PRIORITY_LOW
+                    : KeyedSerialExecutor.PRIORITY_HIGH;
+            executor.execute("key", priority, new Runnable() {
+                @Override
+                public void run() {
+                    results.add(value);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < NUM_OF_TASKS; ++i) {
+            assertEquals(i, (int)results.get(i));
+        }
+        // The queue wait time is recorded before each task runs.
+        assertEquals(NUM_OF_TASKS, executor.getQueueWaitTimeHistogram().getTotalCount());
+    }
+
+    public void testTasksWithDifferentKeysRunInParallel() throws InterruptedException {
+        final KeyedSerialExecutor executor = createExecutor(2 /* threadCount */);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        final CountDownLatch otherKeyLatch = new CountDownLatch(1);
+        executor.execute("slow", KeyedSerialExecutor.PRIORITY_LOW, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blockingLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    // Ends the task.
+                }
+            }
+        });
+        executor.execute("fast", KeyedSerialExecutor.PRIORITY_NORMAL, new Runnable() {
+            @Override
+            public void run() {
+                otherKeyLatch.countDown();
+            }
+        });
+        // The task of the other key doesn't wait for the blocked one.
+        assertTrue(otherKeyLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+        blockingLatch.countDown();
+    }
+
+    public void testHigherPriorityKeyRunsFirst() throws InterruptedException {
+        final KeyedSerialExecutor executor = createExecutor(1 /* threadCount */);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        final List<String> results = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch latch = new CountDownLatch(2);
+        executor.execute("blocking", KeyedSerialExecutor.PRIORITY_NORMAL, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    blockingLatch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+                } catch (final InterruptedException e) {
+                    // Ends the task.
+                }
+            }
+        });
+        executor.execute("low", KeyedSerialExecutor.PRIORITY_LOW, new Runnable() {
+            @Override
+            public void run() {
+                results.add("low");
+                latch.countDown();
+            }
+        });
+        executor.execute("high", KeyedSerialExecutor.PRIORITY_HIGH, new Runnable() {
+            @Override
+            public void run() {
+                results.add("high");
+                latch.countDown();
+            }
+        });
+        blockingLatch.countDown();
+        assertTrue(latch.await(TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS));
+        assertEquals("high", results.get(0));
+        assertEquals("low", results.get(1));
+    }
+
+    public void testTimingHistogram() {
+        assertEquals(0, TimingHistogram.getBucketIndex(0));
+        assertEquals(1, TimingHistogram.getBucketIndex(1));
+        assertEquals(2, TimingHistogram.getBucketIndex(2));
+        assertEquals(2, TimingHistogram.getBucketIndex(3));
+        assertEquals(11, TimingHistogram.getBucketIndex(1024));
+        assertEquals(11, TimingHistogram.getBucketIndex(Long.MAX_VALUE));
+        final TimingHistogram histogram = new TimingHistogram();
+        histogram.add(3);
+        histogram.add(3);
+        histogram.add(5000);
+        assertEquals(2, histogram.getCount(2));
+        assertEquals(1, histogram.getCount(11));
+        assertEquals(3, histogram.getTotalCount());
+    }
+}
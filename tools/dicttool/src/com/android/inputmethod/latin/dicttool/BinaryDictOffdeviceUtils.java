@@ -280,7 +280,14 @@ public final class BinaryDictOffdeviceUtils {
                 }
                 try (final BufferedReader reader = new BufferedReader(
                         new InputStreamReader(new FileInputStream(decodedSpec.mResult), "UTF-8"))) {
-                    return CombinedInputOutput.readDictionaryCombined(reader);
+                    final CombinedInputOutput.ReadStats stats =
+                            new CombinedInputOutput.ReadStats();
+                    final FusionDictionary dict =
+                            CombinedInputOutput.readDictionaryCombined(reader, stats);
+                    if (report) {
+                        System.out.println(stats);
+                    }
+                    return dict;
                 }
             }
             final DictDecoder dictDecoder = BinaryDictIOUtils.getDictDecoder(
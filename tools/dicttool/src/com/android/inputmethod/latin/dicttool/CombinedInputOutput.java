@@ -16,10 +16,8 @@
 
 package com.android.inputmethod.latin.dicttool;
 
-import com.android.inputmethod.latin.makedict.FormatSpec;
 import com.android.inputmethod.latin.makedict.FormatSpec.DictionaryOptions;
 import com.android.inputmethod.latin.makedict.FusionDictionary;
-import com.android.inputmethod.latin.makedict.FusionDictionary.PtNodeArray;
 import com.android.inputmethod.latin.makedict.ProbabilityInfo;
 import com.android.inputmethod.latin.makedict.WeightedString;
 import com.android.inputmethod.latin.makedict.WordProperty;
@@ -29,9 +27,17 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Reads and writes combined format for a FusionDictionary.
@@ -39,10 +45,13 @@ import java.util.TreeSet;
  * All functions in this class are static.
  */
 public class CombinedInputOutput {
-    private static final String WHITELIST_TAG = "whitelist";
     private static final String OPTIONS_TAG = "options";
     private static final String COMMENT_LINE_STARTER = "#";
     private static final int HISTORICAL_INFO_ELEMENT_COUNT = 3;
+    // The number of lines parsed by each task.
+    private static final int CHUNK_LINE_COUNT = 8192;
+    // How many chunks each thread may have waiting before reading more lines.
+    private static final int MAX_PENDING_CHUNK_COUNT_PER_THREAD = 2;
 
     /**
      * Basic test to find out whether the file is in the combined format or not.
@@ -65,6 +74,79 @@ public class CombinedInputOutput {
         }
     }
 
+    /**
+     * Statistics about reading a combined format file.
+     */
+    public static final class ReadStats {
+        public int mLineCount;
+        public int mWordCount;
+        public int mBigramCount;
+        public int mChunkCount;
+        public int mThreadCount;
+        public long mParseTimeMillis;
+        public long mLoadTimeMillis;
+        public long mMaxUsedMemoryBytes;
+
+        void updateMaxUsedMemory() {
+            final Runtime runtime = Runtime.getRuntime();
+            mMaxUsedMemoryBytes = Math.max(mMaxUsedMemoryBytes,
+                    runtime.totalMemory() - runtime.freeMemory());
+        }
+
+        @Override
+        public String toString() {
+            final long totalTimeMillis = Math.max(1, mParseTimeMillis + mLoadTimeMillis);
+            return "Lines : " + mLineCount + "\n"
+                    + "Parsed words : " + mWordCount + " (" + mBigramCount + " bigrams)\n"
+                    + "Parse time : " + mParseTimeMillis + " ms (" + mChunkCount + " chunks on "
+                    + mThreadCount + " threads)\n"
+                    + "Bulk load time : " + mLoadTimeMillis + " ms\n"
+                    + "Throughput : " + (mWordCount * 1000L / totalTimeMillis) + " words/s\n"
+                    + "Max used memory : " + (mMaxUsedMemoryBytes / 1024) + " kB";
+        }
+    }
+
+    /**
+     * A word line with the bigram lines that follow it.
+     */
+    private static final class Entry {
+        public final String mWord;
+        public final ProbabilityInfo mProbabilityInfo;
+        public final boolean mIsNotAWord;
+        public final boolean mIsPossiblyOffensive;
+        public ArrayList<WeightedString> mBigrams;
+
+        public Entry(final String word, final ProbabilityInfo probabilityInfo,
+                final boolean isNotAWord, final boolean isPossiblyOffensive) {
+            mWord = word;
+            mProbabilityInfo = probabilityInfo;
+            mIsNotAWord = isNotAWord;
+            mIsPossiblyOffensive = isPossiblyOffensive;
+        }
+    }
+
+    // Sorts the entries in the order of the PtNodes of a FusionDictionary, which is the order of
+    // the code points.
+    private static final Comparator<Entry> ENTRY_COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry e1, final Entry e2) {
+            final String s1 = e1.mWord;
+            final String s2 = e2.mWord;
+            int i1 = 0;
+            int i2 = 0;
+            while (i1 < s1.length() && i2 < s2.length()) {
+                final int codePoint1 = s1.codePointAt(i1);
+                final int codePoint2 = s2.codePointAt(i2);
+                if (codePoint1 != codePoint2) {
+                    return codePoint1 < codePoint2 ? -1 : 1;
+                }
+                i1 += Character.charCount(codePoint1);
+                i2 += Character.charCount(codePoint2);
+            }
+            return (s1.length() - i1) - (s2.length() - i2);
+        }
+    };
+
     /**
      * Reads a dictionary from a combined format file.
      *
@@ -76,138 +158,312 @@ public class CombinedInputOutput {
      */
     public static FusionDictionary readDictionaryCombined(final BufferedReader reader)
             throws IOException {
+        return readDictionaryCombined(reader, new ReadStats());
+    }
+
+    /**
+     * Reads a dictionary from a combined format file.
+     *
+     * The lines are read in chunks that start with a word line, and the chunks are parsed in
+     * parallel while the next ones are read. The parsed words are then sorted and the dictionary
+     * is built from them in one pass by {@link FusionDictionary.BulkBuilder}.
+     *
+     * @param reader the buffered reader to read the data from.
+     * @param stats the statistics to fill in.
+     * @return the in-memory representation of the dictionary.
+     */
+    public static FusionDictionary readDictionaryCombined(final BufferedReader reader,
+            final ReadStats stats) throws IOException {
+        final long parseStartTime = System.currentTimeMillis();
         String headerLine = reader.readLine();
         while (headerLine.startsWith(COMMENT_LINE_STARTER)) {
             headerLine = reader.readLine();
         }
-        final String header[] = headerLine.split(",");
         final HashMap<String, String> attributes = new HashMap<>();
-        for (String item : header) {
-            final String keyValue[] = item.split("=");
-            if (2 != keyValue.length) {
+        int itemStart = 0;
+        while (itemStart < headerLine.length()) {
+            int itemEnd = headerLine.indexOf(',', itemStart);
+            if (itemEnd < 0) {
+                itemEnd = headerLine.length();
+            }
+            final int separator = headerLine.indexOf('=', itemStart);
+            final int nextSeparator = separator < 0 ? -1 : headerLine.indexOf('=', separator + 1);
+            // Each item must be a single key=value pair.
+            if (separator < 0 || separator >= itemEnd - 1
+                    || (nextSeparator >= 0 && nextSeparator < itemEnd)) {
                 throw new RuntimeException("Wrong header format : " + headerLine);
             }
-            attributes.put(keyValue[0], keyValue[1]);
+            attributes.put(headerLine.substring(itemStart, separator),
+                    headerLine.substring(separator + 1, itemEnd));
+            itemStart = itemEnd + 1;
         }
 
         attributes.remove(OPTIONS_TAG);
-        final FusionDictionary dict =
-                new FusionDictionary(new PtNodeArray(), new DictionaryOptions(attributes));
+        final FusionDictionary.BulkBuilder builder =
+                new FusionDictionary.BulkBuilder(new DictionaryOptions(attributes));
 
-        String line;
-        String word = null;
-        ProbabilityInfo probabilityInfo = new ProbabilityInfo(0);
-        boolean isNotAWord = false;
-        boolean isPossiblyOffensive = false;
-        ArrayList<WeightedString> bigrams = new ArrayList<>();
-        ArrayList<WeightedString> shortcuts = new ArrayList<>();
-        while (null != (line = reader.readLine())) {
-            if (line.startsWith(COMMENT_LINE_STARTER)) continue;
-            final String args[] = line.trim().split(",");
-            if (args[0].matches(CombinedFormatUtils.WORD_TAG + "=.*")) {
-                if (null != word) {
-                    dict.add(word, probabilityInfo, shortcuts.isEmpty() ? null : shortcuts,
-                            isNotAWord, isPossiblyOffensive);
-                    for (WeightedString s : bigrams) {
-                        dict.setBigram(word, s.mWord, s.mProbabilityInfo);
-                    }
-                }
-                if (!shortcuts.isEmpty()) shortcuts = new ArrayList<>();
-                if (!bigrams.isEmpty()) bigrams = new ArrayList<>();
-                isNotAWord = false;
-                isPossiblyOffensive = false;
-                for (String param : args) {
-                    final String params[] = param.split("=", 2);
-                    if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
-                    switch (params[0]) {
-                        case CombinedFormatUtils.WORD_TAG:
-                            word = params[1];
-                            break;
-                        case CombinedFormatUtils.PROBABILITY_TAG:
-                            probabilityInfo = new ProbabilityInfo(Integer.parseInt(params[1]),
-                                    probabilityInfo.mTimestamp, probabilityInfo.mLevel,
-                                    probabilityInfo.mCount);
-                            break;
-                        case CombinedFormatUtils.HISTORICAL_INFO_TAG:
-                            final String[] historicalInfoParams = params[1].split(
-                                    CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR);
-                            if (historicalInfoParams.length != HISTORICAL_INFO_ELEMENT_COUNT) {
-                                throw new RuntimeException("Wrong format (historical info) : "
-                                        + line);
-                            }
-                            probabilityInfo = new ProbabilityInfo(probabilityInfo.mProbability,
-                                    Integer.parseInt(historicalInfoParams[0]),
-                                    Integer.parseInt(historicalInfoParams[1]),
-                                    Integer.parseInt(historicalInfoParams[2]));
-                            break;
-                        case CombinedFormatUtils.NOT_A_WORD_TAG:
-                            isNotAWord = CombinedFormatUtils.isLiteralTrue(params[1]);
-                            break;
-                        case CombinedFormatUtils.POSSIBLY_OFFENSIVE_TAG:
-                            isPossiblyOffensive = CombinedFormatUtils.isLiteralTrue(params[1]);
-                            break;
-                    }
-                }
-            } else if (args[0].matches(CombinedFormatUtils.SHORTCUT_TAG + "=.*")) {
-                String shortcut = null;
-                int shortcutFreq = 0;
-                for (String param : args) {
-                    final String params[] = param.split("=", 2);
-                    if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
-                    if (CombinedFormatUtils.SHORTCUT_TAG.equals(params[0])) {
-                        shortcut = params[1];
-                    } else if (CombinedFormatUtils.PROBABILITY_TAG.equals(params[0])) {
-                        shortcutFreq = WHITELIST_TAG.equals(params[1])
-                                ? FormatSpec.SHORTCUT_WHITELIST_FREQUENCY
-                                : Integer.parseInt(params[1]);
-                    }
-                }
-                if (null != shortcut) {
-                    shortcuts.add(new WeightedString(shortcut, shortcutFreq));
-                } else {
-                    throw new RuntimeException("Wrong format : " + line);
-                }
-            } else if (args[0].matches(CombinedFormatUtils.BIGRAM_TAG + "=.*")) {
-                String secondWordOfBigram = null;
-                ProbabilityInfo bigramProbabilityInfo = new ProbabilityInfo(0);
-                for (String param : args) {
-                    final String params[] = param.split("=", 2);
-                    if (2 != params.length) throw new RuntimeException("Wrong format : " + line);
-                    if (CombinedFormatUtils.BIGRAM_TAG.equals(params[0])) {
-                        secondWordOfBigram = params[1];
-                    } else if (CombinedFormatUtils.PROBABILITY_TAG.equals(params[0])) {
-                        bigramProbabilityInfo = new ProbabilityInfo(Integer.parseInt(params[1]),
-                                bigramProbabilityInfo.mTimestamp, bigramProbabilityInfo.mLevel,
-                                bigramProbabilityInfo.mCount);
-                    }  else if (CombinedFormatUtils.HISTORICAL_INFO_TAG.equals(params[0])) {
-                        final String[] historicalInfoParams =
-                                params[1].split(CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR);
-                        if (historicalInfoParams.length != HISTORICAL_INFO_ELEMENT_COUNT) {
-                            throw new RuntimeException("Wrong format (historical info) : " + line);
-                        }
-                        bigramProbabilityInfo = new ProbabilityInfo(
-                                bigramProbabilityInfo.mProbability,
-                                Integer.parseInt(historicalInfoParams[0]),
-                                Integer.parseInt(historicalInfoParams[1]),
-                                Integer.parseInt(historicalInfoParams[2]));
+        final ArrayList<Entry> entries = parseEntries(reader, stats);
+        final long loadStartTime = System.currentTimeMillis();
+        stats.mParseTimeMillis = loadStartTime - parseStartTime;
+        // The sort is stable, so duplicate words are still added in the order of the file.
+        Collections.sort(entries, ENTRY_COMPARATOR);
+        for (final Entry entry : entries) {
+            builder.add(entry.mWord, entry.mProbabilityInfo, entry.mIsNotAWord,
+                    entry.mIsPossiblyOffensive);
+            if (null == entry.mBigrams) continue;
+            for (final WeightedString bigram : entry.mBigrams) {
+                builder.addBigram(entry.mWord, bigram.mWord, bigram.mProbabilityInfo);
+            }
+        }
+        stats.updateMaxUsedMemory();
+        final FusionDictionary dict = builder.build();
+        stats.mLoadTimeMillis = System.currentTimeMillis() - loadStartTime;
+        return dict;
+    }
+
+    private static boolean isWordLine(final String line) {
+        final int start = skipSpaces(line, 0);
+        return line.startsWith(CombinedFormatUtils.WORD_TAG, start)
+                && line.startsWith("=", start + CombinedFormatUtils.WORD_TAG.length());
+    }
+
+    private static ArrayList<Entry> parseEntries(final BufferedReader reader,
+            final ReadStats stats) throws IOException {
+        final int threadCount = Runtime.getRuntime().availableProcessors();
+        stats.mThreadCount = threadCount;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final ArrayDeque<Future<ArrayList<Entry>>> pendingChunks = new ArrayDeque<>();
+        final ArrayList<Entry> entries = new ArrayList<>();
+        final int maxPendingChunkCount = MAX_PENDING_CHUNK_COUNT_PER_THREAD * threadCount;
+        try {
+            ArrayList<String> chunk = new ArrayList<>(CHUNK_LINE_COUNT);
+            String line;
+            while (null != (line = reader.readLine())) {
+                ++stats.mLineCount;
+                if (line.startsWith(COMMENT_LINE_STARTER)) continue;
+                // Chunks are only cut before a word line, so that they are independent.
+                if (chunk.size() >= CHUNK_LINE_COUNT && isWordLine(line)) {
+                    pendingChunks.addLast(executor.submit(newParseTask(chunk)));
+                    ++stats.mChunkCount;
+                    chunk = new ArrayList<>(CHUNK_LINE_COUNT);
+                    // Bounds the number of lines held in memory.
+                    while (pendingChunks.size() > maxPendingChunkCount) {
+                        collectChunk(pendingChunks.removeFirst(), entries, stats);
                     }
                 }
-                if (null != secondWordOfBigram) {
-                    bigrams.add(new WeightedString(secondWordOfBigram, bigramProbabilityInfo));
-                } else {
-                    throw new RuntimeException("Wrong format : " + line);
+                chunk.add(line);
+            }
+            if (!chunk.isEmpty()) {
+                pendingChunks.addLast(executor.submit(newParseTask(chunk)));
+                ++stats.mChunkCount;
+            }
+            while (!pendingChunks.isEmpty()) {
+                collectChunk(pendingChunks.removeFirst(), entries, stats);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return entries;
+    }
+
+    private static Callable<ArrayList<Entry>> newParseTask(final ArrayList<String> lines) {
+        return new Callable<ArrayList<Entry>>() {
+            @Override
+            public ArrayList<Entry> call() {
+                return parseChunk(lines);
+            }
+        };
+    }
+
+    private static void collectChunk(final Future<ArrayList<Entry>> pendingChunk,
+            final ArrayList<Entry> entries, final ReadStats stats) {
+        final ArrayList<Entry> chunkEntries;
+        try {
+            chunkEntries = pendingChunk.get();
+        } catch (final InterruptedException e) {
+            throw new RuntimeException("Interrupted while parsing", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new RuntimeException("Can't parse", e.getCause());
+        }
+        for (final Entry entry : chunkEntries) {
+            ++stats.mWordCount;
+            if (null != entry.mBigrams) {
+                stats.mBigramCount += entry.mBigrams.size();
+            }
+        }
+        entries.addAll(chunkEntries);
+        stats.updateMaxUsedMemory();
+    }
+
+    private static int skipSpaces(final String line, final int start) {
+        int index = start;
+        while (index < line.length() && line.charAt(index) <= ' ') {
+            ++index;
+        }
+        return index;
+    }
+
+    private static boolean isKey(final String line, final int start, final int end,
+            final String key) {
+        return end - start == key.length() && line.startsWith(key, start);
+    }
+
+    /**
+     * Parses a decimal integer in line[start, end) without creating a substring.
+     */
+    private static int parseInt(final String line, final int start, final int end) {
+        int index = start;
+        final boolean isNegative = index < end && line.charAt(index) == '-';
+        if (isNegative) {
+            ++index;
+        }
+        if (index >= end) {
+            throw new NumberFormatException("Not a number : " + line.substring(start, end));
+        }
+        long value = 0;
+        for (; index < end; ++index) {
+            final int digit = line.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a number : " + line.substring(start, end));
+            }
+            value = value * 10 + digit;
+            if (value > (long)Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Out of range : " + line.substring(start, end));
+            }
+        }
+        final long result = isNegative ? -value : value;
+        if (result > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Out of range : " + line.substring(start, end));
+        }
+        return (int)result;
+    }
+
+    /**
+     * Parses the historical info in line[start, end), in the timestamp:level:count format, and
+     * returns the probability info with it.
+     */
+    private static ProbabilityInfo parseHistoricalInfo(final String line, final int start,
+            final int end, final ProbabilityInfo probabilityInfo) {
+        final int[] values = new int[HISTORICAL_INFO_ELEMENT_COUNT];
+        int valueStart = start;
+        for (int i = 0; i < HISTORICAL_INFO_ELEMENT_COUNT; ++i) {
+            int valueEnd = line.indexOf(CombinedFormatUtils.HISTORICAL_INFO_SEPARATOR, valueStart);
+            if (valueEnd < 0 || valueEnd > end) {
+                valueEnd = end;
+            }
+            if ((i == HISTORICAL_INFO_ELEMENT_COUNT - 1) != (valueEnd == end)) {
+                throw new RuntimeException("Wrong format (historical info) : " + line);
+            }
+            values[i] = parseInt(line, valueStart, valueEnd);
+            valueStart = valueEnd + 1;
+        }
+        return new ProbabilityInfo(probabilityInfo.mProbability, values[0], values[1], values[2]);
+    }
+
+    /**
+     * Parses lines that start with a word line. Any line before the first word line is ignored.
+     */
+    private static ArrayList<Entry> parseChunk(final ArrayList<String> lines) {
+        final ArrayList<Entry> entries = new ArrayList<>();
+        Entry currentEntry = null;
+        for (final String line : lines) {
+            int end = line.length();
+            while (end > 0 && line.charAt(end - 1) <= ' ') {
+                --end;
+            }
+            final int start = skipSpaces(line, 0);
+            if (start >= end) continue;
+            final int firstSeparator = line.indexOf('=', start);
+            if (firstSeparator < 0) continue;
+            if (isKey(line, start, firstSeparator, CombinedFormatUtils.WORD_TAG)) {
+                currentEntry = parseWordLine(line, start, end);
+                entries.add(currentEntry);
+            } else if (isKey(line, start, firstSeparator, CombinedFormatUtils.BIGRAM_TAG)) {
+                final WeightedString bigram = parseBigramLine(line, start, end);
+                if (null == currentEntry) continue;
+                if (null == currentEntry.mBigrams) {
+                    currentEntry.mBigrams = new ArrayList<>();
                 }
+                currentEntry.mBigrams.add(bigram);
             }
+            // Other lines (n-grams, shortcuts) are not supported by FusionDictionary.
         }
-        if (null != word) {
-            dict.add(word, probabilityInfo, shortcuts.isEmpty() ? null : shortcuts, isNotAWord,
-                    isPossiblyOffensive);
-            for (WeightedString s : bigrams) {
-                dict.setBigram(word, s.mWord, s.mProbabilityInfo);
+        return entries;
+    }
+
+    private static Entry parseWordLine(final String line, final int start, final int end) {
+        String word = null;
+        ProbabilityInfo probabilityInfo = new ProbabilityInfo(0);
+        boolean isNotAWord = false;
+        boolean isPossiblyOffensive = false;
+        int fieldStart = start;
+        while (fieldStart < end) {
+            int fieldEnd = line.indexOf(',', fieldStart);
+            if (fieldEnd < 0 || fieldEnd > end) {
+                fieldEnd = end;
             }
+            final int separator = line.indexOf('=', fieldStart);
+            if (separator < 0 || separator >= fieldEnd) {
+                throw new RuntimeException("Wrong format : " + line);
+            }
+            if (isKey(line, fieldStart, separator, CombinedFormatUtils.WORD_TAG)) {
+                word = line.substring(separator + 1, fieldEnd);
+            } else if (isKey(line, fieldStart, separator, CombinedFormatUtils.PROBABILITY_TAG)) {
+                probabilityInfo = new ProbabilityInfo(parseInt(line, separator + 1, fieldEnd),
+                        probabilityInfo.mTimestamp, probabilityInfo.mLevel,
+                        probabilityInfo.mCount);
+            } else if (isKey(line, fieldStart, separator,
+                    CombinedFormatUtils.HISTORICAL_INFO_TAG)) {
+                probabilityInfo = parseHistoricalInfo(line, separator + 1, fieldEnd,
+                        probabilityInfo);
+            } else if (isKey(line, fieldStart, separator, CombinedFormatUtils.NOT_A_WORD_TAG)) {
+                isNotAWord = CombinedFormatUtils.isLiteralTrue(
+                        line.substring(separator + 1, fieldEnd));
+            } else if (isKey(line, fieldStart, separator,
+                    CombinedFormatUtils.POSSIBLY_OFFENSIVE_TAG)) {
+                isPossiblyOffensive = CombinedFormatUtils.isLiteralTrue(
+                        line.substring(separator + 1, fieldEnd));
+            }
+            fieldStart = fieldEnd + 1;
         }
+        return new Entry(word, probabilityInfo, isNotAWord, isPossiblyOffensive);
+    }
 
-        return dict;
+    private static WeightedString parseBigramLine(final String line, final int start,
+            final int end) {
+        String secondWordOfBigram = null;
+        ProbabilityInfo bigramProbabilityInfo = new ProbabilityInfo(0);
+        int fieldStart = start;
+        while (fieldStart < end) {
+            int fieldEnd = line.indexOf(',', fieldStart);
+            if (fieldEnd < 0 || fieldEnd > end) {
+                fieldEnd = end;
+            }
+            final int separator = line.indexOf('=', fieldStart);
+            if (separator < 0 || separator >= fieldEnd) {
+                throw new RuntimeException("Wrong format : " + line);
+            }
+            if (isKey(line, fieldStart, separator, CombinedFormatUtils.BIGRAM_TAG)) {
+                secondWordOfBigram = line.substring(separator + 1, fieldEnd);
+            } else if (isKey(line, fieldStart, separator, CombinedFormatUtils.PROBABILITY_TAG)) {
+                bigramProbabilityInfo = new ProbabilityInfo(
+                        parseInt(line, separator + 1, fieldEnd),
+                        bigramProbabilityInfo.mTimestamp, bigramProbabilityInfo.mLevel,
+                        bigramProbabilityInfo.mCount);
+            } else if (isKey(line, fieldStart, separator,
+                    CombinedFormatUtils.HISTORICAL_INFO_TAG)) {
+                bigramProbabilityInfo = parseHistoricalInfo(line, separator + 1, fieldEnd,
+                        bigramProbabilityInfo);
+            }
+            fieldStart = fieldEnd + 1;
+        }
+        if (null == secondWordOfBigram) {
+            throw new RuntimeException("Wrong format : " + line);
+        }
+        return new WeightedString(secondWordOfBigram, bigramProbabilityInfo);
     }
 
     /**
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.dicttool;
+
+import com.android.inputmethod.latin.makedict.FusionDictionary;
+import com.android.inputmethod.latin.makedict.FusionDictionary.PtNode;
+import com.android.inputmethod.latin.makedict.WeightedString;
+
+import junit.framework.TestCase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+/**
+ * Unit tests for CombinedInputOutput
+ */
+public class CombinedInputOutputTests extends TestCase {
+    private static final String HEADER =
+            "dictionary=main:en_us,locale=en_US,description=Test,date=1414726260,version=1\n";
+
+    private static FusionDictionary read(final String contents) throws IOException {
+        return read(contents, new CombinedInputOutput.ReadStats());
+    }
+
+    private static FusionDictionary read(final String contents,
+            final CombinedInputOutput.ReadStats stats) throws IOException {
+        try (final BufferedReader reader = new BufferedReader(new StringReader(contents))) {
+            return CombinedInputOutput.readDictionaryCombined(reader, stats);
+        }
+    }
+
+    public void testReadWordsAndBigrams() throws IOException {
+        final String contents = "# comment\n" + HEADER
+                + " word=the,f=200\n"
+                + "  bigram=cat,f=150\n"
+                + "  bigram=dog,f=100,historicalInfo=10:1:3\n"
+                + " word=cat,f=120,possibly_offensive=true\n"
+                + " word=dog,f=110,historicalInfo=5:2:1\n"
+                + " word=xyzzy,f=0,not_a_word=true\n";
+        final CombinedInputOutput.ReadStats stats = new CombinedInputOutput.ReadStats();
+        final FusionDictionary dict = read(contents, stats);
+        assertEquals("main:en_us", dict.mOptions.mAttributes.get("dictionary"));
+        assertEquals(4, stats.mWordCount);
+        assertEquals(2, stats.mBigramCount);
+
+        final PtNode the = FusionDictionary.findWordInTree(dict.mRootNodeArray, "the");
+        assertNotNull(the);
+        assertEquals(200, the.getProbability());
+        final ArrayList<WeightedString> bigrams = the.getBigrams();
+        assertEquals(2, bigrams.size());
+        assertEquals(150, the.getBigram("cat").getProbability());
+        assertEquals(10, the.getBigram("dog").mProbabilityInfo.mTimestamp);
+        assertEquals(3, the.getBigram("dog").mProbabilityInfo.mCount);
+
+        final PtNode cat = FusionDictionary.findWordInTree(dict.mRootNodeArray, "cat");
+        assertTrue(cat.getIsPossiblyOffensive());
+        final PtNode dog = FusionDictionary.findWordInTree(dict.mRootNodeArray, "dog");
+        assertEquals(110, dog.getProbability());
+        assertTrue(FusionDictionary.findWordInTree(dict.mRootNodeArray, "xyzzy").getIsNotAWord());
+    }
+
+    public void testReadManyChunks() throws IOException {
+        final StringBuilder builder = new StringBuilder(HEADER);
+        final int wordCount = 50000;
+        for (int i = 0; i < wordCount; ++i) {
+            builder.append(" word=w").append(Integer.toString(i, 36)).append(",f=")
+                    .append(i % 256).append('\n');
+            builder.append("  bigram=w").append(Integer.toString((i + 1) % wordCount, 36))
+                    .append(",f=").append(i % 100).append('\n');
+        }
+        final CombinedInputOutput.ReadStats stats = new CombinedInputOutput.ReadStats();
+        final FusionDictionary dict = read(builder.toString(), stats);
+        assertTrue(stats.mChunkCount > 1);
+        assertEquals(wordCount, stats.mWordCount);
+        for (int i = 0; i < wordCount; i += 997) {
+            final PtNode ptNode = FusionDictionary.findWordInTree(dict.mRootNodeArray,
+                    "w" + Integer.toString(i, 36));
+            assertNotNull(ptNode);
+            assertEquals(i % 256, ptNode.getProbability());
+            assertEquals(1, ptNode.getBigrams().size());
+        }
+    }
+
+    public void testWrongFormat() throws IOException {
+        try {
+            read(HEADER + " word=the,f=200\n  bigram=cat,f=1x\n");
+            fail("A wrong probability should be rejected");
+        } catch (final NumberFormatException e) {
+            // Expected.
+        }
+        try {
+            read(HEADER + " word=the,f=200,historicalInfo=1:2\n");
+            fail("A wrong historical info should be rejected");
+        } catch (final RuntimeException e) {
+            // Expected.
+        }
+        try {
+            read("dictionary=main:en_us,locale\n word=the,f=200\n");
+            fail("A wrong header should be rejected");
+        } catch (final RuntimeException e) {
+            // Expected.
+        }
+    }
+}
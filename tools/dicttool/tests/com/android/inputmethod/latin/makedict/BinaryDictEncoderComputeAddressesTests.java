@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.latin.makedict;
+
+import com.android.inputmethod.latin.makedict.BinaryDictEncoderUtils.AddressComputationStats;
+import com.android.inputmethod.latin.makedict.FormatSpec.DictionaryOptions;
+import com.android.inputmethod.latin.makedict.FusionDictionary.PtNode;
+import com.android.inputmethod.latin.makedict.FusionDictionary.PtNodeArray;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Unit tests for BinaryDictEncoderUtils.computeAddresses().
+ */
+public class BinaryDictEncoderComputeAddressesTests extends TestCase {
+    private static final int WORD_COUNT = 3000;
+    private static final HashMap<Integer, Integer> CODE_POINT_TO_ONE_BYTE_CODE_MAP =
+            new HashMap<>();
+
+    private static FusionDictionary createDictionary(final long seed) {
+        final FusionDictionary dict = new FusionDictionary(new PtNodeArray(),
+                new DictionaryOptions(new HashMap<String, String>()));
+        final Random random = new Random(seed);
+        final ArrayList<String> words = new ArrayList<>();
+        for (int i = 0; i < WORD_COUNT; ++i) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; ++j) {
+                builder.append((char)('a' + random.nextInt(26)));
+            }
+            final String word = builder.toString();
+            words.add(word);
+            dict.add(word, new ProbabilityInfo(random.nextInt(256)), false /* isNotAWord */,
+                    false /* isPossiblyOffensive */);
+        }
+        // Bigrams make offsets between distant node arrays.
+        for (int i = 0; i < WORD_COUNT; i += 3) {
+            dict.setBigram(words.get(i), words.get(random.nextInt(WORD_COUNT)),
+                    new ProbabilityInfo(random.nextInt(16)));
+        }
+        return dict;
+    }
+
+    // Computes the size of a PtNode from the final addresses, the way it is written.
+    private static int computePtNodeSize(final FusionDictionary dict, final PtNode ptNode) {
+        int size = FormatSpec.PTNODE_FLAGS_SIZE + BinaryDictEncoderUtils.getPtNodeCharactersSize(
+                ptNode.mChars, CODE_POINT_TO_ONE_BYTE_CODE_MAP);
+        if (ptNode.isTerminal()) {
+            size += FormatSpec.PTNODE_FREQUENCY_SIZE;
+        }
+        if (null != ptNode.mChildren) {
+            size += BinaryDictEncoderUtils.getByteSize(ptNode.mChildren.mCachedAddressAfterUpdate
+                    - (ptNode.mCachedAddressAfterUpdate + size));
+        }
+        if (null != ptNode.mBigrams) {
+            for (final WeightedString bigram : ptNode.mBigrams) {
+                final PtNode target = FusionDictionary.findWordInTree(dict.mRootNodeArray,
+                        bigram.mWord);
+                size += FormatSpec.PTNODE_ATTRIBUTE_FLAGS_SIZE;
+                size += BinaryDictEncoderUtils.getByteSize(target.mCachedAddressAfterUpdate
+                        - (ptNode.mCachedAddressAfterUpdate + size));
+            }
+        }
+        return size;
+    }
+
+    public void testComputeAddresses() {
+        for (long seed = 0; seed < 3; ++seed) {
+            final FusionDictionary dict = createDictionary(seed);
+            final ArrayList<PtNodeArray> flatNodes =
+                    BinaryDictEncoderUtils.flattenTree(dict.mRootNodeArray);
+            final AddressComputationStats stats = new AddressComputationStats();
+            BinaryDictEncoderUtils.computeAddresses(dict, flatNodes,
+                    CODE_POINT_TO_ONE_BYTE_CODE_MAP, stats);
+            BinaryDictEncoderUtils.checkFlatPtNodeArrayList(flatNodes);
+
+            for (final PtNodeArray ptNodeArray : flatNodes) {
+                int address = ptNodeArray.mCachedAddressAfterUpdate
+                        + BinaryDictIOUtils.getPtNodeCountSize(ptNodeArray.mData.size());
+                for (final PtNode ptNode : ptNodeArray.mData) {
+                    assertEquals(address, ptNode.mCachedAddressAfterUpdate);
+                    assertEquals(ptNode.mCachedAddressAfterUpdate,
+                            ptNode.mCachedAddressBeforeUpdate);
+                    assertEquals(computePtNodeSize(dict, ptNode), ptNode.mCachedSize);
+                    address += ptNode.mCachedSize;
+                }
+                assertEquals(ptNodeArray.mCachedAddressAfterUpdate + ptNodeArray.mCachedSize,
+                        address);
+            }
+
+            final PtNodeArray lastPtNodeArray = flatNodes.get(flatNodes.size() - 1);
+            assertEquals(lastPtNodeArray.mCachedAddressAfterUpdate + lastPtNodeArray.mCachedSize,
+                    stats.mCompressedSize);
+            assertTrue(stats.mCompressedSize < stats.mOriginalSize);
+            assertEquals(flatNodes.size(), stats.mNodeArrayCount);
+            assertEquals(stats.mPassCount, stats.mRecomputedNodeArrayCounts.size());
+            // The first pass lays out everything, and the next ones only what may change.
+            assertEquals(flatNodes.size(), (int)stats.mRecomputedNodeArrayCounts.get(0));
+            assertTrue(stats.getTotalRecomputedNodeArrayCount()
+                    < flatNodes.size() * stats.mPassCount);
+        }
+    }
+
+    public void testComputeAddressesOfEmptyDictionary() {
+        final FusionDictionary dict = new FusionDictionary(new PtNodeArray(),
+                new DictionaryOptions(new HashMap<String, String>()));
+        final ArrayList<PtNodeArray> flatNodes =
+                BinaryDictEncoderUtils.flattenTree(dict.mRootNodeArray);
+        final AddressComputationStats stats = new AddressComputationStats();
+        BinaryDictEncoderUtils.computeAddresses(dict, flatNodes, CODE_POINT_TO_ONE_BYTE_CODE_MAP,
+                stats);
+        assertEquals(0, flatNodes.get(0).mCachedAddressAfterUpdate);
+        assertEquals(BinaryDictIOUtils.getPtNodeCountSize(0), flatNodes.get(0).mCachedSize);
+        assertEquals(1, stats.mPassCount);
+    }
+}
@@ -25,7 +25,10 @@ import com.android.inputmethod.latin.makedict.WordProperty;
 import junit.framework.TestCase;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Random;
 
 /**
@@ -108,4 +111,91 @@ public class FusionDictionaryTest extends TestCase {
             checkDictionary(dict, sWords, i);
         }
     }
+
+    private static final Comparator<String> CODE_POINT_COMPARATOR = new Comparator<String>() {
+        @Override
+        public int compare(final String s1, final String s2) {
+            final int[] codePoints1 = FusionDictionary.getCodePoints(s1);
+            final int[] codePoints2 = FusionDictionary.getCodePoints(s2);
+            for (int i = 0; i < codePoints1.length && i < codePoints2.length; ++i) {
+                if (codePoints1[i] != codePoints2[i]) {
+                    return codePoints1[i] < codePoints2[i] ? -1 : 1;
+                }
+            }
+            return codePoints1.length - codePoints2.length;
+        }
+    };
+
+    public void testBulkBuilder() {
+        final long time = System.currentTimeMillis();
+        prepare(time);
+        // Also check prefixes of other words, and duplicates.
+        final ArrayList<String> words = new ArrayList<>(sWords);
+        for (int i = 0; i < sWords.size(); i += 10) {
+            final String word = sWords.get(i);
+            words.add(word.substring(0, word.offsetByCodePoints(0, 1)));
+            words.add(word);
+        }
+        Collections.sort(words, CODE_POINT_COMPARATOR);
+
+        final FusionDictionary dict = new FusionDictionary(new PtNodeArray(),
+                new DictionaryOptions(new HashMap<String, String>()));
+        final FusionDictionary.BulkBuilder builder = new FusionDictionary.BulkBuilder(
+                new DictionaryOptions(new HashMap<String, String>()));
+        for (int i = 0; i < words.size(); ++i) {
+            final ProbabilityInfo probabilityInfo = new ProbabilityInfo(i % 200);
+            dict.add(words.get(i), probabilityInfo, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */);
+            builder.add(words.get(i), probabilityInfo, false /* isNotAWord */,
+                    false /* isPossiblyOffensive */);
+        }
+        final FusionDictionary builtDict = builder.build();
+
+        assertEquals(FusionDictionary.countPtNodes(dict.mRootNodeArray),
+                FusionDictionary.countPtNodes(builtDict.mRootNodeArray));
+        final Iterator<WordProperty> builtWords = builtDict.iterator();
+        for (final WordProperty wordProperty : dict) {
+            assertTrue(builtWords.hasNext());
+            final WordProperty builtWordProperty = builtWords.next();
+            assertEquals(wordProperty.mWord, builtWordProperty.mWord);
+            assertEquals(wordProperty.getProbability(), builtWordProperty.getProbability());
+        }
+        assertFalse(builtWords.hasNext());
+        checkDictionary(builtDict, sWords, sWords.size());
+    }
+
+    public void testBulkBuilderBigrams() {
+        final FusionDictionary.BulkBuilder builder = new FusionDictionary.BulkBuilder(
+                new DictionaryOptions(new HashMap<String, String>()));
+        builder.add("abc", new ProbabilityInfo(100), false /* isNotAWord */,
+                false /* isPossiblyOffensive */);
+        builder.addBigram("abc", "abd", new ProbabilityInfo(50));
+        builder.addBigram("abc", "xyz", new ProbabilityInfo(40));
+        // Splits the PtNode of "abc".
+        builder.add("abd", new ProbabilityInfo(90), false /* isNotAWord */,
+                false /* isPossiblyOffensive */);
+        final FusionDictionary dict = builder.build();
+
+        final PtNode abc = FusionDictionary.findWordInTree(dict.mRootNodeArray, "abc");
+        assertNotNull(abc);
+        assertEquals(2, abc.getBigrams().size());
+        assertEquals(50, abc.getBigram("abd").getProbability());
+        // A missing bigram target is added as a word, like setBigram() does.
+        assertNotNull(FusionDictionary.findWordInTree(dict.mRootNodeArray, "xyz"));
+        assertEquals(40, abc.getBigram("xyz").getProbability());
+    }
+
+    public void testBulkBuilderRejectsUnsortedWords() {
+        final FusionDictionary.BulkBuilder builder = new FusionDictionary.BulkBuilder(
+                new DictionaryOptions(new HashMap<String, String>()));
+        builder.add("abc", new ProbabilityInfo(100), false /* isNotAWord */,
+                false /* isPossiblyOffensive */);
+        try {
+            builder.add("ab", new ProbabilityInfo(100), false /* isNotAWord */,
+                    false /* isPossiblyOffensive */);
+            fail("A prefix of the last word should be rejected");
+        } catch (final IllegalArgumentException e) {
+            // Expected.
+        }
+    }
 }
@@ -0,0 +1,893 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.android.inputmethod.keyboard.tools;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Compiles the content of the keyboard layout XMLs into KeyboardLayoutsTable.
+ *
+ * Each element is compiled into a statement that builds a KeyboardLayoutElement. The attribute
+ * values are converted the way aapt converts them, so that the runtime doesn't parse them, and
+ * the "|"-separated values of the {@code <case>} conditions are split. Resource references are
+ * kept as R constants because they are resolved for the resource configuration at runtime. The
+ * root element of a {@code <Keyboard>} layout is left to the runtime, since its attributes depend
+ * on the theme.
+ */
+public final class KeyboardLayoutCompiler {
+    private static final String JAVA_TEMPLATE = "KeyboardLayoutsTable.tmpl";
+    private static final String JAVA_PACKAGE_DIR = "src/com/android/inputmethod/keyboard/internal";
+    private static final String MARK_ATTRIBUTES = "@ATTRIBUTES@";
+    private static final String MARK_LAYOUTS = "@LAYOUTS@";
+    private static final String MARK_PATHS_AND_LAYOUTS = "@PATHS_AND_LAYOUTS@";
+
+    private static final String RESOURCE_TYPE = "xml";
+    private static final String XML_FILE_SUFFIX = ".xml";
+    private static final String ATTRS_FILE = "values/attrs.xml";
+    private static final String LATIN_NAMESPACE =
+            "http://schemas.android.com/apk/res/com.android.inputmethod.latin";
+
+    private static final String TAG_KEYBOARD = "Keyboard";
+    private static final String TAG_MERGE = "merge";
+    private static final String TAG_ROW = "Row";
+    private static final String TAG_GRID_ROWS = "GridRows";
+    private static final String TAG_KEY = "Key";
+    private static final String TAG_SPACER = "Spacer";
+    private static final String TAG_INCLUDE = "include";
+    private static final String TAG_SWITCH = "switch";
+    private static final String TAG_CASE = "case";
+    private static final String TAG_DEFAULT = "default";
+    private static final String TAG_KEY_STYLE = "key-style";
+
+    // The styleables of the attributes that KeyboardBuilder reads, and the prefixes of their
+    // constants in KeyboardLayoutsTable.
+    private static final String STYLEABLE_KEYBOARD = "Keyboard";
+    private static final String STYLEABLE_KEY = "Keyboard_Key";
+    private static final String STYLEABLE_INCLUDE = "Keyboard_Include";
+    private static final String STYLEABLE_GRID_ROWS = "Keyboard_GridRows";
+    private static final String STYLEABLE_CASE = "Keyboard_Case";
+    private static final String STYLEABLE_KEY_STYLE = "Keyboard_KeyStyle";
+    private static final LinkedHashMap<String, String> STYLEABLE_PREFIXES =
+            new LinkedHashMap<>();
+    static {
+        STYLEABLE_PREFIXES.put(STYLEABLE_KEYBOARD, "KEYBOARD");
+        STYLEABLE_PREFIXES.put(STYLEABLE_KEY, "KEY");
+        STYLEABLE_PREFIXES.put(STYLEABLE_INCLUDE, "INCLUDE");
+        STYLEABLE_PREFIXES.put(STYLEABLE_GRID_ROWS, "GRID_ROWS");
+        STYLEABLE_PREFIXES.put(STYLEABLE_CASE, "CASE");
+        STYLEABLE_PREFIXES.put(STYLEABLE_KEY_STYLE, "KEY_STYLE");
+    }
+
+    // The styleables that KeyboardBuilder reads the attributes of each element with.
+    private static final HashMap<String, String[]> TAG_STYLEABLES = new HashMap<>();
+    static {
+        TAG_STYLEABLES.put(TAG_ROW, new String[] { STYLEABLE_KEYBOARD, STYLEABLE_KEY });
+        TAG_STYLEABLES.put(TAG_GRID_ROWS,
+                new String[] { STYLEABLE_KEYBOARD, STYLEABLE_KEY, STYLEABLE_GRID_ROWS });
+        TAG_STYLEABLES.put(TAG_KEY, new String[] { STYLEABLE_KEY });
+        TAG_STYLEABLES.put(TAG_SPACER, new String[] { STYLEABLE_KEY });
+        TAG_STYLEABLES.put(TAG_INCLUDE, new String[] { STYLEABLE_INCLUDE, STYLEABLE_KEY });
+        TAG_STYLEABLES.put(TAG_SWITCH, new String[0]);
+        TAG_STYLEABLES.put(TAG_CASE, new String[] { STYLEABLE_CASE });
+        TAG_STYLEABLES.put(TAG_DEFAULT, new String[0]);
+        TAG_STYLEABLES.put(TAG_KEY_STYLE, new String[] { STYLEABLE_KEY_STYLE, STYLEABLE_KEY });
+    }
+
+    // The element type constants of KeyboardLayoutsTable.
+    private static final HashMap<String, String> TAG_TYPES = new HashMap<>();
+    static {
+        TAG_TYPES.put(TAG_ROW, "ROW");
+        TAG_TYPES.put(TAG_GRID_ROWS, "GRID_ROWS");
+        TAG_TYPES.put(TAG_KEY, "KEY");
+        TAG_TYPES.put(TAG_SPACER, "SPACER");
+        TAG_TYPES.put(TAG_INCLUDE, "INCLUDE");
+        TAG_TYPES.put(TAG_SWITCH, "SWITCH");
+        TAG_TYPES.put(TAG_CASE, "CASE");
+        TAG_TYPES.put(TAG_DEFAULT, "DEFAULT");
+        TAG_TYPES.put(TAG_KEY_STYLE, "KEY_STYLE");
+    }
+
+    // The contents that an element may have.
+    private static final int CONTENT_KEYBOARD = 1;
+    private static final int CONTENT_ROW = 2;
+    // The content of a <merge> element is the content of the element that includes it.
+    private static final int CONTENT_ANY = CONTENT_KEYBOARD | CONTENT_ROW;
+    private static final int CONTENT_NONE = 0;
+
+    // The attribute formats of attrs.xml.
+    private static final int FORMAT_REFERENCE = 1 << 0;
+    private static final int FORMAT_STRING = 1 << 1;
+    private static final int FORMAT_INTEGER = 1 << 2;
+    private static final int FORMAT_BOOLEAN = 1 << 3;
+    private static final int FORMAT_COLOR = 1 << 4;
+    private static final int FORMAT_FLOAT = 1 << 5;
+    private static final int FORMAT_DIMENSION = 1 << 6;
+    private static final int FORMAT_FRACTION = 1 << 7;
+    private static final int FORMAT_ENUM = 1 << 8;
+    private static final int FORMAT_FLAGS = 1 << 9;
+    private static final String[] FORMAT_NAMES = {
+        "reference", "string", "integer", "boolean", "color", "float", "dimension", "fraction",
+        "enum", "flags"
+    };
+
+    // The units of dimensions and fractions, as android.util.TypedValue defines them.
+    private static final String[] DIMENSION_UNITS = { "px", "dip", "sp", "pt", "in", "mm" };
+    private static final String UNIT_DP = "dp";
+    private static final String UNIT_FRACTION = "%";
+    private static final String UNIT_FRACTION_PARENT = "%p";
+    private static final int COMPLEX_UNIT_DIP = 1;
+    private static final int COMPLEX_UNIT_FRACTION = 0;
+    private static final int COMPLEX_UNIT_FRACTION_PARENT = 1;
+    private static final int COMPLEX_RADIX_23p0 = 0;
+    private static final int COMPLEX_RADIX_16p7 = 1;
+    private static final int COMPLEX_RADIX_8p15 = 2;
+    private static final int COMPLEX_RADIX_0p23 = 3;
+    private static final int COMPLEX_RADIX_SHIFT = 4;
+    private static final int COMPLEX_MANTISSA_SHIFT = 8;
+    private static final int COMPLEX_MANTISSA_MASK = 0xffffff;
+
+    private static final Pattern NUMBER_AND_UNIT = Pattern.compile(
+            "([-+]?(?:[0-9]+\\.?[0-9]*|\\.[0-9]+)(?:[eE][-+]?[0-9]+)?)\\s*([a-z%]*)");
+    private static final Pattern REFERENCE = Pattern.compile("@(?:\\+)?([a-z]+)/([A-Za-z0-9_.]+)");
+
+    private static final int MAX_LINE_LENGTH = 100;
+    private static final int MAX_STRING_LITERAL_LENGTH = 60;
+    private static final String INDENT = "    ";
+    private static final String CONTINUATION_INDENT = INDENT + INDENT;
+
+    private static final class AttrDefinition {
+        public final String mName;
+        public int mFormat;
+        public final LinkedHashMap<String, Integer> mEnums = new LinkedHashMap<>();
+        public final LinkedHashMap<String, Integer> mFlags = new LinkedHashMap<>();
+
+        public AttrDefinition(final String name) {
+            mName = name;
+        }
+    }
+
+    // The attribute definitions by name.
+    private final HashMap<String, AttrDefinition> mAttrs = new HashMap<>();
+    // The attribute names of each styleable.
+    private final HashMap<String, HashSet<String>> mStyleables = new HashMap<>();
+    // The layout files by path, such as "res/xml-sw600dp/kbd_qwerty.xml".
+    private final TreeMap<String, Element> mLayouts = new TreeMap<>();
+    // The root tags of the layout files by resource name.
+    private final HashMap<String, HashSet<String>> mRootTags = new HashMap<>();
+    // The declarations of the attribute constants that the compiled layouts use, by styleable
+    // and name.
+    private final TreeMap<String, String> mAttributeConstants = new TreeMap<>();
+    private final HashSet<String> mReservedNames = new HashSet<>(TAG_TYPES.values());
+    private final DocumentBuilder mDocumentBuilder;
+
+    public KeyboardLayoutCompiler(final File resDir) {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setIgnoringComments(true);
+        try {
+            mDocumentBuilder = factory.newDocumentBuilder();
+        } catch (final ParserConfigurationException e) {
+            throw new RuntimeException(e);
+        }
+        readAttrs(parseRootElement(new File(resDir, ATTRS_FILE)));
+        final File[] dirs = resDir.listFiles();
+        if (dirs == null) {
+            throw new RuntimeException("Can't list resource directory: " + resDir);
+        }
+        Arrays.sort(dirs);
+        for (final File dir : dirs) {
+            final String dirName = dir.getName();
+            if (!dir.isDirectory() || !(dirName.equals(RESOURCE_TYPE)
+                    || dirName.startsWith(RESOURCE_TYPE + "-"))) {
+                continue;
+            }
+            final File[] files = dir.listFiles();
+            Arrays.sort(files);
+            for (final File file : files) {
+                final String fileName = file.getName();
+                if (!fileName.endsWith(XML_FILE_SUFFIX)) {
+                    continue;
+                }
+                final Element root = parseRootElement(file);
+                final String rootTag = root.getTagName();
+                final String name = fileName.substring(
+                        0, fileName.length() - XML_FILE_SUFFIX.length());
+                HashSet<String> rootTags = mRootTags.get(name);
+                if (rootTags == null) {
+                    rootTags = new HashSet<>();
+                    mRootTags.put(name, rootTags);
+                }
+                rootTags.add(rootTag);
+                if (rootTag.equals(TAG_KEYBOARD) || rootTag.equals(TAG_MERGE)) {
+                    mLayouts.put("res/" + dirName + "/" + fileName, root);
+                }
+            }
+        }
+    }
+
+    private Element parseRootElement(final File file) {
+        try {
+            return mDocumentBuilder.parse(file).getDocumentElement();
+        } catch (final SAXException | IOException e) {
+            throw new RuntimeException("Can't parse " + file, e);
+        }
+    }
+
+    private static ArrayList<Element> getChildElements(final Element element) {
+        final ArrayList<Element> childElements = new ArrayList<>();
+        final NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            final Node child = children.item(i);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                childElements.add((Element)child);
+            } else if (child.getNodeType() == Node.TEXT_NODE
+                    && !child.getNodeValue().trim().isEmpty()) {
+                throw new RuntimeException("Unexpected text \"" + child.getNodeValue().trim()
+                        + "\" in <" + element.getTagName() + ">");
+            }
+        }
+        return childElements;
+    }
+
+    private void readAttrs(final Element resources) {
+        for (final Element element : getChildElements(resources)) {
+            if (element.getTagName().equals("attr")) {
+                readAttr(element);
+            } else if (element.getTagName().equals("declare-styleable")) {
+                final HashSet<String> attrNames = new HashSet<>();
+                for (final Element attr : getChildElements(element)) {
+                    attrNames.add(readAttr(attr).mName);
+                }
+                mStyleables.put(element.getAttribute("name"), attrNames);
+            }
+        }
+        for (final String styleable : STYLEABLE_PREFIXES.keySet()) {
+            if (!mStyleables.containsKey(styleable)) {
+                throw new RuntimeException("Can't find styleable " + styleable);
+            }
+        }
+    }
+
+    // An attribute may be defined once with its format, and referred to by name elsewhere.
+    private AttrDefinition readAttr(final Element element) {
+        final String name = element.getAttribute("name");
+        AttrDefinition attr = mAttrs.get(name);
+        if (attr == null) {
+            attr = new AttrDefinition(name);
+            mAttrs.put(name, attr);
+        }
+        final String format = element.getAttribute("format");
+        if (!format.isEmpty()) {
+            for (final String formatName : format.split("\\|")) {
+                final int index = Arrays.asList(FORMAT_NAMES).indexOf(formatName.trim());
+                if (index < 0) {
+                    throw new RuntimeException("Unknown format " + formatName + " of " + name);
+                }
+                attr.mFormat |= 1 << index;
+            }
+        }
+        for (final Element value : getChildElements(element)) {
+            final String valueName = value.getAttribute("name");
+            // Such as "0x80000000".
+            final int data = Long.decode(value.getAttribute("value")).intValue();
+            if (value.getTagName().equals("enum")) {
+                attr.mFormat |= FORMAT_ENUM;
+                attr.mEnums.put(valueName, data);
+            } else if (value.getTagName().equals("flag")) {
+                attr.mFormat |= FORMAT_FLAGS;
+                attr.mFlags.put(valueName, data);
+            }
+        }
+        return attr;
+    }
+
+    /**
+     * Writes KeyboardLayoutsTable.
+     * @param outDir the java output directory, or null to write to the standard output.
+     */
+    public void writeToJava(final String outDir) {
+        // The layouts are compiled first, so that the attribute constants that they use are known.
+        final ArrayList<String> layoutMethods = new ArrayList<>();
+        final ArrayList<String> pathsAndLayouts = new ArrayList<>();
+        for (final String path : mLayouts.keySet()) {
+            final String methodName = getMethodName(path);
+            layoutMethods.add(compileLayout(path, methodName));
+            pathsAndLayouts.add(INDENT + INDENT + "case \"" + path + "\":\n"
+                    + INDENT + INDENT + INDENT + "return " + methodName + "();\n");
+        }
+        final String template = JAVA_PACKAGE_DIR + "/" + JAVA_TEMPLATE;
+        final InputStream in = KeyboardLayoutCompiler.class.getResourceAsStream("/" + template);
+        if (in == null) {
+            throw new RuntimeException("Can't find java template " + template);
+        }
+        PrintStream ps = null;
+        LineNumberReader lnr = null;
+        try {
+            if (outDir == null) {
+                ps = System.out;
+            } else {
+                final File outPackage = new File(outDir, JAVA_PACKAGE_DIR);
+                final File outputFile = new File(outPackage,
+                        JAVA_TEMPLATE.replace(".tmpl", ".java"));
+                outPackage.mkdirs();
+                ps = new PrintStream(outputFile, "UTF-8");
+            }
+            lnr = new LineNumberReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = lnr.readLine()) != null) {
+                if (line.contains(MARK_ATTRIBUTES)) {
+                    dumpAttributeConstants(ps);
+                } else if (line.contains(MARK_LAYOUTS)) {
+                    for (final String method : layoutMethods) {
+                        ps.print(method);
+                        ps.println();
+                    }
+                } else if (line.contains(MARK_PATHS_AND_LAYOUTS)) {
+                    for (final String pathAndLayout : pathsAndLayouts) {
+                        ps.print(pathAndLayout);
+                    }
+                } else {
+                    ps.println(line);
+                }
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            close(lnr);
+            if (ps != null && ps != System.out) {
+                ps.close();
+            }
+        }
+    }
+
+    private static void close(final LineNumberReader reader) {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+        } catch (final IOException e) {
+            // Ignore.
+        }
+    }
+
+    private void dumpAttributeConstants(final PrintStream out) {
+        String lastStyleable = null;
+        for (final Map.Entry<String, String> entry : mAttributeConstants.entrySet()) {
+            final String styleable = entry.getKey().substring(0, entry.getKey().indexOf(':'));
+            if (lastStyleable != null && !styleable.equals(lastStyleable)) {
+                out.println();
+            }
+            out.print(entry.getValue());
+            lastStyleable = styleable;
+        }
+    }
+
+    // "res/xml-sw600dp/kbd_qwerty.xml" to "newLayout_xml_sw600dp_kbd_qwerty".
+    private static String getMethodName(final String path) {
+        final String[] components = path.split("/");
+        final String dirName = components[1];
+        final String fileName = components[2];
+        return "newLayout_" + dirName.replace('-', '_') + "_"
+                + fileName.substring(0, fileName.length() - XML_FILE_SUFFIX.length());
+    }
+
+    private String compileLayout(final String path, final String methodName) {
+        final Element root = mLayouts.get(path);
+        final StringBuilder sb = new StringBuilder();
+        appendStatement(sb, new ArrayList<>(Arrays.asList(
+                "private static KeyboardLayoutElement[]", " " + methodName + "() {")), 1);
+        sb.append(INDENT).append(INDENT).append("final Builder b = new Builder(\"")
+                .append(path).append("\");\n");
+        final int content = root.getTagName().equals(TAG_KEYBOARD) ? CONTENT_KEYBOARD
+                : CONTENT_ANY;
+        for (final Element child : getChildElements(root)) {
+            compileElement(sb, child, content, false /* isCase */, 2, path);
+        }
+        sb.append(INDENT).append(INDENT).append("return b.build();\n");
+        sb.append(INDENT).append("}\n");
+        return sb.toString();
+    }
+
+    private static int getAllowedContent(final String tag) {
+        switch (tag) {
+        case TAG_ROW: case TAG_GRID_ROWS:
+            return CONTENT_KEYBOARD;
+        case TAG_KEY: case TAG_SPACER:
+            return CONTENT_ROW;
+        case TAG_INCLUDE: case TAG_SWITCH: case TAG_KEY_STYLE:
+            return CONTENT_ANY;
+        default:
+            return CONTENT_NONE;
+        }
+    }
+
+    /**
+     * Compiles an element and its children.
+     * @param content the content that the parent element may have, or the content of the
+     *        {@code <switch>} element if the element is one of its cases.
+     * @param isCase whether the element is a child of a {@code <switch>} element.
+     */
+    private void compileElement(final StringBuilder sb, final Element element,
+            final int content, final boolean isCase, final int depth, final String path) {
+        final String tag = element.getTagName();
+        final String position = "<" + tag + "> in " + path;
+        final boolean isCaseTag = tag.equals(TAG_CASE) || tag.equals(TAG_DEFAULT);
+        if (isCase ? !isCaseTag : (getAllowedContent(tag) & content) == 0) {
+            throw new RuntimeException("Illegal element " + position);
+        }
+        final ArrayList<String> parts = new ArrayList<>();
+        parts.add("b.start(" + TAG_TYPES.get(tag) + ")");
+        final HashSet<String> attrNames = compileAttributes(parts, element, position);
+        checkAttributes(tag, attrNames, position);
+        final ArrayList<Element> children = getChildElements(element);
+        if (children.isEmpty()) {
+            parts.add(".end();");
+            appendStatement(sb, parts, depth);
+            return;
+        }
+        if (!tag.equals(TAG_ROW) && !tag.equals(TAG_SWITCH) && !isCaseTag) {
+            throw new RuntimeException("Unexpected content of " + position);
+        }
+        parts.add(";");
+        appendStatement(sb, parts, depth);
+        for (final Element child : children) {
+            compileElement(sb, child, tag.equals(TAG_ROW) ? CONTENT_ROW : content,
+                    tag.equals(TAG_SWITCH), depth + 1, path);
+        }
+        appendStatement(sb, new ArrayList<>(Arrays.asList("b.end();")), depth);
+    }
+
+    // Checks the attributes the same way KeyboardBuilder does.
+    private static void checkAttributes(final String tag, final HashSet<String> attrNames,
+            final String position) {
+        switch (tag) {
+        case TAG_ROW:
+            if (attrNames.contains("horizontalGap") || attrNames.contains("verticalGap")) {
+                throw new RuntimeException("Illegal gap attribute of " + position);
+            }
+            break;
+        case TAG_GRID_ROWS:
+            if (attrNames.contains("codesArray") == attrNames.contains("textsArray")) {
+                throw new RuntimeException("Either codesArray or textsArray is needed by "
+                        + position);
+            }
+            break;
+        case TAG_INCLUDE:
+            if (!attrNames.contains("keyboardLayout")) {
+                throw new RuntimeException("keyboardLayout is needed by " + position);
+            }
+            break;
+        case TAG_KEY_STYLE:
+            if (!attrNames.contains("styleName")) {
+                throw new RuntimeException("styleName is needed by " + position);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private HashSet<String> compileAttributes(final ArrayList<String> parts,
+            final Element element, final String position) {
+        final String tag = element.getTagName();
+        final HashSet<String> attrNames = new HashSet<>();
+        final NamedNodeMap attrs = element.getAttributes();
+        for (int i = 0; i < attrs.getLength(); i++) {
+            final Attr attr = (Attr)attrs.item(i);
+            // KeyboardBuilder only reads the attributes of its own namespace.
+            if (!LATIN_NAMESPACE.equals(attr.getNamespaceURI())) {
+                continue;
+            }
+            final String name = attr.getLocalName();
+            for (final String styleable : TAG_STYLEABLES.get(tag)) {
+                if (!mStyleables.get(styleable).contains(name)) {
+                    continue;
+                }
+                attrNames.add(name);
+                final String constant = getAttributeConstant(styleable, name);
+                parts.addAll(compileValue(constant, mAttrs.get(name), attr.getValue(),
+                        styleable.equals(STYLEABLE_CASE), position));
+            }
+        }
+        if (tag.equals(TAG_INCLUDE)) {
+            checkIncludedLayout(element.getAttributeNS(LATIN_NAMESPACE, "keyboardLayout"),
+                    position);
+        }
+        return attrNames;
+    }
+
+    private void checkIncludedLayout(final String reference, final String position) {
+        final Matcher matcher = REFERENCE.matcher(reference);
+        if (!matcher.matches() || !matcher.group(1).equals(RESOURCE_TYPE)) {
+            return;
+        }
+        final HashSet<String> rootTags = mRootTags.get(matcher.group(2));
+        if (rootTags == null || rootTags.size() != 1 || !rootTags.contains(TAG_MERGE)) {
+            throw new RuntimeException("Included keyboard layout " + reference
+                    + " must have <merge> root element: " + position);
+        }
+    }
+
+    private String getAttributeConstant(final String styleable, final String attrName) {
+        final String prefix = STYLEABLE_PREFIXES.get(styleable);
+        final String name = prefix + "_"
+                + attrName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        final String key = new ArrayList<>(STYLEABLE_PREFIXES.keySet()).indexOf(styleable)
+                + ":" + name;
+        if (!mAttributeConstants.containsKey(key)) {
+            if (!mReservedNames.add(name)) {
+                throw new RuntimeException("Duplicate constant name " + name);
+            }
+            final ArrayList<String> parts = new ArrayList<>();
+            parts.add("private static final int " + name + " =");
+            parts.add("\n");
+            parts.add("KeyboardLayoutElement.ATTRS_" + prefix);
+            parts.add(" | R.styleable." + styleable + "_" + attrName + ";");
+            final StringBuilder sb = new StringBuilder();
+            appendStatement(sb, parts, 1);
+            mAttributeConstants.put(key, sb.toString());
+        }
+        return name;
+    }
+
+    /**
+     * Appends a statement that is made of the specified parts. A statement that doesn't fit in a
+     * line has each builder call, a part that starts with ".", on its own line, and is wrapped
+     * between the parts of a call that doesn't fit either. A "\n" part always starts a line.
+     */
+    private static void appendStatement(final StringBuilder sb, final ArrayList<String> parts,
+            final int depth) {
+        final String indent = repeat(INDENT, depth);
+        int length = indent.length();
+        for (final String part : parts) {
+            length += part.length();
+        }
+        final boolean fits = length <= MAX_LINE_LENGTH && !parts.contains("\n");
+        final StringBuilder line = new StringBuilder(indent);
+        boolean lineStart = true;
+        for (final String part : parts) {
+            final boolean isNewLine = part.equals("\n");
+            final boolean startsCall = !fits && part.startsWith(".");
+            final boolean overflows = line.length() + part.length() > MAX_LINE_LENGTH;
+            if (isNewLine || (!lineStart && (startsCall || overflows) && !part.equals(";"))) {
+                sb.append(line).append('\n');
+                line.setLength(0);
+                line.append(indent).append(CONTINUATION_INDENT);
+                // The wrapped arguments of a call are indented more than the calls.
+                if (!fits && !startsCall && !isNewLine) {
+                    line.append(CONTINUATION_INDENT);
+                }
+                lineStart = true;
+                if (isNewLine) {
+                    continue;
+                }
+            }
+            line.append(lineStart ? part.trim() : part);
+            lineStart = false;
+        }
+        sb.append(line).append('\n');
+    }
+
+    private static String repeat(final String s, final int count) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the parts of a builder call, between which the statement may be wrapped.
+     */
+    private static ArrayList<String> builderCall(final String method, final String constant,
+            final String... args) {
+        final ArrayList<String> parts = new ArrayList<>();
+        parts.add("." + method + "(" + constant + ",");
+        for (int i = 0; i < args.length; i++) {
+            parts.add(" " + args[i] + (i == args.length - 1 ? ")" : ","));
+        }
+        return parts;
+    }
+
+    /**
+     * Returns the parts of a builder call whose only argument is made of the specified parts.
+     */
+    private static ArrayList<String> builderCall(final String method, final String constant,
+            final ArrayList<String> argParts) {
+        final ArrayList<String> parts = new ArrayList<>();
+        parts.add("." + method + "(" + constant + ",");
+        parts.add(" " + argParts.get(0));
+        parts.addAll(argParts.subList(1, argParts.size()));
+        parts.add(parts.remove(parts.size() - 1) + ")");
+        return parts;
+    }
+
+    // Splits a long string value into the parts of a concatenation of string literals, after
+    // commas, so that the statement can be wrapped.
+    private static ArrayList<String> splitStringLiteral(final String value) {
+        final ArrayList<String> parts = new ArrayList<>();
+        int start = 0;
+        while (start < value.length()) {
+            // The literal ends after the last comma that keeps it short enough, or after the
+            // first comma if there is no such comma.
+            int end = value.length();
+            if (toJavaString(value.substring(start)).length() > MAX_STRING_LITERAL_LENGTH) {
+                int comma = value.indexOf(',', start) + 1;
+                end = (comma > 0) ? comma : value.length();
+                while (comma > 0 && toJavaString(value.substring(start, comma)).length()
+                        <= MAX_STRING_LITERAL_LENGTH) {
+                    end = comma;
+                    comma = value.indexOf(',', comma) + 1;
+                }
+            }
+            parts.add((start == 0 ? "" : " + ") + toJavaString(value.substring(start, end)));
+            start = end;
+        }
+        return parts;
+    }
+
+    /**
+     * Converts an attribute value the way aapt does, and returns the builder call that adds it.
+     */
+    private static ArrayList<String> compileValue(final String constant, final AttrDefinition attr,
+            final String value, final boolean splitsStrings, final String position) {
+        final String where = attr.mName + "=\"" + value + "\" of " + position;
+        final int format = attr.mFormat;
+        final String trimmed = value.trim();
+        if (trimmed.startsWith("@")) {
+            final Matcher matcher = REFERENCE.matcher(trimmed);
+            if (!matcher.matches()) {
+                throw new RuntimeException("Unsupported reference " + where);
+            }
+            return builderCall("reference", constant, "R." + matcher.group(1) + "."
+                    + matcher.group(2).replace('.', '_'));
+        }
+        if (trimmed.startsWith("?")) {
+            throw new RuntimeException("Unsupported theme attribute " + where);
+        }
+        if ((format & FORMAT_COLOR) != 0 && trimmed.startsWith("#")) {
+            throw new RuntimeException("Unsupported color " + where);
+        }
+        if ((format & FORMAT_ENUM) != 0 && attr.mEnums.containsKey(trimmed)) {
+            return builderCall("integer", constant,
+                    attr.mEnums.get(trimmed) + " /* " + trimmed + " */");
+        }
+        if ((format & FORMAT_FLAGS) != 0) {
+            final Integer flags = parseFlags(attr, trimmed);
+            if (flags != null) {
+                // The comment may be wrapped after the names of the flags.
+                final ArrayList<String> argParts = new ArrayList<>();
+                final String[] names = trimmed.split("\\|");
+                for (int i = 0; i < names.length; i++) {
+                    argParts.add((i == 0 ? "0x" + Integer.toHexString(flags) + " /* " : "")
+                            + names[i].trim() + (i == names.length - 1 ? " */" : "|"));
+                }
+                return builderCall("integer", constant, argParts);
+            }
+        }
+        if ((format & FORMAT_BOOLEAN) != 0 && (trimmed.equals("true")
+                || trimmed.equals("false"))) {
+            return builderCall("bool", constant, trimmed);
+        }
+        if ((format & FORMAT_INTEGER) != 0) {
+            final Integer integer = parseInteger(trimmed);
+            if (integer != null) {
+                return builderCall("integer", constant, integer.toString());
+            }
+        }
+        if ((format & (FORMAT_DIMENSION | FORMAT_FRACTION)) != 0) {
+            final ArrayList<String> complex = compileComplex(constant, format, trimmed);
+            if (complex != null) {
+                return complex;
+            }
+        }
+        if ((format & FORMAT_STRING) == 0) {
+            throw new RuntimeException("Can't convert " + where);
+        }
+        final String string = unescape(value, where);
+        if (splitsStrings) {
+            final String[] values = string.split("\\|");
+            if (String.join("|", values).equals(string)) {
+                final String[] args = new String[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    args[i] = toJavaString(values[i]);
+                }
+                return builderCall("strings", constant, args);
+            }
+        }
+        return builderCall("string", constant, splitStringLiteral(string));
+    }
+
+    private static Integer parseFlags(final AttrDefinition attr, final String value) {
+        int flags = 0;
+        for (final String name : value.split("\\|")) {
+            final Integer flag = attr.mFlags.get(name.trim());
+            if (flag == null) {
+                return null;
+            }
+            flags |= flag;
+        }
+        return flags;
+    }
+
+    private static Integer parseInteger(final String value) {
+        try {
+            // Such as "0x80000000", which aapt takes as an unsigned value.
+            final long integer = Long.decode(value);
+            if (integer < Integer.MIN_VALUE || integer > 0xffffffffL) {
+                return null;
+            }
+            return (int)integer;
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // The same as ResTable::stringToFloat() of aapt for dimensions and fractions.
+    private static ArrayList<String> compileComplex(final String constant, final int format,
+            final String value) {
+        final Matcher matcher = NUMBER_AND_UNIT.matcher(value);
+        if (!matcher.matches()) {
+            return null;
+        }
+        final String unit = matcher.group(2);
+        final boolean isFraction;
+        final int unitData;
+        float scale = 1.0f;
+        if (unit.equals(UNIT_FRACTION) || unit.equals(UNIT_FRACTION_PARENT)) {
+            isFraction = true;
+            unitData = unit.equals(UNIT_FRACTION) ? COMPLEX_UNIT_FRACTION
+                    : COMPLEX_UNIT_FRACTION_PARENT;
+            scale = 1.0f / 100;
+        } else if (unit.equals(UNIT_DP)) {
+            isFraction = false;
+            unitData = COMPLEX_UNIT_DIP;
+        } else {
+            isFraction = false;
+            unitData = Arrays.asList(DIMENSION_UNITS).indexOf(unit);
+            if (unitData < 0) {
+                return null;
+            }
+        }
+        if ((format & (isFraction ? FORMAT_FRACTION : FORMAT_DIMENSION)) == 0) {
+            return null;
+        }
+        float f = Float.parseFloat(matcher.group(1));
+        f *= scale;
+        final boolean neg = f < 0;
+        if (neg) {
+            f = -f;
+        }
+        final long bits = (long)(f * (1 << 23) + .5f);
+        final int radix;
+        final int shift;
+        if ((bits & 0x7fffff) == 0) {
+            // Always use 23p0 if there is no fraction, just to make things easier to read.
+            radix = COMPLEX_RADIX_23p0;
+            shift = 23;
+        } else if ((bits & 0xffffffffff800000L) == 0) {
+            // Magnitude is zero -- can fit in 0 bits of precision.
+            radix = COMPLEX_RADIX_0p23;
+            shift = 0;
+        } else if ((bits & 0xffffffff80000000L) == 0) {
+            // Magnitude can fit in 8 bits of precision.
+            radix = COMPLEX_RADIX_8p15;
+            shift = 8;
+        } else if ((bits & 0xffffff8000000000L) == 0) {
+            // Magnitude can fit in 16 bits of precision.
+            radix = COMPLEX_RADIX_16p7;
+            shift = 16;
+        } else {
+            // Magnitude needs entire range, so no fractional part.
+            radix = COMPLEX_RADIX_23p0;
+            shift = 23;
+        }
+        int mantissa = (int)((bits >> shift) & COMPLEX_MANTISSA_MASK);
+        if (neg) {
+            mantissa = (-mantissa) & COMPLEX_MANTISSA_MASK;
+        }
+        final int data = unitData | (radix << COMPLEX_RADIX_SHIFT)
+                | (mantissa << COMPLEX_MANTISSA_SHIFT);
+        return builderCall(isFraction ? "fraction" : "dimension", constant,
+                "0x" + String.format("%08x", data) + " /* " + value + " */");
+    }
+
+    // The same as the escapes that aapt processes in the string value of an XML attribute.
+    private static String unescape(final String value, final String where) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (++i >= value.length()) {
+                throw new RuntimeException("Unterminated escape " + where);
+            }
+            final char escaped = value.charAt(i);
+            switch (escaped) {
+            case 't':
+                sb.append('\t');
+                break;
+            case 'n':
+                sb.append('\n');
+                break;
+            case '#': case '@': case '?': case '"': case '\'': case '\\':
+                sb.append(escaped);
+                break;
+            case 'u':
+                if (i + 4 >= value.length()) {
+                    throw new RuntimeException("Illegal unicode escape " + where);
+                }
+                sb.append((char)Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                i += 4;
+                break;
+            default:
+                throw new RuntimeException("Unsupported escape \\" + escaped + " " + where);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String toJavaString(final String value) {
+        final StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c == '\t') {
+                sb.append("\\t");
+            } else if (c == '\n') {
+                sb.append("\\n");
+            } else if (c < 0x20) {
+                sb.append(String.format("\\%03o", (int)c));
+            } else if (c >= 0x7f) {
+                sb.append(String.format("\\u%04X", (int)c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
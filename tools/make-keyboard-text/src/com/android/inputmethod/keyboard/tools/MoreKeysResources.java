@@ -34,11 +34,16 @@ public class MoreKeysResources {
 
     private static final String JAVA_TEMPLATE = "KeyboardTextsTable.tmpl";
     private static final String MARK_NAMES = "@NAMES@";
+    private static final String MARK_NAME_HASH_SEEDS = "@NAME_HASH_SEEDS@";
+    private static final String MARK_NAME_HASH_TABLE = "@NAME_HASH_TABLE@";
     private static final String MARK_DEFAULT_TEXTS = "@DEFAULT_TEXTS@";
     private static final String MARK_TEXTS = "@TEXTS@";
-    private static final String TEXTS_ARRAY_NAME_PREFIX = "TEXTS_";
+    private static final String TEXTS_METHOD_NAME_PREFIX = "newTexts_";
     private static final String MARK_LOCALES_AND_TEXTS = "@LOCALES_AND_TEXTS@";
     private static final String EMPTY_STRING_VAR = "EMPTY";
+    private static final String ARRAY_INDENT = "        ";
+    private static final String METHOD_ARRAY_INDENT = "            ";
+    private static final int HASH_TABLE_ELEMENTS_PER_LINE = 16;
 
     private final JarFile mJar;
     // String resources maps sorted by its language. The language is determined from the jar entry
@@ -53,6 +58,8 @@ public class MoreKeysResources {
     // The string resource can be accessed by specifying name "!text/<name>"
     // via {@link KeyboardTextsSet#getText(String)}.
     private final String[] mSortedResourceNames;
+    // Perfect hash table of {@link #mSortedResourceNames}.
+    private final PerfectHashTable mNameHashTable;
 
     public MoreKeysResources(final JarFile jar) {
         mJar = jar;
@@ -100,6 +107,7 @@ public class MoreKeysResources {
             }
         });
         mSortedResourceNames = resourceNamesList.toArray(new String[resourceNamesList.size()]);
+        mNameHashTable = new PerfectHashTable(mSortedResourceNames);
     }
 
     public void writeToJava(final String outDir) {
@@ -140,6 +148,10 @@ public class MoreKeysResources {
         while ((line = in.readLine()) != null) {
             if (line.contains(MARK_NAMES)) {
                 dumpNames(out);
+            } else if (line.contains(MARK_NAME_HASH_SEEDS)) {
+                dumpShortArray(out, mNameHashTable.getSeeds());
+            } else if (line.contains(MARK_NAME_HASH_TABLE)) {
+                dumpShortArray(out, mNameHashTable.getTable());
             } else if (line.contains(MARK_DEFAULT_TEXTS)) {
                 dumpDefaultTexts(out);
             } else if (line.contains(MARK_TEXTS)) {
@@ -161,13 +173,27 @@ public class MoreKeysResources {
         }
     }
 
+    private static void dumpShortArray(final PrintStream out, final short[] array) {
+        for (int index = 0; index < array.length; index += HASH_TABLE_ELEMENTS_PER_LINE) {
+            final StringBuilder sb = new StringBuilder();
+            final int end = Math.min(index + HASH_TABLE_ELEMENTS_PER_LINE, array.length);
+            for (int i = index; i < end; i++) {
+                if (i > index) {
+                    sb.append(' ');
+                }
+                sb.append(String.format("%3d,", array[i]));
+            }
+            out.format("%s%s\n", ARRAY_INDENT, sb);
+        }
+    }
+
     private void dumpDefaultTexts(final PrintStream out) {
-        final int outputArraySize = dumpTextsInternal(out, mDefaultResourceMap);
+        final int outputArraySize = dumpTextsInternal(out, mDefaultResourceMap, ARRAY_INDENT);
         mDefaultResourceMap.setOutputArraySize(outputArraySize);
     }
 
-    private static String getArrayNameForLocale(final Locale locale) {
-        return TEXTS_ARRAY_NAME_PREFIX + LocaleUtils.getLocaleCode(locale);
+    private static String getMethodNameForLocale(final Locale locale) {
+        return TEXTS_METHOD_NAME_PREFIX + LocaleUtils.getLocaleCode(locale);
     }
 
     private void dumpTexts(final PrintStream out) {
@@ -176,31 +202,31 @@ public class MoreKeysResources {
             if (resMap == mDefaultResourceMap) continue;
             out.format("    /* Locale %s: %s */\n",
                     locale, LocaleUtils.getLocaleDisplayName(locale));
-            out.format("    private static final String[] " + getArrayNameForLocale(locale)
-                    + " = {\n");
-            final int outputArraySize = dumpTextsInternal(out, resMap);
+            out.format("    private static String[] " + getMethodNameForLocale(locale) + "() {\n");
+            out.format("        return new String[] {\n");
+            final int outputArraySize = dumpTextsInternal(out, resMap, METHOD_ARRAY_INDENT);
             resMap.setOutputArraySize(outputArraySize);
-            out.format("    };\n\n");
+            out.format("        };\n");
+            out.format("    }\n\n");
         }
     }
 
     private void dumpLocalesMap(final PrintStream out) {
         for (final StringResourceMap resMap : mResourcesMap.values()) {
             final Locale locale = resMap.mLocale;
+            if (resMap == mDefaultResourceMap) continue;
             final String localeStr = LocaleUtils.getLocaleCode(locale);
-            final String localeToDump = (locale == LocaleUtils.DEFAULT_LOCALE)
-                    ? String.format("\"%s\"", localeStr)
-                    : String.format("\"%s\"%s", localeStr, "       ".substring(localeStr.length()));
-            out.format("        %s, %-12s /* %3d/%3d %s */\n",
-                    localeToDump, getArrayNameForLocale(locale) + ",",
+            out.format("        case %-8s return %-19s /* %3d/%3d %s */\n",
+                    String.format("\"%s\":", localeStr), getMethodNameForLocale(locale) + "();",
                     resMap.getResources().size(), resMap.getOutputArraySize(),
                     LocaleUtils.getLocaleDisplayName(locale));
         }
     }
 
-    private int dumpTextsInternal(final PrintStream out, final StringResourceMap resMap) {
+    private int dumpTextsInternal(final PrintStream out, final StringResourceMap resMap,
+            final String indent) {
         final ArrayInitializerFormatter formatter =
-                new ArrayInitializerFormatter(out, 100, "        ", mSortedResourceNames);
+                new ArrayInitializerFormatter(out, 100, indent, mSortedResourceNames);
         int outputArraySize = 0;
         boolean successiveNull = false;
         final int namesCount = mSortedResourceNames.length;
@@ -210,7 +236,7 @@ public class MoreKeysResources {
             if (res != null) {
                 // TODO: Check whether the resource value is equal to the default.
                 if (res.mComment != null) {
-                    formatter.outCommentLines(addPrefix("        // ", res. mComment));
+                    formatter.outCommentLines(addPrefix(indent + "// ", res. mComment));
                 }
                 final String escaped = escapeNonAscii(res.mValue);
                 if (escaped.length() == 0) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2016 The Android Open Source Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.android.inputmethod.keyboard.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * A perfect hash table of names, computed by "hash and displace".
+ *
+ * The names are distributed to buckets by their hash. Then a seed is searched for each bucket,
+ * largest bucket first, so that the names of the bucket hashed with the seed fall into slots that
+ * no other name uses. The lookup of KeyboardTextsTable has to use the same hash function.
+ */
+public class PerfectHashTable {
+    // The average number of names in a bucket.
+    private static final int NAMES_PER_BUCKET = 4;
+    private static final int EMPTY_SLOT = -1;
+
+    // The seed of each bucket.
+    private final short[] mSeeds;
+    // The index of the name for each slot, or {@link #EMPTY_SLOT}.
+    private final short[] mTable;
+
+    public PerfectHashTable(final String[] names) {
+        int tableSize = 1;
+        while (tableSize < names.length) {
+            tableSize <<= 1;
+        }
+        mSeeds = new short[(names.length + NAMES_PER_BUCKET - 1) / NAMES_PER_BUCKET];
+        mTable = new short[tableSize];
+        Arrays.fill(mTable, (short)EMPTY_SLOT);
+
+        final ArrayList<ArrayList<Integer>> buckets = new ArrayList<>();
+        for (int bucket = 0; bucket < mSeeds.length; bucket++) {
+            buckets.add(new ArrayList<Integer>());
+        }
+        for (int index = 0; index < names.length; index++) {
+            buckets.get(getBucket(names[index].hashCode())).add(index);
+        }
+        final ArrayList<ArrayList<Integer>> sortedBuckets = new ArrayList<>(buckets);
+        Collections.sort(sortedBuckets, new Comparator<ArrayList<Integer>>() {
+            @Override
+            public int compare(final ArrayList<Integer> left, final ArrayList<Integer> right) {
+                // Descending order of size.
+                return right.size() - left.size();
+            }
+        });
+        for (final ArrayList<Integer> indexes : sortedBuckets) {
+            if (indexes.isEmpty()) {
+                break;
+            }
+            final int bucket = buckets.indexOf(indexes);
+            mSeeds[bucket] = findSeed(names, indexes);
+            for (final int index : indexes) {
+                mTable[getSlot(names[index].hashCode(), mSeeds[bucket])] = (short)index;
+            }
+        }
+    }
+
+    private short findSeed(final String[] names, final ArrayList<Integer> indexes) {
+        final boolean[] usedSlots = new boolean[mTable.length];
+        for (int seed = 1; seed <= Short.MAX_VALUE; seed++) {
+            Arrays.fill(usedSlots, false);
+            boolean found = true;
+            for (final int index : indexes) {
+                final int slot = getSlot(names[index].hashCode(), seed);
+                if (mTable[slot] != EMPTY_SLOT || usedSlots[slot]) {
+                    found = false;
+                    break;
+                }
+                usedSlots[slot] = true;
+            }
+            if (found) {
+                return (short)seed;
+            }
+        }
+        throw new RuntimeException("Can't find a perfect hash seed for " + indexes.size()
+                + " names");
+    }
+
+    private static int hash(final int hashCode, final int seed) {
+        final int hash = (hashCode ^ seed) * 0x9E3779B1;
+        return hash ^ (hash >>> 15);
+    }
+
+    private int getBucket(final int hashCode) {
+        return (hash(hashCode, 0) >>> 16) % mSeeds.length;
+    }
+
+    private int getSlot(final int hashCode, final int seed) {
+        return hash(hashCode, seed) & (mTable.length - 1);
+    }
+
+    public short[] getSeeds() {
+        return mSeeds;
+    }
+
+    public short[] getTable() {
+        return mTable;
+    }
+}